@@ -0,0 +1,143 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares events whose objects share key shapes against events backed by a plain Jackson tree, for the event
+ * data which the csv, newline and json input codecs create.
+ * <p>
+ * {@link #retainHeapOfOneMillionEvents} reports the heap which one million events retain, as the
+ * {@code retainedBytesPerMillionEvents} counter. {@link #createEvent} reports the allocation per event through the
+ * gc profiler.
+ */
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 10)
+public class EventKeyShapeBenchmark {
+    private static final int EVENT_COUNT = 1_000_000;
+    private static final String[] CSV_COLUMNS = {"version", "account_id", "interface_id", "srcaddr", "dstaddr",
+            "srcport", "dstport", "protocol", "packets", "bytes", "start", "end", "action", "log_status"};
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"csv", "newline", "json"})
+        String codec;
+
+        @Param({"true", "false"})
+        boolean sharedKeyShapes;
+
+        private final ObjectMapper plainObjectMapper = new ObjectMapper();
+        private int eventNumber;
+
+        @Setup
+        public void setUp() {
+            eventNumber = 0;
+        }
+
+        Event createEvent(final int eventNumber) {
+            final Map<String, Object> eventData = createEventData(eventNumber);
+            if (sharedKeyShapes) {
+                return JacksonEvent.builder()
+                        .withEventType("event")
+                        .withData(eventData)
+                        .build();
+            }
+            return JacksonEvent.builder()
+                    .withEventType("event")
+                    .withJsonNode(plainObjectMapper.valueToTree(eventData))
+                    .build();
+        }
+
+        Event createNextEvent() {
+            return createEvent(eventNumber++);
+        }
+
+        private Map<String, Object> createEventData(final int eventNumber) {
+            switch (codec) {
+                case "csv":
+                    final Map<String, Object> csvRow = new LinkedHashMap<>();
+                    for (int i = 0; i < CSV_COLUMNS.length; i++) {
+                        csvRow.put(CSV_COLUMNS[i], Integer.toString(eventNumber + i));
+                    }
+                    return csvRow;
+                case "newline":
+                    final Map<String, Object> line = new HashMap<>();
+                    line.put("message", "2 123456789010 eni-1235b8ca123456789 172.31.16.139 172.31.16.21 " + eventNumber + " 22 6 20 4249 ACCEPT OK");
+                    return line;
+                default:
+                    final Map<String, Object> request = new LinkedHashMap<>();
+                    request.put("method", "GET");
+                    request.put("url", "https://example.com/items/" + eventNumber);
+                    request.put("status", 200);
+                    final Map<String, Object> jsonObject = new LinkedHashMap<>();
+                    jsonObject.put("time", "2024-01-15T12:00:00." + eventNumber + "Z");
+                    jsonObject.put("client_ip", "192.168.0." + (eventNumber % 256));
+                    jsonObject.put("request", request);
+                    jsonObject.put("received_bytes", eventNumber);
+                    jsonObject.put("sent_bytes", eventNumber * 2L);
+                    jsonObject.put("user_agent", "curl/8.4.0");
+                    return jsonObject;
+            }
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class HeapCounters {
+        public long retainedBytesPerMillionEvents;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 1)
+    public List<Event> retainHeapOfOneMillionEvents(final BenchmarkState state, final HeapCounters heapCounters) {
+        final long usedHeapBefore = usedHeapAfterGc();
+        final List<Event> events = new ArrayList<>(EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            events.add(state.createEvent(i));
+        }
+        heapCounters.retainedBytesPerMillionEvents = usedHeapAfterGc() - usedHeapBefore;
+        return events;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Event createEvent(final BenchmarkState state) {
+        return state.createNextEvent();
+    }
+
+    private static long usedHeapAfterGc() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
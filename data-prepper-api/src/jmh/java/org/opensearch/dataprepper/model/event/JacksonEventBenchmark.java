@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Measures the event accesses which processors and sinks make for each event: getting and putting top-level and
+ * nested values, by string and by {@link EventKey}, and writing the event as JSON. Allocation per operation is
+ * reported by the gc profiler.
+ */
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@BenchmarkMode(Mode.Throughput)
+public class JacksonEventBenchmark {
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        private final EventKey nestedEventKey = new JacksonEventKey("/request/status");
+        private final EventKey newNestedEventKey = new JacksonEventKey("/response/size");
+        private Event event;
+        private int value;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            final Map<String, Object> request = new LinkedHashMap<>();
+            request.put("method", "GET");
+            request.put("url", "https://example.com/items/1");
+            request.put("status", 200);
+            final Map<String, Object> eventData = new LinkedHashMap<>();
+            eventData.put("time", "2024-01-15T12:00:00.000Z");
+            eventData.put("client_ip", "192.168.0.1");
+            eventData.put("request", request);
+            eventData.put("received_bytes", 512);
+            eventData.put("user_agent", "curl/8.4.0");
+            event = JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(eventData)
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public Object getTopLevelValue(final BenchmarkState state) {
+        return state.event.get("client_ip", String.class);
+    }
+
+    @Benchmark
+    public Object getNestedValue(final BenchmarkState state) {
+        return state.event.get("request/status", Integer.class);
+    }
+
+    @Benchmark
+    public Object getNestedValueByEventKey(final BenchmarkState state) {
+        return state.event.get(state.nestedEventKey, Integer.class);
+    }
+
+    @Benchmark
+    public Event putTopLevelValue(final BenchmarkState state) {
+        state.event.put("sent_bytes", state.value++);
+        return state.event;
+    }
+
+    @Benchmark
+    public Event putNestedValue(final BenchmarkState state) {
+        state.event.put("response/size", state.value++);
+        return state.event;
+    }
+
+    @Benchmark
+    public Event putNestedValueByEventKey(final BenchmarkState state) {
+        state.event.put(state.newNestedEventKey, state.value++);
+        return state.event;
+    }
+
+    @Benchmark
+    public String toJsonString(final BenchmarkState state) {
+        return state.event.toJsonString();
+    }
+}
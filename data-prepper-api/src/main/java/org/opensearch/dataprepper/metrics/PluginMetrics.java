@@ -11,11 +11,13 @@ package org.opensearch.dataprepper.metrics;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 
+import java.util.Collections;
 import java.util.StringJoiner;
 import java.util.function.ToDoubleFunction;
 
@@ -109,6 +111,21 @@ public class PluginMetrics {
         return Metrics.gauge(getMeterName(name), tags, obj, valueFunction);
     }
 
+    /**
+     * Registers a counter whose count is read from an object, such as a count the object already keeps. Unlike a
+     * gauge, the value is reported as a monotonically increasing count.
+     *
+     * @param name the name of the counter
+     * @param obj the object to read the count from
+     * @param countFunction the function which reads the count
+     * @param <T> the type of the object
+     * @return the counter
+     * @since 2.17
+     */
+    public <T> FunctionCounter functionCounter(final String name, final T obj, final ToDoubleFunction<T> countFunction) {
+        return Metrics.more().counter(getMeterName(name), Collections.emptyList(), obj, countFunction);
+    }
+
     private String getMeterName(final String name) {
         return new StringJoiner(MetricNames.DELIMITER).add(metricsPrefix).add(name).toString();
     }
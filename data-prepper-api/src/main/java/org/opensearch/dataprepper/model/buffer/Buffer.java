@@ -138,6 +138,17 @@ public interface Buffer<T extends Record<?>> {
         return false;
     }
 
+    /**
+     * Returns the fraction of the buffer's capacity which is currently in use, from 0.0 to 1.0.
+     * Buffers which do not track their capacity return an empty value.
+     *
+     * @return Optional value of the used capacity fraction
+     * @since 2.17
+     */
+    default Optional<Double> getCapacityUsage() {
+        return Optional.empty();
+    }
+
     /**
      * shuts down the buffer
      */
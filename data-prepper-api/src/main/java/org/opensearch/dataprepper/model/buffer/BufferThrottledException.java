@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.buffer;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Thrown when a write to a {@link Buffer} is rejected because Data Prepper is throttling the
+ * pipeline. It extends {@link TimeoutException} so that sources which already retry on timeouts
+ * keep working; sources which can signal the client may use {@link #getRetryAfter()}.
+ *
+ * @since 2.17
+ */
+public class BufferThrottledException extends TimeoutException {
+    private final Duration retryAfter;
+
+    public BufferThrottledException(final String message, final Duration retryAfter) {
+        super(message);
+        this.retryAfter = Objects.requireNonNull(retryAfter);
+    }
+
+    /**
+     * Gets the time after which the write is likely to be admitted.
+     *
+     * @return The retry delay
+     * @since 2.17
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
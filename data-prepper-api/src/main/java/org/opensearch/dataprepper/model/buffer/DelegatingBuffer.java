@@ -16,6 +16,7 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -87,6 +88,11 @@ public abstract class DelegatingBuffer<T extends Record<?>> implements Buffer<T>
         return delegateBuffer.getDrainTimeout();
     }
 
+    @Override
+    public Optional<Double> getCapacityUsage() {
+        return delegateBuffer.getCapacityUsage();
+    }
+
     @Override
     public boolean isWrittenOffHeapOnly() {
         return delegateBuffer.isWrittenOffHeapOnly();
@@ -9,6 +9,7 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Map;
 
@@ -58,5 +59,17 @@ public interface BaseEventBuilder<T extends Event> {
      */
     BaseEventBuilder<T> withData(final Object data);
 
+    /**
+     * Sets the data of the event from the UTF-8 bytes of a JSON object. Implementations may keep the bytes
+     * and only parse the fields which are accessed. The bytes must hold a valid JSON object.
+     *
+     * @param rawJson the data as the UTF-8 bytes of a JSON object
+     * @return returns the base event builder
+     * @since 2.17
+     */
+    default BaseEventBuilder<T> withRawJson(final byte[] rawJson) {
+        return withData(new String(rawJson, StandardCharsets.UTF_8));
+    }
+
     T build();
 }
@@ -101,6 +101,7 @@ public class JacksonEvent implements Event {
 
     private static final ObjectMapper mapper = JsonMapper.builder()
             .disable(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES)
+            .nodeFactory(new KeyShapeNodeFactory()) // shares the field names of objects with the same fields across events
             .build()
             .registerModule(new JavaTimeModule())
             .registerModule(new Jdk8Module()); // required for using Optional with Jackson. Ref: https://github.com/FasterXML/jackson-modules-java8
@@ -115,6 +116,13 @@ public class JacksonEvent implements Event {
 
     private final JsonNode jsonNode;
 
+    /**
+     * The raw JSON which still backs some of the fields. The same event may be read by several sinks at once, so
+     * the fields are loaded into the tree and the tree is read while holding the lock of this object. Once every
+     * field is loaded and this is cleared, the tree is read without the lock.
+     */
+    private volatile RawJsonObject rawJsonObject;
+
     static final int MAX_KEY_LENGTH = 2048;
 
     static final String MESSAGE_KEY = "message";
@@ -133,7 +141,14 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        if (builder.jsonNode != null) {
+            this.jsonNode = builder.jsonNode;
+        } else if (builder.rawJson != null) {
+            this.jsonNode = mapper.createObjectNode();
+            this.rawJsonObject = new RawJsonObject(builder.rawJson);
+        } else {
+            this.jsonNode = getInitialJsonNode(builder.data);
+        }
         if (builder.eventHandle != null) {
             this.eventHandle = builder.eventHandle;
         } else {
@@ -146,7 +161,15 @@ public class JacksonEvent implements Event {
     }
 
     protected JacksonEvent(final JacksonEvent otherEvent) {
-        this.jsonNode = otherEvent.jsonNode.deepCopy();
+        final RawJsonObject otherRawJsonObject = otherEvent.rawJsonObject;
+        if (otherRawJsonObject != null) {
+            synchronized (otherRawJsonObject) {
+                this.jsonNode = otherEvent.jsonNode.deepCopy();
+                this.rawJsonObject = otherRawJsonObject.copy();
+            }
+        } else {
+            this.jsonNode = otherEvent.getJsonNode().deepCopy();
+        }
         this.eventMetadata = DefaultEventMetadata.fromEventMetadata(otherEvent.eventMetadata);
         this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
     }
@@ -171,11 +194,75 @@ public class JacksonEvent implements Event {
         return mapper.valueToTree(data);
     }
 
+    /**
+     * Returns the tree of the event. An event created from raw JSON bytes parses all of its fields, and from
+     * then on is written out from the tree, since the caller may modify the tree.
+     */
     @Override
     public JsonNode getJsonNode() {
+        final RawJsonObject currentRawJsonObject = rawJsonObject;
+        if (currentRawJsonObject != null) {
+            synchronized (currentRawJsonObject) {
+                currentRawJsonObject.loadAllFields((ObjectNode) jsonNode, mapper);
+                rawJsonObject = null;
+            }
+        }
         return jsonNode;
     }
 
+    private JsonNode getLoadedJsonNode() {
+        final RawJsonObject currentRawJsonObject = rawJsonObject;
+        if (currentRawJsonObject != null) {
+            synchronized (currentRawJsonObject) {
+                currentRawJsonObject.loadAllFields((ObjectNode) jsonNode, mapper);
+            }
+        }
+        return jsonNode;
+    }
+
+    private void loadField(final RawJsonObject currentRawJsonObject, final JacksonEventKey key) {
+        final List<String> keyPathList = key.getKeyPathList();
+        final int fieldIndex = getTopLevelFieldIndex(keyPathList);
+        if (fieldIndex < 0) {
+            currentRawJsonObject.loadAllFields((ObjectNode) jsonNode, mapper);
+        } else {
+            currentRawJsonObject.loadField((ObjectNode) jsonNode, keyPathList.get(fieldIndex), mapper);
+        }
+    }
+
+    /**
+     * Loads the top-level field of a key which is about to be modified and marks it as modified. A top-level key
+     * is replaced or removed as a whole, so it is not parsed first.
+     */
+    private void loadFieldForModification(final JacksonEventKey key) {
+        final RawJsonObject currentRawJsonObject = rawJsonObject;
+        if (currentRawJsonObject == null) {
+            return;
+        }
+        final List<String> keyPathList = key.getKeyPathList();
+        final int fieldIndex = getTopLevelFieldIndex(keyPathList);
+        if (fieldIndex < 0) {
+            getJsonNode();
+            return;
+        }
+        final String field = keyPathList.get(fieldIndex);
+        synchronized (currentRawJsonObject) {
+            if (fieldIndex < keyPathList.size() - 1) {
+                currentRawJsonObject.loadField((ObjectNode) jsonNode, field, mapper);
+            }
+            currentRawJsonObject.markModified(field);
+        }
+    }
+
+    private static int getTopLevelFieldIndex(final List<String> keyPathList) {
+        for (int i = 0; i < keyPathList.size(); i++) {
+            if (!keyPathList.get(i).isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     private Map<String, Object> normalizeKeys(final Map<String, Object> map) {
         final Map<String, Object> replacementMap = new HashMap<>();
         Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
@@ -209,6 +296,8 @@ public class JacksonEvent implements Event {
             throw new IllegalArgumentException("key cannot be an empty string for put method");
         }
 
+        loadFieldForModification(jacksonEventKey);
+
         final Deque<String> keys = new LinkedList<>(jacksonEventKey.getKeyPathList());
 
         JsonNode parentNode = jsonNode;
@@ -342,11 +431,24 @@ public class JacksonEvent implements Event {
 
     private JsonNode getNode(final String key) {
         final JsonPointer jsonPointer = toJsonPointer(key);
-        return jsonNode.at(jsonPointer);
+        final RawJsonObject currentRawJsonObject = rawJsonObject;
+        if (currentRawJsonObject == null) {
+            return jsonNode.at(jsonPointer);
+        }
+        synchronized (currentRawJsonObject) {
+            return jsonNode.at(jsonPointer);
+        }
     }
 
     private JsonNode getNode(final JacksonEventKey key) {
-        return jsonNode.at(key.getJsonPointer());
+        final RawJsonObject currentRawJsonObject = rawJsonObject;
+        if (currentRawJsonObject == null) {
+            return jsonNode.at(key.getJsonPointer());
+        }
+        synchronized (currentRawJsonObject) {
+            loadField(currentRawJsonObject, key);
+            return jsonNode.at(key.getJsonPointer());
+        }
     }
 
     private <T> T mapNodeToObject(final String key, final JsonNode node, final Class<T> clazz) {
@@ -413,6 +515,8 @@ public class JacksonEvent implements Event {
             throw new IllegalArgumentException("key cannot be an empty string for delete method");
         }
 
+        loadFieldForModification(jacksonEventKey);
+
         final String trimmedKey = jacksonEventKey.getTrimmedKey();
         final int index = trimmedKey.lastIndexOf(SEPARATOR);
 
@@ -445,7 +549,7 @@ public class JacksonEvent implements Event {
     public void clear() {
         // Delete all entries from the event
         Iterator iter = toMap().keySet().iterator();
-        JsonNode baseNode = jsonNode;
+        JsonNode baseNode = getJsonNode();
         while (iter.hasNext()) {
             ((ObjectNode) baseNode).remove((String)iter.next());
         }
@@ -456,16 +560,17 @@ public class JacksonEvent implements Event {
         if(!(other instanceof JacksonEvent))
             throw new IllegalArgumentException("Unable to merge the Event. The input Event must be a JacksonEvent.");
         final JacksonEvent otherJacksonEvent = (JacksonEvent) other;
-        if(!(otherJacksonEvent.jsonNode instanceof ObjectNode)) {
+        final JsonNode otherJsonNode = otherJacksonEvent.getJsonNode();
+        if(!(otherJsonNode instanceof ObjectNode)) {
             throw new IllegalArgumentException("Unable to merge the Event. The input Event must be a JacksonEvent with object data.");
         }
-        final ObjectNode otherObjectNode = (ObjectNode) otherJacksonEvent.jsonNode;
+        final ObjectNode otherObjectNode = (ObjectNode) otherJsonNode;
 
         if(!(jsonNode instanceof ObjectNode)) {
             throw new UnsupportedOperationException("Unable to merge the Event. The current Event must have object data.");
         }
 
-        ((ObjectNode) jsonNode).setAll(otherObjectNode);
+        ((ObjectNode) getJsonNode()).setAll(otherObjectNode);
     }
 
     @Override
@@ -489,9 +594,23 @@ public class JacksonEvent implements Event {
 
     @Override
     public String toJsonString() {
+        final RawJsonObject currentRawJsonObject = rawJsonObject;
+        if (currentRawJsonObject != null) {
+            synchronized (currentRawJsonObject) {
+                return currentRawJsonObject.toJsonString((ObjectNode) jsonNode);
+            }
+        }
         return jsonNode.toString();
     }
 
+    /**
+     * @return true if this event was created from raw JSON and some of its fields are still written out from
+     * the original bytes by {@link #toJsonString()}
+     */
+    public boolean isBackedByRawJson() {
+        return rawJsonObject != null;
+    }
+
     @Override
     public String getAsJsonString(EventKey key) {
         JacksonEventKey jacksonEventKey = asJacksonEventKey(key);
@@ -622,7 +741,7 @@ public class JacksonEvent implements Event {
 
     @Override
     public Map<String, Object> toMap() {
-        return mapper.convertValue(jsonNode, MAP_TYPE_REFERENCE);
+        return mapper.convertValue(getLoadedJsonNode(), MAP_TYPE_REFERENCE);
     }
 
 
@@ -675,6 +794,8 @@ public class JacksonEvent implements Event {
 
         private EventMetadata eventMetadata;
         protected Object data;
+        private JsonNode jsonNode;
+        private byte[] rawJson;
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
@@ -754,6 +875,36 @@ public class JacksonEvent implements Event {
             return this;
         }
 
+        /**
+         * Sets the data of the event from an already constructed tree. The event takes ownership
+         * of the node without copying it, so the caller must not modify it afterwards. This takes
+         * precedence over {@link #withData(Object)}.
+         *
+         * @param jsonNode the data as an object node
+         * @return returns the builder
+         * @since 2.17
+         */
+        public Builder<T> withJsonNode(final JsonNode jsonNode) {
+            this.jsonNode = jsonNode;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event from the UTF-8 bytes of a JSON object. The event keeps the bytes and only
+         * parses a top-level field when a key under it is first accessed. Fields which are never modified are
+         * written back out from the original bytes by {@link JacksonEvent#toJsonString()}. The bytes must hold
+         * a valid JSON object, since they are not parsed until first accessed, and must not be modified afterwards.
+         * This takes precedence over {@link #withData(Object)}.
+         *
+         * @param rawJson the data as the UTF-8 bytes of a JSON object
+         * @return returns the builder
+         * @since 2.17
+         */
+        public Builder<T> withRawJson(final byte[] rawJson) {
+            this.rawJson = rawJson;
+            return this;
+        }
+
         /**
          * Returns a newly created {@link JacksonEvent}.
          *
@@ -784,7 +935,12 @@ public class JacksonEvent implements Event {
             if (getRootKey() != null && !getRootKey().isEmpty() && event.containsKey(getRootKey())) {
                 return event.getNode(getRootKey());
             }
-            return event.getJsonNode();
+            return event.getLoadedJsonNode();
+        }
+
+        private boolean isRootKeySelected() {
+            return getRootKey() != null && !getRootKey().isEmpty() && event.containsKey(getRootKey())
+                    && event.getNode(getRootKey()) != event.getLoadedJsonNode();
         }
 
 
@@ -795,7 +951,7 @@ public class JacksonEvent implements Event {
                 jsonString = searchAndFilter(getBaseNode(), "", getIncludeKeys(), RETAIN_ALL);
             } else if (getExcludeKeys() != null && !getExcludeKeys().isEmpty()) {
                 jsonString = searchAndFilter(getBaseNode(), "", getExcludeKeys(), EXCLUDE_ALL);
-            } else if (getBaseNode() !=event.getJsonNode()) {
+            } else if (isRootKeySelected()) {
                 jsonString = event.getAsJsonString(getRootKey());
             } else {
                 // Some successors have its own implementation of toJsonString, such as JacksonSpan.
@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An ordered list of field names which is shared by every object that added the same fields in the same order.
+ * Shapes form a tree: adding a field to an object moves it to the child shape for that field, so that events
+ * with the same fields share a single key table and only hold their values.
+ * <p>
+ * The tree is bounded. A shape has at most {@link #MAXIMUM_KEYS} keys and {@link #MAXIMUM_TRANSITIONS}
+ * children, and a tree holds at most the number of shapes it was created with. Objects which need a shape
+ * beyond these limits fall back to a map of their own.
+ */
+final class KeyShape {
+    static final int MAXIMUM_KEYS = 256;
+    static final int MAXIMUM_TRANSITIONS = 64;
+    static final int DEFAULT_MAXIMUM_SHAPES = 16384;
+    private static final int INDEXED_KEYS_THRESHOLD = 8;
+
+    private final KeyShape parent;
+    private final String[] keys;
+    private final Map<String, Integer> keyIndexes;
+    private final ConcurrentMap<String, KeyShape> transitions;
+    private final AtomicInteger remainingShapes;
+    private volatile int maximumDescendantSize;
+
+    private KeyShape(final KeyShape parent, final String[] keys, final AtomicInteger remainingShapes) {
+        this.parent = parent;
+        this.keys = keys;
+        this.keyIndexes = keys.length > INDEXED_KEYS_THRESHOLD ? createKeyIndexes(keys) : null;
+        this.transitions = new ConcurrentHashMap<>();
+        this.remainingShapes = remainingShapes;
+        this.maximumDescendantSize = keys.length;
+    }
+
+    /**
+     * Creates the empty shape at the root of a new tree.
+     *
+     * @param maximumShapes the maximum number of shapes in the tree, not counting the root
+     * @return the root shape
+     */
+    static KeyShape createRoot(final int maximumShapes) {
+        return new KeyShape(null, new String[0], new AtomicInteger(maximumShapes));
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    String keyAt(final int index) {
+        return keys[index];
+    }
+
+    KeyShape getParent() {
+        return parent;
+    }
+
+    /**
+     * @return the size of the largest shape created under this shape, which objects use to size their values
+     */
+    int getMaximumDescendantSize() {
+        return maximumDescendantSize;
+    }
+
+    /**
+     * @return the position of the key in this shape, or -1 if the shape does not have the key
+     */
+    int indexOf(final Object key) {
+        if (keyIndexes != null) {
+            final Integer index = keyIndexes.get(key);
+            return index != null ? index : -1;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == key || keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the shape which has the keys of this shape followed by the given key.
+     *
+     * @param key a key which is not in this shape
+     * @return the child shape, or null if the tree has reached its limits
+     */
+    KeyShape withKey(final String key) {
+        final KeyShape existingShape = transitions.get(key);
+        if (existingShape != null) {
+            return existingShape;
+        }
+        if (keys.length >= MAXIMUM_KEYS || transitions.size() >= MAXIMUM_TRANSITIONS) {
+            return null;
+        }
+        return transitions.computeIfAbsent(key, this::createChildShape);
+    }
+
+    private KeyShape createChildShape(final String key) {
+        if (remainingShapes.getAndDecrement() <= 0) {
+            remainingShapes.incrementAndGet();
+            return null;
+        }
+        final String[] childKeys = Arrays.copyOf(keys, keys.length + 1);
+        childKeys[keys.length] = key;
+        for (KeyShape ancestor = this; ancestor != null && ancestor.maximumDescendantSize < childKeys.length; ancestor = ancestor.parent) {
+            ancestor.maximumDescendantSize = childKeys.length;
+        }
+        return new KeyShape(this, childKeys, remainingShapes);
+    }
+
+    private static Map<String, Integer> createKeyIndexes(final String[] keys) {
+        final Map<String, Integer> keyIndexes = new HashMap<>(keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            keyIndexes.put(keys[i], i);
+        }
+        return keyIndexes;
+    }
+}
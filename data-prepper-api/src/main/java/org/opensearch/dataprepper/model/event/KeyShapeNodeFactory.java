@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A {@link JsonNodeFactory} which creates object nodes backed by a {@link ShapedFieldMap}, so that objects with
+ * the same fields share their keys through a single {@link KeyShape} tree for the process.
+ */
+class KeyShapeNodeFactory extends JsonNodeFactory {
+    private static final long serialVersionUID = 1L;
+
+    private static final KeyShape ROOT_SHAPE = KeyShape.createRoot(KeyShape.DEFAULT_MAXIMUM_SHAPES);
+
+    @Override
+    public ObjectNode objectNode() {
+        return new ShapedObjectNode(this, new ShapedFieldMap(ROOT_SHAPE));
+    }
+
+    /**
+     * An object node which keeps its shared keys when it is copied.
+     */
+    static class ShapedObjectNode extends ObjectNode {
+        private static final long serialVersionUID = 1L;
+
+        private ShapedObjectNode(final JsonNodeFactory nodeFactory, final ShapedFieldMap children) {
+            super(nodeFactory, children);
+        }
+
+        ShapedFieldMap getFieldMap() {
+            return (ShapedFieldMap) _children;
+        }
+
+        @Override
+        public ObjectNode deepCopy() {
+            final ObjectNode copy = _nodeFactory.objectNode();
+            final Iterator<Map.Entry<String, JsonNode>> fields = fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                copy.replace(field.getKey(), field.getValue().deepCopy());
+            }
+            return copy;
+        }
+
+        /**
+         * Jackson serializes object nodes as JSON through a package-private replacement, which subclasses do not
+         * inherit. Replacing this node with a plain object node over the same fields keeps that behavior.
+         */
+        Object writeReplace() {
+            return new ObjectNode(JsonNodeFactory.instance, _children);
+        }
+    }
+}
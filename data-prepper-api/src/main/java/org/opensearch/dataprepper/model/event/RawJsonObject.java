@@ -0,0 +1,238 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The original UTF-8 bytes of a JSON object which backs a {@link JacksonEvent}. The offsets of the top-level
+ * fields are indexed on first access, and a top-level field is only parsed into the event's tree when a key
+ * under it is accessed. Fields which were never modified are written back out from the original bytes.
+ * <p>
+ * The bytes must hold a single valid JSON object. They are not validated until a field is first accessed.
+ * <p>
+ * This class is not thread-safe. The owning event holds the lock of this object while loading fields into its
+ * tree and while reading the tree.
+ */
+class RawJsonObject implements Serializable {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final byte[] jsonBytes;
+    private final Set<String> loadedFields;
+    private final Set<String> modifiedFields;
+    private boolean allFieldsLoaded;
+    private transient Map<String, FieldRange> fieldRanges;
+
+    RawJsonObject(final byte[] jsonBytes) {
+        this.jsonBytes = Objects.requireNonNull(jsonBytes);
+        this.loadedFields = new HashSet<>();
+        this.modifiedFields = new HashSet<>();
+    }
+
+    private RawJsonObject(final RawJsonObject other) {
+        this.jsonBytes = other.jsonBytes;
+        this.loadedFields = new HashSet<>(other.loadedFields);
+        this.modifiedFields = new HashSet<>(other.modifiedFields);
+        this.allFieldsLoaded = other.allFieldsLoaded;
+        this.fieldRanges = other.fieldRanges;
+    }
+
+    /**
+     * @return a copy which shares the immutable bytes and offsets, but tracks its own loaded and modified fields
+     */
+    RawJsonObject copy() {
+        return new RawJsonObject(this);
+    }
+
+    /**
+     * Parses the field into the root node if it is in the original object and was not loaded or modified yet.
+     */
+    void loadField(final ObjectNode rootNode, final String field, final ObjectMapper mapper) {
+        if (allFieldsLoaded || loadedFields.contains(field)) {
+            return;
+        }
+        final FieldRange fieldRange = getFieldRanges().get(field);
+        if (fieldRange != null) {
+            rootNode.set(field, readValue(fieldRange, mapper));
+        }
+        loadedFields.add(field);
+    }
+
+    /**
+     * Parses every remaining field into the root node, keeping the fields in the order of the original object.
+     */
+    void loadAllFields(final ObjectNode rootNode, final ObjectMapper mapper) {
+        if (allFieldsLoaded) {
+            return;
+        }
+        final Map<String, JsonNode> orderedFields = new LinkedHashMap<>();
+        for (final Map.Entry<String, FieldRange> entry : getFieldRanges().entrySet()) {
+            final String field = entry.getKey();
+            if (!loadedFields.contains(field)) {
+                orderedFields.put(field, readValue(entry.getValue(), mapper));
+            } else if (rootNode.has(field)) {
+                orderedFields.put(field, rootNode.get(field));
+            }
+        }
+        final Iterator<Map.Entry<String, JsonNode>> addedFields = rootNode.fields();
+        while (addedFields.hasNext()) {
+            final Map.Entry<String, JsonNode> addedField = addedFields.next();
+            orderedFields.putIfAbsent(addedField.getKey(), addedField.getValue());
+        }
+        rootNode.removeAll();
+        rootNode.setAll(orderedFields);
+        loadedFields.addAll(getFieldRanges().keySet());
+        allFieldsLoaded = true;
+    }
+
+    /**
+     * Marks a top-level field as changed in the root node, so that it is no longer read from or written out
+     * from the original bytes.
+     */
+    void markModified(final String field) {
+        loadedFields.add(field);
+        modifiedFields.add(field);
+    }
+
+    /**
+     * Writes the object, copying the unmodified fields from the original bytes and serializing the modified and
+     * added fields from the root node.
+     */
+    String toJsonString(final ObjectNode rootNode) {
+        if (modifiedFields.isEmpty()) {
+            return new String(jsonBytes, StandardCharsets.UTF_8).trim();
+        }
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(jsonBytes.length + 64);
+        outputStream.write('{');
+        boolean firstField = true;
+        for (final Map.Entry<String, FieldRange> entry : getFieldRanges().entrySet()) {
+            final String field = entry.getKey();
+            if (modifiedFields.contains(field)) {
+                final JsonNode valueNode = rootNode.get(field);
+                if (valueNode != null) {
+                    firstField = writeSeparator(outputStream, firstField);
+                    writeField(outputStream, field, valueNode);
+                }
+            } else {
+                firstField = writeSeparator(outputStream, firstField);
+                final FieldRange fieldRange = entry.getValue();
+                outputStream.write(jsonBytes, fieldRange.fieldStart, fieldRange.valueEnd - fieldRange.fieldStart);
+            }
+        }
+        final Iterator<Map.Entry<String, JsonNode>> fields = rootNode.fields();
+        while (fields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = fields.next();
+            if (!getFieldRanges().containsKey(field.getKey())) {
+                firstField = writeSeparator(outputStream, firstField);
+                writeField(outputStream, field.getKey(), field.getValue());
+            }
+        }
+        outputStream.write('}');
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private static boolean writeSeparator(final ByteArrayOutputStream outputStream, final boolean firstField) {
+        if (!firstField) {
+            outputStream.write(',');
+        }
+        return false;
+    }
+
+    private static void writeField(final ByteArrayOutputStream outputStream, final String field, final JsonNode valueNode) {
+        final byte[] fieldBytes = (TextNode.valueOf(field).toString() + ':' + valueNode.toString()).getBytes(StandardCharsets.UTF_8);
+        outputStream.write(fieldBytes, 0, fieldBytes.length);
+    }
+
+    private JsonNode readValue(final FieldRange fieldRange, final ObjectMapper mapper) {
+        try {
+            return mapper.readTree(jsonBytes, fieldRange.valueStart, fieldRange.valueEnd - fieldRange.valueStart);
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Unable to convert data into an event", e);
+        }
+    }
+
+    private Map<String, FieldRange> getFieldRanges() {
+        if (fieldRanges == null) {
+            fieldRanges = indexFields();
+        }
+        return fieldRanges;
+    }
+
+    private Map<String, FieldRange> indexFields() {
+        final Map<String, FieldRange> ranges = new LinkedHashMap<>();
+        try (final JsonParser parser = JSON_FACTORY.createParser(jsonBytes)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Unable to convert data into an event");
+            }
+            JsonToken token = parser.nextToken();
+            while (token == JsonToken.FIELD_NAME) {
+                final String field = parser.getCurrentName();
+                final int fieldStart = (int) parser.getTokenLocation().getByteOffset();
+                parser.nextToken();
+                final int valueStart = (int) parser.getTokenLocation().getByteOffset();
+                parser.skipChildren();
+                token = parser.nextToken();
+                final int valueEnd = trimToValueEnd(valueStart, (int) parser.getTokenLocation().getByteOffset());
+                ranges.put(field, new FieldRange(fieldStart, valueStart, valueEnd));
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw new IllegalArgumentException("Unable to convert data into an event");
+            }
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Unable to convert data into an event", e);
+        }
+        return ranges;
+    }
+
+    /**
+     * A value ends before the whitespace and comma which come ahead of the next token.
+     */
+    private int trimToValueEnd(final int valueStart, final int nextTokenStart) {
+        int valueEnd = nextTokenStart;
+        while (valueEnd > valueStart) {
+            final byte previousByte = jsonBytes[valueEnd - 1];
+            if (previousByte != ',' && previousByte != ' ' && previousByte != '\t' && previousByte != '\n' && previousByte != '\r') {
+                break;
+            }
+            valueEnd--;
+        }
+        return valueEnd;
+    }
+
+    private static class FieldRange {
+        private final int fieldStart;
+        private final int valueStart;
+        private final int valueEnd;
+
+        private FieldRange(final int fieldStart, final int valueStart, final int valueEnd) {
+            this.fieldStart = fieldStart;
+            this.valueStart = valueStart;
+            this.valueEnd = valueEnd;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The fields of an {@link com.fasterxml.jackson.databind.node.ObjectNode}, kept in insertion order like a
+ * {@link LinkedHashMap}. The keys are held by a {@link KeyShape} which is shared with every other object that has
+ * the same fields, and the values are held in an array in the order of the keys.
+ * <p>
+ * Adding a field moves the map to the child shape. Removing the last field moves it back to the parent shape.
+ * Removing any other field, or adding a field beyond the limits of the shape tree, copies the fields into a
+ * {@link LinkedHashMap} which backs the map from then on.
+ */
+final class ShapedFieldMap extends AbstractMap<String, JsonNode> {
+    private static final JsonNode[] EMPTY_VALUES = new JsonNode[0];
+    private static final int MINIMUM_GROWTH = 8;
+
+    private final KeyShape rootShape;
+    private KeyShape shape;
+    private JsonNode[] values;
+    private Map<String, JsonNode> fallbackMap;
+    private Set<Entry<String, JsonNode>> entrySet;
+
+    ShapedFieldMap(final KeyShape rootShape) {
+        this.rootShape = rootShape;
+        this.shape = rootShape;
+        this.values = EMPTY_VALUES;
+    }
+
+    /**
+     * @return true if the fields are still held by a shared shape
+     */
+    boolean isShaped() {
+        return fallbackMap == null;
+    }
+
+    KeyShape getShape() {
+        return shape;
+    }
+
+    @Override
+    public int size() {
+        return fallbackMap != null ? fallbackMap.size() : shape.size();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return fallbackMap != null ? fallbackMap.containsKey(key) : shape.indexOf(key) >= 0;
+    }
+
+    @Override
+    public JsonNode get(final Object key) {
+        if (fallbackMap != null) {
+            return fallbackMap.get(key);
+        }
+        final int index = shape.indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public JsonNode put(final String key, final JsonNode value) {
+        if (fallbackMap != null) {
+            return fallbackMap.put(key, value);
+        }
+        final int index = shape.indexOf(key);
+        if (index >= 0) {
+            final JsonNode previousValue = values[index];
+            values[index] = value;
+            return previousValue;
+        }
+
+        final KeyShape nextShape = shape.withKey(key);
+        if (nextShape == null) {
+            convertToFallbackMap();
+            return fallbackMap.put(key, value);
+        }
+        final int size = shape.size();
+        if (size == values.length) {
+            final int targetLength = Math.max(size + 1, Math.min(nextShape.getMaximumDescendantSize(), size * 2 + MINIMUM_GROWTH));
+            values = Arrays.copyOf(values, targetLength);
+        }
+        values[size] = value;
+        shape = nextShape;
+        return null;
+    }
+
+    @Override
+    public JsonNode remove(final Object key) {
+        if (fallbackMap != null) {
+            return fallbackMap.remove(key);
+        }
+        final int index = shape.indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        if (index == shape.size() - 1) {
+            final JsonNode previousValue = values[index];
+            values[index] = null;
+            shape = shape.getParent();
+            return previousValue;
+        }
+        convertToFallbackMap();
+        return fallbackMap.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        fallbackMap = null;
+        shape = rootShape;
+        values = EMPTY_VALUES;
+    }
+
+    @Override
+    public Set<Entry<String, JsonNode>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void convertToFallbackMap() {
+        final int size = shape.size();
+        final Map<String, JsonNode> fieldMap = new LinkedHashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+        for (int i = 0; i < size; i++) {
+            fieldMap.put(shape.keyAt(i), values[i]);
+        }
+        fallbackMap = fieldMap;
+        shape = rootShape;
+        values = EMPTY_VALUES;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<String, JsonNode>> {
+        @Override
+        public Iterator<Entry<String, JsonNode>> iterator() {
+            if (fallbackMap != null) {
+                return fallbackMap.entrySet().iterator();
+            }
+            return new ShapedEntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return ShapedFieldMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ShapedFieldMap.this.clear();
+        }
+    }
+
+    private class ShapedEntryIterator implements Iterator<Entry<String, JsonNode>> {
+        private final KeyShape iteratedShape = shape;
+        private int nextIndex;
+        private int lastReturnedIndex = -1;
+        private Iterator<Entry<String, JsonNode>> fallbackIterator;
+
+        @Override
+        public boolean hasNext() {
+            if (fallbackIterator != null) {
+                return fallbackIterator.hasNext();
+            }
+            return nextIndex < iteratedShape.size();
+        }
+
+        @Override
+        public Entry<String, JsonNode> next() {
+            if (fallbackIterator != null) {
+                return fallbackIterator.next();
+            }
+            if (fallbackMap != null || shape != iteratedShape) {
+                throw new ConcurrentModificationException();
+            }
+            if (nextIndex >= iteratedShape.size()) {
+                throw new NoSuchElementException();
+            }
+            lastReturnedIndex = nextIndex++;
+            return new ShapedEntry(iteratedShape.keyAt(lastReturnedIndex));
+        }
+
+        /**
+         * Removing during iteration converts the map to its fallback map, and continues iterating over the
+         * fallback map after the removed field.
+         */
+        @Override
+        public void remove() {
+            if (fallbackIterator == null) {
+                if (lastReturnedIndex < 0) {
+                    throw new IllegalStateException();
+                }
+                if (fallbackMap != null || shape != iteratedShape) {
+                    throw new ConcurrentModificationException();
+                }
+                convertToFallbackMap();
+                fallbackIterator = fallbackMap.entrySet().iterator();
+                for (int i = 0; i <= lastReturnedIndex; i++) {
+                    fallbackIterator.next();
+                }
+            }
+            fallbackIterator.remove();
+        }
+    }
+
+    private class ShapedEntry implements Entry<String, JsonNode> {
+        private final String key;
+
+        private ShapedEntry(final String key) {
+            this.key = key;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public JsonNode getValue() {
+            return get(key);
+        }
+
+        @Override
+        public JsonNode setValue(final JsonNode value) {
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof Entry)) {
+                return false;
+            }
+            final Entry<?, ?> otherEntry = (Entry<?, ?>) other;
+            return key.equals(otherEntry.getKey()) && Objects.equals(getValue(), otherEntry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            final JsonNode value = getValue();
+            return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
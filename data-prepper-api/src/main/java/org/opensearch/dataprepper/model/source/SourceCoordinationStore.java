@@ -14,6 +14,7 @@ import org.opensearch.dataprepper.model.source.coordinator.SourcePartitionStoreI
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,6 +63,33 @@ public interface SourceCoordinationStore {
      */
     Optional<SourcePartitionStoreItem> tryAcquireAvailablePartition(final String sourceIdentifier, final String ownerId, final Duration ownershipTimeout);
 
+    /**
+     * Acquires up to maxPartitions available partitions, using the same rules as
+     * {@link #tryAcquireAvailablePartition(String, String, Duration)}. Stores should override this to claim
+     * several partitions from a single query. The default implementation acquires one partition at a time.
+     *
+     * @param sourceIdentifier - The identifier for the source
+     * @param ownerId          - The unique owner id for a sub-pipeline
+     * @param ownershipTimeout The amount of time before the ownership of the acquired partitions expires
+     * @param maxPartitions    The maximum number of partitions to acquire
+     * @return The partitions that were acquired successfully. Empty if no partition could be acquired.
+     * @since 2.17
+     */
+    default List<SourcePartitionStoreItem> tryAcquireAvailablePartitions(final String sourceIdentifier,
+                                                                         final String ownerId,
+                                                                         final Duration ownershipTimeout,
+                                                                         final int maxPartitions) {
+        final List<SourcePartitionStoreItem> acquiredItems = new ArrayList<>();
+        while (acquiredItems.size() < maxPartitions) {
+            final Optional<SourcePartitionStoreItem> acquiredItem = tryAcquireAvailablePartition(sourceIdentifier, ownerId, ownershipTimeout);
+            if (acquiredItem.isEmpty()) {
+                break;
+            }
+            acquiredItems.add(acquiredItem.get());
+        }
+        return acquiredItems;
+    }
+
     /**
      * This method attempts to update the partition item to the desired state
      *
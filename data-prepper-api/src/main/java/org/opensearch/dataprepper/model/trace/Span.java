@@ -202,4 +202,53 @@ public interface Span extends Event {
      * @since 2.11
      */
     Map<String, Object> getStatus();
+
+    /**
+     * Gets the id for the trace as raw bytes.
+     *
+     * @return the trace id bytes
+     * @since 2.17
+     */
+    default byte[] getTraceIdBytes() {
+        return decodeHexId(getTraceId());
+    }
+
+    /**
+     * Gets the id for the span as raw bytes.
+     *
+     * @return the span id bytes
+     * @since 2.17
+     */
+    default byte[] getSpanIdBytes() {
+        return decodeHexId(getSpanId());
+    }
+
+    /**
+     * Gets the span id of the parent as raw bytes. This is empty for a root span.
+     *
+     * @return the parent span id bytes
+     * @since 2.17
+     */
+    default byte[] getParentSpanIdBytes() {
+        return decodeHexId(getParentSpanId());
+    }
+
+    private static byte[] decodeHexId(final String hexId) {
+        if (hexId == null) {
+            return null;
+        }
+        if (hexId.length() % 2 != 0) {
+            throw new IllegalArgumentException("Id must have an even number of hex characters: " + hexId);
+        }
+        final byte[] bytes = new byte[hexId.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            final int high = Character.digit(hexId.charAt(2 * i), 16);
+            final int low = Character.digit(hexId.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Id contains a non-hex character: " + hexId);
+            }
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
 }
@@ -11,6 +11,7 @@ package org.opensearch.dataprepper.metrics;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +22,7 @@ import java.util.Collections;
 import java.util.StringJoiner;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -187,6 +189,19 @@ public class PluginMetricsTest {
         assertEquals(3, gauge.length());
     }
 
+    @Test
+    public void testFunctionCounter() {
+        final AtomicLong count = new AtomicLong(7);
+        final FunctionCounter functionCounter = objectUnderTest.functionCounter("functionCounter", count, AtomicLong::get);
+        assertNotNull(
+                Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                        .add(PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add("functionCounter").toString()).functionCounter());
+        assertEquals(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(PLUGIN_NAME).add("functionCounter").toString(),
+                functionCounter.getId().getName());
+    }
+
 
     @Test
     public void testEmptyPipelineName() {
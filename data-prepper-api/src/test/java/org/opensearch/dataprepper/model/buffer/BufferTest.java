@@ -50,6 +50,11 @@ class BufferTest {
         assertEquals(buffer.getOptimalRequestSize(), Optional.empty());
     }
 
+    @Test
+    void getCapacityUsage_returns_empty_by_default() {
+        assertThat(createObjectUnderTest().getCapacityUsage(), equalTo(Optional.empty()));
+    }
+
     @Test
     void testShutdown() {
         final Buffer<Record<Event>> buffer = createObjectUnderTest();
@@ -23,6 +23,7 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.TimeoutException;
@@ -206,6 +207,15 @@ class DelegatingBufferTest {
                 equalTo(drainTimeout));
     }
 
+    @Test
+    void getCapacityUsage_returns_inner_getCapacityUsage() {
+        final Optional<Double> capacityUsage = Optional.of(random.nextDouble());
+        when(innerBuffer.getCapacityUsage()).thenReturn(capacityUsage);
+
+        assertThat(createObjectUnderTest().getCapacityUsage(),
+                equalTo(capacityUsage));
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void isWrittenOffHeapOnly_returns_inner_isWrittenOffHeapOnly(final boolean isWrittenOffHeapOnly) {
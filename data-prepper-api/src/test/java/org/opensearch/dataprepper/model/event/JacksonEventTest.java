@@ -17,6 +17,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
@@ -111,6 +112,23 @@ public class JacksonEventTest {
         }
     }
 
+    @Test
+    void build_withJsonNode_uses_the_node_without_copying() {
+        final ObjectNode objectNode = new ObjectMapper().createObjectNode();
+        final String value = UUID.randomUUID().toString();
+        objectNode.put("key", value);
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("other", UUID.randomUUID().toString()))
+                .withJsonNode(objectNode)
+                .build();
+
+        assertThat(event.getJsonNode(), sameInstance(objectNode));
+        assertThat(event.get("key", String.class), equalTo(value));
+        assertThat(event.containsKey("other"), equalTo(false));
+    }
+
     @Test
     public void testPutAndGet_eventKey_with_non_JacksonEventKey_throws() {
         final EventKey key = mock(EventKey.class);
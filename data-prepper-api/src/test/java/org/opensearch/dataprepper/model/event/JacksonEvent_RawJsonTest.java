@@ -0,0 +1,238 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JacksonEvent_RawJsonTest {
+    private static final String RAW_JSON = "{ \"a\" : 1 , \"b\":{\"c\":\"x,y\" ,\"d\":[1,2]},\"e\":\"café\\\"q\", \"f\":true,\"g\":null,\"h\":1.50 }\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static JacksonEvent createObjectUnderTest(final String rawJson) {
+        return JacksonEvent.builder()
+                .withEventType("TEST")
+                .withRawJson(rawJson.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private Map<String, Object> readMap(final String json) throws IOException {
+        return objectMapper.readValue(json, Map.class);
+    }
+
+    @Test
+    void toJsonString_without_modifications_returns_the_original_bytes() {
+        final JacksonEvent objectUnderTest = createObjectUnderTest(RAW_JSON);
+
+        objectUnderTest.get("b/c", String.class);
+
+        assertThat(objectUnderTest.toJsonString(), equalTo(RAW_JSON.trim()));
+    }
+
+    @Test
+    void get_returns_values_from_the_raw_json() {
+        final JacksonEvent objectUnderTest = createObjectUnderTest(RAW_JSON);
+
+        assertThat(objectUnderTest.get("a", Integer.class), equalTo(1));
+        assertThat(objectUnderTest.get("/b/c", String.class), equalTo("x,y"));
+        assertThat(objectUnderTest.getList("b/d", Integer.class), equalTo(List.of(1, 2)));
+        assertThat(objectUnderTest.get("e", String.class), equalTo("café\"q"));
+        assertThat(objectUnderTest.get("f", Boolean.class), equalTo(true));
+        assertThat(objectUnderTest.containsKey("g"), equalTo(true));
+        assertThat(objectUnderTest.containsKey("missing"), equalTo(false));
+        assertThat(objectUnderTest.isValueAList("b/d"), equalTo(true));
+        assertThat(objectUnderTest.getAsJsonString("b"), equalTo("{\"c\":\"x,y\",\"d\":[1,2]}"));
+    }
+
+    @Test
+    void toJsonString_writes_modified_fields_in_place_and_added_fields_last() throws IOException {
+        final JacksonEvent objectUnderTest = createObjectUnderTest(RAW_JSON);
+
+        objectUnderTest.put("b/c", "new");
+        objectUnderTest.delete("f");
+        objectUnderTest.put("a", 5);
+        objectUnderTest.put("z", Map.of("k", 2));
+
+        final String jsonString = objectUnderTest.toJsonString();
+
+        assertThat(jsonString, equalTo("{\"a\":5,\"b\":{\"c\":\"new\",\"d\":[1,2]},\"e\":\"café\\\"q\",\"g\":null,\"h\":1.50,\"z\":{\"k\":2}}"));
+        assertThat(readMap(jsonString), equalTo(objectUnderTest.toMap()));
+    }
+
+    @Test
+    void delete_of_nested_key_keeps_the_rest_of_the_field() {
+        final JacksonEvent objectUnderTest = createObjectUnderTest(RAW_JSON);
+
+        objectUnderTest.delete("b/d");
+
+        assertThat(objectUnderTest.get("b", Map.class), equalTo(Map.of("c", "x,y")));
+        assertThat(objectUnderTest.toJsonString(), equalTo("{\"a\" : 1,\"b\":{\"c\":\"x,y\"},\"e\":\"café\\\"q\",\"f\":true,\"g\":null,\"h\":1.50}"));
+    }
+
+    @Test
+    void toMap_and_getJsonNode_return_all_fields_in_the_original_order() throws IOException {
+        final JacksonEvent objectUnderTest = createObjectUnderTest(RAW_JSON);
+        objectUnderTest.get("h", Double.class);
+        final Map<String, Object> expectedMap = readMap(RAW_JSON);
+
+        assertThat(objectUnderTest.toMap(), equalTo(expectedMap));
+        assertThat(List.copyOf(objectUnderTest.toMap().keySet()), equalTo(List.of("a", "b", "e", "f", "g", "h")));
+
+        ((ObjectNode) objectUnderTest.getJsonNode()).put("added", 1);
+
+        assertThat(readMap(objectUnderTest.toJsonString()).get("added"), equalTo(1));
+    }
+
+    @Test
+    void copy_does_not_share_modifications() {
+        final JacksonEvent objectUnderTest = createObjectUnderTest(RAW_JSON);
+        objectUnderTest.put("a", 5);
+
+        final JacksonEvent copy = JacksonEvent.fromEvent(objectUnderTest);
+        copy.put("a", 7);
+        copy.put("b/c", "copy");
+
+        assertThat(objectUnderTest.get("a", Integer.class), equalTo(5));
+        assertThat(objectUnderTest.get("b/c", String.class), equalTo("x,y"));
+        assertThat(copy.get("a", Integer.class), equalTo(7));
+        assertThat(copy.get("b/c", String.class), equalTo("copy"));
+    }
+
+    @Test
+    void jsonBuilder_filters_keys_of_raw_json() {
+        final JacksonEvent objectUnderTest = createObjectUnderTest(RAW_JSON);
+
+        assertThat(objectUnderTest.jsonBuilder().includeKeys(List.of("b/d", "f")).toJsonString(),
+                equalTo("{\"b\":{\"d\":[1,2]},\"f\":true}"));
+        assertThat(objectUnderTest.jsonBuilder().rootKey("b").toJsonString(),
+                equalTo("{\"c\":\"x,y\",\"d\":[1,2]}"));
+    }
+
+    @Test
+    void formatString_reads_from_raw_json() {
+        final JacksonEvent objectUnderTest = createObjectUnderTest(RAW_JSON);
+
+        assertThat(objectUnderTest.formatString("${a}-${/b/c}"), equalTo("1-x,y"));
+    }
+
+    @Test
+    void clear_removes_all_fields() {
+        final JacksonEvent objectUnderTest = createObjectUnderTest(RAW_JSON);
+
+        objectUnderTest.clear();
+
+        assertThat(objectUnderTest.toJsonString(), equalTo("{}"));
+        assertThat(objectUnderTest.containsKey("a"), equalTo(false));
+    }
+
+    @Test
+    void java_serialization_keeps_raw_json_and_modifications() throws IOException, ClassNotFoundException {
+        final JacksonEvent objectUnderTest = createObjectUnderTest(RAW_JSON);
+        objectUnderTest.put("a", 5);
+
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(objectUnderTest);
+        }
+        final JacksonEvent deserializedEvent;
+        try (final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            deserializedEvent = (JacksonEvent) objectInputStream.readObject();
+        }
+
+        assertThat(deserializedEvent.toJsonString(), equalTo(objectUnderTest.toJsonString()));
+        assertThat(deserializedEvent.get("b/c", String.class), equalTo("x,y"));
+    }
+
+    @Test
+    void isBackedByRawJson_is_true_until_the_tree_is_handed_out() {
+        final JacksonEvent objectUnderTest = createObjectUnderTest(RAW_JSON);
+
+        assertThat(objectUnderTest.isBackedByRawJson(), equalTo(true));
+        objectUnderTest.get("b/c", String.class);
+        assertThat(objectUnderTest.isBackedByRawJson(), equalTo(true));
+        objectUnderTest.getJsonNode();
+        assertThat(objectUnderTest.isBackedByRawJson(), equalTo(false));
+        assertThat(((JacksonEvent) JacksonEvent.fromMessage("message")).isBackedByRawJson(), equalTo(false));
+    }
+
+    @Test
+    void concurrent_readers_of_raw_json_all_see_every_field() throws Exception {
+        final int fieldCount = 200;
+        final int readerCount = 8;
+        final StringBuilder rawJson = new StringBuilder("{");
+        for (int i = 0; i < fieldCount; i++) {
+            if (i > 0) {
+                rawJson.append(',');
+            }
+            rawJson.append("\"field").append(i).append("\":{\"value\":").append(i).append('}');
+        }
+        rawJson.append('}');
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(readerCount);
+        try {
+            for (int iteration = 0; iteration < 20; iteration++) {
+                final JacksonEvent objectUnderTest = createObjectUnderTest(rawJson.toString());
+                final CyclicBarrier barrier = new CyclicBarrier(readerCount);
+                final List<Future<?>> readers = new ArrayList<>();
+                for (int reader = 0; reader < readerCount; reader++) {
+                    final int readerIndex = reader;
+                    readers.add(executorService.submit(() -> {
+                        barrier.await();
+                        for (int i = 0; i < fieldCount; i++) {
+                            final int field = (i + readerIndex * 25) % fieldCount;
+                            assertThat(objectUnderTest.get("field" + field + "/value", Integer.class), equalTo(field));
+                        }
+                        if (readerIndex == 0) {
+                            assertThat(objectUnderTest.getJsonNode().size(), equalTo(fieldCount));
+                        } else if (readerIndex == 1) {
+                            assertThat(objectUnderTest.toMap().size(), equalTo(fieldCount));
+                        } else {
+                            assertThat(readMap(objectUnderTest.toJsonString()).size(), equalTo(fieldCount));
+                        }
+                        return null;
+                    }));
+                }
+                for (final Future<?> reader : readers) {
+                    reader.get(10, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void first_access_of_raw_json_which_is_not_an_object_throws() {
+        final JacksonEvent objectUnderTest = createObjectUnderTest("[1, 2]");
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.get("a", Integer.class));
+    }
+}
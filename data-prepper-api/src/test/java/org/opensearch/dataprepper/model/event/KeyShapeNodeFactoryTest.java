@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class KeyShapeNodeFactoryTest {
+    private static ShapedFieldMap fieldMap(final JsonNode objectNode) {
+        return ((KeyShapeNodeFactory.ShapedObjectNode) objectNode).getFieldMap();
+    }
+
+    private static JacksonEvent createEvent(final Object data) {
+        return JacksonEvent.builder()
+                .withEventType("TEST")
+                .withData(data)
+                .build();
+    }
+
+    @Test
+    void events_with_the_same_fields_share_key_shapes() {
+        final JacksonEvent first = createEvent(Map.of("srcaddr", "10.0.0.1", "dstaddr", "10.0.0.2", "nested", Map.of("port", 443)));
+        final JacksonEvent second = createEvent(Map.of("srcaddr", "10.0.0.3", "dstaddr", "10.0.0.4", "nested", Map.of("port", 80)));
+
+        assertThat(fieldMap(second.getJsonNode()).getShape(), sameInstance(fieldMap(first.getJsonNode()).getShape()));
+        assertThat(fieldMap(second.getJsonNode().get("nested")).getShape(), sameInstance(fieldMap(first.getJsonNode().get("nested")).getShape()));
+        assertThat(second.get("nested/port", Integer.class), equalTo(80));
+    }
+
+    @Test
+    void events_from_json_strings_share_key_shapes_and_keep_field_order() {
+        final JacksonEvent first = createEvent("{\"b\":1,\"a\":{\"c\":true},\"d\":[{\"e\":1}]}");
+        final JacksonEvent second = createEvent("{\"b\":2,\"a\":{\"c\":false},\"d\":[{\"e\":2}]}");
+
+        assertThat(fieldMap(second.getJsonNode()).getShape(), sameInstance(fieldMap(first.getJsonNode()).getShape()));
+        assertThat(new ArrayList<>(second.toMap().keySet()), equalTo(List.of("b", "a", "d")));
+        assertThat(second.toJsonString(), equalTo("{\"b\":2,\"a\":{\"c\":false},\"d\":[{\"e\":2}]}"));
+    }
+
+    @Test
+    void modified_events_behave_as_before() throws IOException {
+        final JacksonEvent objectUnderTest = createEvent("{\"a\":1,\"b\":2,\"c\":3}");
+
+        objectUnderTest.delete("a");
+        objectUnderTest.put("d/e", "x");
+        objectUnderTest.put("c", 4);
+
+        assertThat(objectUnderTest.toJsonString(), equalTo("{\"b\":2,\"c\":4,\"d\":{\"e\":\"x\"}}"));
+        assertThat(objectUnderTest.getJsonNode(), equalTo(new ObjectMapper().readTree("{\"b\":2,\"c\":4,\"d\":{\"e\":\"x\"}}")));
+        assertThat(new ObjectMapper().readTree("{\"b\":2,\"c\":4,\"d\":{\"e\":\"x\"}}"), equalTo(objectUnderTest.getJsonNode()));
+    }
+
+    @Test
+    void deepCopy_keeps_shared_key_shapes_and_does_not_share_values() {
+        final JacksonEvent event = createEvent(Map.of("a", Map.of("b", 1)));
+
+        final JacksonEvent copy = JacksonEvent.fromEvent(event);
+        copy.put("a/b", 2);
+
+        final ObjectNode copiedNode = (ObjectNode) copy.getJsonNode();
+        assertThat(fieldMap(copiedNode).getShape(), sameInstance(fieldMap(event.getJsonNode()).getShape()));
+        assertThat(event.get("a/b", Integer.class), equalTo(1));
+        assertThat(copy.get("a/b", Integer.class), equalTo(2));
+        assertThat(copiedNode, not(equalTo(event.getJsonNode())));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class KeyShapeTest {
+    @Test
+    void withKey_returns_the_same_child_shape_for_the_same_key() {
+        final KeyShape rootShape = KeyShape.createRoot(10);
+
+        final KeyShape shape = rootShape.withKey("a").withKey("b");
+
+        assertThat(rootShape.withKey("a").withKey("b"), sameInstance(shape));
+        assertThat(shape.size(), equalTo(2));
+        assertThat(shape.keyAt(0), equalTo("a"));
+        assertThat(shape.keyAt(1), equalTo("b"));
+        assertThat(shape.getParent().getParent(), sameInstance(rootShape));
+        assertThat(rootShape.getParent(), nullValue());
+    }
+
+    @Test
+    void indexOf_finds_keys_in_small_and_large_shapes() {
+        KeyShape shape = KeyShape.createRoot(100);
+        for (int i = 0; i < 20; i++) {
+            shape = shape.withKey("key" + i);
+            assertThat(shape.indexOf("key" + i), equalTo(i));
+            assertThat(shape.indexOf(new String("key0")), equalTo(0));
+            assertThat(shape.indexOf("missing"), equalTo(-1));
+        }
+    }
+
+    @Test
+    void getMaximumDescendantSize_is_the_size_of_the_largest_shape_below() {
+        final KeyShape rootShape = KeyShape.createRoot(10);
+        final KeyShape shapeA = rootShape.withKey("a");
+
+        shapeA.withKey("b").withKey("c");
+        rootShape.withKey("d");
+
+        assertThat(rootShape.getMaximumDescendantSize(), equalTo(3));
+        assertThat(shapeA.getMaximumDescendantSize(), equalTo(3));
+        assertThat(rootShape.withKey("d").getMaximumDescendantSize(), equalTo(1));
+    }
+
+    @Test
+    void withKey_returns_null_when_the_tree_has_the_maximum_number_of_shapes() {
+        final KeyShape rootShape = KeyShape.createRoot(2);
+        final KeyShape shapeA = rootShape.withKey("a");
+        final KeyShape shapeB = rootShape.withKey("b");
+
+        assertThat(rootShape.withKey("c"), nullValue());
+        assertThat(shapeA.withKey("c"), nullValue());
+        assertThat(rootShape.withKey("a"), sameInstance(shapeA));
+        assertThat(rootShape.withKey("b"), sameInstance(shapeB));
+    }
+
+    @Test
+    void withKey_returns_null_beyond_the_maximum_number_of_keys() {
+        KeyShape shape = KeyShape.createRoot(KeyShape.MAXIMUM_KEYS + 1);
+        for (int i = 0; i < KeyShape.MAXIMUM_KEYS; i++) {
+            shape = shape.withKey("key" + i);
+        }
+
+        assertThat(shape.size(), equalTo(KeyShape.MAXIMUM_KEYS));
+        assertThat(shape.withKey("another"), nullValue());
+    }
+
+    @Test
+    void withKey_returns_null_beyond_the_maximum_number_of_transitions() {
+        final KeyShape rootShape = KeyShape.createRoot(KeyShape.MAXIMUM_TRANSITIONS + 1);
+        for (int i = 0; i < KeyShape.MAXIMUM_TRANSITIONS; i++) {
+            rootShape.withKey("key" + i);
+        }
+
+        assertThat(rootShape.withKey("another"), nullValue());
+        assertThat(rootShape.withKey("key0").size(), equalTo(1));
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShapedFieldMapTest {
+    private final KeyShape rootShape = KeyShape.createRoot(100);
+
+    private ShapedFieldMap createObjectUnderTest(final String... keys) {
+        final ShapedFieldMap shapedFieldMap = new ShapedFieldMap(rootShape);
+        for (int i = 0; i < keys.length; i++) {
+            shapedFieldMap.put(new String(keys[i]), IntNode.valueOf(i));
+        }
+        return shapedFieldMap;
+    }
+
+    private static Map<String, JsonNode> linkedHashMap(final String... keys) {
+        final Map<String, JsonNode> map = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], IntNode.valueOf(i));
+        }
+        return map;
+    }
+
+    @Test
+    void maps_with_the_same_keys_share_the_shape_and_key_instances() {
+        final ShapedFieldMap first = createObjectUnderTest("a", "b", "c");
+        final ShapedFieldMap second = createObjectUnderTest("a", "b", "c");
+
+        assertThat(first.isShaped(), equalTo(true));
+        assertThat(second.getShape(), sameInstance(first.getShape()));
+        assertThat(second.keySet().iterator().next(), sameInstance(first.keySet().iterator().next()));
+        assertThat(second, equalTo(first));
+        assertThat(first, equalTo(linkedHashMap("a", "b", "c")));
+        assertThat(first.hashCode(), equalTo(linkedHashMap("a", "b", "c").hashCode()));
+        assertThat(first.toString(), equalTo("{a=0, b=1, c=2}"));
+    }
+
+    @Test
+    void get_put_and_containsKey_behave_as_a_map() {
+        final ShapedFieldMap objectUnderTest = createObjectUnderTest("a", "b");
+
+        assertThat(objectUnderTest.size(), equalTo(2));
+        assertThat(objectUnderTest.get("b"), equalTo(IntNode.valueOf(1)));
+        assertThat(objectUnderTest.get("missing"), nullValue());
+        assertThat(objectUnderTest.containsKey("a"), equalTo(true));
+        assertThat(objectUnderTest.containsKey("missing"), equalTo(false));
+
+        assertThat(objectUnderTest.put("a", TextNode.valueOf("x")), equalTo(IntNode.valueOf(0)));
+
+        assertThat(objectUnderTest.get("a"), equalTo(TextNode.valueOf("x")));
+        assertThat(new ArrayList<>(objectUnderTest.keySet()), equalTo(List.of("a", "b")));
+        assertThat(objectUnderTest.isShaped(), equalTo(true));
+    }
+
+    @Test
+    void remove_of_the_last_key_moves_back_to_the_parent_shape() {
+        final ShapedFieldMap objectUnderTest = createObjectUnderTest("a", "b");
+        final KeyShape shape = objectUnderTest.getShape();
+
+        assertThat(objectUnderTest.remove("missing"), nullValue());
+        assertThat(objectUnderTest.remove("b"), equalTo(IntNode.valueOf(1)));
+
+        assertThat(objectUnderTest.isShaped(), equalTo(true));
+        assertThat(objectUnderTest.getShape(), sameInstance(shape.getParent()));
+        assertThat(objectUnderTest, equalTo(linkedHashMap("a")));
+
+        objectUnderTest.put("b", IntNode.valueOf(1));
+
+        assertThat(objectUnderTest.getShape(), sameInstance(shape));
+        assertThat(objectUnderTest, equalTo(linkedHashMap("a", "b")));
+    }
+
+    @Test
+    void remove_of_another_key_falls_back_to_a_map_in_the_same_order() {
+        final ShapedFieldMap objectUnderTest = createObjectUnderTest("a", "b", "c");
+
+        assertThat(objectUnderTest.remove("a"), equalTo(IntNode.valueOf(0)));
+
+        assertThat(objectUnderTest.isShaped(), equalTo(false));
+        assertThat(new ArrayList<>(objectUnderTest.keySet()), equalTo(List.of("b", "c")));
+
+        objectUnderTest.put("a", IntNode.valueOf(5));
+
+        assertThat(objectUnderTest.size(), equalTo(3));
+        assertThat(objectUnderTest.get("a"), equalTo(IntNode.valueOf(5)));
+        assertThat(objectUnderTest.containsKey("b"), equalTo(true));
+        assertThat(objectUnderTest.remove("b"), equalTo(IntNode.valueOf(1)));
+        assertThat(new ArrayList<>(objectUnderTest.keySet()), equalTo(List.of("c", "a")));
+    }
+
+    @Test
+    void put_falls_back_to_a_map_when_the_shape_tree_is_full() {
+        final ShapedFieldMap objectUnderTest = new ShapedFieldMap(KeyShape.createRoot(1));
+        objectUnderTest.put("a", IntNode.valueOf(0));
+
+        objectUnderTest.put("b", IntNode.valueOf(1));
+
+        assertThat(objectUnderTest.isShaped(), equalTo(false));
+        assertThat(objectUnderTest, equalTo(linkedHashMap("a", "b")));
+    }
+
+    @Test
+    void clear_returns_to_the_root_shape() {
+        final ShapedFieldMap objectUnderTest = createObjectUnderTest("a", "b", "c");
+        objectUnderTest.remove("a");
+
+        objectUnderTest.clear();
+
+        assertThat(objectUnderTest.isShaped(), equalTo(true));
+        assertThat(objectUnderTest.getShape(), sameInstance(rootShape));
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+
+        objectUnderTest.put("a", IntNode.valueOf(0));
+
+        assertThat(objectUnderTest.getShape(), sameInstance(createObjectUnderTest("a").getShape()));
+    }
+
+    @Test
+    void values_grow_to_the_largest_known_shape() {
+        createObjectUnderTest("k0", "k1", "k2", "k3", "k4", "k5", "k6", "k7", "k8", "k9", "k10", "k11", "k12", "k13", "k14", "k15", "k16", "k17", "k18", "k19");
+
+        final ShapedFieldMap objectUnderTest = createObjectUnderTest("k0", "k1", "k2", "k3", "k4", "k5", "k6", "k7", "k8", "k9", "k10", "k11", "k12", "k13", "k14", "k15", "k16", "k17", "k18", "k19", "k20");
+
+        assertThat(objectUnderTest.size(), equalTo(21));
+        assertThat(objectUnderTest.get("k20"), equalTo(IntNode.valueOf(20)));
+        assertThat(objectUnderTest, equalTo(linkedHashMap("k0", "k1", "k2", "k3", "k4", "k5", "k6", "k7", "k8", "k9", "k10", "k11", "k12", "k13", "k14", "k15", "k16", "k17", "k18", "k19", "k20")));
+    }
+
+    @Test
+    void entrySet_entries_write_through_to_the_map() {
+        final ShapedFieldMap objectUnderTest = createObjectUnderTest("a", "b");
+        final Map.Entry<String, JsonNode> entry = objectUnderTest.entrySet().iterator().next();
+
+        assertThat(entry.setValue(TextNode.valueOf("x")), equalTo(IntNode.valueOf(0)));
+
+        assertThat(objectUnderTest.get("a"), equalTo(TextNode.valueOf("x")));
+        assertThat(entry.getKey(), equalTo("a"));
+        assertThat(entry.getValue(), equalTo(TextNode.valueOf("x")));
+        assertThat(entry, equalTo(Map.entry("a", TextNode.valueOf("x"))));
+        assertThat(entry, not(equalTo(Map.entry("b", TextNode.valueOf("x")))));
+        assertThat(entry.equals("a"), equalTo(false));
+        assertThat(entry.hashCode(), equalTo(Map.entry("a", TextNode.valueOf("x")).hashCode()));
+        assertThat(entry.toString(), equalTo("a=\"x\""));
+
+        objectUnderTest.put("a", null);
+
+        assertThat(entry.hashCode(), equalTo("a".hashCode()));
+    }
+
+    @Test
+    void entrySet_size_and_clear_use_the_map() {
+        final ShapedFieldMap objectUnderTest = createObjectUnderTest("a", "b");
+
+        assertThat(objectUnderTest.entrySet().size(), equalTo(2));
+        assertThat(objectUnderTest.entrySet(), sameInstance(objectUnderTest.entrySet()));
+
+        objectUnderTest.entrySet().clear();
+
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void iterator_remove_continues_after_the_removed_key() {
+        final ShapedFieldMap objectUnderTest = createObjectUnderTest("a", "b", "c");
+        final Iterator<Map.Entry<String, JsonNode>> iterator = objectUnderTest.entrySet().iterator();
+
+        assertThrows(IllegalStateException.class, iterator::remove);
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertThat(iterator.hasNext(), equalTo(true));
+        assertThat(iterator.next().getKey(), equalTo("c"));
+        assertThat(iterator.hasNext(), equalTo(false));
+        assertThat(objectUnderTest, equalTo(Map.of("a", IntNode.valueOf(0), "c", IntNode.valueOf(2))));
+        assertThat(objectUnderTest.entrySet().iterator().next().getKey(), equalTo("a"));
+    }
+
+    @Test
+    void iterator_throws_when_there_are_no_more_entries() {
+        final Iterator<Map.Entry<String, JsonNode>> iterator = createObjectUnderTest("a").entrySet().iterator();
+
+        iterator.next();
+
+        assertThat(iterator.hasNext(), equalTo(false));
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void iterator_throws_when_the_map_changes_shape_during_iteration() {
+        final ShapedFieldMap objectUnderTest = createObjectUnderTest("a", "b");
+        final Iterator<Map.Entry<String, JsonNode>> iterator = objectUnderTest.entrySet().iterator();
+        iterator.next();
+
+        objectUnderTest.put("c", IntNode.valueOf(2));
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(ConcurrentModificationException.class, iterator::remove);
+
+        final Iterator<Map.Entry<String, JsonNode>> secondIterator = objectUnderTest.entrySet().iterator();
+        secondIterator.next();
+        objectUnderTest.remove("a");
+
+        assertThrows(ConcurrentModificationException.class, secondIterator::next);
+        assertThrows(ConcurrentModificationException.class, secondIterator::remove);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.source;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.source.coordinator.SourcePartitionStoreItem;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SourceCoordinationStoreTest {
+    private static final String SOURCE_IDENTIFIER = "source";
+    private static final String OWNER_ID = "owner";
+    private static final Duration OWNERSHIP_TIMEOUT = Duration.ofMinutes(10);
+
+    @Test
+    void tryAcquireAvailablePartitions_acquires_until_maxPartitions() {
+        final SourceCoordinationStore objectUnderTest = mock(SourceCoordinationStore.class);
+        final SourcePartitionStoreItem first = mock(SourcePartitionStoreItem.class);
+        final SourcePartitionStoreItem second = mock(SourcePartitionStoreItem.class);
+        when(objectUnderTest.tryAcquireAvailablePartitions(SOURCE_IDENTIFIER, OWNER_ID, OWNERSHIP_TIMEOUT, 2)).thenCallRealMethod();
+        when(objectUnderTest.tryAcquireAvailablePartition(SOURCE_IDENTIFIER, OWNER_ID, OWNERSHIP_TIMEOUT))
+                .thenReturn(Optional.of(first))
+                .thenReturn(Optional.of(second));
+
+        final List<SourcePartitionStoreItem> acquiredItems =
+                objectUnderTest.tryAcquireAvailablePartitions(SOURCE_IDENTIFIER, OWNER_ID, OWNERSHIP_TIMEOUT, 2);
+
+        assertThat(acquiredItems, contains(first, second));
+        verify(objectUnderTest, times(2)).tryAcquireAvailablePartition(SOURCE_IDENTIFIER, OWNER_ID, OWNERSHIP_TIMEOUT);
+    }
+
+    @Test
+    void tryAcquireAvailablePartitions_stops_when_no_partition_is_available() {
+        final SourceCoordinationStore objectUnderTest = mock(SourceCoordinationStore.class);
+        final SourcePartitionStoreItem first = mock(SourcePartitionStoreItem.class);
+        when(objectUnderTest.tryAcquireAvailablePartitions(SOURCE_IDENTIFIER, OWNER_ID, OWNERSHIP_TIMEOUT, 5)).thenCallRealMethod();
+        when(objectUnderTest.tryAcquireAvailablePartition(SOURCE_IDENTIFIER, OWNER_ID, OWNERSHIP_TIMEOUT))
+                .thenReturn(Optional.of(first))
+                .thenReturn(Optional.empty());
+
+        final List<SourcePartitionStoreItem> acquiredItems =
+                objectUnderTest.tryAcquireAvailablePartitions(SOURCE_IDENTIFIER, OWNER_ID, OWNERSHIP_TIMEOUT, 5);
+
+        assertThat(acquiredItems, contains(first));
+        verify(objectUnderTest, times(2)).tryAcquireAvailablePartition(SOURCE_IDENTIFIER, OWNER_ID, OWNERSHIP_TIMEOUT);
+    }
+
+    @Test
+    void tryAcquireAvailablePartitions_returns_empty_list_when_nothing_is_available() {
+        final SourceCoordinationStore objectUnderTest = mock(SourceCoordinationStore.class);
+        when(objectUnderTest.tryAcquireAvailablePartitions(SOURCE_IDENTIFIER, OWNER_ID, OWNERSHIP_TIMEOUT, 3)).thenCallRealMethod();
+        when(objectUnderTest.tryAcquireAvailablePartition(SOURCE_IDENTIFIER, OWNER_ID, OWNERSHIP_TIMEOUT)).thenReturn(Optional.empty());
+
+        assertThat(objectUnderTest.tryAcquireAvailablePartitions(SOURCE_IDENTIFIER, OWNER_ID, OWNERSHIP_TIMEOUT, 3), empty());
+    }
+}
@@ -138,6 +138,34 @@ public class JacksonSpanTest {
         assertThat(traceId, is(equalTo(TEST_TRACE_ID)));
     }
 
+    @Test
+    public void testGetIdBytes() {
+        final JacksonSpan span = builder
+                .withTraceId("0123456789abcdef0123456789ABCDEF")
+                .withSpanId("00ff7f80a1b2c3d4")
+                .withParentSpanId("")
+                .build();
+
+        assertThat(span.getTraceIdBytes(), equalTo(new byte[]{0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xab, (byte) 0xcd, (byte) 0xef,
+                0x01, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xab, (byte) 0xcd, (byte) 0xef}));
+        assertThat(span.getSpanIdBytes(), equalTo(new byte[]{0x00, (byte) 0xff, 0x7f, (byte) 0x80, (byte) 0xa1, (byte) 0xb2, (byte) 0xc3, (byte) 0xd4}));
+        assertThat(span.getParentSpanIdBytes(), equalTo(new byte[0]));
+    }
+
+    @Test
+    public void testGetIdBytes_withNonHexId_throwsIllegalArgumentException() {
+        final JacksonSpan span = builder.withSpanId("not-a-hex-id").build();
+
+        assertThrows(IllegalArgumentException.class, span::getSpanIdBytes);
+    }
+
+    @Test
+    public void testGetIdBytes_withOddLengthId_throwsIllegalArgumentException() {
+        final JacksonSpan span = builder.withSpanId("abc").build();
+
+        assertThrows(IllegalArgumentException.class, span::getSpanIdBytes);
+    }
+
     @Test
     public void testGetTraceState() {
         final String traceState = jacksonSpan.getTraceState();
@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.acknowledgements;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
+import org.opensearch.dataprepper.model.event.DefaultEventHandle;
+import org.opensearch.dataprepper.model.event.EventHandle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Measures the life of a {@link DefaultAcknowledgementSet} as a source and its sinks use it: the set is created,
+ * a batch of event handles is added, the set is completed, and the handles are released from one or more sink
+ * threads until the callback runs.
+ */
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@BenchmarkMode(Mode.Throughput)
+public class AcknowledgementSetBenchmark {
+    private static final Duration ACKNOWLEDGEMENT_TIMEOUT = Duration.ofMinutes(5);
+    /**
+     * The monitor holds each set until it sees that the set is done, so it runs often enough to keep the heap small.
+     */
+    private static final Duration MONITOR_WAIT_TIME = Duration.ofMillis(100);
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"100", "1000", "8000"})
+        int batchSize;
+
+        @Param({"1", "4"})
+        int releaseThreads;
+
+        private ScheduledExecutorService callbackExecutor;
+        private DefaultAcknowledgementSetManager acknowledgementSetManager;
+        private ExecutorService releaseExecutor;
+
+        @Setup
+        public void setUp() {
+            callbackExecutor = Executors.newSingleThreadScheduledExecutor();
+            acknowledgementSetManager = new DefaultAcknowledgementSetManager(callbackExecutor, MONITOR_WAIT_TIME);
+            releaseExecutor = Executors.newFixedThreadPool(releaseThreads);
+        }
+
+        @TearDown
+        public void tearDown() {
+            acknowledgementSetManager.shutdown();
+            releaseExecutor.shutdownNow();
+            callbackExecutor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public AcknowledgementSet addCompleteAndRelease(final BenchmarkState state) throws Exception {
+        final CountDownLatch callbackLatch = new CountDownLatch(1);
+        final AcknowledgementSet acknowledgementSet = state.acknowledgementSetManager.create(
+                result -> callbackLatch.countDown(), ACKNOWLEDGEMENT_TIMEOUT);
+
+        final List<EventHandle> eventHandles = new ArrayList<>(state.batchSize);
+        final Instant originationTime = Instant.now();
+        for (int i = 0; i < state.batchSize; i++) {
+            final EventHandle eventHandle = new DefaultEventHandle(originationTime);
+            acknowledgementSet.add(eventHandle);
+            eventHandles.add(eventHandle);
+        }
+        acknowledgementSet.complete();
+
+        if (state.releaseThreads == 1) {
+            releaseAll(eventHandles, 0, eventHandles.size());
+        } else {
+            final List<Callable<Void>> releaseTasks = new ArrayList<>(state.releaseThreads);
+            final int handlesPerThread = (eventHandles.size() + state.releaseThreads - 1) / state.releaseThreads;
+            for (int start = 0; start < eventHandles.size(); start += handlesPerThread) {
+                final int from = start;
+                final int to = Math.min(start + handlesPerThread, eventHandles.size());
+                releaseTasks.add(() -> {
+                    releaseAll(eventHandles, from, to);
+                    return null;
+                });
+            }
+            for (final Future<Void> releaseFuture : state.releaseExecutor.invokeAll(releaseTasks)) {
+                releaseFuture.get();
+            }
+        }
+
+        callbackLatch.await();
+        return acknowledgementSet;
+    }
+
+    private static void releaseAll(final List<EventHandle> eventHandles, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            eventHandles.get(i).release(true);
+        }
+    }
+}
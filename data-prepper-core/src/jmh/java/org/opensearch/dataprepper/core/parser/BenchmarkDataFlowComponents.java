@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.parser;
+
+import java.util.Collection;
+
+/**
+ * Creates {@link DataFlowComponent} objects for benchmarks outside of this package.
+ */
+public final class BenchmarkDataFlowComponents {
+    private BenchmarkDataFlowComponents() {
+    }
+
+    public static <T> DataFlowComponent<T> create(final T component, final Collection<String> routes) {
+        return new DataFlowComponent<>(component, routes);
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.core.acknowledgements.InactiveAcknowledgementSetManager;
+import org.opensearch.dataprepper.core.parser.BenchmarkDataFlowComponents;
+import org.opensearch.dataprepper.core.parser.DataFlowComponent;
+import org.opensearch.dataprepper.core.pipeline.router.BenchmarkRouters;
+import org.opensearch.dataprepper.event.TestEventFactory;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.processor.Processor;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.sink.Sink;
+import org.opensearch.dataprepper.model.source.Source;
+import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Compares the {@link PipelineThreadModel}s of a {@link Pipeline} whose sinks block on network I/O. Each sink posts
+ * the size of its batch to a local stub HTTP server, which responds after a fixed latency, so the process workers and
+ * sink outputs spend most of their time waiting as they do against a remote sink. The benchmark thread writes
+ * batches to the buffer and blocks once it is full, so the batches written per second follow the rate at which the
+ * workers drain it.
+ * <p>
+ * The {@code virtual} cases need the forked JVM to run on Java 21 or later and fail in setup otherwise.
+ */
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@BenchmarkMode(Mode.Throughput)
+public class PipelineThreadModelBenchmark {
+    private static final int BATCH_SIZE = 125;
+    private static final int WRITE_TIMEOUT_MILLIS = 60_000;
+    private static final int READ_BATCH_TIMEOUT_MILLIS = 100;
+    private static final int BATCHES_IN_BUFFER_PER_WORKER = 2;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"platform", "virtual"})
+        String threadModel;
+
+        @Param({"4", "64"})
+        int workerThreads;
+
+        @Param({"1", "4"})
+        int sinkCount;
+
+        @Param({"5"})
+        int sinkLatencyMillis;
+
+        private HttpServer stubServer;
+        private ExecutorService stubServerExecutor;
+        private Buffer<Record<Event>> buffer;
+        private Pipeline pipeline;
+
+        @Setup
+        public void setUp() throws IOException, InterruptedException {
+            stubServerExecutor = Executors.newCachedThreadPool();
+            stubServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            stubServer.setExecutor(stubServerExecutor);
+            stubServer.createContext("/", exchange -> {
+                try (InputStream requestBody = exchange.getRequestBody()) {
+                    requestBody.readAllBytes();
+                }
+                try {
+                    Thread.sleep(sinkLatencyMillis);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, -1);
+                exchange.close();
+            });
+            stubServer.start();
+            final URL stubUrl = new URL("http", InetAddress.getLoopbackAddress().getHostAddress(),
+                    stubServer.getAddress().getPort(), "/");
+
+            buffer = new BlockingBuffer<>(BATCH_SIZE * workerThreads * BATCHES_IN_BUFFER_PER_WORKER, BATCH_SIZE, "benchmark");
+
+            final List<DataFlowComponent<Sink>> sinks = new ArrayList<>(sinkCount);
+            for (int i = 0; i < sinkCount; i++) {
+                sinks.add(BenchmarkDataFlowComponents.create(new StubHttpSink(stubUrl), Collections.emptyList()));
+            }
+
+            pipeline = new Pipeline("benchmark", new NoOpSource(), buffer, Collections.<List<Processor>>emptyList(), sinks,
+                    BenchmarkRouters.createRouter(Collections.emptySet()),
+                    TestEventFactory.getTestEventFactory(), InactiveAcknowledgementSetManager.getInstance(),
+                    null, workerThreads, READ_BATCH_TIMEOUT_MILLIS,
+                    SHUTDOWN_TIMEOUT, SHUTDOWN_TIMEOUT, Duration.ZERO, null,
+                    PipelineThreadModel.fromOptionName(threadModel));
+            pipeline.execute();
+            while (!pipeline.isSourceStarted()) {
+                Thread.sleep(10);
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            if (pipeline != null) {
+                pipeline.shutdown();
+            }
+            stubServer.stop(0);
+            stubServerExecutor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public void writeBatch(final BenchmarkState state) throws Exception {
+        final List<Record<Event>> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of("message", "message " + i))
+                    .build()));
+        }
+        state.buffer.writeAll(batch, WRITE_TIMEOUT_MILLIS);
+    }
+
+    private static class NoOpSource implements Source<Record<Event>> {
+        @Override
+        public void start(final Buffer<Record<Event>> buffer) {
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+
+    /**
+     * A sink with a blocking client, as many sinks have: it waits for the stub server to respond to each batch.
+     */
+    private static class StubHttpSink implements Sink<Record<Event>> {
+        private final URL url;
+
+        StubHttpSink(final URL url) {
+            this.url = url;
+        }
+
+        @Override
+        public void output(final Collection<Record<Event>> outputRecords) {
+            try {
+                final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+                connection.setRequestMethod("POST");
+                connection.setDoOutput(true);
+                try (OutputStream requestBody = connection.getOutputStream()) {
+                    requestBody.write(Integer.toString(outputRecords.size()).getBytes(StandardCharsets.UTF_8));
+                }
+                if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                    throw new IllegalStateException("The stub server responded with " + connection.getResponseCode());
+                }
+                connection.getInputStream().close();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public void initialize() {
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.core.acknowledgements.InactiveAcknowledgementSetManager;
+import org.opensearch.dataprepper.core.parser.BenchmarkDataFlowComponents;
+import org.opensearch.dataprepper.core.parser.DataFlowComponent;
+import org.opensearch.dataprepper.core.pipeline.router.BenchmarkRouters;
+import org.opensearch.dataprepper.event.TestEventFactory;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.processor.Processor;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.sink.Sink;
+import org.opensearch.dataprepper.model.source.Source;
+import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures a {@link Pipeline} running its {@link ProcessWorker} threads: the benchmark thread writes batches to a
+ * {@link BlockingBuffer} as a source does, and the workers read them, run them through the processors and route
+ * them to a sink. Writes block once the buffer is full, so the batches written per second follow the rate at which
+ * the workers drain the buffer.
+ */
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@BenchmarkMode(Mode.Throughput)
+public class ProcessWorkerBenchmark {
+    private static final int WRITE_TIMEOUT_MILLIS = 60_000;
+    private static final int READ_BATCH_TIMEOUT_MILLIS = 100;
+    private static final int BATCHES_IN_BUFFER_PER_WORKER = 2;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"125", "1000"})
+        int batchSize;
+
+        @Param({"1", "5"})
+        int processorCount;
+
+        @Param({"1", "4"})
+        int workerThreads;
+
+        private Buffer<Record<Event>> buffer;
+        private Pipeline pipeline;
+
+        @Setup
+        public void setUp() throws InterruptedException {
+            buffer = new BlockingBuffer<>(batchSize * workerThreads * BATCHES_IN_BUFFER_PER_WORKER, batchSize, "benchmark");
+
+            final List<List<Processor>> processorSets = new ArrayList<>(processorCount);
+            for (int i = 0; i < processorCount; i++) {
+                final List<Processor> processorSet = new ArrayList<>(workerThreads);
+                for (int j = 0; j < workerThreads; j++) {
+                    processorSet.add(new PutValueProcessor("processed_" + i));
+                }
+                processorSets.add(processorSet);
+            }
+            final List<DataFlowComponent<Sink>> sinks =
+                    Collections.singletonList(BenchmarkDataFlowComponents.create(new NoOpSink(), Collections.emptyList()));
+
+            pipeline = new Pipeline("benchmark", new NoOpSource(), buffer, processorSets, sinks,
+                    BenchmarkRouters.createRouter(Collections.emptySet()),
+                    TestEventFactory.getTestEventFactory(), InactiveAcknowledgementSetManager.getInstance(),
+                    null, workerThreads, READ_BATCH_TIMEOUT_MILLIS,
+                    SHUTDOWN_TIMEOUT, SHUTDOWN_TIMEOUT, Duration.ZERO);
+            pipeline.execute();
+            while (!pipeline.isSourceStarted()) {
+                Thread.sleep(10);
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            pipeline.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void writeBatch(final BenchmarkState state) throws Exception {
+        final List<Record<Event>> batch = new ArrayList<>(state.batchSize);
+        for (int i = 0; i < state.batchSize; i++) {
+            batch.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of("message", "message " + i))
+                    .build()));
+        }
+        state.buffer.writeAll(batch, WRITE_TIMEOUT_MILLIS);
+    }
+
+    private static class NoOpSource implements Source<Record<Event>> {
+        @Override
+        public void start(final Buffer<Record<Event>> buffer) {
+        }
+
+        @Override
+        public void stop() {
+        }
+    }
+
+    private static class PutValueProcessor implements Processor<Record<Event>, Record<Event>> {
+        private final String key;
+
+        PutValueProcessor(final String key) {
+            this.key = key;
+        }
+
+        @Override
+        public Collection<Record<Event>> execute(final Collection<Record<Event>> records) {
+            for (final Record<Event> record : records) {
+                record.getData().put(key, true);
+            }
+            return records;
+        }
+
+        @Override
+        public void prepareForShutdown() {
+        }
+
+        @Override
+        public boolean isReadyForShutdown() {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+
+    private static class NoOpSink implements Sink<Record<Event>> {
+        @Override
+        public void output(final Collection<Record<Event>> outputRecords) {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public void initialize() {
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.buffer;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Measures writing to and reading from the {@link BlockingBuffer} in batches.
+ * <p>
+ * {@link #writeAllAndRead} writes and reads a batch on the benchmark thread. {@link #readWhileWriting} reads
+ * batches while writer threads fill the buffer, as sources do, and reports the records read per second as the
+ * {@code records} counter.
+ */
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@BenchmarkMode(Mode.Throughput)
+public class BlockingBufferBenchmark {
+    private static final int WRITE_TIMEOUT_MILLIS = 100;
+    private static final int READ_TIMEOUT_MILLIS = 100;
+    private static final int BATCHES_IN_BUFFER = 4;
+
+    @State(Scope.Benchmark)
+    public static class BufferState {
+        @Param({"125", "1000", "8000"})
+        int batchSize;
+
+        private BlockingBuffer<Record<Event>> buffer;
+        private List<Record<Event>> batch;
+
+        @Setup
+        public void setUp() {
+            buffer = new BlockingBuffer<>(batchSize * BATCHES_IN_BUFFER, batchSize, "benchmark");
+            batch = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                batch.add(new Record<>(JacksonEvent.builder()
+                        .withEventType("event")
+                        .withData(Map.of("message", "message " + i))
+                        .build()));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class WriterState {
+        @Param({"1", "4"})
+        int writerThreads;
+
+        private List<Thread> writers;
+        private volatile boolean writing;
+
+        @Setup(Level.Iteration)
+        public void startWriters(final BufferState bufferState) {
+            writing = true;
+            writers = new ArrayList<>(writerThreads);
+            for (int i = 0; i < writerThreads; i++) {
+                final Thread writer = new Thread(() -> writeUntilStopped(bufferState), "benchmark-buffer-writer-" + i);
+                writer.setDaemon(true);
+                writer.start();
+                writers.add(writer);
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void stopWriters(final BufferState bufferState) throws InterruptedException {
+            writing = false;
+            for (final Thread writer : writers) {
+                writer.join();
+            }
+            while (!bufferState.buffer.isEmpty()) {
+                final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = bufferState.buffer.read(0);
+                bufferState.buffer.checkpoint(readResult.getValue());
+            }
+        }
+
+        private void writeUntilStopped(final BufferState bufferState) {
+            while (writing) {
+                try {
+                    bufferState.buffer.writeAll(bufferState.batch, WRITE_TIMEOUT_MILLIS);
+                } catch (final TimeoutException e) {
+                    // The buffer stays full until the reader catches up.
+                } catch (final Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class RecordCounters {
+        public long records;
+    }
+
+    @Benchmark
+    public Collection<Record<Event>> writeAllAndRead(final BufferState state) throws Exception {
+        state.buffer.writeAll(state.batch, WRITE_TIMEOUT_MILLIS);
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = state.buffer.read(READ_TIMEOUT_MILLIS);
+        state.buffer.checkpoint(readResult.getValue());
+        return readResult.getKey();
+    }
+
+    @Benchmark
+    public Collection<Record<Event>> readWhileWriting(final BufferState state, final WriterState writerState, final RecordCounters recordCounters) {
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = state.buffer.read(READ_TIMEOUT_MILLIS);
+        state.buffer.checkpoint(readResult.getValue());
+        recordCounters.records += readResult.getKey().size();
+        return readResult.getKey();
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.router;
+
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Set;
+
+/**
+ * Creates {@link Router} objects which evaluate routes with the Data Prepper expression evaluator, for benchmarks
+ * outside of this package.
+ */
+public final class BenchmarkRouters {
+    private BenchmarkRouters() {
+    }
+
+    public static Router createRouter(final Set<ConditionalRoute> routes) {
+        final AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.scan("org.opensearch.dataprepper.expression");
+        applicationContext.refresh();
+
+        return new RouterFactory(applicationContext.getBean(ExpressionEvaluator.class)).createRouter(routes);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.router;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.core.acknowledgements.InactiveAcknowledgementSetManager;
+import org.opensearch.dataprepper.core.parser.BenchmarkDataFlowComponents;
+import org.opensearch.dataprepper.core.parser.DataFlowComponent;
+import org.opensearch.dataprepper.event.TestEventFactory;
+import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
+import org.opensearch.dataprepper.model.event.EventFactory;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Measures {@link Router#route} for a batch of events over one sink per route, plus one sink which receives all
+ * events. Each event matches one route, so that it is routed to two sinks, and one of the two gets a copy.
+ */
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@BenchmarkMode(Mode.Throughput)
+public class RouterBenchmark {
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({"100", "1000"})
+        int batchSize;
+
+        @Param({"1", "4", "16"})
+        int routeCount;
+
+        private Router router;
+        private EventFactory eventFactory;
+        private List<DataFlowComponent<String>> sinks;
+        private Collection<Record> records;
+
+        @Setup
+        public void setUp() {
+            final Set<ConditionalRoute> routes = new HashSet<>();
+            sinks = new ArrayList<>();
+            for (int i = 0; i < routeCount; i++) {
+                final String routeName = "route-" + i;
+                routes.add(new ConditionalRoute(routeName, "/route_id == " + i));
+                sinks.add(BenchmarkDataFlowComponents.create("sink-" + i, Collections.singleton(routeName)));
+            }
+            sinks.add(BenchmarkDataFlowComponents.create("all-events-sink", Collections.emptyList()));
+            router = BenchmarkRouters.createRouter(routes);
+            eventFactory = TestEventFactory.getTestEventFactory();
+
+            records = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                records.add(new Record<>(JacksonEvent.builder()
+                        .withEventType("event")
+                        .withData(Map.of("route_id", i % routeCount, "message", "message " + i))
+                        .build()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void route(final BenchmarkState state, final Blackhole blackhole) {
+        final RouterGetRecordStrategy getRecordStrategy = new RouterCopyRecordStrategy(state.eventFactory,
+                InactiveAcknowledgementSetManager.getInstance(), state.sinks);
+        state.router.route(state.records, state.sinks, getRecordStrategy, (sink, routedRecords) -> blackhole.consume(routedRecords));
+    }
+}
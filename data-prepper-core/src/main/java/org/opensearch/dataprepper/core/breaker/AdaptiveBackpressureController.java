@@ -0,0 +1,219 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.breaker;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import org.opensearch.dataprepper.core.parser.model.AdaptiveBackpressureConfig;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Computes a smooth admission rate for each pipeline from several pressure signals, in place of
+ * the open or closed state of {@link HeapCircuitBreaker}.
+ * <p>
+ * The heap in use after garbage collection and the fraction of time spent in garbage collection
+ * drive a JVM-wide rate limit, which is split between the pipelines by their configured shares.
+ * Each pipeline's buffer usage and batch latency drive a rate limit for that pipeline alone. Both
+ * limits follow additive-increase/multiplicative-decrease, and a pipeline admits writes at the
+ * lower of the two.
+ *
+ * @since 2.17
+ */
+public class AdaptiveBackpressureController implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveBackpressureController.class);
+    static final String METRIC_PREFIX = "core.circuitBreakers.adaptive.";
+    static final String PIPELINE_TAG = "pipeline";
+    private static final double DEFAULT_SHARE = 1.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final AdaptiveBackpressureConfig config;
+    private final MemoryMXBean memoryMXBean;
+    private final List<MemoryPoolMXBean> heapMemoryPools;
+    private final List<GarbageCollectorMXBean> garbageCollectors;
+    private final LongSupplier nanoClock;
+    private final AimdRateLimit heapRateLimit;
+    private final List<PipelineAdmission> pipelineAdmissions;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private long lastCheckNanos;
+    private long lastGcTimeMillis;
+    private volatile double heapAfterGcUsage;
+    private volatile double gcTimeRatio;
+    private volatile double heapPressure;
+
+    AdaptiveBackpressureController(final AdaptiveBackpressureConfig config) {
+        this(config, ManagementFactory.getMemoryMXBean(), ManagementFactory.getMemoryPoolMXBeans(),
+                ManagementFactory.getGarbageCollectorMXBeans(), System::nanoTime);
+
+        final long checkIntervalMillis = Objects.requireNonNull(config.getCheckInterval()).toMillis();
+        scheduledExecutorService.scheduleAtFixedRate(this::checkSignals, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        LOG.info("Adaptive backpressure is enabled with a check interval of {} ms.", checkIntervalMillis);
+    }
+
+    AdaptiveBackpressureController(final AdaptiveBackpressureConfig config,
+                                   final MemoryMXBean memoryMXBean,
+                                   final List<MemoryPoolMXBean> memoryPools,
+                                   final List<GarbageCollectorMXBean> garbageCollectors,
+                                   final LongSupplier nanoClock) {
+        this.config = Objects.requireNonNull(config);
+        this.memoryMXBean = Objects.requireNonNull(memoryMXBean);
+        this.heapMemoryPools = memoryPools.stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .collect(Collectors.toList());
+        this.garbageCollectors = Objects.requireNonNull(garbageCollectors);
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+        this.heapRateLimit = createRateLimit();
+        this.pipelineAdmissions = new CopyOnWriteArrayList<>();
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "adaptive-backpressure-controller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lastCheckNanos = nanoClock.getAsLong();
+        this.lastGcTimeMillis = getTotalGcTimeMillis();
+
+        Metrics.gauge(METRIC_PREFIX + "heapAfterGcUsage", this, controller -> controller.heapAfterGcUsage);
+        Metrics.gauge(METRIC_PREFIX + "gcTimeRatio", this, controller -> controller.gcTimeRatio);
+        Metrics.gauge(METRIC_PREFIX + "heapPressure", this, controller -> controller.heapPressure);
+        Metrics.gauge(METRIC_PREFIX + "heapAdmissionRate", this, controller -> toMetricValue(controller.heapRateLimit.getLimit()));
+    }
+
+    /**
+     * Registers a pipeline for admission control.
+     *
+     * @param pipelineName the name of the pipeline
+     * @param buffer       the pipeline's buffer, which provides the buffer usage signal
+     * @return The admission control for writes into the pipeline
+     * @since 2.17
+     */
+    public PipelineAdmission registerPipeline(final String pipelineName, final Buffer<?> buffer) {
+        final double share = config.getPipelineShares().getOrDefault(pipelineName, DEFAULT_SHARE);
+        final Tags tags = Tags.of(PIPELINE_TAG, pipelineName);
+        final PipelineAdmission pipelineAdmission = new PipelineAdmission(pipelineName, share, buffer, createRateLimit(),
+                Metrics.counter(METRIC_PREFIX + "throttledRecords", tags), nanoClock);
+        Metrics.gauge(METRIC_PREFIX + "admissionRate", tags, pipelineAdmission, admission -> toMetricValue(admission.getRateLimit()));
+        Metrics.gauge(METRIC_PREFIX + "pressure", tags, pipelineAdmission, PipelineAdmission::getPressure);
+        pipelineAdmissions.add(pipelineAdmission);
+        return pipelineAdmission;
+    }
+
+    void checkSignals() {
+        try {
+            final long now = nanoClock.getAsLong();
+            final double elapsedSeconds = Math.max((now - lastCheckNanos) / NANOS_PER_SECOND, 0.001);
+            lastCheckNanos = now;
+
+            final long totalGcTimeMillis = getTotalGcTimeMillis();
+            gcTimeRatio = (totalGcTimeMillis - lastGcTimeMillis) / (elapsedSeconds * 1000.0);
+            lastGcTimeMillis = totalGcTimeMillis;
+            heapAfterGcUsage = getHeapAfterGcUsage();
+            heapPressure = Math.max(ratio(heapAfterGcUsage, config.getHeapAfterGcUsage()),
+                    ratio(gcTimeRatio, config.getGcTimeRatio()));
+
+            final double[] observedRates = new double[pipelineAdmissions.size()];
+            double totalObservedRate = 0.0;
+            double totalShares = 0.0;
+            for (int i = 0; i < observedRates.length; i++) {
+                final PipelineAdmission pipelineAdmission = pipelineAdmissions.get(i);
+                observedRates[i] = pipelineAdmission.drainAdmittedRecords() / elapsedSeconds;
+                totalObservedRate += observedRates[i];
+                totalShares += pipelineAdmission.getShare();
+            }
+
+            final boolean wasLimited = heapRateLimit.isLimited();
+            heapRateLimit.update(heapPressure, totalObservedRate);
+            if (wasLimited != heapRateLimit.isLimited()) {
+                LOG.info("Adaptive backpressure heap limit {}. heapAfterGcUsage={}, gcTimeRatio={}",
+                        heapRateLimit.isLimited() ? "engaged" : "released", heapAfterGcUsage, gcTimeRatio);
+            }
+
+            for (int i = 0; i < observedRates.length; i++) {
+                updatePipeline(pipelineAdmissions.get(i), observedRates[i], totalShares);
+            }
+        } catch (final Exception e) {
+            LOG.error("Failed to update the adaptive backpressure admission rates.", e);
+        }
+    }
+
+    private void updatePipeline(final PipelineAdmission pipelineAdmission, final double observedRate, final double totalShares) {
+        final double bufferUsage = pipelineAdmission.getBuffer().getCapacityUsage().orElse(0.0);
+        final double batchLatencyNanos = pipelineAdmission.drainMaxBatchLatencyNanos();
+        final double pressure = Math.max(ratio(bufferUsage, config.getBufferUsage()),
+                ratio(batchLatencyNanos, config.getBatchLatency().toNanos()));
+        pipelineAdmission.setPressure(pressure);
+
+        final AimdRateLimit pipelineRateLimit = pipelineAdmission.getPipelineRateLimit();
+        pipelineRateLimit.update(pressure, observedRate);
+
+        final double heapShare = totalShares > 0.0 ? pipelineAdmission.getShare() / totalShares : 1.0;
+        final double rateLimit = Math.min(pipelineRateLimit.getLimit(), heapRateLimit.getLimit() * heapShare);
+        pipelineAdmission.setRateLimit(rateLimit);
+    }
+
+    private double getHeapAfterGcUsage() {
+        long usedAfterGc = 0;
+        for (final MemoryPoolMXBean memoryPool : heapMemoryPools) {
+            final MemoryUsage collectionUsage = memoryPool.getCollectionUsage();
+            if (collectionUsage != null) {
+                usedAfterGc += collectionUsage.getUsed();
+            }
+        }
+        final MemoryUsage heapUsage = memoryMXBean.getHeapMemoryUsage();
+        final long maxHeap = heapUsage.getMax() > 0 ? heapUsage.getMax() : heapUsage.getCommitted();
+        return maxHeap > 0 ? (double) usedAfterGc / maxHeap : 0.0;
+    }
+
+    private long getTotalGcTimeMillis() {
+        long totalGcTimeMillis = 0;
+        for (final GarbageCollectorMXBean garbageCollector : garbageCollectors) {
+            final long collectionTime = garbageCollector.getCollectionTime();
+            if (collectionTime > 0) {
+                totalGcTimeMillis += collectionTime;
+            }
+        }
+        return totalGcTimeMillis;
+    }
+
+    private AimdRateLimit createRateLimit() {
+        return new AimdRateLimit(config.getDecreaseFactor(), config.getIncreaseRatio(), config.getMinimumRecordsPerSecond());
+    }
+
+    private static double ratio(final double value, final double target) {
+        if (target <= 0.0) {
+            return value > 0.0 ? Double.POSITIVE_INFINITY : 0.0;
+        }
+        return value / target;
+    }
+
+    private static double toMetricValue(final double rateLimit) {
+        return rateLimit == AimdRateLimit.UNLIMITED ? Double.NaN : rateLimit;
+    }
+
+    @Override
+    public void close() {
+        scheduledExecutorService.shutdown();
+    }
+}
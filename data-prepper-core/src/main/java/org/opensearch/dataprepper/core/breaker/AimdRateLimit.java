@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.breaker;
+
+/**
+ * A rate limit which follows additive-increase/multiplicative-decrease. While the pressure is
+ * above 1 the limit is cut by the decrease factor; otherwise it grows by a fixed step, which is
+ * a fraction of the limit set by the last decrease. The limit is removed again once the observed
+ * rate is well below it and the pressure is low.
+ *
+ * @since 2.17
+ */
+class AimdRateLimit {
+    static final double UNLIMITED = Double.POSITIVE_INFINITY;
+    static final double RELEASE_PRESSURE = 0.5;
+    private static final double RELEASE_HEADROOM = 2.0;
+
+    private final double decreaseFactor;
+    private final double increaseRatio;
+    private final double minimumRate;
+    private volatile double limit;
+    private double increaseStep;
+
+    AimdRateLimit(final double decreaseFactor, final double increaseRatio, final double minimumRate) {
+        if (decreaseFactor <= 0.0 || decreaseFactor >= 1.0)
+            throw new IllegalArgumentException("The decrease factor must be between 0 and 1.");
+        if (increaseRatio < 0.0)
+            throw new IllegalArgumentException("The increase ratio must not be negative.");
+        if (minimumRate <= 0.0)
+            throw new IllegalArgumentException("The minimum rate must be positive.");
+        this.decreaseFactor = decreaseFactor;
+        this.increaseRatio = increaseRatio;
+        this.minimumRate = minimumRate;
+        this.limit = UNLIMITED;
+    }
+
+    /**
+     * Updates the limit from one sample. Only one thread may call this at a time.
+     *
+     * @param pressure     the ratio of the worst signal to its target, where above 1 is over target
+     * @param observedRate the rate admitted since the previous update, in records per second
+     */
+    void update(final double pressure, final double observedRate) {
+        if (pressure > 1.0) {
+            final double base = Math.min(limit, Math.max(observedRate, minimumRate));
+            limit = Math.max(minimumRate, base * decreaseFactor);
+            increaseStep = Math.max(1.0, limit * increaseRatio);
+        } else if (limit != UNLIMITED) {
+            if (pressure < RELEASE_PRESSURE && limit > observedRate * RELEASE_HEADROOM) {
+                limit = UNLIMITED;
+            } else {
+                limit += increaseStep;
+            }
+        }
+    }
+
+    double getLimit() {
+        return limit;
+    }
+
+    boolean isLimited() {
+        return limit != UNLIMITED;
+    }
+}
@@ -27,8 +27,9 @@ import java.util.Optional;
 @Configuration
 public class CircuitBreakerAppConfig {
     @Bean
-    public CircuitBreakerManager circuitBreakerService(final List<InnerCircuitBreaker> circuitBreakers) {
-        return new CircuitBreakerManager(circuitBreakers);
+    public CircuitBreakerManager circuitBreakerService(final List<InnerCircuitBreaker> circuitBreakers,
+                                                       final Optional<AdaptiveBackpressureController> adaptiveBackpressureController) {
+        return new CircuitBreakerManager(circuitBreakers, adaptiveBackpressureController.orElse(null));
     }
 
     @Bean
@@ -41,6 +42,16 @@ public class CircuitBreakerAppConfig {
         }
     }
 
+    @Bean
+    AdaptiveBackpressureController adaptiveBackpressureController(final DataPrepperConfiguration dataPrepperConfiguration) {
+        final CircuitBreakerConfig circuitBreakerConfig = dataPrepperConfiguration.getCircuitBreakerConfig();
+        if(circuitBreakerConfig != null && circuitBreakerConfig.getAdaptiveConfig() != null) {
+            return new AdaptiveBackpressureController(circuitBreakerConfig.getAdaptiveConfig());
+        } else {
+            return null;
+        }
+    }
+
     @Bean
     public Optional<CircuitBreaker> circuitBreaker(final CircuitBreakerManager circuitBreakerManager) {
         return circuitBreakerManager.getGlobalCircuitBreaker();
@@ -21,13 +21,20 @@ import java.util.Optional;
  */
 public class CircuitBreakerManager {
     private final CircuitBreaker globalCircuitBreaker;
+    private final AdaptiveBackpressureController backpressureController;
 
     CircuitBreakerManager(final List<InnerCircuitBreaker> circuitBreakers) {
+        this(circuitBreakers, null);
+    }
+
+    CircuitBreakerManager(final List<InnerCircuitBreaker> circuitBreakers,
+                          final AdaptiveBackpressureController backpressureController) {
         if(circuitBreakers.isEmpty()) {
             globalCircuitBreaker = null;
         } else {
             globalCircuitBreaker = new GlobalCircuitBreaker(circuitBreakers);
         }
+        this.backpressureController = backpressureController;
     }
 
     /**
@@ -40,6 +47,16 @@ public class CircuitBreakerManager {
         return Optional.ofNullable(globalCircuitBreaker);
     }
 
+    /**
+     * Returns the adaptive backpressure controller, if it is configured.
+     *
+     * @return The adaptive backpressure controller.
+     * @since 2.17
+     */
+    public Optional<AdaptiveBackpressureController> getBackpressureController() {
+        return Optional.ofNullable(backpressureController);
+    }
+
     private static class GlobalCircuitBreaker implements CircuitBreaker {
         private final List<InnerCircuitBreaker> circuitBreakers;
 
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.breaker;
+
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.BufferThrottledException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Admission control for writes into one pipeline's buffer. The {@link AdaptiveBackpressureController}
+ * sets the admission rate, and writers draw from a token bucket which refills at that rate and holds
+ * at most one second of records.
+ *
+ * @since 2.17
+ */
+public class PipelineAdmission {
+    private static final double BURST_SECONDS = 1.0;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final String pipelineName;
+    private final double share;
+    private final Buffer<?> buffer;
+    private final AimdRateLimit pipelineRateLimit;
+    private final Counter throttledRecordsCounter;
+    private final LongSupplier nanoClock;
+    private final AtomicLong admittedRecords;
+    private final AtomicLong maxBatchLatencyNanos;
+    private volatile double rateLimit;
+    private volatile double pressure;
+    private double tokens;
+    private long lastRefillNanos;
+
+    PipelineAdmission(final String pipelineName,
+                      final double share,
+                      final Buffer<?> buffer,
+                      final AimdRateLimit pipelineRateLimit,
+                      final Counter throttledRecordsCounter,
+                      final LongSupplier nanoClock) {
+        this.pipelineName = Objects.requireNonNull(pipelineName);
+        this.share = share;
+        this.buffer = Objects.requireNonNull(buffer);
+        this.pipelineRateLimit = Objects.requireNonNull(pipelineRateLimit);
+        this.throttledRecordsCounter = Objects.requireNonNull(throttledRecordsCounter);
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+        this.admittedRecords = new AtomicLong();
+        this.maxBatchLatencyNanos = new AtomicLong();
+        this.rateLimit = AimdRateLimit.UNLIMITED;
+    }
+
+    /**
+     * Admits a write of the given number of records, or rejects it when the pipeline is over
+     * its admission rate. A write larger than the bucket is admitted once the bucket is full.
+     *
+     * @param records the number of records to write
+     * @throws BufferThrottledException if the write is not admitted
+     */
+    public void acquire(final int records) throws BufferThrottledException {
+        final double currentRateLimit = rateLimit;
+        if (currentRateLimit == AimdRateLimit.UNLIMITED) {
+            admittedRecords.addAndGet(records);
+            return;
+        }
+
+        final double missingTokens;
+        synchronized (this) {
+            refill(currentRateLimit);
+            final double capacity = currentRateLimit * BURST_SECONDS;
+            if (tokens >= records || tokens >= capacity) {
+                tokens -= records;
+                admittedRecords.addAndGet(records);
+                return;
+            }
+            missingTokens = Math.min(records, capacity) - tokens;
+        }
+
+        throttledRecordsCounter.increment(records);
+        final long retryAfterMillis = (long) Math.ceil(missingTokens / currentRateLimit * 1000.0);
+        throw new BufferThrottledException(
+                String.format("Pipeline [%s] is over its admission rate of %.0f records per second.", pipelineName, currentRateLimit),
+                Duration.ofMillis(Math.max(1L, retryAfterMillis)));
+    }
+
+    /**
+     * Records the time from reading a batch from the buffer until checkpointing it.
+     *
+     * @param latencyNanos the batch latency in nanoseconds
+     */
+    public void recordBatchLatency(final long latencyNanos) {
+        maxBatchLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    String getPipelineName() {
+        return pipelineName;
+    }
+
+    double getShare() {
+        return share;
+    }
+
+    Buffer<?> getBuffer() {
+        return buffer;
+    }
+
+    AimdRateLimit getPipelineRateLimit() {
+        return pipelineRateLimit;
+    }
+
+    long drainAdmittedRecords() {
+        return admittedRecords.getAndSet(0);
+    }
+
+    long drainMaxBatchLatencyNanos() {
+        return maxBatchLatencyNanos.getAndSet(0);
+    }
+
+    double getRateLimit() {
+        return rateLimit;
+    }
+
+    double getPressure() {
+        return pressure;
+    }
+
+    void setPressure(final double pressure) {
+        this.pressure = pressure;
+    }
+
+    synchronized void setRateLimit(final double newRateLimit) {
+        final long now = nanoClock.getAsLong();
+        if (rateLimit == AimdRateLimit.UNLIMITED) {
+            tokens = newRateLimit * BURST_SECONDS;
+        } else {
+            refill(rateLimit);
+            tokens = Math.min(tokens, newRateLimit * BURST_SECONDS);
+        }
+        lastRefillNanos = now;
+        rateLimit = newRateLimit;
+    }
+
+    private void refill(final double currentRateLimit) {
+        final long now = nanoClock.getAsLong();
+        final double elapsedSeconds = (double) (now - lastRefillNanos) / NANOS_PER_SECOND;
+        tokens = Math.min(currentRateLimit * BURST_SECONDS, tokens + elapsedSeconds * currentRateLimit);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.parser;
+
+import org.opensearch.dataprepper.core.breaker.PipelineAdmission;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.DelegatingBuffer;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decorator for {@link Buffer} which admits writes through a {@link PipelineAdmission}
+ * and reports the time from reading each batch until it is checkpointed.
+ *
+ * @param <T> The type of record.
+ * @since 2.17
+ */
+class BackpressureBuffer<T extends Record<?>> extends DelegatingBuffer<T> implements Buffer<T> {
+    private final PipelineAdmission pipelineAdmission;
+    private final ThreadLocal<Long> batchReadNanos;
+
+    /**
+     * Constructor
+     *
+     * @param buffer The inner buffer which is being decorated
+     * @param pipelineAdmission The admission control for the pipeline
+     */
+    public BackpressureBuffer(final Buffer<T> buffer, final PipelineAdmission pipelineAdmission) {
+        super(buffer);
+        this.pipelineAdmission = requireNonNull(pipelineAdmission);
+        this.batchReadNanos = new ThreadLocal<>();
+    }
+
+    @Override
+    public void write(final T record, final int timeoutInMillis) throws TimeoutException {
+        pipelineAdmission.acquire(1);
+
+        super.write(record, timeoutInMillis);
+    }
+
+    @Override
+    public void writeAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        pipelineAdmission.acquire(records.size());
+
+        super.writeAll(records, timeoutInMillis);
+    }
+
+    @Override
+    public void writeBytes(final byte[] bytes, final String key, final int timeoutInMillis) throws Exception {
+        pipelineAdmission.acquire(1);
+
+        super.writeBytes(bytes, key, timeoutInMillis);
+    }
+
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> read(final int timeoutInMillis) {
+        final Map.Entry<Collection<T>, CheckpointState> readResult = super.read(timeoutInMillis);
+        if (!readResult.getKey().isEmpty()) {
+            batchReadNanos.set(System.nanoTime());
+        }
+        return readResult;
+    }
+
+    @Override
+    public void checkpoint(final CheckpointState checkpointState) {
+        super.checkpoint(checkpointState);
+
+        final Long readNanos = batchReadNanos.get();
+        if (readNanos != null) {
+            batchReadNanos.remove();
+            pipelineAdmission.recordBatchLatency(System.nanoTime() - readNanos);
+        }
+    }
+}
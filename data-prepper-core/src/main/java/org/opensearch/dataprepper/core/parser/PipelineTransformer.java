@@ -20,6 +20,7 @@ import org.opensearch.dataprepper.core.pipeline.HeadlessPipelineSource;
 import org.opensearch.dataprepper.model.pipeline.HeadlessPipeline;
 import org.opensearch.dataprepper.core.pipeline.PipelineRunnerImpl;
 import org.opensearch.dataprepper.core.pipeline.SupportsPipelineRunner;
+import org.opensearch.dataprepper.core.pipeline.profile.PipelineStageMetrics;
 import org.opensearch.dataprepper.core.pipeline.router.Router;
 import org.opensearch.dataprepper.core.pipeline.router.RouterFactory;
 import org.opensearch.dataprepper.core.sourcecoordination.SourceCoordinatorFactory;
@@ -242,39 +243,28 @@ public class PipelineTransformer {
             final MultiBufferDecorator multiBufferDecorator = new MultiBufferDecorator(pipelineDefinedBuffer, secondaryBuffers);
 
 
-            final Buffer buffer = applyCircuitBreakerToBuffer(source, multiBufferDecorator);
+            final Buffer buffer = applyCircuitBreakerToBuffer(pipelineName, source, multiBufferDecorator);
 
             final Router router = routerFactory.createRouter(pipelineConfiguration.getRoutes());
 
+            final List<String> processorNames = processorSets.stream()
+                    .map(processorComponentList -> processorComponentList.get(0).getName())
+                    .collect(Collectors.toList());
+            final PipelineStageMetrics stageMetrics = new PipelineStageMetrics(pipelineName, processorNames,
+                    dataPrepperConfiguration.getPipelineProfilingConfig().getSampleInterval());
+
             final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, decoratedProcessorSets, sinks, router,
                     eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, processorThreads, readBatchDelay,
                     dataPrepperConfiguration.getProcessorShutdownTimeout(), dataPrepperConfiguration.getSinkShutdownTimeout(),
-                    getPeerForwarderDrainTimeout(dataPrepperConfiguration));
+                    getPeerForwarderDrainTimeout(dataPrepperConfiguration), stageMetrics,
+                    dataPrepperConfiguration.getPipelineThreadModel(), pipelineDefinedBuffer instanceof SupportsPipelineRunner);
 
 
             if (pipelineDefinedBuffer instanceof SupportsPipelineRunner) {
-                // Check if there are any processors with @SingleThread annotation
-                boolean hasSingleThreadedProcessors = processorSets.stream()
-                        .flatMap(List::stream)
-                        .map(IdentifiedComponent::getComponent)
-                        .map(Object::getClass)
-                        .anyMatch(processorClass -> processorClass.isAnnotationPresent(SingleThread.class));
-
-                // Only allow ZeroBuffer for single-threaded pipelines with no @SingleThread processors
-                if (processorThreads == 1 && !hasSingleThreadedProcessors) {
-                    ((SupportsPipelineRunner) pipelineDefinedBuffer).setPipelineRunner(
-                            new PipelineRunnerImpl(pipeline, pipeline.getSingleThreadUnsafeProcessorProvider()));
-                } else {
-                    if (hasSingleThreadedProcessors) {
-                        throw new IllegalStateException(
-                                "ZeroBuffer cannot be used with @SingleThread processors. " +
-                                        "Pipeline [" + pipelineName + "] contains one or more @SingleThread processors.");
-                    } else {
-                        throw new IllegalStateException(
-                                "ZeroBuffer cannot be used with multiple processor threads. " +
-                                        "Pipeline [" + pipelineName + "] is configured with " + processorThreads + " threads.");
-                    }
-                }
+                // Writing threads lease one of the pipeline's per-worker processor sets, so the number of workers
+                // bounds how many source threads can run the processors at once.
+                ((SupportsPipelineRunner) pipelineDefinedBuffer).setPipelineRunner(
+                        new PipelineRunnerImpl(pipeline, pipeline.getWriterProcessorProvider()));
             }
 
             pipelineMap.put(pipelineName, pipeline);
@@ -445,17 +435,22 @@ public class PipelineTransformer {
                 .collect(Collectors.toList());
     }
 
-    private Buffer applyCircuitBreakerToBuffer(final Source source, final Buffer buffer) {
+    private Buffer applyCircuitBreakerToBuffer(final String pipelineName, final Source source, final Buffer buffer) {
         if (source instanceof PipelineConnector)
             return buffer;
 
         if (buffer.isWrittenOffHeapOnly())
             return buffer;
 
-        return circuitBreakerManager.getGlobalCircuitBreaker()
+        final Buffer circuitBreakingBuffer = circuitBreakerManager.getGlobalCircuitBreaker()
                 .map(circuitBreaker -> new CircuitBreakingBuffer<>(buffer, circuitBreaker))
                 .map(b -> (Buffer) b)
                 .orElseGet(() -> buffer);
+
+        return circuitBreakerManager.getBackpressureController()
+                .map(controller -> new BackpressureBuffer<>(circuitBreakingBuffer, controller.registerPipeline(pipelineName, buffer)))
+                .map(b -> (Buffer) b)
+                .orElse(circuitBreakingBuffer);
     }
 
     private static class IdentifiedComponent<T> {
@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.parser.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Configuration for the adaptive backpressure controller. Each signal has a target value; the
+ * controller lowers the admission rate while any signal is above its target and raises it again
+ * once all signals are below their targets.
+ *
+ * @since 2.17
+ */
+public class AdaptiveBackpressureConfig {
+    static final Duration DEFAULT_CHECK_INTERVAL = Duration.ofSeconds(1);
+    static final double DEFAULT_HEAP_AFTER_GC_USAGE = 0.75;
+    static final double DEFAULT_GC_TIME_RATIO = 0.15;
+    static final double DEFAULT_BUFFER_USAGE = 0.8;
+    static final Duration DEFAULT_BATCH_LATENCY = Duration.ofSeconds(10);
+    static final double DEFAULT_DECREASE_FACTOR = 0.7;
+    static final double DEFAULT_INCREASE_RATIO = 0.1;
+    static final int DEFAULT_MINIMUM_RECORDS_PER_SECOND = 100;
+
+    @JsonProperty("check_interval")
+    private Duration checkInterval = DEFAULT_CHECK_INTERVAL;
+
+    @JsonProperty("heap_after_gc_usage")
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double heapAfterGcUsage = DEFAULT_HEAP_AFTER_GC_USAGE;
+
+    @JsonProperty("gc_time_ratio")
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double gcTimeRatio = DEFAULT_GC_TIME_RATIO;
+
+    @JsonProperty("buffer_usage")
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double bufferUsage = DEFAULT_BUFFER_USAGE;
+
+    @JsonProperty("batch_latency")
+    private Duration batchLatency = DEFAULT_BATCH_LATENCY;
+
+    @JsonProperty("decrease_factor")
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double decreaseFactor = DEFAULT_DECREASE_FACTOR;
+
+    @JsonProperty("increase_ratio")
+    @DecimalMin("0.0")
+    private double increaseRatio = DEFAULT_INCREASE_RATIO;
+
+    @JsonProperty("minimum_records_per_second")
+    @Min(1)
+    private int minimumRecordsPerSecond = DEFAULT_MINIMUM_RECORDS_PER_SECOND;
+
+    @JsonProperty("pipeline_shares")
+    private Map<String, Double> pipelineShares = Collections.emptyMap();
+
+    /**
+     * Gets the time between samples of the signals.
+     *
+     * @return The check interval
+     * @since 2.17
+     */
+    public Duration getCheckInterval() {
+        return checkInterval;
+    }
+
+    /**
+     * Gets the target fraction of the maximum heap which remains in use after garbage collection.
+     *
+     * @return The heap after GC target
+     * @since 2.17
+     */
+    public double getHeapAfterGcUsage() {
+        return heapAfterGcUsage;
+    }
+
+    /**
+     * Gets the target fraction of time the JVM spends in garbage collection. This is the
+     * allocation pressure signal.
+     *
+     * @return The GC time target
+     * @since 2.17
+     */
+    public double getGcTimeRatio() {
+        return gcTimeRatio;
+    }
+
+    /**
+     * Gets the target fraction of a pipeline's buffer capacity in use.
+     *
+     * @return The buffer usage target
+     * @since 2.17
+     */
+    public double getBufferUsage() {
+        return bufferUsage;
+    }
+
+    /**
+     * Gets the target time between reading a batch from a pipeline's buffer and checkpointing it,
+     * which covers the processors and the sinks.
+     *
+     * @return The batch latency target
+     * @since 2.17
+     */
+    public Duration getBatchLatency() {
+        return batchLatency;
+    }
+
+    /**
+     * Gets the factor applied to the admission rate when a signal is above its target.
+     *
+     * @return The multiplicative decrease factor
+     * @since 2.17
+     */
+    public double getDecreaseFactor() {
+        return decreaseFactor;
+    }
+
+    /**
+     * Gets the additive increase per check, as a fraction of the rate set by the last decrease.
+     *
+     * @return The additive increase ratio
+     * @since 2.17
+     */
+    public double getIncreaseRatio() {
+        return increaseRatio;
+    }
+
+    /**
+     * Gets the lowest admission rate the controller will set.
+     *
+     * @return The minimum rate in records per second
+     * @since 2.17
+     */
+    public int getMinimumRecordsPerSecond() {
+        return minimumRecordsPerSecond;
+    }
+
+    /**
+     * Gets the relative shares of the heap-bound admission rate by pipeline name. Pipelines
+     * which are not listed have a share of 1.
+     *
+     * @return The pipeline shares
+     * @since 2.17
+     */
+    public Map<String, Double> getPipelineShares() {
+        return pipelineShares;
+    }
+}
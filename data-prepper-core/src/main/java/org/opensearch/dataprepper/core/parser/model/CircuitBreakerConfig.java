@@ -10,6 +10,7 @@
 package org.opensearch.dataprepper.core.parser.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
 
 /**
  * The Data Prepper configuration for circuit breakers.
@@ -20,6 +21,10 @@ public class CircuitBreakerConfig {
     @JsonProperty("heap")
     private HeapCircuitBreakerConfig heapConfig;
 
+    @JsonProperty("adaptive")
+    @Valid
+    private AdaptiveBackpressureConfig adaptiveConfig;
+
     /**
      * Gets the configuration for the heap.
      *
@@ -29,4 +34,14 @@ public class CircuitBreakerConfig {
     public HeapCircuitBreakerConfig getHeapConfig() {
         return heapConfig;
     }
+
+    /**
+     * Gets the configuration for the adaptive backpressure controller.
+     *
+     * @return The adaptive backpressure configuration
+     * @since 2.17
+     */
+    public AdaptiveBackpressureConfig getAdaptiveConfig() {
+        return adaptiveConfig;
+    }
 }
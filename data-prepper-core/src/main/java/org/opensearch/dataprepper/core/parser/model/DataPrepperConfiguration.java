@@ -18,6 +18,7 @@ import com.fasterxml.jackson.annotation.Nulls;
 import org.opensearch.dataprepper.core.parser.config.MetricTagFilter;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.core.pipeline.PipelineShutdownOption;
+import org.opensearch.dataprepper.core.pipeline.PipelineThreadModel;
 import org.opensearch.dataprepper.event.EventConfiguration;
 import org.opensearch.dataprepper.event.EventConfigurationContainer;
 import org.opensearch.dataprepper.model.configuration.PipelineExtensions;
@@ -46,6 +47,7 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
     static final int MAX_TAGS_NUMBER = 3;
     private static final List<MetricRegistryType> DEFAULT_METRIC_REGISTRY_TYPE = Collections.singletonList(MetricRegistryType.Prometheus);
     private static final PipelineShutdownOption DEFAULT_PIPELINE_SHUTDOWN = PipelineShutdownOption.ON_ANY_PIPELINE_FAILURE;
+    private static final PipelineThreadModel DEFAULT_PIPELINE_THREAD_MODEL = PipelineThreadModel.PLATFORM;
     private int serverPort = 4900;
     private boolean ssl = true;
     private String keyStoreFilePath = "";
@@ -56,6 +58,7 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
     private CircuitBreakerConfig circuitBreakerConfig;
     private SourceCoordinationConfig sourceCoordinationConfig;
     private PipelineShutdownOption pipelineShutdown;
+    private PipelineThreadModel pipelineThreadModel = DEFAULT_PIPELINE_THREAD_MODEL;
     private EventConfiguration eventConfiguration;
     private Map<String, String> metricTags = new HashMap<>();
     private List<MetricTagFilter> metricTagFilters = new LinkedList<>();
@@ -65,6 +68,7 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
     private Duration processorShutdownTimeout;
     private Duration sinkShutdownTimeout;
     private ExperimentalConfiguration experimental;
+    private PipelineProfilingConfig pipelineProfilingConfig = new PipelineProfilingConfig();
     private PipelineExtensions pipelineExtensions;
     private String failurePipelineName = DEFAULT_FAILURE_PIPELINE_NAME;
 
@@ -110,8 +114,10 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
             @JsonProperty("circuit_breakers") final CircuitBreakerConfig circuitBreakerConfig,
             @JsonProperty("source_coordination") final SourceCoordinationConfig sourceCoordinationConfig,
             @JsonProperty("pipeline_shutdown") final PipelineShutdownOption pipelineShutdown,
+            @JsonProperty("pipeline_thread_model") final PipelineThreadModel pipelineThreadModel,
             @JsonProperty("event") final EventConfiguration eventConfiguration,
             @JsonProperty("experimental") final ExperimentalConfiguration experimental,
+            @JsonProperty("pipeline_profiling") final PipelineProfilingConfig pipelineProfilingConfig,
             @JsonProperty("extensions")
             @JsonInclude(JsonInclude.Include.NON_NULL)
             @JsonSetter(nulls = Nulls.SKIP)
@@ -122,6 +128,7 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
                 ? new SourceCoordinationConfig(new PluginModel(DEFAULT_SOURCE_COORDINATION_STORE, Collections.emptyMap()), null)
                 : sourceCoordinationConfig;
         this.pipelineShutdown = pipelineShutdown != null ? pipelineShutdown : DEFAULT_PIPELINE_SHUTDOWN;
+        this.pipelineThreadModel = pipelineThreadModel != null ? pipelineThreadModel : DEFAULT_PIPELINE_THREAD_MODEL;
         this.eventConfiguration = eventConfiguration != null ? eventConfiguration : EventConfiguration.defaultConfiguration();
         setSsl(ssl);
         this.keyStoreFilePath = keyStoreFilePath != null ? keyStoreFilePath : "";
@@ -145,6 +152,7 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
             throw new IllegalArgumentException("sinkShutdownTimeout must be non-negative.");
         }
         this.experimental = experimental != null ? experimental : ExperimentalConfiguration.defaultConfiguration();
+        this.pipelineProfilingConfig = pipelineProfilingConfig != null ? pipelineProfilingConfig : new PipelineProfilingConfig();
 
         this.pipelineExtensions = pipelineExtensions;
     }
@@ -264,10 +272,18 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
         return pipelineShutdown;
     }
 
+    public PipelineThreadModel getPipelineThreadModel() {
+        return pipelineThreadModel;
+    }
+
     public EventConfiguration getEventConfiguration() {
         return eventConfiguration;
     }
 
+    public PipelineProfilingConfig getPipelineProfilingConfig() {
+        return pipelineProfilingConfig;
+    }
+
     @Override
     public PipelineExtensions getPipelineExtensions() {
         return pipelineExtensions;
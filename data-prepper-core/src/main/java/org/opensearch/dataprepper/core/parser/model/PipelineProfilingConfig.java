@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.parser.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the per-stage latency metrics of the pipelines and the profile endpoint.
+ *
+ * @since 2.17
+ */
+public class PipelineProfilingConfig {
+    static final int DEFAULT_SAMPLE_INTERVAL = 0;
+    static final Duration DEFAULT_MAX_PROFILE_DURATION = Duration.ofMinutes(1);
+
+    @JsonProperty("sample_interval")
+    @Min(0)
+    private int sampleInterval = DEFAULT_SAMPLE_INTERVAL;
+
+    @JsonProperty("max_profile_duration")
+    private Duration maxProfileDuration = DEFAULT_MAX_PROFILE_DURATION;
+
+    /**
+     * Gets the number of batches each process worker reads between batches which it records in the stage latency
+     * histograms. Zero disables the histograms.
+     *
+     * @return The sample interval in batches
+     * @since 2.17
+     */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Gets the longest window which a single request to the profile endpoint may capture.
+     *
+     * @return The maximum profile duration
+     * @since 2.17
+     */
+    public Duration getMaxProfileDuration() {
+        return maxProfileDuration;
+    }
+}
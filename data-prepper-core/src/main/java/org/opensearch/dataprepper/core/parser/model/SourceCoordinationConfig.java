@@ -25,18 +25,31 @@ import java.util.Objects;
 public class SourceCoordinationConfig {
 
     private static final String SOURCE_COORDINATOR_METRIC_PREFIX = "source-coordinator";
+    static final int DEFAULT_PARTITION_ACQUISITION_BATCH_SIZE = 1;
     private final PluginSetting sourceCoordinationStoreConfig;
     private final String partitionPrefix;
+    private final int partitionAcquisitionBatchSize;
+
+    public SourceCoordinationConfig(final PluginModel sourceCoordinationStoreConfig,
+                                    final String partitionPrefix) {
+        this(sourceCoordinationStoreConfig, partitionPrefix, null);
+    }
 
     @JsonCreator
     public SourceCoordinationConfig(@JsonProperty("store") final PluginModel sourceCoordinationStoreConfig,
-                                    @JsonProperty("partition_prefix") final String partitionPrefix) {
+                                    @JsonProperty("partition_prefix") final String partitionPrefix,
+                                    @JsonProperty("partition_acquisition_batch_size") final Integer partitionAcquisitionBatchSize) {
         Objects.requireNonNull(sourceCoordinationStoreConfig, "source_coordination store must not be null");
+        if (partitionAcquisitionBatchSize != null && partitionAcquisitionBatchSize < 1) {
+            throw new IllegalArgumentException("source_coordination partition_acquisition_batch_size must be at least 1");
+        }
 
         this.sourceCoordinationStoreConfig = new PluginSetting(sourceCoordinationStoreConfig.getPluginName(), sourceCoordinationStoreConfig.getPluginSettings());
         this.sourceCoordinationStoreConfig.setPipelineName(SOURCE_COORDINATOR_METRIC_PREFIX);
 
         this.partitionPrefix = partitionPrefix;
+        this.partitionAcquisitionBatchSize = partitionAcquisitionBatchSize != null ?
+                partitionAcquisitionBatchSize : DEFAULT_PARTITION_ACQUISITION_BATCH_SIZE;
     }
 
     public PluginSetting getSourceCoordinationStoreConfig() {
@@ -46,4 +59,15 @@ public class SourceCoordinationConfig {
     public String getPartitionPrefix() {
         return partitionPrefix;
     }
+
+    /**
+     * The number of partitions to lease from the store in a single acquisition. Partitions beyond the first are
+     * held locally and handed out by later calls to get the next partition.
+     *
+     * @return the partition acquisition batch size
+     * @since 2.17
+     */
+    public int getPartitionAcquisitionBatchSize() {
+        return partitionAcquisitionBatchSize;
+    }
 }
@@ -15,6 +15,8 @@ import org.opensearch.dataprepper.core.acknowledgements.InactiveAcknowledgementS
 import org.opensearch.dataprepper.core.parser.DataFlowComponent;
 import org.opensearch.dataprepper.core.pipeline.common.PipelineThreadFactory;
 import org.opensearch.dataprepper.core.pipeline.common.PipelineThreadPoolExecutor;
+import org.opensearch.dataprepper.core.pipeline.common.VirtualThreadFactory;
+import org.opensearch.dataprepper.core.pipeline.profile.PipelineStageMetrics;
 import org.opensearch.dataprepper.core.pipeline.router.Router;
 import org.opensearch.dataprepper.core.pipeline.router.RouterCopyRecordStrategy;
 import org.opensearch.dataprepper.core.pipeline.router.RouterGetRecordStrategy;
@@ -61,7 +63,7 @@ import static java.lang.String.format;
 public class Pipeline implements HeadlessPipeline {
     private static final Logger LOG = LoggerFactory.getLogger(Pipeline.class);
     private static final int SINK_LOGGING_FREQUENCY = (int) Duration.ofSeconds(60).toMillis();
-    private final ProcessorRegistry singleThreadUnsafeProcessorRegistry;
+    private final ProcessorSetPool processorSetPool;
     private final PipelineShutdown pipelineShutdown;
     private final String name;
     private final Source source;
@@ -80,6 +82,9 @@ public class Pipeline implements HeadlessPipeline {
     private final ExecutorService sinkExecutorService;
     private final EventFactory eventFactory;
     private final AcknowledgementSetManager acknowledgementSetManager;
+    private final PipelineStageMetrics stageMetrics;
+    private final PipelineThreadModel threadModel;
+    private final boolean runsProcessorsOnWritingThreads;
     private volatile boolean sourceStarted = false;
     private final List<PipelineObserver> observers = Collections.synchronizedList(new LinkedList<>());
 
@@ -121,6 +126,98 @@ public class Pipeline implements HeadlessPipeline {
             final Duration processorShutdownTimeout,
             final Duration sinkShutdownTimeout,
             final Duration peerForwarderDrainTimeout) {
+        this(name, source, buffer, processorSets, sinks, router, eventFactory, acknowledgementSetManager,
+                sourceCoordinatorFactory, processorThreads, readBatchTimeoutInMillis, processorShutdownTimeout,
+                sinkShutdownTimeout, peerForwarderDrainTimeout, null);
+    }
+
+    /**
+     * Constructs a {@link Pipeline} as {@link #Pipeline(String, Source, Buffer, List, List, Router, EventFactory,
+     * AcknowledgementSetManager, SourceCoordinatorFactory, int, int, Duration, Duration, Duration)} does, recording
+     * the latency of its stages into the given {@link PipelineStageMetrics}.
+     *
+     * @param stageMetrics the per-stage metrics of this pipeline, or null to record only while profiling
+     */
+    public Pipeline(
+            @Nonnull final String name,
+            @Nonnull final Source source,
+            @Nonnull final Buffer buffer,
+            @Nonnull final List<List<Processor>> processorSets,
+            @Nonnull final List<DataFlowComponent<Sink>> sinks,
+            @Nonnull final Router router,
+            @Nonnull final EventFactory eventFactory,
+            @Nonnull final AcknowledgementSetManager acknowledgementSetManager,
+            final SourceCoordinatorFactory sourceCoordinatorFactory,
+            final int processorThreads,
+            final int readBatchTimeoutInMillis,
+            final Duration processorShutdownTimeout,
+            final Duration sinkShutdownTimeout,
+            final Duration peerForwarderDrainTimeout,
+            final PipelineStageMetrics stageMetrics) {
+        this(name, source, buffer, processorSets, sinks, router, eventFactory, acknowledgementSetManager,
+                sourceCoordinatorFactory, processorThreads, readBatchTimeoutInMillis, processorShutdownTimeout,
+                sinkShutdownTimeout, peerForwarderDrainTimeout, stageMetrics, null);
+    }
+
+    /**
+     * Constructs a {@link Pipeline} as {@link #Pipeline(String, Source, Buffer, List, List, Router, EventFactory,
+     * AcknowledgementSetManager, SourceCoordinatorFactory, int, int, Duration, Duration, Duration, PipelineStageMetrics)}
+     * does, running its process workers and sink outputs on the threads of the given {@link PipelineThreadModel}.
+     *
+     * @param threadModel the kind of threads for the process workers and sink outputs, or null for platform threads
+     * @throws UnsupportedOperationException if the thread model is {@link PipelineThreadModel#VIRTUAL} and the running
+     *                                       JVM does not support virtual threads
+     */
+    public Pipeline(
+            @Nonnull final String name,
+            @Nonnull final Source source,
+            @Nonnull final Buffer buffer,
+            @Nonnull final List<List<Processor>> processorSets,
+            @Nonnull final List<DataFlowComponent<Sink>> sinks,
+            @Nonnull final Router router,
+            @Nonnull final EventFactory eventFactory,
+            @Nonnull final AcknowledgementSetManager acknowledgementSetManager,
+            final SourceCoordinatorFactory sourceCoordinatorFactory,
+            final int processorThreads,
+            final int readBatchTimeoutInMillis,
+            final Duration processorShutdownTimeout,
+            final Duration sinkShutdownTimeout,
+            final Duration peerForwarderDrainTimeout,
+            final PipelineStageMetrics stageMetrics,
+            final PipelineThreadModel threadModel) {
+        this(name, source, buffer, processorSets, sinks, router, eventFactory, acknowledgementSetManager,
+                sourceCoordinatorFactory, processorThreads, readBatchTimeoutInMillis, processorShutdownTimeout,
+                sinkShutdownTimeout, peerForwarderDrainTimeout, stageMetrics, threadModel,
+                buffer instanceof SupportsPipelineRunner);
+    }
+
+    /**
+     * Constructs a {@link Pipeline} as {@link #Pipeline(String, Source, Buffer, List, List, Router, EventFactory,
+     * AcknowledgementSetManager, SourceCoordinatorFactory, int, int, Duration, Duration, Duration, PipelineStageMetrics,
+     * PipelineThreadModel)} does, for a buffer which may be decorated. The buffer passed in is usually wrapped, so it
+     * cannot tell whether the buffer defined by the pipeline runs the processors on the writing threads.
+     *
+     * @param runsProcessorsOnWritingThreads true if the buffer defined by the pipeline, such as the zero buffer,
+     *                                       runs the processors on the threads writing to it
+     */
+    public Pipeline(
+            @Nonnull final String name,
+            @Nonnull final Source source,
+            @Nonnull final Buffer buffer,
+            @Nonnull final List<List<Processor>> processorSets,
+            @Nonnull final List<DataFlowComponent<Sink>> sinks,
+            @Nonnull final Router router,
+            @Nonnull final EventFactory eventFactory,
+            @Nonnull final AcknowledgementSetManager acknowledgementSetManager,
+            final SourceCoordinatorFactory sourceCoordinatorFactory,
+            final int processorThreads,
+            final int readBatchTimeoutInMillis,
+            final Duration processorShutdownTimeout,
+            final Duration sinkShutdownTimeout,
+            final Duration peerForwarderDrainTimeout,
+            final PipelineStageMetrics stageMetrics,
+            final PipelineThreadModel threadModel,
+            final boolean runsProcessorsOnWritingThreads) {
         Preconditions.checkArgument(processorSets.stream().allMatch(
                 processorSet -> Objects.nonNull(processorSet) && (processorSet.size() == 1 || processorSet.size() == processorThreads)));
         this.name = name;
@@ -138,15 +235,33 @@ public class Pipeline implements HeadlessPipeline {
         this.processorShutdownTimeout = processorShutdownTimeout;
         this.sinkShutdownTimeout = sinkShutdownTimeout;
         this.peerForwarderDrainTimeout = peerForwarderDrainTimeout;
-        this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
-                new PipelineThreadFactory(format("%s-processor-worker", name)), this);
-
-        // TODO: allow this to be configurable as well?
-        this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
-                new PipelineThreadFactory(format("%s-sink-worker", name)), this);
+        this.runsProcessorsOnWritingThreads = runsProcessorsOnWritingThreads;
+        this.threadModel = threadModel != null ? threadModel : PipelineThreadModel.PLATFORM;
+        if (this.threadModel == PipelineThreadModel.VIRTUAL) {
+            // Each process worker still holds its own processor set, so the workers stay a fixed pool. Sink outputs
+            // get a virtual thread each, which the process worker joins before reading its next batch.
+            this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
+                    VirtualThreadFactory.create(format("%s-processor-worker", name)), this);
+            this.sinkExecutorService = PipelineThreadPoolExecutor.newThreadPerTaskExecutor(
+                    VirtualThreadFactory.create(format("%s-sink-worker", name)), this);
+        } else {
+            this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
+                    new PipelineThreadFactory(format("%s-processor-worker", name)), this);
+
+            // TODO: allow this to be configurable as well?
+            this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
+                    new PipelineThreadFactory(format("%s-sink-worker", name)), this);
+        }
 
         this.pipelineShutdown = new PipelineShutdown(name, buffer);
-        this.singleThreadUnsafeProcessorRegistry = new ProcessorRegistry(List.of());
+        this.processorSetPool = new ProcessorSetPool(processorThreads);
+        this.stageMetrics = stageMetrics != null ? stageMetrics : new PipelineStageMetrics(name, getProcessorNames(processorSets), 0);
+    }
+
+    private static List<String> getProcessorNames(final List<List<Processor>> processorSets) {
+        return processorSets.stream()
+                .map(processorSet -> processorSet.isEmpty() ? "unknown" : processorSet.get(0).getClass().getSimpleName())
+                .collect(Collectors.toList());
     }
 
     /**
@@ -213,17 +328,49 @@ public class Pipeline implements HeadlessPipeline {
 
 
     /**
-     * Gets a {@link ProcessorRegistry} which can be used for processors
-     * that are not annotated with {@link org.opensearch.dataprepper.model.annotations.SingleThread}.
+     * Gets a {@link ProcessorProvider} for buffers which run the processors on the writing thread. It leases one
+     * processor set per worker, so each set is used by a single thread at a time, including the sets holding
+     * {@link org.opensearch.dataprepper.model.annotations.SingleThread} processor instances.
      *
      * @return The {@link ProcessorProvider}
      */
+    public ProcessorProvider getWriterProcessorProvider() {
+        return processorSetPool;
+    }
+
+    /**
+     * Gets the {@link ProcessorProvider} for buffers which run the processors on the writing thread.
+     *
+     * @return The {@link ProcessorProvider}
+     * @deprecated use {@link #getWriterProcessorProvider()}
+     */
+    @Deprecated
     public ProcessorProvider getSingleThreadUnsafeProcessorProvider() {
-        return singleThreadUnsafeProcessorRegistry;
+        return getWriterProcessorProvider();
     }
 
+    /**
+     * Swaps the processors which buffers running the processors on the writing thread execute. Process workers
+     * reading from other buffers keep their own processors.
+     *
+     * @param newProcessors processors which must be safe to execute from multiple threads
+     */
     public void swapProcessors(List<Processor> newProcessors) {
-        singleThreadUnsafeProcessorRegistry.swapProcessors(newProcessors);
+        processorSetPool.swapProcessors(newProcessors);
+    }
+
+    /**
+     * @return the per-stage latency metrics of this pipeline
+     */
+    public PipelineStageMetrics getStageMetrics() {
+        return stageMetrics;
+    }
+
+    /**
+     * @return the kind of threads on which this pipeline runs its process workers and sink outputs
+     */
+    public PipelineThreadModel getThreadModel() {
+        return threadModel;
     }
 
     public int getReadBatchTimeoutInMillis() {
@@ -257,13 +404,10 @@ public class Pipeline implements HeadlessPipeline {
         if (isStopRequested()) {
             return;
         }
-        LOG.info("Pipeline [{}] Sink is ready, starting source...", name);
-        source.start(buffer);
-        sourceStarted = true;
-        LOG.info("Pipeline [{}] - Source started, pipeline ready for traffic", name);
+        final List<List<Processor>> workerProcessorSets = new ArrayList<>(processorThreads);
         for (int i = 0; i < processorThreads; i++) {
             final int finalI = i;
-            final List<Processor> processors = processorSets.stream().map(
+            workerProcessorSets.add(processorSets.stream().map(
                     processorSet -> {
                         if (processorSet.size() == 1) {
                             return processorSet.get(0);
@@ -271,12 +415,24 @@ public class Pipeline implements HeadlessPipeline {
                             return processorSet.get(finalI);
                         }
                     }
-            ).collect(Collectors.toList());
-            final ProcessorRegistry workerSpecificProcessorRegistry = new ProcessorRegistry(processors);
-            processorExecutorService.submit(new ProcessWorker(buffer, this, workerSpecificProcessorRegistry));
-
-            // This registry is for the zero buffer
-            this.singleThreadUnsafeProcessorRegistry.swapProcessors(processors);
+            ).collect(Collectors.toList()));
+        }
+        // Buffers such as the zero buffer run processors on the writing threads, which lease the workers'
+        // processor sets from the pool. The sets are pooled before the source starts writing.
+        if (runsProcessorsOnWritingThreads) {
+            workerProcessorSets.forEach(processorSetPool::addProcessorSet);
+        }
+        LOG.info("Pipeline [{}] Sink is ready, starting source...", name);
+        source.start(buffer);
+        sourceStarted = true;
+        LOG.info("Pipeline [{}] - Source started, pipeline ready for traffic", name);
+        for (final List<Processor> processors : workerProcessorSets) {
+            if (runsProcessorsOnWritingThreads) {
+                processorExecutorService.submit(new ProcessWorker(buffer, this, processors, processorSetPool));
+            } else {
+                final ProcessorRegistry workerSpecificProcessorRegistry = new ProcessorRegistry(processors);
+                processorExecutorService.submit(new ProcessWorker(buffer, this, workerSpecificProcessorRegistry));
+            }
         }
     }
 
@@ -9,6 +9,8 @@
 
 package org.opensearch.dataprepper.core.pipeline;
 
+import java.util.concurrent.TimeoutException;
+
 /**
  * Pipeline Runner interface encapsulates the functionalities of reading from buffer,
  * executing the processors and publishing to sinks to provide both synchronous and
@@ -17,5 +19,16 @@ package org.opensearch.dataprepper.core.pipeline;
 public interface PipelineRunner {
     void runAllProcessorsAndPublishToSinks();
 
+    /**
+     * Runs the processors and publishes to the sinks as {@link #runAllProcessorsAndPublishToSinks()} does, waiting
+     * at most the given time for the processors when another thread is executing them.
+     *
+     * @param timeoutInMillis the maximum time to wait for the processors
+     * @throws TimeoutException if the processors did not become available in time
+     */
+    default void runAllProcessorsAndPublishToSinks(int timeoutInMillis) throws TimeoutException {
+        runAllProcessorsAndPublishToSinks();
+    }
+
     Pipeline getPipeline();
 }
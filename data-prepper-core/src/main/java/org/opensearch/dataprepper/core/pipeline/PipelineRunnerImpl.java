@@ -13,6 +13,8 @@ import com.google.common.annotations.VisibleForTesting;
 import io.micrometer.core.instrument.Counter;
 import org.opensearch.dataprepper.core.pipeline.common.FutureHelper;
 import org.opensearch.dataprepper.core.pipeline.common.FutureHelperResult;
+import org.opensearch.dataprepper.core.pipeline.profile.PipelineStageMetrics;
+import org.opensearch.dataprepper.core.pipeline.profile.StageRecording;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.buffer.Buffer;
@@ -30,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 public class PipelineRunnerImpl implements PipelineRunner {
@@ -40,22 +43,61 @@ public class PipelineRunnerImpl implements PipelineRunner {
     private final Pipeline pipeline;
     private final PluginMetrics pluginMetrics;
     private final ProcessorProvider processorProvider;
+    private final PipelineStageMetrics.Sampler stageSampler;
 
     public PipelineRunnerImpl(final Pipeline pipeline, final ProcessorProvider processorProvider) {
         this.pipeline = pipeline;
         this.pluginMetrics = PluginMetrics.fromNames("PipelineRunner", pipeline.getName());
         this.processorProvider = processorProvider;
         this.invalidEventHandlesCounter = pluginMetrics.counter(INVALID_EVENT_HANDLES);
+        final PipelineStageMetrics stageMetrics = pipeline.getStageMetrics();
+        this.stageSampler = stageMetrics != null ? stageMetrics.createSampler() : null;
     }
 
     @Override
     public void runAllProcessorsAndPublishToSinks() {
+        final StageRecording stageRecording = stageSampler != null ? stageSampler.nextBatch() : null;
+        final Map.Entry<Collection, CheckpointState> recordsReadFromBuffer = readFromBuffer(stageRecording);
+        runProcessorsAndPublishToSinks(recordsReadFromBuffer, processorProvider.getProcessors(), stageRecording);
+    }
+
+    @Override
+    public void runAllProcessorsAndPublishToSinks(final int timeoutInMillis) throws TimeoutException {
+        final StageRecording stageRecording = stageSampler != null ? stageSampler.nextBatch() : null;
+        // The batch is read before waiting for the processors, so a write which times out leaves nothing behind
+        // in a zero buffer for the writer to duplicate when it retries.
+        final Map.Entry<Collection, CheckpointState> recordsReadFromBuffer = readFromBuffer(stageRecording);
+        runProcessorsAndPublishToSinks(recordsReadFromBuffer, processorProvider.getProcessors(timeoutInMillis), stageRecording);
+    }
+
+    private Map.Entry<Collection, CheckpointState> readFromBuffer(final StageRecording stageRecording) {
+        if (stageRecording != null) {
+            stageRecording.startStage();
+        }
         final Map.Entry<Collection, CheckpointState> recordsReadFromBuffer = readFromBuffer(getBuffer(), getPipeline());
+        if (stageRecording != null) {
+            stageRecording.endBufferRead(recordsReadFromBuffer.getKey().size());
+        }
+        return recordsReadFromBuffer;
+    }
+
+    private void runProcessorsAndPublishToSinks(final Map.Entry<Collection, CheckpointState> recordsReadFromBuffer,
+                                                final List<Processor> currentProcessors,
+                                                final StageRecording stageRecording) {
         Collection records = recordsReadFromBuffer.getKey();
         final CheckpointState checkpointState = recordsReadFromBuffer.getValue();
-        List<Processor> currentProcessors = processorProvider.getProcessors();
-        records = runProcessorsAndProcessAcknowledgements(currentProcessors, records);
+        try {
+            records = runProcessorsAndProcessAcknowledgements(currentProcessors, records, stageRecording);
+        } finally {
+            processorProvider.releaseProcessors(currentProcessors);
+        }
+        if (stageRecording != null) {
+            stageRecording.startStage();
+        }
         postToSink(getPipeline(), records);
+        if (stageRecording != null) {
+            stageRecording.endSinkPublish(records.size());
+        }
         // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
         getBuffer().checkpoint(checkpointState);
     }
@@ -96,8 +138,14 @@ public class PipelineRunnerImpl implements PipelineRunner {
 
     @VisibleForTesting
     Collection runProcessorsAndProcessAcknowledgements(List<Processor> processors, Collection records) {
+        return runProcessorsAndProcessAcknowledgements(processors, records, null);
+    }
+
+    private Collection runProcessorsAndProcessAcknowledgements(final List<Processor> processors, Collection records,
+                                                               final StageRecording stageRecording) {
         //Should Empty list from buffer should be sent to the processors? For now sending as the Stateful processors expects it.
-        for (final Processor processor : processors) {
+        for (int position = 0; position < processors.size(); position++) {
+            final Processor processor = processors.get(position);
 
             List<Event> inputEvents = null;
             if (getPipeline().areAcknowledgementsEnabled()) {
@@ -105,7 +153,14 @@ public class PipelineRunnerImpl implements PipelineRunner {
             }
 
             try {
-                records = processor.execute(records);
+                if (stageRecording != null) {
+                    final int recordsIn = records.size();
+                    stageRecording.startStage();
+                    records = processor.execute(records);
+                    stageRecording.endProcessor(position, recordsIn, records.size());
+                } else {
+                    records = processor.execute(records);
+                }
                 // acknowledge missing events only if the processor is not holding events
                 if (!processor.holdsEvents() && inputEvents != null) {
                     processAcknowledgements(inputEvents, records);
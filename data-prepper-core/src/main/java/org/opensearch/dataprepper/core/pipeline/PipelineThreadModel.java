@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The kind of threads on which a {@link Pipeline} runs its process workers and publishes to its sinks.
+ *
+ * @since 2.17
+ */
+public enum PipelineThreadModel {
+    /**
+     * A fixed pool of platform threads for the process workers and another for the sink outputs.
+     */
+    PLATFORM("platform"),
+    /**
+     * A virtual thread for each process worker and for each sink output. Requires Java 21 or later.
+     */
+    VIRTUAL("virtual");
+
+    private static final Map<String, PipelineThreadModel> OPTION_NAMES_MAP = Arrays.stream(PipelineThreadModel.values())
+            .collect(Collectors.toMap(
+                    value -> value.optionName,
+                    value -> value
+            ));
+    private final String optionName;
+
+    PipelineThreadModel(final String optionName) {
+        this.optionName = optionName;
+    }
+
+    public String getOptionName() {
+        return optionName;
+    }
+
+    @JsonCreator
+    static PipelineThreadModel fromOptionName(final String optionName) {
+        return OPTION_NAMES_MAP.get(optionName);
+    }
+}
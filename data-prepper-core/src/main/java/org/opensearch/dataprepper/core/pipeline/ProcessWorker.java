@@ -15,6 +15,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 @SuppressWarnings({"rawtypes"})
 public class ProcessWorker implements Runnable {
@@ -25,6 +26,7 @@ public class ProcessWorker implements Runnable {
     private final Pipeline pipeline;
 
     private final PipelineRunner pipelineRunner;
+    private final ProcessorSetPool processorSetPool;
 
     public ProcessWorker(
             final Buffer readBuffer,
@@ -34,6 +36,26 @@ public class ProcessWorker implements Runnable {
         this.processors = processorProvider.getProcessors();
         this.pipeline = pipeline;
         this.pipelineRunner = new PipelineRunnerImpl(pipeline, processorProvider);
+        this.processorSetPool = null;
+    }
+
+    /**
+     * Creates a worker whose processors are in a {@link ProcessorSetPool} shared with the threads writing to the
+     * buffer. The worker leases a set from the pool for each batch and leases its own set to prepare it for shutdown.
+     *
+     * @param processors       this worker's processor set, which must have been added to the pool
+     * @param processorSetPool the pool holding the processor sets of the pipeline
+     */
+    ProcessWorker(
+            final Buffer readBuffer,
+            final Pipeline pipeline,
+            final List<Processor> processors,
+            final ProcessorSetPool processorSetPool) {
+        this.readBuffer = readBuffer;
+        this.processors = processors;
+        this.pipeline = pipeline;
+        this.pipelineRunner = new PipelineRunnerImpl(pipeline, processorSetPool);
+        this.processorSetPool = processorSetPool;
     }
 
     @Override
@@ -69,7 +91,10 @@ public class ProcessWorker implements Runnable {
 
         // Phase 4 - prepare processors for shutdown
         LOG.info("Beginning processor shutdown phase 4, preparing processors for shutdown.");
-        processors.forEach(Processor::prepareForShutdown);
+        withOwnProcessors(() -> {
+            processors.forEach(Processor::prepareForShutdown);
+            return null;
+        });
         LOG.info("Processor shutdown phase 4 complete.");
 
         // Phase 5 - execute until processors are ready to shutdown
@@ -85,9 +110,21 @@ public class ProcessWorker implements Runnable {
     }
 
     private boolean areComponentsReadyForShutdown() {
-        return isBufferReadyForShutdown() && processors.stream()
+        return isBufferReadyForShutdown() && withOwnProcessors(() -> processors.stream()
                 .map(Processor::isReadyForShutdown)
-                .allMatch(result -> result);
+                .allMatch(result -> result));
+    }
+
+    private <T> T withOwnProcessors(final Supplier<T> action) {
+        if (processorSetPool == null) {
+            return action.get();
+        }
+        processorSetPool.leaseProcessorSet(processors);
+        try {
+            return action.get();
+        } finally {
+            processorSetPool.releaseProcessors(processors);
+        }
     }
 
     private boolean isBufferReadyForShutdown() {
@@ -12,7 +12,27 @@ package org.opensearch.dataprepper.core.pipeline;
 import org.opensearch.dataprepper.model.processor.Processor;
 
 import java.util.List;
+import java.util.concurrent.TimeoutException;
 
 public interface ProcessorProvider {
     List<Processor> getProcessors();
+
+    /**
+     * Gets the processors, waiting at most the given time if they are in use by other threads.
+     *
+     * @param timeoutInMillis the maximum time to wait for the processors
+     * @return the processors, which are returned through {@link #releaseProcessors(List)}
+     * @throws TimeoutException if the processors did not become available in time
+     */
+    default List<Processor> getProcessors(int timeoutInMillis) throws TimeoutException {
+        return getProcessors();
+    }
+
+    /**
+     * Returns processors obtained from {@link #getProcessors()} once the caller has finished executing them.
+     *
+     * @param processors the processors returned by {@link #getProcessors()}
+     */
+    default void releaseProcessors(List<Processor> processors) {
+    }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline;
+
+import org.opensearch.dataprepper.model.processor.Processor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool of processor sets for buffers which run the processors on the thread writing to the buffer, such as the
+ * zero buffer. {@link #getProcessors()} leases a whole set to the calling thread until it is handed back with
+ * {@link #releaseProcessors(List)}, so no two threads execute the same processor instances at the same time.
+ * A thread which finds every set leased waits until one is released, or until its timeout expires when it
+ * leases through {@link #getProcessors(int)}.
+ */
+@SuppressWarnings({"rawtypes"})
+public class ProcessorSetPool implements ProcessorProvider {
+    private final int capacity;
+    private final List<List<Processor>> pooledProcessorSets;
+    private final Deque<List<Processor>> availableProcessorSets;
+    private final ReentrantLock lock;
+    private final Condition processorSetReleased;
+    private volatile List<Processor> swappedProcessors;
+
+    public ProcessorSetPool(final int capacity) {
+        this.capacity = capacity;
+        this.pooledProcessorSets = new ArrayList<>(capacity);
+        this.availableProcessorSets = new ArrayDeque<>(capacity);
+        this.lock = new ReentrantLock();
+        this.processorSetReleased = lock.newCondition();
+    }
+
+    public void addProcessorSet(final List<Processor> processorSet) {
+        Objects.requireNonNull(processorSet, "Processor set cannot be null");
+        lock.lock();
+        try {
+            if (pooledProcessorSets.size() == capacity) {
+                throw new IllegalStateException("Processor set pool is already full");
+            }
+            pooledProcessorSets.add(processorSet);
+            availableProcessorSets.add(processorSet);
+            processorSetReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces every processor set with a single list which all threads share from then on.
+     *
+     * @param newProcessors processors which must be safe to execute from multiple threads
+     */
+    public void swapProcessors(final List<Processor> newProcessors) {
+        Objects.requireNonNull(newProcessors, "New processors list cannot be null");
+        this.swappedProcessors = new ArrayList<>(newProcessors);
+    }
+
+    @Override
+    public List<Processor> getProcessors() {
+        final List<Processor> currentSwappedProcessors = swappedProcessors;
+        if (currentSwappedProcessors != null) {
+            return currentSwappedProcessors;
+        }
+        lock.lock();
+        try {
+            while (availableProcessorSets.isEmpty()) {
+                processorSetReleased.await();
+            }
+            return leaseAvailableProcessorSet();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a processor set", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Processor> getProcessors(final int timeoutInMillis) throws TimeoutException {
+        final List<Processor> currentSwappedProcessors = swappedProcessors;
+        if (currentSwappedProcessors != null) {
+            return currentSwappedProcessors;
+        }
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+            while (availableProcessorSets.isEmpty()) {
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException("Timed out after " + timeoutInMillis + "ms waiting for a processor set");
+                }
+                remainingNanos = processorSetReleased.awaitNanos(remainingNanos);
+            }
+            return leaseAvailableProcessorSet();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a processor set", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Leases the given processor set, waiting until the thread currently executing it releases it. Process workers
+     * use this to prepare their own processors for shutdown without racing a writing thread.
+     *
+     * @param processorSet a processor set added with {@link #addProcessorSet(List)}
+     */
+    public void leaseProcessorSet(final List<Processor> processorSet) {
+        lock.lock();
+        try {
+            if (!containsInstance(pooledProcessorSets, processorSet)) {
+                throw new IllegalArgumentException("Processor set is not part of this pool");
+            }
+            while (!removeInstance(availableProcessorSets, processorSet)) {
+                processorSetReleased.await();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a processor set", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void releaseProcessors(final List<Processor> processors) {
+        lock.lock();
+        try {
+            if (containsInstance(pooledProcessorSets, processors) && !containsInstance(availableProcessorSets, processors)) {
+                availableProcessorSets.add(processors);
+                processorSetReleased.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getAvailableProcessorSets() {
+        lock.lock();
+        try {
+            return availableProcessorSets.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Processor> leaseAvailableProcessorSet() {
+        final List<Processor> processorSet = availableProcessorSets.poll();
+        if (swappedProcessors != null) {
+            availableProcessorSets.add(processorSet);
+            processorSetReleased.signalAll();
+            return swappedProcessors;
+        }
+        return processorSet;
+    }
+
+    private static boolean containsInstance(final Iterable<List<Processor>> processorSets, final List<Processor> processorSet) {
+        for (final List<Processor> candidate : processorSets) {
+            if (candidate == processorSet) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean removeInstance(final Iterable<List<Processor>> processorSets, final List<Processor> processorSet) {
+        final Iterator<List<Processor>> iterator = processorSets.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == processorSet) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+}
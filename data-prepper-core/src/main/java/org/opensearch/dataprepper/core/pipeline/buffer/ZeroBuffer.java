@@ -65,7 +65,7 @@ public class ZeroBuffer<T extends Record<?>> implements Buffer<T>, SupportsPipel
         threadLocalStore.get().add(record);
         writeRecordsCounter.increment();
 
-        getPipelineRunner().runAllProcessorsAndPublishToSinks();
+        getPipelineRunner().runAllProcessorsAndPublishToSinks(timeoutInMillis);
     }
 
     @Override
@@ -82,7 +82,7 @@ public class ZeroBuffer<T extends Record<?>> implements Buffer<T>, SupportsPipel
         }
 
         writeRecordsCounter.increment((double) records.size());
-        getPipelineRunner().runAllProcessorsAndPublishToSinks();
+        getPipelineRunner().runAllProcessorsAndPublishToSinks(timeoutInMillis);
     }
 
     @Override
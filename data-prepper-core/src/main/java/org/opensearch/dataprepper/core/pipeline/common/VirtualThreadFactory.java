@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.common;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates {@link ThreadFactory} instances for named virtual threads. Data Prepper compiles against Java 11, so the
+ * {@code Thread.ofVirtual()} builder is looked up reflectively and is only available when running on Java 21 or later.
+ */
+public final class VirtualThreadFactory {
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+        } catch (final ClassNotFoundException | NoSuchMethodException e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+    }
+
+    private VirtualThreadFactory() {
+    }
+
+    /**
+     * @return true if the running JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a factory of virtual threads named with the given prefix followed by an increasing number.
+     *
+     * @param namePrefix The prefix of the thread names
+     * @return A new {@link ThreadFactory}
+     * @throws UnsupportedOperationException if the running JVM does not support virtual threads
+     */
+    public static ThreadFactory create(final String namePrefix) {
+        if (OF_VIRTUAL == null) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads require Java 21 or later. The running Java version is " + Runtime.version() + ".");
+        }
+        try {
+            final Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix + "-thread-", 1L);
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (final ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Unable to create a virtual thread factory.", e);
+        }
+    }
+}
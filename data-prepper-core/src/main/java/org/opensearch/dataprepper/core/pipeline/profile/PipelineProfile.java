@@ -0,0 +1,138 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.profile;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The time, allocation and batch sizes of each stage of a pipeline, collected from every batch which the process
+ * workers run while the profile is active.
+ */
+public class PipelineProfile {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final String pipelineName;
+    private final StageStatistics bufferRead;
+    private final List<StageStatistics> processors;
+    private final StageStatistics sinkPublish;
+    private final long startNanos;
+    private volatile long endNanos;
+
+    PipelineProfile(final String pipelineName, final List<String> processorNames) {
+        this.pipelineName = pipelineName;
+        this.bufferRead = new StageStatistics();
+        this.processors = new ArrayList<>(processorNames.size());
+        for (int i = 0; i < processorNames.size(); i++) {
+            processors.add(new StageStatistics());
+        }
+        this.sinkPublish = new StageStatistics();
+        this.startNanos = System.nanoTime();
+    }
+
+    void finish() {
+        endNanos = System.nanoTime();
+    }
+
+    StageStatistics getBufferRead() {
+        return bufferRead;
+    }
+
+    StageStatistics getProcessor(final int position) {
+        return position < processors.size() ? processors.get(position) : null;
+    }
+
+    StageStatistics getSinkPublish() {
+        return sinkPublish;
+    }
+
+    /**
+     * Gets the statistics as a map which serializes to the JSON returned by the profile endpoint.
+     *
+     * @param processorNames The names of the processors by position
+     * @return The profile report
+     */
+    public Map<String, Object> toReport(final List<String> processorNames) {
+        final long elapsedNanos = (endNanos != 0 ? endNanos : System.nanoTime()) - startNanos;
+        long totalProcessorNanos = 0;
+        for (final StageStatistics processor : processors) {
+            totalProcessorNanos += processor.totalNanos.sum();
+        }
+
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("pipeline", pipelineName);
+        report.put("duration", Duration.ofNanos(elapsedNanos).toString());
+        report.put("batches", bufferRead.invocations.sum());
+        report.put("buffer_read", bufferRead.toReport(-1));
+
+        final List<Map<String, Object>> processorReports = new ArrayList<>(processors.size());
+        for (int i = 0; i < processors.size(); i++) {
+            final Map<String, Object> processorReport = new LinkedHashMap<>();
+            processorReport.put("position", i);
+            processorReport.put("name", i < processorNames.size() ? processorNames.get(i) : null);
+            processorReport.putAll(processors.get(i).toReport(totalProcessorNanos));
+            processorReports.add(processorReport);
+        }
+        report.put("processors", processorReports);
+        report.put("sink_publish", sinkPublish.toReport(-1));
+        return report;
+    }
+
+    static class StageStatistics {
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder recordsIn = new LongAdder();
+        private final LongAdder recordsOut = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private volatile boolean allocationUnsupported;
+
+        void record(final long nanos, final long allocated, final int in, final int out) {
+            invocations.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            recordsIn.add(in);
+            recordsOut.add(out);
+            if (allocated < 0) {
+                allocationUnsupported = true;
+            } else {
+                allocatedBytes.add(allocated);
+            }
+        }
+
+        private Map<String, Object> toReport(final long totalNanosOfAllProcessors) {
+            final long count = invocations.sum();
+            final long nanos = totalNanos.sum();
+            final long in = recordsIn.sum();
+            final Map<String, Object> report = new LinkedHashMap<>();
+            report.put("invocations", count);
+            report.put("total_millis", nanos / NANOS_PER_MILLI);
+            report.put("mean_millis", count == 0 ? 0.0 : nanos / NANOS_PER_MILLI / count);
+            report.put("max_millis", maxNanos.get() / NANOS_PER_MILLI);
+            if (totalNanosOfAllProcessors >= 0) {
+                report.put("time_share", totalNanosOfAllProcessors == 0 ? 0.0 : (double) nanos / totalNanosOfAllProcessors);
+            }
+            report.put("records_in", in);
+            report.put("records_out", recordsOut.sum());
+            report.put("mean_batch_size", count == 0 ? 0.0 : (double) in / count);
+            if (!allocationUnsupported) {
+                final long bytes = allocatedBytes.sum();
+                report.put("allocated_bytes", bytes);
+                report.put("allocated_bytes_per_record", in == 0 ? 0.0 : (double) bytes / in);
+            }
+            return report;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.profile;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.metrics.MetricNames;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The per-stage latency of a pipeline: reading a batch from the buffer, each processor and publishing to the sinks.
+ * <p>
+ * The process workers record one batch in every {@code sampleInterval} batches into Micrometer timers with
+ * percentile histograms. While a {@link PipelineProfile} is active they record every batch into it, including the
+ * bytes allocated in each stage. When neither applies, a batch costs a counter increment and a volatile read.
+ */
+public class PipelineStageMetrics {
+    static final String METRICS_COMPONENT = "PipelineRunner";
+    static final String BUFFER_READ_LATENCY = "bufferReadLatency";
+    static final String PROCESSOR_LATENCY = "processorLatency";
+    static final String SINK_PUBLISH_LATENCY = "sinkPublishLatency";
+    static final String PROCESSOR_TAG = "processor";
+    static final String POSITION_TAG = "position";
+
+    private final String pipelineName;
+    private final List<String> processorNames;
+    private final int sampleInterval;
+    private final Timer bufferReadTimer;
+    private final List<Timer> processorTimers;
+    private final Timer sinkPublishTimer;
+    private final AtomicReference<PipelineProfile> activeProfile = new AtomicReference<>();
+
+    /**
+     * @param pipelineName   The name of the pipeline
+     * @param processorNames The names of the pipeline's processors by position
+     * @param sampleInterval The number of batches a worker reads per batch recorded in the timers, or zero to
+     *                       disable the timers
+     */
+    public PipelineStageMetrics(final String pipelineName, final List<String> processorNames, final int sampleInterval) {
+        if (sampleInterval < 0) {
+            throw new IllegalArgumentException("sampleInterval must be non-negative.");
+        }
+        this.pipelineName = pipelineName;
+        this.processorNames = Collections.unmodifiableList(new ArrayList<>(processorNames));
+        this.sampleInterval = sampleInterval;
+        if (sampleInterval > 0) {
+            bufferReadTimer = histogramTimer(BUFFER_READ_LATENCY).register(Metrics.globalRegistry);
+            processorTimers = new ArrayList<>(processorNames.size());
+            for (int i = 0; i < processorNames.size(); i++) {
+                processorTimers.add(histogramTimer(PROCESSOR_LATENCY)
+                        .tags(PROCESSOR_TAG, processorNames.get(i), POSITION_TAG, Integer.toString(i))
+                        .register(Metrics.globalRegistry));
+            }
+            sinkPublishTimer = histogramTimer(SINK_PUBLISH_LATENCY).register(Metrics.globalRegistry);
+        } else {
+            bufferReadTimer = null;
+            processorTimers = Collections.emptyList();
+            sinkPublishTimer = null;
+        }
+    }
+
+    public String getPipelineName() {
+        return pipelineName;
+    }
+
+    public List<String> getProcessorNames() {
+        return processorNames;
+    }
+
+    /**
+     * Creates a sampler for a single process worker, which counts the batches of that worker.
+     *
+     * @return A new {@link Sampler}
+     */
+    public Sampler createSampler() {
+        return new Sampler();
+    }
+
+    /**
+     * Starts recording every batch of the pipeline and schedules the end of the window, without blocking the
+     * calling thread.
+     *
+     * @param duration  The length of the profile window
+     * @param scheduler The executor which ends the profile and completes the returned future
+     * @return A future which completes with the finished profile when the window ends
+     * @throws IllegalStateException if a profile of this pipeline is already running
+     */
+    public CompletableFuture<PipelineProfile> profile(final Duration duration, final ScheduledExecutorService scheduler) {
+        final PipelineProfile profile = startProfile();
+        final CompletableFuture<PipelineProfile> finishedProfile = new CompletableFuture<>();
+        try {
+            scheduler.schedule(() -> {
+                stopProfile(profile);
+                finishedProfile.complete(profile);
+            }, duration.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            stopProfile(profile);
+            throw e;
+        }
+        return finishedProfile;
+    }
+
+    PipelineProfile startProfile() {
+        final PipelineProfile profile = new PipelineProfile(pipelineName, processorNames);
+        if (!activeProfile.compareAndSet(null, profile)) {
+            throw new IllegalStateException("A profile of pipeline " + pipelineName + " is already running.");
+        }
+        return profile;
+    }
+
+    void stopProfile(final PipelineProfile profile) {
+        activeProfile.compareAndSet(profile, null);
+        profile.finish();
+    }
+
+    Timer getBufferReadTimer() {
+        return bufferReadTimer;
+    }
+
+    List<Timer> getProcessorTimers() {
+        return processorTimers;
+    }
+
+    Timer getSinkPublishTimer() {
+        return sinkPublishTimer;
+    }
+
+    private Timer.Builder histogramTimer(final String name) {
+        return Timer.builder(pipelineName + MetricNames.DELIMITER + METRICS_COMPONENT + MetricNames.DELIMITER + name)
+                .publishPercentileHistogram();
+    }
+
+    /**
+     * Decides which batches of one process worker are recorded.
+     */
+    public class Sampler {
+        private int batchesSinceSample;
+
+        private Sampler() {
+        }
+
+        /**
+         * @return The recording for the next batch, or null when the batch is neither sampled nor profiled
+         */
+        public StageRecording nextBatch() {
+            boolean sampled = false;
+            if (sampleInterval > 0 && ++batchesSinceSample >= sampleInterval) {
+                batchesSinceSample = 0;
+                sampled = true;
+            }
+            final PipelineProfile profile = activeProfile.get();
+            if (!sampled && profile == null) {
+                return null;
+            }
+            return new StageRecording(PipelineStageMetrics.this, sampled, profile);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.profile;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the stages of one batch: the buffer read, each processor and the sink publish. Each stage is timed
+ * between {@link #startStage()} and the matching end method. A recording is used by the thread which runs the
+ * batch only.
+ */
+public class StageRecording {
+    private final PipelineStageMetrics stageMetrics;
+    private final boolean sampled;
+    private final PipelineProfile profile;
+    private long stageStartNanos;
+    private long stageStartAllocatedBytes;
+
+    StageRecording(final PipelineStageMetrics stageMetrics, final boolean sampled, final PipelineProfile profile) {
+        this.stageMetrics = stageMetrics;
+        this.sampled = sampled;
+        this.profile = profile;
+    }
+
+    public void startStage() {
+        if (profile != null) {
+            stageStartAllocatedBytes = ThreadAllocation.currentThreadAllocatedBytes();
+        }
+        stageStartNanos = System.nanoTime();
+    }
+
+    public void endBufferRead(final int records) {
+        final long nanos = System.nanoTime() - stageStartNanos;
+        if (sampled) {
+            stageMetrics.getBufferReadTimer().record(nanos, TimeUnit.NANOSECONDS);
+        }
+        if (profile != null) {
+            profile.getBufferRead().record(nanos, allocatedSinceStart(), records, records);
+        }
+    }
+
+    public void endProcessor(final int position, final int recordsIn, final int recordsOut) {
+        final long nanos = System.nanoTime() - stageStartNanos;
+        if (sampled && position < stageMetrics.getProcessorTimers().size()) {
+            stageMetrics.getProcessorTimers().get(position).record(nanos, TimeUnit.NANOSECONDS);
+        }
+        if (profile != null) {
+            final PipelineProfile.StageStatistics processorStatistics = profile.getProcessor(position);
+            if (processorStatistics != null) {
+                processorStatistics.record(nanos, allocatedSinceStart(), recordsIn, recordsOut);
+            }
+        }
+    }
+
+    public void endSinkPublish(final int records) {
+        final long nanos = System.nanoTime() - stageStartNanos;
+        if (sampled) {
+            stageMetrics.getSinkPublishTimer().record(nanos, TimeUnit.NANOSECONDS);
+        }
+        if (profile != null) {
+            profile.getSinkPublish().record(nanos, allocatedSinceStart(), records, records);
+        }
+    }
+
+    private long allocatedSinceStart() {
+        if (stageStartAllocatedBytes < 0) {
+            return ThreadAllocation.UNSUPPORTED;
+        }
+        return ThreadAllocation.currentThreadAllocatedBytes() - stageStartAllocatedBytes;
+    }
+}
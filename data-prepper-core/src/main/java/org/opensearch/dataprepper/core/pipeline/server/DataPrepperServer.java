@@ -38,6 +38,7 @@ public class DataPrepperServer {
     private final GetPipelinesHandler getPipelinesHandler;
     private final ShutdownHandler shutdownHandler;
     private final ReadinessHandler readinessHandler;
+    private final PipelineProfileHandler pipelineProfileHandler;
     private final EncryptionHttpHandler encryptionHttpHandler;
     private final PrometheusMeterRegistry prometheusMeterRegistry;
     private final Authenticator authenticator;
@@ -51,6 +52,7 @@ public class DataPrepperServer {
             final ShutdownHandler shutdownHandler,
             final GetPipelinesHandler getPipelinesHandler,
             final ReadinessHandler readinessHandler,
+            final PipelineProfileHandler pipelineProfileHandler,
             @Autowired(required = false) @Nullable final EncryptionHttpHandler encryptionHttpHandler,
             @Autowired(required = false) @Nullable final PrometheusMeterRegistry prometheusMeterRegistry,
             @Autowired(required = false) @Nullable final Authenticator authenticator
@@ -60,6 +62,7 @@ public class DataPrepperServer {
         this.shutdownHandler = shutdownHandler;
         this.getPipelinesHandler = getPipelinesHandler;
         this.readinessHandler = readinessHandler;
+        this.pipelineProfileHandler = pipelineProfileHandler;
         this.encryptionHttpHandler = encryptionHttpHandler;
         this.prometheusMeterRegistry = prometheusMeterRegistry;
         this.authenticator = authenticator;
@@ -83,6 +86,7 @@ public class DataPrepperServer {
         createContext(server, shutdownHandler, authenticator, "/shutdown");
         createContext(server, getPipelinesHandler, authenticator, "/pipelines");
         createContext(server, readinessHandler, authenticator, "/ready");
+        createContext(server, pipelineProfileHandler, authenticator, "/profile");
 
         if (encryptionHttpHandler != null) {
             createContext(server, encryptionHttpHandler, authenticator, "/encryption/rotate");
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.opensearch.dataprepper.core.pipeline.Pipeline;
+import org.opensearch.dataprepper.core.pipeline.PipelinesProvider;
+import org.opensearch.dataprepper.core.pipeline.profile.PipelineProfile;
+import org.opensearch.dataprepper.core.pipeline.profile.PipelineStageMetrics;
+import org.opensearch.dataprepper.pipeline.parser.DataPrepperDurationParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.HttpMethod;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * HttpHandler which profiles a named pipeline for a bounded window and responds with the time, allocation and batch
+ * sizes of each of its stages. The handler returns as soon as the profile starts; the response is written from a
+ * scheduler thread when the window ends, so a profile does not hold one of the server's threads.
+ */
+public class PipelineProfileHandler implements HttpHandler {
+    static final String PIPELINE_PARAMETER = "pipeline";
+    static final String DURATION_PARAMETER = "duration";
+    static final Duration DEFAULT_PROFILE_DURATION = Duration.ofSeconds(10);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Logger LOG = LoggerFactory.getLogger(PipelineProfileHandler.class);
+
+    private final PipelinesProvider pipelinesProvider;
+    private final Duration maxProfileDuration;
+    private final ScheduledExecutorService scheduler;
+
+    public PipelineProfileHandler(final PipelinesProvider pipelinesProvider, final Duration maxProfileDuration) {
+        this(pipelinesProvider, maxProfileDuration, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "pipeline-profile-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    PipelineProfileHandler(final PipelinesProvider pipelinesProvider,
+                           final Duration maxProfileDuration,
+                           final ScheduledExecutorService scheduler) {
+        this.pipelinesProvider = pipelinesProvider;
+        this.maxProfileDuration = maxProfileDuration;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void handle(final HttpExchange exchange) throws IOException {
+        final String requestMethod = exchange.getRequestMethod();
+        if (!requestMethod.equals(HttpMethod.POST)) {
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_BAD_METHOD, 0);
+            exchange.getResponseBody().close();
+            return;
+        }
+
+        boolean responseScheduled = false;
+        try {
+            String pipelineName = null;
+            Duration duration = DEFAULT_PROFILE_DURATION;
+            final List<NameValuePair> queryParams = URLEncodedUtils.parse(exchange.getRequestURI(), StandardCharsets.UTF_8);
+            for (final NameValuePair queryParam : queryParams) {
+                if (PIPELINE_PARAMETER.equals(queryParam.getName())) {
+                    pipelineName = queryParam.getValue();
+                } else if (DURATION_PARAMETER.equals(queryParam.getName())) {
+                    duration = parseDuration(queryParam.getValue());
+                }
+            }
+
+            if (duration == null || duration.isNegative() || duration.isZero() || duration.compareTo(maxProfileDuration) > 0) {
+                sendResponse(exchange, HttpURLConnection.HTTP_BAD_REQUEST,
+                        String.format("The duration must be positive and no longer than %s.", maxProfileDuration));
+                return;
+            }
+
+            final Pipeline pipeline = pipelineName != null ? pipelinesProvider.getTransformationPipelines().get(pipelineName) : null;
+            if (pipeline == null) {
+                sendResponse(exchange, HttpURLConnection.HTTP_NOT_FOUND, String.format("No pipeline named %s.", pipelineName));
+                return;
+            }
+
+            final PipelineStageMetrics stageMetrics = pipeline.getStageMetrics();
+            LOG.info("Profiling pipeline [{}] for {}", pipelineName, duration);
+            final CompletableFuture<PipelineProfile> finishedProfile;
+            try {
+                finishedProfile = stageMetrics.profile(duration, scheduler);
+            } catch (final IllegalStateException e) {
+                sendResponse(exchange, HttpURLConnection.HTTP_CONFLICT, e.getMessage());
+                return;
+            }
+
+            finishedProfile.whenComplete((profile, throwable) -> sendProfile(exchange, stageMetrics, profile, throwable));
+            responseScheduled = true;
+        } catch (final Exception e) {
+            LOG.error("Caught exception profiling pipeline", e);
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_INTERNAL_ERROR, 0);
+        } finally {
+            if (!responseScheduled) {
+                exchange.getResponseBody().close();
+            }
+        }
+    }
+
+    private static void sendProfile(final HttpExchange exchange,
+                                    final PipelineStageMetrics stageMetrics,
+                                    final PipelineProfile profile,
+                                    final Throwable throwable) {
+        try {
+            if (throwable != null) {
+                LOG.error("Caught exception profiling pipeline", throwable);
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_INTERNAL_ERROR, 0);
+                return;
+            }
+            final byte[] response = OBJECT_MAPPER.writeValueAsBytes(profile.toReport(stageMetrics.getProcessorNames()));
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, response.length);
+            exchange.getResponseBody().write(response);
+        } catch (final Exception e) {
+            LOG.error("Caught exception writing pipeline profile", e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static Duration parseDuration(final String value) {
+        try {
+            return DataPrepperDurationParser.parse(value);
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void sendResponse(final HttpExchange exchange, final int status, final String message) throws IOException {
+        final byte[] response = message.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=UTF-8");
+        exchange.sendResponseHeaders(status, response.length);
+        exchange.getResponseBody().write(response);
+    }
+}
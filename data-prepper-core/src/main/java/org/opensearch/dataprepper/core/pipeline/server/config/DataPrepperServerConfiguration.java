@@ -11,10 +11,12 @@ package org.opensearch.dataprepper.core.pipeline.server.config;
 
 import com.sun.net.httpserver.Authenticator;
 import org.opensearch.dataprepper.core.DataPrepper;
+import org.opensearch.dataprepper.core.parser.model.DataPrepperConfiguration;
 import org.opensearch.dataprepper.core.pipeline.PipelinesProvider;
 import org.opensearch.dataprepper.core.pipeline.server.DataPrepperCoreAuthenticationProvider;
 import org.opensearch.dataprepper.core.pipeline.server.GetPipelinesHandler;
 import org.opensearch.dataprepper.core.pipeline.server.ListPipelinesHandler;
+import org.opensearch.dataprepper.core.pipeline.server.PipelineProfileHandler;
 import org.opensearch.dataprepper.core.pipeline.server.ReadinessHandler;
 import org.opensearch.dataprepper.core.pipeline.server.ShutdownHandler;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
@@ -90,4 +92,13 @@ public class DataPrepperServerConfiguration {
     public ReadinessHandler readinessHandler(final PipelinesProvider pipelinesProvider) {
         return new ReadinessHandler(pipelinesProvider);
     }
+
+    @Bean
+    public PipelineProfileHandler pipelineProfileHandler(
+            final PipelinesProvider pipelinesProvider,
+            final DataPrepperConfiguration dataPrepperConfiguration
+    ) {
+        return new PipelineProfileHandler(pipelinesProvider,
+                dataPrepperConfiguration.getPipelineProfilingConfig().getMaxProfileDuration());
+    }
 }
@@ -37,7 +37,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public class LeaseBasedSourceCoordinator<T> implements SourceCoordinator<T> {
@@ -66,6 +70,7 @@ public class LeaseBasedSourceCoordinator<T> implements SourceCoordinator<T> {
     static final Duration DEFAULT_LEASE_TIMEOUT = Duration.ofMinutes(10);
     static final Duration DEFAULT_RENEW_TIMEOUT = Duration.ofMinutes(3);
     static final Duration OWNERSHIP_RENEWAL_INTERVAL = Duration.ofMinutes(3);
+    static final int MAX_LEASED_PARTITIONS_CACHED = 10_000;
 
     private static final String hostName;
     static final String PARTITION_TYPE = "PARTITION";
@@ -98,6 +103,9 @@ public class LeaseBasedSourceCoordinator<T> implements SourceCoordinator<T> {
     private final Counter completePartitionUpdateErrorCounter;
     private final Counter partitionsDeleted;
     private final ReentrantLock lock;
+    private final int partitionAcquisitionBatchSize;
+    private final Queue<SourcePartitionStoreItem> prefetchedPartitions;
+    private final Map<String, SourcePartitionStoreItem> leasedPartitions;
 
     private Instant lastSupplierRunTime;
     private Instant lastGlobalOwnershipRenewal;
@@ -142,6 +150,9 @@ public class LeaseBasedSourceCoordinator<T> implements SourceCoordinator<T> {
         this.completePartitionUpdateErrorCounter = pluginMetrics.counter(PARTITION_UPDATE_ERROR_COUNT, COMPLETE_ACTION);
         this.partitionsDeleted = pluginMetrics.counter(PARTITIONS_DELETED);
         this.lock = new ReentrantLock();
+        this.partitionAcquisitionBatchSize = sourceCoordinationConfig.getPartitionAcquisitionBatchSize();
+        this.prefetchedPartitions = new ConcurrentLinkedQueue<>();
+        this.leasedPartitions = new ConcurrentHashMap<>();
         this.lastSupplierRunTime = Instant.now();
         this.lastGlobalOwnershipRenewal = Instant.now();
     }
@@ -170,7 +181,7 @@ public class LeaseBasedSourceCoordinator<T> implements SourceCoordinator<T> {
     private Optional<SourcePartition<T>> getNextPartitionInternal(final Function<Map<String, Object>, List<PartitionIdentifier>> partitionCreationSupplier, final boolean forceSupplier) {
         validateIsInitialized();
 
-        Optional<SourcePartitionStoreItem> ownedPartitions = sourceCoordinationStore.tryAcquireAvailablePartition(sourceIdentifierWithPartitionType, ownerId, DEFAULT_LEASE_TIMEOUT);
+        Optional<SourcePartitionStoreItem> ownedPartitions = acquireAvailablePartition();
         try {
             if ((ownedPartitions.isEmpty() || forceSupplier) && lock.tryLock()) {
                 lastSupplierRunTime = Instant.now();
@@ -188,7 +199,7 @@ public class LeaseBasedSourceCoordinator<T> implements SourceCoordinator<T> {
                 lock.unlock();
             }
             if (ownedPartitions.isEmpty()) {
-                ownedPartitions = sourceCoordinationStore.tryAcquireAvailablePartition(sourceIdentifierWithPartitionType, ownerId, DEFAULT_LEASE_TIMEOUT);
+                ownedPartitions = acquireAvailablePartition();
             }
         }
 
@@ -205,11 +216,65 @@ public class LeaseBasedSourceCoordinator<T> implements SourceCoordinator<T> {
                 .build();
 
 
+        cacheLeasedPartition(ownedPartitions.get());
         LOG.debug("Partition key {} was acquired by owner {}", sourcePartition.getPartitionKey(), ownerId);
         partitionsAcquiredCounter.increment();
         return Optional.of(sourcePartition);
     }
 
+    /**
+     * Acquires a partition from the store. When the partition acquisition batch size is greater than one, partitions are
+     * leased from the store in batches and the partitions that are not returned right away are held in a local queue.
+     */
+    private Optional<SourcePartitionStoreItem> acquireAvailablePartition() {
+        if (partitionAcquisitionBatchSize <= 1) {
+            return sourceCoordinationStore.tryAcquireAvailablePartition(sourceIdentifierWithPartitionType, ownerId, DEFAULT_LEASE_TIMEOUT);
+        }
+
+        final Optional<SourcePartitionStoreItem> prefetchedPartition = pollPrefetchedPartition();
+        if (prefetchedPartition.isPresent()) {
+            return prefetchedPartition;
+        }
+
+        final List<SourcePartitionStoreItem> acquiredPartitions = sourceCoordinationStore.tryAcquireAvailablePartitions(
+                sourceIdentifierWithPartitionType, ownerId, DEFAULT_LEASE_TIMEOUT, partitionAcquisitionBatchSize);
+        if (acquiredPartitions.isEmpty()) {
+            return Optional.empty();
+        }
+
+        prefetchedPartitions.addAll(acquiredPartitions.subList(1, acquiredPartitions.size()));
+        return Optional.of(acquiredPartitions.get(0));
+    }
+
+    /**
+     * Takes the next partition from the local queue. Partitions that have waited in the queue long enough to need renewal have
+     * their lease renewed first, and partitions whose lease can no longer be renewed are dropped.
+     */
+    private Optional<SourcePartitionStoreItem> pollPrefetchedPartition() {
+        for (SourcePartitionStoreItem partition = prefetchedPartitions.poll(); partition != null; partition = prefetchedPartitions.poll()) {
+            final Instant ownershipTimeout = partition.getPartitionOwnershipTimeout();
+            if (Objects.nonNull(ownershipTimeout) && Instant.now().plus(DEFAULT_LEASE_TIMEOUT.minus(DEFAULT_RENEW_TIMEOUT)).isBefore(ownershipTimeout)) {
+                return Optional.of(partition);
+            }
+
+            try {
+                partition.setPartitionOwnershipTimeout(Instant.now().plus(DEFAULT_LEASE_TIMEOUT));
+                sourceCoordinationStore.tryUpdateSourcePartitionItem(partition);
+                return Optional.of(partition);
+            } catch (final PartitionUpdateException e) {
+                LOG.info("Unable to renew the lease for prefetched partition {}. It was most likely acquired by another owner.", partition.getSourcePartitionKey());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void cacheLeasedPartition(final SourcePartitionStoreItem partition) {
+        if (leasedPartitions.size() >= MAX_LEASED_PARTITIONS_CACHED) {
+            leasedPartitions.clear();
+        }
+        leasedPartitions.put(partition.getSourcePartitionKey(), partition);
+    }
+
     @Override
     public void createPartitions(final List<PartitionIdentifier> partitionIdentifiers) {
         renewGlobalOwnershipIfNeeded();
@@ -242,6 +307,7 @@ public class LeaseBasedSourceCoordinator<T> implements SourceCoordinator<T> {
     @Override
     public void completePartition(final String partitionKey, final Boolean fromAcknowledgmentsCallback) {
         validateIsInitialized();
+        leasedPartitions.remove(partitionKey);
 
         final SourcePartitionStoreItem itemToUpdate = getSourcePartitionStoreItem(partitionKey, COMPLETE_ACTION);
         validatePartitionOwnership(itemToUpdate);
@@ -265,6 +331,7 @@ public class LeaseBasedSourceCoordinator<T> implements SourceCoordinator<T> {
     @Override
     public void closePartition(final String partitionKey, final Duration reopenAfter, final int maxClosedCount, final Boolean fromAcknowledgmentsCallback) {
         validateIsInitialized();
+        leasedPartitions.remove(partitionKey);
 
         final SourcePartitionStoreItem itemToUpdate = getSourcePartitionStoreItem(partitionKey, CLOSE_ACTION);
         validatePartitionOwnership(itemToUpdate);
@@ -305,22 +372,18 @@ public class LeaseBasedSourceCoordinator<T> implements SourceCoordinator<T> {
     public <S extends T> void saveProgressStateForPartition(final String partitionKey, final S partitionProgressState) {
         validateIsInitialized();
 
-        final SourcePartitionStoreItem itemToUpdate = getSourcePartitionStoreItem(partitionKey, SAVE_STATE_ACTION);
-        validatePartitionOwnership(itemToUpdate);
-
-        itemToUpdate.setPartitionOwnershipTimeout(Instant.now().plus(DEFAULT_LEASE_TIMEOUT));
-        itemToUpdate.setPartitionProgressState(convertPartitionProgressStateClasstoString(partitionProgressState));
+        final String serializedPartitionProgressState = convertPartitionProgressStateClasstoString(partitionProgressState);
 
-        try {
-            sourceCoordinationStore.tryUpdateSourcePartitionItem(itemToUpdate);
-        } catch (final Exception e) {
+        updateLeasedPartition(partitionKey, SAVE_STATE_ACTION, itemToUpdate -> {
+            itemToUpdate.setPartitionOwnershipTimeout(Instant.now().plus(DEFAULT_LEASE_TIMEOUT));
+            itemToUpdate.setPartitionProgressState(serializedPartitionProgressState);
+        }, e -> {
             LOG.error("Exception while saving state for the partition {}: {}", partitionKey, e.getMessage());
             saveStatePartitionUpdateErrorCounter.increment();
-            throw e;
-        }
+        });
 
         LOG.debug("State was saved for partition key {} by owner {}. The saved state is: {}",
-                partitionKey, ownerId, itemToUpdate.getPartitionProgressState());
+                partitionKey, ownerId, serializedPartitionProgressState);
 
         saveProgressStateInvocationSuccessCounter.increment();
     }
@@ -346,12 +409,51 @@ public class LeaseBasedSourceCoordinator<T> implements SourceCoordinator<T> {
     }
 
     private void updatePartitionOwnership(final String partitionKey, final Duration ownershipRenewalTime) {
-        final SourcePartitionStoreItem itemToUpdate = getSourcePartitionStoreItem(partitionKey, "update partition ownership");
+        updateLeasedPartition(partitionKey, "update partition ownership",
+                itemToUpdate -> itemToUpdate.setPartitionOwnershipTimeout(Instant.now().plus(ownershipRenewalTime)),
+                e -> { });
+    }
+
+    /**
+     * Updates a partition owned by this instance. The item cached when the partition was acquired is updated directly, which
+     * avoids reading the partition from the store first. If the cached item is out of date the conditional update fails, and
+     * the update is retried once with the item read from the store.
+     */
+    private void updateLeasedPartition(final String partitionKey,
+                                       final String action,
+                                       final Consumer<SourcePartitionStoreItem> update,
+                                       final Consumer<RuntimeException> updateFailureHandler) {
+        final SourcePartitionStoreItem cachedItem = leasedPartitions.get(partitionKey);
+        if (Objects.nonNull(cachedItem)) {
+            synchronized (cachedItem) {
+                if (ownerId.equals(cachedItem.getPartitionOwner())) {
+                    update.accept(cachedItem);
+                    try {
+                        sourceCoordinationStore.tryUpdateSourcePartitionItem(cachedItem);
+                        return;
+                    } catch (final PartitionUpdateException e) {
+                        LOG.debug("The cached lease for partition {} is out of date. Reading the partition from the store.", partitionKey);
+                    } catch (final RuntimeException e) {
+                        leasedPartitions.remove(partitionKey, cachedItem);
+                        updateFailureHandler.accept(e);
+                        throw e;
+                    }
+                }
+            }
+            leasedPartitions.remove(partitionKey, cachedItem);
+        }
+
+        final SourcePartitionStoreItem itemToUpdate = getSourcePartitionStoreItem(partitionKey, action);
         validatePartitionOwnership(itemToUpdate);
 
-        itemToUpdate.setPartitionOwnershipTimeout(Instant.now().plus(ownershipRenewalTime));
+        update.accept(itemToUpdate);
 
-        sourceCoordinationStore.tryUpdateSourcePartitionItem(itemToUpdate);
+        try {
+            sourceCoordinationStore.tryUpdateSourcePartitionItem(itemToUpdate);
+        } catch (final RuntimeException e) {
+            updateFailureHandler.accept(e);
+            throw e;
+        }
     }
 
     @Override
@@ -394,6 +496,7 @@ public class LeaseBasedSourceCoordinator<T> implements SourceCoordinator<T> {
             return;
         }
 
+        leasedPartitions.remove(partitionKey);
         final Optional<SourcePartitionStoreItem> optionalItem = sourceCoordinationStore.getSourcePartitionItem(sourceIdentifierWithPartitionType, partitionKey);
         if (optionalItem.isPresent()) {
             final SourcePartitionStoreItem updateItem = optionalItem.get();
@@ -417,6 +520,7 @@ public class LeaseBasedSourceCoordinator<T> implements SourceCoordinator<T> {
 
     @Override
     public void deletePartition(final String partitionKey) {
+        leasedPartitions.remove(partitionKey);
         final Optional<SourcePartitionStoreItem> optionalItem = sourceCoordinationStore.getSourcePartitionItem(sourceIdentifierWithPartitionType, partitionKey);
         if (optionalItem.isPresent()) {
             final SourcePartitionStoreItem deleteItem = optionalItem.get();
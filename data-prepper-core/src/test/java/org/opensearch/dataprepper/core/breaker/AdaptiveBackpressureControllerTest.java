@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.breaker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.core.parser.model.AdaptiveBackpressureConfig;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.BufferThrottledException;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveBackpressureControllerTest {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long MAX_HEAP = 1000L;
+
+    @Mock
+    private MemoryMXBean memoryMXBean;
+
+    @Mock
+    private MemoryPoolMXBean heapMemoryPool;
+
+    @Mock
+    private GarbageCollectorMXBean garbageCollector;
+
+    @Mock
+    private Buffer<?> firstBuffer;
+
+    @Mock
+    private Buffer<?> secondBuffer;
+
+    private AdaptiveBackpressureConfig config;
+    private AtomicLong nanoTime;
+
+    @BeforeEach
+    void setUp() {
+        config = new AdaptiveBackpressureConfig();
+        nanoTime = new AtomicLong(0);
+        when(heapMemoryPool.getType()).thenReturn(MemoryType.HEAP);
+    }
+
+    private AdaptiveBackpressureController createObjectUnderTest() {
+        return new AdaptiveBackpressureController(config, memoryMXBean, List.of(heapMemoryPool),
+                List.of(garbageCollector), nanoTime::get);
+    }
+
+    private void givenHeapAfterGc(final long usedAfterGc) {
+        when(heapMemoryPool.getCollectionUsage()).thenReturn(new MemoryUsage(0, usedAfterGc, MAX_HEAP, MAX_HEAP));
+        when(memoryMXBean.getHeapMemoryUsage()).thenReturn(new MemoryUsage(0, usedAfterGc, MAX_HEAP, MAX_HEAP));
+    }
+
+    private void checkSignalsAfterOneSecond(final AdaptiveBackpressureController objectUnderTest) {
+        nanoTime.addAndGet(NANOS_PER_SECOND);
+        objectUnderTest.checkSignals();
+    }
+
+    @Test
+    void checkSignals_without_pressure_leaves_pipelines_unlimited() throws BufferThrottledException {
+        givenHeapAfterGc(100L);
+        final AdaptiveBackpressureController objectUnderTest = createObjectUnderTest();
+        final PipelineAdmission pipelineAdmission = objectUnderTest.registerPipeline("a", firstBuffer);
+        pipelineAdmission.acquire(1000);
+
+        checkSignalsAfterOneSecond(objectUnderTest);
+
+        assertThat(pipelineAdmission.getRateLimit(), equalTo(AimdRateLimit.UNLIMITED));
+    }
+
+    @Test
+    void checkSignals_with_heap_pressure_splits_the_heap_limit_by_pipeline_share() throws BufferThrottledException {
+        config = new ObjectMapper().convertValue(Map.of("pipeline_shares", Map.of("a", 3.0)), AdaptiveBackpressureConfig.class);
+        givenHeapAfterGc(900L);
+        final AdaptiveBackpressureController objectUnderTest = createObjectUnderTest();
+        final PipelineAdmission firstAdmission = objectUnderTest.registerPipeline("a", firstBuffer);
+        final PipelineAdmission secondAdmission = objectUnderTest.registerPipeline("b", secondBuffer);
+        firstAdmission.acquire(1000);
+        secondAdmission.acquire(1000);
+
+        checkSignalsAfterOneSecond(objectUnderTest);
+
+        final double heapLimit = 2000.0 * config.getDecreaseFactor();
+        assertThat(firstAdmission.getRateLimit(), closeTo(heapLimit * 3 / 4, 0.001));
+        assertThat(secondAdmission.getRateLimit(), closeTo(heapLimit / 4, 0.001));
+    }
+
+    @Test
+    void checkSignals_with_gc_time_over_target_limits_pipelines() throws BufferThrottledException {
+        givenHeapAfterGc(100L);
+        when(garbageCollector.getCollectionTime()).thenReturn(0L, 500L);
+        final AdaptiveBackpressureController objectUnderTest = createObjectUnderTest();
+        final PipelineAdmission pipelineAdmission = objectUnderTest.registerPipeline("a", firstBuffer);
+        pipelineAdmission.acquire(1000);
+
+        checkSignalsAfterOneSecond(objectUnderTest);
+
+        assertThat(pipelineAdmission.getRateLimit(), closeTo(1000.0 * config.getDecreaseFactor(), 0.001));
+    }
+
+    @Test
+    void checkSignals_with_buffer_usage_over_target_limits_only_that_pipeline() throws BufferThrottledException {
+        givenHeapAfterGc(100L);
+        when(firstBuffer.getCapacityUsage()).thenReturn(Optional.of(0.95));
+        when(secondBuffer.getCapacityUsage()).thenReturn(Optional.of(0.1));
+        final AdaptiveBackpressureController objectUnderTest = createObjectUnderTest();
+        final PipelineAdmission firstAdmission = objectUnderTest.registerPipeline("a", firstBuffer);
+        final PipelineAdmission secondAdmission = objectUnderTest.registerPipeline("b", secondBuffer);
+        firstAdmission.acquire(1000);
+        secondAdmission.acquire(1000);
+
+        checkSignalsAfterOneSecond(objectUnderTest);
+
+        assertThat(firstAdmission.getRateLimit(), closeTo(1000.0 * config.getDecreaseFactor(), 0.001));
+        assertThat(firstAdmission.getPressure(), closeTo(0.95 / config.getBufferUsage(), 0.001));
+        assertThat(secondAdmission.getRateLimit(), equalTo(AimdRateLimit.UNLIMITED));
+    }
+
+    @Test
+    void checkSignals_with_batch_latency_over_target_limits_the_pipeline_until_it_recovers() throws BufferThrottledException {
+        givenHeapAfterGc(100L);
+        final AdaptiveBackpressureController objectUnderTest = createObjectUnderTest();
+        final PipelineAdmission pipelineAdmission = objectUnderTest.registerPipeline("a", firstBuffer);
+        pipelineAdmission.acquire(1000);
+        pipelineAdmission.recordBatchLatency(config.getBatchLatency().plus(Duration.ofSeconds(5)).toNanos());
+
+        checkSignalsAfterOneSecond(objectUnderTest);
+        final double limitedRate = 1000.0 * config.getDecreaseFactor();
+        assertThat(pipelineAdmission.getRateLimit(), closeTo(limitedRate, 0.001));
+
+        pipelineAdmission.acquire((int) limitedRate);
+        checkSignalsAfterOneSecond(objectUnderTest);
+        assertThat(pipelineAdmission.getRateLimit(), closeTo(limitedRate * (1 + config.getIncreaseRatio()), 0.001));
+
+        checkSignalsAfterOneSecond(objectUnderTest);
+        assertThat(pipelineAdmission.getRateLimit(), equalTo(AimdRateLimit.UNLIMITED));
+    }
+
+    @Test
+    void checkSignals_ignores_non_heap_memory_pools() throws BufferThrottledException {
+        final MemoryPoolMXBean nonHeapPool = mock(MemoryPoolMXBean.class);
+        when(nonHeapPool.getType()).thenReturn(MemoryType.NON_HEAP);
+        givenHeapAfterGc(100L);
+        final AdaptiveBackpressureController objectUnderTest = new AdaptiveBackpressureController(config, memoryMXBean,
+                List.of(heapMemoryPool, nonHeapPool), Collections.emptyList(), nanoTime::get);
+        final PipelineAdmission pipelineAdmission = objectUnderTest.registerPipeline("a", firstBuffer);
+        pipelineAdmission.acquire(1000);
+
+        checkSignalsAfterOneSecond(objectUnderTest);
+
+        assertThat(pipelineAdmission.getRateLimit(), equalTo(AimdRateLimit.UNLIMITED));
+    }
+}
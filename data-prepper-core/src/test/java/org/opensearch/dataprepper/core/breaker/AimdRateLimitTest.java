@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.breaker;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AimdRateLimitTest {
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double INCREASE_RATIO = 0.1;
+    private static final double MINIMUM_RATE = 10.0;
+
+    private AimdRateLimit createObjectUnderTest() {
+        return new AimdRateLimit(DECREASE_FACTOR, INCREASE_RATIO, MINIMUM_RATE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 1.0, -0.1})
+    void constructor_throws_for_invalid_decrease_factor(final double decreaseFactor) {
+        assertThrows(IllegalArgumentException.class, () -> new AimdRateLimit(decreaseFactor, INCREASE_RATIO, MINIMUM_RATE));
+    }
+
+    @Test
+    void constructor_throws_for_non_positive_minimum_rate() {
+        assertThrows(IllegalArgumentException.class, () -> new AimdRateLimit(DECREASE_FACTOR, INCREASE_RATIO, 0.0));
+    }
+
+    @Test
+    void limit_is_unlimited_until_pressure_exceeds_target() {
+        final AimdRateLimit objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.update(1.0, 1000.0);
+
+        assertThat(objectUnderTest.isLimited(), equalTo(false));
+        assertThat(objectUnderTest.getLimit(), equalTo(AimdRateLimit.UNLIMITED));
+    }
+
+    @Test
+    void update_over_target_decreases_from_observed_rate() {
+        final AimdRateLimit objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.update(1.5, 1000.0);
+        assertThat(objectUnderTest.getLimit(), closeTo(500.0, 0.001));
+
+        objectUnderTest.update(1.5, 500.0);
+        assertThat(objectUnderTest.getLimit(), closeTo(250.0, 0.001));
+    }
+
+    @Test
+    void update_over_target_does_not_go_below_minimum_rate() {
+        final AimdRateLimit objectUnderTest = createObjectUnderTest();
+
+        for (int i = 0; i < 20; i++) {
+            objectUnderTest.update(5.0, 0.0);
+        }
+
+        assertThat(objectUnderTest.getLimit(), equalTo(MINIMUM_RATE));
+    }
+
+    @Test
+    void update_under_target_increases_additively() {
+        final AimdRateLimit objectUnderTest = createObjectUnderTest();
+        objectUnderTest.update(2.0, 1000.0);
+
+        objectUnderTest.update(0.9, 500.0);
+        objectUnderTest.update(0.9, 550.0);
+
+        assertThat(objectUnderTest.getLimit(), closeTo(600.0, 0.001));
+    }
+
+    @Test
+    void update_releases_limit_when_pressure_is_low_and_rate_is_well_below_limit() {
+        final AimdRateLimit objectUnderTest = createObjectUnderTest();
+        objectUnderTest.update(2.0, 1000.0);
+
+        objectUnderTest.update(AimdRateLimit.RELEASE_PRESSURE / 2, 100.0);
+
+        assertThat(objectUnderTest.isLimited(), equalTo(false));
+    }
+
+    @Test
+    void update_keeps_limit_when_pressure_is_low_but_rate_reaches_limit() {
+        final AimdRateLimit objectUnderTest = createObjectUnderTest();
+        objectUnderTest.update(2.0, 1000.0);
+
+        objectUnderTest.update(AimdRateLimit.RELEASE_PRESSURE / 2, 500.0);
+
+        assertThat(objectUnderTest.isLimited(), equalTo(true));
+        assertThat(objectUnderTest.getLimit(), closeTo(550.0, 0.001));
+    }
+}
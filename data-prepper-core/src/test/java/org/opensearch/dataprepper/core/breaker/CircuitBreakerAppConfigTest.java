@@ -13,13 +13,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.core.parser.model.AdaptiveBackpressureConfig;
 import org.opensearch.dataprepper.core.parser.model.CircuitBreakerConfig;
 import org.opensearch.dataprepper.core.parser.model.DataPrepperConfiguration;
 import org.opensearch.dataprepper.core.parser.model.HeapCircuitBreakerConfig;
 import org.opensearch.dataprepper.model.types.ByteCount;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -66,4 +70,45 @@ class CircuitBreakerAppConfigTest {
         assertThat(createObjectUnderTest().heapCircuitBreaker(dataPrepperConfiguration),
                 instanceOf(HeapCircuitBreaker.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void circuitBreakerService_uses_adaptiveBackpressureController_bean() {
+        final AdaptiveBackpressureController adaptiveBackpressureController = mock(AdaptiveBackpressureController.class);
+
+        final CircuitBreakerManager circuitBreakerManager = createObjectUnderTest()
+                .circuitBreakerService(Collections.emptyList(), Optional.of(adaptiveBackpressureController));
+
+        assertThat(circuitBreakerManager.getBackpressureController(), equalTo(Optional.of(adaptiveBackpressureController)));
+    }
+
+    @Test
+    void circuitBreakerService_has_no_controller_without_adaptiveBackpressureController_bean() {
+        final CircuitBreakerManager circuitBreakerManager = createObjectUnderTest()
+                .circuitBreakerService(Collections.emptyList(), Optional.empty());
+
+        assertThat(circuitBreakerManager.getBackpressureController(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void adaptiveBackpressureController_returns_null_if_AdaptiveBackpressureConfig_is_null() {
+        final CircuitBreakerConfig circuitBreakerConfig = mock(CircuitBreakerConfig.class);
+        when(dataPrepperConfiguration.getCircuitBreakerConfig())
+                .thenReturn(circuitBreakerConfig);
+
+        assertThat(createObjectUnderTest().adaptiveBackpressureController(dataPrepperConfiguration),
+                nullValue());
+    }
+
+    @Test
+    void adaptiveBackpressureController_returns_controller_if_AdaptiveBackpressureConfig_is_present() {
+        final CircuitBreakerConfig circuitBreakerConfig = mock(CircuitBreakerConfig.class);
+        when(circuitBreakerConfig.getAdaptiveConfig()).thenReturn(new AdaptiveBackpressureConfig());
+        when(dataPrepperConfiguration.getCircuitBreakerConfig())
+                .thenReturn(circuitBreakerConfig);
+
+        final AdaptiveBackpressureController controller = createObjectUnderTest().adaptiveBackpressureController(dataPrepperConfiguration);
+
+        assertThat(controller, instanceOf(AdaptiveBackpressureController.class));
+        controller.close();
+    }
+}
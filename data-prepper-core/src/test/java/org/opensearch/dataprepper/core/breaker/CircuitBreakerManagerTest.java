@@ -59,6 +59,20 @@ class CircuitBreakerManagerTest {
         assertThat(optionalCircuitBreaker.isPresent(), equalTo(false));
     }
 
+    @Test
+    void getBackpressureController_returns_empty_if_not_provided() {
+        assertThat(createObjectUnderTest().getBackpressureController().isPresent(), equalTo(false));
+    }
+
+    @Test
+    void getBackpressureController_returns_provided_controller() {
+        final AdaptiveBackpressureController backpressureController = mock(AdaptiveBackpressureController.class);
+
+        final CircuitBreakerManager objectUnderTest = new CircuitBreakerManager(innerCircuitBreakers, backpressureController);
+
+        assertThat(objectUnderTest.getBackpressureController(), equalTo(Optional.of(backpressureController)));
+    }
+
     @Nested
     class SingleCircuitBreaker {
         @Mock
@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.breaker;
+
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.BufferThrottledException;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PipelineAdmissionTest {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    @Mock
+    private Buffer<?> buffer;
+
+    @Mock
+    private Counter throttledRecordsCounter;
+
+    private AtomicLong nanoTime;
+
+    @BeforeEach
+    void setUp() {
+        nanoTime = new AtomicLong(0);
+    }
+
+    private PipelineAdmission createObjectUnderTest() {
+        return new PipelineAdmission(UUID.randomUUID().toString(), 1.0, buffer,
+                new AimdRateLimit(0.5, 0.1, 1.0), throttledRecordsCounter, nanoTime::get);
+    }
+
+    @Test
+    void acquire_admits_everything_when_unlimited() throws BufferThrottledException {
+        final PipelineAdmission objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.acquire(1_000_000);
+        objectUnderTest.acquire(1_000_000);
+
+        assertThat(objectUnderTest.drainAdmittedRecords(), equalTo(2_000_000L));
+        verify(throttledRecordsCounter, never()).increment(1_000_000);
+    }
+
+    @Test
+    void acquire_throttles_once_the_bucket_is_empty_and_refills_at_the_rate() throws BufferThrottledException {
+        final PipelineAdmission objectUnderTest = createObjectUnderTest();
+        objectUnderTest.setRateLimit(100.0);
+
+        objectUnderTest.acquire(60);
+        objectUnderTest.acquire(40);
+        final BufferThrottledException exception = assertThrows(BufferThrottledException.class, () -> objectUnderTest.acquire(50));
+        assertThat(exception.getRetryAfter(), equalTo(Duration.ofMillis(500)));
+        verify(throttledRecordsCounter).increment(50);
+
+        nanoTime.addAndGet(NANOS_PER_SECOND / 2);
+        objectUnderTest.acquire(50);
+
+        assertThat(objectUnderTest.drainAdmittedRecords(), equalTo(150L));
+    }
+
+    @Test
+    void acquire_admits_a_batch_larger_than_the_bucket_once_the_bucket_is_full() throws BufferThrottledException {
+        final PipelineAdmission objectUnderTest = createObjectUnderTest();
+        objectUnderTest.setRateLimit(100.0);
+
+        objectUnderTest.acquire(300);
+
+        final BufferThrottledException exception = assertThrows(BufferThrottledException.class, () -> objectUnderTest.acquire(1));
+        assertThat(exception.getRetryAfter(), equalTo(Duration.ofMillis(2010)));
+
+        nanoTime.addAndGet(3 * NANOS_PER_SECOND);
+        objectUnderTest.acquire(300);
+    }
+
+    @Test
+    void setRateLimit_to_unlimited_admits_everything_again() throws BufferThrottledException {
+        final PipelineAdmission objectUnderTest = createObjectUnderTest();
+        objectUnderTest.setRateLimit(10.0);
+        objectUnderTest.acquire(10);
+        assertThrows(BufferThrottledException.class, () -> objectUnderTest.acquire(10));
+
+        objectUnderTest.setRateLimit(AimdRateLimit.UNLIMITED);
+
+        objectUnderTest.acquire(10_000);
+    }
+
+    @Test
+    void recordBatchLatency_keeps_the_maximum_until_drained() {
+        final PipelineAdmission objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.recordBatchLatency(300);
+        objectUnderTest.recordBatchLatency(700);
+        objectUnderTest.recordBatchLatency(200);
+
+        assertThat(objectUnderTest.drainMaxBatchLatencyNanos(), equalTo(700L));
+        assertThat(objectUnderTest.drainMaxBatchLatencyNanos(), equalTo(0L));
+    }
+}
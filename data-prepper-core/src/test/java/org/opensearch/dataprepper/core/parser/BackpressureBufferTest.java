@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.parser;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.core.breaker.PipelineAdmission;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.BufferThrottledException;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BackpressureBufferTest {
+    @Mock
+    private Buffer<Record<?>> buffer;
+
+    @Mock
+    private PipelineAdmission pipelineAdmission;
+
+    private int timeoutMillis;
+
+    @BeforeEach
+    void setUp() {
+        timeoutMillis = 1000;
+    }
+
+    private BackpressureBuffer<Record<?>> createObjectUnderTest() {
+        return new BackpressureBuffer<>(buffer, pipelineAdmission);
+    }
+
+    @Test
+    void constructor_should_throw_with_null_pipelineAdmission() {
+        pipelineAdmission = null;
+        assertThrows(NullPointerException.class, this::createObjectUnderTest);
+    }
+
+    @Test
+    void write_acquires_one_record_before_writing() throws Exception {
+        final Record<?> record = mock(Record.class);
+
+        createObjectUnderTest().write(record, timeoutMillis);
+
+        verify(pipelineAdmission).acquire(1);
+        verify(buffer).write(record, timeoutMillis);
+    }
+
+    @Test
+    void writeAll_acquires_all_records_before_writing() throws Exception {
+        final Collection<Record<?>> records = List.of(mock(Record.class), mock(Record.class), mock(Record.class));
+
+        createObjectUnderTest().writeAll(records, timeoutMillis);
+
+        verify(pipelineAdmission).acquire(3);
+        verify(buffer).writeAll(records, timeoutMillis);
+    }
+
+    @Test
+    void writeBytes_acquires_one_record_before_writing() throws Exception {
+        final byte[] bytes = UUID.randomUUID().toString().getBytes();
+        final String key = UUID.randomUUID().toString();
+
+        createObjectUnderTest().writeBytes(bytes, key, timeoutMillis);
+
+        verify(pipelineAdmission).acquire(1);
+        verify(buffer).writeBytes(bytes, key, timeoutMillis);
+    }
+
+    @Test
+    void writeAll_throws_and_does_not_write_when_throttled() throws Exception {
+        final Collection<Record<?>> records = List.of(mock(Record.class));
+        doThrow(new BufferThrottledException("throttled", Duration.ofSeconds(1))).when(pipelineAdmission).acquire(anyInt());
+
+        final BackpressureBuffer<Record<?>> objectUnderTest = createObjectUnderTest();
+        assertThrows(BufferThrottledException.class, () -> objectUnderTest.writeAll(records, timeoutMillis));
+
+        verify(buffer, never()).writeAll(records, timeoutMillis);
+    }
+
+    @Test
+    void checkpoint_after_non_empty_read_records_batch_latency() {
+        final Collection<Record<?>> records = List.of(mock(Record.class));
+        final CheckpointState checkpointState = mock(CheckpointState.class);
+        final Map.Entry<Collection<Record<?>>, CheckpointState> readResult = Map.entry(records, checkpointState);
+        when(buffer.read(timeoutMillis)).thenReturn(readResult);
+
+        final BackpressureBuffer<Record<?>> objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.read(timeoutMillis), sameInstance(readResult));
+        objectUnderTest.checkpoint(checkpointState);
+
+        verify(buffer).checkpoint(checkpointState);
+        verify(pipelineAdmission).recordBatchLatency(anyLong());
+    }
+
+    @Test
+    void checkpoint_after_empty_read_does_not_record_batch_latency() {
+        final CheckpointState checkpointState = mock(CheckpointState.class);
+        when(buffer.read(timeoutMillis)).thenReturn(Map.<Collection<Record<?>>, CheckpointState>entry(Collections.emptyList(), checkpointState));
+
+        final BackpressureBuffer<Record<?>> objectUnderTest = createObjectUnderTest();
+        objectUnderTest.read(timeoutMillis);
+        objectUnderTest.checkpoint(checkpointState);
+
+        verify(buffer).checkpoint(checkpointState);
+        verify(pipelineAdmission, never()).recordBatchLatency(anyLong());
+    }
+}
@@ -24,13 +24,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.TestDataProvider;
 import org.opensearch.dataprepper.core.acknowledgements.DefaultAcknowledgementSetManager;
+import org.opensearch.dataprepper.core.breaker.AdaptiveBackpressureController;
 import org.opensearch.dataprepper.core.breaker.CircuitBreakerManager;
+import org.opensearch.dataprepper.core.breaker.PipelineAdmission;
 import org.opensearch.dataprepper.core.parser.model.DataPrepperConfiguration;
+import org.opensearch.dataprepper.core.parser.model.PipelineProfilingConfig;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderReceiveBuffer;
 import org.opensearch.dataprepper.core.pipeline.HeadlessPipelineSource;
 import org.opensearch.dataprepper.core.pipeline.Pipeline;
+import org.opensearch.dataprepper.core.pipeline.router.Router;
 import org.opensearch.dataprepper.core.pipeline.router.RouterFactory;
 import org.opensearch.dataprepper.core.sourcecoordination.SourceCoordinatorFactory;
 import org.opensearch.dataprepper.core.validation.PluginErrorCollector;
@@ -42,6 +46,7 @@ import org.opensearch.dataprepper.model.configuration.PipelineModel;
 import org.opensearch.dataprepper.model.configuration.PipelinesDataFlowModel;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventFactory;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
 import org.opensearch.dataprepper.model.record.Record;
@@ -65,6 +70,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -74,9 +80,12 @@ import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -127,6 +136,7 @@ class PipelineTransformerTests {
         eventFactory = mock(EventFactory.class);
         acknowledgementSetManager = mock(DefaultAcknowledgementSetManager.class);
         pluginErrorCollector = new PluginErrorCollector();
+        lenient().when(dataPrepperConfiguration.getPipelineProfilingConfig()).thenReturn(new PipelineProfilingConfig());
         final AnnotationConfigApplicationContext publicContext = new AnnotationConfigApplicationContext();
         publicContext.refresh();
 
@@ -411,6 +421,21 @@ class PipelineTransformerTests {
         verify(dataPrepperConfiguration).getPipelineExtensions();
     }
 
+    @Test
+    void transformConfiguration_names_the_stage_metrics_of_the_processors() {
+        mockDataPrepperConfigurationAccesses();
+        final PipelineTransformer pipelineTransformer =
+                createObjectUnderTest(TestDataProvider.VALID_MULTIPLE_PROCESSERS_CONFIG_FILE);
+        final Map<String, Pipeline> pipelineMap = pipelineTransformer.transformConfiguration(this.pipelinesDataFlowModel);
+
+        final Pipeline rawPipeline = pipelineMap.get("raw-pipeline");
+        assertThat(rawPipeline.getStageMetrics().getPipelineName(), equalTo("raw-pipeline"));
+        assertThat(rawPipeline.getStageMetrics().getProcessorNames(), equalTo(List.of("string_converter", "string_converter")));
+        assertThat(pipelineMap.get("entry-pipeline").getStageMetrics().getProcessorNames(), equalTo(List.of()));
+        verifyDataPrepperConfigurationAccesses(pipelineMap.size());
+        verify(dataPrepperConfiguration).getPipelineExtensions();
+    }
+
     @Test
     void parseConfiguration_with_routes_creates_correct_pipeline() {
         mockDataPrepperConfigurationAccesses();
@@ -506,6 +531,29 @@ class PipelineTransformerTests {
         verify(dataPrepperConfiguration).getPipelineExtensions();
     }
 
+    @Test
+    void parseConfiguration_uses_Backpressure_buffer_when_backpressure_controller_is_configured() {
+        final AdaptiveBackpressureController backpressureController = mock(AdaptiveBackpressureController.class);
+        when(backpressureController.registerPipeline(eq("test-pipeline-1"), any(Buffer.class)))
+                .thenReturn(mock(PipelineAdmission.class));
+        when(circuitBreakerManager.getBackpressureController())
+                .thenReturn(Optional.of(backpressureController));
+        final PipelineTransformer objectUnderTest =
+                createObjectUnderTest(TestDataProvider.VALID_SINGLE_PIPELINE_EMPTY_SOURCE_PLUGIN_FILE);
+
+        final Map<String, Pipeline> pipelineMap = objectUnderTest.transformConfiguration(this.pipelinesDataFlowModel);
+
+        assertThat(pipelineMap.size(), equalTo(1));
+        final Pipeline pipeline = pipelineMap.get("test-pipeline-1");
+        assertThat(pipeline, notNullValue());
+        assertThat(pipeline.getBuffer(), instanceOf(BackpressureBuffer.class));
+
+        verify(dataPrepperConfiguration).getProcessorShutdownTimeout();
+        verify(dataPrepperConfiguration).getSinkShutdownTimeout();
+        verify(dataPrepperConfiguration).getPeerForwarderConfiguration();
+        verify(dataPrepperConfiguration).getPipelineExtensions();
+    }
+
     @Test
     void parseConfiguration_uses_unwrapped_buffer_when_circuit_breakers_applied_but_Buffer_is_off_heap() {
         final PipelineTransformer objectUnderTest =
@@ -576,6 +624,41 @@ class PipelineTransformerTests {
         verify(dataPrepperConfiguration).getPipelineExtensions();
     }
 
+    @Test
+    void parseConfiguration_with_zero_buffer_creates_pipeline_which_accepts_writes_through_the_decorated_buffer() throws Exception {
+        final CircuitBreaker circuitBreaker = mock(CircuitBreaker.class);
+        when(circuitBreakerManager.getGlobalCircuitBreaker())
+                .thenReturn(Optional.of(circuitBreaker));
+        when(dataPrepperConfiguration.getProcessorShutdownTimeout()).thenReturn(Duration.ofSeconds(1));
+        when(dataPrepperConfiguration.getSinkShutdownTimeout()).thenReturn(Duration.ofSeconds(1));
+        when(dataPrepperConfiguration.getPeerForwarderConfiguration()).thenReturn(peerForwarderConfiguration);
+        when(peerForwarderConfiguration.getDrainTimeout()).thenReturn(Duration.ZERO);
+        final Router router = mock(Router.class);
+        when(routerFactory.createRouter(any())).thenReturn(router);
+        final PipelineTransformer objectUnderTest =
+                createObjectUnderTest(TestDataProvider.VALID_ZERO_BUFFER_FILE);
+
+        final Map<String, Pipeline> pipelineMap = objectUnderTest.transformConfiguration(this.pipelinesDataFlowModel);
+
+        assertThat(pipelineMap, hasKey("test-pipeline-1"));
+        final Pipeline pipeline = pipelineMap.get("test-pipeline-1");
+        assertThat(pipeline, notNullValue());
+        assertThat(pipeline.getBuffer(), instanceOf(CircuitBreakingBuffer.class));
+
+        pipeline.execute();
+        try {
+            await().atMost(Duration.ofSeconds(10)).until(pipeline::isSourceStarted);
+            pipeline.getBuffer().write(new Record<>(JacksonEvent.fromMessage(UUID.randomUUID().toString())), 1000);
+        } finally {
+            pipeline.shutdown();
+        }
+
+        verify(router, atLeastOnce()).route(any(), any(), any(), any());
+
+        verifyDataPrepperConfigurationAccesses();
+        verify(dataPrepperConfiguration).getPipelineExtensions();
+    }
+
     private void mockDataPrepperConfigurationAccesses() {
         when(dataPrepperConfiguration.getProcessorShutdownTimeout()).thenReturn(Duration.ofSeconds(Math.abs(new Random().nextInt())));
         when(dataPrepperConfiguration.getSinkShutdownTimeout()).thenReturn(Duration.ofSeconds(Math.abs(new Random().nextInt())));
@@ -646,38 +729,26 @@ class PipelineTransformerTests {
         return bufferMap;
     }
 
-    @Test
-    void parseConfiguration_with_zero_buffer_and_single_worker_thread_creates_pipeline_successfully() {
+    @ParameterizedTest
+    @MethodSource("provideZeroBufferConfigFiles")
+    void parseConfiguration_with_zero_buffer_creates_pipeline_successfully(final String configFile) {
         mockDataPrepperConfigurationAccesses();
-        final PipelineTransformer pipelineTransformer =
-                createObjectUnderTest(TestDataProvider.VALID_ZERO_BUFFER_SINGLE_THREAD_CONFIG_FILE);
+        final PipelineTransformer pipelineTransformer = createObjectUnderTest(configFile);
         final Map<String, Pipeline> pipelineMap = pipelineTransformer.transformConfiguration(this.pipelinesDataFlowModel);
 
         assertThat(pipelineMap.size(), equalTo(1));
         assertThat(pipelineMap, hasKey("simple-pipeline"));
-        assertThat(pipelineMap.isEmpty(), equalTo(false));
 
         verifyDataPrepperConfigurationAccesses();
         verify(dataPrepperConfiguration).getPipelineExtensions();
     }
 
-    @ParameterizedTest
-    @MethodSource("provideInvalidZeroBufferConfigFiles")
-    void parseConfiguration_with_invalid_zero_buffer_configurations_results_in_pipeline_creation_failure(String configFile) {
-        mockDataPrepperConfigurationAccesses();
-        final PipelineTransformer pipelineTransformer = createObjectUnderTest(configFile);
-        final Map<String, Pipeline> pipelineMap = pipelineTransformer.transformConfiguration(this.pipelinesDataFlowModel);
-
-        assertThat(pipelineMap.isEmpty(), equalTo(true));
-
-        verify(dataPrepperConfiguration).getPipelineExtensions();
-    }
-
-    private static Stream<Arguments> provideInvalidZeroBufferConfigFiles() {
+    private static Stream<Arguments> provideZeroBufferConfigFiles() {
         return Stream.of(
-                Arguments.of(TestDataProvider.INVALID_ZERO_BUFFER_MULTIPLE_THREADS_CONFIG_FILE),
-                Arguments.of(TestDataProvider.INVALID_ZERO_BUFFER_WITH_SINGLE_THREAD_PROCESSOR_CONFIG_FILE),
-                Arguments.of(TestDataProvider.INVALID_ZERO_BUFFER_MULTIPLE_THREADS_NO_SINGLE_THREAD_PROCESSORS_CONFIG_FILE)
+                Arguments.of(TestDataProvider.VALID_ZERO_BUFFER_SINGLE_THREAD_CONFIG_FILE),
+                Arguments.of(TestDataProvider.VALID_ZERO_BUFFER_MULTIPLE_THREADS_CONFIG_FILE),
+                Arguments.of(TestDataProvider.VALID_ZERO_BUFFER_WITH_SINGLE_THREAD_PROCESSOR_CONFIG_FILE),
+                Arguments.of(TestDataProvider.VALID_ZERO_BUFFER_MULTIPLE_THREADS_WITH_PROCESSORS_CONFIG_FILE)
         );
     }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.parser.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.pipeline.parser.DataPrepperDurationDeserializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AdaptiveBackpressureConfigTest {
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper(new YAMLFactory());
+
+        final SimpleModule simpleModule = new SimpleModule()
+                .addDeserializer(Duration.class, new DataPrepperDurationDeserializer());
+        objectMapper.registerModule(simpleModule);
+    }
+
+    @Test
+    void deserialize_adaptive_backpressure() throws IOException {
+        final InputStream resourceStream = this.getClass().getResourceAsStream("adaptive_backpressure.yaml");
+
+        final AdaptiveBackpressureConfig config = objectMapper.readValue(resourceStream, AdaptiveBackpressureConfig.class);
+
+        assertThat(config.getCheckInterval(), equalTo(Duration.ofSeconds(2)));
+        assertThat(config.getHeapAfterGcUsage(), equalTo(0.6));
+        assertThat(config.getGcTimeRatio(), equalTo(0.2));
+        assertThat(config.getBufferUsage(), equalTo(0.9));
+        assertThat(config.getBatchLatency(), equalTo(Duration.ofSeconds(30)));
+        assertThat(config.getDecreaseFactor(), equalTo(0.5));
+        assertThat(config.getIncreaseRatio(), equalTo(0.2));
+        assertThat(config.getMinimumRecordsPerSecond(), equalTo(50));
+        assertThat(config.getPipelineShares(), equalTo(Map.of("ingest-pipeline", 3.0, "batch-pipeline", 1.0)));
+    }
+
+    @Test
+    void deserialize_adaptive_backpressure_with_defaults() throws IOException {
+        final InputStream resourceStream = this.getClass().getResourceAsStream("adaptive_backpressure_defaults.yaml");
+
+        final AdaptiveBackpressureConfig config = objectMapper.readValue(resourceStream, AdaptiveBackpressureConfig.class);
+
+        assertThat(config.getCheckInterval(), equalTo(AdaptiveBackpressureConfig.DEFAULT_CHECK_INTERVAL));
+        assertThat(config.getHeapAfterGcUsage(), equalTo(AdaptiveBackpressureConfig.DEFAULT_HEAP_AFTER_GC_USAGE));
+        assertThat(config.getGcTimeRatio(), equalTo(AdaptiveBackpressureConfig.DEFAULT_GC_TIME_RATIO));
+        assertThat(config.getBufferUsage(), equalTo(AdaptiveBackpressureConfig.DEFAULT_BUFFER_USAGE));
+        assertThat(config.getBatchLatency(), equalTo(AdaptiveBackpressureConfig.DEFAULT_BATCH_LATENCY));
+        assertThat(config.getDecreaseFactor(), equalTo(AdaptiveBackpressureConfig.DEFAULT_DECREASE_FACTOR));
+        assertThat(config.getIncreaseRatio(), equalTo(AdaptiveBackpressureConfig.DEFAULT_INCREASE_RATIO));
+        assertThat(config.getMinimumRecordsPerSecond(), equalTo(AdaptiveBackpressureConfig.DEFAULT_MINIMUM_RECORDS_PER_SECOND));
+        assertThat(config.getPipelineShares().isEmpty(), equalTo(true));
+    }
+}
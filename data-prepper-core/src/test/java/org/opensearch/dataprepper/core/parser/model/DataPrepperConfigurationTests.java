@@ -23,6 +23,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.TestDataProvider;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.core.pipeline.PipelineShutdownOption;
+import org.opensearch.dataprepper.core.pipeline.PipelineThreadModel;
 import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.pipeline.parser.ByteCountDeserializer;
 import org.opensearch.dataprepper.pipeline.parser.DataPrepperDurationDeserializer;
@@ -113,6 +114,7 @@ public class DataPrepperConfigurationTests {
         assertThat(dataPrepperConfiguration.getMetricRegistryTypes(), Matchers.hasItem(MetricRegistryType.CloudWatch));
         assertThat(dataPrepperConfiguration.getSourceCoordinationConfig(), notNullValue());
         assertThat(dataPrepperConfiguration.getSourceCoordinationConfig().getPartitionPrefix(), equalTo("some-prefix"));
+        assertThat(dataPrepperConfiguration.getSourceCoordinationConfig().getPartitionAcquisitionBatchSize(), equalTo(25));
         assertThat(dataPrepperConfiguration.getSourceCoordinationConfig().getSourceCoordinationStoreConfig(), notNullValue());
         assertThat(dataPrepperConfiguration.getSourceCoordinationConfig().getSourceCoordinationStoreConfig().getName(), equalTo("dynamodb"));
     }
@@ -268,6 +270,20 @@ public class DataPrepperConfigurationTests {
         assertThat(config.getPipelineShutdown(), equalTo(PipelineShutdownOption.ON_ALL_PIPELINE_FAILURES));
     }
 
+    @Test
+    void testConfigHasDefaultPipelineThreadModel() throws IOException {
+        final DataPrepperConfiguration config = makeConfig("src/test/resources/valid_data_prepper_config.yml");
+        assertThat(config, notNullValue());
+        assertThat(config.getPipelineThreadModel(), equalTo(PipelineThreadModel.PLATFORM));
+    }
+
+    @Test
+    void testConfigWithPipelineThreadModel() throws IOException {
+        final DataPrepperConfiguration config = makeConfig("src/test/resources/valid_data_prepper_config_with_pipeline_thread_model.yml");
+        assertThat(config, notNullValue());
+        assertThat(config.getPipelineThreadModel(), equalTo(PipelineThreadModel.VIRTUAL));
+    }
+
     @Test
     void testConfigWithTestExtension() throws IOException {
         final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.parser.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.pipeline.parser.DataPrepperDurationDeserializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PipelineProfilingConfigTest {
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper(new YAMLFactory());
+
+        final SimpleModule simpleModule = new SimpleModule()
+                .addDeserializer(Duration.class, new DataPrepperDurationDeserializer());
+        objectMapper.registerModule(simpleModule);
+    }
+
+    @Test
+    void deserialize_pipeline_profiling() throws IOException {
+        final InputStream resourceStream = this.getClass().getResourceAsStream("pipeline_profiling.yaml");
+
+        final PipelineProfilingConfig config = objectMapper.readValue(resourceStream, PipelineProfilingConfig.class);
+
+        assertThat(config.getSampleInterval(), equalTo(50));
+        assertThat(config.getMaxProfileDuration(), equalTo(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void deserialize_pipeline_profiling_with_defaults() throws IOException {
+        final InputStream resourceStream = this.getClass().getResourceAsStream("pipeline_profiling_defaults.yaml");
+
+        final PipelineProfilingConfig config = objectMapper.readValue(resourceStream, PipelineProfilingConfig.class);
+
+        assertThat(config.getSampleInterval(), equalTo(PipelineProfilingConfig.DEFAULT_SAMPLE_INTERVAL));
+        assertThat(config.getMaxProfileDuration(), equalTo(PipelineProfilingConfig.DEFAULT_MAX_PROFILE_DURATION));
+    }
+
+    @Test
+    void data_prepper_configuration_defaults_the_pipeline_profiling() {
+        final PipelineProfilingConfig config = new DataPrepperConfiguration().getPipelineProfilingConfig();
+
+        assertThat(config.getSampleInterval(), equalTo(PipelineProfilingConfig.DEFAULT_SAMPLE_INTERVAL));
+        assertThat(config.getMaxProfileDuration(), equalTo(PipelineProfilingConfig.DEFAULT_MAX_PROFILE_DURATION));
+    }
+}
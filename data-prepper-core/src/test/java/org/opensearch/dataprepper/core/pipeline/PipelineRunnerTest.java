@@ -19,6 +19,8 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.core.pipeline.common.FutureHelper;
 import org.opensearch.dataprepper.core.pipeline.common.FutureHelperResult;
+import org.opensearch.dataprepper.core.pipeline.profile.PipelineStageMetrics;
+import org.opensearch.dataprepper.core.pipeline.profile.StageRecording;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
@@ -39,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
@@ -48,6 +51,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
@@ -58,6 +62,7 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -438,8 +443,86 @@ class PipelineRunnerTest {
             pipelineRunner.runAllProcessorsAndPublishToSinks();
 
             verify(processor).execute(recordsList);
+            verify(processorProvider).releaseProcessors(processors);
             verify(pipeline).publishToSinks(recordsList);
             verify(buffer).checkpoint(checkpointState);
         }
+
+        @Test
+        void testRunAllProcessorsAndPublishToSinksWithTimeoutLeasesProcessorsWithTheTimeout() throws Exception {
+            Collection recordsList = new ArrayList<>();
+            recordsList.add(record);
+            setupPipeline(false);
+            when(pipeline.getBuffer()).thenReturn(buffer);
+            when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(BUFFER_READ_TIMEOUT_MILLIS);
+            when(pipeline.getName()).thenReturn(MOCK_PIPELINE_NAME);
+            when(pipeline.publishToSinks(anyCollection())).thenReturn(
+                    Collections.singletonList(CompletableFuture.completedFuture(null)));
+            when(processorProvider.getProcessors(100)).thenReturn(processors);
+
+            Map.Entry<Collection, CheckpointState> entry =
+                    new AbstractMap.SimpleEntry<>(recordsList, checkpointState);
+            when(buffer.read(BUFFER_READ_TIMEOUT_MILLIS)).thenReturn(entry);
+            when(processor.execute(recordsList)).thenReturn(recordsList);
+            PipelineRunnerImpl pipelineRunner = createObjectUnderTest();
+            pipelineRunner.runAllProcessorsAndPublishToSinks(100);
+
+            verify(processor).execute(recordsList);
+            verify(processorProvider).releaseProcessors(processors);
+            verify(pipeline).publishToSinks(recordsList);
+            verify(buffer).checkpoint(checkpointState);
+        }
+
+        @Test
+        void testRunAllProcessorsAndPublishToSinksWithTimeoutThrowsWhenProcessorsAreNotReleasedInTime() throws Exception {
+            Collection recordsList = new ArrayList<>();
+            recordsList.add(record);
+            setupPipeline(false);
+            when(pipeline.getBuffer()).thenReturn(buffer);
+            when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(BUFFER_READ_TIMEOUT_MILLIS);
+            when(processorProvider.getProcessors(100)).thenThrow(TimeoutException.class);
+
+            Map.Entry<Collection, CheckpointState> entry =
+                    new AbstractMap.SimpleEntry<>(recordsList, checkpointState);
+            when(buffer.read(BUFFER_READ_TIMEOUT_MILLIS)).thenReturn(entry);
+            PipelineRunnerImpl pipelineRunner = createObjectUnderTest();
+
+            assertThrows(TimeoutException.class, () -> pipelineRunner.runAllProcessorsAndPublishToSinks(100));
+
+            verify(processor, never()).execute(any());
+            verify(pipeline, never()).publishToSinks(anyCollection());
+        }
+
+        @Test
+        void testRunAllProcessorsAndPublishToSinksRecordsEachStageOfASampledBatch() {
+            Collection recordsList = new ArrayList<>();
+            recordsList.add(record);
+            setupPipeline(false);
+            final PipelineStageMetrics stageMetrics = mock(PipelineStageMetrics.class);
+            final PipelineStageMetrics.Sampler stageSampler = mock(PipelineStageMetrics.Sampler.class);
+            final StageRecording stageRecording = mock(StageRecording.class);
+            when(pipeline.getStageMetrics()).thenReturn(stageMetrics);
+            when(stageMetrics.createSampler()).thenReturn(stageSampler);
+            when(stageSampler.nextBatch()).thenReturn(stageRecording);
+            when(pipeline.getBuffer()).thenReturn(buffer);
+            when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(BUFFER_READ_TIMEOUT_MILLIS);
+            when(pipeline.getName()).thenReturn(MOCK_PIPELINE_NAME);
+            when(pipeline.publishToSinks(anyCollection())).thenReturn(
+                    Collections.singletonList(CompletableFuture.completedFuture(null)));
+            when(processorProvider.getProcessors()).thenReturn(processors);
+
+            Map.Entry<Collection, CheckpointState> entry =
+                    new AbstractMap.SimpleEntry<>(recordsList, checkpointState);
+            when(buffer.read(BUFFER_READ_TIMEOUT_MILLIS)).thenReturn(entry);
+            when(processor.execute(recordsList)).thenReturn(Collections.emptyList());
+            PipelineRunnerImpl pipelineRunner = createObjectUnderTest();
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            verify(stageRecording, times(3)).startStage();
+            verify(stageRecording).endBufferRead(1);
+            verify(stageRecording).endProcessor(0, 1, 0);
+            verify(stageRecording).endSinkPublish(0);
+            verify(buffer).checkpoint(checkpointState);
+        }
     }
 }
\ No newline at end of file
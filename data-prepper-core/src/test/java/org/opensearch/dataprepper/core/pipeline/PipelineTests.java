@@ -17,16 +17,21 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.DataPrepperShutdownOptions;
 import org.opensearch.dataprepper.core.parser.DataFlowComponent;
+import org.opensearch.dataprepper.core.pipeline.buffer.ZeroBuffer;
 import org.opensearch.dataprepper.core.pipeline.common.FutureHelper;
 import org.opensearch.dataprepper.core.pipeline.common.TestProcessor;
+import org.opensearch.dataprepper.core.pipeline.common.VirtualThreadFactory;
 import org.opensearch.dataprepper.core.pipeline.router.Router;
 import org.opensearch.dataprepper.core.pipeline.router.RouterCopyRecordStrategy;
 import org.opensearch.dataprepper.core.pipeline.router.RouterGetRecordStrategy;
 import org.opensearch.dataprepper.core.sourcecoordination.SourceCoordinatorFactory;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
+import org.opensearch.dataprepper.model.annotations.SingleThread;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.DelegatingBuffer;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.event.EventFactory;
@@ -48,13 +53,19 @@ import org.opensearch.dataprepper.plugins.test.TestSource;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -64,10 +75,14 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
@@ -446,6 +461,145 @@ class PipelineTests {
         assertTrue(testPipeline.areAcknowledgementsEnabled());
     }
 
+    @Test
+    void testThreadModelDefaultsToPlatform() {
+        final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, mock(Source.class), mock(Buffer.class), Collections.emptyList(),
+                Collections.emptyList(), router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+
+        assertThat(testPipeline.getThreadModel(), equalTo(PipelineThreadModel.PLATFORM));
+    }
+
+    @Test
+    void testVirtualThreadModelThrowsWhenVirtualThreadsAreUnsupported() {
+        assumeFalse(VirtualThreadFactory.isSupported());
+
+        assertThrows(UnsupportedOperationException.class, () -> new Pipeline(TEST_PIPELINE_NAME, mock(Source.class), mock(Buffer.class),
+                Collections.emptyList(), Collections.emptyList(), router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory,
+                TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout,
+                null, PipelineThreadModel.VIRTUAL));
+    }
+
+    @Test
+    void zero_buffer_pipeline_never_runs_a_SingleThread_processor_instance_on_two_threads_at_once() throws Exception {
+        final int processorThreads = 2;
+        final int writerThreads = 8;
+        final int writesPerThread = 50;
+        final List<ConcurrencyTrackingProcessor> processors = IntStream.range(0, processorThreads)
+                .mapToObj(i -> new ConcurrencyTrackingProcessor())
+                .collect(Collectors.toList());
+        final PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        when(pipelineDescription.getPipelineName()).thenReturn(TEST_PIPELINE_NAME);
+        final ZeroBuffer<Record<String>> zeroBuffer = new ZeroBuffer<>(pipelineDescription);
+        // The pipeline transformer decorates the buffer defined by the pipeline before the pipeline gets it.
+        final Buffer<Record<String>> decoratedBuffer = new DelegatingBuffer<Record<String>>(zeroBuffer) { };
+        final List<Record<String>> sinkRecords = new CopyOnWriteArrayList<>();
+        final Sink<Record<String>> sink = mock(Sink.class);
+        when(sink.isReady()).thenReturn(true);
+        doAnswer(a -> sinkRecords.addAll(a.getArgument(0))).when(sink).output(anyCollection());
+        final DataFlowComponent<Sink> sinkDataFlowComponent = mock(DataFlowComponent.class);
+        when(sinkDataFlowComponent.getComponent()).thenReturn(sink);
+        final List<DataFlowComponent<Sink>> sinks = Collections.singletonList(sinkDataFlowComponent);
+        doAnswer(a -> {
+            a.<BiConsumer<Sink, Collection<Record>>>getArgument(3).accept(sink, a.getArgument(0));
+            return null;
+        }).when(router).route(anyCollection(), eq(sinks), any(RouterGetRecordStrategy.class), any(BiConsumer.class));
+        testPipeline = new Pipeline(TEST_PIPELINE_NAME, mock(Source.class), decoratedBuffer,
+                Collections.singletonList(new ArrayList<>(processors)), sinks,
+                router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, processorThreads,
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout,
+                null, null, true);
+        zeroBuffer.setPipelineRunner(new PipelineRunnerImpl(testPipeline, testPipeline.getWriterProcessorProvider()));
+        testPipeline.execute();
+        await().atMost(Duration.ofSeconds(5)).until(testPipeline::isSourceStarted);
+
+        final ExecutorService writers = Executors.newFixedThreadPool(writerThreads);
+        try {
+            final List<Future<?>> writes = IntStream.range(0, writerThreads)
+                    .mapToObj(i -> writers.submit(() -> {
+                        for (int j = 0; j < writesPerThread; j++) {
+                            decoratedBuffer.writeAll(Collections.singletonList(new Record<>(UUID.randomUUID().toString())), 10_000);
+                        }
+                        return null;
+                    }))
+                    .collect(Collectors.toList());
+            for (final Future<?> write : writes) {
+                write.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            writers.shutdownNow();
+        }
+        await().atMost(Duration.ofSeconds(10)).until(() -> sinkRecords.size() == writerThreads * writesPerThread);
+        testPipeline.shutdown();
+
+        int executions = 0;
+        for (final ConcurrencyTrackingProcessor processor : processors) {
+            assertThat(processor.overlappingCalls.get(), equalTo(0));
+            executions += processor.executions.get();
+        }
+        assertThat(executions, greaterThanOrEqualTo(writerThreads * writesPerThread));
+        assertThat(sinkRecords.size(), equalTo(writerThreads * writesPerThread));
+    }
+
+    @Test
+    void getSingleThreadUnsafeProcessorProvider_returns_the_writer_processor_provider() {
+        final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, mock(Source.class), mock(Buffer.class), Collections.emptyList(),
+                Collections.emptyList(), router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+
+        assertThat(testPipeline.getSingleThreadUnsafeProcessorProvider(), sameInstance(testPipeline.getWriterProcessorProvider()));
+    }
+
+    @SingleThread
+    private static class ConcurrencyTrackingProcessor implements Processor<Record<String>, Record<String>> {
+        private final AtomicInteger callsInProgress = new AtomicInteger();
+        private final AtomicInteger overlappingCalls = new AtomicInteger();
+        private final AtomicInteger executions = new AtomicInteger();
+
+        @Override
+        public Collection<Record<String>> execute(final Collection<Record<String>> records) {
+            enter();
+            try {
+                Thread.sleep(1);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exit();
+            }
+            if (!records.isEmpty()) {
+                executions.incrementAndGet();
+            }
+            return records;
+        }
+
+        @Override
+        public void prepareForShutdown() {
+            enter();
+            exit();
+        }
+
+        @Override
+        public boolean isReadyForShutdown() {
+            enter();
+            exit();
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        private void enter() {
+            if (callsInProgress.incrementAndGet() > 1) {
+                overlappingCalls.incrementAndGet();
+            }
+        }
+
+        private void exit() {
+            callsInProgress.decrementAndGet();
+        }
+    }
+
     @Nested
     class PublishToSink {
 
@@ -580,6 +734,27 @@ class PipelineTests {
                 }
             }
 
+            @Test
+            void publishToSinks_with_virtual_thread_model_outputs_to_each_Sink_on_a_virtual_thread() throws Exception {
+                assumeTrue(VirtualThreadFactory.isSupported());
+                final List<Thread> outputThreads = new CopyOnWriteArrayList<>();
+                for (Sink sink : sinks) {
+                    doAnswer(a -> outputThreads.add(Thread.currentThread())).when(sink).output(records);
+                }
+                final Pipeline objectUnderTest = new Pipeline(TEST_PIPELINE_NAME, mockSource, mock(Buffer.class), Collections.emptyList(),
+                        dataFlowComponents, router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
+                        TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout,
+                        null, PipelineThreadModel.VIRTUAL);
+
+                FutureHelper.awaitFuturesIndefinitely(objectUnderTest.publishToSinks(records));
+
+                assertThat(objectUnderTest.getThreadModel(), equalTo(PipelineThreadModel.VIRTUAL));
+                assertThat(outputThreads.size(), equalTo(sinks.size()));
+                for (Thread outputThread : outputThreads) {
+                    assertThat(Thread.class.getMethod("isVirtual").invoke(outputThread), equalTo(true));
+                }
+            }
+
         }
 
         @Nested
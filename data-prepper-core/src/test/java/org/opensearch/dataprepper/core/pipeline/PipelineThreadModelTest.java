@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PipelineThreadModelTest {
+    @ParameterizedTest
+    @EnumSource(PipelineThreadModel.class)
+    void fromOptionName_returns_same_option(final PipelineThreadModel threadModel) {
+        assertThat(PipelineThreadModel.fromOptionName(threadModel.getOptionName()), equalTo(threadModel));
+    }
+
+    @Test
+    void fromOptionName_returns_null_for_an_unknown_name() {
+        assertThat(PipelineThreadModel.fromOptionName("green"), nullValue());
+    }
+}
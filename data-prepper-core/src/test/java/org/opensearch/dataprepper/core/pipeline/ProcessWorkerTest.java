@@ -21,10 +21,13 @@ import org.opensearch.dataprepper.model.processor.Processor;
 import java.time.Duration;
 import java.util.List;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -94,6 +97,32 @@ public class ProcessWorkerTest {
         verify(processor, atLeastOnce()).prepareForShutdown();
     }
 
+    @Test
+    void testPooledProcessWorkerPreparesItsProcessorsForShutdownOnlyWhileHoldingTheirLease() throws InterruptedException {
+        processors = List.of(processor);
+        when(pipeline.getPeerForwarderDrainTimeout()).thenReturn(Duration.ofMillis(1));
+        when(processor.isReadyForShutdown()).thenReturn(true);
+        final ProcessorSetPool processorSetPool = new ProcessorSetPool(1);
+        processorSetPool.addProcessorSet(processors);
+        final List<Processor> writerLease = processorSetPool.getProcessors();
+
+        final ProcessWorker processWorker;
+        try (final MockedConstruction<PipelineRunnerImpl> ignored = mockConstruction(PipelineRunnerImpl.class)) {
+            processWorker = new ProcessWorker(buffer, pipeline, processors, processorSetPool);
+        }
+        final Thread workerThread = new Thread(processWorker);
+        workerThread.start();
+
+        Thread.sleep(100);
+        verify(processor, never()).prepareForShutdown();
+
+        processorSetPool.releaseProcessors(writerLease);
+        workerThread.join(5000);
+
+        verify(processor).prepareForShutdown();
+        assertThat(processorSetPool.getAvailableProcessorSets(), equalTo(1));
+    }
+
     @Test
     void testProcessWorkerShutdownProcessWaitsUntilBufferEmpty() {
         processors = List.of(processor);
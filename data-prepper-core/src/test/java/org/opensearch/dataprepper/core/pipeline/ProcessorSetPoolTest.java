@@ -0,0 +1,185 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.processor.Processor;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+@SuppressWarnings({"rawtypes"})
+class ProcessorSetPoolTest {
+
+    @Test
+    void getProcessors_leases_each_processor_set_to_a_single_caller() {
+        final ProcessorSetPool objectUnderTest = new ProcessorSetPool(2);
+        final List<Processor> firstSet = List.of(mock(Processor.class));
+        final List<Processor> secondSet = List.of(mock(Processor.class));
+        objectUnderTest.addProcessorSet(firstSet);
+        objectUnderTest.addProcessorSet(secondSet);
+
+        final List<Processor> firstLease = objectUnderTest.getProcessors();
+        final List<Processor> secondLease = objectUnderTest.getProcessors();
+
+        assertThat(firstLease, not(sameInstance(secondLease)));
+        assertThat(objectUnderTest.getAvailableProcessorSets(), equalTo(0));
+
+        objectUnderTest.releaseProcessors(firstLease);
+        assertThat(objectUnderTest.getProcessors(), sameInstance(firstLease));
+    }
+
+    @Test
+    void addProcessorSet_throws_when_pool_is_full() {
+        final ProcessorSetPool objectUnderTest = new ProcessorSetPool(1);
+        objectUnderTest.addProcessorSet(List.of());
+
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.addProcessorSet(List.of()));
+    }
+
+    @Test
+    void getProcessors_waits_for_a_released_processor_set() throws Exception {
+        final ProcessorSetPool objectUnderTest = new ProcessorSetPool(1);
+        final List<Processor> processorSet = List.of(mock(Processor.class));
+        objectUnderTest.addProcessorSet(processorSet);
+        final List<Processor> lease = objectUnderTest.getProcessors();
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<List<Processor>> waitingLease = executorService.submit(() -> objectUnderTest.getProcessors());
+            Thread.sleep(50);
+            assertThat(waitingLease.isDone(), equalTo(false));
+
+            objectUnderTest.releaseProcessors(lease);
+
+            assertThat(waitingLease.get(5, TimeUnit.SECONDS), sameInstance(processorSet));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void getProcessors_with_timeout_throws_when_no_processor_set_is_released_in_time() throws Exception {
+        final ProcessorSetPool objectUnderTest = new ProcessorSetPool(1);
+        final List<Processor> processorSet = List.of(mock(Processor.class));
+        objectUnderTest.addProcessorSet(processorSet);
+
+        final List<Processor> lease = objectUnderTest.getProcessors(10);
+        assertThat(lease, sameInstance(processorSet));
+
+        assertThrows(TimeoutException.class, () -> objectUnderTest.getProcessors(10));
+
+        objectUnderTest.releaseProcessors(lease);
+        assertThat(objectUnderTest.getProcessors(10), sameInstance(processorSet));
+    }
+
+    @Test
+    void leaseProcessorSet_waits_for_that_processor_set_to_be_released() throws Exception {
+        final ProcessorSetPool objectUnderTest = new ProcessorSetPool(2);
+        final List<Processor> firstSet = List.of(mock(Processor.class));
+        final List<Processor> secondSet = List.of(mock(Processor.class));
+        objectUnderTest.addProcessorSet(firstSet);
+        objectUnderTest.addProcessorSet(secondSet);
+        final List<Processor> firstLease = objectUnderTest.getProcessors();
+        assertThat(firstLease, sameInstance(firstSet));
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> waitingLease = executorService.submit(() -> objectUnderTest.leaseProcessorSet(firstSet));
+            Thread.sleep(50);
+            assertThat(waitingLease.isDone(), equalTo(false));
+            assertThat(objectUnderTest.getAvailableProcessorSets(), equalTo(1));
+
+            objectUnderTest.releaseProcessors(firstLease);
+
+            waitingLease.get(5, TimeUnit.SECONDS);
+            assertThat(objectUnderTest.getProcessors(), sameInstance(secondSet));
+            assertThat(objectUnderTest.getAvailableProcessorSets(), equalTo(0));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void leaseProcessorSet_throws_for_a_processor_set_outside_the_pool() {
+        final ProcessorSetPool objectUnderTest = new ProcessorSetPool(1);
+        objectUnderTest.addProcessorSet(List.of(mock(Processor.class)));
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.leaseProcessorSet(List.of(mock(Processor.class))));
+    }
+
+    @Test
+    void getProcessors_after_swapProcessors_returns_the_new_processors_to_every_caller() {
+        final ProcessorSetPool objectUnderTest = new ProcessorSetPool(1);
+        final List<Processor> originalSet = List.of(mock(Processor.class));
+        objectUnderTest.addProcessorSet(originalSet);
+        final List<Processor> originalLease = objectUnderTest.getProcessors();
+        final Processor newProcessor = mock(Processor.class);
+
+        objectUnderTest.swapProcessors(List.of(newProcessor));
+        objectUnderTest.releaseProcessors(originalLease);
+
+        final List<Processor> firstLease = objectUnderTest.getProcessors();
+        final List<Processor> secondLease = objectUnderTest.getProcessors();
+        assertThat(firstLease, equalTo(List.of(newProcessor)));
+        assertThat(secondLease, sameInstance(firstLease));
+        objectUnderTest.releaseProcessors(firstLease);
+        objectUnderTest.releaseProcessors(secondLease);
+        assertThat(objectUnderTest.getAvailableProcessorSets(), equalTo(1));
+    }
+
+    @Test
+    void concurrent_callers_never_share_a_processor_set() throws Exception {
+        final int processorSets = 3;
+        final int threads = 8;
+        final ProcessorSetPool objectUnderTest = new ProcessorSetPool(processorSets);
+        for (int i = 0; i < processorSets; i++) {
+            objectUnderTest.addProcessorSet(List.of(mock(Processor.class)));
+        }
+
+        final AtomicInteger concurrentLeases = new AtomicInteger();
+        final AtomicInteger maxConcurrentLeases = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(threads);
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executorService.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        final List<Processor> lease = objectUnderTest.getProcessors();
+                        maxConcurrentLeases.accumulateAndGet(concurrentLeases.incrementAndGet(), Math::max);
+                        concurrentLeases.decrementAndGet();
+                        objectUnderTest.releaseProcessors(lease);
+                    }
+                    done.countDown();
+                });
+            }
+            assertThat(done.await(30, TimeUnit.SECONDS), equalTo(true));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(maxConcurrentLeases.get(), lessThanOrEqualTo(processorSets));
+        assertThat(objectUnderTest.getAvailableProcessorSets(), equalTo(processorSets));
+    }
+}
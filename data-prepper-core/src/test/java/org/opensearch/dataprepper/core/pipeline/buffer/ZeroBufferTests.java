@@ -21,6 +21,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -70,7 +71,7 @@ public class ZeroBufferTests {
         @Test
         public void testSingleWriteAndReadReturnsCorrectRecord() throws Exception {
             ZeroBuffer<Record<String>> zeroBuffer = createObjectUnderTest();
-            doNothing().when(pipelineRunner).runAllProcessorsAndPublishToSinks();
+            doNothing().when(pipelineRunner).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
 
             zeroBuffer.write(generateRecord(SINGLE_RECORD_DATA_FORMAT), WRITE_TIMEOUT);
 
@@ -82,13 +83,13 @@ public class ZeroBufferTests {
             zeroBuffer.write(generateRecord(SINGLE_RECORD_DATA_FORMAT), WRITE_TIMEOUT);
             readRecords = zeroBuffer.read(READ_TIMEOUT).getKey();
             assertEquals(1, readRecords.size());
-            verify(pipelineRunner, times(2)).runAllProcessorsAndPublishToSinks();
+            verify(pipelineRunner, times(2)).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
         }
 
         @Test
         public void testMultipleWriteAndReadReturnsCorrectRecord() throws Exception {
             ZeroBuffer<Record<String>> zeroBuffer = createObjectUnderTest();
-            doNothing().when(pipelineRunner).runAllProcessorsAndPublishToSinks();
+            doNothing().when(pipelineRunner).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
 
             zeroBuffer.write(generateRecord(SINGLE_RECORD_DATA_FORMAT), WRITE_TIMEOUT);
             zeroBuffer.write(generateRecord(SINGLE_RECORD_DATA_FORMAT), WRITE_TIMEOUT);
@@ -97,13 +98,13 @@ public class ZeroBufferTests {
             assertEquals(2, readRecords.size());
             assertEquals(SINGLE_RECORD_DATA_FORMAT, readRecords.iterator().next().getData());
             assertEquals(SINGLE_RECORD_DATA_FORMAT, readRecords.iterator().next().getData());
-            verify(pipelineRunner, times(2)).runAllProcessorsAndPublishToSinks();
+            verify(pipelineRunner, times(2)).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
         }
 
         @Test
         public void testWriteAllAndReadReturnsAllRecords() throws Exception {
             ZeroBuffer<Record<String>> zeroBuffer = createObjectUnderTest();
-            doNothing().when(pipelineRunner).runAllProcessorsAndPublishToSinks();
+            doNothing().when(pipelineRunner).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
 
             Collection<Record<String>> writeRecords = generateRecords(IntStream.range(0, 10)
                     .mapToObj(i -> String.format(BATCH_RECORDS_DATA_FORMAT, i))
@@ -118,11 +119,11 @@ public class ZeroBufferTests {
 
             // Ensure that the write records are the same as the read records
             assertEquals(writeRecords.size(), readRecords.size());
-            verify(pipelineRunner).runAllProcessorsAndPublishToSinks();
+            verify(pipelineRunner).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
         }
 
         @Test
-        public void testWriteNullRecordThrowsException() {
+        public void testWriteNullRecordThrowsException() throws Exception {
             ZeroBuffer<Record<String>> zeroBuffer = createObjectUnderTest();
 
             Exception writeException = assertThrows(NullPointerException.class, () -> {
@@ -135,20 +136,20 @@ public class ZeroBufferTests {
 
             assertEquals("The write record cannot be null", writeException.getMessage());
             assertEquals("The write records cannot be null", writeAllException.getMessage());
-            verify(pipelineRunner, never()).runAllProcessorsAndPublishToSinks();
+            verify(pipelineRunner, never()).runAllProcessorsAndPublishToSinks(anyInt());
         }
 
         @Test
-        public void testWriteEmptyRecordDoesNotThrowException() {
+        public void testWriteEmptyRecordDoesNotThrowException() throws Exception {
             ZeroBuffer<Record<String>> zeroBuffer = createObjectUnderTest();
-            doNothing().when(pipelineRunner).runAllProcessorsAndPublishToSinks();
+            doNothing().when(pipelineRunner).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
 
             Record<String> emptyRecord = generateRecord(null);
             Collection<Record<String>> emptyRecordCollection = generateRecords(new ArrayList<>());
 
             assertDoesNotThrow(() -> zeroBuffer.write(emptyRecord, WRITE_TIMEOUT));
             assertDoesNotThrow(() -> zeroBuffer.writeAll(emptyRecordCollection, WRITE_TIMEOUT));
-            verify(pipelineRunner, times(2)).runAllProcessorsAndPublishToSinks();
+            verify(pipelineRunner, times(2)).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
         }
 
         @Test
@@ -159,9 +160,9 @@ public class ZeroBufferTests {
                 try {
                     PipelineRunner pipelineRunnerMock = mock(PipelineRunner.class);
                     zeroBuffer.setPipelineRunner(pipelineRunnerMock);
-                    doNothing().when(pipelineRunnerMock).runAllProcessorsAndPublishToSinks();
+                    doNothing().when(pipelineRunnerMock).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
                     zeroBuffer.write(generateRecord(SINGLE_RECORD_DATA_FORMAT), WRITE_TIMEOUT);
-                    verify(pipelineRunnerMock).runAllProcessorsAndPublishToSinks();
+                    verify(pipelineRunnerMock).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
                 } catch (TimeoutException e) {
                     fail("Timeout exception occurred");
                 }
@@ -172,13 +173,13 @@ public class ZeroBufferTests {
             // Ensure that main thread does not share the same records store as the worker thread
             assertEquals(0, zeroBuffer.read(READ_TIMEOUT).getKey().size());
             assertTrue(zeroBuffer.isEmpty());
-            verify(pipelineRunner, never()).runAllProcessorsAndPublishToSinks();
+            verify(pipelineRunner, never()).runAllProcessorsAndPublishToSinks(anyInt());
         }
 
         @Test
         public void testWriteAndWriteAllReturnsCorrectRecords() throws Exception {
             ZeroBuffer<Record<String>> zeroBuffer = createObjectUnderTest();
-            doNothing().when(pipelineRunner).runAllProcessorsAndPublishToSinks();
+            doNothing().when(pipelineRunner).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
 
             zeroBuffer.write(generateRecord(SINGLE_RECORD_DATA_FORMAT), WRITE_TIMEOUT);
             zeroBuffer.writeAll(generateRecords(IntStream.range(0, 10)
@@ -190,7 +191,7 @@ public class ZeroBufferTests {
                 LOG.debug(record.getData());
             }
             assertEquals(11, readRecords.size());
-            verify(pipelineRunner, times(2)).runAllProcessorsAndPublishToSinks();
+            verify(pipelineRunner, times(2)).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
         }
     }
 
@@ -209,16 +210,16 @@ public class ZeroBufferTests {
             assertEquals(SINGLE_RECORD_DATA_FORMAT, initialReadRecords.iterator().next().getData());
 
             assertEquals(0, secondAttemptToReadRecords.size());
-            verify(pipelineRunner).runAllProcessorsAndPublishToSinks();
+            verify(pipelineRunner).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
         }
 
         @Test
-        public void testReadFromEmptyBufferReturnsNoRecords() {
+        public void testReadFromEmptyBufferReturnsNoRecords() throws Exception {
             ZeroBuffer<Record<String>> zeroBuffer = createObjectUnderTest();
 
             Map.Entry<Collection<Record<String>>, CheckpointState> readRecordsMap = zeroBuffer.read(READ_TIMEOUT);
             assertTrue(readRecordsMap.getKey().isEmpty());
-            verify(pipelineRunner, never()).runAllProcessorsAndPublishToSinks();
+            verify(pipelineRunner, never()).runAllProcessorsAndPublishToSinks(anyInt());
         }
 
         @Test
@@ -238,10 +239,10 @@ public class ZeroBufferTests {
     @Nested
     class EmptyBufferTests {
         @Test
-        public void testIsEmptyReturnsTrueWhenBufferIsEmpty() {
+        public void testIsEmptyReturnsTrueWhenBufferIsEmpty() throws Exception {
             ZeroBuffer<Record<String>> zeroBuffer = createObjectUnderTestWithPipelineName();
             assertTrue(zeroBuffer.isEmpty());
-            verify(pipelineRunner, never()).runAllProcessorsAndPublishToSinks();
+            verify(pipelineRunner, never()).runAllProcessorsAndPublishToSinks(anyInt());
         }
 
         @Test
@@ -251,7 +252,7 @@ public class ZeroBufferTests {
             zeroBuffer.write(generateRecord(SINGLE_RECORD_DATA_FORMAT), WRITE_TIMEOUT);
 
             assertFalse(zeroBuffer.isEmpty());
-            verify(pipelineRunner).runAllProcessorsAndPublishToSinks();
+            verify(pipelineRunner).runAllProcessorsAndPublishToSinks(WRITE_TIMEOUT);
         }
     }
 
@@ -17,8 +17,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.core.pipeline.Pipeline;
 
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -100,4 +107,30 @@ public class PipelineThreadPoolExecutorTest {
         verify(runnableFuture).get();
         verify(pipeline).shutdown();
     }
+
+    @Test
+    public void testThreadPerTaskExecutorRunsEachTaskOnItsOwnThread() throws Exception {
+        final int numberOfTasks = 3;
+        final PipelineThreadPoolExecutor threadPerTaskExecutor =
+                PipelineThreadPoolExecutor.newThreadPerTaskExecutor(Executors.defaultThreadFactory(), pipeline);
+        final CountDownLatch allTasksStarted = new CountDownLatch(numberOfTasks);
+        try {
+            final Future<?>[] futures = new Future<?>[numberOfTasks];
+            for (int i = 0; i < numberOfTasks; i++) {
+                futures[i] = threadPerTaskExecutor.submit(() -> {
+                    allTasksStarted.countDown();
+                    allTasksStarted.await(10, TimeUnit.SECONDS);
+                    return null;
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            assertThat(allTasksStarted.getCount(), equalTo(0L));
+            verify(pipeline, never()).shutdown();
+        } finally {
+            threadPerTaskExecutor.shutdownNow();
+        }
+    }
 }
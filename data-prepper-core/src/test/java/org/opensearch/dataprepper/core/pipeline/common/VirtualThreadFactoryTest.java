@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadFactory;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadFactoryTest {
+    private static final int FIRST_JAVA_VERSION_WITH_VIRTUAL_THREADS = 21;
+
+    @Test
+    void isSupported_follows_the_running_Java_version() {
+        assertThat(VirtualThreadFactory.isSupported(),
+                equalTo(Runtime.version().feature() >= FIRST_JAVA_VERSION_WITH_VIRTUAL_THREADS));
+    }
+
+    @Test
+    void create_returns_a_factory_of_named_virtual_threads() throws Exception {
+        assumeTrue(VirtualThreadFactory.isSupported());
+
+        final ThreadFactory threadFactory = VirtualThreadFactory.create("test-pipeline-sink-worker");
+        final Thread thread = threadFactory.newThread(() -> { });
+
+        assertThat(thread.getName(), equalTo("test-pipeline-sink-worker-thread-1"));
+        assertThat(threadFactory.newThread(() -> { }).getName(), startsWith("test-pipeline-sink-worker-thread-"));
+        assertThat(Thread.class.getMethod("isVirtual").invoke(thread), equalTo(true));
+    }
+
+    @Test
+    void create_throws_when_virtual_threads_are_unsupported() {
+        assumeFalse(VirtualThreadFactory.isSupported());
+
+        assertThrows(UnsupportedOperationException.class, () -> VirtualThreadFactory.create("test-pipeline-sink-worker"));
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.profile;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PipelineStageMetricsTest {
+    private static final List<String> PROCESSOR_NAMES = List.of("grok", "date");
+
+    private SimpleMeterRegistry meterRegistry;
+    private String pipelineName;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        pipelineName = UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(meterRegistry);
+        meterRegistry.close();
+    }
+
+    private Timer findTimer(final String name) {
+        return meterRegistry.find(pipelineName + ".PipelineRunner." + name).timer();
+    }
+
+    @Test
+    void constructor_throws_for_a_negative_sample_interval() {
+        assertThrows(IllegalArgumentException.class, () -> new PipelineStageMetrics(pipelineName, PROCESSOR_NAMES, -1));
+    }
+
+    @Test
+    void disabled_sampler_returns_no_recording_and_registers_no_timers() {
+        final PipelineStageMetrics objectUnderTest = new PipelineStageMetrics(pipelineName, PROCESSOR_NAMES, 0);
+
+        final PipelineStageMetrics.Sampler sampler = objectUnderTest.createSampler();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(sampler.nextBatch(), nullValue());
+        }
+        assertThat(findTimer(PipelineStageMetrics.BUFFER_READ_LATENCY), nullValue());
+    }
+
+    @Test
+    void sampler_records_one_batch_per_sample_interval_into_the_timers() {
+        final PipelineStageMetrics objectUnderTest = new PipelineStageMetrics(pipelineName, PROCESSOR_NAMES, 3);
+        final PipelineStageMetrics.Sampler sampler = objectUnderTest.createSampler();
+
+        for (int i = 0; i < 6; i++) {
+            final StageRecording stageRecording = sampler.nextBatch();
+            if (i % 3 != 2) {
+                assertThat(stageRecording, nullValue());
+                continue;
+            }
+            assertThat(stageRecording, notNullValue());
+            stageRecording.startStage();
+            stageRecording.endBufferRead(10);
+            stageRecording.startStage();
+            stageRecording.endProcessor(1, 10, 10);
+            stageRecording.startStage();
+            stageRecording.endSinkPublish(10);
+        }
+
+        assertThat(findTimer(PipelineStageMetrics.BUFFER_READ_LATENCY).count(), equalTo(2L));
+        assertThat(findTimer(PipelineStageMetrics.SINK_PUBLISH_LATENCY).count(), equalTo(2L));
+        final Timer dateTimer = meterRegistry.find(pipelineName + ".PipelineRunner." + PipelineStageMetrics.PROCESSOR_LATENCY)
+                .tag(PipelineStageMetrics.PROCESSOR_TAG, "date")
+                .tag(PipelineStageMetrics.POSITION_TAG, "1")
+                .timer();
+        assertThat(dateTimer.count(), equalTo(2L));
+        final Timer grokTimer = meterRegistry.find(pipelineName + ".PipelineRunner." + PipelineStageMetrics.PROCESSOR_LATENCY)
+                .tag(PipelineStageMetrics.PROCESSOR_TAG, "grok")
+                .timer();
+        assertThat(grokTimer.count(), equalTo(0L));
+    }
+
+    @Test
+    void active_profile_records_every_batch() {
+        final PipelineStageMetrics objectUnderTest = new PipelineStageMetrics(pipelineName, PROCESSOR_NAMES, 0);
+        final PipelineStageMetrics.Sampler sampler = objectUnderTest.createSampler();
+
+        final PipelineProfile profile = objectUnderTest.startProfile();
+        for (int i = 0; i < 4; i++) {
+            final StageRecording stageRecording = sampler.nextBatch();
+            stageRecording.startStage();
+            stageRecording.endBufferRead(8);
+            stageRecording.startStage();
+            stageRecording.endProcessor(0, 8, 6);
+            stageRecording.startStage();
+            stageRecording.endProcessor(1, 6, 6);
+            stageRecording.startStage();
+            stageRecording.endProcessor(2, 6, 6);
+            stageRecording.startStage();
+            stageRecording.endSinkPublish(6);
+        }
+        objectUnderTest.stopProfile(profile);
+
+        assertThat(sampler.nextBatch(), nullValue());
+
+        final Map<String, Object> report = profile.toReport(PROCESSOR_NAMES);
+        assertThat(report.get("pipeline"), equalTo(pipelineName));
+        assertThat(report.get("batches"), equalTo(4L));
+        final List<Map<String, Object>> processors = (List<Map<String, Object>>) report.get("processors");
+        assertThat(processors.size(), equalTo(2));
+        assertThat(processors.get(0).get("name"), equalTo("grok"));
+        assertThat(processors.get(0).get("invocations"), equalTo(4L));
+        assertThat(processors.get(0).get("records_in"), equalTo(32L));
+        assertThat(processors.get(0).get("records_out"), equalTo(24L));
+        assertThat(processors.get(0).get("mean_batch_size"), equalTo(8.0));
+        assertThat(processors.get(1).get("position"), equalTo(1));
+        assertThat(processors.get(1).get("records_in"), equalTo(24L));
+        final Map<String, Object> sinkPublish = (Map<String, Object>) report.get("sink_publish");
+        assertThat(sinkPublish.get("records_in"), equalTo(24L));
+        if (sinkPublish.containsKey("allocated_bytes")) {
+            assertThat((Long) sinkPublish.get("allocated_bytes") >= 0, equalTo(true));
+        }
+        assertThat(Duration.parse((String) report.get("duration")).toNanos(), greaterThan(0L));
+    }
+
+    @Test
+    void startProfile_throws_while_a_profile_is_running() {
+        final PipelineStageMetrics objectUnderTest = new PipelineStageMetrics(pipelineName, PROCESSOR_NAMES, 0);
+
+        final PipelineProfile profile = objectUnderTest.startProfile();
+        assertThrows(IllegalStateException.class, objectUnderTest::startProfile);
+
+        objectUnderTest.stopProfile(profile);
+        objectUnderTest.stopProfile(objectUnderTest.startProfile());
+    }
+
+    @Test
+    void profile_completes_after_the_duration_without_blocking_the_caller() throws Exception {
+        final PipelineStageMetrics objectUnderTest = new PipelineStageMetrics(pipelineName, PROCESSOR_NAMES, 0);
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final CompletableFuture<PipelineProfile> finishedProfile = objectUnderTest.profile(Duration.ofMillis(200), scheduler);
+
+            assertThat(finishedProfile.isDone(), equalTo(false));
+            assertThat(objectUnderTest.createSampler().nextBatch(), notNullValue());
+
+            final PipelineProfile profile = finishedProfile.get(5, TimeUnit.SECONDS);
+
+            assertThat(profile.toReport(PROCESSOR_NAMES).get("batches"), equalTo(0L));
+            assertThat(objectUnderTest.createSampler().nextBatch(), nullValue());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void profile_stops_the_profile_when_the_scheduler_rejects_it() {
+        final PipelineStageMetrics objectUnderTest = new PipelineStageMetrics(pipelineName, PROCESSOR_NAMES, 0);
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> objectUnderTest.profile(Duration.ofMillis(10), scheduler));
+
+        assertThat(objectUnderTest.createSampler().nextBatch(), nullValue());
+    }
+}
@@ -59,6 +59,9 @@ public class DataPrepperServerTest {
     @Mock
     private ReadinessHandler readinessHandler;
 
+    @Mock
+    private PipelineProfileHandler pipelineProfileHandler;
+
     @Mock
     private EncryptionHttpHandler encryptionHttpHandler;
 
@@ -77,7 +80,7 @@ public class DataPrepperServerTest {
     @AfterEach
     public void tearDown() {
         verifyNoMoreInteractions(server, httpServerProvider, listPipelinesHandler, shutdownHandler,
-                readinessHandler, prometheusMeterRegistry, authenticator, context, socketAddress);
+                readinessHandler, pipelineProfileHandler, prometheusMeterRegistry, authenticator, context, socketAddress);
     }
 
     @Test
@@ -96,7 +99,7 @@ public class DataPrepperServerTest {
         verifyServerStart();
         verify(server).createContext(eq("/metrics/prometheus"), any(PrometheusMetricsHandler.class));
         verify(server).createContext(eq("/metrics/sys"), any(PrometheusMetricsHandler.class));
-        verify(context, times(6)).setAuthenticator(eq(authenticator));
+        verify(context, times(7)).setAuthenticator(eq(authenticator));
     }
 
     @Test
@@ -110,7 +113,7 @@ public class DataPrepperServerTest {
         verify(server).createContext(eq("/metrics/prometheus"), any(PrometheusMetricsHandler.class));
         verify(server).createContext(eq("/metrics/sys"), any(PrometheusMetricsHandler.class));
         verify(server).createContext(eq("/encryption/rotate"), any(EncryptionHttpHandler.class));
-        verify(context, times(7)).setAuthenticator(eq(authenticator));
+        verify(context, times(8)).setAuthenticator(eq(authenticator));
     }
 
     @Test
@@ -121,7 +124,7 @@ public class DataPrepperServerTest {
         dataPrepperServer.start();
 
         verifyServerStart();
-        verify(context, times(4)).setAuthenticator(eq(authenticator));
+        verify(context, times(5)).setAuthenticator(eq(authenticator));
     }
 
     @Test
@@ -175,6 +178,7 @@ public class DataPrepperServerTest {
         verify(server).createContext(eq("/shutdown"), eq(shutdownHandler));
         verify(server).createContext(eq("/pipelines"), eq(getPipelinesHandler));
         verify(server).createContext(eq("/ready"), eq(readinessHandler));
+        verify(server).createContext(eq("/profile"), eq(pipelineProfileHandler));
         final ArgumentCaptor<ExecutorService> executorServiceArgumentCaptor = ArgumentCaptor.forClass(ExecutorService.class);
         verify(server).setExecutor(executorServiceArgumentCaptor.capture());
         final ExecutorService actualExecutorService = executorServiceArgumentCaptor.getValue();
@@ -191,6 +195,6 @@ public class DataPrepperServerTest {
                                                     final Authenticator authenticator,
                                                     final EncryptionHttpHandler encryptionHttpHandler) {
         return new DataPrepperServer(
-                httpServerProvider, listPipelinesHandler, shutdownHandler, getPipelinesHandler, readinessHandler, encryptionHttpHandler, prometheusMeterRegistry, authenticator);
+                httpServerProvider, listPipelinesHandler, shutdownHandler, getPipelinesHandler, readinessHandler, pipelineProfileHandler, encryptionHttpHandler, prometheusMeterRegistry, authenticator);
     }
 }
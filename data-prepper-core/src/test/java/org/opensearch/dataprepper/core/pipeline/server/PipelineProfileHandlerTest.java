@@ -0,0 +1,209 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.core.pipeline.Pipeline;
+import org.opensearch.dataprepper.core.pipeline.PipelinesProvider;
+import org.opensearch.dataprepper.core.pipeline.profile.PipelineProfile;
+import org.opensearch.dataprepper.core.pipeline.profile.PipelineStageMetrics;
+
+import javax.ws.rs.HttpMethod;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PipelineProfileHandlerTest {
+    private static final String PIPELINE_NAME = "test-pipeline";
+    private static final Duration MAX_PROFILE_DURATION = Duration.ofSeconds(30);
+
+    @Mock
+    private PipelinesProvider pipelinesProvider;
+
+    @Mock
+    private Pipeline pipeline;
+
+    @Mock
+    private PipelineStageMetrics stageMetrics;
+
+    @Mock
+    private PipelineProfile pipelineProfile;
+
+    @Mock
+    private HttpExchange exchange;
+
+    @Mock
+    private OutputStream responseBody;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(exchange.getResponseBody()).thenReturn(responseBody);
+        lenient().when(exchange.getResponseHeaders()).thenReturn(new Headers());
+    }
+
+    private PipelineProfileHandler createObjectUnderTest() {
+        return new PipelineProfileHandler(pipelinesProvider, MAX_PROFILE_DURATION, scheduler);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { HttpMethod.DELETE, HttpMethod.GET, HttpMethod.PATCH, HttpMethod.PUT })
+    void handle_with_a_prohibited_method_responds_with_bad_method(final String httpMethod) throws IOException {
+        when(exchange.getRequestMethod()).thenReturn(httpMethod);
+
+        createObjectUnderTest().handle(exchange);
+
+        verify(exchange).sendResponseHeaders(HttpURLConnection.HTTP_BAD_METHOD, 0);
+        verify(responseBody).close();
+        verifyNoInteractions(pipelinesProvider);
+    }
+
+    @Test
+    void handle_profiles_the_pipeline_and_writes_the_report() throws Exception {
+        when(exchange.getRequestMethod()).thenReturn(HttpMethod.POST);
+        when(exchange.getRequestURI()).thenReturn(URI.create("/profile?pipeline=" + PIPELINE_NAME + "&duration=2s"));
+        when(pipelinesProvider.getTransformationPipelines()).thenReturn(Map.of(PIPELINE_NAME, pipeline));
+        when(pipeline.getStageMetrics()).thenReturn(stageMetrics);
+        when(stageMetrics.getProcessorNames()).thenReturn(List.of("grok"));
+        when(stageMetrics.profile(Duration.ofSeconds(2), scheduler)).thenReturn(CompletableFuture.completedFuture(pipelineProfile));
+        final Map<String, Object> report = Map.of("pipeline", PIPELINE_NAME, "batches", 3);
+        when(pipelineProfile.toReport(List.of("grok"))).thenReturn(report);
+
+        createObjectUnderTest().handle(exchange);
+
+        final byte[] expectedResponse = new ObjectMapper().writeValueAsBytes(report);
+        verify(exchange).sendResponseHeaders(HttpURLConnection.HTTP_OK, expectedResponse.length);
+        final ArgumentCaptor<byte[]> responseCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(responseBody).write(responseCaptor.capture());
+        assertThat(new ObjectMapper().readValue(responseCaptor.getValue(), Map.class), equalTo(report));
+        verify(exchange).close();
+    }
+
+    @Test
+    void handle_returns_before_the_profile_ends_and_responds_when_it_does() throws Exception {
+        when(exchange.getRequestMethod()).thenReturn(HttpMethod.POST);
+        when(exchange.getRequestURI()).thenReturn(URI.create("/profile?pipeline=" + PIPELINE_NAME + "&duration=2s"));
+        when(pipelinesProvider.getTransformationPipelines()).thenReturn(Map.of(PIPELINE_NAME, pipeline));
+        when(pipeline.getStageMetrics()).thenReturn(stageMetrics);
+        final CompletableFuture<PipelineProfile> finishedProfile = new CompletableFuture<>();
+        when(stageMetrics.profile(Duration.ofSeconds(2), scheduler)).thenReturn(finishedProfile);
+
+        createObjectUnderTest().handle(exchange);
+
+        verify(exchange, never()).sendResponseHeaders(anyInt(), anyLong());
+        verify(responseBody, never()).close();
+        verify(exchange, never()).close();
+
+        finishedProfile.complete(pipelineProfile);
+
+        verify(exchange).sendResponseHeaders(eq(HttpURLConnection.HTTP_OK), anyLong());
+        verify(exchange).close();
+    }
+
+    @Test
+    void handle_responds_with_internal_error_when_the_profile_fails() throws Exception {
+        when(exchange.getRequestMethod()).thenReturn(HttpMethod.POST);
+        when(exchange.getRequestURI()).thenReturn(URI.create("/profile?pipeline=" + PIPELINE_NAME + "&duration=2s"));
+        when(pipelinesProvider.getTransformationPipelines()).thenReturn(Map.of(PIPELINE_NAME, pipeline));
+        when(pipeline.getStageMetrics()).thenReturn(stageMetrics);
+        when(stageMetrics.profile(Duration.ofSeconds(2), scheduler))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("failed")));
+
+        createObjectUnderTest().handle(exchange);
+
+        verify(exchange).sendResponseHeaders(HttpURLConnection.HTTP_INTERNAL_ERROR, 0);
+        verify(exchange).close();
+    }
+
+    @Test
+    void handle_uses_the_default_duration_when_none_is_given() throws Exception {
+        when(exchange.getRequestMethod()).thenReturn(HttpMethod.POST);
+        when(exchange.getRequestURI()).thenReturn(URI.create("/profile?pipeline=" + PIPELINE_NAME));
+        when(pipelinesProvider.getTransformationPipelines()).thenReturn(Map.of(PIPELINE_NAME, pipeline));
+        when(pipeline.getStageMetrics()).thenReturn(stageMetrics);
+        when(stageMetrics.profile(PipelineProfileHandler.DEFAULT_PROFILE_DURATION, scheduler))
+                .thenReturn(CompletableFuture.completedFuture(pipelineProfile));
+
+        createObjectUnderTest().handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(HttpURLConnection.HTTP_OK), anyLong());
+    }
+
+    @Test
+    void handle_responds_with_not_found_for_an_unknown_pipeline() throws IOException {
+        when(exchange.getRequestMethod()).thenReturn(HttpMethod.POST);
+        when(exchange.getRequestURI()).thenReturn(URI.create("/profile?pipeline=unknown"));
+        when(pipelinesProvider.getTransformationPipelines()).thenReturn(Map.of(PIPELINE_NAME, pipeline));
+
+        createObjectUnderTest().handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(HttpURLConnection.HTTP_NOT_FOUND), anyLong());
+        verify(responseBody).close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "31s", "0s", "PT-1S", "ten seconds" })
+    void handle_responds_with_bad_request_for_a_duration_outside_the_bounds(final String duration) throws Exception {
+        when(exchange.getRequestMethod()).thenReturn(HttpMethod.POST);
+        when(exchange.getRequestURI()).thenReturn(new URI("http", null, "localhost", 4900, "/profile",
+                "pipeline=" + PIPELINE_NAME + "&duration=" + duration, null));
+
+        createObjectUnderTest().handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(HttpURLConnection.HTTP_BAD_REQUEST), anyLong());
+        verify(pipeline, never()).getStageMetrics();
+        verify(responseBody).close();
+    }
+
+    @Test
+    void handle_responds_with_conflict_when_a_profile_is_running() throws Exception {
+        when(exchange.getRequestMethod()).thenReturn(HttpMethod.POST);
+        when(exchange.getRequestURI()).thenReturn(URI.create("/profile?pipeline=" + PIPELINE_NAME + "&duration=1s"));
+        when(pipelinesProvider.getTransformationPipelines()).thenReturn(Map.of(PIPELINE_NAME, pipeline));
+        when(pipeline.getStageMetrics()).thenReturn(stageMetrics);
+        when(stageMetrics.profile(any(Duration.class), eq(scheduler))).thenThrow(new IllegalStateException("already running"));
+
+        createObjectUnderTest().handle(exchange);
+
+        verify(exchange).sendResponseHeaders(eq(HttpURLConnection.HTTP_CONFLICT), anyLong());
+        verify(responseBody).close();
+    }
+}
@@ -14,9 +14,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.core.DataPrepper;
+import org.opensearch.dataprepper.core.parser.model.DataPrepperConfiguration;
+import org.opensearch.dataprepper.core.parser.model.PipelineProfilingConfig;
 import org.opensearch.dataprepper.core.pipeline.PipelinesProvider;
 import org.opensearch.dataprepper.core.pipeline.server.DataPrepperCoreAuthenticationProvider;
 import org.opensearch.dataprepper.core.pipeline.server.ListPipelinesHandler;
+import org.opensearch.dataprepper.core.pipeline.server.PipelineProfileHandler;
 import org.opensearch.dataprepper.core.pipeline.server.ShutdownHandler;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
@@ -129,4 +132,15 @@ class DataPrepperServerConfigurationTest {
 
         assertThat(handler, isA(ShutdownHandler.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPipelineProfileHandlerIsCreated() {
+        final PipelinesProvider pipelinesProvider = mock(PipelinesProvider.class);
+        final DataPrepperConfiguration dataPrepperConfiguration = mock(DataPrepperConfiguration.class);
+        when(dataPrepperConfiguration.getPipelineProfilingConfig()).thenReturn(new PipelineProfilingConfig());
+
+        final PipelineProfileHandler handler = serverConfiguration.pipelineProfileHandler(pipelinesProvider, dataPrepperConfiguration);
+
+        assertThat(handler, isA(PipelineProfileHandler.class));
+    }
+}
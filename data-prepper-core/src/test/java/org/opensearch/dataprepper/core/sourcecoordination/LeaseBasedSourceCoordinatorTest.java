@@ -55,7 +55,9 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -823,6 +825,103 @@ public class LeaseBasedSourceCoordinatorTest {
         assertThat(newPartitionOwnershipTimeout.isAfter(beforeSave.plus(ackTimeout)), equalTo(true));
     }
 
+    @Test
+    void getNextPartition_with_batch_size_acquires_partitions_in_batch_and_returns_queued_partitions_without_acquiring_again() throws UnknownHostException {
+        final SourcePartitionStoreItem firstItem = mock(SourcePartitionStoreItem.class);
+        final SourcePartitionStoreItem secondItem = mock(SourcePartitionStoreItem.class);
+        given(firstItem.getSourcePartitionKey()).willReturn(UUID.randomUUID().toString());
+        given(secondItem.getSourcePartitionKey()).willReturn(UUID.randomUUID().toString());
+        given(secondItem.getPartitionOwnershipTimeout()).willReturn(Instant.now().plus(DEFAULT_LEASE_TIMEOUT));
+        given(sourceCoordinationConfig.getPartitionAcquisitionBatchSize()).willReturn(3);
+        given(sourceCoordinationStore.tryAcquireAvailablePartitions(fullSourceIdentifierForPartition, sourceIdentifierWithPartitionPrefix + ":" + InetAddress.getLocalHost().getHostName(), DEFAULT_LEASE_TIMEOUT, 3))
+                .willReturn(List.of(firstItem, secondItem));
+
+        final SourceCoordinator<String> objectUnderTest = createObjectUnderTest();
+        final Optional<SourcePartition<String>> firstResult = objectUnderTest.getNextPartition((map) -> Collections.emptyList());
+        final Optional<SourcePartition<String>> secondResult = objectUnderTest.getNextPartition((map) -> Collections.emptyList());
+
+        assertThat(firstResult.isPresent(), equalTo(true));
+        assertThat(firstResult.get().getPartitionKey(), equalTo(firstItem.getSourcePartitionKey()));
+        assertThat(secondResult.isPresent(), equalTo(true));
+        assertThat(secondResult.get().getPartitionKey(), equalTo(secondItem.getSourcePartitionKey()));
+
+        verify(sourceCoordinationStore, times(1)).tryAcquireAvailablePartitions(anyString(), anyString(), any(), eq(3));
+        verify(sourceCoordinationStore, never()).tryAcquireAvailablePartition(anyString(), anyString(), any());
+        verify(sourceCoordinationStore, never()).tryUpdateSourcePartitionItem(any(SourcePartitionStoreItem.class));
+        verify(partitionsAcquiredCounter, times(2)).increment();
+    }
+
+    @Test
+    void getNextPartition_with_batch_size_renews_queued_partitions_close_to_expiring_and_skips_partitions_that_fail_to_renew() {
+        final SourcePartitionStoreItem firstItem = mock(SourcePartitionStoreItem.class);
+        final SourcePartitionStoreItem expiringItem = mock(SourcePartitionStoreItem.class);
+        final SourcePartitionStoreItem itemWithoutTimeout = mock(SourcePartitionStoreItem.class);
+        given(firstItem.getSourcePartitionKey()).willReturn(UUID.randomUUID().toString());
+        given(expiringItem.getPartitionOwnershipTimeout()).willReturn(Instant.now().plusSeconds(30));
+        given(expiringItem.getSourcePartitionKey()).willReturn(UUID.randomUUID().toString());
+        given(itemWithoutTimeout.getSourcePartitionKey()).willReturn(UUID.randomUUID().toString());
+        given(sourceCoordinationConfig.getPartitionAcquisitionBatchSize()).willReturn(3);
+        given(sourceCoordinationStore.tryAcquireAvailablePartitions(anyString(), anyString(), any(), eq(3)))
+                .willReturn(List.of(firstItem, expiringItem, itemWithoutTimeout));
+        doThrow(PartitionUpdateException.class).when(sourceCoordinationStore).tryUpdateSourcePartitionItem(expiringItem);
+
+        final Instant beforeRenewal = Instant.now();
+        final SourceCoordinator<String> objectUnderTest = createObjectUnderTest();
+        objectUnderTest.getNextPartition((map) -> Collections.emptyList());
+        final Optional<SourcePartition<String>> result = objectUnderTest.getNextPartition((map) -> Collections.emptyList());
+
+        assertThat(result.isPresent(), equalTo(true));
+        assertThat(result.get().getPartitionKey(), equalTo(itemWithoutTimeout.getSourcePartitionKey()));
+
+        final ArgumentCaptor<Instant> argumentCaptorForPartitionOwnershipTimeout = ArgumentCaptor.forClass(Instant.class);
+        verify(itemWithoutTimeout).setPartitionOwnershipTimeout(argumentCaptorForPartitionOwnershipTimeout.capture());
+        assertThat(argumentCaptorForPartitionOwnershipTimeout.getValue().isBefore(beforeRenewal.plus(DEFAULT_LEASE_TIMEOUT)), equalTo(false));
+        verify(sourceCoordinationStore).tryUpdateSourcePartitionItem(itemWithoutTimeout);
+        verify(sourceCoordinationStore, times(1)).tryAcquireAvailablePartitions(anyString(), anyString(), any(), eq(3));
+    }
+
+    @Test
+    void saveProgressStateForPartition_after_acquiring_partition_updates_the_acquired_item_without_reading_it_from_the_store() throws UnknownHostException {
+        final String partitionKey = UUID.randomUUID().toString();
+        final String newProgressState = UUID.randomUUID().toString();
+        given(sourcePartitionStoreItem.getSourcePartitionKey()).willReturn(partitionKey);
+        given(sourcePartitionStoreItem.getPartitionOwner()).willReturn(sourceIdentifierWithPartitionPrefix + ":" + InetAddress.getLocalHost().getHostName());
+        given(sourceCoordinationStore.tryAcquireAvailablePartition(anyString(), anyString(), any())).willReturn(Optional.of(sourcePartitionStoreItem));
+
+        final SourceCoordinator<String> objectUnderTest = createObjectUnderTest();
+        objectUnderTest.getNextPartition((map) -> Collections.emptyList());
+        objectUnderTest.saveProgressStateForPartition(partitionKey, newProgressState);
+
+        verify(sourcePartitionStoreItem).setPartitionProgressState("\"" + newProgressState + "\"");
+        verify(sourceCoordinationStore).tryUpdateSourcePartitionItem(sourcePartitionStoreItem);
+        verify(sourceCoordinationStore, never()).getSourcePartitionItem(anyString(), anyString());
+        verify(saveProgressStateInvocationSuccessCounter).increment();
+        verifyNoInteractions(saveStatePartitionUpdateErrorCounter);
+    }
+
+    @Test
+    void saveProgressStateForPartition_reads_partition_from_the_store_when_update_of_acquired_item_fails() throws UnknownHostException {
+        final String partitionKey = UUID.randomUUID().toString();
+        final String newProgressState = UUID.randomUUID().toString();
+        final String ownerId = sourceIdentifierWithPartitionPrefix + ":" + InetAddress.getLocalHost().getHostName();
+        final SourcePartitionStoreItem storedItem = mock(SourcePartitionStoreItem.class);
+        given(sourcePartitionStoreItem.getSourcePartitionKey()).willReturn(partitionKey);
+        given(sourcePartitionStoreItem.getPartitionOwner()).willReturn(ownerId);
+        given(storedItem.getPartitionOwner()).willReturn(ownerId);
+        given(sourceCoordinationStore.tryAcquireAvailablePartition(anyString(), anyString(), any())).willReturn(Optional.of(sourcePartitionStoreItem));
+        doThrow(PartitionUpdateException.class).when(sourceCoordinationStore).tryUpdateSourcePartitionItem(sourcePartitionStoreItem);
+        given(sourceCoordinationStore.getSourcePartitionItem(fullSourceIdentifierForPartition, partitionKey)).willReturn(Optional.of(storedItem));
+
+        final SourceCoordinator<String> objectUnderTest = createObjectUnderTest();
+        objectUnderTest.getNextPartition((map) -> Collections.emptyList());
+        objectUnderTest.saveProgressStateForPartition(partitionKey, newProgressState);
+
+        verify(storedItem).setPartitionProgressState("\"" + newProgressState + "\"");
+        verify(sourceCoordinationStore).tryUpdateSourcePartitionItem(storedItem);
+        verify(saveProgressStateInvocationSuccessCounter).increment();
+        verifyNoInteractions(saveStatePartitionUpdateErrorCounter);
+    }
+
     @Test
     void giveUpPartitions_with_active_partitionKey_that_does_not_exist_in_the_store_removes_the_active_partition() {
         final SourcePartition<String> sourcePartition = SourcePartition.builder(String.class)
@@ -35,6 +35,7 @@ class DefaultLogEventBuilderFactory extends DefaultEventBuilderFactory {
         public Log build() {
             return (Log) JacksonLog.builder()
                     .withData(getData())
+                    .withRawJson(getRawJson())
                     .withEventType(getEventType())
                     .build();
         }
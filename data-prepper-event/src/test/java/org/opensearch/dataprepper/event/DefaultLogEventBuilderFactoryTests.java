@@ -12,6 +12,7 @@ import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.event.LogEventBuilder;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 
@@ -54,5 +55,19 @@ class DefaultLogEventBuilderFactoryTests {
         assertThat(eventMetadata.getAttributes(), equalTo(attributes));
         assertThat(log.toMap(), equalTo(data));
     }
-}
 
+    @Test
+    public void build_withRawJson_creates_log_from_raw_json() {
+        DefaultBaseEventBuilder baseEventBuilder = defaultLogEventBuilderFactory.createNew();
+
+        String testKey = RandomStringUtils.randomAlphabetic(5);
+        String testValue = RandomStringUtils.randomAlphabetic(10);
+        String rawJson = "{\"" + testKey + "\": \"" + testValue + "\"}";
+        LogEventBuilder eventBuilder = (LogEventBuilder) baseEventBuilder.withRawJson(rawJson.getBytes(StandardCharsets.UTF_8));
+
+        JacksonLog log = (JacksonLog) eventBuilder.build();
+        assertThat(log.getMetadata().getEventType(), equalTo(DefaultLogEventBuilderFactory.LOG_EVENT_TYPE));
+        assertThat(log.get(testKey, String.class), equalTo(testValue));
+        assertThat(log.toJsonString(), equalTo(rawJson));
+    }
+}
@@ -7,8 +7,6 @@ package org.opensearch.dataprepper.plugin;
 
 import org.opensearch.dataprepper.model.plugin.ExtensionPlugin;
 import org.reflections.Reflections;
-import org.reflections.util.ConfigurationBuilder;
-import org.reflections.util.FilterBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,29 +18,17 @@ import java.util.stream.Collectors;
 
 /**
  * Implements {@link ExtensionClassProvider} using the classpath to detect extensions.
- * This uses the same {@link PluginPackagesSupplier} as {@link ClasspathPluginProvider}.
+ * This uses the same {@link PluginPackagesSupplier} and {@link PluginIndex} as {@link ClasspathPluginProvider}.
  */
 @Named
 public class ClasspathExtensionClassProvider implements ExtensionClassProvider {
     private static final Logger LOG = LoggerFactory.getLogger(ClasspathExtensionClassProvider.class);
-    private final Reflections reflections;
+    private final PluginIndex pluginIndex;
     private Set<Class<? extends ExtensionPlugin>> extensionPluginClasses;
 
     @Inject
     public ClasspathExtensionClassProvider() {
-        this(createReflections());
-    }
-
-    private static Reflections createReflections() {
-        final String[] packages = new PluginPackagesSupplier().get();
-        FilterBuilder filterBuilder = new FilterBuilder();
-        for (String packageToInclude : packages) {
-            filterBuilder = filterBuilder.includePackage(packageToInclude);
-        }
-
-        return new Reflections(new ConfigurationBuilder()
-                .forPackages(packages)
-                .filterInputsBy(filterBuilder));
+        this(PluginIndex.load(new PluginPackagesSupplier().get()));
     }
 
     /**
@@ -51,7 +37,16 @@ public class ClasspathExtensionClassProvider implements ExtensionClassProvider {
      * @param reflections A {@link Reflections} object.
      */
     ClasspathExtensionClassProvider(final Reflections reflections) {
-        this.reflections = reflections;
+        this(PluginIndex.fromReflections(reflections));
+    }
+
+    /**
+     * For testing purposes.
+     *
+     * @param pluginIndex A {@link PluginIndex} object.
+     */
+    ClasspathExtensionClassProvider(final PluginIndex pluginIndex) {
+        this.pluginIndex = pluginIndex;
     }
 
     @Override
@@ -63,7 +58,7 @@ public class ClasspathExtensionClassProvider implements ExtensionClassProvider {
     }
 
     private Set<Class<? extends ExtensionPlugin>> scanForExtensionPlugins() {
-        final Set<Class<? extends ExtensionPlugin>> extensionClasses = reflections.getSubTypesOf(ExtensionPlugin.class);
+        final Set<Class<? extends ExtensionPlugin>> extensionClasses = pluginIndex.getExtensionPluginClasses();
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Found {} extension classes.", extensionClasses.size());
@@ -5,117 +5,94 @@
 
 package org.opensearch.dataprepper.plugin;
 
-import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.reflections.Reflections;
-import org.reflections.util.ConfigurationBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static org.opensearch.dataprepper.model.annotations.DataPrepperPlugin.DEFAULT_ALTERNATE_NAME;
-import static org.opensearch.dataprepper.model.annotations.DataPrepperPlugin.DEFAULT_DEPRECATED_NAME;
-
 /**
  * The implementation of {@link PluginProvider} which loads plugins from the
- * current Java classpath.
+ * current Java classpath. Plugins are read from the build-time {@link PluginIndex}
+ * where available and found by classpath scanning otherwise.
  *
  * @since 1.2
  */
 public class ClasspathPluginProvider implements PluginProvider {
     private static final Logger LOG = LoggerFactory.getLogger(ClasspathPluginProvider.class);
-    private final Reflections reflections;
-    private Map<String, Map<Class<?>, Class<?>>> nameToSupportedTypeToPluginType;
+    private final PluginIndex pluginIndex;
+    private Map<String, Map<String, PluginIndex.PluginEntry>> nameToSupportedTypeToPluginEntry;
 
     public ClasspathPluginProvider() {
-        this(new Reflections(new ConfigurationBuilder()
-                .forPackages(new PluginPackagesSupplier().get()))
-        );
+        this(PluginIndex.load(new PluginPackagesSupplier().get()));
     }
 
     /**
      * For testing only
      */
     ClasspathPluginProvider(final Reflections reflections) {
-        this.reflections = reflections;
+        this(PluginIndex.fromReflections(reflections));
+    }
+
+    /**
+     * For testing only
+     */
+    ClasspathPluginProvider(final PluginIndex pluginIndex) {
+        this.pluginIndex = pluginIndex;
     }
 
     @Override
     public <T> Optional<Class<? extends T>> findPluginClass(final Class<T> pluginType, final String pluginName) {
-        if (nameToSupportedTypeToPluginType == null) {
-            nameToSupportedTypeToPluginType = scanForPlugins();
+        if (nameToSupportedTypeToPluginEntry == null) {
+            nameToSupportedTypeToPluginEntry = scanForPlugins();
         }
 
-        final Map<Class<?>, Class<?>> supportedTypesMap = nameToSupportedTypeToPluginType.get(pluginName);
+        final Map<String, PluginIndex.PluginEntry> supportedTypesMap = nameToSupportedTypeToPluginEntry.get(pluginName);
 
         if(supportedTypesMap == null) {
             return Optional.empty();
         }
-        return Optional.ofNullable((Class<? extends T>) supportedTypesMap.get(pluginType));
+        return Optional.ofNullable(supportedTypesMap.get(pluginType.getName()))
+                .map(pluginEntry -> (Class<? extends T>) pluginEntry.getPluginClass());
     }
 
     @Override
     public <T> Set<Class<? extends T>> findPluginClasses(Class<T> pluginType) {
-        if (nameToSupportedTypeToPluginType == null) {
-            nameToSupportedTypeToPluginType = scanForPlugins();
+        if (nameToSupportedTypeToPluginEntry == null) {
+            nameToSupportedTypeToPluginEntry = scanForPlugins();
         }
 
-        return nameToSupportedTypeToPluginType.values().stream()
-                .flatMap(supportedTypeToPluginType ->
-                        supportedTypeToPluginType.entrySet().stream()
-                                .filter(entry -> pluginType.equals(entry.getKey()))
-                                .flatMap(entry -> Stream.of((Class<? extends T>) entry.getValue())))
+        return nameToSupportedTypeToPluginEntry.values().stream()
+                .flatMap(supportedTypeToPluginEntry ->
+                        supportedTypeToPluginEntry.entrySet().stream()
+                                .filter(entry -> pluginType.getName().equals(entry.getKey()))
+                                .flatMap(entry -> Stream.of((Class<? extends T>) entry.getValue().getPluginClass())))
                 .collect(Collectors.toSet());
     }
 
-    private Map<String, Map<Class<?>, Class<?>>> scanForPlugins() {
-        final Set<Class<?>> dataPrepperPluginClasses =
-                reflections.getTypesAnnotatedWith(DataPrepperPlugin.class);
+    private Map<String, Map<String, PluginIndex.PluginEntry>> scanForPlugins() {
+        final List<PluginIndex.PluginEntry> pluginEntries = pluginIndex.getPlugins();
 
         if(LOG.isDebugEnabled()) {
-            LOG.debug("Found {} plugin classes.", dataPrepperPluginClasses.size());
+            LOG.debug("Found {} plugin classes.", pluginEntries.size());
             LOG.debug("Plugin classes: {}",
-                    dataPrepperPluginClasses.stream().map(Class::getName).collect(Collectors.joining(", ")));
+                    pluginEntries.stream().map(PluginIndex.PluginEntry::getPluginClassName).collect(Collectors.joining(", ")));
         }
 
-        final Map<String, Map<Class<?>, Class<?>>> pluginsMap = new HashMap<>(dataPrepperPluginClasses.size());
-        for (final Class<?> concretePluginClass : dataPrepperPluginClasses) {
-            // plugin name
-            addPossiblePluginName(pluginsMap, concretePluginClass, DataPrepperPlugin::name, name -> true);
-            // deprecated plugin name
-            addPossiblePluginName(pluginsMap, concretePluginClass, DataPrepperPlugin::deprecatedName,
-                    deprecatedPluginName -> !deprecatedPluginName.equals(DEFAULT_DEPRECATED_NAME));
-            // alternate plugin names
-            for (final String alternateName: concretePluginClass.getAnnotation(DataPrepperPlugin.class).alternateNames()) {
-                addPossiblePluginName(pluginsMap, concretePluginClass, DataPrepperPlugin -> alternateName,
-                        alternatePluginName -> !alternatePluginName.equals(DEFAULT_ALTERNATE_NAME));
+        final Map<String, Map<String, PluginIndex.PluginEntry>> pluginsMap = new HashMap<>(pluginEntries.size());
+        for (final PluginIndex.PluginEntry pluginEntry : pluginEntries) {
+            for (final String pluginName : pluginEntry.getNames()) {
+                pluginsMap.computeIfAbsent(pluginName, k -> new HashMap<>())
+                        .put(pluginEntry.getPluginTypeName(), pluginEntry);
             }
         }
 
         return pluginsMap;
     }
-
-    private void addPossiblePluginName(
-            final Map<String, Map<Class<?>, Class<?>>> pluginsMap,
-            final Class<?> concretePluginClass,
-            final Function<DataPrepperPlugin, String> possiblePluginNameFunction,
-            final Predicate<String> possiblePluginNamePredicate
-            ) {
-        final DataPrepperPlugin dataPrepperPluginAnnotation = concretePluginClass.getAnnotation(DataPrepperPlugin.class);
-        final String possiblePluginName = possiblePluginNameFunction.apply(dataPrepperPluginAnnotation);
-        final Class<?> supportedType = dataPrepperPluginAnnotation.pluginType();
-
-        if (possiblePluginNamePredicate.test(possiblePluginName)) {
-            final Map<Class<?>, Class<?>> supportTypeToPluginTypeMap =
-                    pluginsMap.computeIfAbsent(possiblePluginName, k -> new HashMap<>());
-            supportTypeToPluginTypeMap.put(supportedType, concretePluginClass);
-        }
-    }
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugin;
+
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.plugin.ExtensionPlugin;
+import org.reflections.Reflections;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.opensearch.dataprepper.model.annotations.DataPrepperPlugin.DEFAULT_ALTERNATE_NAME;
+import static org.opensearch.dataprepper.model.annotations.DataPrepperPlugin.DEFAULT_DEPRECATED_NAME;
+
+/**
+ * Locates the plugin and extension classes on the classpath. Classpath roots which contain the plugin packages and
+ * were compiled with the plugin index annotation processor are read from their index. Any other classpath roots
+ * containing the plugin packages are scanned with {@link Reflections}.
+ *
+ * @since 2.17
+ */
+class PluginIndex {
+    /**
+     * The resource written by {@code org.opensearch.dataprepper.plugin.index.PluginIndexProcessor}.
+     * Keep this and the line format below in sync with that processor.
+     */
+    static final String INDEX_RESOURCE = "META-INF/data-prepper/plugins.index";
+    private static final String PLUGIN_ENTRY = "plugin";
+    private static final String EXTENSION_ENTRY = "extension";
+    private static final String SEPARATOR = "\t";
+    private static final String NAMES_SEPARATOR = ",";
+    private static final String COMMENT = "#";
+
+    private static final Logger LOG = LoggerFactory.getLogger(PluginIndex.class);
+
+    private final List<PluginEntry> indexedPlugins;
+    private final List<String> indexedExtensionClassNames;
+    private final Reflections reflections;
+    private final String[] extensionPackages;
+    private final ClassLoader classLoader;
+
+    PluginIndex(final List<PluginEntry> indexedPlugins,
+                final List<String> indexedExtensionClassNames,
+                final Reflections reflections,
+                final String[] extensionPackages,
+                final ClassLoader classLoader) {
+        this.indexedPlugins = indexedPlugins;
+        this.indexedExtensionClassNames = indexedExtensionClassNames;
+        this.reflections = reflections;
+        this.extensionPackages = extensionPackages;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Creates a {@link PluginIndex} which only uses the provided {@link Reflections}.
+     *
+     * @param reflections The {@link Reflections} to find classes with
+     * @return A new {@link PluginIndex}
+     */
+    static PluginIndex fromReflections(final Reflections reflections) {
+        return new PluginIndex(Collections.emptyList(), Collections.emptyList(), reflections,
+                new String[0], PluginIndex.class.getClassLoader());
+    }
+
+    /**
+     * Loads the {@link PluginIndex} for the classpath roots containing the given packages.
+     *
+     * @param packages The plugin packages
+     * @return A new {@link PluginIndex}
+     */
+    static PluginIndex load(final String[] packages) {
+        final ClassLoader classLoader = getClassLoader();
+
+        final Set<URL> packageRoots = new LinkedHashSet<>();
+        for (final String packageName : packages) {
+            packageRoots.addAll(ClasspathHelper.forPackage(packageName, classLoader));
+        }
+        final Set<String> packageRootLocations = packageRoots.stream()
+                .map(URL::toExternalForm)
+                .collect(Collectors.toSet());
+
+        final List<PluginEntry> indexedPlugins = new ArrayList<>();
+        final List<String> indexedExtensionClassNames = new ArrayList<>();
+        final Set<String> indexedRootLocations = new HashSet<>();
+        try {
+            final Enumeration<URL> indexResources = classLoader.getResources(INDEX_RESOURCE);
+            while (indexResources.hasMoreElements()) {
+                final URL indexResource = indexResources.nextElement();
+                final String rootLocation = getRootLocation(indexResource);
+                if (packageRootLocations.contains(rootLocation)) {
+                    readIndex(indexResource, classLoader, packages, indexedPlugins, indexedExtensionClassNames);
+                    indexedRootLocations.add(rootLocation);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to read the plugin indexes.", e);
+        }
+
+        final List<URL> unindexedRoots = packageRoots.stream()
+                .filter(url -> !indexedRootLocations.contains(url.toExternalForm()))
+                .collect(Collectors.toList());
+
+        LOG.debug("Found {} indexed classpath roots. Scanning {} classpath roots without an index: {}",
+                indexedRootLocations.size(), unindexedRoots.size(), unindexedRoots);
+
+        final Reflections reflections = unindexedRoots.isEmpty() ? null :
+                new Reflections(new ConfigurationBuilder().addUrls(unindexedRoots));
+
+        return new PluginIndex(indexedPlugins, indexedExtensionClassNames, reflections, packages, classLoader);
+    }
+
+    /**
+     * Gets all the plugins. Plugins from the index are not loaded until {@link PluginEntry#getPluginClass()}
+     * is called.
+     *
+     * @return The plugin entries
+     */
+    List<PluginEntry> getPlugins() {
+        if (reflections == null) {
+            return indexedPlugins;
+        }
+        final List<PluginEntry> plugins = new ArrayList<>(indexedPlugins);
+        for (final Class<?> pluginClass : reflections.getTypesAnnotatedWith(DataPrepperPlugin.class)) {
+            plugins.add(PluginEntry.fromClass(pluginClass));
+        }
+        return plugins;
+    }
+
+    /**
+     * Gets all the extension plugin classes within the plugin packages.
+     *
+     * @return The extension plugin classes
+     */
+    Set<Class<? extends ExtensionPlugin>> getExtensionPluginClasses() {
+        final Set<Class<? extends ExtensionPlugin>> extensionClasses = new HashSet<>();
+        for (final String extensionClassName : indexedExtensionClassNames) {
+            extensionClasses.add(loadClass(extensionClassName, classLoader).asSubclass(ExtensionPlugin.class));
+        }
+        if (reflections != null) {
+            reflections.getSubTypesOf(ExtensionPlugin.class).stream()
+                    .filter(extensionClass -> isInPackages(extensionClass.getName(), extensionPackages))
+                    .forEach(extensionClasses::add);
+        }
+        return extensionClasses;
+    }
+
+    private static void readIndex(final URL indexResource,
+                                  final ClassLoader classLoader,
+                                  final String[] packages,
+                                  final List<PluginEntry> indexedPlugins,
+                                  final List<String> indexedExtensionClassNames) throws IOException {
+        try (final InputStream inputStream = indexResource.openStream();
+             final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith(COMMENT)) {
+                    continue;
+                }
+                final String[] fields = line.split(SEPARATOR, -1);
+                if (PLUGIN_ENTRY.equals(fields[0]) && fields.length == 7) {
+                    indexedPlugins.add(PluginEntry.fromIndex(fields, classLoader));
+                } else if (EXTENSION_ENTRY.equals(fields[0]) && fields.length == 2) {
+                    if (isInPackages(fields[1], packages)) {
+                        indexedExtensionClassNames.add(fields[1]);
+                    }
+                } else {
+                    LOG.warn("Ignoring invalid line in plugin index {}: {}", indexResource, line);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the classpath root of an index resource the same way as {@link ClasspathHelper#forPackage(String, ClassLoader...)}
+     * so that the locations can be compared.
+     */
+    private static String getRootLocation(final URL indexResource) {
+        final String location = indexResource.toExternalForm();
+        final int index = location.lastIndexOf(INDEX_RESOURCE);
+        return index == -1 ? location : location.substring(0, index);
+    }
+
+    private static boolean isInPackages(final String className, final String[] packages) {
+        if (packages.length == 0) {
+            return true;
+        }
+        return Arrays.stream(packages).anyMatch(packageName -> className.startsWith(packageName + "."));
+    }
+
+    private static ClassLoader getClassLoader() {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader != null ? contextClassLoader : PluginIndex.class.getClassLoader();
+    }
+
+    private static Class<?> loadClass(final String className, final ClassLoader classLoader) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to load class " + className + " listed in the plugin index.", e);
+        }
+    }
+
+    /**
+     * A plugin found in the index or by scanning. The names are the plugin name, deprecated name and
+     * alternate names which are in use.
+     */
+    static class PluginEntry {
+        private final String pluginClassName;
+        private final String pluginTypeName;
+        private final List<String> names;
+        private final ClassLoader classLoader;
+        private volatile Class<?> pluginClass;
+
+        private PluginEntry(final String pluginClassName,
+                            final String pluginTypeName,
+                            final List<String> names,
+                            final ClassLoader classLoader,
+                            final Class<?> pluginClass) {
+            this.pluginClassName = pluginClassName;
+            this.pluginTypeName = pluginTypeName;
+            this.names = names;
+            this.classLoader = classLoader;
+            this.pluginClass = pluginClass;
+        }
+
+        static PluginEntry fromClass(final Class<?> pluginClass) {
+            final DataPrepperPlugin dataPrepperPlugin = pluginClass.getAnnotation(DataPrepperPlugin.class);
+            return new PluginEntry(pluginClass.getName(), dataPrepperPlugin.pluginType().getName(),
+                    getNames(dataPrepperPlugin.name(), dataPrepperPlugin.deprecatedName(),
+                            Arrays.asList(dataPrepperPlugin.alternateNames())),
+                    pluginClass.getClassLoader(), pluginClass);
+        }
+
+        /**
+         * Creates an entry from the index fields: entry type, plugin class, plugin type, configuration type,
+         * name, deprecated name and alternate names. The configuration type is resolved from the plugin class
+         * when the plugin is created, so it is not needed here.
+         */
+        private static PluginEntry fromIndex(final String[] fields, final ClassLoader classLoader) {
+            final List<String> alternateNames = fields[6].isEmpty() ?
+                    Collections.emptyList() : Arrays.asList(fields[6].split(NAMES_SEPARATOR));
+            return new PluginEntry(fields[1], fields[2], getNames(fields[4], fields[5], alternateNames),
+                    classLoader, null);
+        }
+
+        private static List<String> getNames(final String name, final String deprecatedName, final List<String> alternateNames) {
+            final List<String> names = new ArrayList<>();
+            names.add(name);
+            if (!deprecatedName.equals(DEFAULT_DEPRECATED_NAME)) {
+                names.add(deprecatedName);
+            }
+            for (final String alternateName : alternateNames) {
+                if (!alternateName.equals(DEFAULT_ALTERNATE_NAME)) {
+                    names.add(alternateName);
+                }
+            }
+            return names;
+        }
+
+        String getPluginClassName() {
+            return pluginClassName;
+        }
+
+        String getPluginTypeName() {
+            return pluginTypeName;
+        }
+
+        List<String> getNames() {
+            return names;
+        }
+
+        Class<?> getPluginClass() {
+            if (pluginClass == null) {
+                pluginClass = loadClass(pluginClassName, classLoader);
+            }
+            return pluginClass;
+        }
+    }
+}
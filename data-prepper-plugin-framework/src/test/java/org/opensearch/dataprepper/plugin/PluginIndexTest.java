@@ -0,0 +1,174 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugin;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.plugin.ExtensionPlugin;
+import org.opensearch.dataprepper.model.sink.Sink;
+import org.opensearch.dataprepper.plugins.test.TestExtension;
+import org.opensearch.dataprepper.plugins.test.TestSink;
+import org.reflections.Reflections;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PluginIndexTest {
+    private static final String PLUGINS_PACKAGE = "org.opensearch.dataprepper.plugins";
+
+    @TempDir
+    Path indexedRoot;
+
+    private ClassLoader originalContextClassLoader;
+    private String pluginName;
+
+    @BeforeEach
+    void setUp() {
+        originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+        pluginName = UUID.randomUUID().toString();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+    }
+
+    private PluginIndex loadWithIndex(final String... indexLines) throws IOException {
+        Files.createDirectories(indexedRoot.resolve(PLUGINS_PACKAGE.replace('.', '/')));
+        final Path indexFile = indexedRoot.resolve(PluginIndex.INDEX_RESOURCE);
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, Arrays.asList(indexLines), StandardCharsets.UTF_8);
+
+        final ClassLoader classLoader = new URLClassLoader(new URL[]{indexedRoot.toUri().toURL()}, getClass().getClassLoader());
+        Thread.currentThread().setContextClassLoader(classLoader);
+
+        return PluginIndex.load(new String[]{PLUGINS_PACKAGE});
+    }
+
+    @Test
+    void load_reads_plugins_from_the_index() throws IOException {
+        final PluginIndex objectUnderTest = loadWithIndex(
+                "# comment",
+                "plugin\t" + TestSink.class.getName() + "\t" + Sink.class.getName() + "\t" +
+                        "org.opensearch.dataprepper.model.configuration.PluginSetting\t" + pluginName + "\tdeprecated_name\tfirst,second");
+
+        final Optional<PluginIndex.PluginEntry> pluginEntry = objectUnderTest.getPlugins().stream()
+                .filter(entry -> entry.getNames().contains(pluginName))
+                .findFirst();
+
+        assertThat(pluginEntry.isPresent(), equalTo(true));
+        assertThat(pluginEntry.get().getNames(), contains(pluginName, "deprecated_name", "first", "second"));
+        assertThat(pluginEntry.get().getPluginTypeName(), equalTo(Sink.class.getName()));
+        assertThat(pluginEntry.get().getPluginClassName(), equalTo(TestSink.class.getName()));
+        assertThat(pluginEntry.get().getPluginClass(), equalTo(TestSink.class));
+    }
+
+    @Test
+    void load_omits_empty_deprecated_and_alternate_names() throws IOException {
+        final PluginIndex objectUnderTest = loadWithIndex(
+                "plugin\t" + TestSink.class.getName() + "\t" + Sink.class.getName() + "\t" +
+                        "org.opensearch.dataprepper.model.configuration.PluginSetting\t" + pluginName + "\t\t");
+
+        final Optional<PluginIndex.PluginEntry> pluginEntry = objectUnderTest.getPlugins().stream()
+                .filter(entry -> entry.getNames().contains(pluginName))
+                .findFirst();
+
+        assertThat(pluginEntry.isPresent(), equalTo(true));
+        assertThat(pluginEntry.get().getNames(), equalTo(Collections.singletonList(pluginName)));
+    }
+
+    @Test
+    void load_scans_classpath_roots_without_an_index() throws IOException {
+        final PluginIndex objectUnderTest = loadWithIndex();
+
+        final List<PluginIndex.PluginEntry> plugins = objectUnderTest.getPlugins();
+
+        assertThat(plugins.stream().anyMatch(entry -> entry.getNames().contains("test_sink")), equalTo(true));
+    }
+
+    @Test
+    void load_does_not_load_plugin_classes_until_requested() throws IOException {
+        final PluginIndex objectUnderTest = loadWithIndex(
+                "plugin\t" + PLUGINS_PACKAGE + ".DoesNotExist\t" + Sink.class.getName() + "\t" +
+                        "org.opensearch.dataprepper.model.configuration.PluginSetting\t" + pluginName + "\t\t");
+
+        final PluginIndex.PluginEntry pluginEntry = objectUnderTest.getPlugins().stream()
+                .filter(entry -> entry.getNames().contains(pluginName))
+                .findFirst()
+                .orElseThrow();
+
+        assertThrows(IllegalStateException.class, pluginEntry::getPluginClass);
+    }
+
+    @Test
+    void load_ignores_invalid_lines() throws IOException {
+        final PluginIndex objectUnderTest = loadWithIndex(
+                "plugin\t" + TestSink.class.getName(),
+                UUID.randomUUID().toString());
+
+        assertThat(objectUnderTest.getPlugins().stream()
+                .anyMatch(entry -> entry.getNames().contains(pluginName)), equalTo(false));
+    }
+
+    @Test
+    void getExtensionPluginClasses_includes_indexed_extensions_in_the_plugin_packages() throws IOException {
+        final PluginIndex objectUnderTest = loadWithIndex(
+                "extension\t" + TestExtension.class.getName(),
+                "extension\tcom.example.OutsidePluginPackages");
+
+        final Set<Class<? extends ExtensionPlugin>> extensionClasses = objectUnderTest.getExtensionPluginClasses();
+
+        assertThat(extensionClasses, hasItem(TestExtension.class));
+        assertThat(extensionClasses.stream().map(Class::getName).anyMatch("com.example.OutsidePluginPackages"::equals), equalTo(false));
+    }
+
+    @Test
+    void fromReflections_creates_entries_from_the_annotation() {
+        final Reflections reflections = mock(Reflections.class);
+        when(reflections.getTypesAnnotatedWith(DataPrepperPlugin.class))
+                .thenReturn(Collections.<Class<?>>singleton(TestSink.class));
+
+        final List<PluginIndex.PluginEntry> plugins = PluginIndex.fromReflections(reflections).getPlugins();
+
+        assertThat(plugins.size(), equalTo(1));
+        assertThat(plugins.get(0).getNames(), contains("test_sink", "test_sink_deprecated_name", "test_sink_alternate_name"));
+        assertThat(plugins.get(0).getPluginTypeName(), equalTo(Sink.class.getName()));
+        assertThat(plugins.get(0).getPluginClass(), equalTo(TestSink.class));
+    }
+
+    @Test
+    void fromReflections_getExtensionPluginClasses_returns_scanned_extensions() {
+        final Reflections reflections = mock(Reflections.class);
+        when(reflections.getSubTypesOf(ExtensionPlugin.class))
+                .thenReturn(Collections.<Class<? extends ExtensionPlugin>>singleton(TestExtension.class));
+
+        final Set<Class<? extends ExtensionPlugin>> extensionClasses =
+                PluginIndex.fromReflections(reflections).getExtensionPluginClasses();
+
+        assertThat(extensionClasses, equalTo(Collections.singleton(TestExtension.class)));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugin.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * An annotation processor which writes an index of the Data Prepper plugins and extensions compiled in a module
+ * to {@link #INDEX_RESOURCE}. The plugin framework reads this index at startup instead of scanning the classpath.
+ * <p>
+ * Each line of the index is tab separated and is one of:
+ * <pre>
+ * plugin    &lt;plugin class&gt;    &lt;plugin type&gt;    &lt;configuration type&gt;    &lt;name&gt;    &lt;deprecated name&gt;    &lt;alternate names, comma separated&gt;
+ * extension &lt;extension class&gt;
+ * </pre>
+ * Class names are binary names which can be passed to {@link Class#forName(String)}. The index is written even
+ * when the module has no plugins so that the plugin framework knows the module does not need to be scanned.
+ */
+@SupportedAnnotationTypes("*")
+public class PluginIndexProcessor extends AbstractProcessor {
+    public static final String INDEX_RESOURCE = "META-INF/data-prepper/plugins.index";
+    static final String PLUGIN_ENTRY = "plugin";
+    static final String EXTENSION_ENTRY = "extension";
+    static final String SEPARATOR = "\t";
+    static final String NAMES_SEPARATOR = ",";
+
+    private static final String DATA_PREPPER_PLUGIN = "org.opensearch.dataprepper.model.annotations.DataPrepperPlugin";
+    private static final String EXTENSION_PLUGIN = "org.opensearch.dataprepper.model.plugin.ExtensionPlugin";
+
+    private final Map<String, String> pluginEntries = new TreeMap<>();
+    private final Set<String> extensionClassNames = new TreeSet<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+        if (roundEnvironment.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        final TypeElement extensionPluginElement = processingEnv.getElementUtils().getTypeElement(EXTENSION_PLUGIN);
+        final TypeMirror extensionPluginType = extensionPluginElement == null ? null :
+                processingEnv.getTypeUtils().erasure(extensionPluginElement.asType());
+
+        for (final Element element : roundEnvironment.getRootElements()) {
+            collect(element, extensionPluginType);
+        }
+
+        return false;
+    }
+
+    private void collect(final Element element, final TypeMirror extensionPluginType) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+        final TypeElement typeElement = (TypeElement) element;
+
+        for (final AnnotationMirror annotationMirror : typeElement.getAnnotationMirrors()) {
+            final TypeElement annotationElement = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if (annotationElement.getQualifiedName().contentEquals(DATA_PREPPER_PLUGIN)) {
+                pluginEntries.put(getBinaryName(typeElement), createPluginEntry(typeElement, annotationMirror));
+                originatingElements.add(typeElement);
+            }
+        }
+
+        if (extensionPluginType != null
+                && !typeElement.getQualifiedName().contentEquals(EXTENSION_PLUGIN)
+                && processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(typeElement.asType()), extensionPluginType)) {
+            extensionClassNames.add(getBinaryName(typeElement));
+            originatingElements.add(typeElement);
+        }
+
+        for (final Element enclosedElement : typeElement.getEnclosedElements()) {
+            collect(enclosedElement, extensionPluginType);
+        }
+    }
+
+    private String createPluginEntry(final TypeElement typeElement, final AnnotationMirror annotationMirror) {
+        String name = null;
+        String deprecatedName = null;
+        String pluginType = null;
+        String pluginConfigurationType = null;
+        List<String> alternateNames = new ArrayList<>();
+
+        final Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(annotationMirror);
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            final String attributeName = entry.getKey().getSimpleName().toString();
+            final Object value = entry.getValue().getValue();
+            switch (attributeName) {
+                case "name":
+                    name = (String) value;
+                    break;
+                case "deprecatedName":
+                    deprecatedName = (String) value;
+                    break;
+                case "alternateNames":
+                    alternateNames = ((List<?>) value).stream()
+                            .map(alternateName -> (String) ((AnnotationValue) alternateName).getValue())
+                            .collect(Collectors.toList());
+                    break;
+                case "pluginType":
+                    pluginType = getBinaryName((TypeMirror) value);
+                    break;
+                case "pluginConfigurationType":
+                    pluginConfigurationType = getBinaryName((TypeMirror) value);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return String.join(SEPARATOR, PLUGIN_ENTRY, getBinaryName(typeElement), pluginType, pluginConfigurationType,
+                name, deprecatedName, String.join(NAMES_SEPARATOR, alternateNames));
+    }
+
+    private String getBinaryName(final TypeMirror typeMirror) {
+        return getBinaryName((TypeElement) processingEnv.getTypeUtils().asElement(typeMirror));
+    }
+
+    private String getBinaryName(final TypeElement typeElement) {
+        return processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+    }
+
+    private void writeIndex() {
+        try {
+            final FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                    INDEX_RESOURCE, originatingElements.toArray(new Element[0]));
+            try (final Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# Data Prepper plugin index generated by " + PluginIndexProcessor.class.getSimpleName() + "\n");
+                for (final String pluginEntry : pluginEntries.values()) {
+                    writer.write(pluginEntry);
+                    writer.write('\n');
+                }
+                for (final String extensionClassName : extensionClassNames) {
+                    writer.write(EXTENSION_ENTRY + SEPARATOR + extensionClassName);
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the Data Prepper plugin index: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugin.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+
+class PluginIndexProcessorTest {
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void process_writes_plugin_entries() throws IOException {
+        final List<String> entries = compile(
+                source("test.plugins.FirstProcessor",
+                        "package test.plugins;\n" +
+                        "import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;\n" +
+                        "import org.opensearch.dataprepper.model.processor.Processor;\n" +
+                        "@DataPrepperPlugin(name = \"first\", deprecatedName = \"old_first\", alternateNames = {\"one\", \"uno\"},\n" +
+                        "        pluginType = Processor.class, pluginConfigurationType = FirstProcessor.Config.class)\n" +
+                        "public class FirstProcessor {\n" +
+                        "    public static class Config { }\n" +
+                        "}\n"),
+                source("test.plugins.SecondSink",
+                        "package test.plugins;\n" +
+                        "import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;\n" +
+                        "import org.opensearch.dataprepper.model.sink.Sink;\n" +
+                        "@DataPrepperPlugin(name = \"second\", pluginType = Sink.class)\n" +
+                        "public class SecondSink { }\n"),
+                source("test.plugins.NotAPlugin",
+                        "package test.plugins;\n" +
+                        "public class NotAPlugin { }\n"));
+
+        assertThat(entries, contains(
+                "plugin\ttest.plugins.FirstProcessor\torg.opensearch.dataprepper.model.processor.Processor\t" +
+                        "test.plugins.FirstProcessor$Config\tfirst\told_first\tone,uno",
+                "plugin\ttest.plugins.SecondSink\torg.opensearch.dataprepper.model.sink.Sink\t" +
+                        "org.opensearch.dataprepper.model.configuration.PluginSetting\tsecond\t\t"));
+    }
+
+    @Test
+    void process_writes_nested_plugin_entries_with_binary_names() throws IOException {
+        final List<String> entries = compile(
+                source("test.plugins.Outer",
+                        "package test.plugins;\n" +
+                        "import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;\n" +
+                        "import org.opensearch.dataprepper.model.source.Source;\n" +
+                        "public class Outer {\n" +
+                        "    @DataPrepperPlugin(name = \"inner\", pluginType = Source.class)\n" +
+                        "    public static class Inner { }\n" +
+                        "}\n"));
+
+        assertThat(entries, hasItem(
+                "plugin\ttest.plugins.Outer$Inner\torg.opensearch.dataprepper.model.source.Source\t" +
+                        "org.opensearch.dataprepper.model.configuration.PluginSetting\tinner\t\t"));
+    }
+
+    @Test
+    void process_writes_extension_entries() throws IOException {
+        final List<String> entries = compile(
+                source("test.plugins.TestExtension",
+                        "package test.plugins;\n" +
+                        "import org.opensearch.dataprepper.model.plugin.ExtensionPlugin;\n" +
+                        "import org.opensearch.dataprepper.model.plugin.ExtensionPoints;\n" +
+                        "public class TestExtension implements ExtensionPlugin {\n" +
+                        "    @Override\n" +
+                        "    public void apply(final ExtensionPoints extensionPoints) { }\n" +
+                        "}\n"));
+
+        assertThat(entries, equalTo(Collections.singletonList("extension\ttest.plugins.TestExtension")));
+    }
+
+    @Test
+    void process_writes_an_empty_index_when_there_are_no_plugins() throws IOException {
+        final List<String> entries = compile(
+                source("test.plugins.NotAPlugin",
+                        "package test.plugins;\n" +
+                        "public class NotAPlugin { }\n"));
+
+        assertThat(entries, empty());
+    }
+
+    private List<String> compile(final JavaFileObject... sources) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (final StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(outputDirectory.toFile()));
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    Arrays.asList("-classpath", System.getProperty("java.class.path"), "-proc:only"),
+                    null, Arrays.asList(sources));
+            task.setProcessors(Collections.singletonList(new PluginIndexProcessor()));
+
+            assertThat(task.call(), equalTo(true));
+        }
+
+        return Files.readAllLines(outputDirectory.resolve(PluginIndexProcessor.INDEX_RESOURCE), StandardCharsets.UTF_8)
+                .stream()
+                .filter(line -> !line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+
+    private static JavaFileObject source(final String className, final String content) {
+        return new SimpleJavaFileObject(
+                URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
@@ -37,4 +37,25 @@ public interface AnomalyDetectorMode {
      * @since 2.1
      */
     Collection<Record<Event>> handleEvents(Collection<Record<Event>> records);
+
+    /**
+     * Writes the state of the mode, so that it can be restored after a restart.
+     *
+     * @return The state of the mode, or null if the mode does not support snapshots
+     * @since 2.17
+     */
+    default byte[] snapshot() {
+        return null;
+    }
+
+    /**
+     * Restores the state written by {@link #snapshot()}. It is called after {@link #initialize(List, boolean)}.
+     *
+     * @param state The state of the mode
+     * @return true if the state was restored, false if the mode keeps the state from initialize
+     * @since 2.17
+     */
+    default boolean restore(final byte[] state) {
+        return false;
+    }
 }
@@ -14,6 +14,7 @@ import io.micrometer.core.instrument.Counter;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
@@ -25,13 +26,24 @@ import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @DataPrepperPlugin(name = "anomaly_detector", pluginType = Processor.class, pluginConfigurationType = AnomalyDetectorProcessorConfig.class)
@@ -42,18 +54,20 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
     static final String CARDINALITY_OVERFLOW = "cardinalityOverflow";
 
     private final Boolean verbose;
-    private final int cardinalityLimit;
     private final IdentificationKeysHasher identificationKeysHasher;
     private final List<String> keys;
     private final PluginFactory pluginFactory;
-    private final HashMap<Integer, AnomalyDetectorMode> forestMap;
+    private final ForestSnapshotStore snapshotStore;
+    private final ForestRegistry forestRegistry;
+    private final ExecutorService scoringExecutor;
     private final AtomicInteger cardinality;
     private final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig;
     private static final Logger LOG = LoggerFactory.getLogger(AnomalyDetectorProcessor.class);
     private final Counter cardinalityOverflowCounter;
     Instant nextWarnTime = Instant.MIN;
     @DataPrepperPluginConstructor
-    public AnomalyDetectorProcessor(final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory) {
+    public AnomalyDetectorProcessor(final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory,
+                                    final PipelineDescription pipelineDescription) {
         super(pluginMetrics);
         this.identificationKeysHasher = new IdentificationKeysHasher(anomalyDetectorProcessorConfig.getIdentificationKeys());
         this.anomalyDetectorProcessorConfig = anomalyDetectorProcessorConfig;
@@ -61,9 +75,19 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
         this.keys = anomalyDetectorProcessorConfig.getKeys();
         this.verbose = anomalyDetectorProcessorConfig.getVerbose();
         this.cardinality = pluginMetrics.gauge(NUMBER_RCF_INSTANCES, new AtomicInteger());
-        this.cardinalityLimit = anomalyDetectorProcessorConfig.getCardinalityLimit();
         this.cardinalityOverflowCounter = pluginMetrics.counter(CARDINALITY_OVERFLOW);
-        forestMap = new HashMap<>();
+        this.snapshotStore = anomalyDetectorProcessorConfig.getSnapshotDirectory() != null
+                ? ForestSnapshotStore.open(Paths.get(anomalyDetectorProcessorConfig.getSnapshotDirectory()), pipelineDescription.getPipelineName())
+                : null;
+        this.forestRegistry = new ForestRegistry(this::createAnomalyDetectorMode,
+                anomalyDetectorProcessorConfig.getCardinalityLimit(),
+                anomalyDetectorProcessorConfig.getForestIdleTimeout(),
+                snapshotStore,
+                anomalyDetectorProcessorConfig.getSnapshotInterval(),
+                Instant.now());
+        this.scoringExecutor = anomalyDetectorProcessorConfig.getScoringThreads() > 1
+                ? Executors.newFixedThreadPool(anomalyDetectorProcessorConfig.getScoringThreads(), new ScoringThreadFactory())
+                : null;
     }
 
     private AnomalyDetectorMode loadAnomalyDetectorMode(final PluginFactory pluginFactory) {
@@ -72,36 +96,91 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
         return pluginFactory.loadPlugin(AnomalyDetectorMode.class, modePluginSetting);
     }
 
+    private AnomalyDetectorMode createAnomalyDetectorMode() {
+        final AnomalyDetectorMode forest = loadAnomalyDetectorMode(pluginFactory);
+        forest.initialize(keys, verbose);
+        return forest;
+    }
+
     @Override
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
-        final List<Record<Event>> recordsOut = new LinkedList<>();
-
+        final Instant now = Instant.now();
+        // If user has not configured IdentificationKeys, every event has the same empty identification keys map,
+        // so the same forest will be used, and we don't need to write a special case.
+        final Map<IdentificationKeysHasher.IdentificationKeysMap, List<Record<Event>>> recordsByIdentificationKeys = new LinkedHashMap<>();
         for (final Record<Event> record : records) {
-            final Event event = record.getData();
-            // If user has not configured IdentificationKeys, the empty set will always hash to "31",
-            // so the same forest will be used, and we don't need to write a special case.
-            final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = identificationKeysHasher.createIdentificationKeysMapFromEvent(event);
-            AnomalyDetectorMode forest = forestMap.get(identificationKeysMap.hashCode());
+            final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = identificationKeysHasher.createIdentificationKeysMapFromEvent(record.getData());
+            recordsByIdentificationKeys.computeIfAbsent(identificationKeysMap, k -> new ArrayList<>()).add(record);
+        }
 
+        final List<Callable<Collection<Record<Event>>>> scoringTasks = new ArrayList<>(recordsByIdentificationKeys.size());
+        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, List<Record<Event>>> entry : recordsByIdentificationKeys.entrySet()) {
+            final AnomalyDetectorMode forest = forestRegistry.getOrCreate(entry.getKey(), now);
             if (Objects.nonNull(forest)) {
-                recordsOut.addAll(forest.handleEvents(List.of(record)));
-            } else if (forestMap.size() < cardinalityLimit) {
-                forest = loadAnomalyDetectorMode(pluginFactory);
-                forest.initialize(keys, verbose);
-                forestMap.put(identificationKeysMap.hashCode(), forest);
-                recordsOut.addAll(forest.handleEvents(List.of(record)));
+                final List<Record<Event>> entityRecords = entry.getValue();
+                scoringTasks.add(() -> forest.handleEvents(entityRecords));
             } else {
-                if (Instant.now().isAfter(nextWarnTime)) {
+                if (now.isAfter(nextWarnTime)) {
                     LOG.warn("Cardinality limit reached, see cardinalityOverflow metric for count of skipped records");
-                    nextWarnTime = Instant.now().plus(5, ChronoUnit.MINUTES);
+                    nextWarnTime = now.plus(5, ChronoUnit.MINUTES);
+                }
+                cardinalityOverflowCounter.increment(entry.getValue().size());
+            }
+        }
+
+        final Set<Record<Event>> anomalies = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final Collection<Record<Event>> entityAnomalies : score(scoringTasks)) {
+            anomalies.addAll(entityAnomalies);
+        }
+        final List<Record<Event>> recordsOut = new ArrayList<>(anomalies.size());
+        if (!anomalies.isEmpty()) {
+            for (final Record<Event> record : records) {
+                if (anomalies.contains(record)) {
+                    recordsOut.add(record);
                 }
-                cardinalityOverflowCounter.increment();
             }
         }
-        cardinality.set(forestMap.size());
+
+        forestRegistry.maintain(now);
+        cardinality.set(forestRegistry.size());
         return recordsOut;
     }
 
+    /**
+     * Scores the events of each set of identification keys, in parallel when there is a scoring executor.
+     * Each forest is used by a single task.
+     */
+    private List<Collection<Record<Event>>> score(final List<Callable<Collection<Record<Event>>>> scoringTasks) {
+        final List<Collection<Record<Event>>> results = new ArrayList<>(scoringTasks.size());
+        if (scoringExecutor == null || scoringTasks.size() == 1) {
+            for (final Callable<Collection<Record<Event>>> scoringTask : scoringTasks) {
+                try {
+                    results.add(scoringTask.call());
+                } catch (final RuntimeException e) {
+                    throw e;
+                } catch (final Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return results;
+        }
+
+        try {
+            for (final Future<Collection<Record<Event>>> future : scoringExecutor.invokeAll(scoringTasks)) {
+                results.add(future.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scoring events", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+
 
     @Override
     public void prepareForShutdown() {
@@ -115,6 +194,23 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
 
     @Override
     public void shutdown() {
+        if (scoringExecutor != null) {
+            scoringExecutor.shutdownNow();
+        }
+        forestRegistry.snapshotUpdated();
+        if (snapshotStore != null) {
+            snapshotStore.close();
+        }
+    }
+
+    private static class ScoringThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger();
 
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "anomaly-detector-scoring-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 }
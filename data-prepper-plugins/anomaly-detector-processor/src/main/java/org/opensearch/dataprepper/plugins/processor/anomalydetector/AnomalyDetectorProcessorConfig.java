@@ -17,9 +17,12 @@ import org.opensearch.dataprepper.model.annotations.UsesDataPrepperPlugin;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
@@ -53,6 +56,26 @@ public class AnomalyDetectorProcessorConfig {
     @JsonProperty(value = "cardinality_limit", defaultValue = "5000")
     private int cardinalityLimit = 5000;
 
+    @JsonPropertyDescription("The number of threads which score the events of different identification keys in parallel. With the default of 1, events are scored on the pipeline worker thread.")
+    @JsonProperty(value = "scoring_threads", defaultValue = "1")
+    @Min(1)
+    private int scoringThreads = 1;
+
+    @JsonPropertyDescription("If provided, the ML model for a unique instance of the identification keys is removed after it receives no events for this duration, which frees it from the cardinality limit. Supports ISO_8601 notation strings (\"PT20.345S\", \"PT15M\", etc.) as well as simple notation for seconds (\"60s\") and milliseconds (\"1500ms\"). By default, models are never removed.")
+    @JsonProperty("forest_idle_timeout")
+    @ExampleValues({
+            @Example(value = "1h", description = "Models which receive no events for an hour are removed.")
+    })
+    private Duration forestIdleTimeout;
+
+    @JsonPropertyDescription("If provided, the state of each ML model is written to a file in this local directory, and restored from it when the instance of the identification keys is seen again, including after a restart. Each processor instance writes to its own locked <pipeline>/instance-<n> subdirectory, so pipelines, processors and workers can share one directory.")
+    @JsonProperty("snapshot_directory")
+    private String snapshotDirectory;
+
+    @JsonPropertyDescription("The interval at which the state of updated ML models is written to the snapshot_directory. It must be positive. State is also written when a model is removed and when the processor shuts down. Default is 5m.")
+    @JsonProperty(value = "snapshot_interval", defaultValue = "5m")
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+
     public PluginModel getDetectorMode() { 
         return detectorMode;
     }
@@ -76,5 +99,26 @@ public class AnomalyDetectorProcessorConfig {
         return cardinalityLimit;
     }
 
+    public int getScoringThreads() {
+        return scoringThreads;
+    }
+
+    public Duration getForestIdleTimeout() {
+        return forestIdleTimeout;
+    }
+
+    public String getSnapshotDirectory() {
+        return snapshotDirectory;
+    }
+
+    public Duration getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    @AssertTrue(message = "snapshot_interval must be positive")
+    boolean isSnapshotIntervalValid() {
+        return snapshotInterval != null && !snapshotInterval.isNegative() && !snapshotInterval.isZero();
+    }
+
 
 }
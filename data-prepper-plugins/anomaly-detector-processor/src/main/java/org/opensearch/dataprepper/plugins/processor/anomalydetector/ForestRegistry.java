@@ -0,0 +1,173 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.anomalydetector;
+
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher.IdentificationKeysMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Holds an anomaly detector for each set of identification values. Detectors are looked up by the identification
+ * values themselves, so that different values never share a detector. When configured, detectors which have not
+ * seen events for the idle timeout are removed, and the state of each detector is written to a
+ * {@link ForestSnapshotStore} and restored when its identification values are seen again.
+ * <p>
+ * The registry is not thread-safe. It is used by a single processor instance.
+ */
+class ForestRegistry {
+    private static final Logger LOG = LoggerFactory.getLogger(ForestRegistry.class);
+    static final Duration MAXIMUM_EVICTION_CHECK_INTERVAL = Duration.ofMinutes(1);
+
+    private final Supplier<AnomalyDetectorMode> modeSupplier;
+    private final int cardinalityLimit;
+    private final Duration idleTimeout;
+    private final ForestSnapshotStore snapshotStore;
+    private final Duration snapshotInterval;
+    private final Map<IdentificationKeysMap, ForestEntry> forests;
+    private Instant nextEvictionTime;
+    private Instant nextSnapshotTime;
+
+    /**
+     * @param modeSupplier Creates an initialized anomaly detector
+     * @param cardinalityLimit The maximum number of detectors
+     * @param idleTimeout The time after which a detector without events is removed, or null to keep detectors
+     * @param snapshotStore The store for the state of the detectors, or null to not keep their state
+     * @param snapshotInterval The interval at which the state of updated detectors is written
+     * @param now The current time
+     */
+    ForestRegistry(final Supplier<AnomalyDetectorMode> modeSupplier,
+                   final int cardinalityLimit,
+                   final Duration idleTimeout,
+                   final ForestSnapshotStore snapshotStore,
+                   final Duration snapshotInterval,
+                   final Instant now) {
+        this.modeSupplier = modeSupplier;
+        this.cardinalityLimit = cardinalityLimit;
+        this.idleTimeout = idleTimeout;
+        this.snapshotStore = snapshotStore;
+        this.snapshotInterval = snapshotInterval;
+        this.forests = new HashMap<>();
+        this.nextEvictionTime = idleTimeout == null ? Instant.MAX : now.plus(getEvictionCheckInterval(idleTimeout));
+        this.nextSnapshotTime = snapshotStore == null ? Instant.MAX : now.plus(snapshotInterval);
+    }
+
+    /**
+     * Gets the detector for the identification values, creating it, and restoring its state when there is a
+     * snapshot, if it does not exist.
+     *
+     * @return the detector, or null if there is no detector for the values and the cardinality limit is reached
+     */
+    AnomalyDetectorMode getOrCreate(final IdentificationKeysMap identificationKeysMap, final Instant now) {
+        ForestEntry forestEntry = forests.get(identificationKeysMap);
+        if (forestEntry == null) {
+            if (forests.size() >= cardinalityLimit) {
+                return null;
+            }
+            forestEntry = new ForestEntry(createMode(identificationKeysMap));
+            forests.put(identificationKeysMap, forestEntry);
+        }
+        forestEntry.lastUsed = now;
+        forestEntry.updated = true;
+        return forestEntry.mode;
+    }
+
+    /**
+     * Removes the detectors which have been idle for the idle timeout and writes the state of updated detectors
+     * when the snapshot interval has passed. Both are checked only when they are due.
+     */
+    void maintain(final Instant now) {
+        if (!now.isBefore(nextEvictionTime)) {
+            evictIdle(now.minus(idleTimeout));
+            nextEvictionTime = now.plus(getEvictionCheckInterval(idleTimeout));
+        }
+        if (!now.isBefore(nextSnapshotTime)) {
+            snapshotUpdated();
+            nextSnapshotTime = now.plus(snapshotInterval);
+        }
+    }
+
+    /**
+     * Writes the state of all the updated detectors, if there is a snapshot store.
+     */
+    void snapshotUpdated() {
+        if (snapshotStore == null) {
+            return;
+        }
+        for (final Map.Entry<IdentificationKeysMap, ForestEntry> forest : forests.entrySet()) {
+            snapshot(forest.getKey(), forest.getValue());
+        }
+    }
+
+    int size() {
+        return forests.size();
+    }
+
+    private AnomalyDetectorMode createMode(final IdentificationKeysMap identificationKeysMap) {
+        final AnomalyDetectorMode mode = modeSupplier.get();
+        if (snapshotStore != null) {
+            final byte[] state = snapshotStore.read(identificationKeysMap.getKeyMap());
+            if (state != null && mode.restore(state)) {
+                LOG.debug("Restored the anomaly detector for {}", identificationKeysMap.getKeyMap());
+            }
+        }
+        return mode;
+    }
+
+    private void evictIdle(final Instant idleSince) {
+        final Iterator<Map.Entry<IdentificationKeysMap, ForestEntry>> iterator = forests.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<IdentificationKeysMap, ForestEntry> forest = iterator.next();
+            if (forest.getValue().lastUsed.isBefore(idleSince)) {
+                if (snapshotStore != null) {
+                    snapshot(forest.getKey(), forest.getValue());
+                }
+                iterator.remove();
+            }
+        }
+    }
+
+    private void snapshot(final IdentificationKeysMap identificationKeysMap, final ForestEntry forestEntry) {
+        if (!forestEntry.updated) {
+            return;
+        }
+        final byte[] state;
+        try {
+            state = forestEntry.mode.snapshot();
+        } catch (final RuntimeException e) {
+            LOG.error("Failed to take a snapshot of the anomaly detector for {}", identificationKeysMap.getKeyMap(), e);
+            return;
+        }
+        if (state != null) {
+            snapshotStore.write(identificationKeysMap.getKeyMap(), state);
+        }
+        forestEntry.updated = false;
+    }
+
+    private static Duration getEvictionCheckInterval(final Duration idleTimeout) {
+        return idleTimeout.compareTo(MAXIMUM_EVICTION_CHECK_INTERVAL) < 0 ? idleTimeout : MAXIMUM_EVICTION_CHECK_INTERVAL;
+    }
+
+    private static class ForestEntry {
+        private final AnomalyDetectorMode mode;
+        private Instant lastUsed;
+        private boolean updated;
+
+        private ForestEntry(final AnomalyDetectorMode mode) {
+            this.mode = mode;
+        }
+    }
+}
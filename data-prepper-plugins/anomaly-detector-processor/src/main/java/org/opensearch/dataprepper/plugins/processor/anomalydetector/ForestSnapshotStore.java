@@ -0,0 +1,206 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.anomalydetector;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+
+/**
+ * Keeps the state of each anomaly detector on the local disk, in one file per set of identification values.
+ * The file is named by a digest of the identification values and also holds the values themselves, so that
+ * the state is only restored for the same values.
+ * <p>
+ * Every processor instance, one per process worker, writes to its own {@code <pipeline>/instance-<n>}
+ * subdirectory of the snapshot directory, which it locks until it is closed. Pipelines, processors and workers
+ * can therefore share a snapshot directory without overwriting each other's files. An instance claims the lowest
+ * subdirectory which is not locked, so the instances of an unchanged pipeline claim the same subdirectories, in
+ * the order they are created, after a restart.
+ */
+class ForestSnapshotStore implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(ForestSnapshotStore.class);
+    static final String IDENTIFICATION_KEYS_FIELD = "identification_keys";
+    static final String STATE_FIELD = "state";
+    static final String LOCK_FILE_NAME = ".lock";
+    static final String INSTANCE_DIRECTORY_PREFIX = "instance-";
+    static final int MAX_INSTANCES = 10_000;
+    private static final String SNAPSHOT_FILE_SUFFIX = ".json";
+
+    private final Path directory;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final ObjectMapper objectMapper;
+
+    private ForestSnapshotStore(final Path directory, final FileChannel lockChannel, final FileLock lock) {
+        this.directory = directory;
+        this.lockChannel = lockChannel;
+        this.lock = lock;
+        this.objectMapper = new ObjectMapper().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    /**
+     * Claims the first instance subdirectory of the pipeline which no other processor instance holds.
+     *
+     * @param snapshotDirectory the configured snapshot directory
+     * @param pipelineName the name of the pipeline of the processor
+     * @return a store which writes to the claimed subdirectory
+     */
+    static ForestSnapshotStore open(final Path snapshotDirectory, final String pipelineName) {
+        final Path pipelineDirectory = snapshotDirectory.resolve(pipelineName);
+        for (int instance = 0; instance < MAX_INSTANCES; instance++) {
+            final ForestSnapshotStore snapshotStore = tryClaim(pipelineDirectory.resolve(INSTANCE_DIRECTORY_PREFIX + instance));
+            if (snapshotStore != null) {
+                return snapshotStore;
+            }
+        }
+        throw new IllegalStateException("All " + MAX_INSTANCES + " anomaly detector snapshot directories in " +
+                pipelineDirectory + " are in use");
+    }
+
+    private static ForestSnapshotStore tryClaim(final Path instanceDirectory) {
+        FileChannel lockChannel = null;
+        try {
+            Files.createDirectories(instanceDirectory);
+            lockChannel = FileChannel.open(instanceDirectory.resolve(LOCK_FILE_NAME),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            FileLock lock;
+            try {
+                lock = lockChannel.tryLock();
+            } catch (final OverlappingFileLockException e) {
+                lock = null;
+            }
+            if (lock == null) {
+                lockChannel.close();
+                return null;
+            }
+            return new ForestSnapshotStore(instanceDirectory, lockChannel, lock);
+        } catch (final IOException e) {
+            closeQuietly(lockChannel);
+            throw new UncheckedIOException("Unable to create the anomaly detector snapshot directory " + instanceDirectory, e);
+        }
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Releases the instance subdirectory so that another processor instance can claim it.
+     */
+    @Override
+    public void close() {
+        if (!lockChannel.isOpen()) {
+            return;
+        }
+        try {
+            lock.release();
+        } catch (final IOException e) {
+            LOG.warn("Unable to release the anomaly detector snapshot directory {}", directory, e);
+        } finally {
+            closeQuietly(lockChannel);
+        }
+    }
+
+    /**
+     * Writes the state for the identification values, replacing any earlier state.
+     */
+    void write(final Map<Object, Object> identificationValues, final byte[] state) {
+        final ObjectNode snapshot = objectMapper.createObjectNode();
+        snapshot.set(IDENTIFICATION_KEYS_FIELD, objectMapper.valueToTree(identificationValues));
+        snapshot.put(STATE_FIELD, state);
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, "snapshot", ".tmp");
+            objectMapper.writeValue(tempFile.toFile(), snapshot);
+            Files.move(tempFile, getSnapshotFile(identificationValues), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            LOG.error("Failed to write the anomaly detector snapshot for {}", identificationValues, e);
+            deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * @return the state for the identification values, or null when there is no readable state for them
+     */
+    byte[] read(final Map<Object, Object> identificationValues) {
+        final Path snapshotFile = getSnapshotFile(identificationValues);
+        try {
+            final JsonNode snapshot = objectMapper.readTree(Files.readAllBytes(snapshotFile));
+            final JsonNode expectedIdentificationValues = objectMapper.readTree(objectMapper.writeValueAsBytes(identificationValues));
+            if (!expectedIdentificationValues.equals(snapshot.get(IDENTIFICATION_KEYS_FIELD))) {
+                LOG.warn("The anomaly detector snapshot {} is for other identification values, ignoring it", snapshotFile);
+                return null;
+            }
+            return snapshot.get(STATE_FIELD).binaryValue();
+        } catch (final NoSuchFileException e) {
+            return null;
+        } catch (final IOException | RuntimeException e) {
+            LOG.warn("Unable to read the anomaly detector snapshot {}, ignoring it", snapshotFile, e);
+            return null;
+        }
+    }
+
+    Path getSnapshotFile(final Map<Object, Object> identificationValues) {
+        final MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+            final byte[] digest = messageDigest.digest(objectMapper.writeValueAsBytes(identificationValues));
+            final StringBuilder fileName = new StringBuilder(digest.length * 2 + SNAPSHOT_FILE_SUFFIX.length());
+            for (final byte digestByte : digest) {
+                fileName.append(Character.forDigit((digestByte >> 4) & 0xF, 16))
+                        .append(Character.forDigit(digestByte & 0xF, 16));
+            }
+            return directory.resolve(fileName.append(SNAPSHOT_FILE_SUFFIX).toString());
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void closeQuietly(final FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            LOG.debug("Unable to close {}", channel, e);
+        }
+    }
+
+    private static void deleteQuietly(final Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            LOG.debug("Unable to delete {}", file, e);
+        }
+    }
+}
@@ -22,10 +22,16 @@ import com.amazon.randomcutforest.config.Precision;
 import com.amazon.randomcutforest.config.TransformMethod;
 import com.amazon.randomcutforest.parkservices.AnomalyDescriptor;
 import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestMapper;
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestState;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.opensearch.dataprepper.plugins.processor.anomalydetector.AnomalyDetectorMode;
 import static org.opensearch.dataprepper.plugins.processor.anomalydetector.AnomalyDetectorProcessor.DEVIATION_KEY;
 import static org.opensearch.dataprepper.plugins.processor.anomalydetector.AnomalyDetectorProcessor.GRADE_KEY;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.ArrayList;
@@ -40,6 +46,8 @@ public class RandomCutForestMode implements AnomalyDetectorMode {
     private static final double INITIAL_ACCEPT_FRACTION = 0.125;
     private static final double LOWER_THRESHOLD = 1.1;
     private static final double HORIZON_VALUE = 0.75;
+    private static final ObjectMapper STATE_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     
     private ThresholdedRandomCutForest forest;
     private int baseDimensions;
@@ -150,5 +158,45 @@ public class RandomCutForestMode implements AnomalyDetectorMode {
         }
         return recordsOut;
     }
+
+    @Override
+    public byte[] snapshot() {
+        final ThresholdedRandomCutForestState state;
+        processLock.lock();
+        try {
+            state = new ThresholdedRandomCutForestMapper().toState(forest);
+        } finally {
+            processLock.unlock();
+        }
+        try {
+            return STATE_MAPPER.writeValueAsBytes(state);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean restore(final byte[] state) {
+        final ThresholdedRandomCutForest restoredForest;
+        try {
+            restoredForest = new ThresholdedRandomCutForestMapper()
+                    .toModel(STATE_MAPPER.readValue(state, ThresholdedRandomCutForestState.class));
+        } catch (final Exception e) {
+            LOG.warn("Unable to restore the random cut forest from its state, starting a new forest", e);
+            return false;
+        }
+        if (restoredForest.getForest().getDimensions() != baseDimensions * shingleSize) {
+            LOG.warn("The restored random cut forest has {} dimensions but {} are configured, starting a new forest",
+                    restoredForest.getForest().getDimensions(), baseDimensions * shingleSize);
+            return false;
+        }
+        processLock.lock();
+        try {
+            forest = restoredForest;
+        } finally {
+            processLock.unlock();
+        }
+        return true;
+    }
 }
 
@@ -10,7 +10,10 @@
 package org.opensearch.dataprepper.plugins.processor.anomalydetector;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -53,4 +56,36 @@ public class AnomalyDetectorProcessorConfigTests {
         assertThrows(IllegalArgumentException.class, () -> anomalyDetectorProcessorConfig.getKeys());
     }
 
+    @Test
+    public void testDefaultConfig() {
+        final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig = new AnomalyDetectorProcessorConfig();
+        assertThat(anomalyDetectorProcessorConfig.getCardinalityLimit(), equalTo(5000));
+        assertThat(anomalyDetectorProcessorConfig.getScoringThreads(), equalTo(1));
+        assertThat(anomalyDetectorProcessorConfig.getForestIdleTimeout(), equalTo(null));
+        assertThat(anomalyDetectorProcessorConfig.getSnapshotDirectory(), equalTo(null));
+        assertThat(anomalyDetectorProcessorConfig.getSnapshotInterval(), equalTo(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    public void testForestRegistryConfig() throws NoSuchFieldException, IllegalAccessException {
+        final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig = new AnomalyDetectorProcessorConfig();
+        final String snapshotDirectory = UUID.randomUUID().toString();
+        setField(AnomalyDetectorProcessorConfig.class, anomalyDetectorProcessorConfig, "scoringThreads", 4);
+        setField(AnomalyDetectorProcessorConfig.class, anomalyDetectorProcessorConfig, "forestIdleTimeout", Duration.ofHours(1));
+        setField(AnomalyDetectorProcessorConfig.class, anomalyDetectorProcessorConfig, "snapshotDirectory", snapshotDirectory);
+        setField(AnomalyDetectorProcessorConfig.class, anomalyDetectorProcessorConfig, "snapshotInterval", Duration.ofMinutes(1));
+        assertThat(anomalyDetectorProcessorConfig.getScoringThreads(), equalTo(4));
+        assertThat(anomalyDetectorProcessorConfig.getForestIdleTimeout(), equalTo(Duration.ofHours(1)));
+        assertThat(anomalyDetectorProcessorConfig.getSnapshotDirectory(), equalTo(snapshotDirectory));
+        assertThat(anomalyDetectorProcessorConfig.getSnapshotInterval(), equalTo(Duration.ofMinutes(1)));
+        assertThat(anomalyDetectorProcessorConfig.isSnapshotIntervalValid(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"PT0S", "PT-1M"})
+    public void testSnapshotIntervalMustBePositive(final String snapshotInterval) throws NoSuchFieldException, IllegalAccessException {
+        final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig = new AnomalyDetectorProcessorConfig();
+        setField(AnomalyDetectorProcessorConfig.class, anomalyDetectorProcessorConfig, "snapshotInterval", Duration.parse(snapshotInterval));
+        assertThat(anomalyDetectorProcessorConfig.isSnapshotIntervalValid(), equalTo(false));
+    }
 }
@@ -14,6 +14,7 @@ import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.opensearch.dataprepper.metrics.MetricNames;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
@@ -25,9 +26,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -41,6 +45,9 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -74,6 +81,9 @@ public class AnomalyDetectorProcessorTests {
     @Mock
     private PluginModel modeConfiguration;
 
+    @Mock
+    private PipelineDescription pipelineDescription;
+
     private AnomalyDetectorProcessor anomalyDetectorProcessor;
 
 
@@ -93,6 +103,7 @@ public class AnomalyDetectorProcessorTests {
         when(pluginMetrics.counter(MetricNames.RECORDS_IN)).thenReturn(recordsIn);
         when(pluginMetrics.counter(MetricNames.RECORDS_OUT)).thenReturn(recordsOut);
         when(pluginMetrics.timer(MetricNames.TIME_ELAPSED)).thenReturn(timeElapsed);
+        lenient().when(pipelineDescription.getPipelineName()).thenReturn("test-pipeline");
 
     }
 
@@ -100,7 +111,7 @@ public class AnomalyDetectorProcessorTests {
     @ValueSource(ints = {1, 2, 3, 4, 5, 6})
     void testAnomalyDetectorProcessor(int type) {
 
-        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, pipelineDescription);
         final int numSamples = 1024;
         final List<Record<Event>> records = new ArrayList<Record<Event>>();
         for (int i = 0; i < numSamples; i++) {
@@ -150,7 +161,7 @@ public class AnomalyDetectorProcessorTests {
     @Test
     void testAnomalyDetectorProcessorTwoKeys() {
 
-        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, pipelineDescription);
         final int numSamples = 1024;
         final List<Record<Event>> records = new ArrayList<Record<Event>>();
         for (int i = 0; i < numSamples; i++) {
@@ -171,7 +182,7 @@ public class AnomalyDetectorProcessorTests {
     @Test
     void testAnomalyDetectorProcessorNoMatchingKeys() {
         when(mockConfig.getKeys()).thenReturn(new ArrayList<String>(Collections.singleton("bytes")));
-        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, pipelineDescription);
         final int numSamples = 1024;
         final List<Record<Event>> records = new ArrayList<Record<Event>>();
         for (int i = 0; i < numSamples; i++) {
@@ -186,7 +197,7 @@ public class AnomalyDetectorProcessorTests {
     @Test
     void testAnomalyDetectorProcessorInvalidTypeKeys() {
         when(mockConfig.getKeys()).thenReturn(new ArrayList<String>(Collections.singleton("bytes")));
-        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, pipelineDescription);
         final int numSamples = 1024;
         final List<Record<Event>> records = new ArrayList<Record<Event>>();
         for (int i = 0; i < numSamples; i++) {
@@ -201,7 +212,7 @@ public class AnomalyDetectorProcessorTests {
         identificationKeyList.add("ip");
         when(mockConfig.getIdentificationKeys()).thenReturn(identificationKeyList);
 
-        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, pipelineDescription);
         final int numSamples = 1024;
         final List<Record<Event>> records = new ArrayList<Record<Event>>();
         for (int i = 0; i < numSamples; i++) {
@@ -230,7 +241,7 @@ public class AnomalyDetectorProcessorTests {
         when(mockConfig.getCardinalityLimit()).thenReturn(2);
         when(pluginMetrics.counter(AnomalyDetectorProcessor.CARDINALITY_OVERFLOW)).thenReturn(cardinalityOverflow);
 
-        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, pipelineDescription);
         final int numSamples = 1024;
         final List<Record<Event>> records = new ArrayList<Record<Event>>();
         for (int i = 0; i < numSamples; i++) {
@@ -259,6 +270,75 @@ public class AnomalyDetectorProcessorTests {
 
     }
 
+    @Test
+    void testAnomalyDetectorKeepsSeparateForestsForCollidingIdentificationKeys() {
+        when(mockConfig.getIdentificationKeys()).thenReturn(List.of("ip"));
+        assertThat("Aa".hashCode(), equalTo("BB".hashCode()));
+
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, pipelineDescription);
+        final int numSamples = 1024;
+        final List<Record<Event>> records = new ArrayList<Record<Event>>();
+        for (int i = 0; i < numSamples; i++) {
+            records.add(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(0.5, 0.6), ThreadLocalRandom.current().nextLong(100, 110), "Aa"));
+            records.add(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(15.5, 15.6), ThreadLocalRandom.current().nextLong(1000, 1110), "BB"));
+        }
+        anomalyDetectorProcessor.doExecute(records);
+        verify(numberRCFInstances).set(2);
+
+        final List<Record<Event>> slowRecordFromFastIp = (List<Record<Event>>) anomalyDetectorProcessor.doExecute(Collections.singletonList(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(15.5, 15.8), ThreadLocalRandom.current().nextLong(1000, 1110), "Aa")));
+        assertThat(slowRecordFromFastIp.size(), equalTo(1));
+    }
+
+    @Test
+    void testAnomalyDetectorScoresIdentificationKeysInParallelAndKeepsRecordOrder() {
+        when(mockConfig.getIdentificationKeys()).thenReturn(List.of("ip"));
+        when(mockConfig.getScoringThreads()).thenReturn(4);
+        final List<String> ips = List.of("1.1.1.1", "2.2.2.2", "3.3.3.3", "4.4.4.4");
+
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, pipelineDescription);
+        final int numSamples = 1024;
+        final List<Record<Event>> records = new ArrayList<Record<Event>>();
+        for (int i = 0; i < numSamples; i++) {
+            for (final String ip : ips) {
+                records.add(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(0.5, 0.6), ThreadLocalRandom.current().nextLong(100, 110), ip));
+            }
+        }
+        anomalyDetectorProcessor.doExecute(records);
+
+        final List<Record<Event>> recordsWithAnomalies = new ArrayList<Record<Event>>();
+        for (final String ip : ips) {
+            recordsWithAnomalies.add(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(15.5, 15.8), ThreadLocalRandom.current().nextLong(1000, 1110), ip));
+        }
+        final List<Record<Event>> anomalies = (List<Record<Event>>) anomalyDetectorProcessor.doExecute(recordsWithAnomalies);
+        anomalyDetectorProcessor.shutdown();
+
+        assertThat(anomalies, equalTo(recordsWithAnomalies));
+        verify(numberRCFInstances, atLeastOnce()).set(4);
+    }
+
+    @Test
+    void testAnomalyDetectorRestoresForestsFromSnapshotDirectory(@TempDir final Path snapshotDirectory) {
+        when(mockConfig.getIdentificationKeys()).thenReturn(List.of("ip"));
+        when(mockConfig.getSnapshotDirectory()).thenReturn(snapshotDirectory.toString());
+        when(mockConfig.getSnapshotInterval()).thenReturn(Duration.ofMinutes(5));
+
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, pipelineDescription);
+        final int numSamples = 1024;
+        final List<Record<Event>> records = new ArrayList<Record<Event>>();
+        for (int i = 0; i < numSamples; i++) {
+            records.add(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(0.5, 0.6), ThreadLocalRandom.current().nextLong(100, 110), "1.1.1.1"));
+        }
+        anomalyDetectorProcessor.doExecute(records);
+        anomalyDetectorProcessor.shutdown();
+
+        final AnomalyDetectorProcessor restartedProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, pipelineDescription);
+        final List<Record<Event>> slowRecordAfterRestart = (List<Record<Event>>) restartedProcessor.doExecute(Collections.singletonList(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(15.5, 15.8), ThreadLocalRandom.current().nextLong(1000, 1110), "1.1.1.1")));
+        assertThat(slowRecordAfterRestart.size(), equalTo(1));
+
+        final List<Record<Event>> slowRecordFromNewIp = (List<Record<Event>>) restartedProcessor.doExecute(Collections.singletonList(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(15.5, 15.8), ThreadLocalRandom.current().nextLong(1000, 1110), "2.2.2.2")));
+        assertThat(slowRecordFromNewIp.size(), equalTo(0));
+    }
+
     static Record<Event> buildRecordWithEvent(final Map<String, Object> data) {
         return new Record<>(JacksonEvent.builder()
             .withData(data)
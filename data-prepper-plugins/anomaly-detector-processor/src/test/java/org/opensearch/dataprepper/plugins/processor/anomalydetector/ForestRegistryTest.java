@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.anomalydetector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher.IdentificationKeysMap;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ForestRegistryTest {
+    private static final Duration SNAPSHOT_INTERVAL = Duration.ofMinutes(5);
+
+    private final Instant startTime = Instant.parse("2024-06-01T00:00:00Z");
+    private List<AnomalyDetectorMode> createdModes;
+    private ForestSnapshotStore snapshotStore;
+
+    @BeforeEach
+    void setUp() {
+        createdModes = new ArrayList<>();
+        snapshotStore = mock(ForestSnapshotStore.class);
+    }
+
+    private ForestRegistry createObjectUnderTest(final int cardinalityLimit, final Duration idleTimeout, final ForestSnapshotStore snapshotStore) {
+        return new ForestRegistry(() -> {
+            final AnomalyDetectorMode mode = mock(AnomalyDetectorMode.class);
+            when(mode.snapshot()).thenReturn(new byte[] {(byte) createdModes.size()});
+            createdModes.add(mode);
+            return mode;
+        }, cardinalityLimit, idleTimeout, snapshotStore, SNAPSHOT_INTERVAL, startTime);
+    }
+
+    private static IdentificationKeysMap identificationKeysMap(final Object value) {
+        return new IdentificationKeysMap(Map.of("ip", value));
+    }
+
+    @Test
+    void getOrCreate_keeps_separate_forests_for_values_with_the_same_hash_code() {
+        final ForestRegistry objectUnderTest = createObjectUnderTest(10, null, null);
+        assertThat("Aa".hashCode(), equalTo("BB".hashCode()));
+        assertThat(identificationKeysMap("Aa").hashCode(), equalTo(identificationKeysMap("BB").hashCode()));
+
+        final AnomalyDetectorMode first = objectUnderTest.getOrCreate(identificationKeysMap("Aa"), startTime);
+        final AnomalyDetectorMode second = objectUnderTest.getOrCreate(identificationKeysMap("BB"), startTime);
+
+        assertThat(second, not(sameInstance(first)));
+        assertThat(objectUnderTest.getOrCreate(identificationKeysMap("Aa"), startTime), sameInstance(first));
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+
+    @Test
+    void getOrCreate_returns_null_for_new_values_when_the_cardinality_limit_is_reached() {
+        final ForestRegistry objectUnderTest = createObjectUnderTest(1, null, null);
+        final AnomalyDetectorMode first = objectUnderTest.getOrCreate(identificationKeysMap("a"), startTime);
+
+        assertThat(objectUnderTest.getOrCreate(identificationKeysMap("b"), startTime), nullValue());
+        assertThat(objectUnderTest.getOrCreate(identificationKeysMap("a"), startTime), sameInstance(first));
+    }
+
+    @Test
+    void maintain_evicts_idle_forests_and_frees_the_cardinality_limit() {
+        final ForestRegistry objectUnderTest = createObjectUnderTest(2, Duration.ofMinutes(10), null);
+        final AnomalyDetectorMode idle = objectUnderTest.getOrCreate(identificationKeysMap("idle"), startTime);
+        final AnomalyDetectorMode active = objectUnderTest.getOrCreate(identificationKeysMap("active"), startTime);
+
+        for (int minute = 1; minute <= 11; minute++) {
+            final Instant now = startTime.plus(Duration.ofMinutes(minute));
+            objectUnderTest.getOrCreate(identificationKeysMap("active"), now);
+            objectUnderTest.maintain(now);
+        }
+
+        assertThat(objectUnderTest.size(), equalTo(1));
+        assertThat(objectUnderTest.getOrCreate(identificationKeysMap("active"), startTime.plus(Duration.ofMinutes(11))), sameInstance(active));
+        assertThat(objectUnderTest.getOrCreate(identificationKeysMap("idle"), startTime.plus(Duration.ofMinutes(11))), not(sameInstance(idle)));
+    }
+
+    @Test
+    void maintain_does_not_evict_without_an_idle_timeout() {
+        final ForestRegistry objectUnderTest = createObjectUnderTest(2, null, null);
+        objectUnderTest.getOrCreate(identificationKeysMap("a"), startTime);
+
+        objectUnderTest.maintain(startTime.plus(Duration.ofDays(30)));
+
+        assertThat(objectUnderTest.size(), equalTo(1));
+    }
+
+    @Test
+    void getOrCreate_restores_the_state_from_the_snapshot_store() {
+        final byte[] state = {1, 2, 3};
+        when(snapshotStore.read(Map.of("ip", "a"))).thenReturn(state);
+        final ForestRegistry objectUnderTest = createObjectUnderTest(2, null, snapshotStore);
+
+        final AnomalyDetectorMode mode = objectUnderTest.getOrCreate(identificationKeysMap("a"), startTime);
+
+        verify(mode).restore(state);
+        objectUnderTest.getOrCreate(identificationKeysMap("a"), startTime);
+        verify(snapshotStore, times(1)).read(any());
+    }
+
+    @Test
+    void maintain_writes_updated_forests_when_the_snapshot_interval_passes() {
+        final ForestRegistry objectUnderTest = createObjectUnderTest(2, null, snapshotStore);
+        objectUnderTest.getOrCreate(identificationKeysMap("a"), startTime);
+
+        objectUnderTest.maintain(startTime.plus(SNAPSHOT_INTERVAL).minusSeconds(1));
+        verify(snapshotStore, never()).write(any(), any());
+
+        objectUnderTest.maintain(startTime.plus(SNAPSHOT_INTERVAL));
+        verify(snapshotStore).write(Map.of("ip", "a"), new byte[] {0});
+
+        objectUnderTest.maintain(startTime.plus(SNAPSHOT_INTERVAL.multipliedBy(2)));
+        verify(snapshotStore, times(1)).write(any(), any());
+    }
+
+    @Test
+    void maintain_writes_evicted_forests() {
+        final ForestRegistry objectUnderTest = createObjectUnderTest(2, Duration.ofSeconds(30), snapshotStore);
+        objectUnderTest.getOrCreate(identificationKeysMap("a"), startTime);
+
+        objectUnderTest.maintain(startTime.plus(Duration.ofMinutes(1)));
+
+        verify(snapshotStore).write(Map.of("ip", "a"), new byte[] {0});
+        assertThat(objectUnderTest.size(), equalTo(0));
+    }
+
+    @Test
+    void snapshotUpdated_skips_modes_without_snapshots_and_modes_which_fail() {
+        final ForestRegistry objectUnderTest = createObjectUnderTest(3, null, snapshotStore);
+        objectUnderTest.getOrCreate(identificationKeysMap("a"), startTime);
+        objectUnderTest.getOrCreate(identificationKeysMap("b"), startTime);
+        objectUnderTest.getOrCreate(identificationKeysMap("c"), startTime);
+        when(createdModes.get(0).snapshot()).thenReturn(null);
+        when(createdModes.get(1).snapshot()).thenThrow(IllegalStateException.class);
+
+        objectUnderTest.snapshotUpdated();
+
+        verify(snapshotStore).write(Map.of("ip", "c"), new byte[] {2});
+        verify(snapshotStore, times(1)).write(any(), any());
+    }
+}
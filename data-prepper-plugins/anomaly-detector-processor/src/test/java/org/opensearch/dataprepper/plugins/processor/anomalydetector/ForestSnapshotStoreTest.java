@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.anomalydetector;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+class ForestSnapshotStoreTest {
+    private static final String PIPELINE_NAME = "test-pipeline";
+
+    @TempDir
+    Path directory;
+
+    private final List<ForestSnapshotStore> openStores = new ArrayList<>();
+
+    @AfterEach
+    void closeStores() {
+        openStores.forEach(ForestSnapshotStore::close);
+    }
+
+    private ForestSnapshotStore createObjectUnderTest() {
+        return open(PIPELINE_NAME);
+    }
+
+    private ForestSnapshotStore open(final String pipelineName) {
+        final ForestSnapshotStore snapshotStore = ForestSnapshotStore.open(directory.resolve("snapshots"), pipelineName);
+        openStores.add(snapshotStore);
+        return snapshotStore;
+    }
+
+    @Test
+    void read_returns_the_state_written_for_the_same_identification_values() {
+        final byte[] state = {1, 2, 3, 4};
+        final Map<Object, Object> identificationValues = new HashMap<>();
+        identificationValues.put("ip", "1.1.1.1");
+        identificationValues.put("port", 443);
+        identificationValues.put("host", null);
+        final ForestSnapshotStore writingStore = createObjectUnderTest();
+        writingStore.write(identificationValues, state);
+        writingStore.close();
+
+        final ForestSnapshotStore objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.getDirectory(), equalTo(writingStore.getDirectory()));
+        assertThat(objectUnderTest.read(new HashMap<>(identificationValues)), equalTo(state));
+        assertThat(objectUnderTest.read(Map.of("ip", "2.2.2.2")), nullValue());
+    }
+
+    @Test
+    void write_replaces_the_earlier_state() throws IOException {
+        final ForestSnapshotStore objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.write(Map.of("ip", "a"), new byte[] {1});
+        objectUnderTest.write(Map.of("ip", "a"), new byte[] {2});
+
+        assertThat(objectUnderTest.read(Map.of("ip", "a")), equalTo(new byte[] {2}));
+        try (final Stream<Path> files = Files.list(objectUnderTest.getDirectory())) {
+            final List<Path> snapshotFiles = files
+                    .filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .collect(Collectors.toList());
+            assertThat(snapshotFiles, hasSize(1));
+        }
+    }
+
+    @Test
+    void values_with_the_same_hash_code_use_different_files() {
+        final ForestSnapshotStore objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.write(Map.of("ip", "Aa"), new byte[] {1});
+        objectUnderTest.write(Map.of("ip", "BB"), new byte[] {2});
+
+        assertThat(objectUnderTest.getSnapshotFile(Map.of("ip", "Aa")), not(equalTo(objectUnderTest.getSnapshotFile(Map.of("ip", "BB")))));
+        assertThat(objectUnderTest.read(Map.of("ip", "Aa")), equalTo(new byte[] {1}));
+        assertThat(objectUnderTest.read(Map.of("ip", "BB")), equalTo(new byte[] {2}));
+    }
+
+    @Test
+    void read_ignores_a_snapshot_for_other_identification_values() throws IOException {
+        final ForestSnapshotStore objectUnderTest = createObjectUnderTest();
+        objectUnderTest.write(Map.of("ip", "a"), new byte[] {1});
+        Files.move(objectUnderTest.getSnapshotFile(Map.of("ip", "a")), objectUnderTest.getSnapshotFile(Map.of("ip", "b")));
+
+        assertThat(objectUnderTest.read(Map.of("ip", "b")), nullValue());
+    }
+
+    @Test
+    void open_instances_use_separate_directories_while_they_are_open() {
+        final ForestSnapshotStore firstInstance = createObjectUnderTest();
+        final ForestSnapshotStore secondInstance = createObjectUnderTest();
+        final ForestSnapshotStore otherPipelineInstance = open("other-pipeline");
+
+        firstInstance.write(Map.of("ip", "a"), new byte[] {1});
+        secondInstance.write(Map.of("ip", "a"), new byte[] {2});
+        otherPipelineInstance.write(Map.of("ip", "a"), new byte[] {3});
+
+        assertThat(firstInstance.getDirectory(), equalTo(directory.resolve("snapshots").resolve(PIPELINE_NAME).resolve("instance-0")));
+        assertThat(secondInstance.getDirectory(), equalTo(directory.resolve("snapshots").resolve(PIPELINE_NAME).resolve("instance-1")));
+        assertThat(otherPipelineInstance.getDirectory(), equalTo(directory.resolve("snapshots").resolve("other-pipeline").resolve("instance-0")));
+        assertThat(firstInstance.read(Map.of("ip", "a")), equalTo(new byte[] {1}));
+        assertThat(secondInstance.read(Map.of("ip", "a")), equalTo(new byte[] {2}));
+        assertThat(otherPipelineInstance.read(Map.of("ip", "a")), equalTo(new byte[] {3}));
+    }
+
+    @Test
+    void close_releases_the_directory_to_the_next_instance() {
+        final ForestSnapshotStore firstInstance = createObjectUnderTest();
+        final ForestSnapshotStore secondInstance = createObjectUnderTest();
+        firstInstance.close();
+
+        final ForestSnapshotStore reopenedInstance = createObjectUnderTest();
+
+        assertThat(reopenedInstance.getDirectory(), equalTo(firstInstance.getDirectory()));
+        assertThat(reopenedInstance.getDirectory(), not(equalTo(secondInstance.getDirectory())));
+    }
+
+    @Test
+    void read_ignores_an_unreadable_snapshot() throws IOException {
+        final ForestSnapshotStore objectUnderTest = createObjectUnderTest();
+        Files.write(objectUnderTest.getSnapshotFile(Map.of("ip", "a")), "{not json".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(objectUnderTest.read(Map.of("ip", "a")), nullValue());
+    }
+}
@@ -13,6 +13,7 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -215,4 +216,47 @@ public class RandomCutForestModeTests {
         // Due to inherent variance in the RCF algorithm, 1-3 anomalies will be detected after the level shift.
         assertThat(anomalyRecords.size(), both(greaterThanOrEqualTo(1)).and(lessThanOrEqualTo(3)));
     }
+
+    @Test
+    void testRandomCutForestModeRestoresSnapshot() {
+        randomCutForestMode = createObjectUnderTest();
+        List<String> keys = new ArrayList<String>(Collections.singleton("latency"));
+        randomCutForestMode.initialize(keys, false);
+        final int numSamples = 1024;
+        List<Record<Event>> records = new ArrayList<Record<Event>>();
+        for (int i = 0; i < numSamples; i++) {
+            records.add(getLatencyMessage(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(0.5, 0.6)));
+        }
+        randomCutForestMode.handleEvents(records);
+        final byte[] state = randomCutForestMode.snapshot();
+
+        final RandomCutForestMode restoredMode = createObjectUnderTest();
+        restoredMode.initialize(keys, false);
+        assertThat(restoredMode.restore(state), equalTo(true));
+
+        final List<Record<Event>> recordsWithAnomaly = new ArrayList<Record<Event>>();
+        recordsWithAnomaly.add(getLatencyMessage(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(10.4, 10.8)));
+        final List<Record<Event>> anomalyRecords = restoredMode.handleEvents(recordsWithAnomaly).stream().collect(toList());
+        assertThat(anomalyRecords.size(), equalTo(1));
+    }
+
+    @Test
+    void testRandomCutForestModeDoesNotRestoreSnapshotWithOtherDimensions() {
+        randomCutForestMode = createObjectUnderTest();
+        randomCutForestMode.initialize(new ArrayList<String>(Collections.singleton("latency")), false);
+        final byte[] state = randomCutForestMode.snapshot();
+
+        final RandomCutForestMode otherMode = createObjectUnderTest();
+        otherMode.initialize(List.of("latency", "bytes"), false);
+
+        assertThat(otherMode.restore(state), equalTo(false));
+    }
+
+    @Test
+    void testRandomCutForestModeDoesNotRestoreInvalidSnapshot() {
+        randomCutForestMode = createObjectUnderTest();
+        randomCutForestMode.initialize(new ArrayList<String>(Collections.singleton("latency")), false);
+
+        assertThat(randomCutForestMode.restore("{not json".getBytes(StandardCharsets.UTF_8)), equalTo(false));
+    }
 }
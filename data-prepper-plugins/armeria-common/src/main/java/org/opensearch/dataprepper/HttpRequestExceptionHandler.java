@@ -15,10 +15,14 @@ import com.linecorp.armeria.server.RequestTimeoutException;
 import com.linecorp.armeria.server.ServiceRequestContext;
 import com.linecorp.armeria.server.annotation.ExceptionHandlerFunction;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.buffer.BufferThrottledException;
 import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import com.linecorp.armeria.common.HttpData;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.common.ResponseHeaders;
 import io.micrometer.core.instrument.Counter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,21 +38,27 @@ public class HttpRequestExceptionHandler implements ExceptionHandlerFunction {
     public static final String BAD_REQUESTS = "badRequests";
     public static final String REQUESTS_TOO_LARGE = "requestsTooLarge";
     public static final String INTERNAL_SERVER_ERROR = "internalServerError";
+    public static final String REQUESTS_THROTTLED = "requestsThrottled";
 
     private final Counter requestTimeoutsCounter;
     private final Counter badRequestsCounter;
     private final Counter requestsTooLargeCounter;
     private final Counter internalServerErrorCounter;
+    private final Counter requestsThrottledCounter;
 
     public HttpRequestExceptionHandler(final PluginMetrics pluginMetrics) {
         requestTimeoutsCounter = pluginMetrics.counter(REQUEST_TIMEOUTS);
         badRequestsCounter = pluginMetrics.counter(BAD_REQUESTS);
         requestsTooLargeCounter = pluginMetrics.counter(REQUESTS_TOO_LARGE);
         internalServerErrorCounter = pluginMetrics.counter(INTERNAL_SERVER_ERROR);
+        requestsThrottledCounter = pluginMetrics.counter(REQUESTS_THROTTLED);
     }
 
     @Override
     public HttpResponse handleException(final ServiceRequestContext ctx, final HttpRequest req, final Throwable cause) {
+        if (cause instanceof BufferThrottledException) {
+            return handleThrottled((BufferThrottledException) cause);
+        }
         final HttpStatus status = handleException(cause);
         final String message;
         if (cause instanceof RequestTimeoutException) {
@@ -60,6 +70,18 @@ public class HttpRequestExceptionHandler implements ExceptionHandlerFunction {
         return HttpResponse.of(status, MediaType.ANY_TYPE, message);
     }
 
+    private HttpResponse handleThrottled(final BufferThrottledException e) {
+        requestsThrottledCounter.increment();
+        final long retryAfterSeconds = Math.max(1L, (e.getRetryAfter().toMillis() + 999L) / 1000L);
+        final HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        final ResponseHeaders headers = ResponseHeaders.builder(status)
+                .contentType(MediaType.ANY_TYPE)
+                .add(HttpHeaderNames.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .build();
+        final String message = e.getMessage() == null ? status.reasonPhrase() : e.getMessage();
+        return HttpResponse.of(headers, HttpData.ofUtf8(message));
+    }
+
     private HttpStatus handleException(final Throwable e) {
         if(e instanceof HttpStatusException) {
             return ((HttpStatusException) e).httpStatus();
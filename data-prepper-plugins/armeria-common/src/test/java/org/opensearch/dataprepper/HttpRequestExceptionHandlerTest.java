@@ -10,6 +10,7 @@
 package org.opensearch.dataprepper;
 
 import com.linecorp.armeria.common.AggregatedHttpResponse;
+import com.linecorp.armeria.common.HttpHeaderNames;
 import com.linecorp.armeria.common.HttpRequest;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
@@ -25,9 +26,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.buffer.BufferThrottledException;
 import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
@@ -38,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.HttpRequestExceptionHandler.ARMERIA_REQUEST_TIMEOUT_MESSAGE;
 
@@ -58,6 +62,9 @@ class HttpRequestExceptionHandlerTest {
     @Mock
     private Counter internalServerErrorCounter;
 
+    @Mock
+    private Counter requestsThrottledCounter;
+
     @Mock
     private ServiceRequestContext serviceRequestContext;
 
@@ -72,6 +79,7 @@ class HttpRequestExceptionHandlerTest {
         when(pluginMetrics.counter(HttpRequestExceptionHandler.BAD_REQUESTS)).thenReturn(badRequestsCounter);
         when(pluginMetrics.counter(HttpRequestExceptionHandler.REQUESTS_TOO_LARGE)).thenReturn(requestsTooLargeCounter);
         when(pluginMetrics.counter(HttpRequestExceptionHandler.INTERNAL_SERVER_ERROR)).thenReturn(internalServerErrorCounter);
+        when(pluginMetrics.counter(HttpRequestExceptionHandler.REQUESTS_THROTTLED)).thenReturn(requestsThrottledCounter);
 
         httpRequestExceptionHandler = new HttpRequestExceptionHandler(pluginMetrics);
     }
@@ -103,6 +111,21 @@ class HttpRequestExceptionHandlerTest {
         verify(badRequestsCounter, times(2)).increment();
     }
 
+    @Test
+    void handleException_with_BufferThrottledException_returns_too_many_requests_with_retry_after() throws ExecutionException, InterruptedException {
+        final String testMessage = "test exception message";
+        final BufferThrottledException exception = new BufferThrottledException(testMessage, Duration.ofMillis(1500));
+
+        final HttpResponse httpResponse = httpRequestExceptionHandler.handleException(serviceRequestContext, httpRequest, exception);
+
+        final AggregatedHttpResponse aggregatedHttpResponse = httpResponse.aggregate().get();
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, aggregatedHttpResponse.status());
+        assertEquals("2", aggregatedHttpResponse.headers().get(HttpHeaderNames.RETRY_AFTER));
+        assertEquals(testMessage, aggregatedHttpResponse.contentUtf8());
+        verify(requestsThrottledCounter).increment();
+        verifyNoInteractions(requestTimeoutsCounter);
+    }
+
     @Test
     public void testHandleTimeoutException() throws ExecutionException, InterruptedException {
         // Prepare
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.avro;
+
+import org.apache.avro.Schema;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Projects an Avro record schema onto a subset of its top-level fields. Readers which use the projected schema
+ * skip the other fields instead of decoding them.
+ */
+public class AvroSchemaProjection {
+    private AvroSchemaProjection() {
+    }
+
+    /**
+     * Creates a record schema with only the given top-level fields, in the order of the original schema.
+     * Field names which are not in the schema are ignored.
+     *
+     * @param recordSchema The schema of the records
+     * @param fieldNames The names of the fields to keep, or null or empty to keep every field
+     * @return The projected schema, or the original schema when every field is kept
+     */
+    public static Schema project(final Schema recordSchema, final Collection<String> fieldNames) {
+        if (fieldNames == null || fieldNames.isEmpty()) {
+            return recordSchema;
+        }
+
+        final List<Schema.Field> projectedFields = new ArrayList<>();
+        for (final Schema.Field field : recordSchema.getFields()) {
+            if (fieldNames.contains(field.name())) {
+                projectedFields.add(new Schema.Field(field, field.schema()));
+            }
+        }
+        if (projectedFields.size() == recordSchema.getFields().size()) {
+            return recordSchema;
+        }
+        return Schema.createRecord(recordSchema.getName(), recordSchema.getDoc(), recordSchema.getNamespace(),
+                recordSchema.isError(), projectedFields);
+    }
+}
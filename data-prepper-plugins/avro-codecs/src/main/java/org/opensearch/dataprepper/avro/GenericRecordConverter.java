@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.avro;
+
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericEnumSymbol;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts an Avro record, as read from Avro or Parquet files, into event data. The event data holds only
+ * Java strings, numbers, booleans, lists and maps, so that events are built from it without an intermediate
+ * JSON document.
+ * <p>
+ * Strings and enums become strings. Decimals become numbers. Other bytes become a number when they hold the
+ * text of a number, or an object with a single {@code bytes} field otherwise. Floating point values which
+ * are not finite become strings.
+ */
+public class GenericRecordConverter {
+    static final String BYTES_KEY = "bytes";
+
+    /**
+     * Converts the record into event data, with the fields in the order of the record schema.
+     *
+     * @param record The Avro record
+     * @return The event data
+     */
+    public Map<String, Object> convert(final GenericRecord record) {
+        return convertRecord(record);
+    }
+
+    private Map<String, Object> convertRecord(final IndexedRecord record) {
+        final List<Schema.Field> fields = record.getSchema().getFields();
+        final Map<String, Object> eventData = new LinkedHashMap<>((int) (fields.size() / 0.75f) + 1);
+        for (final Schema.Field field : fields) {
+            eventData.put(field.name(), convertValue(record.get(field.pos()), getDecimalScale(field.schema())));
+        }
+        return eventData;
+    }
+
+    private Object convertValue(final Object value, final Integer decimalScale) {
+        if (value instanceof IndexedRecord) {
+            return convertRecord((IndexedRecord) value);
+        } else if (value instanceof Collection) {
+            final Collection<?> collection = (Collection<?>) value;
+            final List<Object> list = new ArrayList<>(collection.size());
+            for (final Object element : collection) {
+                list.add(convertValue(element, null));
+            }
+            return list;
+        } else if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            final Map<String, Object> convertedMap = new LinkedHashMap<>((int) (map.size() / 0.75f) + 1);
+            for (final Map.Entry<?, ?> entry : map.entrySet()) {
+                convertedMap.put(entry.getKey().toString(), convertValue(entry.getValue(), null));
+            }
+            return convertedMap;
+        } else if (value instanceof CharSequence || value instanceof GenericEnumSymbol) {
+            return value.toString();
+        } else if (value instanceof ByteBuffer) {
+            return convertBytes((ByteBuffer) value, decimalScale);
+        } else if (value instanceof GenericFixed) {
+            final byte[] bytes = ((GenericFixed) value).bytes();
+            if (decimalScale != null) {
+                return new BigDecimal(new BigInteger(bytes), decimalScale);
+            }
+            return Collections.singletonMap(BYTES_KEY, new String(bytes, StandardCharsets.ISO_8859_1));
+        } else if (value instanceof Float && !Float.isFinite((Float) value)) {
+            return value.toString();
+        } else if (value instanceof Double && !Double.isFinite((Double) value)) {
+            return value.toString();
+        }
+        return value;
+    }
+
+    private static Object convertBytes(final ByteBuffer byteBuffer, final Integer decimalScale) {
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(bytes);
+        if (decimalScale != null) {
+            return new BigDecimal(new BigInteger(bytes), decimalScale).doubleValue();
+        }
+        try {
+            return new BigDecimal(new String(bytes, StandardCharsets.UTF_8)).doubleValue();
+        } catch (final NumberFormatException e) {
+            return Collections.singletonMap(BYTES_KEY, new String(bytes, StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    /**
+     * @return the scale when the schema, or a branch of a union, is a decimal
+     */
+    private static Integer getDecimalScale(final Schema schema) {
+        if (schema.getType() == Schema.Type.UNION) {
+            for (final Schema unionSchema : schema.getTypes()) {
+                if ((unionSchema.getType() == Schema.Type.BYTES || unionSchema.getType() == Schema.Type.FIXED)
+                        && unionSchema.getLogicalType() instanceof LogicalTypes.Decimal) {
+                    return ((LogicalTypes.Decimal) unionSchema.getLogicalType()).getScale();
+                }
+            }
+            return null;
+        }
+        final LogicalType logicalType = schema.getLogicalType();
+        if (logicalType instanceof LogicalTypes.Decimal) {
+            return ((LogicalTypes.Decimal) logicalType).getScale();
+        }
+        return null;
+    }
+}
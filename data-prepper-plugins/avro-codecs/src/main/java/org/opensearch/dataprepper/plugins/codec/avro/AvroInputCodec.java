@@ -15,6 +15,7 @@ import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericEnumSymbol;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
+import org.opensearch.dataprepper.avro.AvroSchemaProjection;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.InputCodec;
@@ -25,10 +26,11 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -38,15 +40,21 @@ import java.util.function.Consumer;
 /**
  * An implementation of {@link InputCodec} which parses avro records into fields.
  */
-@DataPrepperPlugin(name="avro", pluginType = InputCodec.class)
+@DataPrepperPlugin(name="avro", pluginType = InputCodec.class, pluginConfigurationType = AvroInputCodecConfig.class)
 public class AvroInputCodec implements InputCodec {
 
     private static final Logger LOG =  LoggerFactory.getLogger(AvroInputCodec.class);
     private final EventFactory eventFactory;
+    private final List<String> columns;
 
-    @DataPrepperPluginConstructor
     public AvroInputCodec(final EventFactory eventFactory) {
+        this(eventFactory, new AvroInputCodecConfig());
+    }
+
+    @DataPrepperPluginConstructor
+    public AvroInputCodec(final EventFactory eventFactory, final AvroInputCodecConfig avroInputCodecConfig) {
         this.eventFactory = eventFactory;
+        this.columns = avroInputCodecConfig.getColumns();
     }
 
     @Override
@@ -59,17 +67,15 @@ public class AvroInputCodec implements InputCodec {
     private void parseAvroStream(final InputStream inputStream, final Consumer<Record<Event>> eventConsumer) {
 
         try {
-
-            final byte[] avroData=inputStream.readAllBytes();
-            ByteArrayInputStream byteArrayInputStream=new ByteArrayInputStream(avroData);
-            DataFileStream<GenericRecord> stream = new DataFileStream<GenericRecord>(byteArrayInputStream, new GenericDatumReader<GenericRecord>());
-            Schema schema=stream.getSchema();
+            final GenericDatumReader<GenericRecord> datumReader = new GenericDatumReader<>();
+            final DataFileStream<GenericRecord> stream = new DataFileStream<>(inputStream, datumReader);
+            datumReader.setExpected(AvroSchemaProjection.project(stream.getSchema(), columns));
 
             while (stream.hasNext()) {
 
-                GenericRecord avroRecord= stream.next();
+                final GenericRecord avroRecord = stream.next();
 
-                final Map<String, Object> eventData = convertRecordToMap(avroRecord, schema);
+                final Map<String, Object> eventData = convertRecordToMap(avroRecord, avroRecord.getSchema());
 
                 final Event event = eventFactory.eventBuilder(LogEventBuilder.class).withData(eventData).build();
                 eventConsumer.accept(new Record<>(event));
@@ -81,26 +87,30 @@ public class AvroInputCodec implements InputCodec {
         }
     }
 
-    private static Map<String, Object> convertRecordToMap(GenericRecord record, Schema schema) throws Exception {
+    /**
+     * Converts a record the same way this codec always has, with the fields in the order of the schema. Values
+     * other than records, enum symbols and strings, such as bytes and decimals, are kept as Avro decodes them.
+     * A record is not reused between reads, because those values are put into the event as they are.
+     */
+    private static Map<String, Object> convertRecordToMap(final GenericRecord record, final Schema schema) {
 
-        final Map<String, Object> eventData = new HashMap<>();
+        final Map<String, Object> eventData = new LinkedHashMap<>();
 
-        for(Schema.Field field : schema.getFields()){
+        for (final Schema.Field field : schema.getFields()) {
 
             Object value = record.get(field.name());
 
-            if(value instanceof GenericRecord){
-                Schema schemaOfNestedRecord = ((GenericRecord) value).getSchema();
+            if (value instanceof GenericRecord) {
+                final Schema schemaOfNestedRecord = ((GenericRecord) value).getSchema();
                 value = convertRecordToMap((GenericRecord) value, schemaOfNestedRecord);
             }
 
-            else if(value instanceof GenericEnumSymbol || value instanceof GenericData.EnumSymbol){
+            else if (value instanceof GenericEnumSymbol || value instanceof GenericData.EnumSymbol) {
                 value = value.toString();
             }
 
-            else if(value instanceof Utf8){
-                byte[] utf8Bytes = value.toString().getBytes("UTF-8");
-                value = new String(utf8Bytes, "UTF-8");
+            else if (value instanceof Utf8) {
+                value = new String(value.toString().getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
             }
 
             eventData.put(field.name(), value);
@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.dataprepper.plugins.codec.avro;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Configuration class for {@link AvroInputCodec}.
+ */
+public class AvroInputCodecConfig {
+    /**
+     * The top-level fields to read from each record. The other fields are skipped without being decoded.
+     * By default, every field is read.
+     */
+    @JsonProperty("columns")
+    private List<String> columns;
+
+    public List<String> getColumns() {
+        return columns;
+    }
+}
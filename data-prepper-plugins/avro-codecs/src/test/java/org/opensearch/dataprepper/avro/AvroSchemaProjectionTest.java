@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.avro;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AvroSchemaProjectionTest {
+    private static final Schema SCHEMA = SchemaBuilder.record("Record").namespace("org.example").fields()
+            .name("a").type().stringType().noDefault()
+            .name("b").type().intType().noDefault()
+            .name("c").type().nullable().longType().noDefault()
+            .endRecord();
+
+    @Test
+    void project_keeps_only_the_given_fields_in_schema_order() {
+        final Schema projectedSchema = AvroSchemaProjection.project(SCHEMA, List.of("c", "a", "missing"));
+
+        assertThat(projectedSchema.getFullName(), equalTo("org.example.Record"));
+        assertThat(projectedSchema.getFields().stream().map(Schema.Field::name).collect(Collectors.toList()), equalTo(List.of("a", "c")));
+        assertThat(projectedSchema.getField("c").schema(), equalTo(SCHEMA.getField("c").schema()));
+    }
+
+    @Test
+    void project_returns_the_schema_when_every_field_is_kept() {
+        assertThat(AvroSchemaProjection.project(SCHEMA, null), sameInstance(SCHEMA));
+        assertThat(AvroSchemaProjection.project(SCHEMA, Collections.emptyList()), sameInstance(SCHEMA));
+        assertThat(AvroSchemaProjection.project(SCHEMA, List.of("a", "b", "c")), sameInstance(SCHEMA));
+    }
+}
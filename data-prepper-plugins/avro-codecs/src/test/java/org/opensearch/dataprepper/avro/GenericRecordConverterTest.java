@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.avro;
+
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GenericRecordConverterTest {
+    private GenericRecordConverter createObjectUnderTest() {
+        return new GenericRecordConverter();
+    }
+
+    @Test
+    void convert_returns_fields_in_schema_order_with_java_values() {
+        final Schema innerSchema = SchemaBuilder.record("Inner").fields()
+                .name("id").type().stringType().noDefault()
+                .endRecord();
+        final Schema enumSchema = SchemaBuilder.enumeration("Color").symbols("RED", "GREEN");
+        final Schema schema = SchemaBuilder.record("Outer").fields()
+                .name("name").type().stringType().noDefault()
+                .name("count").type().intType().noDefault()
+                .name("total").type().longType().noDefault()
+                .name("active").type().booleanType().noDefault()
+                .name("optional").type().nullable().stringType().noDefault()
+                .name("color").type(enumSchema).noDefault()
+                .name("tags").type().array().items().stringType().noDefault()
+                .name("labels").type().map().values().stringType().noDefault()
+                .name("inner").type(innerSchema).noDefault()
+                .endRecord();
+        final GenericRecord innerRecord = new GenericData.Record(innerSchema);
+        innerRecord.put("id", new Utf8("inner-id"));
+        final GenericRecord record = new GenericData.Record(schema);
+        record.put("name", new Utf8("a name"));
+        record.put("count", 5);
+        record.put("total", 10L);
+        record.put("active", true);
+        record.put("optional", null);
+        record.put("color", new GenericData.EnumSymbol(enumSchema, "GREEN"));
+        record.put("tags", new GenericData.Array<>(Schema.createArray(Schema.create(Schema.Type.STRING)), List.of(new Utf8("x"), new Utf8("y"))));
+        record.put("labels", Map.of(new Utf8("key"), new Utf8("value")));
+        record.put("inner", innerRecord);
+
+        final Map<String, Object> eventData = createObjectUnderTest().convert(record);
+
+        assertThat(new ArrayList<>(eventData.keySet()), equalTo(List.of("name", "count", "total", "active", "optional", "color", "tags", "labels", "inner")));
+        assertThat(eventData.get("name"), equalTo("a name"));
+        assertThat(eventData.get("count"), equalTo(5));
+        assertThat(eventData.get("total"), equalTo(10L));
+        assertThat(eventData.get("active"), equalTo(true));
+        assertThat(eventData.get("optional"), nullValue());
+        assertThat(eventData.get("color"), equalTo("GREEN"));
+        assertThat(eventData.get("tags"), equalTo(List.of("x", "y")));
+        assertThat(eventData.get("labels"), equalTo(Map.of("key", "value")));
+        assertThat(eventData.get("inner"), equalTo(Map.of("id", "inner-id")));
+    }
+
+    @Test
+    void convert_converts_decimals_and_bytes() {
+        final Schema decimalBytesSchema = LogicalTypes.decimal(5, 2).addToSchema(Schema.create(Schema.Type.BYTES));
+        final Schema decimalFixedSchema = LogicalTypes.decimal(5, 2).addToSchema(Schema.createFixed("Amount", null, null, 4));
+        final Schema plainFixedSchema = Schema.createFixed("Raw", null, null, 2);
+        final Schema schema = SchemaBuilder.record("Decimals").fields()
+                .name("bytesDecimal").type(decimalBytesSchema).noDefault()
+                .name("optionalDecimal").type(Schema.createUnion(Schema.create(Schema.Type.NULL), decimalBytesSchema)).noDefault()
+                .name("fixedDecimal").type(decimalFixedSchema).noDefault()
+                .name("numericBytes").type().bytesType().noDefault()
+                .name("otherBytes").type().bytesType().noDefault()
+                .name("plainFixed").type(plainFixedSchema).noDefault()
+                .name("optionalBytes").type().nullable().bytesType().noDefault()
+                .endRecord();
+        final GenericRecord record = new GenericData.Record(schema);
+        record.put("bytesDecimal", ByteBuffer.wrap(BigInteger.valueOf(12345).toByteArray()));
+        record.put("optionalDecimal", ByteBuffer.wrap(BigInteger.valueOf(-150).toByteArray()));
+        record.put("fixedDecimal", new GenericData.Fixed(decimalFixedSchema, new byte[]{0, 0, 0, (byte) 150}));
+        record.put("numericBytes", ByteBuffer.wrap("42.5".getBytes(StandardCharsets.UTF_8)));
+        record.put("otherBytes", ByteBuffer.wrap(new byte[]{'a', (byte) 0xe9}));
+        record.put("plainFixed", new GenericData.Fixed(plainFixedSchema, new byte[]{'h', 'i'}));
+        record.put("optionalBytes", ByteBuffer.wrap("not a number".getBytes(StandardCharsets.UTF_8)));
+
+        final Map<String, Object> eventData = createObjectUnderTest().convert(record);
+
+        assertThat(eventData.get("bytesDecimal"), equalTo(123.45));
+        assertThat(eventData.get("optionalDecimal"), equalTo(-1.5));
+        assertThat(eventData.get("fixedDecimal"), equalTo(new BigDecimal("1.50")));
+        assertThat(eventData.get("numericBytes"), equalTo(42.5));
+        assertThat(eventData.get("otherBytes"), equalTo(Map.of("bytes", "aé")));
+        assertThat(eventData.get("plainFixed"), equalTo(Map.of("bytes", "hi")));
+        assertThat(eventData.get("optionalBytes"), equalTo(Map.of("bytes", "not a number")));
+    }
+
+    @Test
+    void convert_converts_floating_point_values_which_are_not_finite_to_strings() {
+        final Schema schema = SchemaBuilder.record("Floats").fields()
+                .name("floatNaN").type().floatType().noDefault()
+                .name("doubleInfinity").type().doubleType().noDefault()
+                .name("floatValue").type().floatType().noDefault()
+                .name("doubleValue").type().doubleType().noDefault()
+                .endRecord();
+        final GenericRecord record = new GenericData.Record(schema);
+        record.put("floatNaN", Float.NaN);
+        record.put("doubleInfinity", Double.POSITIVE_INFINITY);
+        record.put("floatValue", 1.5f);
+        record.put("doubleValue", 2.5);
+
+        final Map<String, Object> eventData = createObjectUnderTest().convert(record);
+
+        assertThat(eventData.get("floatNaN"), equalTo("NaN"));
+        assertThat(eventData.get("doubleInfinity"), equalTo("Infinity"));
+        assertThat(eventData.get("floatValue"), equalTo(1.5f));
+        assertThat(eventData.get("doubleValue"), equalTo(2.5));
+    }
+}
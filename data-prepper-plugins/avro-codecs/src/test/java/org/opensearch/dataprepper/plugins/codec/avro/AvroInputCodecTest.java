@@ -51,6 +51,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class AvroInputCodecTest {
@@ -174,6 +175,28 @@ public class AvroInputCodecTest {
         assertRecordsCorrect(actualRecords);
     }
 
+    @Test
+    public void parse_with_columns_only_reads_the_projected_fields() throws Exception {
+        final AvroInputCodecConfig avroInputCodecConfig = mock(AvroInputCodecConfig.class);
+        when(avroInputCodecConfig.getColumns()).thenReturn(List.of("nestedRecord", "name"));
+        avroInputCodec = new AvroInputCodec(TestEventFactory.getTestEventFactory(), avroInputCodecConfig);
+
+        try (final InputStream inputStream = inputFile.newStream()) {
+            avroInputCodec.parse(inputStream, eventConsumer);
+        }
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(eventConsumer, times(NUM_RECORDS)).accept(recordArgumentCaptor.capture());
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 0; i < NUM_RECORDS; i++) {
+            final Event event = actualRecords.get(i).getData();
+            assertThat(new ArrayList<>(event.toMap().keySet()), equalTo(List.of("name", "nestedRecord")));
+            assertThat(event.get("name", String.class), equalTo("Person" + i));
+            assertThat(event.get("nestedRecord/firstFieldInNestedRecord", String.class), equalTo("testString" + i));
+            assertThat(event.get("nestedRecord/secondFieldInNestedRecord", Integer.class), equalTo(i));
+        }
+    }
+
     private static void assertRecordsCorrect(final List<Record<Event>> records) {
         assertThat(records.size(), equalTo(NUM_RECORDS));
         index = 0;
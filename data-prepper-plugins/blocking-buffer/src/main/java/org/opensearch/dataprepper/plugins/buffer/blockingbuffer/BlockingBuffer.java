@@ -29,6 +29,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
@@ -217,4 +218,9 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     public boolean isEmpty() {
         return blockingQueue.isEmpty() && getRecordsInFlight() == 0;
     }
+
+    @Override
+    public Optional<Double> getCapacityUsage() {
+        return Optional.of(((double) bufferCapacity - capacitySemaphore.availablePermits()) / bufferCapacity);
+    }
 }
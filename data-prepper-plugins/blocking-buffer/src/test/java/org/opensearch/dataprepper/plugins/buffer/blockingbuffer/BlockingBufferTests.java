@@ -34,6 +34,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.StringJoiner;
 import java.util.UUID;
@@ -46,6 +47,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -277,6 +279,25 @@ public class BlockingBufferTests {
         verifyBufferUsageMetric(7.6923076923076925);
     }
 
+    @Test
+    void getCapacityUsage_returns_fraction_of_capacity_used_until_checkpoint() throws Exception {
+        final BlockingBufferConfig blockingBufferConfig = completeBlockingBufferConfig();
+        PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        when(pipelineDescription.getPipelineName()).thenReturn(TEST_PIPELINE_NAME);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(blockingBufferConfig, pipelineDescription);
+
+        assertThat(blockingBuffer.getCapacityUsage(), equalTo(Optional.of(0.0)));
+
+        blockingBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+        assertThat(blockingBuffer.getCapacityUsage().get(), closeTo(0.076923, 0.0001));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(blockingBuffer.getCapacityUsage().get(), closeTo(0.076923, 0.0001));
+
+        blockingBuffer.checkpoint(readResult.getValue());
+        assertThat(blockingBuffer.getCapacityUsage(), equalTo(Optional.of(0.0)));
+    }
+
     @Test
     void testNonZeroBatchDelayReturnsAllRecords() throws Exception {
         final BlockingBufferConfig blockingBufferConfig = completeBlockingBufferConfig();
@@ -62,23 +62,33 @@ public class CloudWatchLogsService {
 
     /**
      * Function handles the packaging of events into log events before sending a bulk request to CloudWatchLogs.
+     * <p>
+     * Events are serialized, and batches are staged and dispatched, outside of the process lock. The lock is only
+     * held to append the events to the buffer and to take full batches out of it, so that concurrent sink workers
+     * build and ship their PutLogEvents requests in parallel.
      * @param logs Collection of Record events.
      */
     public void processLogEvents(final Collection<Record<Event>> logs) {
         sinkStopWatch.startIfNotRunning();
         if (logs.isEmpty() && buffer.getEventCount() > 0) {
+            StagedBatch stagedBatch = null;
             processLock.lock();
             try {
                 if (cloudWatchLogsLimits.isTimeLimitReached(sinkStopWatch.getElapsedTimeInSeconds())) {
-                    stageLogEvents();
+                    stagedBatch = takeBufferedBatch();
                 }
             } finally {
                 processLock.unlock();
             }
+            if (stagedBatch != null) {
+                dispatch(stagedBatch);
+            }
             return;
         }
 
         final List<DlqObject> dlqObjects = new ArrayList<>();
+        final List<EventHandle> eventHandles = new ArrayList<>(logs.size());
+        final List<byte[]> logBytes = new ArrayList<>(logs.size());
         for (Record<Event> log : logs) {
             String logString = log.getData().toJsonString();
             int logLength = logString.length();
@@ -95,39 +105,63 @@ public class CloudWatchLogsService {
                 continue;
             }
 
-            long time = sinkStopWatch.getElapsedTimeInSeconds();
+            eventHandles.add(log.getData().getEventHandle());
+            logBytes.add(logString.getBytes(StandardCharsets.UTF_8));
+        }
 
-            processLock.lock();
-            try {
-                int bufferSize = buffer.getBufferSize();
-                int bufferEventCount = buffer.getEventCount();
-                if (cloudWatchLogsLimits.maxRequestSizeLimitExceeds(logLength + bufferSize, bufferEventCount+1)) {
-                    stageLogEvents();
+        final List<StagedBatch> stagedBatches = new ArrayList<>();
+        processLock.lock();
+        try {
+            for (int i = 0; i < logBytes.size(); i++) {
+                final byte[] logEvent = logBytes.get(i);
+                if (cloudWatchLogsLimits.maxRequestSizeLimitExceeds(logEvent.length + buffer.getBufferSize(), buffer.getEventCount() + 1)) {
+                    stagedBatches.add(takeBufferedBatch());
                 }
-                addToBuffer(log.getData().getEventHandle(), logString);
-                bufferEventCount = buffer.getEventCount();
-                if (cloudWatchLogsLimits.isMaxEventCountLimitReached(bufferEventCount)) {
-                    stageLogEvents();
+                buffer.writeEvent(eventHandles.get(i), logEvent);
+                if (cloudWatchLogsLimits.isMaxEventCountLimitReached(buffer.getEventCount())) {
+                    stagedBatches.add(takeBufferedBatch());
                 }
-
-            } finally {
-                processLock.unlock();
             }
+        } finally {
+            processLock.unlock();
+        }
+
+        for (final StagedBatch stagedBatch : stagedBatches) {
+            dispatch(stagedBatch);
         }
         CloudWatchLogsSinkUtils.handleDlqObjects(dlqObjects, dlqPushHandler);
     }
 
-    private void stageLogEvents() {
+    /**
+     * Takes the buffered events out of the buffer as a batch. Must be called while holding the process lock.
+     * Resetting the buffer replaces its lists, so the lists of the batch are not modified afterwards.
+     */
+    private StagedBatch takeBufferedBatch() {
         sinkStopWatch.stopAndReset();
 
-        List<InputLogEvent> inputLogEvents = cloudWatchLogsDispatcher.prepareInputLogEvents(buffer.getBufferedData());
-        cloudWatchLogsDispatcher.dispatchLogs(inputLogEvents, buffer.getEventHandles());
-        cloudWatchLogsMetrics.recordRequestSize(buffer.getBufferSize());
-
+        final StagedBatch stagedBatch = new StagedBatch(buffer.getBufferedData(), buffer.getEventHandles(), buffer.getBufferSize());
         buffer.resetBuffer();
+        return stagedBatch;
+    }
+
+    private void dispatch(final StagedBatch stagedBatch) {
+        List<InputLogEvent> inputLogEvents = cloudWatchLogsDispatcher.prepareInputLogEvents(stagedBatch.eventMessageBytes);
+        cloudWatchLogsDispatcher.dispatchLogs(inputLogEvents, stagedBatch.eventHandles);
+        cloudWatchLogsMetrics.recordRequestSize(stagedBatch.size);
     }
 
-    private void addToBuffer(final EventHandle logEventHandle, final String logString) {
-        buffer.writeEvent(logEventHandle, logString.getBytes(StandardCharsets.UTF_8));
+    /**
+     * The events of a PutLogEvents request, taken out of the buffer.
+     */
+    private static class StagedBatch {
+        private final List<byte[]> eventMessageBytes;
+        private final List<EventHandle> eventHandles;
+        private final int size;
+
+        private StagedBatch(final List<byte[]> eventMessageBytes, final List<EventHandle> eventHandles, final int size) {
+            this.eventMessageBytes = eventMessageBytes;
+            this.eventHandles = eventHandles;
+            this.size = size;
+        }
     }
 }
@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.plugins.sink.cloudwatch_logs.client;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
@@ -27,7 +28,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
@@ -251,6 +258,57 @@ class CloudWatchLogsServiceTest {
         verify(mockDispatcher, atLeast(LARGE_THREAD_COUNT)).dispatchLogs(any(List.class), any(List.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void SHOULD_dispatch_full_batches_in_order_WHEN_process_log_events_called_with_more_than_a_batch() {
+        setUpRealBuffer();
+        cloudWatchLogsService = getSampleService();
+        final List<Record<Event>> records = new ArrayList<>();
+        records.addAll(getSampleRecordsCollection());
+        records.addAll(getSampleRecordsCollection());
+        records.addAll(getSampleRecordsCollectionSmall());
+
+        cloudWatchLogsService.processLogEvents(records);
+
+        final ArgumentCaptor<List<EventHandle>> eventHandlesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(mockDispatcher, times(2)).dispatchLogs(any(), eventHandlesCaptor.capture());
+        final List<EventHandle> expectedFirstBatch = new ArrayList<>();
+        for (int i = 0; i < thresholdConfig.getBatchSize(); i++) {
+            expectedFirstBatch.add(records.get(i).getData().getEventHandle());
+        }
+        assertThat(eventHandlesCaptor.getAllValues().get(0), equalTo(expectedFirstBatch));
+        assertThat(eventHandlesCaptor.getAllValues().get(1).size(), equalTo(thresholdConfig.getBatchSize()));
+        assertThat(buffer.getEventCount(), equalTo(5));
+    }
+
+    @Test
+    void SHOULD_buffer_events_from_other_workers_WHEN_a_batch_is_being_dispatched() throws Exception {
+        setUpRealBuffer();
+        cloudWatchLogsService = getSampleService();
+        final CountDownLatch dispatchStarted = new CountDownLatch(1);
+        final CountDownLatch releaseDispatch = new CountDownLatch(1);
+        doAnswer(a -> {
+            dispatchStarted.countDown();
+            releaseDispatch.await();
+            return null;
+        }).when(mockDispatcher).dispatchLogs(any(List.class), any(List.class));
+
+        final Thread dispatchingWorker = new Thread(() -> cloudWatchLogsService.processLogEvents(getSampleRecordsCollection()));
+        dispatchingWorker.start();
+        assertTrue(dispatchStarted.await(10, TimeUnit.SECONDS));
+
+        final Thread bufferingWorker = new Thread(() -> cloudWatchLogsService.processLogEvents(getSampleRecordsCollectionSmall()));
+        bufferingWorker.start();
+        bufferingWorker.join(10_000);
+
+        assertFalse(bufferingWorker.isAlive());
+        assertThat(buffer.getEventCount(), equalTo(5));
+
+        releaseDispatch.countDown();
+        dispatchingWorker.join(10_000);
+        assertFalse(dispatchingWorker.isAlive());
+    }
+
      private Record<Event> getLargeRecord(long size) {
         final Event event = JacksonLog.builder().withData(Map.of("key", RandomStringUtils.insecure().nextAlphabetic((int)size))).withEventHandle(eventHandle).build();
 
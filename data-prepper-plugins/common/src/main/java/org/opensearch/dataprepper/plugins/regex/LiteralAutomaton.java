@@ -0,0 +1,144 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.regex;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An Aho-Corasick automaton which finds all of a set of literals in an input with a single scan.
+ * Each literal is associated with one or more ids.
+ */
+class LiteralAutomaton {
+    private static final int ROOT = 0;
+    private static final int[] NO_IDS = new int[0];
+
+    private final char[][] edgeCharacters;
+    private final int[][] edgeTargets;
+    private final int[] failureLinks;
+    private final int[][] outputIds;
+
+    /**
+     * @param literals the literals, where the literal at index i has id {@code ids[i]}
+     * @param ids the id for each literal
+     */
+    LiteralAutomaton(final List<String> literals, final int[] ids) {
+        final List<Map<Character, Integer>> transitions = new ArrayList<>();
+        final List<List<Integer>> outputs = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        outputs.add(new ArrayList<>());
+
+        for (int i = 0; i < literals.size(); i++) {
+            int node = ROOT;
+            final String literal = literals.get(i);
+            for (int c = 0; c < literal.length(); c++) {
+                final Character character = literal.charAt(c);
+                Integer next = transitions.get(node).get(character);
+                if (next == null) {
+                    next = transitions.size();
+                    transitions.get(node).put(character, next);
+                    transitions.add(new TreeMap<>());
+                    outputs.add(new ArrayList<>());
+                }
+                node = next;
+            }
+            outputs.get(node).add(ids[i]);
+        }
+
+        final int nodeCount = transitions.size();
+        edgeCharacters = new char[nodeCount][];
+        edgeTargets = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            final Map<Character, Integer> nodeTransitions = transitions.get(node);
+            edgeCharacters[node] = new char[nodeTransitions.size()];
+            edgeTargets[node] = new int[nodeTransitions.size()];
+            int edge = 0;
+            for (final Map.Entry<Character, Integer> transition : nodeTransitions.entrySet()) {
+                edgeCharacters[node][edge] = transition.getKey();
+                edgeTargets[node][edge] = transition.getValue();
+                edge++;
+            }
+        }
+
+        failureLinks = new int[nodeCount];
+        outputIds = new int[nodeCount][];
+        outputIds[ROOT] = NO_IDS;
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (final int child : edgeTargets[ROOT]) {
+            failureLinks[child] = ROOT;
+            outputIds[child] = toArray(outputs.get(child), NO_IDS);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final int node = queue.poll();
+            for (int edge = 0; edge < edgeCharacters[node].length; edge++) {
+                final char character = edgeCharacters[node][edge];
+                final int child = edgeTargets[node][edge];
+                int failure = failureLinks[node];
+                while (failure != ROOT && next(failure, character) < 0) {
+                    failure = failureLinks[failure];
+                }
+                final int failureTarget = next(failure, character);
+                failureLinks[child] = failureTarget < 0 || failureTarget == child ? ROOT : failureTarget;
+                outputIds[child] = toArray(outputs.get(child), outputIds[failureLinks[child]]);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Scans the input once and marks the id of every literal found in it.
+     *
+     * @param input the input to scan
+     * @param found set to true at the id of each literal found
+     */
+    void scan(final CharSequence input, final boolean[] found) {
+        int node = ROOT;
+        for (int i = 0; i < input.length(); i++) {
+            final char character = input.charAt(i);
+            int next = next(node, character);
+            while (next < 0 && node != ROOT) {
+                node = failureLinks[node];
+                next = next(node, character);
+            }
+            node = next < 0 ? ROOT : next;
+            for (final int id : outputIds[node]) {
+                found[id] = true;
+            }
+        }
+    }
+
+    private int next(final int node, final char character) {
+        final char[] characters = edgeCharacters[node];
+        if (characters.length < 8) {
+            for (int edge = 0; edge < characters.length; edge++) {
+                if (characters[edge] == character) {
+                    return edgeTargets[node][edge];
+                }
+            }
+            return -1;
+        }
+        final int edge = Arrays.binarySearch(characters, character);
+        return edge < 0 ? -1 : edgeTargets[node][edge];
+    }
+
+    private static int[] toArray(final List<Integer> ownIds, final int[] inheritedIds) {
+        if (ownIds.isEmpty()) {
+            return inheritedIds;
+        }
+        final int[] ids = new int[ownIds.size() + inheritedIds.length];
+        for (int i = 0; i < ownIds.size(); i++) {
+            ids[i] = ownIds.get(i);
+        }
+        System.arraycopy(inheritedIds, 0, ids, ownIds.size(), inheritedIds.length);
+        return ids;
+    }
+}
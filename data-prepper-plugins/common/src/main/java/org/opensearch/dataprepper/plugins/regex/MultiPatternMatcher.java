@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Matches an input against a set of {@link Pattern}s without running every pattern.
+ * <p>
+ * When the set is created, a literal which any match must contain is found for each pattern where possible. These
+ * literals are compiled into a single Aho-Corasick automaton. Matching scans the input once with the automaton to
+ * find the candidate patterns, and only the candidates are run. Patterns without a required literal are always
+ * candidates. A pattern which is not a candidate cannot match the input with either {@code find()} or
+ * {@code matches()}.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @since 2.17
+ */
+public class MultiPatternMatcher {
+    private static final int[] NO_INDEXES = new int[0];
+
+    private final List<Pattern> patterns;
+    private final int[] patternsWithoutLiteral;
+    private final LiteralAutomaton literalAutomaton;
+
+    /**
+     * Creates a matcher for the patterns.
+     *
+     * @param patterns the patterns. The index of each pattern in this list is used to identify it.
+     */
+    public MultiPatternMatcher(final List<Pattern> patterns) {
+        Objects.requireNonNull(patterns);
+        this.patterns = Collections.unmodifiableList(new ArrayList<>(patterns));
+
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> literalIndexes = new ArrayList<>();
+        final List<Integer> indexesWithoutLiteral = new ArrayList<>();
+        for (int index = 0; index < this.patterns.size(); index++) {
+            final String literal = RequiredLiteralExtractor.extract(this.patterns.get(index));
+            if (literal == null) {
+                indexesWithoutLiteral.add(index);
+            } else {
+                literals.add(literal);
+                literalIndexes.add(index);
+            }
+        }
+
+        this.patternsWithoutLiteral = indexesWithoutLiteral.stream().mapToInt(Integer::intValue).toArray();
+        this.literalAutomaton = literals.isEmpty() ? null :
+                new LiteralAutomaton(literals, literalIndexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * @return the patterns, in the order they were provided
+     */
+    public List<Pattern> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * @param index the index of the pattern
+     * @return the pattern at the index
+     */
+    public Pattern getPattern(final int index) {
+        return patterns.get(index);
+    }
+
+    /**
+     * @return the number of patterns
+     */
+    public int size() {
+        return patterns.size();
+    }
+
+    /**
+     * Finds the patterns which may match the input with a single scan of the input. Patterns which are not returned
+     * cannot match the input.
+     *
+     * @param input the input
+     * @return the indexes of the candidate patterns in ascending order
+     */
+    public int[] findCandidates(final CharSequence input) {
+        if (literalAutomaton == null) {
+            return patternsWithoutLiteral.length == 0 ? NO_INDEXES : patternsWithoutLiteral.clone();
+        }
+
+        final boolean[] candidates = new boolean[patterns.size()];
+        for (final int index : patternsWithoutLiteral) {
+            candidates[index] = true;
+        }
+        literalAutomaton.scan(input, candidates);
+
+        int count = 0;
+        for (final boolean candidate : candidates) {
+            if (candidate) {
+                count++;
+            }
+        }
+        final int[] indexes = new int[count];
+        int next = 0;
+        for (int index = 0; index < candidates.length; index++) {
+            if (candidates[index]) {
+                indexes[next++] = index;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Finds the patterns which match part of the input, as with {@link java.util.regex.Matcher#find()}.
+     *
+     * @param input the input
+     * @return the indexes of the matching patterns in ascending order
+     */
+    public int[] findMatches(final CharSequence input) {
+        final int[] candidates = findCandidates(input);
+        int count = 0;
+        for (final int index : candidates) {
+            if (patterns.get(index).matcher(input).find()) {
+                candidates[count++] = index;
+            }
+        }
+        return count == candidates.length ? candidates : Arrays.copyOf(candidates, count);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.regex;
+
+import java.util.regex.Pattern;
+
+/**
+ * Finds a literal string which must appear in any input that a {@link Pattern} can match with {@code find()}
+ * or {@code matches()}.
+ * <p>
+ * Only the top level of the regular expression is inspected. Groups, character classes and quantified characters
+ * end a literal run. Any construct that is not understood, top level alternation and flags which change how
+ * literals are compared cause no literal to be returned, so the result is always safe to use as a prefilter.
+ */
+class RequiredLiteralExtractor {
+    private static final int UNSUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.COMMENTS
+            | Pattern.LITERAL | Pattern.CANON_EQ;
+    private static final String ESCAPED_CLASSES_AND_BOUNDARIES = "dDwWsSbBAzZGhHvVRX";
+
+    private final String regex;
+    private final StringBuilder currentRun = new StringBuilder();
+    private String longestRun = "";
+    private int position;
+
+    private RequiredLiteralExtractor(final String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * Gets the longest literal which any match of the pattern must contain.
+     *
+     * @param pattern the pattern
+     * @return the literal, or null when no literal is required
+     */
+    static String extract(final Pattern pattern) {
+        if ((pattern.flags() & UNSUPPORTED_FLAGS) != 0) {
+            return null;
+        }
+        return new RequiredLiteralExtractor(pattern.pattern()).extract();
+    }
+
+    private String extract() {
+        try {
+            while (position < regex.length()) {
+                if (!readNext()) {
+                    return null;
+                }
+            }
+        } catch (final IndexOutOfBoundsException e) {
+            // The pattern compiled, so this is a construct which is not understood here.
+            return null;
+        }
+        endRun();
+        return longestRun.isEmpty() ? null : longestRun;
+    }
+
+    /**
+     * Reads the next construct of the regular expression.
+     *
+     * @return false if the expression cannot be used to find a required literal
+     */
+    private boolean readNext() {
+        final char c = regex.charAt(position++);
+        switch (c) {
+            case '\\':
+                return readEscape();
+            case '[':
+                if (!skipCharacterClass()) {
+                    return false;
+                }
+                endRun();
+                return true;
+            case '(':
+                if (!skipGroup()) {
+                    return false;
+                }
+                endRun();
+                return true;
+            case '|':
+                return false;
+            case '*':
+            case '?':
+                removeOptionalCharacter();
+                return true;
+            case '{':
+                removeOptionalCharacter();
+                position = regex.indexOf('}', position) + 1;
+                return position > 0;
+            case '+':
+                endRun();
+                return true;
+            case '.':
+            case '^':
+            case '$':
+                endRun();
+                return true;
+            case ')':
+            case ']':
+            case '}':
+                return false;
+            default:
+                currentRun.append(c);
+                return true;
+        }
+    }
+
+    private boolean readEscape() {
+        final char escaped = regex.charAt(position++);
+        if (escaped < 128 && !Character.isLetterOrDigit(escaped)) {
+            currentRun.append(escaped);
+            return true;
+        }
+        if (ESCAPED_CLASSES_AND_BOUNDARIES.indexOf(escaped) >= 0) {
+            endRun();
+            return true;
+        }
+        switch (escaped) {
+            case 't':
+                currentRun.append('\t');
+                return true;
+            case 'n':
+                currentRun.append('\n');
+                return true;
+            case 'r':
+                currentRun.append('\r');
+                return true;
+            case 'f':
+                currentRun.append('\f');
+                return true;
+            case 'a':
+                currentRun.append('\u0007');
+                return true;
+            case 'e':
+                currentRun.append('\u001B');
+                return true;
+            case 'p':
+            case 'P':
+                if (regex.charAt(position) == '{') {
+                    position = regex.indexOf('}', position) + 1;
+                    if (position == 0) {
+                        return false;
+                    }
+                } else {
+                    position++;
+                }
+                endRun();
+                return true;
+            case 'Q':
+                final int end = regex.indexOf("\\E", position);
+                final String quoted = end < 0 ? regex.substring(position) : regex.substring(position, end);
+                currentRun.append(quoted);
+                position = end < 0 ? regex.length() : end + 2;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Skips a character class. A leading {@code ]} and quoting inside the class are not supported.
+     */
+    private boolean skipCharacterClass() {
+        if (regex.charAt(position) == '^') {
+            position++;
+        }
+        if (regex.charAt(position) == ']') {
+            return false;
+        }
+        int depth = 1;
+        while (depth > 0) {
+            final char c = regex.charAt(position++);
+            if (c == '\\') {
+                if (regex.charAt(position) == 'Q') {
+                    return false;
+                }
+                position++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Skips a group. Groups starting with inline flags such as {@code (?i)} change how the rest of the expression
+     * matches, so they are not supported.
+     */
+    private boolean skipGroup() {
+        if (regex.charAt(position) == '?') {
+            final char groupType = regex.charAt(position + 1);
+            if (groupType != ':' && groupType != '=' && groupType != '!' && groupType != '<' && groupType != '>') {
+                return false;
+            }
+        }
+        int depth = 1;
+        while (depth > 0) {
+            final char c = regex.charAt(position++);
+            if (c == '\\') {
+                if (regex.charAt(position) == 'Q') {
+                    final int end = regex.indexOf("\\E", position);
+                    if (end < 0) {
+                        return false;
+                    }
+                    position = end + 2;
+                } else {
+                    position++;
+                }
+            } else if (c == '[') {
+                if (!skipCharacterClass()) {
+                    return false;
+                }
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The last character of the current run is made optional by a quantifier, so it is not required.
+     */
+    private void removeOptionalCharacter() {
+        final int length = currentRun.length();
+        if (length > 0) {
+            final boolean surrogatePair = length > 1 && Character.isLowSurrogate(currentRun.charAt(length - 1))
+                    && Character.isHighSurrogate(currentRun.charAt(length - 2));
+            currentRun.setLength(length - (surrogatePair ? 2 : 1));
+        }
+        endRun();
+    }
+
+    private void endRun() {
+        if (currentRun.length() > longestRun.length()) {
+            longestRun = currentRun.toString();
+        }
+        currentRun.setLength(0);
+    }
+}
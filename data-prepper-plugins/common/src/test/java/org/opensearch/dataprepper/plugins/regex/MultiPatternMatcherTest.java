@@ -0,0 +1,137 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.regex;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MultiPatternMatcherTest {
+    private List<Pattern> patterns;
+
+    private MultiPatternMatcher createObjectUnderTest() {
+        return new MultiPatternMatcher(patterns);
+    }
+
+    @Test
+    void constructor_throws_for_null_patterns() {
+        assertThrows(NullPointerException.class, this::createObjectUnderTest);
+    }
+
+    @Test
+    void getPatterns_returns_the_patterns_in_order() {
+        patterns = compile("abc", "\\d+", "xyz");
+
+        final MultiPatternMatcher objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.size(), equalTo(3));
+        assertThat(objectUnderTest.getPatterns(), equalTo(patterns));
+        assertThat(objectUnderTest.getPattern(1), equalTo(patterns.get(1)));
+    }
+
+    @Test
+    void findCandidates_returns_patterns_whose_literal_is_present_and_patterns_without_literals() {
+        patterns = compile("error", "\\d+", "warn(ing)?", "[0-9]+ms");
+
+        final MultiPatternMatcher objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.findCandidates("an error happened"), equalTo(new int[]{0, 1}));
+        assertThat(objectUnderTest.findCandidates("warn: took 10ms"), equalTo(new int[]{1, 2, 3}));
+        assertThat(objectUnderTest.findCandidates("nothing"), equalTo(new int[]{1}));
+    }
+
+    @Test
+    void findCandidates_returns_all_patterns_without_literals_when_no_literals_are_found() {
+        patterns = compile("\\d+", "a|b");
+
+        final MultiPatternMatcher objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.findCandidates(UUID.randomUUID().toString()), equalTo(new int[]{0, 1}));
+    }
+
+    @Test
+    void findCandidates_returns_empty_for_no_patterns() {
+        patterns = Collections.emptyList();
+
+        assertThat(createObjectUnderTest().findCandidates(UUID.randomUUID().toString()), equalTo(new int[0]));
+    }
+
+    @Test
+    void findCandidates_finds_overlapping_and_shared_literals() {
+        patterns = compile("he", "she", "his", "hers", "she");
+
+        final MultiPatternMatcher objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.findCandidates("ushers"), equalTo(new int[]{0, 1, 3, 4}));
+        assertThat(objectUnderTest.findCandidates("this"), equalTo(new int[]{2}));
+    }
+
+    @Test
+    void findMatches_returns_only_matching_patterns() {
+        patterns = compile("error \\d+", "\\d+", "warn", "code=[a-z]+");
+
+        final MultiPatternMatcher objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.findMatches("error 42 code=abc"), equalTo(new int[]{0, 1, 3}));
+        assertThat(objectUnderTest.findMatches("error code=123"), equalTo(new int[]{1}));
+        assertThat(objectUnderTest.findMatches("none"), equalTo(new int[0]));
+    }
+
+    @Test
+    void findMatches_is_the_same_as_running_every_pattern() {
+        patterns = compile("abc", "ab*c", "a+bc", "foo\\.bar", "x\\d+yz", "(abc)|d", "[a-z]+hello", "\\Qa.b\\E?c",
+                "(?i)abc", "^GET /api", "a{2}bcd", "hel(lo)?world", "\\btoken\\b", "\\d{3}-\\d{2}-\\d{4}");
+        patterns.add(Pattern.compile("ABC", Pattern.CASE_INSENSITIVE));
+        final List<String> fragments = Arrays.asList("abc", "ac", "abbbc", "foo.bar", "x12yz", "d", "zhello", "a.c",
+                "ABC", "GET /api", "aabcd", "helloworld", "helworld", " token ", "123-45-6789");
+        final String alphabet = "abcdxyz.ABC- 0123456789GEThelo/";
+
+        final MultiPatternMatcher objectUnderTest = createObjectUnderTest();
+
+        final Random random = new Random();
+        for (int i = 0; i < 10_000; i++) {
+            final StringBuilder input = new StringBuilder();
+            final int length = random.nextInt(30);
+            for (int c = 0; c < length; c++) {
+                input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            if (random.nextBoolean()) {
+                input.insert(random.nextInt(input.length() + 1), fragments.get(random.nextInt(fragments.size())));
+            }
+
+            assertThat(input.toString(), toList(objectUnderTest.findMatches(input)), equalTo(findMatchesByEveryPattern(input)));
+        }
+    }
+
+    private List<Integer> findMatchesByEveryPattern(final CharSequence input) {
+        final List<Integer> matches = new ArrayList<>();
+        for (int index = 0; index < patterns.size(); index++) {
+            if (patterns.get(index).matcher(input).find()) {
+                matches.add(index);
+            }
+        }
+        return matches;
+    }
+
+    private static List<Integer> toList(final int[] indexes) {
+        return Arrays.stream(indexes).boxed().collect(Collectors.toList());
+    }
+
+    private static List<Pattern> compile(final String... regexes) {
+        return Arrays.stream(regexes).map(Pattern::compile).collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.regex;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class RequiredLiteralExtractorTest {
+
+    @ParameterizedTest
+    @MethodSource("patternsWithLiterals")
+    void extract_returns_the_longest_required_literal(final String regex, final String expectedLiteral) {
+        assertThat(RequiredLiteralExtractor.extract(Pattern.compile(regex)), equalTo(expectedLiteral));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "(abc)|d",
+            "a|b",
+            "(?i)abc",
+            "(?-i)abc",
+            "\\x41BC",
+            "\\u0041BC",
+            "\\1abc",
+            "[]a]bc",
+            "[\\Qa]\\E]",
+            "\\d+",
+            ".*",
+            "[a-z]{2,3}",
+            "(abc)",
+            "abc}",
+            "a]b"
+    })
+    void extract_returns_null_when_no_literal_is_known_to_be_required(final String regex) {
+        assertThat(RequiredLiteralExtractor.extract(Pattern.compile(regex)), nullValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Pattern.CASE_INSENSITIVE, Pattern.COMMENTS, Pattern.LITERAL, Pattern.UNICODE_CASE, Pattern.CANON_EQ})
+    void extract_returns_null_for_flags_which_change_literal_comparison(final int flags) {
+        assertThat(RequiredLiteralExtractor.extract(Pattern.compile("abc", flags)), nullValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Pattern.MULTILINE, Pattern.DOTALL, Pattern.UNIX_LINES})
+    void extract_returns_literal_for_flags_which_do_not_change_literal_comparison(final int flags) {
+        assertThat(RequiredLiteralExtractor.extract(Pattern.compile("abc", flags)), equalTo("abc"));
+    }
+
+    private static Stream<Arguments> patternsWithLiterals() {
+        return Stream.of(
+                Arguments.of("abc", "abc"),
+                Arguments.of("ab*c", "a"),
+                Arguments.of("ab?cd", "cd"),
+                Arguments.of("a+bc", "bc"),
+                Arguments.of("a{2}bcd", "bcd"),
+                Arguments.of("foo\\.bar", "foo.bar"),
+                Arguments.of("x\\d+yz", "yz"),
+                Arguments.of("[a-z]+hello", "hello"),
+                Arguments.of("[^\\]x]hello", "hello"),
+                Arguments.of("[a[bc]]hello", "hello"),
+                Arguments.of("\\Qa.b\\E?c", "a."),
+                Arguments.of("\\Qa.b", "a.b"),
+                Arguments.of("^GET /api/v1$", "GET /api/v1"),
+                Arguments.of("\\p{L}word\\P{L}", "word"),
+                Arguments.of("\\pLword", "word"),
+                Arguments.of("hel(lo|p)?world", "world"),
+                Arguments.of("(?:a|b)world", "world"),
+                Arguments.of("(?=x)world(?<=d)", "world"),
+                Arguments.of("(?<name>[)]\\)\\Q)\\E)world", "world"),
+                Arguments.of("\\btoken\\b", "token"),
+                Arguments.of("\\d{3}-\\d{2}-\\d{4}", "-"),
+                Arguments.of("tab\\there", "tab\there"),
+                Arguments.of("\\n\\r\\f\\a\\e", "\n\r\f\u0007\u001B"),
+                Arguments.of("a\uD83D\uDE00*b", "a")
+        );
+    }
+}
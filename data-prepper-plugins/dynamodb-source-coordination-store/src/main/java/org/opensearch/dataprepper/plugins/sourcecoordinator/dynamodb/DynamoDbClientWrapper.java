@@ -239,6 +239,23 @@ class DynamoDbClientWrapper {
                                                                     final String sourceStatusCombinationKey,
                                                                     final int pageLimit,
                                                                     final Duration ttl) {
+        return getAvailablePartitions(ownerId, ownershipTimeout, sourcePartitionStatus, sourceStatusCombinationKey, pageLimit, ttl, 1)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Acquires up to maxPartitions partitions with the given status. Pages of the status index are read until at least one
+     * partition is acquired, and the rest of the page that acquired it is used to fill the batch.
+     */
+    public List<SourcePartitionStoreItem> getAvailablePartitions(final String ownerId,
+                                                                 final Duration ownershipTimeout,
+                                                                 final SourcePartitionStatus sourcePartitionStatus,
+                                                                 final String sourceStatusCombinationKey,
+                                                                 final int pageLimit,
+                                                                 final Duration ttl,
+                                                                 final int maxPartitions) {
+        final List<SourcePartitionStoreItem> acquiredItems = new ArrayList<>();
         try {
 
             final DynamoDbIndex<DynamoDbSourcePartitionItem> sourceStatusIndex = table.index(SOURCE_STATUS_COMBINATION_KEY_GLOBAL_SECONDARY_INDEX);
@@ -257,14 +274,14 @@ class DynamoDbClientWrapper {
                     // in the future, we can know that the remaining items will not be available.
                     if (SourcePartitionStatus.ASSIGNED.equals(sourcePartitionStatus) && item.getPartitionOwnershipTimeout() != null &&
                             Instant.now().isBefore(item.getPartitionOwnershipTimeout())) {
-                        return Optional.empty();
+                        return acquiredItems;
                     }
 
                     // For CLOSED partitions we are sorting based on reOpenAt time, so if any item has reOpenAt in the future,
                     // we can know that the remaining items will not be ready to be acquired again.
                     if (SourcePartitionStatus.CLOSED.equals(sourcePartitionStatus) && item.getReOpenAt() != null &&
                             Instant.now().isBefore(item.getReOpenAt())) {
-                        return Optional.empty();
+                        return acquiredItems;
                     }
 
                     final Instant partitionOwnershipTimeout = Instant.now().plus(ownershipTimeout);
@@ -280,16 +297,22 @@ class DynamoDbClientWrapper {
 
                     final boolean acquired = this.tryAcquirePartitionItem(item);
                     if (acquired) {
-                        return Optional.of(item);
+                        acquiredItems.add(item);
+                        if (acquiredItems.size() >= maxPartitions) {
+                            return acquiredItems;
+                        }
                     }
                 }
+
+                if (!acquiredItems.isEmpty()) {
+                    return acquiredItems;
+                }
             }
         } catch (final Exception e) {
             LOG.error("An exception occurred while attempting to acquire a DynamoDb partition item for {}", sourceStatusCombinationKey, e);
-            return Optional.empty();
         }
 
-        return Optional.empty();
+        return acquiredItems;
     }
 
 
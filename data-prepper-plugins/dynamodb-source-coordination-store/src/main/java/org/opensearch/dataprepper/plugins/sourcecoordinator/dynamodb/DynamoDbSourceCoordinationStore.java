@@ -18,6 +18,7 @@ import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -124,6 +125,35 @@ public class DynamoDbSourceCoordinationStore implements SourceCoordinationStore
                 String.format(SOURCE_STATUS_COMBINATION_KEY_FORMAT, sourceIdentifier, SourcePartitionStatus.CLOSED), 1, dynamoStoreSettings.getTtl());
     }
 
+    @Override
+    public List<SourcePartitionStoreItem> tryAcquireAvailablePartitions(final String sourceIdentifier,
+                                                                        final String ownerId,
+                                                                        final Duration ownershipTimeout,
+                                                                        final int maxPartitions) {
+        final List<SourcePartitionStoreItem> acquiredItems = new ArrayList<>(dynamoDbClientWrapper.getAvailablePartitions(
+                ownerId, ownershipTimeout, SourcePartitionStatus.ASSIGNED,
+                String.format(SOURCE_STATUS_COMBINATION_KEY_FORMAT, sourceIdentifier, SourcePartitionStatus.ASSIGNED),
+                maxPartitions, dynamoStoreSettings.getTtl(), maxPartitions));
+
+        if (acquiredItems.size() < maxPartitions) {
+            final int remaining = maxPartitions - acquiredItems.size();
+            acquiredItems.addAll(dynamoDbClientWrapper.getAvailablePartitions(
+                    ownerId, ownershipTimeout, SourcePartitionStatus.UNASSIGNED,
+                    String.format(SOURCE_STATUS_COMBINATION_KEY_FORMAT, sourceIdentifier, SourcePartitionStatus.UNASSIGNED),
+                    Math.max(remaining, 5), dynamoStoreSettings.getTtl(), remaining));
+        }
+
+        if (acquiredItems.size() < maxPartitions) {
+            final int remaining = maxPartitions - acquiredItems.size();
+            acquiredItems.addAll(dynamoDbClientWrapper.getAvailablePartitions(
+                    ownerId, ownershipTimeout, SourcePartitionStatus.CLOSED,
+                    String.format(SOURCE_STATUS_COMBINATION_KEY_FORMAT, sourceIdentifier, SourcePartitionStatus.CLOSED),
+                    remaining, dynamoStoreSettings.getTtl(), remaining));
+        }
+
+        return acquiredItems;
+    }
+
     @Override
     public void tryUpdateSourcePartitionItem(final SourcePartitionStoreItem updateItem) {
         tryUpdateSourcePartitionItemInternal(updateItem, null);
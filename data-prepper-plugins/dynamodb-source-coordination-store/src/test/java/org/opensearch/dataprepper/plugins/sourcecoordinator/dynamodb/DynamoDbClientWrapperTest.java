@@ -73,6 +73,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -754,6 +755,78 @@ public class DynamoDbClientWrapperTest {
 
     }
 
+    @Test
+    void getAvailablePartitions_acquires_multiple_items_from_the_first_page_with_an_acquired_item() throws NoSuchFieldException, IllegalAccessException {
+        final String ownerId = UUID.randomUUID().toString();
+        final Duration ownershipTimeout = Duration.ofMinutes(1);
+        final String sourceStatusCombinationKey = String.format(SOURCE_STATUS_COMBINATION_KEY_FORMAT, sourceIdentifier, SourcePartitionStatus.UNASSIGNED);
+
+        final DynamoDbTable<DynamoDbSourcePartitionItem> table = mock(DynamoDbTable.class);
+        final DynamoDbIndex<DynamoDbSourcePartitionItem> sourceStatusIndex = mock(DynamoDbIndex.class);
+        given(table.index(SOURCE_STATUS_COMBINATION_KEY_GLOBAL_SECONDARY_INDEX)).willReturn(sourceStatusIndex);
+
+        final DynamoDbSourcePartitionItem firstItem = mock(DynamoDbSourcePartitionItem.class);
+        final DynamoDbSourcePartitionItem unacquiredItem = mock(DynamoDbSourcePartitionItem.class);
+        final DynamoDbSourcePartitionItem secondItem = mock(DynamoDbSourcePartitionItem.class);
+        final DynamoDbSourcePartitionItem secondPageItem = mock(DynamoDbSourcePartitionItem.class);
+
+        final Page<DynamoDbSourcePartitionItem> page = mock(Page.class);
+        final Page<DynamoDbSourcePartitionItem> secondPage = mock(Page.class);
+        given(page.items()).willReturn(List.of(firstItem, unacquiredItem, secondItem));
+        final SdkIterable<Page<DynamoDbSourcePartitionItem>> pageSdkIterable = () -> List.of(page, secondPage).iterator();
+
+        doNothing().doThrow(PartitionUpdateException.class).doNothing().when(table).putItem(any(PutItemEnhancedRequest.class));
+
+        given(sourceStatusIndex.query(any(QueryEnhancedRequest.class))).willReturn(pageSdkIterable);
+
+        final DynamoDbClientWrapper objectUnderTest = createObjectUnderTest();
+        reflectivelySetField(objectUnderTest, "table", table);
+
+        final List<SourcePartitionStoreItem> result = objectUnderTest.getAvailablePartitions(
+                ownerId, ownershipTimeout, SourcePartitionStatus.UNASSIGNED, sourceStatusCombinationKey, 10, null, 10);
+
+        assertThat(result, equalTo(List.of(firstItem, secondItem)));
+
+        verify(firstItem).setPartitionOwner(ownerId);
+        verify(secondItem).setPartitionOwner(ownerId);
+        verify(secondItem).setSourcePartitionStatus(SourcePartitionStatus.ASSIGNED);
+        verifyNoInteractions(secondPage, secondPageItem);
+    }
+
+    @Test
+    void getAvailablePartitions_stops_when_maxPartitions_are_acquired() throws NoSuchFieldException, IllegalAccessException {
+        final String ownerId = UUID.randomUUID().toString();
+        final Duration ownershipTimeout = Duration.ofMinutes(1);
+        final String sourceStatusCombinationKey = String.format(SOURCE_STATUS_COMBINATION_KEY_FORMAT, sourceIdentifier, SourcePartitionStatus.UNASSIGNED);
+
+        final DynamoDbTable<DynamoDbSourcePartitionItem> table = mock(DynamoDbTable.class);
+        final DynamoDbIndex<DynamoDbSourcePartitionItem> sourceStatusIndex = mock(DynamoDbIndex.class);
+        given(table.index(SOURCE_STATUS_COMBINATION_KEY_GLOBAL_SECONDARY_INDEX)).willReturn(sourceStatusIndex);
+
+        final DynamoDbSourcePartitionItem firstItem = mock(DynamoDbSourcePartitionItem.class);
+        final DynamoDbSourcePartitionItem secondItem = mock(DynamoDbSourcePartitionItem.class);
+        final DynamoDbSourcePartitionItem thirdItem = mock(DynamoDbSourcePartitionItem.class);
+
+        final SdkIterable<Page<DynamoDbSourcePartitionItem>> pageSdkIterable = () -> {
+            final Page<DynamoDbSourcePartitionItem> page = mock(Page.class);
+            given(page.items()).willReturn(List.of(firstItem, secondItem, thirdItem));
+            return List.of(page).iterator();
+        };
+
+        given(sourceStatusIndex.query(any(QueryEnhancedRequest.class))).willReturn(pageSdkIterable);
+
+        final DynamoDbClientWrapper objectUnderTest = createObjectUnderTest();
+        reflectivelySetField(objectUnderTest, "table", table);
+
+        final List<SourcePartitionStoreItem> result = objectUnderTest.getAvailablePartitions(
+                ownerId, ownershipTimeout, SourcePartitionStatus.UNASSIGNED, sourceStatusCombinationKey, 3, null, 2);
+
+        assertThat(result, equalTo(List.of(firstItem, secondItem)));
+
+        verify(table, times(2)).putItem(any(PutItemEnhancedRequest.class));
+        verifyNoInteractions(thirdItem);
+    }
+
     @Test
     void queryAllPartitions_success() throws NoSuchFieldException, IllegalAccessException {
         final DynamoDbTable<DynamoDbSourcePartitionItem> table = mock(DynamoDbTable.class);
@@ -368,6 +368,70 @@ public class DynamoDbSourceCoordinationStoreTest {
         verifyNoMoreInteractions(dynamoDbClientWrapper);
     }
 
+    @Test
+    void tryAcquireAvailablePartitions_fills_batch_from_each_status_in_order() {
+        final String ownerId = UUID.randomUUID().toString();
+        final String sourceIdentifier = UUID.randomUUID().toString();
+        final Duration ownershipTimeout = Duration.ofMinutes(2);
+        final Duration ttl = Duration.ofSeconds(new Random().nextInt(5)+10);
+
+        given(dynamoStoreSettings.getTtl()).willReturn(ttl);
+        final DynamoDbSourcePartitionItem assignedItem = mock(DynamoDbSourcePartitionItem.class);
+        final DynamoDbSourcePartitionItem unassignedItem = mock(DynamoDbSourcePartitionItem.class);
+        final DynamoDbSourcePartitionItem closedItem = mock(DynamoDbSourcePartitionItem.class);
+
+        given(dynamoDbClientWrapper.getAvailablePartitions(ownerId, ownershipTimeout,
+                SourcePartitionStatus.ASSIGNED,
+                String.format(SOURCE_STATUS_COMBINATION_KEY_FORMAT, sourceIdentifier, SourcePartitionStatus.ASSIGNED),
+                10, ttl, 10))
+                .willReturn(List.of(assignedItem));
+        given(dynamoDbClientWrapper.getAvailablePartitions(ownerId, ownershipTimeout,
+                SourcePartitionStatus.UNASSIGNED,
+                String.format(SOURCE_STATUS_COMBINATION_KEY_FORMAT, sourceIdentifier, SourcePartitionStatus.UNASSIGNED),
+                9, ttl, 9))
+                .willReturn(List.of(unassignedItem));
+        given(dynamoDbClientWrapper.getAvailablePartitions(ownerId, ownershipTimeout,
+                SourcePartitionStatus.CLOSED,
+                String.format(SOURCE_STATUS_COMBINATION_KEY_FORMAT, sourceIdentifier, SourcePartitionStatus.CLOSED),
+                8, ttl, 8))
+                .willReturn(List.of(closedItem));
+
+        final List<SourcePartitionStoreItem> result = createObjectUnderTest().tryAcquireAvailablePartitions(sourceIdentifier, ownerId, ownershipTimeout, 10);
+
+        assertThat(result, equalTo(List.of(assignedItem, unassignedItem, closedItem)));
+
+        verifyNoMoreInteractions(dynamoDbClientWrapper);
+    }
+
+    @Test
+    void tryAcquireAvailablePartitions_stops_when_batch_is_full() {
+        final String ownerId = UUID.randomUUID().toString();
+        final String sourceIdentifier = UUID.randomUUID().toString();
+        final Duration ownershipTimeout = Duration.ofMinutes(2);
+        final Duration ttl = Duration.ofSeconds(new Random().nextInt(5)+10);
+
+        given(dynamoStoreSettings.getTtl()).willReturn(ttl);
+        final DynamoDbSourcePartitionItem assignedItem = mock(DynamoDbSourcePartitionItem.class);
+        final DynamoDbSourcePartitionItem unassignedItem = mock(DynamoDbSourcePartitionItem.class);
+
+        given(dynamoDbClientWrapper.getAvailablePartitions(ownerId, ownershipTimeout,
+                SourcePartitionStatus.ASSIGNED,
+                String.format(SOURCE_STATUS_COMBINATION_KEY_FORMAT, sourceIdentifier, SourcePartitionStatus.ASSIGNED),
+                2, ttl, 2))
+                .willReturn(List.of(assignedItem));
+        given(dynamoDbClientWrapper.getAvailablePartitions(ownerId, ownershipTimeout,
+                SourcePartitionStatus.UNASSIGNED,
+                String.format(SOURCE_STATUS_COMBINATION_KEY_FORMAT, sourceIdentifier, SourcePartitionStatus.UNASSIGNED),
+                5, ttl, 1))
+                .willReturn(List.of(unassignedItem));
+
+        final List<SourcePartitionStoreItem> result = createObjectUnderTest().tryAcquireAvailablePartitions(sourceIdentifier, ownerId, ownershipTimeout, 2);
+
+        assertThat(result, equalTo(List.of(assignedItem, unassignedItem)));
+
+        verifyNoMoreInteractions(dynamoDbClientWrapper);
+    }
+
     @Test
     void queryAllSourcePartitionItems_success() {
         final String sourceIdentifier = UUID.randomUUID().toString();
@@ -5,7 +5,8 @@
 
 package org.opensearch.dataprepper.plugins.source.dynamodb.converter;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
 import com.fasterxml.jackson.dataformat.ion.IonObjectMapper;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
@@ -18,9 +19,10 @@ import org.opensearch.dataprepper.plugins.source.dynamodb.model.TableInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 
 public class ExportRecordConverter extends RecordConverter {
 
@@ -34,8 +36,12 @@ public class ExportRecordConverter extends RecordConverter {
     static final String BYTES_RECEIVED = "bytesReceived";
     static final String BYTES_PROCESSED = "bytesProcessed";
 
-
-    IonObjectMapper MAPPER = new IonObjectMapper();
+    /**
+     * Keeps the scale of decimals, as the event keeps it when it converts data, so that numeric keys do not change.
+     */
+    private static final IonObjectMapper MAPPER = IonObjectMapper.builder()
+            .disable(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES)
+            .build();
 
     private final PluginMetrics pluginMetrics;
     private final long exportStartTime;
@@ -58,11 +64,11 @@ public class ExportRecordConverter extends RecordConverter {
         this.exportStartTime = exportStartTime;
     }
 
-    private Map<String, Object> convertToMap(String jsonData) {
+    private JsonNode readItem(final byte[] line) {
         try {
-            return MAPPER.readValue(jsonData, Map.class);
-        } catch (JsonProcessingException e) {
-            return null;
+            return MAPPER.readTree(line).get(ITEM_KEY);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -73,13 +79,13 @@ public class ExportRecordConverter extends RecordConverter {
     }
 
     public void writeToBuffer(final AcknowledgementSet acknowledgementSet,
-                              final List<String> lines) {
+                              final List<byte[]> lines) {
 
         int eventCount = 0;
-        for (String line : lines) {
-            final long bytes = line.getBytes().length;
+        for (final byte[] line : lines) {
+            final long bytes = line.length;
             bytesReceivedSummary.record(bytes);
-            Map data = (Map<String, Object>) convertToMap(line).get(ITEM_KEY);
+            final JsonNode data = readItem(line);
             try {
                 // The version number is the export time minus some overlap to ensure new stream events still get priority
                 final long eventVersionNumber = (exportStartTime - VERSION_OVERLAP_TIME_FOR_EXPORT.toMillis()) * 1_000;
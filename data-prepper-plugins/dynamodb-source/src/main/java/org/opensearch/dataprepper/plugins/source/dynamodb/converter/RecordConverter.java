@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.source.dynamodb.converter;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.event.Event;
@@ -70,6 +71,24 @@ public abstract class RecordConverter {
         return null;
     }
 
+    /**
+     * Extract the value based on an attribute object node
+     *
+     * @param data          An object node of attribute names and values
+     * @param attributeName Attribute name
+     * @return the related attribute value, return null if the attribute name doesn't exist.
+     */
+    private String getAttributeValue(final JsonNode data, String attributeName) {
+        final JsonNode value = data.get(attributeName);
+        if (value == null) {
+            return null;
+        }
+        if (value.isNumber()) {
+            return new BigDecimal(value.asText()).toPlainString();
+        }
+        return value.asText();
+    }
+
     void flushBuffer() throws Exception {
         bufferAccumulator.flush();
     }
@@ -93,11 +112,52 @@ public abstract class RecordConverter {
                             final long eventVersionNumber,
                             final String eventName,
                             final Identity userIdentity) throws Exception {
-        Event event = JacksonEvent.builder()
+        final Event event = JacksonEvent.builder()
                 .withEventType(getEventType())
                 .withData(data)
                 .build();
+        final String partitionKey = getAttributeValue(keys, tableInfo.getMetadata().getPartitionKeyAttributeName());
+        final String sortKey = getAttributeValue(keys, tableInfo.getMetadata().getSortKeyAttributeName());
+        addToBuffer(acknowledgementSet, event, partitionKey, sortKey, eventCreationTimeMillis, eventVersionNumber, eventName, userIdentity);
+    }
 
+    public void addToBuffer(final AcknowledgementSet acknowledgementSet,
+                            final Map<String, Object> data,
+                            final long timestamp,
+                            final long eventVersionNumber) throws Exception {
+        addToBuffer(acknowledgementSet, data, data, timestamp, eventVersionNumber, null, null);
+    }
+
+    /**
+     * Add an export item to buffer. The event takes over the item node, without copying it.
+     *
+     * @param acknowledgementSet acknowledgement set
+     * @param data               An object node holding the item attributes, including the keys
+     * @param timestamp          Creation timestamp of the event
+     * @param eventVersionNumber Event version number
+     * @throws Exception Exception if failed to write to buffer.
+     */
+    public void addToBuffer(final AcknowledgementSet acknowledgementSet,
+                            final JsonNode data,
+                            final long timestamp,
+                            final long eventVersionNumber) throws Exception {
+        final Event event = JacksonEvent.builder()
+                .withEventType(getEventType())
+                .withJsonNode(data)
+                .build();
+        final String partitionKey = getAttributeValue(data, tableInfo.getMetadata().getPartitionKeyAttributeName());
+        final String sortKey = getAttributeValue(data, tableInfo.getMetadata().getSortKeyAttributeName());
+        addToBuffer(acknowledgementSet, event, partitionKey, sortKey, timestamp, eventVersionNumber, null, null);
+    }
+
+    private void addToBuffer(final AcknowledgementSet acknowledgementSet,
+                             final Event event,
+                             final String partitionKey,
+                             final String sortKey,
+                             final long eventCreationTimeMillis,
+                             final long eventVersionNumber,
+                             final String eventName,
+                             final Identity userIdentity) throws Exception {
         // Only set external origination time for stream events, not export
         if (eventName != null) {
             final Instant externalOriginationTime = Instant.ofEpochMilli(eventCreationTimeMillis);
@@ -120,10 +180,8 @@ public abstract class RecordConverter {
                 TTL_USER_TYPE.equals(userIdentity.type());
         eventMetadata.setAttribute(DDB_STREAM_EVENT_IS_TTL_DELETE, isTtlDelete);
 
-        String partitionKey = getAttributeValue(keys, tableInfo.getMetadata().getPartitionKeyAttributeName());
         eventMetadata.setAttribute(PARTITION_KEY_METADATA_ATTRIBUTE, partitionKey);
 
-        String sortKey = getAttributeValue(keys, tableInfo.getMetadata().getSortKeyAttributeName());
         if (sortKey != null) {
             eventMetadata.setAttribute(SORT_KEY_METADATA_ATTRIBUTE, sortKey);
             eventMetadata.setAttribute(PRIMARY_KEY_DOCUMENT_ID_METADATA_ATTRIBUTE, partitionKey + "|" + sortKey);
@@ -136,13 +194,6 @@ public abstract class RecordConverter {
         bufferAccumulator.add(new Record<>(event));
     }
 
-    public void addToBuffer(final AcknowledgementSet acknowledgementSet,
-                            final Map<String, Object> data,
-                            final long timestamp,
-                            final long eventVersionNumber) throws Exception {
-        addToBuffer(acknowledgementSet, data, data, timestamp, eventVersionNumber, null, null);
-    }
-
     private String mapStreamEventNameToBulkAction(final String streamEventName) {
         if (streamEventName == null) {
             return DEFAULT_ACTION;
@@ -16,13 +16,9 @@ import org.opensearch.dataprepper.plugins.source.dynamodb.model.TableInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.zip.GZIPInputStream;
 
 /**
  * One loader per file.
@@ -170,17 +166,15 @@ public class DataFileLoader implements Runnable {
     public void run() {
         LOG.info("Start loading s3://{}/{} with start line {}", bucketName, key, startLine);
         long lastCheckpointTime = System.currentTimeMillis();
-        List<String> lines = new ArrayList<>();
+        List<byte[]> lines = new ArrayList<>(DEFAULT_BATCH_SIZE);
 
         // line count regardless the start line number
         int lineCount = 0;
         int lastLineProcessed = 0;
 
-        try (InputStream inputStream = objectReader.readFile(bucketName, key);
-             GZIPInputStream gzipInputStream = new GZIPInputStream(inputStream);
-             BufferedReader reader = new BufferedReader(new InputStreamReader(gzipInputStream))) {
+        try (PipelinedGzipLineReader reader = new PipelinedGzipLineReader(objectReader.readFile(bucketName, key), "dynamodb-export-inflater-" + key)) {
 
-            String line;
+            byte[] line;
             while ((line = reader.readLine()) != null) {
                 if (shouldStop) {
                     checkpointer.checkpoint(lastLineProcessed);
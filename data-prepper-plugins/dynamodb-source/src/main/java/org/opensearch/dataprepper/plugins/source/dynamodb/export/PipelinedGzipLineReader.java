@@ -0,0 +1,192 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.dynamodb.export;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads the lines of a gzip-compressed data file as UTF-8 bytes.
+ * <p>
+ * A background thread inflates the file and splits it into lines, while the reading thread parses the lines it
+ * has already received. The lines are handed over in batches, and at most {@link #MAXIMUM_PENDING_BATCHES}
+ * batches wait to be read, which bounds the memory held for a file.
+ * <p>
+ * The reader owns the compressed input stream and closes it when the reader is closed. Closing the stream also
+ * stops the background thread when it is blocked reading the file.
+ */
+class PipelinedGzipLineReader implements Closeable {
+    static final int MAXIMUM_BATCH_LINES = 1000;
+    static final int MAXIMUM_BATCH_BYTES = 1024 * 1024;
+    static final int MAXIMUM_PENDING_BATCHES = 4;
+    static final long INFLATER_JOIN_TIMEOUT_MILLIS = 5_000;
+    private static final int INFLATE_BUFFER_SIZE = 64 * 1024;
+    private static final Logger LOG = LoggerFactory.getLogger(PipelinedGzipLineReader.class);
+
+    private final List<byte[]> endOfLines = new ArrayList<>(0);
+    private final BlockingQueue<List<byte[]>> batches = new ArrayBlockingQueue<>(MAXIMUM_PENDING_BATCHES);
+    private final InputStream compressedInputStream;
+    private final Thread inflaterThread;
+    private volatile Exception inflaterException;
+    private volatile boolean closed;
+
+    private List<byte[]> currentBatch;
+    private int nextLineIndex;
+    private boolean endOfLinesReached;
+
+    PipelinedGzipLineReader(final InputStream compressedInputStream, final String threadName) {
+        this.compressedInputStream = compressedInputStream;
+        inflaterThread = new Thread(this::inflateLines, threadName);
+        inflaterThread.setDaemon(true);
+        inflaterThread.start();
+    }
+
+    /**
+     * Reads the next line, without its line terminator.
+     *
+     * @return The bytes of the line, or null at the end of the file
+     * @throws IOException if the file could not be read or inflated
+     */
+    byte[] readLine() throws IOException {
+        while (currentBatch == null || nextLineIndex == currentBatch.size()) {
+            if (endOfLinesReached) {
+                return null;
+            }
+            final List<byte[]> batch;
+            try {
+                batch = batches.take();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the data file to be inflated");
+            }
+            if (batch == endOfLines) {
+                endOfLinesReached = true;
+                currentBatch = null;
+                if (inflaterException != null) {
+                    throw new IOException("Failed to inflate the data file", inflaterException);
+                }
+                return null;
+            }
+            currentBatch = batch;
+            nextLineIndex = 0;
+        }
+        final byte[] line = currentBatch.get(nextLineIndex);
+        currentBatch.set(nextLineIndex++, null);
+        return line;
+    }
+
+    /**
+     * Closes the compressed input stream, and waits a bounded time for the background thread to stop.
+     *
+     * @throws IOException if the compressed input stream could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        inflaterThread.interrupt();
+        try {
+            compressedInputStream.close();
+        } finally {
+            batches.clear();
+            joinInflaterThread();
+        }
+    }
+
+    private void joinInflaterThread() {
+        try {
+            inflaterThread.join(INFLATER_JOIN_TIMEOUT_MILLIS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (inflaterThread.isAlive()) {
+            LOG.warn("The thread {} did not stop within {} ms after its reader was closed", inflaterThread.getName(), INFLATER_JOIN_TIMEOUT_MILLIS);
+        }
+    }
+
+    private void inflateLines() {
+        // Closing the gzip stream releases the inflater. The compressed input stream is only closed by close().
+        final InputStream unclosableInputStream = new FilterInputStream(compressedInputStream) {
+            @Override
+            public void close() {
+            }
+        };
+        try (final GZIPInputStream gzipInputStream = new GZIPInputStream(unclosableInputStream, INFLATE_BUFFER_SIZE)) {
+            final byte[] buffer = new byte[INFLATE_BUFFER_SIZE];
+            final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+            List<byte[]> batch = new ArrayList<>(MAXIMUM_BATCH_LINES);
+            int batchBytes = 0;
+            int bytesRead;
+            while (!closed && (bytesRead = gzipInputStream.read(buffer)) != -1) {
+                int lineStart = 0;
+                for (int i = 0; i < bytesRead; i++) {
+                    if (buffer[i] != '\n') {
+                        continue;
+                    }
+                    final byte[] line;
+                    if (partialLine.size() == 0) {
+                        line = withoutCarriageReturn(Arrays.copyOfRange(buffer, lineStart, i));
+                    } else {
+                        partialLine.write(buffer, lineStart, i - lineStart);
+                        line = withoutCarriageReturn(partialLine.toByteArray());
+                        partialLine.reset();
+                    }
+                    lineStart = i + 1;
+                    batch.add(line);
+                    batchBytes += line.length;
+                    if (batch.size() == MAXIMUM_BATCH_LINES || batchBytes >= MAXIMUM_BATCH_BYTES) {
+                        batches.put(batch);
+                        batch = new ArrayList<>(MAXIMUM_BATCH_LINES);
+                        batchBytes = 0;
+                    }
+                }
+                partialLine.write(buffer, lineStart, bytesRead - lineStart);
+            }
+            if (partialLine.size() > 0) {
+                batch.add(withoutCarriageReturn(partialLine.toByteArray()));
+            }
+            if (!batch.isEmpty()) {
+                batches.put(batch);
+            }
+        } catch (final InterruptedException e) {
+            return;
+        } catch (final Exception e) {
+            inflaterException = e;
+        }
+
+        if (closed) {
+            return;
+        }
+        try {
+            batches.put(endOfLines);
+        } catch (final InterruptedException e) {
+            // The reader was closed, so nothing waits for the end of the lines.
+        }
+    }
+
+    private static byte[] withoutCarriageReturn(final byte[] line) {
+        if (line.length > 0 && line[line.length - 1] == '\r') {
+            return Arrays.copyOf(line, line.length - 1);
+        }
+        return line;
+    }
+}
@@ -25,6 +25,7 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.source.dynamodb.model.TableInfo;
 import org.opensearch.dataprepper.plugins.source.dynamodb.model.TableMetadata;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -108,13 +109,13 @@ class ExportRecordConverterTest {
 
     }
 
-    private List<String> generateData(int count) {
-        List<String> result = new ArrayList<>();
+    private List<byte[]> generateData(int count) {
+        List<byte[]> result = new ArrayList<>();
         for (int i = 0; i < count; i++) {
             final String pk1 = UUID.randomUUID().toString();
             final String sk1 = UUID.randomUUID().toString();
 
-            result.add(" $ion_1_0 {Item:{PK:\"" + pk1 + "\",SK:\"" + sk1 + "\"}}");
+            result.add((" $ion_1_0 {Item:{PK:\"" + pk1 + "\",SK:\"" + sk1 + "\"}}").getBytes(StandardCharsets.UTF_8));
         }
         return result;
     }
@@ -126,7 +127,7 @@ class ExportRecordConverterTest {
 
         int numberOfRecords = random.nextInt(10);
 
-        List<String> data = generateData(numberOfRecords);
+        List<byte[]> data = generateData(numberOfRecords);
         ExportRecordConverter recordConverter = new ExportRecordConverter(bufferAccumulator, tableInfo, pluginMetrics, exportStartTime);
 
         recordConverter.writeToBuffer(null, data);
@@ -150,7 +151,7 @@ class ExportRecordConverterTest {
         doNothing().when(bufferAccumulator).add(recordArgumentCaptor.capture());
 //        doNothing().when(bufferAccumulator).flush();
 
-        recordConverter.writeToBuffer(eq(null), List.of(line));
+        recordConverter.writeToBuffer(eq(null), List.of(line.getBytes(StandardCharsets.UTF_8)));
         verify(bufferAccumulator).add(any(Record.class));
         verify(bufferAccumulator).flush();
         assertThat(recordArgumentCaptor.getValue().getData(), notNullValue());
@@ -169,8 +170,8 @@ class ExportRecordConverterTest {
         assertThat(event.getMetadata().getAttribute(EVENT_VERSION_FROM_TIMESTAMP), equalTo(expectedVersion));
         assertThat(event.getEventHandle(), notNullValue());
         assertThat(event.getEventHandle().getExternalOriginationTime(), nullValue());
-        verify(bytesReceivedSummary, times(1)).record(line.getBytes().length);
-        verify(bytesProcessedSummary, times(1)).record(line.getBytes().length);
+        verify(bytesReceivedSummary, times(1)).record(line.getBytes(StandardCharsets.UTF_8).length);
+        verify(bytesProcessedSummary, times(1)).record(line.getBytes(StandardCharsets.UTF_8).length);
     }
 
     @ParameterizedTest
@@ -188,7 +189,7 @@ class ExportRecordConverterTest {
         ExportRecordConverter objectUnderTest = new ExportRecordConverter(bufferAccumulator, tableInfo, pluginMetrics, exportStartTime);
         doNothing().when(bufferAccumulator).add(recordArgumentCaptor.capture());
 
-        objectUnderTest.writeToBuffer(eq(null), List.of(line));
+        objectUnderTest.writeToBuffer(eq(null), List.of(line.getBytes(StandardCharsets.UTF_8)));
         verify(bufferAccumulator).add(any(Record.class));
         verify(bufferAccumulator).flush();
         assertThat(recordArgumentCaptor.getValue().getData(), notNullValue());
@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.dynamodb.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PipelinedGzipLineReaderTest {
+
+    private static InputStream gzip(final String data) throws IOException {
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOut = new GZIPOutputStream(byteOut)) {
+            gzipOut.write(data.getBytes(StandardCharsets.UTF_8));
+        }
+        return new ByteArrayInputStream(byteOut.toByteArray());
+    }
+
+    private static List<String> readAllLines(final InputStream inputStream) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        try (final PipelinedGzipLineReader reader = new PipelinedGzipLineReader(inputStream, "test-inflater")) {
+            byte[] line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(new String(line, StandardCharsets.UTF_8));
+            }
+            assertThat(reader.readLine(), nullValue());
+        }
+        return lines;
+    }
+
+    @Test
+    void readLine_returns_each_line_without_its_terminator() throws IOException {
+        assertThat(readAllLines(gzip("first\nsecond\r\n\nlast")), equalTo(List.of("first", "second", "", "last")));
+    }
+
+    @Test
+    void readLine_does_not_return_an_empty_line_after_the_last_newline() throws IOException {
+        assertThat(readAllLines(gzip("first\nsecond\n")), equalTo(List.of("first", "second")));
+    }
+
+    @Test
+    void readLine_returns_null_for_an_empty_file() throws IOException {
+        assertThat(readAllLines(gzip("")), equalTo(List.of()));
+    }
+
+    @Test
+    void readLine_returns_lines_across_batches_in_order() throws IOException {
+        final int lineCount = PipelinedGzipLineReader.MAXIMUM_BATCH_LINES * (PipelinedGzipLineReader.MAXIMUM_PENDING_BATCHES + 3) + 7;
+        final StringBuilder data = new StringBuilder();
+        final List<String> expectedLines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            final String line = " $ion_1_0 {Item:{PK:\"" + i + "\",SK:\"\u00e9" + i + "\"}}";
+            expectedLines.add(line);
+            data.append(line).append('\n');
+        }
+
+        assertThat(readAllLines(gzip(data.toString())), equalTo(expectedLines));
+    }
+
+    @Test
+    void readLine_splits_batches_of_large_lines() throws IOException {
+        final String largeLine = "x".repeat(PipelinedGzipLineReader.MAXIMUM_BATCH_BYTES / 2 + 1);
+        final String data = largeLine + "\n" + largeLine + "\n" + largeLine + "\n" + "small";
+
+        assertThat(readAllLines(gzip(data)), equalTo(List.of(largeLine, largeLine, largeLine, "small")));
+    }
+
+    @Test
+    void readLine_throws_when_the_file_is_not_gzip() {
+        final InputStream inputStream = new ByteArrayInputStream("not gzip".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> readAllLines(inputStream));
+    }
+
+    @Test
+    void close_before_reading_all_lines_does_not_block() throws IOException {
+        final StringBuilder data = new StringBuilder();
+        for (int i = 0; i < PipelinedGzipLineReader.MAXIMUM_BATCH_LINES * (PipelinedGzipLineReader.MAXIMUM_PENDING_BATCHES + 3); i++) {
+            data.append(i).append('\n');
+        }
+
+        final PipelinedGzipLineReader objectUnderTest = new PipelinedGzipLineReader(gzip(data.toString()), "test-inflater");
+        assertThat(new String(objectUnderTest.readLine(), StandardCharsets.UTF_8), equalTo("0"));
+
+        objectUnderTest.close();
+    }
+
+    @Test
+    void close_closes_the_input_stream_once() throws IOException {
+        final AtomicInteger closeCount = new AtomicInteger();
+        final InputStream inputStream = new FilterInputStream(gzip("a\nb\n")) {
+            @Override
+            public void close() throws IOException {
+                closeCount.incrementAndGet();
+                super.close();
+            }
+        };
+
+        assertThat(readAllLines(inputStream), equalTo(List.of("a", "b")));
+
+        assertThat(closeCount.get(), equalTo(1));
+    }
+
+    @Test
+    void close_stops_the_inflater_thread_blocked_reading_the_input_stream() throws Exception {
+        final CountDownLatch streamClosed = new CountDownLatch(1);
+        final InputStream blockingInputStream = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                // Like a blocked socket read, only closing the stream ends the read.
+                while (streamClosed.getCount() > 0) {
+                    try {
+                        streamClosed.await();
+                    } catch (final InterruptedException e) {
+                        // Ignored.
+                    }
+                }
+                throw new IOException("Stream closed");
+            }
+
+            @Override
+            public void close() {
+                streamClosed.countDown();
+            }
+        };
+        final String threadName = "test-inflater-" + System.nanoTime();
+
+        new PipelinedGzipLineReader(blockingInputStream, threadName).close();
+
+        assertThat(Thread.getAllStackTraces().keySet().stream().anyMatch(thread -> thread.getName().equals(threadName)), equalTo(false));
+    }
+}
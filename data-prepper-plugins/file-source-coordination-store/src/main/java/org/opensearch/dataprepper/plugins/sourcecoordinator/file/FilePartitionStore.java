@@ -0,0 +1,461 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sourcecoordinator.file;
+
+import org.opensearch.dataprepper.model.source.coordinator.SourcePartitionStatus;
+import org.opensearch.dataprepper.model.source.coordinator.SourcePartitionStoreItem;
+import org.opensearch.dataprepper.model.source.coordinator.exceptions.PartitionUpdateException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Holds the partitions of a {@link FileSourceCoordinationStore} in memory and writes every change to a {@link PartitionLog}
+ * before applying it. Partitions are indexed by source identifier and status, sorted by priority, which serves the same
+ * purpose as the source-status index of the DynamoDB store.
+ * <p>
+ * A directory is only ever opened once per process. Each sub-pipeline loads its own store plugin, and all of them share
+ * the instance for the configured directory. A lock file keeps other processes from opening the same directory.
+ */
+class FilePartitionStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FilePartitionStore.class);
+
+    static final String LOCK_FILE_NAME = ".lock";
+    private static final String SOURCE_STATUS_COMBINATION_KEY_FORMAT = "%s|%s";
+    private static final Map<Path, FilePartitionStore> OPEN_STORES = new HashMap<>();
+
+    private final Path directory;
+    private final Duration ttl;
+    private final int compactionThreshold;
+    private final PartitionLog partitionLog;
+    private final Map<String, Map<String, FileSourcePartitionItem>> partitionsBySourceIdentifier;
+    private final Map<String, NavigableSet<IndexEntry>> statusIndex;
+    private FileChannel lockChannel;
+    private FileLock lock;
+    private int liveItemCount;
+    private long supersededRecordCount;
+
+    FilePartitionStore(final Path directory, final Duration ttl, final int compactionThreshold, final PartitionLog partitionLog) {
+        this.directory = directory;
+        this.ttl = ttl;
+        this.compactionThreshold = compactionThreshold;
+        this.partitionLog = partitionLog;
+        this.partitionsBySourceIdentifier = new HashMap<>();
+        this.statusIndex = new HashMap<>();
+    }
+
+    /**
+     * Returns the store for the configured directory, opening and recovering it if this is the first use in this process.
+     */
+    static FilePartitionStore open(final FileStoreSettings fileStoreSettings) {
+        final Path directory = fileStoreSettings.getDirectory().toAbsolutePath().normalize();
+        synchronized (OPEN_STORES) {
+            final FilePartitionStore openStore = OPEN_STORES.get(directory);
+            if (Objects.nonNull(openStore)) {
+                return openStore;
+            }
+
+            final FilePartitionStore filePartitionStore = new FilePartitionStore(directory, fileStoreSettings.getTtl(),
+                    fileStoreSettings.getCompactionThreshold(), new PartitionLog(directory, fileStoreSettings.isSyncOnWrite()));
+            try {
+                filePartitionStore.recover();
+            } catch (final IOException e) {
+                filePartitionStore.close();
+                throw new UncheckedIOException("Unable to open the source coordination directory " + directory, e);
+            }
+            OPEN_STORES.put(directory, filePartitionStore);
+            return filePartitionStore;
+        }
+    }
+
+    synchronized void recover() throws IOException {
+        Files.createDirectories(directory);
+        lockChannel = FileChannel.open(directory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        lock = lockChannel.tryLock();
+        if (Objects.isNull(lock)) {
+            throw new IOException(String.format("The source coordination directory %s is in use by another process", directory));
+        }
+
+        final int recordCount = partitionLog.open(new PartitionLog.RecordVisitor() {
+            @Override
+            public void put(final FileSourcePartitionItem item) {
+                install(item);
+            }
+
+            @Override
+            public void delete(final String sourceIdentifier, final String sourcePartitionKey) {
+                remove(sourceIdentifier, sourcePartitionKey);
+            }
+        });
+        supersededRecordCount = recordCount - liveItemCount;
+
+        LOG.info("Recovered {} partitions from {} records in the source coordination directory {}", liveItemCount, recordCount, directory);
+        compactIfNeeded();
+    }
+
+    void close() {
+        synchronized (OPEN_STORES) {
+            OPEN_STORES.remove(directory, this);
+        }
+        synchronized (this) {
+            try {
+                partitionLog.close();
+                if (Objects.nonNull(lock)) {
+                    lock.release();
+                }
+                if (Objects.nonNull(lockChannel)) {
+                    lockChannel.close();
+                }
+            } catch (final IOException e) {
+                LOG.warn("Unable to close the source coordination directory {}", directory, e);
+            }
+        }
+    }
+
+    synchronized Optional<SourcePartitionStoreItem> getItem(final String sourceIdentifier, final String sourcePartitionKey) {
+        final FileSourcePartitionItem item = getLiveItem(sourceIdentifier, sourcePartitionKey);
+        return Objects.isNull(item) ? Optional.empty() : Optional.of(new FileSourcePartitionItem(item));
+    }
+
+    /**
+     * @return The partitions with the given status and a priority after startPartitionPriority, in priority order
+     */
+    synchronized List<SourcePartitionStoreItem> queryItemsByStatus(final String sourceIdentifier,
+                                                                   final SourcePartitionStatus sourcePartitionStatus,
+                                                                   final String startPartitionPriority) {
+        final NavigableSet<IndexEntry> indexEntries = statusIndex.get(statusKey(sourceIdentifier, sourcePartitionStatus));
+        if (Objects.isNull(indexEntries)) {
+            return Collections.emptyList();
+        }
+
+        final Iterable<IndexEntry> matchingEntries = Objects.isNull(startPartitionPriority) ? indexEntries :
+                indexEntries.tailSet(new IndexEntry(startPartitionPriority, ""), true);
+        final List<SourcePartitionStoreItem> result = new ArrayList<>();
+        final long now = Instant.now().getEpochSecond();
+        for (final IndexEntry indexEntry : matchingEntries) {
+            if (indexEntry.partitionPriority.equals(startPartitionPriority)) {
+                continue;
+            }
+            final FileSourcePartitionItem item = partitionsBySourceIdentifier.get(sourceIdentifier).get(indexEntry.sourcePartitionKey);
+            if (!isExpired(item, now)) {
+                result.add(new FileSourcePartitionItem(item));
+            }
+        }
+        return result;
+    }
+
+    synchronized List<SourcePartitionStoreItem> queryAllItems(final String sourceIdentifier) {
+        final Map<String, FileSourcePartitionItem> partitions = partitionsBySourceIdentifier.get(sourceIdentifier);
+        if (Objects.isNull(partitions)) {
+            return Collections.emptyList();
+        }
+
+        final List<SourcePartitionStoreItem> result = new ArrayList<>(partitions.size());
+        final long now = Instant.now().getEpochSecond();
+        for (final FileSourcePartitionItem item : partitions.values()) {
+            if (!isExpired(item, now)) {
+                result.add(new FileSourcePartitionItem(item));
+            }
+        }
+        return result;
+    }
+
+    synchronized boolean tryCreateItem(final String sourceIdentifier,
+                                       final String sourcePartitionKey,
+                                       final SourcePartitionStatus sourcePartitionStatus,
+                                       final Long closedCount,
+                                       final String partitionProgressState,
+                                       final boolean isReadOnlyItem) {
+        if (Objects.nonNull(getLiveItem(sourceIdentifier, sourcePartitionKey))) {
+            return false;
+        }
+
+        final FileSourcePartitionItem newItem = new FileSourcePartitionItem();
+        newItem.setSourceIdentifier(sourceIdentifier);
+        newItem.setSourcePartitionKey(sourcePartitionKey);
+        newItem.setSourcePartitionStatus(sourcePartitionStatus);
+        newItem.setClosedCount(closedCount);
+        newItem.setPartitionProgressState(partitionProgressState);
+        newItem.setPartitionPriority(Instant.now().toString());
+        newItem.setVersion(0L);
+        if (!isReadOnlyItem && Objects.nonNull(ttl)) {
+            newItem.setExpirationTime(Instant.now().plus(ttl).getEpochSecond());
+        }
+
+        try {
+            write(newItem);
+        } catch (final IOException e) {
+            LOG.error("An exception occurred while attempting to create a partition item {}", sourcePartitionKey);
+            throw new PartitionUpdateException("Exception when trying to create partition item " + sourcePartitionKey, e);
+        }
+        return true;
+    }
+
+    /**
+     * Acquires up to maxPartitions partitions. Partitions with an expired ownership are taken first, then unassigned partitions,
+     * and then closed partitions which are ready to be reopened.
+     */
+    synchronized List<SourcePartitionStoreItem> tryAcquireItems(final String sourceIdentifier,
+                                                                final String ownerId,
+                                                                final Duration ownershipTimeout,
+                                                                final int maxPartitions) {
+        final List<SourcePartitionStoreItem> acquiredItems = new ArrayList<>();
+        try {
+            acquireItems(sourceIdentifier, SourcePartitionStatus.ASSIGNED, ownerId, ownershipTimeout, maxPartitions, acquiredItems);
+            acquireItems(sourceIdentifier, SourcePartitionStatus.UNASSIGNED, ownerId, ownershipTimeout, maxPartitions, acquiredItems);
+            acquireItems(sourceIdentifier, SourcePartitionStatus.CLOSED, ownerId, ownershipTimeout, maxPartitions, acquiredItems);
+        } catch (final IOException e) {
+            LOG.error("An exception occurred while attempting to acquire a partition item for {}", sourceIdentifier, e);
+        }
+        return acquiredItems;
+    }
+
+    synchronized void tryUpdateItem(final FileSourcePartitionItem updateItem, final Instant priorityOverride) {
+        validateVersion(updateItem, "update");
+
+        final FileSourcePartitionItem newItem = new FileSourcePartitionItem(updateItem);
+        if (SourcePartitionStatus.CLOSED.equals(newItem.getSourcePartitionStatus())) {
+            newItem.setPartitionPriority(newItem.getReOpenAt().toString());
+        }
+
+        if (SourcePartitionStatus.ASSIGNED.equals(newItem.getSourcePartitionStatus())) {
+            newItem.setPartitionPriority(newItem.getPartitionOwnershipTimeout().toString());
+        }
+
+        if (Objects.nonNull(priorityOverride) && SourcePartitionStatus.UNASSIGNED.equals(newItem.getSourcePartitionStatus())) {
+            newItem.setPartitionPriority(priorityOverride.toString());
+        }
+
+        if (Objects.nonNull(ttl)) {
+            newItem.setExpirationTime(Instant.now().plus(ttl).getEpochSecond());
+        }
+        newItem.setVersion(updateItem.getVersion() + 1L);
+
+        try {
+            write(newItem);
+        } catch (final IOException e) {
+            final String errorMessage = String.format("An exception occurred while attempting to update a partition item %s", updateItem.getSourcePartitionKey());
+            LOG.error(errorMessage, e);
+            throw new PartitionUpdateException(errorMessage, e);
+        }
+
+        updateItem.setPartitionPriority(newItem.getPartitionPriority());
+        updateItem.setExpirationTime(newItem.getExpirationTime());
+        updateItem.setVersion(newItem.getVersion());
+    }
+
+    synchronized void tryDeleteItem(final FileSourcePartitionItem deleteItem) {
+        validateVersion(deleteItem, "delete");
+
+        try {
+            partitionLog.appendDelete(deleteItem);
+        } catch (final IOException e) {
+            final String errorMessage = String.format("An exception occurred while attempting to delete a partition item %s", deleteItem.getSourcePartitionKey());
+            LOG.error(errorMessage, e);
+            throw new PartitionUpdateException(errorMessage, e);
+        }
+        remove(deleteItem.getSourceIdentifier(), deleteItem.getSourcePartitionKey());
+        supersededRecordCount += 2;
+        compactIfNeeded();
+    }
+
+    private void acquireItems(final String sourceIdentifier,
+                              final SourcePartitionStatus sourcePartitionStatus,
+                              final String ownerId,
+                              final Duration ownershipTimeout,
+                              final int maxPartitions,
+                              final List<SourcePartitionStoreItem> acquiredItems) throws IOException {
+        final NavigableSet<IndexEntry> indexEntries = statusIndex.get(statusKey(sourceIdentifier, sourcePartitionStatus));
+        if (Objects.isNull(indexEntries) || acquiredItems.size() >= maxPartitions) {
+            return;
+        }
+
+        final Instant now = Instant.now();
+        final List<FileSourcePartitionItem> candidates = new ArrayList<>();
+        final Iterator<IndexEntry> iterator = indexEntries.iterator();
+        while (iterator.hasNext() && acquiredItems.size() + candidates.size() < maxPartitions) {
+            final FileSourcePartitionItem item = partitionsBySourceIdentifier.get(sourceIdentifier).get(iterator.next().sourcePartitionKey);
+
+            // ASSIGNED partitions are sorted by ownership timeout and CLOSED partitions by reOpenAt, so the first one
+            // which is not yet available means that none of the remaining ones are.
+            if (SourcePartitionStatus.ASSIGNED.equals(sourcePartitionStatus) && Objects.nonNull(item.getPartitionOwnershipTimeout()) &&
+                    now.isBefore(item.getPartitionOwnershipTimeout())) {
+                break;
+            }
+            if (SourcePartitionStatus.CLOSED.equals(sourcePartitionStatus) && Objects.nonNull(item.getReOpenAt()) &&
+                    now.isBefore(item.getReOpenAt())) {
+                break;
+            }
+            if (!isExpired(item, now.getEpochSecond())) {
+                candidates.add(item);
+            }
+        }
+
+        for (final FileSourcePartitionItem candidate : candidates) {
+            final Instant partitionOwnershipTimeout = Instant.now().plus(ownershipTimeout);
+            final FileSourcePartitionItem acquiredItem = new FileSourcePartitionItem(candidate);
+            acquiredItem.setPartitionOwner(ownerId);
+            acquiredItem.setPartitionOwnershipTimeout(partitionOwnershipTimeout);
+            acquiredItem.setSourcePartitionStatus(SourcePartitionStatus.ASSIGNED);
+            acquiredItem.setPartitionPriority(partitionOwnershipTimeout.toString());
+            acquiredItem.setVersion(candidate.getVersion() + 1L);
+            if (Objects.nonNull(ttl)) {
+                acquiredItem.setExpirationTime(Instant.now().plus(ttl).getEpochSecond());
+            }
+
+            write(acquiredItem);
+            acquiredItems.add(new FileSourcePartitionItem(acquiredItem));
+        }
+    }
+
+    private void validateVersion(final FileSourcePartitionItem item, final String action) {
+        final FileSourcePartitionItem storedItem = getLiveItem(item.getSourceIdentifier(), item.getSourcePartitionKey());
+        if (Objects.isNull(storedItem) || storedItem.getVersion() != item.getVersion()) {
+            throw new PartitionUpdateException(String.format(
+                    "Unable to %s partition %s. This partition item was either deleted from the store, " +
+                            "or another owner has modified it. Expected version: %s", action, item.getSourcePartitionKey(), item.getVersion()), null);
+        }
+    }
+
+    private void write(final FileSourcePartitionItem item) throws IOException {
+        partitionLog.appendPut(item);
+        if (install(item)) {
+            supersededRecordCount++;
+        }
+        compactIfNeeded();
+    }
+
+    private void compactIfNeeded() {
+        if (supersededRecordCount < compactionThreshold || supersededRecordCount < liveItemCount) {
+            return;
+        }
+
+        final long now = Instant.now().getEpochSecond();
+        final List<FileSourcePartitionItem> expiredItems = new ArrayList<>();
+        final List<FileSourcePartitionItem> liveItems = new ArrayList<>(liveItemCount);
+        for (final Map<String, FileSourcePartitionItem> partitions : partitionsBySourceIdentifier.values()) {
+            for (final FileSourcePartitionItem item : partitions.values()) {
+                if (isExpired(item, now)) {
+                    expiredItems.add(item);
+                } else {
+                    liveItems.add(item);
+                }
+            }
+        }
+
+        try {
+            partitionLog.compact(liveItems);
+        } catch (final IOException e) {
+            LOG.warn("Unable to compact the source coordination log in {}. It will be retried after the next write.", directory, e);
+            return;
+        }
+
+        for (final FileSourcePartitionItem expiredItem : expiredItems) {
+            remove(expiredItem.getSourceIdentifier(), expiredItem.getSourcePartitionKey());
+        }
+        LOG.debug("Compacted the source coordination log in {} to {} partitions", directory, liveItems.size());
+        supersededRecordCount = 0;
+    }
+
+    /**
+     * @return true if the item replaced an existing item
+     */
+    private boolean install(final FileSourcePartitionItem item) {
+        final FileSourcePartitionItem previousItem = partitionsBySourceIdentifier
+                .computeIfAbsent(item.getSourceIdentifier(), sourceIdentifier -> new HashMap<>())
+                .put(item.getSourcePartitionKey(), item);
+        if (Objects.nonNull(previousItem)) {
+            removeFromIndex(previousItem);
+        } else {
+            liveItemCount++;
+        }
+        statusIndex.computeIfAbsent(statusKey(item.getSourceIdentifier(), item.getSourcePartitionStatus()), key -> new TreeSet<>())
+                .add(new IndexEntry(item.getPartitionPriority(), item.getSourcePartitionKey()));
+        return Objects.nonNull(previousItem);
+    }
+
+    private void remove(final String sourceIdentifier, final String sourcePartitionKey) {
+        final Map<String, FileSourcePartitionItem> partitions = partitionsBySourceIdentifier.get(sourceIdentifier);
+        if (Objects.isNull(partitions)) {
+            return;
+        }
+        final FileSourcePartitionItem removedItem = partitions.remove(sourcePartitionKey);
+        if (Objects.nonNull(removedItem)) {
+            removeFromIndex(removedItem);
+            liveItemCount--;
+        }
+        if (partitions.isEmpty()) {
+            partitionsBySourceIdentifier.remove(sourceIdentifier);
+        }
+    }
+
+    private void removeFromIndex(final FileSourcePartitionItem item) {
+        final String statusKey = statusKey(item.getSourceIdentifier(), item.getSourcePartitionStatus());
+        final NavigableSet<IndexEntry> indexEntries = statusIndex.get(statusKey);
+        if (Objects.nonNull(indexEntries)) {
+            indexEntries.remove(new IndexEntry(item.getPartitionPriority(), item.getSourcePartitionKey()));
+            if (indexEntries.isEmpty()) {
+                statusIndex.remove(statusKey);
+            }
+        }
+    }
+
+    private FileSourcePartitionItem getLiveItem(final String sourceIdentifier, final String sourcePartitionKey) {
+        final Map<String, FileSourcePartitionItem> partitions = partitionsBySourceIdentifier.get(sourceIdentifier);
+        if (Objects.isNull(partitions)) {
+            return null;
+        }
+        final FileSourcePartitionItem item = partitions.get(sourcePartitionKey);
+        return Objects.isNull(item) || isExpired(item, Instant.now().getEpochSecond()) ? null : item;
+    }
+
+    private static boolean isExpired(final FileSourcePartitionItem item, final long nowEpochSecond) {
+        return Objects.nonNull(item.getExpirationTime()) && item.getExpirationTime() <= nowEpochSecond;
+    }
+
+    private static String statusKey(final String sourceIdentifier, final SourcePartitionStatus sourcePartitionStatus) {
+        return String.format(SOURCE_STATUS_COMBINATION_KEY_FORMAT, sourceIdentifier, sourcePartitionStatus);
+    }
+
+    private static class IndexEntry implements Comparable<IndexEntry> {
+        private final String partitionPriority;
+        private final String sourcePartitionKey;
+
+        private IndexEntry(final String partitionPriority, final String sourcePartitionKey) {
+            this.partitionPriority = Objects.isNull(partitionPriority) ? "" : partitionPriority;
+            this.sourcePartitionKey = sourcePartitionKey;
+        }
+
+        @Override
+        public int compareTo(final IndexEntry o) {
+            final int priorityComparison = partitionPriority.compareTo(o.partitionPriority);
+            if (priorityComparison != 0) {
+                return priorityComparison;
+            }
+            return sourcePartitionKey.compareTo(o.sourcePartitionKey);
+        }
+    }
+}
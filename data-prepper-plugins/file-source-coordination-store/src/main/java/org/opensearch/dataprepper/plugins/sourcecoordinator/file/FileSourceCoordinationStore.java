@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sourcecoordinator.file;
+
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.source.SourceCoordinationStore;
+import org.opensearch.dataprepper.model.source.coordinator.SourcePartitionStatus;
+import org.opensearch.dataprepper.model.source.coordinator.SourcePartitionStoreItem;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An implementation of {@link org.opensearch.dataprepper.model.source.SourceCoordinationStore} which keeps partitions in an
+ * append-only log on local disk. Progress survives restarts, so this store suits single node deployments of Data Prepper
+ * where DynamoDB is not available. It cannot coordinate multiple nodes.
+ *
+ * @since 2.17
+ */
+@DataPrepperPlugin(name = "file",
+        pluginType = SourceCoordinationStore.class,
+        pluginConfigurationType = FileStoreSettings.class)
+public class FileSourceCoordinationStore implements SourceCoordinationStore {
+
+    private final FileStoreSettings fileStoreSettings;
+    private FilePartitionStore filePartitionStore;
+
+    @DataPrepperPluginConstructor
+    public FileSourceCoordinationStore(final FileStoreSettings fileStoreSettings) {
+        this.fileStoreSettings = fileStoreSettings;
+    }
+
+    @Override
+    public synchronized void initializeStore() {
+        if (Objects.isNull(filePartitionStore)) {
+            filePartitionStore = FilePartitionStore.open(fileStoreSettings);
+        }
+    }
+
+    @Override
+    public Optional<SourcePartitionStoreItem> getSourcePartitionItem(final String sourceIdentifier, final String sourcePartitionKey) {
+        return getFilePartitionStore().getItem(sourceIdentifier, sourcePartitionKey);
+    }
+
+    @Override
+    public List<SourcePartitionStoreItem> querySourcePartitionItemsByStatus(final String sourceIdentifier, final SourcePartitionStatus sourcePartitionStatus, final String startPartitionPriority) {
+        return getFilePartitionStore().queryItemsByStatus(sourceIdentifier, sourcePartitionStatus, startPartitionPriority);
+    }
+
+    @Override
+    public List<SourcePartitionStoreItem> queryAllSourcePartitionItems(final String sourceIdentifier) {
+        return getFilePartitionStore().queryAllItems(sourceIdentifier);
+    }
+
+    @Override
+    public boolean tryCreatePartitionItem(final String sourceIdentifier,
+                                          final String sourcePartitionKey,
+                                          final SourcePartitionStatus sourcePartitionStatus,
+                                          final Long closedCount,
+                                          final String partitionProgressState,
+                                          final boolean isReadOnlyItem) {
+        return getFilePartitionStore().tryCreateItem(sourceIdentifier, sourcePartitionKey, sourcePartitionStatus,
+                closedCount, partitionProgressState, isReadOnlyItem);
+    }
+
+    @Override
+    public Optional<SourcePartitionStoreItem> tryAcquireAvailablePartition(final String sourceIdentifier, final String ownerId, final Duration ownershipTimeout) {
+        return getFilePartitionStore().tryAcquireItems(sourceIdentifier, ownerId, ownershipTimeout, 1)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<SourcePartitionStoreItem> tryAcquireAvailablePartitions(final String sourceIdentifier,
+                                                                        final String ownerId,
+                                                                        final Duration ownershipTimeout,
+                                                                        final int maxPartitions) {
+        return getFilePartitionStore().tryAcquireItems(sourceIdentifier, ownerId, ownershipTimeout, maxPartitions);
+    }
+
+    @Override
+    public void tryUpdateSourcePartitionItem(final SourcePartitionStoreItem updateItem) {
+        getFilePartitionStore().tryUpdateItem((FileSourcePartitionItem) updateItem, null);
+    }
+
+    @Override
+    public void tryUpdateSourcePartitionItem(final SourcePartitionStoreItem updateItem, final Instant priorityForUnassignedPartitions) {
+        getFilePartitionStore().tryUpdateItem((FileSourcePartitionItem) updateItem, priorityForUnassignedPartitions);
+    }
+
+    @Override
+    public void tryDeletePartitionItem(final SourcePartitionStoreItem deleteItem) {
+        getFilePartitionStore().tryDeleteItem((FileSourcePartitionItem) deleteItem);
+    }
+
+    /**
+     * Closes the underlying store, which is shared by every store plugin for the same directory. For testing.
+     */
+    synchronized void close() {
+        if (Objects.nonNull(filePartitionStore)) {
+            filePartitionStore.close();
+            filePartitionStore = null;
+        }
+    }
+
+    private synchronized FilePartitionStore getFilePartitionStore() {
+        if (Objects.isNull(filePartitionStore)) {
+            throw new IllegalStateException("The file source coordination store must be initialized before it is used");
+        }
+        return filePartitionStore;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sourcecoordinator.file;
+
+import org.opensearch.dataprepper.model.source.coordinator.SourcePartitionStatus;
+import org.opensearch.dataprepper.model.source.coordinator.SourcePartitionStoreItem;
+
+import java.time.Instant;
+
+public class FileSourcePartitionItem implements SourcePartitionStoreItem {
+    private String sourceIdentifier;
+    private String sourcePartitionKey;
+    private String partitionOwner;
+    private String partitionProgressState;
+    private SourcePartitionStatus sourcePartitionStatus;
+    private Instant partitionOwnershipTimeout;
+    private Instant reOpenAt;
+    private Long closedCount;
+    private long version;
+    private String partitionPriority;
+    private Long expirationTime;
+
+    public FileSourcePartitionItem() {
+    }
+
+    FileSourcePartitionItem(final FileSourcePartitionItem other) {
+        this.sourceIdentifier = other.sourceIdentifier;
+        this.sourcePartitionKey = other.sourcePartitionKey;
+        this.partitionOwner = other.partitionOwner;
+        this.partitionProgressState = other.partitionProgressState;
+        this.sourcePartitionStatus = other.sourcePartitionStatus;
+        this.partitionOwnershipTimeout = other.partitionOwnershipTimeout;
+        this.reOpenAt = other.reOpenAt;
+        this.closedCount = other.closedCount;
+        this.version = other.version;
+        this.partitionPriority = other.partitionPriority;
+        this.expirationTime = other.expirationTime;
+    }
+
+    @Override
+    public String getSourceIdentifier() {
+        return sourceIdentifier;
+    }
+
+    @Override
+    public String getSourcePartitionKey() {
+        return sourcePartitionKey;
+    }
+
+    @Override
+    public String getPartitionOwner() {
+        return partitionOwner;
+    }
+
+    @Override
+    public String getPartitionProgressState() {
+        return partitionProgressState;
+    }
+
+    @Override
+    public SourcePartitionStatus getSourcePartitionStatus() {
+        return sourcePartitionStatus;
+    }
+
+    @Override
+    public Instant getPartitionOwnershipTimeout() {
+        return partitionOwnershipTimeout;
+    }
+
+    @Override
+    public Instant getReOpenAt() {
+        return reOpenAt;
+    }
+
+    @Override
+    public Long getClosedCount() {
+        return closedCount;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getPartitionPriority() {
+        return partitionPriority;
+    }
+
+    public Long getExpirationTime() {
+        return expirationTime;
+    }
+
+    @Override
+    public void setSourcePartitionKey(final String sourcePartitionKey) {
+        this.sourcePartitionKey = sourcePartitionKey;
+    }
+
+    @Override
+    public void setPartitionOwner(final String partitionOwner) {
+        this.partitionOwner = partitionOwner;
+    }
+
+    @Override
+    public void setPartitionProgressState(final String partitionProgressState) {
+        this.partitionProgressState = partitionProgressState;
+    }
+
+    @Override
+    public void setSourcePartitionStatus(final SourcePartitionStatus sourcePartitionStatus) {
+        this.sourcePartitionStatus = sourcePartitionStatus;
+    }
+
+    @Override
+    public void setPartitionOwnershipTimeout(final Instant partitionOwnershipTimeout) {
+        this.partitionOwnershipTimeout = partitionOwnershipTimeout;
+    }
+
+    @Override
+    public void setReOpenAt(final Instant reOpenAt) {
+        this.reOpenAt = reOpenAt;
+    }
+
+    @Override
+    public void setClosedCount(final Long closedCount) {
+        this.closedCount = closedCount;
+    }
+
+    public void setSourceIdentifier(final String sourceIdentifier) {
+        this.sourceIdentifier = sourceIdentifier;
+    }
+
+    public void setVersion(final long version) {
+        this.version = version;
+    }
+
+    public void setPartitionPriority(final String partitionPriority) {
+        this.partitionPriority = partitionPriority;
+    }
+
+    public void setExpirationTime(final Long expirationTime) {
+        this.expirationTime = expirationTime;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sourcecoordinator.file;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The configuration settings for a {@link org.opensearch.dataprepper.plugins.sourcecoordinator.file.FileSourceCoordinationStore}
+ * @since 2.17
+ */
+public class FileStoreSettings {
+
+    static final int DEFAULT_COMPACTION_THRESHOLD = 10_000;
+
+    private final Path directory;
+    private final Duration ttl;
+
+    private boolean syncOnWrite = true;
+    private int compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+
+    @JsonCreator
+    public FileStoreSettings(@JsonProperty("directory") final String directory,
+                             @JsonProperty("sync_on_write") final Boolean syncOnWrite,
+                             @JsonProperty("compaction_threshold") final Integer compactionThreshold,
+                             @JsonProperty("ttl") final Duration ttl) {
+        Objects.requireNonNull(directory, "directory is required for file store settings");
+
+        this.directory = Paths.get(directory);
+        this.ttl = ttl;
+
+        if (Objects.nonNull(syncOnWrite)) {
+            this.syncOnWrite = syncOnWrite;
+        }
+
+        if (Objects.nonNull(compactionThreshold)) {
+            if (compactionThreshold < 1) {
+                throw new IllegalArgumentException("compaction_threshold must be greater than zero for file store settings");
+            }
+            this.compactionThreshold = compactionThreshold;
+        }
+    }
+
+    /**
+     * @return The directory which holds the partition log
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return Whether each write is forced to disk before it is acknowledged
+     */
+    public boolean isSyncOnWrite() {
+        return syncOnWrite;
+    }
+
+    /**
+     * @return The number of superseded log records to allow before the log is compacted
+     */
+    public int getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * @return The time after the last update that a partition is removed from the store, or null if partitions do not expire
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+}
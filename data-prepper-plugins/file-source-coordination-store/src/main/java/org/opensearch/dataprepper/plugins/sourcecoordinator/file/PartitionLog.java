@@ -0,0 +1,299 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sourcecoordinator.file;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opensearch.dataprepper.model.source.coordinator.SourcePartitionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only log of partition items. Each record is written as its length, a CRC32 checksum and a JSON payload,
+ * so a record which was only partly written before a crash is found and dropped when the log is replayed.
+ * <p>
+ * Compaction writes the live items to a new file and atomically replaces the log with it.
+ * Instances are not thread-safe.
+ */
+class PartitionLog implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PartitionLog.class);
+
+    static final String LOG_FILE_NAME = "partitions.log";
+    static final String COMPACTION_FILE_NAME = "partitions.log.compacting";
+    static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private static final String OPERATION = "op";
+    private static final String PUT_OPERATION = "put";
+    private static final String DELETE_OPERATION = "delete";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {};
+
+    private final Path logFile;
+    private final Path compactionFile;
+    private final boolean syncOnWrite;
+    private final ObjectMapper objectMapper;
+    private FileChannel channel;
+    private boolean failed;
+
+    PartitionLog(final Path directory, final boolean syncOnWrite) {
+        this.logFile = directory.resolve(LOG_FILE_NAME);
+        this.compactionFile = directory.resolve(COMPACTION_FILE_NAME);
+        this.syncOnWrite = syncOnWrite;
+        this.objectMapper = new ObjectMapper();
+    }
+
+    /**
+     * Receives the records of the log as it is replayed.
+     */
+    interface RecordVisitor {
+        void put(FileSourcePartitionItem item);
+
+        void delete(String sourceIdentifier, String sourcePartitionKey);
+    }
+
+    /**
+     * Replays the log and opens it for appending. Anything after the last complete record is truncated.
+     *
+     * @param recordVisitor receives each record in the order it was written
+     * @return the number of records replayed
+     * @throws IOException if the log cannot be read or opened
+     */
+    int open(final RecordVisitor recordVisitor) throws IOException {
+        Files.deleteIfExists(compactionFile);
+
+        int recordCount = 0;
+        long validLength = 0;
+        if (Files.exists(logFile)) {
+            final long fileLength = Files.size(logFile);
+            try (final DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(logFile)))) {
+                while (true) {
+                    final byte[] payload = readRecord(inputStream, fileLength - validLength);
+                    if (payload == null) {
+                        break;
+                    }
+                    applyRecord(objectMapper.readValue(payload, MAP_TYPE_REFERENCE), recordVisitor);
+                    validLength += HEADER_BYTES + payload.length;
+                    recordCount++;
+                }
+            }
+
+            if (validLength < fileLength) {
+                LOG.warn("Dropping {} bytes from the end of the source coordination log {}. The last write did not complete.",
+                        fileLength - validLength, logFile);
+                try (final FileChannel truncateChannel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+                    truncateChannel.truncate(validLength);
+                    truncateChannel.force(true);
+                }
+            }
+        }
+
+        channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return recordCount;
+    }
+
+    void appendPut(final FileSourcePartitionItem item) throws IOException {
+        append(encodeRecord(toRecord(item)));
+    }
+
+    void appendDelete(final FileSourcePartitionItem item) throws IOException {
+        final Map<String, Object> record = new HashMap<>();
+        record.put(OPERATION, DELETE_OPERATION);
+        record.put("sourceIdentifier", item.getSourceIdentifier());
+        record.put("sourcePartitionKey", item.getSourcePartitionKey());
+        append(encodeRecord(record));
+    }
+
+    /**
+     * Replaces the log with one holding only the given items.
+     *
+     * @param liveItems the items to keep
+     * @throws IOException if the new log could not be written. The existing log is still used in that case.
+     */
+    void compact(final Collection<FileSourcePartitionItem> liveItems) throws IOException {
+        ensureWritable();
+        try (final FileChannel compactionChannel = FileChannel.open(compactionFile,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (final FileSourcePartitionItem item : liveItems) {
+                writeFully(compactionChannel, encodeRecord(toRecord(item)));
+            }
+            compactionChannel.force(true);
+        } catch (final IOException e) {
+            Files.deleteIfExists(compactionFile);
+            throw e;
+        }
+
+        Files.move(compactionFile, logFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory();
+
+        channel.close();
+        try {
+            channel = FileChannel.open(logFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (final IOException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (Objects.nonNull(channel)) {
+            channel.close();
+        }
+    }
+
+    private void append(final ByteBuffer record) throws IOException {
+        ensureWritable();
+        final long position = channel.size();
+        try {
+            writeFully(channel, record);
+            if (syncOnWrite) {
+                channel.force(false);
+            }
+        } catch (final IOException e) {
+            try {
+                channel.truncate(position);
+            } catch (final IOException truncateException) {
+                // Later records would follow the partial record, so refuse further writes until the log is replayed again.
+                failed = true;
+                e.addSuppressed(truncateException);
+            }
+            throw e;
+        }
+    }
+
+    private void ensureWritable() throws IOException {
+        if (Objects.isNull(channel)) {
+            throw new IllegalStateException("The source coordination log has not been opened");
+        }
+        if (failed) {
+            throw new IOException("The source coordination log " + logFile + " failed a previous write and must be reopened");
+        }
+    }
+
+    private void syncDirectory() {
+        try (final FileChannel directoryChannel = FileChannel.open(logFile.getParent(), StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        } catch (final IOException e) {
+            // Some platforms do not allow opening a directory; the rename is still atomic there.
+            LOG.debug("Unable to sync directory {}", logFile.getParent(), e);
+        }
+    }
+
+    private ByteBuffer encodeRecord(final Map<String, Object> record) throws IOException {
+        final byte[] payload = objectMapper.writeValueAsBytes(record);
+        final CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) crc32.getValue());
+        buffer.put(payload);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * @return the payload of the next record, or null if there is no complete and valid record left
+     */
+    private static byte[] readRecord(final DataInputStream inputStream, final long remainingBytes) throws IOException {
+        if (remainingBytes < HEADER_BYTES) {
+            return null;
+        }
+        final int length;
+        final int checksum;
+        try {
+            length = inputStream.readInt();
+            checksum = inputStream.readInt();
+        } catch (final EOFException e) {
+            return null;
+        }
+        if (length < 0 || length > remainingBytes - HEADER_BYTES) {
+            return null;
+        }
+
+        final byte[] payload = new byte[length];
+        inputStream.readFully(payload);
+
+        final CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        if ((int) crc32.getValue() != checksum) {
+            return null;
+        }
+        return payload;
+    }
+
+    private static void writeFully(final FileChannel fileChannel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            fileChannel.write(buffer);
+        }
+    }
+
+    private static void applyRecord(final Map<String, Object> record, final RecordVisitor recordVisitor) {
+        final String sourceIdentifier = (String) record.get("sourceIdentifier");
+        final String sourcePartitionKey = (String) record.get("sourcePartitionKey");
+        if (DELETE_OPERATION.equals(record.get(OPERATION))) {
+            recordVisitor.delete(sourceIdentifier, sourcePartitionKey);
+            return;
+        }
+
+        final FileSourcePartitionItem item = new FileSourcePartitionItem();
+        item.setSourceIdentifier(sourceIdentifier);
+        item.setSourcePartitionKey(sourcePartitionKey);
+        item.setPartitionOwner((String) record.get("partitionOwner"));
+        item.setPartitionProgressState((String) record.get("partitionProgressState"));
+        item.setSourcePartitionStatus(SourcePartitionStatus.valueOf((String) record.get("sourcePartitionStatus")));
+        item.setPartitionOwnershipTimeout(toInstant(record.get("partitionOwnershipTimeout")));
+        item.setReOpenAt(toInstant(record.get("reOpenAt")));
+        item.setClosedCount(toLong(record.get("closedCount")));
+        item.setVersion(toLong(record.get("version")));
+        item.setPartitionPriority((String) record.get("partitionPriority"));
+        item.setExpirationTime(toLong(record.get("expirationTime")));
+        recordVisitor.put(item);
+    }
+
+    private static Map<String, Object> toRecord(final FileSourcePartitionItem item) {
+        final Map<String, Object> record = new HashMap<>();
+        record.put(OPERATION, PUT_OPERATION);
+        record.put("sourceIdentifier", item.getSourceIdentifier());
+        record.put("sourcePartitionKey", item.getSourcePartitionKey());
+        record.put("partitionOwner", item.getPartitionOwner());
+        record.put("partitionProgressState", item.getPartitionProgressState());
+        record.put("sourcePartitionStatus", item.getSourcePartitionStatus().name());
+        record.put("partitionOwnershipTimeout", Objects.toString(item.getPartitionOwnershipTimeout(), null));
+        record.put("reOpenAt", Objects.toString(item.getReOpenAt(), null));
+        record.put("closedCount", item.getClosedCount());
+        record.put("version", item.getVersion());
+        record.put("partitionPriority", item.getPartitionPriority());
+        record.put("expirationTime", item.getExpirationTime());
+        return record;
+    }
+
+    private static Instant toInstant(final Object value) {
+        return Objects.isNull(value) ? null : Instant.parse((String) value);
+    }
+
+    private static Long toLong(final Object value) {
+        return Objects.isNull(value) ? null : ((Number) value).longValue();
+    }
+}
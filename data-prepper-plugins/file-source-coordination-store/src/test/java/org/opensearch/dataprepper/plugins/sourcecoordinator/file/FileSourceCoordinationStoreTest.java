@@ -0,0 +1,287 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sourcecoordinator.file;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.dataprepper.model.source.coordinator.SourcePartitionStatus;
+import org.opensearch.dataprepper.model.source.coordinator.SourcePartitionStoreItem;
+import org.opensearch.dataprepper.model.source.coordinator.exceptions.PartitionUpdateException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileSourceCoordinationStoreTest {
+
+    private static final Duration OWNERSHIP_TIMEOUT = Duration.ofMinutes(10);
+
+    @TempDir
+    Path directory;
+
+    private String sourceIdentifier;
+    private String ownerId;
+    private Integer compactionThreshold;
+    private Duration ttl;
+    private FileSourceCoordinationStore objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        sourceIdentifier = UUID.randomUUID() + "|PARTITION";
+        ownerId = UUID.randomUUID().toString();
+        compactionThreshold = null;
+        ttl = null;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (objectUnderTest != null) {
+            objectUnderTest.close();
+        }
+    }
+
+    private FileSourceCoordinationStore createObjectUnderTest() {
+        objectUnderTest = new FileSourceCoordinationStore(new FileStoreSettings(directory.toString(), true, compactionThreshold, ttl));
+        objectUnderTest.initializeStore();
+        return objectUnderTest;
+    }
+
+    private FileSourceCoordinationStore restart() {
+        objectUnderTest.close();
+        return createObjectUnderTest();
+    }
+
+    private void createPartitions(final String... partitionKeys) {
+        for (final String partitionKey : partitionKeys) {
+            assertThat(objectUnderTest.tryCreatePartitionItem(sourceIdentifier, partitionKey, SourcePartitionStatus.UNASSIGNED, 0L, null, false),
+                    equalTo(true));
+        }
+    }
+
+    private static List<String> keys(final List<SourcePartitionStoreItem> items) {
+        return items.stream().map(SourcePartitionStoreItem::getSourcePartitionKey).collect(Collectors.toList());
+    }
+
+    @Test
+    void methods_throw_IllegalStateException_before_initializeStore() {
+        final FileSourceCoordinationStore store = new FileSourceCoordinationStore(new FileStoreSettings(directory.toString(), null, null, null));
+
+        assertThrows(IllegalStateException.class, () -> store.getSourcePartitionItem(sourceIdentifier, "a"));
+    }
+
+    @Test
+    void tryCreatePartitionItem_returns_false_for_existing_partition() {
+        createObjectUnderTest();
+        createPartitions("a");
+
+        assertThat(objectUnderTest.tryCreatePartitionItem(sourceIdentifier, "a", SourcePartitionStatus.UNASSIGNED, 0L, null, false), equalTo(false));
+
+        final Optional<SourcePartitionStoreItem> item = objectUnderTest.getSourcePartitionItem(sourceIdentifier, "a");
+        assertThat(item.isPresent(), equalTo(true));
+        assertThat(item.get().getSourcePartitionStatus(), equalTo(SourcePartitionStatus.UNASSIGNED));
+        assertThat(item.get().getClosedCount(), equalTo(0L));
+    }
+
+    @Test
+    void tryAcquireAvailablePartition_acquires_unassigned_partitions_in_creation_order() {
+        createObjectUnderTest();
+        createPartitions("a", "b");
+
+        final Optional<SourcePartitionStoreItem> first = objectUnderTest.tryAcquireAvailablePartition(sourceIdentifier, ownerId, OWNERSHIP_TIMEOUT);
+        final Optional<SourcePartitionStoreItem> second = objectUnderTest.tryAcquireAvailablePartition(sourceIdentifier, ownerId, OWNERSHIP_TIMEOUT);
+        final Optional<SourcePartitionStoreItem> third = objectUnderTest.tryAcquireAvailablePartition(sourceIdentifier, ownerId, OWNERSHIP_TIMEOUT);
+
+        assertThat(first.get().getSourcePartitionKey(), equalTo("a"));
+        assertThat(first.get().getPartitionOwner(), equalTo(ownerId));
+        assertThat(first.get().getSourcePartitionStatus(), equalTo(SourcePartitionStatus.ASSIGNED));
+        assertThat(second.get().getSourcePartitionKey(), equalTo("b"));
+        assertThat(third.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void tryAcquireAvailablePartitions_prefers_expired_assigned_then_unassigned_then_reopened_closed_partitions() {
+        createObjectUnderTest();
+        createPartitions("expired", "unassigned", "closed", "future_closed", "owned");
+
+        final List<SourcePartitionStoreItem> acquired = objectUnderTest.tryAcquireAvailablePartitions(sourceIdentifier, ownerId, OWNERSHIP_TIMEOUT, 5);
+        for (final SourcePartitionStoreItem item : acquired) {
+            if (item.getSourcePartitionKey().equals("expired")) {
+                item.setPartitionOwnershipTimeout(Instant.now().minusSeconds(1));
+            } else if (item.getSourcePartitionKey().equals("unassigned")) {
+                item.setSourcePartitionStatus(SourcePartitionStatus.UNASSIGNED);
+                item.setPartitionOwner(null);
+            } else if (item.getSourcePartitionKey().equals("closed")) {
+                item.setSourcePartitionStatus(SourcePartitionStatus.CLOSED);
+                item.setReOpenAt(Instant.now().minusSeconds(1));
+            } else if (item.getSourcePartitionKey().equals("future_closed")) {
+                item.setSourcePartitionStatus(SourcePartitionStatus.CLOSED);
+                item.setReOpenAt(Instant.now().plusSeconds(600));
+            }
+            objectUnderTest.tryUpdateSourcePartitionItem(item);
+        }
+
+        final String otherOwner = UUID.randomUUID().toString();
+        final List<SourcePartitionStoreItem> result = objectUnderTest.tryAcquireAvailablePartitions(sourceIdentifier, otherOwner, OWNERSHIP_TIMEOUT, 5);
+
+        assertThat(keys(result), contains("expired", "unassigned", "closed"));
+        for (final SourcePartitionStoreItem item : result) {
+            assertThat(item.getPartitionOwner(), equalTo(otherOwner));
+            assertThat(item.getSourcePartitionStatus(), equalTo(SourcePartitionStatus.ASSIGNED));
+        }
+    }
+
+    @Test
+    void tryAcquireAvailablePartitions_stops_at_maxPartitions() {
+        createObjectUnderTest();
+        createPartitions("a", "b", "c");
+
+        assertThat(keys(objectUnderTest.tryAcquireAvailablePartitions(sourceIdentifier, ownerId, OWNERSHIP_TIMEOUT, 2)), contains("a", "b"));
+        assertThat(keys(objectUnderTest.tryAcquireAvailablePartitions(sourceIdentifier, ownerId, OWNERSHIP_TIMEOUT, 2)), contains("c"));
+    }
+
+    @Test
+    void tryUpdateSourcePartitionItem_throws_PartitionUpdateException_for_stale_version() {
+        createObjectUnderTest();
+        createPartitions("a");
+
+        final SourcePartitionStoreItem firstRead = objectUnderTest.getSourcePartitionItem(sourceIdentifier, "a").get();
+        final SourcePartitionStoreItem secondRead = objectUnderTest.getSourcePartitionItem(sourceIdentifier, "a").get();
+
+        firstRead.setPartitionProgressState("first");
+        objectUnderTest.tryUpdateSourcePartitionItem(firstRead);
+        firstRead.setPartitionProgressState("first-again");
+        objectUnderTest.tryUpdateSourcePartitionItem(firstRead);
+
+        secondRead.setPartitionProgressState("second");
+        assertThrows(PartitionUpdateException.class, () -> objectUnderTest.tryUpdateSourcePartitionItem(secondRead));
+
+        assertThat(objectUnderTest.getSourcePartitionItem(sourceIdentifier, "a").get().getPartitionProgressState(), equalTo("first-again"));
+    }
+
+    @Test
+    void returned_items_are_copies_of_the_stored_items() {
+        createObjectUnderTest();
+        createPartitions("a");
+
+        objectUnderTest.getSourcePartitionItem(sourceIdentifier, "a").get().setPartitionProgressState("changed");
+
+        assertThat(objectUnderTest.getSourcePartitionItem(sourceIdentifier, "a").get().getPartitionProgressState(), nullValue());
+    }
+
+    @Test
+    void querySourcePartitionItemsByStatus_returns_items_after_the_start_priority_in_priority_order() {
+        createObjectUnderTest();
+        createPartitions("a", "b", "c");
+        final Instant base = Instant.now();
+        for (final SourcePartitionStoreItem item : objectUnderTest.queryAllSourcePartitionItems(sourceIdentifier)) {
+            final int offset = item.getSourcePartitionKey().equals("a") ? 30 : item.getSourcePartitionKey().equals("b") ? 10 : 20;
+            objectUnderTest.tryUpdateSourcePartitionItem(item, base.plusSeconds(offset));
+        }
+
+        assertThat(keys(objectUnderTest.querySourcePartitionItemsByStatus(sourceIdentifier, SourcePartitionStatus.UNASSIGNED, base.toString())),
+                contains("b", "c", "a"));
+        assertThat(keys(objectUnderTest.querySourcePartitionItemsByStatus(sourceIdentifier, SourcePartitionStatus.UNASSIGNED, base.plusSeconds(10).toString())),
+                contains("c", "a"));
+        assertThat(objectUnderTest.querySourcePartitionItemsByStatus(sourceIdentifier, SourcePartitionStatus.CLOSED, base.toString()), empty());
+    }
+
+    @Test
+    void tryDeletePartitionItem_removes_the_partition() {
+        createObjectUnderTest();
+        createPartitions("a", "b");
+
+        objectUnderTest.tryDeletePartitionItem(objectUnderTest.getSourcePartitionItem(sourceIdentifier, "a").get());
+
+        assertThat(objectUnderTest.getSourcePartitionItem(sourceIdentifier, "a").isEmpty(), equalTo(true));
+        assertThat(keys(objectUnderTest.queryAllSourcePartitionItems(sourceIdentifier)), contains("b"));
+        assertThat(keys(restart().queryAllSourcePartitionItems(sourceIdentifier)), contains("b"));
+    }
+
+    @Test
+    void partitions_and_progress_are_recovered_after_restart() {
+        createObjectUnderTest();
+        createPartitions("a", "b", "c");
+        final SourcePartitionStoreItem acquired = objectUnderTest.tryAcquireAvailablePartition(sourceIdentifier, ownerId, OWNERSHIP_TIMEOUT).get();
+        acquired.setPartitionProgressState("{\"offset\":100}");
+        objectUnderTest.tryUpdateSourcePartitionItem(acquired);
+        final SourcePartitionStoreItem completed = objectUnderTest.tryAcquireAvailablePartition(sourceIdentifier, ownerId, OWNERSHIP_TIMEOUT).get();
+        completed.setSourcePartitionStatus(SourcePartitionStatus.COMPLETED);
+        objectUnderTest.tryUpdateSourcePartitionItem(completed);
+
+        restart();
+
+        final SourcePartitionStoreItem recovered = objectUnderTest.getSourcePartitionItem(sourceIdentifier, "a").get();
+        assertThat(recovered.getPartitionProgressState(), equalTo("{\"offset\":100}"));
+        assertThat(recovered.getPartitionOwner(), equalTo(ownerId));
+        assertThat(objectUnderTest.getSourcePartitionItem(sourceIdentifier, "b").get().getSourcePartitionStatus(), equalTo(SourcePartitionStatus.COMPLETED));
+        assertThat(keys(objectUnderTest.tryAcquireAvailablePartitions(sourceIdentifier, ownerId, OWNERSHIP_TIMEOUT, 5)), contains("c"));
+
+        recovered.setPartitionProgressState("{\"offset\":200}");
+        objectUnderTest.tryUpdateSourcePartitionItem(recovered);
+        assertThat(objectUnderTest.getSourcePartitionItem(sourceIdentifier, "a").get().getPartitionProgressState(), equalTo("{\"offset\":200}"));
+    }
+
+    @Test
+    void store_plugins_for_the_same_directory_share_partitions() {
+        createObjectUnderTest();
+        final FileSourceCoordinationStore otherStore = new FileSourceCoordinationStore(new FileStoreSettings(directory.toString(), null, null, null));
+        otherStore.initializeStore();
+
+        createPartitions("a");
+
+        assertThat(otherStore.getSourcePartitionItem(sourceIdentifier, "a").isPresent(), equalTo(true));
+    }
+
+    @Test
+    void log_is_compacted_after_compaction_threshold_superseded_records() throws IOException {
+        compactionThreshold = 5;
+        createObjectUnderTest();
+        createPartitions("a");
+        final SourcePartitionStoreItem item = objectUnderTest.getSourcePartitionItem(sourceIdentifier, "a").get();
+        final Path logFile = directory.resolve(PartitionLog.LOG_FILE_NAME);
+        final long singleRecordLength = Files.size(logFile);
+
+        for (int i = 0; i < 20; i++) {
+            item.setPartitionProgressState("state");
+            objectUnderTest.tryUpdateSourcePartitionItem(item);
+        }
+
+        assertThat(Files.size(logFile), lessThan(singleRecordLength * 6));
+        assertThat(restart().getSourcePartitionItem(sourceIdentifier, "a").get().getPartitionProgressState(), equalTo("state"));
+    }
+
+    @Test
+    void partitions_expire_after_ttl() throws InterruptedException {
+        ttl = Duration.ofSeconds(1);
+        createObjectUnderTest();
+        createPartitions("a");
+        assertThat(objectUnderTest.tryCreatePartitionItem(sourceIdentifier, "global", SourcePartitionStatus.UNASSIGNED, 0L, null, true), equalTo(true));
+
+        Thread.sleep(2_100);
+
+        assertThat(objectUnderTest.getSourcePartitionItem(sourceIdentifier, "a").isEmpty(), equalTo(true));
+        assertThat(keys(objectUnderTest.queryAllSourcePartitionItems(sourceIdentifier)), containsInAnyOrder("global"));
+        assertThat(objectUnderTest.tryAcquireAvailablePartitions(sourceIdentifier, ownerId, OWNERSHIP_TIMEOUT, 5), hasSize(1));
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sourcecoordinator.file;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.dataprepper.model.source.coordinator.SourcePartitionStatus;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class PartitionLogTest {
+
+    @TempDir
+    Path directory;
+
+    private PartitionLog partitionLog;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (partitionLog != null) {
+            partitionLog.close();
+        }
+    }
+
+    private PartitionLog createObjectUnderTest() {
+        partitionLog = new PartitionLog(directory, true);
+        return partitionLog;
+    }
+
+    private static FileSourcePartitionItem createItem(final String partitionKey, final long version) {
+        final FileSourcePartitionItem item = new FileSourcePartitionItem();
+        item.setSourceIdentifier("source|PARTITION");
+        item.setSourcePartitionKey(partitionKey);
+        item.setSourcePartitionStatus(SourcePartitionStatus.UNASSIGNED);
+        item.setVersion(version);
+        item.setPartitionPriority(Instant.now().toString());
+        return item;
+    }
+
+    private Map<String, FileSourcePartitionItem> replay() throws IOException {
+        partitionLog.close();
+        final Map<String, FileSourcePartitionItem> items = new LinkedHashMap<>();
+        createObjectUnderTest().open(new PartitionLog.RecordVisitor() {
+            @Override
+            public void put(final FileSourcePartitionItem item) {
+                items.put(item.getSourcePartitionKey(), item);
+            }
+
+            @Override
+            public void delete(final String sourceIdentifier, final String sourcePartitionKey) {
+                items.remove(sourcePartitionKey);
+            }
+        });
+        return items;
+    }
+
+    private static PartitionLog.RecordVisitor ignoringVisitor() {
+        return new PartitionLog.RecordVisitor() {
+            @Override
+            public void put(final FileSourcePartitionItem item) {
+            }
+
+            @Override
+            public void delete(final String sourceIdentifier, final String sourcePartitionKey) {
+            }
+        };
+    }
+
+    @Test
+    void open_on_empty_directory_returns_zero_records_and_creates_the_log() throws IOException {
+        assertThat(createObjectUnderTest().open(ignoringVisitor()), equalTo(0));
+        assertThat(Files.exists(directory.resolve(PartitionLog.LOG_FILE_NAME)), equalTo(true));
+    }
+
+    @Test
+    void replay_returns_all_fields_of_appended_items() throws IOException {
+        createObjectUnderTest().open(ignoringVisitor());
+        final Instant ownershipTimeout = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        final FileSourcePartitionItem item = createItem(UUID.randomUUID().toString(), 3L);
+        item.setSourcePartitionStatus(SourcePartitionStatus.CLOSED);
+        item.setPartitionOwner(UUID.randomUUID().toString());
+        item.setPartitionProgressState("{\"offset\":42}");
+        item.setPartitionOwnershipTimeout(ownershipTimeout);
+        item.setReOpenAt(ownershipTimeout.plusSeconds(60));
+        item.setClosedCount(2L);
+        item.setExpirationTime(1_900_000_000L);
+        partitionLog.appendPut(item);
+
+        final FileSourcePartitionItem result = replay().get(item.getSourcePartitionKey());
+
+        assertThat(result.getSourceIdentifier(), equalTo(item.getSourceIdentifier()));
+        assertThat(result.getSourcePartitionStatus(), equalTo(SourcePartitionStatus.CLOSED));
+        assertThat(result.getPartitionOwner(), equalTo(item.getPartitionOwner()));
+        assertThat(result.getPartitionProgressState(), equalTo(item.getPartitionProgressState()));
+        assertThat(result.getPartitionOwnershipTimeout(), equalTo(ownershipTimeout));
+        assertThat(result.getReOpenAt(), equalTo(item.getReOpenAt()));
+        assertThat(result.getClosedCount(), equalTo(2L));
+        assertThat(result.getVersion(), equalTo(3L));
+        assertThat(result.getPartitionPriority(), equalTo(item.getPartitionPriority()));
+        assertThat(result.getExpirationTime(), equalTo(1_900_000_000L));
+    }
+
+    @Test
+    void replay_applies_records_in_order() throws IOException {
+        createObjectUnderTest().open(ignoringVisitor());
+        final FileSourcePartitionItem first = createItem("a", 0L);
+        final FileSourcePartitionItem second = createItem("b", 0L);
+        partitionLog.appendPut(first);
+        partitionLog.appendPut(second);
+        partitionLog.appendPut(createItem("a", 1L));
+        partitionLog.appendDelete(second);
+
+        final Map<String, FileSourcePartitionItem> items = replay();
+
+        assertThat(new ArrayList<>(items.keySet()), contains("a"));
+        assertThat(items.get("a").getVersion(), equalTo(1L));
+    }
+
+    @Test
+    void open_truncates_partially_written_record() throws IOException {
+        createObjectUnderTest().open(ignoringVisitor());
+        partitionLog.appendPut(createItem("a", 0L));
+        partitionLog.appendPut(createItem("b", 0L));
+        partitionLog.close();
+
+        final Path logFile = directory.resolve(PartitionLog.LOG_FILE_NAME);
+        final long completeLength = Files.size(logFile);
+        try (final FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            channel.truncate(completeLength - 5);
+        }
+
+        final Map<String, FileSourcePartitionItem> items = replay();
+        assertThat(new ArrayList<>(items.keySet()), contains("a"));
+
+        partitionLog.appendPut(createItem("c", 0L));
+        assertThat(new ArrayList<>(replay().keySet()), contains("a", "c"));
+    }
+
+    @Test
+    void open_drops_record_with_invalid_checksum() throws IOException {
+        createObjectUnderTest().open(ignoringVisitor());
+        partitionLog.appendPut(createItem("a", 0L));
+        partitionLog.close();
+
+        final Path logFile = directory.resolve(PartitionLog.LOG_FILE_NAME);
+        final byte[] bytes = Files.readAllBytes(logFile);
+        bytes[bytes.length - 2] ^= 0x7f;
+        Files.write(logFile, bytes);
+
+        assertThat(replay().isEmpty(), equalTo(true));
+        assertThat(Files.size(logFile), equalTo(0L));
+    }
+
+    @Test
+    void compact_replaces_log_with_live_items_and_keeps_appending() throws IOException {
+        createObjectUnderTest().open(ignoringVisitor());
+        for (int i = 0; i < 10; i++) {
+            partitionLog.appendPut(createItem("a", i));
+        }
+        final long lengthBeforeCompaction = Files.size(directory.resolve(PartitionLog.LOG_FILE_NAME));
+
+        partitionLog.compact(List.of(createItem("a", 9L)));
+        partitionLog.appendPut(createItem("b", 0L));
+
+        assertThat(Files.size(directory.resolve(PartitionLog.LOG_FILE_NAME)) < lengthBeforeCompaction, equalTo(true));
+        assertThat(Files.exists(directory.resolve(PartitionLog.COMPACTION_FILE_NAME)), equalTo(false));
+
+        final Map<String, FileSourcePartitionItem> items = replay();
+        assertThat(new ArrayList<>(items.keySet()), contains("a", "b"));
+        assertThat(items.get("a").getVersion(), equalTo(9L));
+    }
+
+    @Test
+    void open_removes_unfinished_compaction_file() throws IOException {
+        createObjectUnderTest().open(ignoringVisitor());
+        partitionLog.appendPut(createItem("a", 0L));
+        Files.write(directory.resolve(PartitionLog.COMPACTION_FILE_NAME), new byte[]{1, 2, 3});
+
+        final Map<String, FileSourcePartitionItem> items = replay();
+
+        assertThat(new ArrayList<>(items.keySet()), contains("a"));
+        assertThat(Files.exists(directory.resolve(PartitionLog.COMPACTION_FILE_NAME)), equalTo(false));
+        assertThat(items.get("a").getPartitionOwner(), nullValue());
+    }
+}
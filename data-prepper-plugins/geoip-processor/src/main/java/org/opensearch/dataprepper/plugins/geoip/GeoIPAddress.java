@@ -0,0 +1,262 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.geoip;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * An IP address held as its 4-byte IPv4 or 16-byte IPv6 binary form. It is parsed from text without creating an
+ * {@link InetAddress}, and its equality and hash code are those of the bytes, which makes it a compact cache key.
+ * IPv4-mapped IPv6 addresses are held as their IPv4 address, as {@link InetAddress} does.
+ *
+ * @since 2.17
+ */
+public final class GeoIPAddress {
+    private static final int IPV4_LENGTH = 4;
+    private static final int IPV6_LENGTH = 16;
+    private static final int IPV6_GROUPS = 8;
+    private static final int MAX_GROUP_DIGITS = 4;
+    private static final int MAX_OCTET_DIGITS = 3;
+
+    private final byte[] address;
+    private final int hashCode;
+
+    private GeoIPAddress(final byte[] address) {
+        this.address = address;
+        this.hashCode = Arrays.hashCode(address);
+    }
+
+    /**
+     * Parses an IPv4 address in dotted-quad form or an IPv6 address, including the forms with a {@code ::} and with
+     * a trailing dotted quad. A scope ID after {@code %} in an IPv6 address is ignored rather than looked up among the
+     * network interfaces. Only ASCII digits are accepted. Host names are not resolved.
+     *
+     * @param ipAddress The textual IP address
+     * @return The address, or empty if the text is not an IP address
+     */
+    public static Optional<GeoIPAddress> parse(final String ipAddress) {
+        if (ipAddress == null || ipAddress.isEmpty()) {
+            return Optional.empty();
+        }
+        final byte[] bytes;
+        if (ipAddress.indexOf(':') >= 0) {
+            bytes = parseIPv6(ipAddress);
+        } else {
+            bytes = new byte[IPV4_LENGTH];
+            if (!parseIPv4(ipAddress, 0, ipAddress.length(), bytes, 0)) {
+                return Optional.empty();
+            }
+        }
+        return bytes == null ? Optional.empty() : Optional.of(new GeoIPAddress(bytes));
+    }
+
+    /**
+     * @param inetAddress An IPv4 or IPv6 address
+     * @return The address holding the bytes of the given address
+     */
+    public static GeoIPAddress fromInetAddress(final InetAddress inetAddress) {
+        return new GeoIPAddress(normalize(inetAddress.getAddress()));
+    }
+
+    /**
+     * @return true if this is an IPv4 address
+     */
+    public boolean isIPv4() {
+        return address.length == IPV4_LENGTH;
+    }
+
+    /**
+     * @return true if this is a site local address, as {@link InetAddress#isSiteLocalAddress()} defines it
+     */
+    public boolean isSiteLocalAddress() {
+        if (isIPv4()) {
+            final int first = address[0] & 0xFF;
+            final int second = address[1] & 0xFF;
+            return first == 10 || (first == 172 && (second & 0xF0) == 16) || (first == 192 && second == 168);
+        }
+        return (address[0] & 0xFF) == 0xFE && (address[1] & 0xC0) == 0xC0;
+    }
+
+    /**
+     * @return true if this is a loopback address, as {@link InetAddress#isLoopbackAddress()} defines it
+     */
+    public boolean isLoopbackAddress() {
+        if (isIPv4()) {
+            return address[0] == 127;
+        }
+        for (int i = 0; i < IPV6_LENGTH - 1; i++) {
+            if (address[i] != 0) {
+                return false;
+            }
+        }
+        return address[IPV6_LENGTH - 1] == 1;
+    }
+
+    /**
+     * Creates the {@link InetAddress} of this address. This does not resolve a host name.
+     *
+     * @return The {@link InetAddress}
+     */
+    public InetAddress toInetAddress() {
+        try {
+            return InetAddress.getByAddress(address);
+        } catch (final UnknownHostException e) {
+            throw new IllegalStateException("An address of " + address.length + " bytes is not an IP address.", e);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final GeoIPAddress that = (GeoIPAddress) o;
+        return hashCode == that.hashCode && Arrays.equals(address, that.address);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toInetAddress().getHostAddress();
+    }
+
+    private static boolean parseIPv4(final String ipAddress, final int start, final int end, final byte[] bytes, final int offset) {
+        int octets = 0;
+        int value = 0;
+        int digits = 0;
+        for (int i = start; i <= end; i++) {
+            if (i == end || ipAddress.charAt(i) == '.') {
+                if (digits == 0 || octets == IPV4_LENGTH) {
+                    return false;
+                }
+                bytes[offset + octets++] = (byte) value;
+                value = 0;
+                digits = 0;
+            } else {
+                final char c = ipAddress.charAt(i);
+                // Leading zeros are rejected, since they are read as octal by some parsers.
+                if (c < '0' || c > '9' || (digits > 0 && value == 0)) {
+                    return false;
+                }
+                value = value * 10 + (c - '0');
+                if (++digits > MAX_OCTET_DIGITS || value > 255) {
+                    return false;
+                }
+            }
+        }
+        return octets == IPV4_LENGTH;
+    }
+
+    private static byte[] parseIPv6(final String ipAddress) {
+        final int scopeIndex = ipAddress.indexOf('%');
+        final int end = scopeIndex >= 0 ? scopeIndex : ipAddress.length();
+
+        final byte[] bytes = new byte[IPV6_LENGTH];
+        final int[] groups = new int[IPV6_GROUPS];
+        int groupsEnd = end;
+        int maxGroups = IPV6_GROUPS;
+        final int lastColon = ipAddress.lastIndexOf(':', end - 1);
+        final int dot = ipAddress.indexOf('.', lastColon + 1);
+        if (dot >= 0 && dot < end) {
+            if (!parseIPv4(ipAddress, lastColon + 1, end, bytes, IPV6_LENGTH - IPV4_LENGTH)) {
+                return null;
+            }
+            maxGroups = IPV6_GROUPS - 2;
+            // Keep the colon before the dotted quad only when it is part of a "::".
+            groupsEnd = lastColon > 0 && ipAddress.charAt(lastColon - 1) == ':' ? lastColon + 1 : lastColon;
+        }
+
+        final int doubleColon = ipAddress.indexOf("::");
+        final int groupCount;
+        if (doubleColon >= 0 && doubleColon < groupsEnd) {
+            final int secondDoubleColon = ipAddress.indexOf("::", doubleColon + 1);
+            if (secondDoubleColon >= 0 && secondDoubleColon < groupsEnd) {
+                return null;
+            }
+            final int headCount = parseGroups(ipAddress, 0, doubleColon, groups, 0, maxGroups);
+            if (headCount < 0) {
+                return null;
+            }
+            final int tailCount = parseGroups(ipAddress, doubleColon + 2, groupsEnd, groups, headCount, maxGroups);
+            if (tailCount < 0 || headCount + tailCount >= maxGroups) {
+                return null;
+            }
+            System.arraycopy(groups, headCount, groups, maxGroups - tailCount, tailCount);
+            Arrays.fill(groups, headCount, maxGroups - tailCount, 0);
+            groupCount = maxGroups;
+        } else {
+            groupCount = parseGroups(ipAddress, 0, groupsEnd, groups, 0, maxGroups);
+            if (groupCount != maxGroups) {
+                return null;
+            }
+        }
+
+        for (int i = 0; i < groupCount; i++) {
+            bytes[2 * i] = (byte) (groups[i] >>> 8);
+            bytes[2 * i + 1] = (byte) groups[i];
+        }
+        return normalize(bytes);
+    }
+
+    private static int parseGroups(final String ipAddress, final int start, final int end, final int[] groups,
+                                   final int offset, final int maxGroups) {
+        if (start == end) {
+            return 0;
+        }
+        int count = 0;
+        int value = 0;
+        int digits = 0;
+        for (int i = start; i <= end; i++) {
+            if (i == end || ipAddress.charAt(i) == ':') {
+                if (digits == 0 || offset + count >= maxGroups) {
+                    return -1;
+                }
+                groups[offset + count++] = value;
+                value = 0;
+                digits = 0;
+            } else {
+                final int digit = hexDigit(ipAddress.charAt(i));
+                if (digit < 0 || ++digits > MAX_GROUP_DIGITS) {
+                    return -1;
+                }
+                value = (value << 4) | digit;
+            }
+        }
+        return count;
+    }
+
+    private static int hexDigit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static byte[] normalize(final byte[] bytes) {
+        if (bytes.length != IPV6_LENGTH) {
+            return bytes;
+        }
+        for (int i = 0; i < 10; i++) {
+            if (bytes[i] != 0) {
+                return bytes;
+            }
+        }
+        if (bytes[10] != (byte) 0xFF || bytes[11] != (byte) 0xFF) {
+            return bytes;
+        }
+        return Arrays.copyOfRange(bytes, IPV6_LENGTH - IPV4_LENGTH, IPV6_LENGTH);
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.geoip.extension;
 
+import org.opensearch.dataprepper.plugins.geoip.GeoIPAddress;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPDatabase;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
 import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPDatabaseReader;
@@ -33,6 +34,13 @@ class AutoCountingDatabaseReader implements GeoIPDatabaseReader {
         return delegateDatabaseReader.getGeoData(inetAddress, fields, geoIPDatabases);
     }
 
+    @Override
+    public Map<String, Object> getGeoData(final GeoIPAddress address,
+                                          final Collection<GeoIPField> fields,
+                                          final Collection<GeoIPDatabase> geoIPDatabases) {
+        return delegateDatabaseReader.getGeoData(address, fields, geoIPDatabases);
+    }
+
     @Override
     public boolean isExpired() {
         return delegateDatabaseReader.isExpired();
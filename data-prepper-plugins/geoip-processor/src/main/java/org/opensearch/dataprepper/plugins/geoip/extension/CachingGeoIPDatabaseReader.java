@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.geoip.extension;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPAddress;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPDatabase;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
+import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPDatabaseReader;
+
+import java.net.InetAddress;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link GeoIPDatabaseReader} which caches the geo data of its delegate in a size-bounded cache keyed by the
+ * binary address. The {@link GeoIPDatabaseManager} creates one with each set of database readers, so every geoip
+ * processor and worker shares it, and it is discarded along with the readers when the databases are replaced.
+ */
+class CachingGeoIPDatabaseReader implements GeoIPDatabaseReader {
+    private final GeoIPDatabaseReader delegateDatabaseReader;
+    private final Cache<GeoDataKey, Map<String, Object>> geoDataCache;
+
+    CachingGeoIPDatabaseReader(final GeoIPDatabaseReader delegateDatabaseReader, final long maximumSize) {
+        this.delegateDatabaseReader = delegateDatabaseReader;
+        this.geoDataCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public Map<String, Object> getGeoData(final InetAddress inetAddress,
+                                          final Collection<GeoIPField> fields,
+                                          final Collection<GeoIPDatabase> geoIPDatabases) {
+        return getGeoData(GeoIPAddress.fromInetAddress(inetAddress), fields, geoIPDatabases);
+    }
+
+    @Override
+    public Map<String, Object> getGeoData(final GeoIPAddress address,
+                                          final Collection<GeoIPField> fields,
+                                          final Collection<GeoIPDatabase> geoIPDatabases) {
+        // Lookup failures are thrown from the loader, so they are not cached.
+        return geoDataCache.get(new GeoDataKey(address, fields, geoIPDatabases),
+                key -> Collections.unmodifiableMap(delegateDatabaseReader.getGeoData(address, fields, geoIPDatabases)));
+    }
+
+    @Override
+    public boolean isExpired() {
+        return delegateDatabaseReader.isExpired();
+    }
+
+    @Override
+    public void retain() {
+        delegateDatabaseReader.retain();
+    }
+
+    @Override
+    public void close() throws Exception {
+        delegateDatabaseReader.close();
+    }
+
+    long estimatedSize() {
+        return geoDataCache.estimatedSize();
+    }
+
+    private static class GeoDataKey {
+        private final GeoIPAddress address;
+        private final Collection<GeoIPField> fields;
+        private final Collection<GeoIPDatabase> geoIPDatabases;
+        private final int hashCode;
+
+        private GeoDataKey(final GeoIPAddress address, final Collection<GeoIPField> fields, final Collection<GeoIPDatabase> geoIPDatabases) {
+            this.address = address;
+            this.fields = fields;
+            this.geoIPDatabases = geoIPDatabases;
+            this.hashCode = Objects.hash(address, fields, geoIPDatabases);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final GeoDataKey that = (GeoDataKey) o;
+            return hashCode == that.hashCode && address.equals(that.address)
+                    && Objects.equals(fields, that.fields) && Objects.equals(geoIPDatabases, that.geoIPDatabases);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -42,6 +42,7 @@ class GeoIPDatabaseManager {
     private final MaxMindDatabaseConfig maxMindDatabaseConfig;
     private final WriteLock writeLock;
     private final int cacheSize;
+    private final int lookupCacheSize;
     private final GeoIPFileManager geoIPFileManager;
     private final AtomicInteger failedAttemptCount;
     private final Backoff backoff;
@@ -64,6 +65,7 @@ class GeoIPDatabaseManager {
         this.maxMindDatabaseConfig = maxMindConfig.getMaxMindDatabaseConfig();
         this.writeLock = writeLock;
         this.cacheSize = maxMindConfig.getCacheSize();
+        this.lookupCacheSize = maxMindConfig.getLookupCacheSize();
         this.failedAttemptCount = new AtomicInteger(0);
         this.backoff = Backoff.exponential(INITIAL_DELAY, MAXIMUM_DELAY)
                 .withJitter(JITTER_RATE)
@@ -164,6 +166,10 @@ class GeoIPDatabaseManager {
         } else {
             throw new NoValidDatabaseFoundException("No valid database found to initialize database readers.");
         }
+        if (lookupCacheSize > 0) {
+            // The lookup cache belongs to the readers, so switching the databases also replaces the cached lookups.
+            newGeoIPDatabaseReader = new CachingGeoIPDatabaseReader(newGeoIPDatabaseReader, lookupCacheSize);
+        }
         return newGeoIPDatabaseReader;
     }
 
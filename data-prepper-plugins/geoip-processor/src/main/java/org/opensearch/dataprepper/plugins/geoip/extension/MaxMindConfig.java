@@ -25,6 +25,7 @@ public class MaxMindConfig {
     private static final String S3_PREFIX = "s3://";
     private static final Duration DEFAULT_DATABASE_REFRESH_INTERVAL = Duration.ofDays(7);
     private static final int DEFAULT_CACHE_COUNT = 4096;
+    private static final int DEFAULT_LOOKUP_CACHE_COUNT = 16_384;
 
     @Valid
     @JsonProperty("databases")
@@ -40,6 +41,11 @@ public class MaxMindConfig {
     @Max(100_000)
     private int cacheSize = DEFAULT_CACHE_COUNT;
 
+    @JsonProperty("lookup_cache_count")
+    @Min(0)
+    @Max(1_000_000)
+    private int lookupCacheSize = DEFAULT_LOOKUP_CACHE_COUNT;
+
     @Valid
     @JsonProperty("aws")
     private AwsAuthenticationOptionsConfig awsAuthenticationOptionsConfig;
@@ -110,6 +116,17 @@ public class MaxMindConfig {
         return cacheSize;
     }
 
+    /**
+     * Gets the number of IP address lookups cached by the database readers shared by all geoip processors.
+     * A size of 0 disables the cache.
+     *
+     * @return The lookup cache size
+     * @since 2.17
+     */
+    public int getLookupCacheSize() {
+        return lookupCacheSize;
+    }
+
     /**
      * Gets the AWS authentication config used for reading from S3 bucket
      *
@@ -13,6 +13,7 @@ import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Postal;
 import com.maxmind.geoip2.record.RepresentedCountry;
 import com.maxmind.geoip2.record.Subdivision;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPAddress;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPDatabase;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
 
@@ -46,6 +47,20 @@ public interface GeoIPDatabaseReader extends AutoCloseable {
      */
     Map<String, Object> getGeoData(InetAddress inetAddress, Collection<GeoIPField> fields, Collection<GeoIPDatabase> geoIPDatabases);
 
+    /**
+     * Gets the geo data for an address in its binary form. Readers which cache lookups key them by the address.
+     *
+     * @param address address
+     * @param fields fields
+     * @param geoIPDatabases geo ip databases
+     * @return Map of geo field and value pairs from IP address
+     *
+     * @since 2.17
+     */
+    default Map<String, Object> getGeoData(final GeoIPAddress address, final Collection<GeoIPField> fields, final Collection<GeoIPDatabase> geoIPDatabases) {
+        return getGeoData(address.toInetAddress(), fields, geoIPDatabases);
+    }
+
     /**
      * Gets if the database is expired from metadata or last updated timestamp
      *
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.geoip.processor;
 
+import org.opensearch.dataprepper.plugins.geoip.GeoIPAddress;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPDatabase;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
 import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPDatabaseReader;
@@ -39,6 +40,12 @@ class BatchGeoIPDatabaseReader implements GeoIPDatabaseReader {
         return geoDataCache.computeIfAbsent(geoDataInput, unused -> delegate.getGeoData(inetAddress, fields, geoIPDatabases));
     }
 
+    @Override
+    public Map<String, Object> getGeoData(final GeoIPAddress address, final Collection<GeoIPField> fields, final Collection<GeoIPDatabase> geoIPDatabases) {
+        final GeoDataInput geoDataInput = new GeoDataInput(address, fields, geoIPDatabases);
+        return geoDataCache.computeIfAbsent(geoDataInput, unused -> delegate.getGeoData(address, fields, geoIPDatabases));
+    }
+
     @Override
     public boolean isExpired() {
         if(isExpired == null) {
@@ -58,12 +65,13 @@ class BatchGeoIPDatabaseReader implements GeoIPDatabaseReader {
     }
 
     private static class GeoDataInput {
-        final InetAddress inetAddress;
+        // Either an InetAddress or a GeoIPAddress
+        final Object address;
         final Collection<GeoIPField> fields;
         final Collection<GeoIPDatabase> geoIPDatabases;
 
-        private GeoDataInput(InetAddress inetAddress, Collection<GeoIPField> fields, Collection<GeoIPDatabase> geoIPDatabases) {
-            this.inetAddress = inetAddress;
+        private GeoDataInput(Object address, Collection<GeoIPField> fields, Collection<GeoIPDatabase> geoIPDatabases) {
+            this.address = address;
             this.fields = fields;
             this.geoIPDatabases = geoIPDatabases;
         }
@@ -73,12 +81,12 @@ class BatchGeoIPDatabaseReader implements GeoIPDatabaseReader {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             final GeoDataInput that = (GeoDataInput) o;
-            return Objects.equals(inetAddress, that.inetAddress) && Objects.equals(fields, that.fields) && Objects.equals(geoIPDatabases, that.geoIPDatabases);
+            return Objects.equals(address, that.address) && Objects.equals(fields, that.fields) && Objects.equals(geoIPDatabases, that.geoIPDatabases);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(inetAddress, fields, geoIPDatabases);
+            return Objects.hash(address, fields, geoIPDatabases);
         }
     }
 }
@@ -17,6 +17,7 @@ import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationExcepti
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPAddress;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPDatabase;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
 import org.opensearch.dataprepper.plugins.geoip.exception.EngineFailureException;
@@ -27,7 +28,6 @@ import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIpConfigSupplie
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.net.InetAddress;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -148,9 +148,9 @@ public class GeoIPProcessor extends AbstractProcessor<Record<Event>, Record<Even
         //Lookup from DB
         if (ipAddress != null && !ipAddress.isEmpty()) {
           try {
-            final Optional<InetAddress> optionalInetAddress = GeoInetAddress.usableInetFromString(ipAddress, geoIPProcessorConfig.getLookupPrivateAddresses());
-            if (optionalInetAddress.isPresent()) {
-                geoData = geoIPDatabaseReader.getGeoData(optionalInetAddress.get(), fields, databases);
+            final Optional<GeoIPAddress> optionalAddress = GeoInetAddress.usableAddressFromString(ipAddress, geoIPProcessorConfig.getLookupPrivateAddresses());
+            if (optionalAddress.isPresent()) {
+                geoData = geoIPDatabaseReader.getGeoData(optionalAddress.get(), fields, databases);
                 if (geoData.isEmpty()) {
                   ipNotFound = true;
                   eventSucceeded = false;
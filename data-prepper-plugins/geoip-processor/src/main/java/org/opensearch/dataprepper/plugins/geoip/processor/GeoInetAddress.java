@@ -5,11 +5,8 @@
 
 package org.opensearch.dataprepper.plugins.geoip.processor;
 
-import com.google.common.net.InetAddresses;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPAddress;
 
-import java.net.Inet4Address;
-import java.net.Inet6Address;
-import java.net.InetAddress;
 import java.util.Optional;
 
 /**
@@ -18,26 +15,20 @@ import java.util.Optional;
  */
 class GeoInetAddress {
 
-    static Optional<InetAddress> usableInetFromString(final String ipAddress) {
-        return usableInetFromString(ipAddress, false);
+    static Optional<GeoIPAddress> usableAddressFromString(final String ipAddress) {
+        return usableAddressFromString(ipAddress, false);
     }
 
-    static Optional<InetAddress> usableInetFromString(final String ipAddress, final boolean lookupPrivateAddresses) {
-        final InetAddress address;
-        try {
-            address = InetAddresses.forString(ipAddress);
-        } catch (final IllegalArgumentException e) {
+    static Optional<GeoIPAddress> usableAddressFromString(final String ipAddress, final boolean lookupPrivateAddresses) {
+        final Optional<GeoIPAddress> address = GeoIPAddress.parse(ipAddress);
+        if (address.isEmpty())
             return Optional.empty();
-        }
-        if (isPublicIpAddress(address) || lookupPrivateAddresses)
-            return Optional.of(address);
+        if (isPublicIpAddress(address.get()) || lookupPrivateAddresses)
+            return address;
         return Optional.empty();
     }
 
-    private static boolean isPublicIpAddress(final InetAddress ipAddress) {
-        if (ipAddress instanceof Inet6Address || ipAddress instanceof Inet4Address) {
-            return !ipAddress.isSiteLocalAddress() && !ipAddress.isLoopbackAddress();
-        }
-        return false;
+    private static boolean isPublicIpAddress(final GeoIPAddress ipAddress) {
+        return !ipAddress.isSiteLocalAddress() && !ipAddress.isLoopbackAddress();
     }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.geoip;
+
+import com.google.common.net.InetAddresses;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.net.InetAddress;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GeoIPAddressTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0.0.0.0", "93.184.216.34", "255.255.255.255", "::", "::1", "1::", "2607:f8b0:4005:805::200e",
+            "2001:DB8:0:0:0:0:0:1", "1:2:3:4:5:6:7:8", "1::8", "::ffff:0:1.2.3.4", "64:ff9b::192.0.2.33", "::ffff:10.0.0.1"})
+    void parse_returns_the_address_of_InetAddresses(final String ipAddress) {
+        final Optional<GeoIPAddress> actual = GeoIPAddress.parse(ipAddress);
+
+        assertThat(actual.isPresent(), equalTo(true));
+        final InetAddress expected = InetAddresses.forString(ipAddress);
+        assertThat(actual.get().toInetAddress(), equalTo(expected));
+        assertThat(actual.get(), equalTo(GeoIPAddress.fromInetAddress(expected)));
+        assertThat(actual.get().isSiteLocalAddress(), equalTo(expected.isSiteLocalAddress()));
+        assertThat(actual.get().isLoopbackAddress(), equalTo(expected.isLoopbackAddress()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "123", "255.255.255.999", "1.2.3", "1.2.3.4.5", "01.2.3.4", "1..2.3", "true", "[1,2,3]",
+            "::1::", "1:2:3:4:5:6:7:8:9", "1:2:3:4:5:6:7::8", "12345::", ":1::", "1:2:3:4:5:6:1.2.3.4:5", "1.2.3.4::",
+            "g::1", "example.org"})
+    void parse_returns_empty_for_invalid_addresses(final String ipAddress) {
+        assertThat(GeoIPAddress.parse(ipAddress).isPresent(), equalTo(false));
+    }
+
+    @Test
+    void parse_returns_empty_for_null() {
+        assertThat(GeoIPAddress.parse(null).isPresent(), equalTo(false));
+    }
+
+    @Test
+    void parse_ignores_the_scope_of_an_IPv6_address() {
+        assertThat(GeoIPAddress.parse("fe80::1%eth0"), equalTo(GeoIPAddress.parse("fe80::1")));
+    }
+
+    @Test
+    void IPv4_mapped_addresses_equal_their_IPv4_address() {
+        final GeoIPAddress mapped = GeoIPAddress.parse("::ffff:93.184.216.34").get();
+        final GeoIPAddress ipv4 = GeoIPAddress.parse("93.184.216.34").get();
+
+        assertThat(mapped.isIPv4(), equalTo(true));
+        assertThat(mapped, equalTo(ipv4));
+        assertThat(mapped.hashCode(), equalTo(ipv4.hashCode()));
+    }
+
+    @Test
+    void equivalent_text_forms_are_equal() {
+        final GeoIPAddress address = GeoIPAddress.parse("2001:db8::1").get();
+
+        assertThat(GeoIPAddress.parse("2001:0DB8:0000:0000:0000:0000:0000:0001").get(), equalTo(address));
+        assertThat(GeoIPAddress.parse("2001:db8::2").get(), not(equalTo(address)));
+        assertThat(address.toString(), equalTo("2001:db8:0:0:0:0:0:1"));
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPAddress;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPDatabase;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
 import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPDatabaseReader;
@@ -67,6 +68,18 @@ class AutoCountingDatabaseReaderTest {
         verify(geoLite2DatabaseReader).getGeoData(inetAddress, fields, databases);
     }
 
+    @Test
+    void test_getGeoData_with_GeoIPAddress_should_call_delegate_reader_getGeoData() {
+        final GeoIPDatabaseReader objectUnderTest = createObjectUnderTest();
+
+        final GeoIPAddress address = GeoIPAddress.parse("93.184.216.34").get();
+        final Set<GeoIPDatabase> databases = Set.of(GeoIPDatabase.ASN);
+        final List<GeoIPField> fields = List.of(ASN, ASN_ORGANIZATION, NETWORK, IP);
+        objectUnderTest.getGeoData(address, fields, databases);
+
+        verify(geoLite2DatabaseReader).getGeoData(address, fields, databases);
+    }
+
     @Test
     void test_isExpired_should_call_delegate_reader_isExpired() {
         final GeoIPDatabaseReader objectUnderTest = createObjectUnderTest();
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.geoip.extension;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPAddress;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPDatabase;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
+import org.opensearch.dataprepper.plugins.geoip.exception.EnrichFailedException;
+import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPDatabaseReader;
+
+import java.net.InetAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.plugins.geoip.GeoIPField.ASN;
+import static org.opensearch.dataprepper.plugins.geoip.GeoIPField.CONTINENT_NAME;
+
+@ExtendWith(MockitoExtension.class)
+class CachingGeoIPDatabaseReaderTest {
+    private static final Set<GeoIPDatabase> DATABASES = Set.of(GeoIPDatabase.ASN, GeoIPDatabase.COUNTRY);
+
+    @Mock
+    private GeoIPDatabaseReader geoIPDatabaseReader;
+
+    private CachingGeoIPDatabaseReader createObjectUnderTest() {
+        return new CachingGeoIPDatabaseReader(geoIPDatabaseReader, 100);
+    }
+
+    @Test
+    void getGeoData_looks_up_an_address_once_for_any_of_its_text_forms() {
+        final List<GeoIPField> fields = List.of(ASN);
+        final Map<String, Object> geoData = Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        when(geoIPDatabaseReader.getGeoData(any(GeoIPAddress.class), any(), any())).thenReturn(geoData);
+
+        final CachingGeoIPDatabaseReader objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.getGeoData(GeoIPAddress.parse("2001:db8::1").get(), fields, DATABASES), equalTo(geoData));
+        assertThat(objectUnderTest.getGeoData(GeoIPAddress.parse("2001:0db8:0:0:0:0:0:1").get(), fields, DATABASES), equalTo(geoData));
+        assertThat(objectUnderTest.getGeoData(GeoIPAddress.parse("2001:db8::1").get().toInetAddress(), fields, DATABASES), equalTo(geoData));
+
+        verify(geoIPDatabaseReader, times(1)).getGeoData(any(GeoIPAddress.class), any(), any());
+        assertThat(objectUnderTest.estimatedSize(), equalTo(1L));
+    }
+
+    @Test
+    void getGeoData_caches_for_address_fields_and_databases() {
+        final GeoIPAddress address = GeoIPAddress.parse("93.184.216.34").get();
+        final Map<String, Object> geoData = Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        when(geoIPDatabaseReader.getGeoData(any(GeoIPAddress.class), any(), any())).thenReturn(geoData);
+
+        final CachingGeoIPDatabaseReader objectUnderTest = createObjectUnderTest();
+        objectUnderTest.getGeoData(address, List.of(ASN), DATABASES);
+        objectUnderTest.getGeoData(GeoIPAddress.parse("93.184.216.35").get(), List.of(ASN), DATABASES);
+        objectUnderTest.getGeoData(address, List.of(CONTINENT_NAME), DATABASES);
+        objectUnderTest.getGeoData(address, List.of(ASN), Set.of(GeoIPDatabase.ASN));
+        objectUnderTest.getGeoData(address, List.of(ASN), DATABASES);
+
+        verify(geoIPDatabaseReader, times(4)).getGeoData(any(GeoIPAddress.class), any(), any());
+    }
+
+    @Test
+    void getGeoData_does_not_cache_failed_lookups() {
+        final GeoIPAddress address = GeoIPAddress.parse("93.184.216.34").get();
+        when(geoIPDatabaseReader.getGeoData(any(GeoIPAddress.class), any(), any())).thenThrow(EnrichFailedException.class);
+
+        final CachingGeoIPDatabaseReader objectUnderTest = createObjectUnderTest();
+        assertThrows(EnrichFailedException.class, () -> objectUnderTest.getGeoData(address, List.of(ASN), DATABASES));
+        assertThrows(EnrichFailedException.class, () -> objectUnderTest.getGeoData(address, List.of(ASN), DATABASES));
+
+        verify(geoIPDatabaseReader, times(2)).getGeoData(any(GeoIPAddress.class), any(), any());
+    }
+
+    @Test
+    void getGeoData_returns_an_unmodifiable_map() {
+        final InetAddress inetAddress = GeoIPAddress.parse("93.184.216.34").get().toInetAddress();
+        when(geoIPDatabaseReader.getGeoData(any(GeoIPAddress.class), any(), any())).thenReturn(new HashMap<>());
+
+        final Map<String, Object> geoData = createObjectUnderTest().getGeoData(inetAddress, List.of(ASN), DATABASES);
+
+        assertThrows(UnsupportedOperationException.class, () -> geoData.put("key", "value"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void isExpired_returns_inner_isExpired(final boolean isExpired) {
+        when(geoIPDatabaseReader.isExpired()).thenReturn(isExpired);
+
+        assertThat(createObjectUnderTest().isExpired(), equalTo(isExpired));
+    }
+
+    @Test
+    void retain_calls_inner_retain() {
+        createObjectUnderTest().retain();
+
+        verify(geoIPDatabaseReader).retain();
+    }
+
+    @Test
+    void close_calls_inner_close() throws Exception {
+        createObjectUnderTest().close();
+
+        verify(geoIPDatabaseReader).close();
+    }
+}
@@ -28,6 +28,8 @@ import java.util.HashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -281,6 +283,33 @@ class GeoIPDatabaseManagerTest {
         }
     }
 
+    @Test
+    void test_updateDatabaseReader_with_lookup_cache_should_replace_the_caching_reader_with_the_databases() throws Exception {
+        try (final MockedConstruction<ManifestDownloadService> cdnDownloadServiceMockedConstruction = mockConstruction(ManifestDownloadService.class,
+                     (mock2, context2)-> doNothing().when(mock2).initiateDownload());
+             final MockedConstruction<GeoLite2DatabaseReader> geoLite2DatabaseReaderMockedConstruction = mockConstruction(GeoLite2DatabaseReader.class);
+             final MockedConstruction<AutoCountingDatabaseReader> autoCountingDatabaseReaderMockedConstruction = mockConstruction(AutoCountingDatabaseReader.class)
+        ) {
+            final HashMap<String, String> databases = new HashMap<>();
+            databases.put("geolite2_country", CDN_ENDPOINT);
+            when(maxMindDatabaseConfig.getDatabasePaths()).thenReturn(databases);
+            when(maxMindConfig.getLookupCacheSize()).thenReturn(100);
+            final GeoIPDatabaseManager objectUnderTest = createObjectUnderTest();
+
+            objectUnderTest.initiateDatabaseDownload();
+            final GeoIPDatabaseReader geoIPDatabaseReader = objectUnderTest.getGeoIPDatabaseReader();
+            assertThat(geoIPDatabaseReader, instanceOf(CachingGeoIPDatabaseReader.class));
+
+            objectUnderTest.updateDatabaseReader();
+
+            final GeoIPDatabaseReader updatedGeoIPDatabaseReader = objectUnderTest.getGeoIPDatabaseReader();
+            assertThat(updatedGeoIPDatabaseReader, instanceOf(CachingGeoIPDatabaseReader.class));
+            assertThat(updatedGeoIPDatabaseReader, not(equalTo(geoIPDatabaseReader)));
+            assertThat(autoCountingDatabaseReaderMockedConstruction.constructed().size(), equalTo(2));
+            verify(autoCountingDatabaseReaderMockedConstruction.constructed().get(0)).close();
+        }
+    }
+
     @Test
     void test_initiateDatabaseDownload_with_exception_should_update_nextUpdateAt_correctly_with_backoff() {
         try (final MockedConstruction<ManifestDownloadService> cdnDownloadServiceMockedConstruction = mockConstruction(ManifestDownloadService.class,
@@ -41,6 +41,7 @@ class MaxMindConfigTest {
         final MaxMindConfig maxMindConfig = createObjectUnderTest();
         assertThat(maxMindConfig.getDatabaseRefreshInterval(), equalTo(Duration.ofDays(7)));
         assertThat(maxMindConfig.getCacheSize(), equalTo(4096));
+        assertThat(maxMindConfig.getLookupCacheSize(), equalTo(16_384));
         assertThat(maxMindConfig.getAwsAuthenticationOptionsConfig(), equalTo(null));
         assertThat(maxMindConfig.getDatabaseDestination(), equalTo(dataPrepperDirectory + File.separator + "data" + File.separator + "geoip"));
         assertThat(maxMindConfig.getMaxMindDatabaseConfig(), instanceOf(MaxMindDatabaseConfig.class));
@@ -51,6 +52,7 @@ class MaxMindConfigTest {
         final MaxMindConfig maxMindConfig = createObjectUnderTest();
         ReflectivelySetField.setField(MaxMindConfig.class, maxMindConfig, "databaseRefreshInterval", Duration.ofDays(10));
         ReflectivelySetField.setField(MaxMindConfig.class, maxMindConfig, "cacheSize", 2048);
+        ReflectivelySetField.setField(MaxMindConfig.class, maxMindConfig, "lookupCacheSize", 0);
         ReflectivelySetField.setField(MaxMindConfig.class, maxMindConfig, "maxMindDatabaseConfig", maxMindDatabaseConfig);
         ReflectivelySetField.setField(MaxMindConfig.class, maxMindConfig, "databaseDestination", "/data");
 
@@ -59,6 +61,7 @@ class MaxMindConfigTest {
 
         assertThat(maxMindConfig.getDatabaseRefreshInterval(), equalTo(Duration.ofDays(10)));
         assertThat(maxMindConfig.getCacheSize(), equalTo(2048));
+        assertThat(maxMindConfig.getLookupCacheSize(), equalTo(0));
         assertThat(maxMindConfig.getDatabaseDestination(), equalTo("/data"));
         assertThat(maxMindConfig.getAwsAuthenticationOptionsConfig(), equalTo(awsAuthenticationOptionsConfig));
         assertThat(maxMindConfig.getMaxMindDatabaseConfig(), equalTo(maxMindDatabaseConfig));
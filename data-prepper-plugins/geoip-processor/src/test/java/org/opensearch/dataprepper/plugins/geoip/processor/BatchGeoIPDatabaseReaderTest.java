@@ -11,6 +11,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPAddress;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPDatabase;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
 import org.opensearch.dataprepper.plugins.geoip.extension.api.GeoIPDatabaseReader;
@@ -84,7 +85,7 @@ class BatchGeoIPDatabaseReaderTest {
         final Set<GeoIPDatabase> geoIPDatabases = Set.of(mock(GeoIPDatabase.class));
 
         final Map<String, Object> geoData = Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
-        when(geoIPDatabaseReader.getGeoData(any(), any(), any()))
+        when(geoIPDatabaseReader.getGeoData(any(InetAddress.class), any(), any()))
                 .thenReturn(geoData);
 
         final BatchGeoIPDatabaseReader objectUnderTest = objectUnderTestFromDecorate();
@@ -93,7 +94,24 @@ class BatchGeoIPDatabaseReaderTest {
         assertThat(objectUnderTest.getGeoData(inetAddress, fields, Set.of(mock(GeoIPDatabase.class))), equalTo(geoData));
         assertThat(objectUnderTest.getGeoData(inetAddress, List.of(mock(GeoIPField.class)), geoIPDatabases), equalTo(geoData));
 
-        verify(geoIPDatabaseReader, times(4)).getGeoData(any(), any(), any());
+        verify(geoIPDatabaseReader, times(4)).getGeoData(any(InetAddress.class), any(), any());
+    }
+
+    @Test
+    void getGeoData_with_GeoIPAddress_returns_cached_value_for_the_same_address() {
+        final List<GeoIPField> fields = List.of(mock(GeoIPField.class));
+        final Set<GeoIPDatabase> geoIPDatabases = Set.of(mock(GeoIPDatabase.class));
+
+        final Map<String, Object> geoData = Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        when(geoIPDatabaseReader.getGeoData(any(GeoIPAddress.class), any(), any()))
+                .thenReturn(geoData);
+
+        final BatchGeoIPDatabaseReader objectUnderTest = objectUnderTestFromDecorate();
+        assertThat(objectUnderTest.getGeoData(GeoIPAddress.parse("2001:db8::1").get(), fields, geoIPDatabases), equalTo(geoData));
+        assertThat(objectUnderTest.getGeoData(GeoIPAddress.parse("2001:0db8:0:0::1").get(), fields, geoIPDatabases), equalTo(geoData));
+        assertThat(objectUnderTest.getGeoData(GeoIPAddress.parse("2001:db8::2").get(), fields, geoIPDatabases), equalTo(geoData));
+
+        verify(geoIPDatabaseReader, times(2)).getGeoData(any(GeoIPAddress.class), any(), any());
     }
 
     @Test
@@ -22,6 +22,7 @@ import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.geoip.GeoIPAddress;
 import org.opensearch.dataprepper.plugins.geoip.GeoIPField;
 import org.opensearch.dataprepper.plugins.geoip.exception.EngineFailureException;
 import org.opensearch.dataprepper.plugins.geoip.exception.EnrichFailedException;
@@ -140,7 +141,7 @@ class GeoIPProcessorTest {
 
         final GeoIPProcessor geoIPProcessor = createObjectUnderTest();
 
-        when(geoIPDatabaseReader.getGeoData(any(), any(), any())).thenReturn(prepareGeoData());
+        when(geoIPDatabaseReader.getGeoData(any(GeoIPAddress.class), any(), any())).thenReturn(prepareGeoData());
 
         final Record<Event> record1 = createCustomRecord("success");
         List<Record<Event>> recordsIn = List.of(record1);
@@ -194,7 +195,7 @@ class GeoIPProcessorTest {
 
         final GeoIPProcessor geoIPProcessor = createObjectUnderTest();
 
-        when(geoIPDatabaseReader.getGeoData(any(), any(), any())).thenReturn(prepareGeoData());
+        when(geoIPDatabaseReader.getGeoData(any(GeoIPAddress.class), any(), any())).thenReturn(prepareGeoData());
         Collection<Record<Event>> records = geoIPProcessor.doExecute(setEventQueue());
         for (final Record<Event> record : records) {
             final Event event = record.getData();
@@ -216,9 +217,9 @@ class GeoIPProcessorTest {
 
         final GeoIPProcessor geoIPProcessor = createObjectUnderTest();
 
-        when(geoIPDatabaseReader.getGeoData(any(), any(), any())).thenReturn(prepareGeoData());
+        when(geoIPDatabaseReader.getGeoData(any(GeoIPAddress.class), any(), any())).thenReturn(prepareGeoData());
         Collection<Record<Event>> records = geoIPProcessor.doExecute(setEventQueue());
-        verify(geoIPDatabaseReader).getGeoData(any(), geoIPFieldCaptor.capture(), any());
+        verify(geoIPDatabaseReader).getGeoData(any(GeoIPAddress.class), geoIPFieldCaptor.capture(), any());
 
         for (final Record<Event> record : records) {
             final Event event = record.getData();
@@ -265,7 +266,7 @@ class GeoIPProcessorTest {
 
         final GeoIPProcessor geoIPProcessor = createObjectUnderTest();
 
-        when(geoIPDatabaseReader.getGeoData(any(), any(), any())).thenReturn(Collections.EMPTY_MAP);
+        when(geoIPDatabaseReader.getGeoData(any(GeoIPAddress.class), any(), any())).thenReturn(Collections.EMPTY_MAP);
         Collection<Record<Event>> records = geoIPProcessor.doExecute(setEventQueue());
         for (final Record<Event> record : records) {
             final Event event = record.getData();
@@ -314,7 +315,7 @@ class GeoIPProcessorTest {
         when(geoIPProcessorConfig.getTagsOnNoValidIp()).thenReturn(testTags);
 
         try (final MockedStatic<GeoInetAddress> ipValidationCheckMockedStatic = mockStatic(GeoInetAddress.class)) {
-            ipValidationCheckMockedStatic.when(() -> GeoInetAddress.usableInetFromString(any(), anyBoolean())).thenReturn(Optional.empty());
+            ipValidationCheckMockedStatic.when(() -> GeoInetAddress.usableAddressFromString(any(), anyBoolean())).thenReturn(Optional.empty());
 
             when(geoIPProcessorConfig.getEntries()).thenReturn(List.of(entry));
             when(entry.getSource()).thenReturn(SOURCE);
@@ -346,7 +347,7 @@ class GeoIPProcessorTest {
 
         GeoIPProcessor geoIPProcessor = createObjectUnderTest();
 
-        doThrow(EnrichFailedException.class).when(geoIPDatabaseReader).getGeoData(any(), any(), any());
+        doThrow(EnrichFailedException.class).when(geoIPDatabaseReader).getGeoData(any(GeoIPAddress.class), any(), any());
 
         Collection<Record<Event>> records = geoIPProcessor.doExecute(setEventQueue());
 
@@ -370,7 +371,7 @@ class GeoIPProcessorTest {
 
         GeoIPProcessor geoIPProcessor = createObjectUnderTest();
 
-        doThrow(EngineFailureException.class).when(geoIPDatabaseReader).getGeoData(any(), any(), any());
+        doThrow(EngineFailureException.class).when(geoIPDatabaseReader).getGeoData(any(GeoIPAddress.class), any(), any());
 
         Collection<Record<Event>> records = geoIPProcessor.doExecute(setEventQueue());
 
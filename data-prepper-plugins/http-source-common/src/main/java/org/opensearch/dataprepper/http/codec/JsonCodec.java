@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -49,6 +50,50 @@ public class JsonCodec implements Codec<List<String>> {
         return jsonList;
     }
 
+    /**
+     * Parses the json array format HTTP data into the UTF-8 bytes of each object, without building a tree or map
+     * for the objects. Each object is copied out of the request bytes by the byte offsets of its first and last
+     * tokens, so it keeps its original formatting. Objects are passed to the consumer as they are parsed, so the
+     * consumer may receive some objects before an exception for invalid data is thrown.
+     *
+     * @param httpData the HTTP data holding a json array of objects
+     * @param objectConsumer the consumer of the UTF-8 bytes of each object
+     * @throws IOException if the data is not a json array of objects
+     */
+    public void parseObjects(final HttpData httpData, final Consumer<byte[]> objectConsumer) throws IOException {
+        final byte[] content = httpData.array();
+        try (final JsonParser jsonParser = JSON_FACTORY.createParser(content)) {
+            if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Input is not a valid JSON array.");
+            }
+
+            while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                if (jsonParser.currentToken() != JsonToken.START_OBJECT) {
+                    throw new IOException("Input is not a valid JSON array of objects.");
+                }
+                final long objectStart = jsonParser.getTokenLocation().getByteOffset();
+                if (objectStart < 0) {
+                    objectConsumer.accept(copyCurrentObject(jsonParser));
+                    continue;
+                }
+                jsonParser.skipChildren();
+                final long objectEnd = jsonParser.getTokenLocation().getByteOffset() + 1;
+                objectConsumer.accept(Arrays.copyOfRange(content, (int) objectStart, (int) objectEnd));
+            }
+        }
+    }
+
+    /**
+     * Re-serializes the current object, for content in an encoding other than UTF-8 which has no byte offsets.
+     */
+    private static byte[] copyCurrentObject(final JsonParser jsonParser) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final JsonGenerator objectJsonGenerator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8)) {
+            objectJsonGenerator.copyCurrentStructure(jsonParser);
+        }
+        return outputStream.toByteArray();
+    }
+
     @Override
     public void validate(final HttpData content) throws IOException {
         mapper.readValue(content.toInputStream(),
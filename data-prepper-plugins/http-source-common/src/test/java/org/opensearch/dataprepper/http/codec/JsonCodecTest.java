@@ -18,6 +18,7 @@ import org.mockito.ArgumentCaptor;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -213,6 +214,22 @@ class JsonCodecTest {
         }
     }
 
+    @Test
+    void parseObjects_returns_the_original_bytes_of_each_object() throws IOException {
+        final List<String> objects = new ArrayList<>();
+
+        objectUnderTest.parseObjects(HttpData.ofUtf8("[{\"a\": \"b\", \"n\": {\"x\": [1, 2]}}, {\"ὊὊὊ\":\"d\"}]"),
+                bytes -> objects.add(new String(bytes, StandardCharsets.UTF_8)));
+
+        assertThat(objects, equalTo(List.of("{\"a\": \"b\", \"n\": {\"x\": [1, 2]}}", "{\"ὊὊὊ\":\"d\"}")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"a\":\"b\"}", "[1, 2]", "non json content", "[{\"a\":"})
+    void parseObjects_with_invalid_data_throws(final String content) {
+        assertThrows(IOException.class, () -> objectUnderTest.parseObjects(HttpData.ofUtf8(content), bytes -> { }));
+    }
+
     @Test
     public void testParseJsonLineFailure() {
         assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataJsonLine));
@@ -52,6 +52,7 @@ public class HTTPSource implements Source<Record<Log>> {
     private ByteDecoder byteDecoder;
     private final InputCodec codec;
     private final List<String> metadataHeaders;
+    private final boolean lazyJsonParsing;
     private final HttpHeaderExtractor httpHeaderExtractor;
 
     @DataPrepperPluginConstructor
@@ -63,6 +64,7 @@ public class HTTPSource implements Source<Record<Log>> {
         this.byteDecoder = new JsonDecoder();
         this.certificateProviderFactory = new CertificateProviderFactory(sourceConfig);
         this.metadataHeaders = sourceConfig.getMetadataHeaders();
+        this.lazyJsonParsing = sourceConfig.isLazyJsonParsing();
         final PluginModel authenticationConfiguration = sourceConfig.getAuthentication();
         final PluginSetting authenticationPluginSetting;
 
@@ -99,7 +101,8 @@ public class HTTPSource implements Source<Record<Log>> {
         if (server == null) {
             ServerConfiguration serverConfiguration = ConvertConfiguration.convertConfiguration(sourceConfig);
             CreateServer createServer = new CreateServer(serverConfiguration, LOG, pluginMetrics, PLUGIN_NAME, pipelineName);
-            final LogHTTPService logHTTPService = new LogHTTPService(serverConfiguration.getBufferTimeoutInMillis(), buffer, pluginMetrics, codec, httpHeaderExtractor);
+            final LogHTTPService logHTTPService = new LogHTTPService(serverConfiguration.getBufferTimeoutInMillis(), buffer, pluginMetrics, codec,
+                    httpHeaderExtractor, lazyJsonParsing);
             server = createServer.createHTTPServer(buffer, certificateProviderFactory, authenticationProvider, httpRequestExceptionHandler, logHTTPService);
             pluginMetrics.gauge(SERVER_CONNECTIONS, server, Server::numConnections);
         }
@@ -33,6 +33,9 @@ public class HTTPSourceConfig extends BaseHttpServerConfig {
     @JsonProperty("metadata_headers")
     private List<String> metadataHeaders = Collections.emptyList();
 
+    @JsonProperty("lazy_json_parsing")
+    private boolean lazyJsonParsing = false;
+
     public PluginModel getCodec() {
         return codec;
     }
@@ -41,4 +44,8 @@ public class HTTPSourceConfig extends BaseHttpServerConfig {
         return metadataHeaders;
     }
 
+    public boolean isLazyJsonParsing() {
+        return lazyJsonParsing;
+    }
+
 }
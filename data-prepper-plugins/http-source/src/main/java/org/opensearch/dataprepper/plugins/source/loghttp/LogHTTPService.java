@@ -63,18 +63,21 @@ public class LogHTTPService {
     private Integer bufferMaxRequestLength;
     private Integer bufferOptimalRequestLength;
     private final HttpHeaderExtractor httpHeaderExtractor;
+    private final boolean lazyJsonParsing;
 
     public LogHTTPService(final int bufferWriteTimeoutInMillis,
                           final Buffer<Record<Log>> buffer,
                           final PluginMetrics pluginMetrics,
                           final InputCodec codec,
-                          final HttpHeaderExtractor httpHeaderExtractor) {
+                          final HttpHeaderExtractor httpHeaderExtractor,
+                          final boolean lazyJsonParsing) {
         this.buffer = buffer;
         this.bufferWriteTimeoutInMillis = bufferWriteTimeoutInMillis;
         this.bufferMaxRequestLength = buffer.getMaxRequestSize().isPresent() ? buffer.getMaxRequestSize().get(): null;
         this.bufferOptimalRequestLength = buffer.getOptimalRequestSize().isPresent() ? buffer.getOptimalRequestSize().get(): null;
         this.codec = codec;
         this.httpHeaderExtractor = httpHeaderExtractor;
+        this.lazyJsonParsing = lazyJsonParsing;
         requestsReceivedCounter = pluginMetrics.counter(REQUESTS_RECEIVED);
         successRequestsCounter = pluginMetrics.counter(SUCCESS_REQUESTS);
         requestsOverOptimalSizeCounter = pluginMetrics.counter(REQUESTS_OVER_OPTIMAL_SIZE);
@@ -83,6 +86,14 @@ public class LogHTTPService {
         requestProcessDuration = pluginMetrics.timer(REQUEST_PROCESS_DURATION);
     }
 
+    public LogHTTPService(final int bufferWriteTimeoutInMillis,
+                          final Buffer<Record<Log>> buffer,
+                          final PluginMetrics pluginMetrics,
+                          final InputCodec codec,
+                          final HttpHeaderExtractor httpHeaderExtractor) {
+        this(bufferWriteTimeoutInMillis, buffer, pluginMetrics, codec, httpHeaderExtractor, false);
+    }
+
     public LogHTTPService(final int bufferWriteTimeoutInMillis,
                           final Buffer<Record<Log>> buffer,
                           final PluginMetrics pluginMetrics,
@@ -137,6 +148,13 @@ public class LogHTTPService {
                     LOG.error("Failed to parse the request of size {} using specified input codec {} due to: {}", content.length(), codec.getClass(), e.getMessage());
                     throw new IOException("Bad request data format. ", e.getCause());
                 }
+            } else if (lazyJsonParsing) {
+                try {
+                    jsonCodec.parseObjects(content, jsonBytes -> records.add(buildRawJsonRecordLog(jsonBytes)));
+                } catch (IOException e) {
+                    LOG.error("Failed to parse the request of size {} due to: {}", content.length(), e.getMessage());
+                    throw new IOException("Bad request data format. Needs to be json array.", e.getCause());
+                }
             } else {
 
                 try {
@@ -190,6 +208,13 @@ public class LogHTTPService {
         }
     }
 
+    private Record<Log> buildRawJsonRecordLog(final byte[] jsonBytes) {
+        final JacksonLog.Builder builder = JacksonLog.builder()
+                .withRawJson(jsonBytes)
+                .getThis();
+        return new Record<>(builder.build());
+    }
+
     private Record<Log> buildRecordLog(final String json) {
         final JacksonLog.Builder builder = JacksonLog.builder()
                 .withData(json)
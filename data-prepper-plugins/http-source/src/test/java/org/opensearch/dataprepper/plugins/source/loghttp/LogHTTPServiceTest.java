@@ -61,6 +61,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -455,6 +456,39 @@ class LogHTTPServiceTest {
         }
     }
 
+    @Test
+    public void processRequestWithLazyJsonParsingWritesRawJsonLogs() throws Exception {
+        when(blockingBuffer.getMaxRequestSize()).thenReturn(Optional.empty());
+        when(blockingBuffer.getOptimalRequestSize()).thenReturn(Optional.empty());
+        when(httpHeaderExtractor.extractHeaders(any(AggregatedHttpRequest.class))).thenReturn(Collections.emptyMap());
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, blockingBuffer, pluginMetrics, null, httpHeaderExtractor, true);
+        AggregatedHttpRequest testRequest = generateRandomValidHTTPRequest(2);
+        List<Map<String, Object>> expectedLogs = mapper.readValue(testRequest.contentUtf8(), List.class);
+
+        logHTTPService.processRequest(testRequest);
+
+        ArgumentCaptor<List<Record<Log>>> captor = ArgumentCaptor.forClass(List.class);
+        verify(blockingBuffer).writeAll(captor.capture(), eq(TEST_TIMEOUT_IN_MILLIS));
+        List<Record<Log>> records = captor.getValue();
+        assertThat(records.size(), equalTo(2));
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(records.get(i).getData().toMap(), equalTo(expectedLogs.get(i)));
+            assertThat(records.get(i).getData().toJsonString(), equalTo(mapper.writeValueAsString(expectedLogs.get(i))));
+        }
+        verify(successRequestsCounter).increment();
+    }
+
+    @Test
+    public void processRequestWithLazyJsonParsingAndBadRequestThrows() throws Exception {
+        when(blockingBuffer.getMaxRequestSize()).thenReturn(Optional.empty());
+        when(blockingBuffer.getOptimalRequestSize()).thenReturn(Optional.empty());
+        logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, blockingBuffer, pluginMetrics, null, httpHeaderExtractor, true);
+
+        assertThrows(IOException.class, () -> logHTTPService.processRequest(generateBadHTTPRequest()));
+
+        verify(blockingBuffer, never()).writeAll(any(), anyInt());
+    }
+
     private AggregatedHttpRequest generateRandomValidHTTPRequest(int numJson) throws JsonProcessingException,
             ExecutionException, InterruptedException {
         RequestHeaders requestHeaders = RequestHeaders.builder()
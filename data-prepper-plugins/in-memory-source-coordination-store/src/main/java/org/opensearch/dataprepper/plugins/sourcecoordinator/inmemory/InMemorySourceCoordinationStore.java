@@ -16,6 +16,7 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -99,16 +100,38 @@ public class InMemorySourceCoordinationStore implements SourceCoordinationStore
                                                                            final String ownerId, final Duration ownershipTimeout) {
 
         synchronized (this) {
-            final Optional<SourcePartitionStoreItem> nextItem = inMemoryPartitionAccessor.getNextItem();
+            return acquireNextItem(ownerId, ownershipTimeout);
+        }
+    }
 
-            if (nextItem.isPresent()) {
-                nextItem.get().setPartitionOwner(ownerId);
-                nextItem.get().setPartitionOwnershipTimeout(Instant.now().plus(ownershipTimeout));
-                nextItem.get().setSourcePartitionStatus(SourcePartitionStatus.ASSIGNED);
+    @Override
+    public List<SourcePartitionStoreItem> tryAcquireAvailablePartitions(final String sourceIdentifier,
+                                                                        final String ownerId,
+                                                                        final Duration ownershipTimeout,
+                                                                        final int maxPartitions) {
+        final List<SourcePartitionStoreItem> acquiredItems = new ArrayList<>();
+        synchronized (this) {
+            while (acquiredItems.size() < maxPartitions) {
+                final Optional<SourcePartitionStoreItem> nextItem = acquireNextItem(ownerId, ownershipTimeout);
+                if (nextItem.isEmpty()) {
+                    break;
+                }
+                acquiredItems.add(nextItem.get());
             }
+        }
+        return acquiredItems;
+    }
 
-            return nextItem;
+    private Optional<SourcePartitionStoreItem> acquireNextItem(final String ownerId, final Duration ownershipTimeout) {
+        final Optional<SourcePartitionStoreItem> nextItem = inMemoryPartitionAccessor.getNextItem();
+
+        if (nextItem.isPresent()) {
+            nextItem.get().setPartitionOwner(ownerId);
+            nextItem.get().setPartitionOwnershipTimeout(Instant.now().plus(ownershipTimeout));
+            nextItem.get().setSourcePartitionStatus(SourcePartitionStatus.ASSIGNED);
         }
+
+        return nextItem;
     }
 
     @Override
@@ -91,6 +91,43 @@ public class InMemorySourceCoordinationStoreTest {
 
     }
 
+    @Test
+    void tryAcquireAvailablePartitions_acquires_items_until_none_are_available() {
+        final String sourceIdentifier = UUID.randomUUID().toString();
+        final String ownerId = UUID.randomUUID().toString();
+        final Duration ownershipTimeout = Duration.ofMinutes(2);
+
+        final SourcePartitionStoreItem firstItem = new InMemorySourcePartitionStoreItem();
+        final SourcePartitionStoreItem secondItem = new InMemorySourcePartitionStoreItem();
+
+        given(inMemoryPartitionAccessor.getNextItem())
+                .willReturn(Optional.of(firstItem))
+                .willReturn(Optional.of(secondItem))
+                .willReturn(Optional.empty());
+
+        final List<SourcePartitionStoreItem> result = createObjectUnderTest().tryAcquireAvailablePartitions(sourceIdentifier, ownerId, ownershipTimeout, 5);
+
+        assertThat(result, equalTo(List.of(firstItem, secondItem)));
+        assertThat(secondItem.getSourcePartitionStatus(), equalTo(SourcePartitionStatus.ASSIGNED));
+        assertThat(secondItem.getPartitionOwner(), equalTo(ownerId));
+    }
+
+    @Test
+    void tryAcquireAvailablePartitions_acquires_at_most_maxPartitions() {
+        final String sourceIdentifier = UUID.randomUUID().toString();
+        final String ownerId = UUID.randomUUID().toString();
+        final Duration ownershipTimeout = Duration.ofMinutes(2);
+
+        final SourcePartitionStoreItem item = new InMemorySourcePartitionStoreItem();
+
+        given(inMemoryPartitionAccessor.getNextItem()).willReturn(Optional.of(item));
+
+        final List<SourcePartitionStoreItem> result = createObjectUnderTest().tryAcquireAvailablePartitions(sourceIdentifier, ownerId, ownershipTimeout, 1);
+
+        assertThat(result, equalTo(List.of(item)));
+        verify(inMemoryPartitionAccessor).getNextItem();
+    }
+
     @Test
     void tryUpdateSourcePartitionItem_calls_updateItem_of_InMemoryPartitionAccessor() {
         final SourcePartitionStoreItem item = mock(InMemorySourcePartitionStoreItem.class);
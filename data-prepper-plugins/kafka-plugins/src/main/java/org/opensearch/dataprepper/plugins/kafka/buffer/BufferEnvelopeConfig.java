@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.buffer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+/**
+ * Configures writing multiple events into a single Kafka record in the Kafka buffer.
+ */
+class BufferEnvelopeConfig {
+    static final int DEFAULT_MAX_EVENTS = 100;
+    static final ByteCount DEFAULT_MAX_BYTES = ByteCount.parse("512kb");
+
+    @JsonProperty("max_events")
+    @Min(1)
+    private int maxEvents = DEFAULT_MAX_EVENTS;
+
+    @JsonProperty("max_bytes")
+    private ByteCount maxBytes = DEFAULT_MAX_BYTES;
+
+    /**
+     * @return the maximum number of events in one envelope
+     */
+    public int getMaxEvents() {
+        return maxEvents;
+    }
+
+    /**
+     * @return the maximum size of the serialized events in one envelope before compression. An event which is
+     * larger than this is written in an envelope by itself.
+     */
+    public ByteCount getMaxBytes() {
+        return maxBytes;
+    }
+}
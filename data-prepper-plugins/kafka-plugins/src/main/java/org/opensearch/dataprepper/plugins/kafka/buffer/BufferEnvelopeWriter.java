@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.buffer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+import org.opensearch.dataprepper.plugins.kafka.buffer.serialization.BufferEnvelope;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects events into a {@link KafkaBufferMessage.EventEnvelope} until the configured number of events or bytes
+ * is reached. The envelope is compressed once when it is finished.
+ */
+class BufferEnvelopeWriter {
+    /**
+     * An estimate of the Protobuf framing for each event in the envelope.
+     */
+    static final int EVENT_OVERHEAD_BYTES = 16;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int maxEvents;
+    private final long maxBytes;
+    private final CompressionOption compressionOption;
+    private final List<Record<Event>> records = new ArrayList<>();
+    private KafkaBufferMessage.EventEnvelope.Builder envelopeBuilder = KafkaBufferMessage.EventEnvelope.newBuilder();
+    private long envelopeBytes;
+
+    BufferEnvelopeWriter(final BufferEnvelopeConfig envelopeConfig, final CompressionOption compressionOption) {
+        this.maxEvents = envelopeConfig.getMaxEvents();
+        this.maxBytes = envelopeConfig.getMaxBytes().getBytes();
+        this.compressionOption = compressionOption;
+    }
+
+    /**
+     * Serializes the event data in the same format as a single event written to the buffer.
+     *
+     * @param record the record to serialize
+     * @return the serialized event
+     * @throws IOException if the event cannot be serialized
+     */
+    byte[] serialize(final Record<Event> record) throws IOException {
+        return objectMapper.writeValueAsBytes(record.getData().getJsonNode());
+    }
+
+    /**
+     * @param serializedSize the size of a serialized event
+     * @return true if the event can be added without going over the limits. An empty envelope always has room.
+     */
+    boolean hasRoomFor(final int serializedSize) {
+        return records.isEmpty() ||
+                (records.size() < maxEvents && envelopeBytes + serializedSize + EVENT_OVERHEAD_BYTES <= maxBytes);
+    }
+
+    void add(final Record<Event> record, final byte[] serializedEvent) {
+        final KafkaBufferMessage.EnvelopedEvent.Builder eventBuilder = KafkaBufferMessage.EnvelopedEvent.newBuilder()
+                .setData(ByteString.copyFrom(serializedEvent));
+        final Instant timeReceived = record.getData().getMetadata().getTimeReceived();
+        if (timeReceived != null) {
+            eventBuilder.setTimeReceivedEpochMillis(timeReceived.toEpochMilli());
+        }
+        envelopeBuilder.addEvents(eventBuilder);
+        records.add(record);
+        envelopeBytes += serializedEvent.length + EVENT_OVERHEAD_BYTES;
+    }
+
+    boolean isEmpty() {
+        return records.isEmpty();
+    }
+
+    /**
+     * @return the records in the current envelope
+     */
+    List<Record<Event>> getRecords() {
+        return new ArrayList<>(records);
+    }
+
+    /**
+     * Compresses the current envelope and starts a new one.
+     *
+     * @return the value to write to Kafka
+     * @throws IOException if the envelope cannot be compressed
+     */
+    BufferEnvelope finish() throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream((int) Math.min(envelopeBytes, Integer.MAX_VALUE));
+        try (final OutputStream compressedOutputStream = compressionOption.getCompressionEngine().createOutputStream(byteArrayOutputStream)) {
+            envelopeBuilder.build().writeTo(compressedOutputStream);
+        }
+
+        records.clear();
+        envelopeBuilder = KafkaBufferMessage.EventEnvelope.newBuilder();
+        envelopeBytes = 0;
+        return new BufferEnvelope(byteArrayOutputStream.toByteArray());
+    }
+}
@@ -76,6 +76,7 @@ public class KafkaBuffer extends AbstractBuffer<Record<Event>> {
     private ByteDecoder byteDecoder;
 
     private CompressionOption customCompressionOption;
+    private final BufferEnvelopeConfig envelopeConfig;
 
     @DataPrepperPluginConstructor
     public KafkaBuffer(final PluginSetting pluginSetting, final KafkaBufferConfig kafkaBufferConfig,
@@ -111,6 +112,7 @@ public class KafkaBuffer extends AbstractBuffer<Record<Event>> {
         this.executorService = Executors.newFixedThreadPool(consumers.size(), KafkaPluginThreadFactory.defaultExecutorThreadFactory(MDC_KAFKA_PLUGIN_VALUE));
         consumers.forEach(this.executorService::submit);
         this.drainTimeout = kafkaBufferConfig.getDrainTimeout();
+        this.envelopeConfig = kafkaBufferConfig.getEnvelopeConfig();
     }
 
     @Override
@@ -170,11 +172,46 @@ public class KafkaBuffer extends AbstractBuffer<Record<Event>> {
 
     @Override
     public void doWriteAll(Collection<Record<Event>> records, int timeoutInMillis) throws Exception {
+        if (envelopeConfig != null) {
+            writeEnvelopes(records);
+            return;
+        }
         for (Record<Event> record : records) {
             doWrite(record, timeoutInMillis);
         }
     }
 
+    /**
+     * Writes the records in envelopes of multiple events. Each envelope is one Kafka record, so it is compressed,
+     * encrypted and committed as a unit.
+     */
+    private void writeEnvelopes(final Collection<Record<Event>> records) {
+        try {
+            setMdc();
+            final BufferEnvelopeWriter envelopeWriter = new BufferEnvelopeWriter(envelopeConfig, customCompressionOption);
+            for (final Record<Event> record : records) {
+                final byte[] serializedEvent = envelopeWriter.serialize(record);
+                if (!envelopeWriter.hasRoomFor(serializedEvent.length)) {
+                    produceEnvelope(envelopeWriter);
+                }
+                envelopeWriter.add(record, serializedEvent);
+            }
+            if (!envelopeWriter.isEmpty()) {
+                produceEnvelope(envelopeWriter);
+            }
+        } catch (final Exception e) {
+            LOG.error(e.getMessage(), e);
+            throw new RuntimeException(e);
+        } finally {
+            resetMdc();
+        }
+    }
+
+    private void produceEnvelope(final BufferEnvelopeWriter envelopeWriter) throws Exception {
+        final List<Record<Event>> envelopeRecords = envelopeWriter.getRecords();
+        producer.produceEnvelope(envelopeRecords, envelopeWriter.finish());
+    }
+
     @Override
     public Map.Entry<Collection<Record<Event>>, CheckpointState> doRead(int timeoutInMillis) {
         try {
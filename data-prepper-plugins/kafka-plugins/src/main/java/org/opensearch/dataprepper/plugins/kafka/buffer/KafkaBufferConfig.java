@@ -66,6 +66,10 @@ class KafkaBufferConfig implements KafkaProducerConfig, KafkaConsumerConfig {
     @JsonProperty("custom_metric_prefix")
     private String customMetricPrefix;
 
+    @JsonProperty("envelope")
+    @Valid
+    private BufferEnvelopeConfig envelopeConfig;
+
     public List<String> getBootstrapServers() {
         if (Objects.nonNull(bootstrapServers)) {
             return bootstrapServers;
@@ -163,4 +167,11 @@ class KafkaBufferConfig implements KafkaProducerConfig, KafkaConsumerConfig {
         return Optional.ofNullable(customMetricPrefix);
     }
 
+    /**
+     * @return the envelope configuration, or null when each event is written as its own Kafka record
+     */
+    public BufferEnvelopeConfig getEnvelopeConfig() {
+        return envelopeConfig;
+    }
+
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.buffer.serialization;
+
+import java.util.Objects;
+
+/**
+ * A Kafka record value which holds an envelope of multiple events. The payload is a compressed
+ * {@link org.opensearch.dataprepper.plugins.kafka.buffer.KafkaBufferMessage.EventEnvelope}.
+ * <p>
+ * The buffer serializers write this value with the
+ * {@link org.opensearch.dataprepper.plugins.kafka.buffer.KafkaBufferMessage.MessageFormat#MESSAGE_FORMAT_ENVELOPE}
+ * format, so the payload is encrypted once for all of its events. The buffer deserializers return this value
+ * for records in that format.
+ */
+public class BufferEnvelope {
+    private final byte[] payload;
+
+    public BufferEnvelope(final byte[] payload) {
+        this.payload = Objects.requireNonNull(payload);
+    }
+
+    /**
+     * @return the compressed, unencrypted envelope
+     */
+    public byte[] getPayload() {
+        return payload;
+    }
+}
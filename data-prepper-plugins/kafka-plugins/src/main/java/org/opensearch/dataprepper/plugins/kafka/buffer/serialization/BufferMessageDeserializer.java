@@ -32,7 +32,20 @@ class BufferMessageDeserializer<T> implements Deserializer<T> {
 
         final byte[] dataBytes = bufferedData.getData().toByteArray();
 
-        return dataDeserializer.deserialize(topic, dataBytes);
+        final T deserializedData = dataDeserializer.deserialize(topic, dataBytes);
+        if (bufferedData.getMessageFormat() == KafkaBufferMessage.MessageFormat.MESSAGE_FORMAT_ENVELOPE) {
+            return toEnvelope(deserializedData);
+        }
+        return deserializedData;
+    }
+
+    /**
+     * Returns the envelope in place of the deserialized data. Envelopes are only written with byte array data, and
+     * the consumer unpacks them into events.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T toEnvelope(final T deserializedData) {
+        return (T) new BufferEnvelope((byte[]) deserializedData);
     }
 
     Deserializer<T> getDataDeserializer() {
@@ -41,7 +41,11 @@ class BufferMessageEncryptionDeserializer<T> implements Deserializer<T> {
                         .encryptedData(bufferedData.getData().toByteArray())
                         .build());
 
-        return dataDeserializer.deserialize(topic, dataBytes);
+        final T deserializedData = dataDeserializer.deserialize(topic, dataBytes);
+        if (bufferedData.getMessageFormat() == KafkaBufferMessage.MessageFormat.MESSAGE_FORMAT_ENVELOPE) {
+            return BufferMessageDeserializer.toEnvelope(deserializedData);
+        }
+        return deserializedData;
     }
 
     Deserializer<T> getDataDeserializer() {
@@ -33,10 +33,17 @@ class BufferMessageEncryptionSerializer<T> implements Serializer<T> {
         if (data == null)
             return null;
 
+        if (data instanceof BufferEnvelope) {
+            final byte[] serializedEnvelope = serializeEnvelope(topic, (BufferEnvelope) data);
+            return buildProtobufMessage(encryptionEngine.encrypt(serializedEnvelope),
+                    KafkaBufferMessage.MessageFormat.MESSAGE_FORMAT_ENVELOPE).toByteArray();
+        }
+
         final byte[] serializedData = dataSerializer.serialize(topic, data);
         final EncryptionEnvelope encryptionEnvelope = encryptionEngine.encrypt(serializedData);
 
-        final KafkaBufferMessage.BufferData bufferedData = buildProtobufMessage(encryptionEnvelope);
+        final KafkaBufferMessage.BufferData bufferedData = buildProtobufMessage(encryptionEnvelope,
+                KafkaBufferMessage.MessageFormat.MESSAGE_FORMAT_BYTES);
 
         return bufferedData.toByteArray();
     }
@@ -45,12 +52,22 @@ class BufferMessageEncryptionSerializer<T> implements Serializer<T> {
         return dataSerializer;
     }
 
-    private KafkaBufferMessage.BufferData buildProtobufMessage(final EncryptionEnvelope encryptionEnvelope) {
+    /**
+     * The envelope payload is passed through the data serializer so that it is handled like the bytes of a
+     * single event. The whole envelope is then encrypted once.
+     */
+    @SuppressWarnings("unchecked")
+    private byte[] serializeEnvelope(final String topic, final BufferEnvelope envelope) {
+        return dataSerializer.serialize(topic, (T) envelope.getPayload());
+    }
+
+    private KafkaBufferMessage.BufferData buildProtobufMessage(final EncryptionEnvelope encryptionEnvelope,
+                                                               final KafkaBufferMessage.MessageFormat messageFormat) {
         return KafkaBufferMessage.BufferData.newBuilder()
                 .setEncryptedDataKey(ByteString.copyFromUtf8(encryptionEnvelope.getEncryptedDataKey()))
                 .setData(ByteString.copyFrom(encryptionEnvelope.getEncryptedData()))
                 .setEncrypted(true)
-                .setMessageFormat(KafkaBufferMessage.MessageFormat.MESSAGE_FORMAT_BYTES)
+                .setMessageFormat(messageFormat)
                 .build();
     }
 }
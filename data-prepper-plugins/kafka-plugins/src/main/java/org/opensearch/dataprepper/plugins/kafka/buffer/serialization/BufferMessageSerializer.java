@@ -31,9 +31,14 @@ class BufferMessageSerializer<T> implements Serializer<T> {
         if(data == null)
             return null;
 
+        if(data instanceof BufferEnvelope) {
+            final byte[] serializedEnvelope = serializeEnvelope(topic, (BufferEnvelope) data);
+            return buildProtobufMessage(serializedEnvelope, KafkaBufferMessage.MessageFormat.MESSAGE_FORMAT_ENVELOPE).toByteArray();
+        }
+
         final byte[] serializedData = dataSerializer.serialize(topic, data);
 
-        final KafkaBufferMessage.BufferData bufferedData = buildProtobufMessage(serializedData);
+        final KafkaBufferMessage.BufferData bufferedData = buildProtobufMessage(serializedData, KafkaBufferMessage.MessageFormat.MESSAGE_FORMAT_BYTES);
 
         return bufferedData.toByteArray();
     }
@@ -42,10 +47,20 @@ class BufferMessageSerializer<T> implements Serializer<T> {
         return dataSerializer;
     }
 
-    private KafkaBufferMessage.BufferData buildProtobufMessage(final byte[] serializedData) {
+    /**
+     * The envelope payload is passed through the data serializer so that it is handled like the bytes of a
+     * single event, including any encryption done by that serializer.
+     */
+    @SuppressWarnings("unchecked")
+    private byte[] serializeEnvelope(final String topic, final BufferEnvelope envelope) {
+        return dataSerializer.serialize(topic, (T) envelope.getPayload());
+    }
+
+    private KafkaBufferMessage.BufferData buildProtobufMessage(final byte[] serializedData,
+                                                               final KafkaBufferMessage.MessageFormat messageFormat) {
         KafkaBufferMessage.BufferData.Builder messageBuilder = KafkaBufferMessage.BufferData.newBuilder()
                 .setData(ByteString.copyFrom(serializedData))
-                .setMessageFormat(KafkaBufferMessage.MessageFormat.MESSAGE_FORMAT_BYTES);
+                .setMessageFormat(messageFormat);
 
         if(dataConfig.getEncryptionKeySupplier() != null) {
             messageBuilder = messageBuilder.setEncrypted(true);
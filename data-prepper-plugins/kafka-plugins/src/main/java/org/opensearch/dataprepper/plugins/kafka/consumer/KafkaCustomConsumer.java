@@ -37,6 +37,8 @@ import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+import org.opensearch.dataprepper.plugins.kafka.buffer.KafkaBufferMessage;
+import org.opensearch.dataprepper.plugins.kafka.buffer.serialization.BufferEnvelope;
 import org.opensearch.dataprepper.plugins.kafka.configuration.KafkaConsumerConfig;
 import org.opensearch.dataprepper.plugins.kafka.configuration.KafkaKeyMode;
 import org.opensearch.dataprepper.plugins.kafka.configuration.TopicConsumerConfig;
@@ -48,6 +50,7 @@ import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.glue.model.AccessDeniedException;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
@@ -571,6 +574,27 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         }
     }
 
+    /**
+     * Unpacks the events from an envelope written by the Kafka buffer. The events are acknowledged together with the
+     * other records from the poll, so the envelope offset is only committed once all of its events are acknowledged.
+     */
+    private void addEnvelopeRecords(final BufferEnvelope envelope, final List<Record<Event>> eventRecords) throws IOException {
+        final KafkaBufferMessage.EventEnvelope eventEnvelope;
+        try (final InputStream envelopeInputStream = compressionConfig.getDecompressionEngine()
+                .createInputStream(new ByteArrayInputStream(envelope.getPayload()))) {
+            eventEnvelope = KafkaBufferMessage.EventEnvelope.parseFrom(envelopeInputStream);
+        }
+
+        for (final KafkaBufferMessage.EnvelopedEvent envelopedEvent : eventEnvelope.getEventsList()) {
+            final JsonNode jsonNode = objectMapper.readTree(envelopedEvent.getData().newInput());
+            final JacksonLog.Builder eventBuilder = JacksonLog.builder().withData(jsonNode);
+            if (envelopedEvent.hasTimeReceivedEpochMillis()) {
+                eventBuilder.withTimeReceived(Instant.ofEpochMilli(envelopedEvent.getTimeReceivedEpochMillis()));
+            }
+            eventRecords.add(new Record<>(eventBuilder.build()));
+        }
+    }
+
     private <T> void iterateRecordPartitions(ConsumerRecords<String, T> records, final AcknowledgementSet acknowledgementSet,
                                              Map<TopicPartition, CommitOffsetRange> offsets) throws Exception {
         for (TopicPartition topicPartition : records.partitions()) {
@@ -585,7 +609,9 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
             List<ConsumerRecord<String, T>> partitionRecords = records.records(topicPartition);
             final List<Record<Event>> eventRecords = new ArrayList<>();
             for (ConsumerRecord<String, T> consumerRecord : partitionRecords) {
-                if (schema == MessageFormat.BYTES) {
+                if (schema == MessageFormat.BYTES && consumerRecord.value() instanceof BufferEnvelope) {
+                    addEnvelopeRecords((BufferEnvelope) consumerRecord.value(), eventRecords);
+                } else if (schema == MessageFormat.BYTES) {
                     InputStream byteInputStream = new ByteArrayInputStream((byte[])consumerRecord.value());
                     InputStream decompressedInputStream = compressionConfig.getDecompressionEngine().createInputStream(byteInputStream);
 
@@ -40,6 +40,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.Future;
@@ -173,6 +174,31 @@ public class KafkaCustomProducer<T> {
 
     }
 
+    /**
+     * Publishes several events as a single Kafka record. The key is taken from the first event. The handles for
+     * all of the events are released when the record is sent.
+     *
+     * @param records the events held by the envelope
+     * @param envelope the record value holding the serialized events
+     * @throws Exception if the record could not be sent
+     */
+    public void produceEnvelope(final List<Record<Event>> records, final Object envelope) throws Exception {
+        if (records.isEmpty()) {
+            return;
+        }
+        records.forEach(record -> bufferedEventHandles.add(record.getData().getEventHandle()));
+        final String key = records.get(0).getData().formatString(kafkaProducerConfig.getPartitionKey(), expressionEvaluator);
+        try {
+            send(topicName, key, envelope);
+            topicMetrics.update(producer);
+        } catch (Exception e) {
+            LOG.error("Error occurred while publishing an envelope of {} records {}", records.size(), e.getMessage());
+            topicMetrics.getNumberOfRecordSendErrors().increment();
+            releaseEventHandles(false);
+            throw e;
+        }
+    }
+
     private void publishJsonMessageAsBytes(Record<Event> record, String key) throws Exception {
         JsonNode dataNode = record.getData().getJsonNode();
         byte[] bytes = objectMapper.writeValueAsBytes(dataNode);
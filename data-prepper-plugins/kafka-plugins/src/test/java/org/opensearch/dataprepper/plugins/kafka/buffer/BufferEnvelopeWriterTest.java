@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.buffer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+import org.opensearch.dataprepper.plugins.kafka.buffer.serialization.BufferEnvelope;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BufferEnvelopeWriterTest {
+    @Mock
+    private BufferEnvelopeConfig envelopeConfig;
+
+    private CompressionOption compressionOption;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(envelopeConfig.getMaxEvents()).thenReturn(3);
+        lenient().when(envelopeConfig.getMaxBytes()).thenReturn(ByteCount.parse("1mb"));
+        compressionOption = CompressionOption.NONE;
+    }
+
+    private BufferEnvelopeWriter createObjectUnderTest() {
+        return new BufferEnvelopeWriter(envelopeConfig, compressionOption);
+    }
+
+    private static Record<Event> createRecord() {
+        return new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("message", UUID.randomUUID().toString()))
+                .withTimeReceived(Instant.ofEpochMilli(1_700_000_000_000L))
+                .build());
+    }
+
+    @Test
+    void empty_envelope_always_has_room() {
+        final BufferEnvelopeWriter objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+        assertThat(objectUnderTest.hasRoomFor(Integer.MAX_VALUE), equalTo(true));
+    }
+
+    @Test
+    void hasRoomFor_returns_false_when_max_events_is_reached() throws IOException {
+        final BufferEnvelopeWriter objectUnderTest = createObjectUnderTest();
+
+        for (int i = 0; i < 3; i++) {
+            final Record<Event> record = createRecord();
+            assertThat(objectUnderTest.hasRoomFor(10), equalTo(true));
+            objectUnderTest.add(record, objectUnderTest.serialize(record));
+        }
+
+        assertThat(objectUnderTest.hasRoomFor(10), equalTo(false));
+    }
+
+    @Test
+    void hasRoomFor_returns_false_when_max_bytes_would_be_exceeded() throws IOException {
+        when(envelopeConfig.getMaxBytes()).thenReturn(ByteCount.ofBytes(100));
+        final BufferEnvelopeWriter objectUnderTest = createObjectUnderTest();
+
+        final Record<Event> record = createRecord();
+        objectUnderTest.add(record, new byte[50]);
+
+        assertThat(objectUnderTest.hasRoomFor(100 - 50 - 2 * BufferEnvelopeWriter.EVENT_OVERHEAD_BYTES), equalTo(true));
+        assertThat(objectUnderTest.hasRoomFor(100 - 50 - 2 * BufferEnvelopeWriter.EVENT_OVERHEAD_BYTES + 1), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CompressionOption.class, names = {"NONE", "GZIP", "SNAPPY"})
+    void finish_returns_an_envelope_with_all_events_and_starts_a_new_envelope(final CompressionOption compressionOption) throws IOException {
+        this.compressionOption = compressionOption;
+        final BufferEnvelopeWriter objectUnderTest = createObjectUnderTest();
+        final Record<Event> record1 = createRecord();
+        final Record<Event> record2 = createRecord();
+        objectUnderTest.add(record1, objectUnderTest.serialize(record1));
+        objectUnderTest.add(record2, objectUnderTest.serialize(record2));
+
+        assertThat(objectUnderTest.getRecords(), equalTo(List.of(record1, record2)));
+
+        final BufferEnvelope envelope = objectUnderTest.finish();
+
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+
+        final KafkaBufferMessage.EventEnvelope eventEnvelope;
+        try (final InputStream inputStream = compressionOption.getDecompressionEngine()
+                .createInputStream(new ByteArrayInputStream(envelope.getPayload()))) {
+            eventEnvelope = KafkaBufferMessage.EventEnvelope.parseFrom(inputStream);
+        }
+
+        assertThat(eventEnvelope.getEventsCount(), equalTo(2));
+        final ObjectMapper objectMapper = new ObjectMapper();
+        assertThat(objectMapper.readTree(eventEnvelope.getEvents(0).getData().toByteArray()),
+                equalTo(record1.getData().getJsonNode()));
+        assertThat(objectMapper.readTree(eventEnvelope.getEvents(1).getData().toByteArray()),
+                equalTo(record2.getData().getJsonNode()));
+        assertThat(eventEnvelope.getEvents(0).getTimeReceivedEpochMillis(), equalTo(1_700_000_000_000L));
+    }
+}
@@ -162,4 +162,19 @@ class KafkaBufferConfigTest {
         setField(KafkaBufferConfig.class, objectUnderTest, "customMetricPrefix", prefix);
         assertThat(objectUnderTest.getCustomMetricPrefix().get(), equalTo(prefix));
     }
+
+    @Test
+    void getEnvelopeConfig_returns_null_when_not_set() {
+        assertThat(createObjectUnderTest().getEnvelopeConfig(), nullValue());
+    }
+
+    @Test
+    void getEnvelopeConfig_returns_configured_value() throws NoSuchFieldException, IllegalAccessException {
+        KafkaBufferConfig objectUnderTest = createObjectUnderTest();
+        BufferEnvelopeConfig envelopeConfig = new BufferEnvelopeConfig();
+        setField(KafkaBufferConfig.class, objectUnderTest, "envelopeConfig", envelopeConfig);
+        assertThat(objectUnderTest.getEnvelopeConfig(), equalTo(envelopeConfig));
+        assertThat(envelopeConfig.getMaxEvents(), equalTo(BufferEnvelopeConfig.DEFAULT_MAX_EVENTS));
+        assertThat(envelopeConfig.getMaxBytes(), equalTo(BufferEnvelopeConfig.DEFAULT_MAX_BYTES));
+    }
 }
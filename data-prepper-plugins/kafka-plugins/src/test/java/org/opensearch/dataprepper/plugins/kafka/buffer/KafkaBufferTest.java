@@ -29,10 +29,12 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
 import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 import org.opensearch.dataprepper.plugins.encryption.EncryptionSupplier;
 import org.opensearch.dataprepper.plugins.kafka.admin.KafkaAdminAccessor;
+import org.opensearch.dataprepper.plugins.kafka.buffer.serialization.BufferEnvelope;
 import org.opensearch.dataprepper.plugins.kafka.common.KafkaMdc;
 import org.opensearch.dataprepper.plugins.kafka.common.thread.KafkaPluginThreadFactory;
 import org.opensearch.dataprepper.plugins.kafka.configuration.AuthConfig;
@@ -75,6 +77,7 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -251,6 +254,40 @@ class KafkaBufferTest {
         verify(producer).produceRecords(record2);
     }
 
+    @Test
+    void test_kafkaBuffer_doWriteAll_with_envelope_writes_envelopes() throws Exception {
+        final BufferEnvelopeConfig envelopeConfig = mock(BufferEnvelopeConfig.class);
+        when(envelopeConfig.getMaxEvents()).thenReturn(2);
+        when(envelopeConfig.getMaxBytes()).thenReturn(ByteCount.parse("1mb"));
+        when(bufferConfig.getEnvelopeConfig()).thenReturn(envelopeConfig);
+        kafkaBuffer = createObjectUnderTest();
+
+        Record<Event> record = new Record<Event>(JacksonEvent.fromMessage(UUID.randomUUID().toString()));
+        Record<Event> record2 = new Record<Event>(JacksonEvent.fromMessage(UUID.randomUUID().toString()));
+        Record<Event> record3 = new Record<Event>(JacksonEvent.fromMessage(UUID.randomUUID().toString()));
+
+        kafkaBuffer.doWriteAll(Arrays.asList(record, record2, record3), 10000);
+
+        verify(producer).produceEnvelope(eq(List.of(record, record2)), any(BufferEnvelope.class));
+        verify(producer).produceEnvelope(eq(List.of(record3)), any(BufferEnvelope.class));
+        verify(producer, never()).produceRecords(any());
+    }
+
+    @Test
+    void test_kafkaBuffer_doWriteAll_with_envelope_throws_when_producer_throws() throws Exception {
+        final BufferEnvelopeConfig envelopeConfig = mock(BufferEnvelopeConfig.class);
+        when(envelopeConfig.getMaxEvents()).thenReturn(2);
+        when(envelopeConfig.getMaxBytes()).thenReturn(ByteCount.parse("1mb"));
+        when(bufferConfig.getEnvelopeConfig()).thenReturn(envelopeConfig);
+        kafkaBuffer = createObjectUnderTest();
+        doThrow(new RuntimeException("Producer Error"))
+            .when(producer).produceEnvelope(any(), any());
+
+        Record<Event> record = new Record<Event>(JacksonEvent.fromMessage(UUID.randomUUID().toString()));
+
+        assertThrows(RuntimeException.class, () -> kafkaBuffer.doWriteAll(List.of(record), 10000));
+    }
+
     @Test
     void test_kafkaBuffer_isEmpty_True() {
         kafkaBuffer = createObjectUnderTest();
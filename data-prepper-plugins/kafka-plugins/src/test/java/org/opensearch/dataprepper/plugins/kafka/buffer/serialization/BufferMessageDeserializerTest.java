@@ -20,6 +20,7 @@ import java.util.Random;
 import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -68,4 +69,26 @@ class BufferMessageDeserializerTest {
         assertThat(createObjectUnderTest().deserialize(topic, serializedInputData),
                 equalTo(expectedDeserializedData));
     }
-}
\ No newline at end of file
+
+    @Test
+    void deserialize_returns_BufferEnvelope_for_envelope_format() {
+        final byte[] inputProtobufDataBytes = new byte[32];
+        random.nextBytes(inputProtobufDataBytes);
+        final byte[] payload = new byte[48];
+        random.nextBytes(payload);
+
+        final byte[] serializedInputData = KafkaBufferMessage.BufferData.newBuilder()
+                .setData(ByteString.copyFrom(inputProtobufDataBytes))
+                .setMessageFormat(KafkaBufferMessage.MessageFormat.MESSAGE_FORMAT_ENVELOPE)
+                .build()
+                .toByteArray();
+
+        when(innerDataDeserializer.deserialize(topic, inputProtobufDataBytes))
+                .thenReturn(payload);
+
+        final Object actualData = createObjectUnderTest().deserialize(topic, serializedInputData);
+
+        assertThat(actualData, instanceOf(BufferEnvelope.class));
+        assertThat(((BufferEnvelope) actualData).getPayload(), equalTo(payload));
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Random;
 import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
@@ -82,4 +83,31 @@ class BufferMessageEncryptionDeserializerTest {
         assertThat(encryptionEnvelope.getEncryptedData(), equalTo(inputBytes));
         assertThat(encryptionEnvelope.getEncryptedDataKey(), equalTo(encryptedDataKey));
     }
-}
\ No newline at end of file
+
+    @Test
+    void deserialize_returns_BufferEnvelope_for_envelope_format() {
+        final String encryptedDataKey = UUID.randomUUID().toString();
+        final byte[] inputBytes = new byte[32];
+        final byte[] decryptedBytes = new byte[32];
+        final byte[] payload = new byte[48];
+        random.nextBytes(inputBytes);
+        random.nextBytes(decryptedBytes);
+        random.nextBytes(payload);
+        when(encryptionEngine.decrypt(any(EncryptionEnvelope.class))).thenReturn(decryptedBytes);
+
+        final byte[] serializedInputData = KafkaBufferMessage.BufferData.newBuilder()
+                .setEncryptedDataKey(ByteString.copyFromUtf8(encryptedDataKey))
+                .setData(ByteString.copyFrom(inputBytes))
+                .setMessageFormat(KafkaBufferMessage.MessageFormat.MESSAGE_FORMAT_ENVELOPE)
+                .build()
+                .toByteArray();
+
+        when(innerDataDeserializer.deserialize(topic, decryptedBytes))
+                .thenReturn(payload);
+
+        final Object actualData = createObjectUnderTest().deserialize(topic, serializedInputData);
+
+        assertThat(actualData, instanceOf(BufferEnvelope.class));
+        assertThat(((BufferEnvelope) actualData).getPayload(), equalTo(payload));
+    }
+}
@@ -29,6 +29,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -119,4 +120,34 @@ class BufferMessageEncryptionSerializerTest {
 
         verifyNoInteractions(innerDataSerializer);
     }
-}
\ No newline at end of file
+
+    @Test
+    void serialize_with_BufferEnvelope_encrypts_the_envelope_once() throws InvalidProtocolBufferException {
+        final String encryptedDataKey = UUID.randomUUID().toString();
+        final byte[] payload = new byte[64];
+        random.nextBytes(payload);
+        final byte[] serializedPayload = new byte[64];
+        random.nextBytes(serializedPayload);
+        final byte[] encryptedBytes = new byte[80];
+        random.nextBytes(encryptedBytes);
+        when(innerDataSerializer.serialize(topic, payload)).thenReturn(serializedPayload);
+        when(encryptionEngine.encrypt(eq(serializedPayload))).thenReturn(
+                DefaultEncryptionEnvelope.builder()
+                        .encryptedData(encryptedBytes)
+                        .encryptedDataKey(encryptedDataKey)
+                        .build());
+
+        final byte[] actualBytes = createObjectUnderTest().serialize(topic, new BufferEnvelope(payload));
+
+        final KafkaBufferMessage.BufferData actualBufferedData =
+                KafkaBufferMessage.BufferData.parseFrom(actualBytes);
+
+        assertThat(actualBufferedData.getMessageFormat(),
+                equalTo(KafkaBufferMessage.MessageFormat.MESSAGE_FORMAT_ENVELOPE));
+        assertThat(actualBufferedData.getData().toByteArray(),
+                equalTo(encryptedBytes));
+        assertThat(actualBufferedData.getEncrypted(), equalTo(true));
+        assertThat(actualBufferedData.getEncryptedDataKey(), equalTo(ByteString.copyFromUtf8(encryptedDataKey)));
+        verify(encryptionEngine, times(1)).encrypt(serializedPayload);
+    }
+}
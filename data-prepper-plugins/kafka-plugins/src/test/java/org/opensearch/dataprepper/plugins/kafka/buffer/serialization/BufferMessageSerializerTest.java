@@ -156,4 +156,24 @@ class BufferMessageSerializerTest {
 
         verifyNoInteractions(innerDataSerializer);
     }
-}
\ No newline at end of file
+
+    @Test
+    void serialize_with_BufferEnvelope_wraps_the_serialized_payload_with_envelope_format() throws InvalidProtocolBufferException {
+        final byte[] payload = new byte[64];
+        random.nextBytes(payload);
+        final byte[] expectedBytes = new byte[32];
+        random.nextBytes(expectedBytes);
+        when(innerDataSerializer.serialize(topic, payload)).thenReturn(expectedBytes);
+
+        final byte[] actualBytes = createObjectUnderTest().serialize(topic, new BufferEnvelope(payload));
+
+        final KafkaBufferMessage.BufferData actualBufferedData =
+                KafkaBufferMessage.BufferData.parseFrom(actualBytes);
+
+        assertThat(actualBufferedData.getMessageFormat(),
+                equalTo(KafkaBufferMessage.MessageFormat.MESSAGE_FORMAT_ENVELOPE));
+        assertThat(actualBufferedData.getData().toByteArray(),
+                equalTo(expectedBytes));
+        assertThat(actualBufferedData.getEncrypted(), equalTo(false));
+    }
+}
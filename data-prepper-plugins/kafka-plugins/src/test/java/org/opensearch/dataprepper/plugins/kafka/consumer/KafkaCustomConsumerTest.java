@@ -14,6 +14,7 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
 import io.micrometer.core.instrument.Counter;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
@@ -46,6 +47,8 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
 import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBufferConfig;
+import org.opensearch.dataprepper.plugins.kafka.buffer.KafkaBufferMessage;
+import org.opensearch.dataprepper.plugins.kafka.buffer.serialization.BufferEnvelope;
 import org.opensearch.dataprepper.plugins.kafka.configuration.KafkaConsumerConfig;
 import org.opensearch.dataprepper.plugins.kafka.configuration.KafkaKeyMode;
 import org.opensearch.dataprepper.plugins.kafka.configuration.TopicConsumerConfig;
@@ -354,6 +357,41 @@ public class KafkaCustomConsumerTest {
         verify(topicMetrics).recordProcessingLatency(anyLong());
     }
 
+    @Test
+    public void testBufferEnvelopeConsumeRecords() throws InterruptedException {
+        String topic = topicConfig.getName();
+        when(topicConfig.getSerdeFormat()).thenReturn(MessageFormat.BYTES);
+        final KafkaBufferMessage.EventEnvelope eventEnvelope = KafkaBufferMessage.EventEnvelope.newBuilder()
+                .addEvents(KafkaBufferMessage.EnvelopedEvent.newBuilder()
+                        .setData(ByteString.copyFromUtf8(testJsonValue1))
+                        .setTimeReceivedEpochMillis(1_700_000_000_000L))
+                .addEvents(KafkaBufferMessage.EnvelopedEvent.newBuilder()
+                        .setData(ByteString.copyFromUtf8(testJsonValue2)))
+                .build();
+        final ConsumerRecord<String, Object> envelopeRecord = new ConsumerRecord<>(topic, testPartition, 0L, testKey1,
+                new BufferEnvelope(eventEnvelope.toByteArray()));
+        consumerRecords = new ConsumerRecords(Map.of(new TopicPartition(topic, testPartition), List.of(envelopeRecord)));
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(consumerRecords);
+        consumer = createObjectUnderTest("bytes", false);
+
+        try {
+            consumer.onPartitionsAssigned(List.of(new TopicPartition(topic, testPartition)));
+            consumer.consumeRecords();
+        } catch (Exception e){}
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> bufferRecords = buffer.read(1000);
+        ArrayList<Record<Event>> bufferedRecords = new ArrayList<>(bufferRecords.getKey());
+        assertEquals(2, bufferedRecords.size());
+        Map<TopicPartition, OffsetAndMetadata> offsetsToCommit = consumer.getOffsetsToCommit();
+        assertEquals(offsetsToCommit.size(), 1);
+        offsetsToCommit.forEach((topicPartition, offsetAndMetadata) -> assertEquals(offsetAndMetadata.offset(), 1L));
+
+        Event event = bufferedRecords.get(0).getData();
+        assertEquals(event.get("key1", String.class), "value1");
+        assertEquals(event.getMetadata().getTimeReceived(), Instant.ofEpochMilli(1_700_000_000_000L));
+        event = bufferedRecords.get(1).getData();
+        assertEquals(event.get("key3", String.class), "value3");
+    }
+
     @Test
     public void onPartitionsAssigned_incrementsRebalanceCount() {
         final Counter rebalanceCounter = mock(Counter.class);
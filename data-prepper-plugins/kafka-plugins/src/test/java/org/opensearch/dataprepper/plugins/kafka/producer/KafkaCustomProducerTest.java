@@ -38,6 +38,7 @@ import org.opensearch.dataprepper.plugins.kafka.util.KafkaTopicProducerMetrics;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -151,6 +152,38 @@ public class KafkaCustomProducerTest {
         verify(numberOfRawDataSendErrors).increment();
     }
 
+    @Test
+    public void produceEnvelope_sends_one_record_for_all_events() throws Exception {
+        when(kafkaSinkConfig.getSerdeFormat()).thenReturn("bytes");
+        KafkaProducer kafkaProducer = mock(KafkaProducer.class);
+        producer = new KafkaCustomProducer(kafkaProducer, kafkaSinkConfig, dlqSink, mock(ExpressionEvaluator.class),
+                null, kafkaTopicProducerMetrics, schemaService);
+        final Record<Event> record2 = new Record<>(JacksonEvent.fromMessage(UUID.randomUUID().toString()));
+        final Object envelope = new Object();
+
+        producer.produceEnvelope(List.of(record, record2), envelope);
+
+        final ArgumentCaptor<ProducerRecord> recordArgumentCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaProducer).send(recordArgumentCaptor.capture(), any(Callback.class));
+        assertEquals(recordArgumentCaptor.getValue().topic(), kafkaSinkConfig.getTopic().getName());
+        assertEquals(recordArgumentCaptor.getValue().key(), "testkey");
+        assertEquals(recordArgumentCaptor.getValue().value(), envelope);
+        verifyNoInteractions(numberOfRecordSendErrors);
+    }
+
+    @Test
+    public void produceEnvelope_sendError() throws Exception {
+        when(kafkaSinkConfig.getSerdeFormat()).thenReturn("bytes");
+        KafkaProducer kafkaProducer = mock(KafkaProducer.class);
+        producer = new KafkaCustomProducer(kafkaProducer, kafkaSinkConfig, dlqSink, mock(ExpressionEvaluator.class),
+                null, kafkaTopicProducerMetrics, schemaService);
+        when(kafkaTopicProducerMetrics.getNumberOfRecordSendErrors()).thenReturn(numberOfRecordSendErrors);
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenThrow(new KafkaException());
+
+        assertThrows(KafkaException.class, () -> producer.produceEnvelope(List.of(record), new Object()));
+        verify(numberOfRecordSendErrors).increment();
+    }
+
     @Test
     public void producePlainTextRecords() throws Exception {
         when(kafkaSinkConfig.getSerdeFormat()).thenReturn("plaintext");
@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.mongo.converter;
+
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.opensearch.dataprepper.plugins.mongo.client.BsonHelper.JSON_WRITER_SETTINGS;
+
+/**
+ * Compares converting MongoDB documents to events through an intermediate JSON string and map
+ * against decoding the BSON directly.
+ */
+@Fork(2)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 5, time = 10)
+public class RecordConverterBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"5", "20", "50"})
+        int documentSizeKb;
+
+        RecordConverter recordConverter;
+        RawBsonDocument document;
+        long eventVersionNumber;
+
+        @Setup
+        public void setUp() {
+            recordConverter = new RecordConverter(UUID.randomUUID().toString(), "EXPORT");
+            document = createOrderDocument(documentSizeKb * 1024, new Random(42));
+            eventVersionNumber = System.currentTimeMillis() * 1_000L;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Event benchmark_convert_through_json(final BenchmarkState state) {
+        final String record = state.document.toJson(JSON_WRITER_SETTINGS);
+        return state.recordConverter.convert(record, System.currentTimeMillis(), state.eventVersionNumber, "OBJECT_ID");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Event benchmark_convert_from_bson(final BenchmarkState state) {
+        return state.recordConverter.convert(state.document, System.currentTimeMillis(), state.eventVersionNumber, "OBJECT_ID");
+    }
+
+    /**
+     * Builds an order-like document with nested line items until it reaches the target encoded size.
+     */
+    private static RawBsonDocument createOrderDocument(final int targetBytes, final Random random) {
+        final BsonDocument document = new BsonDocument("_id", new BsonObjectId(new ObjectId()))
+                .append("customerId", new BsonString(UUID.randomUUID().toString()))
+                .append("createdAt", new BsonDateTime(System.currentTimeMillis()))
+                .append("status", new BsonString("SHIPPED"))
+                .append("priority", new BsonBoolean(random.nextBoolean()))
+                .append("shippingAddress", new BsonDocument("street", new BsonString("410 Terry Ave N"))
+                        .append("city", new BsonString("Seattle"))
+                        .append("postalCode", new BsonString("98109"))
+                        .append("location", new BsonArray(List.of(new BsonDouble(47.6221), new BsonDouble(-122.3366)))));
+        final BsonArray lineItems = new BsonArray();
+        document.append("lineItems", lineItems);
+
+        int index = 0;
+        while (BsonToJsonNodeDecoder.getEncodedSize(document) < targetBytes) {
+            lineItems.add(new BsonDocument("sku", new BsonString("SKU-" + index))
+                    .append("productId", new BsonObjectId(new ObjectId()))
+                    .append("quantity", new BsonInt32(random.nextInt(10) + 1))
+                    .append("price", new BsonDecimal128(new Decimal128(BigDecimal.valueOf(random.nextInt(100_000), 2))))
+                    .append("inventoryVersion", new BsonInt64(random.nextLong()))
+                    .append("description", new BsonString(UUID.randomUUID() + " " + UUID.randomUUID()))
+                    .append("thumbnail", new BsonBinary(UUID.randomUUID().toString().getBytes())));
+            index++;
+        }
+        return new RawBsonDocument(document, new BsonDocumentCodec());
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.mongo.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDbPointer;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonReader;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+
+import java.util.Base64;
+
+import static org.bson.BsonBinarySubType.UUID_STANDARD;
+
+/**
+ * Decodes a {@link BsonDocument} into a Jackson {@link ObjectNode} in a single pass over the BSON.
+ * For a {@link RawBsonDocument} the encoded bytes are read directly, so no intermediate
+ * {@link org.bson.BsonValue} tree, JSON string or {@link java.util.Map} is created.
+ * <p>
+ * The produced tree is the same as serializing the document with
+ * {@link org.opensearch.dataprepper.plugins.mongo.client.BsonHelper#JSON_WRITER_SETTINGS} and parsing the
+ * JSON back into a map.
+ */
+public class BsonToJsonNodeDecoder {
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+    private static final BsonDocumentCodec BSON_DOCUMENT_CODEC = new BsonDocumentCodec();
+    private static final String REGEX_PATTERN = "pattern";
+    private static final String REGEX_OPTIONS = "options";
+    private static final String NUMBER_DOUBLE = "$numberDouble";
+    private static final String SYMBOL = "$symbol";
+    private static final String CODE = "$code";
+    private static final String SCOPE = "$scope";
+    private static final String DB_POINTER = "$dbPointer";
+    private static final String REF = "$ref";
+    private static final String ID = "$id";
+
+    /**
+     * Decodes the document into an object node.
+     *
+     * @param document the BSON document
+     * @return the object node representing the document
+     */
+    public ObjectNode decode(final BsonDocument document) {
+        try (final BsonReader reader = createReader(document)) {
+            return readDocument(reader);
+        }
+    }
+
+    /**
+     * Returns the encoded BSON size of the document in bytes.
+     *
+     * @param document the BSON document
+     * @return the size in bytes
+     */
+    public static long getEncodedSize(final BsonDocument document) {
+        if (document instanceof RawBsonDocument) {
+            return ((RawBsonDocument) document).getByteBuffer().remaining();
+        }
+        return new RawBsonDocument(document, BSON_DOCUMENT_CODEC).getByteBuffer().remaining();
+    }
+
+    private static BsonReader createReader(final BsonDocument document) {
+        if (document instanceof RawBsonDocument) {
+            return new BsonBinaryReader(((RawBsonDocument) document).getByteBuffer().asNIO());
+        }
+        return new BsonDocumentReader(document);
+    }
+
+    private ObjectNode readDocument(final BsonReader reader) {
+        final ObjectNode objectNode = NODE_FACTORY.objectNode();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String name = reader.readName();
+            objectNode.set(name, readValue(reader));
+        }
+        reader.readEndDocument();
+        return objectNode;
+    }
+
+    private ArrayNode readArray(final BsonReader reader) {
+        final ArrayNode arrayNode = NODE_FACTORY.arrayNode();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            arrayNode.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return arrayNode;
+    }
+
+    private JsonNode readValue(final BsonReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT:
+                return readDocument(reader);
+            case ARRAY:
+                return readArray(reader);
+            case DOUBLE:
+                return doubleNode(reader.readDouble());
+            case STRING:
+                return NODE_FACTORY.textNode(reader.readString());
+            case BINARY:
+                return NODE_FACTORY.textNode(getStringFromBsonBinary(reader.readBinaryData()));
+            case OBJECT_ID:
+                return NODE_FACTORY.textNode(reader.readObjectId().toHexString());
+            case BOOLEAN:
+                return NODE_FACTORY.booleanNode(reader.readBoolean());
+            case DATE_TIME:
+                return integralNode(reader.readDateTime());
+            case REGULAR_EXPRESSION:
+                final BsonRegularExpression regularExpression = reader.readRegularExpression();
+                final ObjectNode regexNode = NODE_FACTORY.objectNode();
+                regexNode.put(REGEX_PATTERN, regularExpression.getPattern());
+                regexNode.put(REGEX_OPTIONS, regularExpression.getOptions());
+                return regexNode;
+            case DB_POINTER:
+                final BsonDbPointer dbPointer = reader.readDBPointer();
+                final ObjectNode pointerNode = NODE_FACTORY.objectNode();
+                pointerNode.put(REF, dbPointer.getNamespace());
+                pointerNode.put(ID, dbPointer.getId().toHexString());
+                final ObjectNode dbPointerNode = NODE_FACTORY.objectNode();
+                dbPointerNode.set(DB_POINTER, pointerNode);
+                return dbPointerNode;
+            case JAVASCRIPT:
+                final ObjectNode codeNode = NODE_FACTORY.objectNode();
+                codeNode.put(CODE, reader.readJavaScript());
+                return codeNode;
+            case JAVASCRIPT_WITH_SCOPE:
+                final ObjectNode codeWithScopeNode = NODE_FACTORY.objectNode();
+                codeWithScopeNode.put(CODE, reader.readJavaScriptWithScope());
+                codeWithScopeNode.set(SCOPE, readDocument(reader));
+                return codeWithScopeNode;
+            case SYMBOL:
+                final ObjectNode symbolNode = NODE_FACTORY.objectNode();
+                symbolNode.put(SYMBOL, reader.readSymbol());
+                return symbolNode;
+            case INT32:
+                return NODE_FACTORY.numberNode(reader.readInt32());
+            case TIMESTAMP:
+                return integralNode(reader.readTimestamp().getTime());
+            case INT64:
+                return integralNode(reader.readInt64());
+            case DECIMAL128:
+                return NODE_FACTORY.textNode(reader.readDecimal128().bigDecimalValue().toPlainString());
+            case NULL:
+                reader.readNull();
+                return NODE_FACTORY.nullNode();
+            case UNDEFINED:
+                reader.readUndefined();
+                return NODE_FACTORY.nullNode();
+            case MIN_KEY:
+                reader.readMinKey();
+                return NODE_FACTORY.nullNode();
+            case MAX_KEY:
+                reader.readMaxKey();
+                return NODE_FACTORY.nullNode();
+            default:
+                throw new IllegalArgumentException("Unsupported BSON type: " + reader.getCurrentBsonType());
+        }
+    }
+
+    /**
+     * Relaxed extended JSON writes finite doubles as plain numbers and the others as a
+     * {@code $numberDouble} wrapper.
+     */
+    private static JsonNode doubleNode(final double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            final ObjectNode objectNode = NODE_FACTORY.objectNode();
+            objectNode.put(NUMBER_DOUBLE, Double.toString(value));
+            return objectNode;
+        }
+        return NODE_FACTORY.numberNode(value);
+    }
+
+    /**
+     * Matches how Jackson reads integral JSON numbers into a map: values that fit in an int become ints.
+     */
+    private static JsonNode integralNode(final long value) {
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return NODE_FACTORY.numberNode((int) value);
+        }
+        return NODE_FACTORY.numberNode(value);
+    }
+
+    private static String getStringFromBsonBinary(final BsonBinary bsonBinary) {
+        if (bsonBinary.getType() == UUID_STANDARD.getValue()) {
+            return bsonBinary.asUuid().toString();
+        } else {
+            return Base64.getEncoder().encodeToString(bsonBinary.getData());
+        }
+    }
+}
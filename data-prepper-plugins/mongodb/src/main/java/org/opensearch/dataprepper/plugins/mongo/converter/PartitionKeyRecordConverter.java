@@ -1,6 +1,7 @@
 package org.opensearch.dataprepper.plugins.mongo.converter;
 
 import com.mongodb.client.model.changestream.OperationType;
+import org.bson.BsonDocument;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventMetadata;
 
@@ -31,10 +32,25 @@ public class PartitionKeyRecordConverter extends RecordConverter {
                          final OperationType eventName,
                          final String primaryKeyBsonType) {
         final Event event =  super.convert(record, eventCreateTimeEpochMillis, eventVersionNumber, eventName, primaryKeyBsonType);
+        setS3PartitionKey(event);
+        return event;
+    }
+
+    @Override
+    public Event convert(final BsonDocument record,
+                         final long eventCreateTimeEpochMillis,
+                         final long eventVersionNumber,
+                         final OperationType eventName,
+                         final String primaryKeyBsonType) {
+        final Event event =  super.convert(record, eventCreateTimeEpochMillis, eventVersionNumber, eventName, primaryKeyBsonType);
+        setS3PartitionKey(event);
+        return event;
+    }
+
+    private void setS3PartitionKey(final Event event) {
         final EventMetadata eventMetadata = event.getMetadata();
         final String partitionKey = String.valueOf(eventMetadata.getAttribute(MetadataKeyAttributes.PARTITION_KEY_METADATA_ATTRIBUTE));
         eventMetadata.setAttribute(MetadataKeyAttributes.EVENT_S3_PARTITION_KEY, s3PathPrefix + S3_PATH_DELIMITER + hashKeyToPartition(partitionKey));
-        return event;
     }
 
     private String hashKeyToPartition(final String key) {
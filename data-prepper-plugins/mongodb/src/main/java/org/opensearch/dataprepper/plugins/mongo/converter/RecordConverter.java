@@ -7,7 +7,9 @@ package org.opensearch.dataprepper.plugins.mongo.converter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.client.model.changestream.OperationType;
+import org.bson.BsonDocument;
 import org.opensearch.dataprepper.model.document.JacksonDocument;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventMetadata;
@@ -26,6 +28,7 @@ public class RecordConverter {
     private static final Logger LOG = LoggerFactory.getLogger(RecordConverter.class);
     private static final String DEFAULT_ACTION = OpenSearchBulkActions.INDEX.toString();
     private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final BsonToJsonNodeDecoder BSON_DECODER = new BsonToJsonNodeDecoder();
 
     private final String collection;
     private final String dataType;
@@ -70,6 +73,59 @@ public class RecordConverter {
                 .withData(data)
                 .build();
 
+        final String partitionKey = getAttributeValue(data, MetadataKeyAttributes.DOCUMENTDB_PRIMARY_KEY_ATTRIBUTE_NAME);
+        setMetadata(event, partitionKey, eventCreateTimeEpochMillis, eventVersionNumber, eventName, primaryKeyBsonType);
+        return event;
+    }
+
+    /**
+     * Convert the source BSON document into a JacksonEvent without an intermediate JSON string or map.
+     *
+     * @param record                  BSON document that will be converted to Event.
+     * @param eventCreateTimeEpochMillis Creation timestamp of the event in epoch millis
+     * @param eventVersionNumber      Event version number to handle conflicts
+     * @param eventName               Event name
+     * @param primaryKeyBsonType      primaryKeyBsonType
+     * @return Jackson document event
+     */
+    public Event convert(final BsonDocument record,
+                         final long eventCreateTimeEpochMillis,
+                         final long eventVersionNumber,
+                         final OperationType eventName,
+                         final String primaryKeyBsonType) {
+        final ObjectNode data = BSON_DECODER.decode(record);
+        final Event event = JacksonDocument.builder()
+                .withJsonNode(data)
+                .build();
+
+        final String partitionKey = data.has(MetadataKeyAttributes.DOCUMENTDB_PRIMARY_KEY_ATTRIBUTE_NAME) ?
+                String.valueOf(event.get(MetadataKeyAttributes.DOCUMENTDB_PRIMARY_KEY_ATTRIBUTE_NAME, Object.class)) : null;
+        setMetadata(event, partitionKey, eventCreateTimeEpochMillis, eventVersionNumber, eventName, primaryKeyBsonType);
+        return event;
+    }
+
+    /**
+     * Convert the source BSON document into a JacksonEvent.
+     *
+     * @param record                  BSON document that will be converted to Event.
+     * @param eventCreationTimeMillis Creation timestamp of the event
+     * @param eventVersionNumber      Event version number to handle conflicts
+     * @param primaryKeyBsonType      primaryKeyBsonType
+     * @return Jackson document event
+     */
+    public Event convert(final BsonDocument record,
+                         final long eventCreationTimeMillis,
+                         final long eventVersionNumber,
+                         final String primaryKeyBsonType) {
+        return convert(record, eventCreationTimeMillis, eventVersionNumber, null, primaryKeyBsonType);
+    }
+
+    private void setMetadata(final Event event,
+                             final String partitionKey,
+                             final long eventCreateTimeEpochMillis,
+                             final long eventVersionNumber,
+                             final OperationType eventName,
+                             final String primaryKeyBsonType) {
         // Only set external origination time for stream events, not export
         if (eventName != null) {
             final Instant externalOriginationTime = Instant.ofEpochMilli(eventCreateTimeEpochMillis);
@@ -85,12 +141,9 @@ public class RecordConverter {
         eventMetadata.setAttribute(MetadataKeyAttributes.EVENT_NAME_BULK_ACTION_METADATA_ATTRIBUTE, mapStreamEventNameToBulkAction(eventName));
         eventMetadata.setAttribute(MetadataKeyAttributes.EVENT_VERSION_FROM_TIMESTAMP, eventVersionNumber);
 
-        final String partitionKey = getAttributeValue(data, MetadataKeyAttributes.DOCUMENTDB_PRIMARY_KEY_ATTRIBUTE_NAME);
         eventMetadata.setAttribute(MetadataKeyAttributes.PARTITION_KEY_METADATA_ATTRIBUTE, partitionKey);
         eventMetadata.setAttribute(MetadataKeyAttributes.PRIMARY_KEY_DOCUMENT_ID_METADATA_ATTRIBUTE, partitionKey);
         eventMetadata.setAttribute(MetadataKeyAttributes.DOCUMENTDB_ID_TYPE_METADATA_ATTRIBUTE, primaryKeyBsonType);
-
-        return event;
     }
 
     /**
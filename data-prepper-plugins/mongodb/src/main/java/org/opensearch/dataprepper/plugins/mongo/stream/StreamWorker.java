@@ -15,6 +15,7 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
@@ -22,6 +23,7 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.plugins.mongo.buffer.RecordBufferWriter;
 import org.opensearch.dataprepper.plugins.mongo.client.MongoDBConnection;
 import org.opensearch.dataprepper.plugins.mongo.configuration.MongoDBSourceConfig;
+import org.opensearch.dataprepper.plugins.mongo.converter.BsonToJsonNodeDecoder;
 import org.opensearch.dataprepper.plugins.mongo.converter.PartitionKeyRecordConverter;
 import org.opensearch.dataprepper.plugins.mongo.coordination.partition.StreamPartition;
 import org.opensearch.dataprepper.plugins.mongo.coordination.state.StreamProgressState;
@@ -145,11 +147,11 @@ public class StreamWorker {
 
     }
 
-    private MongoCursor<ChangeStreamDocument<Document>> getChangeStreamCursor(final MongoCollection<Document> collection,
+    private MongoCursor<ChangeStreamDocument<RawBsonDocument>> getChangeStreamCursor(final MongoCollection<Document> collection,
                             final String resumeToken
                             ) {
-        final ChangeStreamIterable<Document> changeStreamIterable = collection.watch(
-                        List.of(Aggregates.project(Projections.exclude(UPDATE_DESCRIPTION))))
+        final ChangeStreamIterable<RawBsonDocument> changeStreamIterable = collection.watch(
+                        List.of(Aggregates.project(Projections.exclude(UPDATE_DESCRIPTION))), RawBsonDocument.class)
                 .batchSize(streamBatchSize);
 
         if (resumeToken == null) {
@@ -194,7 +196,7 @@ public class StreamWorker {
             // Access the collection you want to stream data from
             MongoCollection<Document> collection = database.getCollection(collectionDbName.substring(collectionDBNameList.get(0).length() + 1));
 
-            try (MongoCursor<ChangeStreamDocument<Document>> cursor = getChangeStreamCursor(collection, resumeToken.orElse(null))) {
+            try (MongoCursor<ChangeStreamDocument<RawBsonDocument>> cursor = getChangeStreamCursor(collection, resumeToken.orElse(null))) {
                 while ((shouldWaitForExport(streamPartition) || shouldWaitForS3Partition(streamPartition.getCollection())) && !Thread.currentThread().isInterrupted()) {
                     LOG.info("Initial load not complete for collection {}, waiting for initial load to be complete before resuming streams.", collectionDbName);
                     try {
@@ -216,19 +218,19 @@ public class StreamWorker {
                 while (!Thread.currentThread().isInterrupted() && !stopWorker) {
                     if (cursor.hasNext()) {
                         try {
-                            final ChangeStreamDocument<Document> document = cursor.next();
+                            final ChangeStreamDocument<RawBsonDocument> document = cursor.next();
                             final OperationType operationType = document.getOperationType();
                             LOG.debug("Event Operation type {}", operationType);
                             if (isCRUDOperation(operationType)) {
-                                final String record;
+                                final BsonDocument record;
                                 if (OperationType.DELETE == operationType) {
-                                    record = document.getDocumentKey().toJson(JSON_WRITER_SETTINGS);
+                                    record = document.getDocumentKey();
                                 } else {
-                                    record = document.getFullDocument().toJson(JSON_WRITER_SETTINGS);
+                                    record = document.getFullDocument();
                                 }
                                 final long eventCreateTimeEpochMillis = document.getClusterTime().getTime() * 1_000L;
                                 final long eventCreationTimeEpochNanos = calculateTieBreakingVersionFromTimestamp(document.getClusterTime().getTime());
-                                final long bytes = record.getBytes().length;
+                                final long bytes = BsonToJsonNodeDecoder.getEncodedSize(record);
                                 bytesReceivedSummary.record(bytes);
 
                                 final Optional<BsonDocument> primaryKeyDoc = Optional.ofNullable(document.getDocumentKey());
@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.mongo.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
+import org.bson.BsonDbPointer;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonJavaScript;
+import org.bson.BsonJavaScriptWithScope;
+import org.bson.BsonMaxKey;
+import org.bson.BsonMinKey;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.BsonSymbol;
+import org.bson.BsonTimestamp;
+import org.bson.BsonUndefined;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.opensearch.dataprepper.plugins.mongo.client.BsonHelper.JSON_WRITER_SETTINGS;
+
+class BsonToJsonNodeDecoderTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BsonToJsonNodeDecoder createObjectUnderTest() {
+        return new BsonToJsonNodeDecoder();
+    }
+
+    @ParameterizedTest
+    @MethodSource("bsonValueProvider")
+    void decode_produces_the_same_tree_as_json_conversion(final BsonValue bsonValue) throws Exception {
+        final BsonDocument document = new BsonDocument("_id", new BsonObjectId(new ObjectId()))
+                .append("field", bsonValue)
+                .append("nested", new BsonDocument("value", bsonValue))
+                .append("array", new BsonArray(List.of(bsonValue, bsonValue)));
+
+        final JsonNode expected = OBJECT_MAPPER.valueToTree(
+                OBJECT_MAPPER.readValue(document.toJson(JSON_WRITER_SETTINGS), Map.class));
+
+        assertThat(createObjectUnderTest().decode(document), equalTo(expected));
+        assertThat(createObjectUnderTest().decode(new RawBsonDocument(document, new BsonDocumentCodec())), equalTo(expected));
+    }
+
+    @Test
+    void decode_maps_bson_types() {
+        final ObjectId objectId = new ObjectId();
+        final UUID uuid = UUID.randomUUID();
+        final BsonDocument document = new BsonDocument("_id", new BsonObjectId(objectId))
+                .append("decimal", new BsonDecimal128(Decimal128.parse("123456789.0123456789")))
+                .append("date", new BsonDateTime(1714744671155L))
+                .append("uuid", new BsonBinary(uuid))
+                .append("binary", new BsonBinary(new byte[]{1, 2, 3, 4}))
+                .append("timestamp", new BsonTimestamp(1714744681, 29))
+                .append("regex", new BsonRegularExpression("^ABC", "i"));
+
+        final ObjectNode result = createObjectUnderTest().decode(new RawBsonDocument(document, new BsonDocumentCodec()));
+
+        assertThat(result.get("_id").asText(), equalTo(objectId.toHexString()));
+        assertThat(result.get("decimal").asText(), equalTo("123456789.0123456789"));
+        assertThat(result.get("date").asLong(), equalTo(1714744671155L));
+        assertThat(result.get("uuid").asText(), equalTo(uuid.toString()));
+        assertThat(result.get("binary").asText(), equalTo("AQIDBA=="));
+        assertThat(result.get("timestamp").asLong(), equalTo(1714744681L));
+        assertThat(result.get("regex").get("pattern").asText(), equalTo("^ABC"));
+        assertThat(result.get("regex").get("options").asText(), equalTo("i"));
+    }
+
+    @Test
+    void getEncodedSize_returns_the_bson_size() {
+        final BsonDocument document = new BsonDocument("_id", new BsonString(UUID.randomUUID().toString()));
+        final RawBsonDocument rawBsonDocument = new RawBsonDocument(document, new BsonDocumentCodec());
+
+        assertThat(BsonToJsonNodeDecoder.getEncodedSize(rawBsonDocument), equalTo((long) rawBsonDocument.getByteBuffer().remaining()));
+        assertThat(BsonToJsonNodeDecoder.getEncodedSize(document), equalTo((long) rawBsonDocument.getByteBuffer().remaining()));
+    }
+
+    private static Stream<Arguments> bsonValueProvider() {
+        return Stream.of(
+                Arguments.of(new BsonString(UUID.randomUUID().toString())),
+                Arguments.of(new BsonInt32(123)),
+                Arguments.of(new BsonInt64(123L)),
+                Arguments.of(new BsonInt64(9223372036854775801L)),
+                Arguments.of(new BsonDouble(3.14159)),
+                Arguments.of(new BsonDouble(Double.NaN)),
+                Arguments.of(new BsonDouble(Double.POSITIVE_INFINITY)),
+                Arguments.of(new BsonBoolean(true)),
+                Arguments.of(new BsonNull()),
+                Arguments.of(new BsonUndefined()),
+                Arguments.of(new BsonMinKey()),
+                Arguments.of(new BsonMaxKey()),
+                Arguments.of(new BsonObjectId(new ObjectId())),
+                Arguments.of(new BsonDateTime(1714744671155L)),
+                Arguments.of(new BsonTimestamp(1714744681, 29)),
+                Arguments.of(new BsonDecimal128(new Decimal128(new BigDecimal("123456789.0123456789")))),
+                Arguments.of(new BsonBinary(new byte[]{1, 2, 3, 4})),
+                Arguments.of(new BsonBinary(BsonBinarySubType.UUID_STANDARD, new BsonBinary(UUID.randomUUID()).getData())),
+                Arguments.of(new BsonRegularExpression("^ABC", "i")),
+                Arguments.of(new BsonSymbol("symbol")),
+                Arguments.of(new BsonJavaScript("function() {}")),
+                Arguments.of(new BsonJavaScriptWithScope("function() {}", new BsonDocument("x", new BsonInt32(1)))),
+                Arguments.of(new BsonDbPointer("db.collection", new ObjectId())),
+                Arguments.of(new BsonDocument("key", new BsonString("value")))
+        );
+    }
+}
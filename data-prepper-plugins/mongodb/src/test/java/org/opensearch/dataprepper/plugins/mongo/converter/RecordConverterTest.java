@@ -6,6 +6,13 @@
 package org.opensearch.dataprepper.plugins.mongo.converter;
 
 import com.mongodb.client.model.changestream.OperationType;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -112,4 +119,35 @@ class RecordConverterTest {
         assertThat(event.getEventHandle().getExternalOriginationTime(), equalTo(Instant.ofEpochMilli(exportStartTime)));
         assertThat(event.getMetadata().getExternalOriginationTime(), equalTo(Instant.ofEpochMilli(exportStartTime)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void convertBsonDocumentWithEventName() {
+        final ObjectId id = new ObjectId();
+        final int quantity = random.nextInt();
+        final BsonDocument record = new BsonDocument("_id", new BsonObjectId(id))
+                .append("quantity", new BsonInt32(quantity))
+                .append("orderDate", new BsonDocument("date", new BsonString(LocalDate.now().toString())));
+        final long exportStartTime = Instant.now().toEpochMilli();
+        final long eventVersionNumber = random.nextLong();
+        final OperationType eventName = OperationType.DELETE;
+        final String collection = UUID.randomUUID().toString();
+        final String primaryKeyType = UUID.randomUUID().toString();
+        final RecordConverter recordConverter = new RecordConverter(collection, StreamPartition.PARTITION_TYPE);
+
+        final JacksonEvent event = (JacksonEvent) recordConverter.convert(
+                new RawBsonDocument(record, new BsonDocumentCodec()), exportStartTime, eventVersionNumber, eventName, primaryKeyType);
+
+        assertThat(event.get("_id", String.class), equalTo(id.toHexString()));
+        assertThat(event.get("quantity", Integer.class), equalTo(quantity));
+        assertThat(event.get("orderDate/date", String.class), equalTo(LocalDate.now().toString()));
+        assertThat(event.getMetadata().getAttribute(PARTITION_KEY_METADATA_ATTRIBUTE), equalTo(id.toHexString()));
+        assertThat(event.getMetadata().getAttribute(PRIMARY_KEY_DOCUMENT_ID_METADATA_ATTRIBUTE), equalTo(id.toHexString()));
+        assertThat(event.getMetadata().getAttribute(DOCUMENTDB_EVENT_COLLECTION_METADATA_ATTRIBUTE), equalTo(collection));
+        assertThat(event.getMetadata().getAttribute(EVENT_NAME_BULK_ACTION_METADATA_ATTRIBUTE), equalTo(OpenSearchBulkActions.DELETE.toString()));
+        assertThat(event.getMetadata().getAttribute(DOCUMENTDB_STREAM_EVENT_NAME_METADATA_ATTRIBUTE), equalTo(eventName));
+        assertThat(event.getMetadata().getAttribute(DOCUMENTDB_EVENT_TIMESTAMP_METADATA_ATTRIBUTE), equalTo(exportStartTime));
+        assertThat(event.getMetadata().getAttribute(EVENT_VERSION_FROM_TIMESTAMP), equalTo(eventVersionNumber));
+        assertThat(event.getMetadata().getAttribute(INGESTION_EVENT_TYPE_ATTRIBUTE), equalTo(StreamPartition.PARTITION_TYPE));
+        assertThat(event.getEventHandle().getExternalOriginationTime(), equalTo(Instant.ofEpochMilli(exportStartTime)));
+    }
+}
@@ -12,9 +12,9 @@ import org.bson.BsonDocument;
 import org.bson.BsonObjectId;
 import org.bson.BsonString;
 import org.bson.BsonType;
-import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
 import org.bson.conversions.Bson;
-import org.bson.json.JsonWriterSettings;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -139,7 +139,7 @@ public class ExportPartitionWorkerTest {
         FindIterable findIterable = mock(FindIterable.class);
         MongoCursor cursor = mock(MongoCursor.class);
         lenient().when(mongoClient.getDatabase(anyString())).thenReturn(mongoDatabase);
-        lenient().when(mongoDatabase.getCollection(anyString())).thenReturn(col);
+        lenient().when(mongoDatabase.getCollection(anyString(), eq(RawBsonDocument.class))).thenReturn(col);
         lenient().when(col.find()).thenReturn(findIterable);
         lenient().when(col.find(any(Bson.class))).thenReturn(findIterable);
         lenient().when(findIterable.projection(any())).thenReturn(findIterable);
@@ -148,18 +148,11 @@ public class ExportPartitionWorkerTest {
         lenient().when(findIterable.limit(anyInt())).thenReturn(findIterable);
         lenient().when(findIterable.iterator()).thenReturn(cursor);
         lenient().when(cursor.hasNext()).thenReturn(true, true, false);
-        Document doc1 = mock(Document.class);
-        Document doc2 = mock(Document.class);
-        BsonDocument bsonDoc1 = mock(BsonDocument.class);
-        BsonDocument bsonDoc2 = mock(BsonDocument.class);
-        when(bsonDoc1.get("_id")).thenReturn(new BsonObjectId(new ObjectId()));
-        when(bsonDoc2.get("_id")).thenReturn(new BsonString(UUID.randomUUID().toString()));
-        when(doc1.toBsonDocument()).thenReturn(bsonDoc1);
-        when(doc2.toBsonDocument()).thenReturn(bsonDoc2);
-        final String docJson1 = UUID.randomUUID().toString();
-        final String docJson2 = UUID.randomUUID() + docJson1;
-        when(doc1.toJson(any(JsonWriterSettings.class))).thenReturn(docJson1);
-        when(doc2.toJson(any(JsonWriterSettings.class))).thenReturn(docJson2);
+        final RawBsonDocument doc1 = new RawBsonDocument(new BsonDocument("_id", new BsonObjectId(new ObjectId())), new BsonDocumentCodec());
+        final RawBsonDocument doc2 = new RawBsonDocument(new BsonDocument("_id", new BsonString(UUID.randomUUID().toString()))
+                .append("name", new BsonString(UUID.randomUUID().toString())), new BsonDocumentCodec());
+        final long docBytes1 = doc1.getByteBuffer().remaining();
+        final long docBytes2 = doc2.getByteBuffer().remaining();
         lenient().when(cursor.next())
                 .thenReturn(doc1)
                 .thenReturn(doc2);
@@ -169,8 +162,8 @@ public class ExportPartitionWorkerTest {
         Event event2 = mock((Event.class));
         when(event1.get("_id", Object.class)).thenReturn(UUID.randomUUID().toString());
         when(event2.get("_id", Object.class)).thenReturn(UUID.randomUUID().toString());
-        when(mockRecordConverter.convert(docJson1, exportStartTime, eventVersionNumber, BsonType.OBJECT_ID.name())).thenReturn(event1);
-        when(mockRecordConverter.convert(docJson2, exportStartTime, eventVersionNumber, BsonType.STRING.name())).thenReturn(event2);
+        when(mockRecordConverter.convert(doc1, exportStartTime, eventVersionNumber, BsonType.OBJECT_ID.name())).thenReturn(event1);
+        when(mockRecordConverter.convert(doc2, exportStartTime, eventVersionNumber, BsonType.STRING.name())).thenReturn(event2);
         lenient().when(dataQueryPartition.getPartitionKey()).thenReturn(partitionKey);
         lenient().when(sourceCoordinator.acquireAvailablePartition(DataQueryPartition.PARTITION_TYPE))
                 .thenReturn(Optional.of(dataQueryPartition));
@@ -201,18 +194,18 @@ public class ExportPartitionWorkerTest {
         future.cancel(true);
 
         verify(mongoClient, times(1)).close();
-        verify(mockRecordConverter).convert(docJson1, exportStartTime, eventVersionNumber, BsonType.OBJECT_ID.name());
-        verify(mockRecordConverter).convert(docJson2, exportStartTime, eventVersionNumber, BsonType.STRING.name());
-        verify(mongoDatabase).getCollection(eq("collection"));
+        verify(mockRecordConverter).convert(doc1, exportStartTime, eventVersionNumber, BsonType.OBJECT_ID.name());
+        verify(mockRecordConverter).convert(doc2, exportStartTime, eventVersionNumber, BsonType.STRING.name());
+        verify(mongoDatabase).getCollection(eq("collection"), eq(RawBsonDocument.class));
         verify(mockRecordConverter).initializePartitions(partitions);
         verify(mockRecordBufferWriter).writeToBuffer(eq(mockAcknowledgementSet), any());
         verify(event1).put(mockSourceConfig.getIdKey(), event1.get(DOCUMENTDB_ID_FIELD_NAME, Object.class));
         verify(event2).put(mockSourceConfig.getIdKey(), event2.get(DOCUMENTDB_ID_FIELD_NAME, Object.class));
         verify(exportRecordTotalCounter, times(2)).increment();
         verify(successItemsCounter).increment(2.0);
-        verify(bytesReceivedSummary).record(docJson1.getBytes().length);
-        verify(bytesReceivedSummary).record(docJson2.getBytes().length);
-        verify(bytesProcessedSummary).record(docJson1.getBytes().length + docJson2.getBytes().length);
+        verify(bytesReceivedSummary).record(docBytes1);
+        verify(bytesReceivedSummary).record(docBytes2);
+        verify(bytesProcessedSummary).record(docBytes1 + docBytes2);
         verify(failureItemsCounter, never()).increment();
         verify(exportApiInvocations).increment();
         verify(export4xxErrors, never()).increment();
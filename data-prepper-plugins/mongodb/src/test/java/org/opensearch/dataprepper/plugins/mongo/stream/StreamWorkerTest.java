@@ -1,5 +1,6 @@
 package org.opensearch.dataprepper.plugins.mongo.stream;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mongodb.MongoClientException;
 import com.mongodb.client.ChangeStreamIterable;
 import com.mongodb.client.MongoClient;
@@ -25,7 +26,7 @@ import org.bson.BsonTimestamp;
 import org.bson.BsonType;
 import org.bson.BsonUndefined;
 import org.bson.BsonValue;
-import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.json.JsonWriterSettings;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
@@ -43,6 +44,7 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.plugins.mongo.buffer.RecordBufferWriter;
 import org.opensearch.dataprepper.plugins.mongo.client.MongoDBConnection;
 import org.opensearch.dataprepper.plugins.mongo.configuration.MongoDBSourceConfig;
+import org.opensearch.dataprepper.plugins.mongo.converter.BsonToJsonNodeDecoder;
 import org.opensearch.dataprepper.plugins.mongo.converter.PartitionKeyRecordConverter;
 import org.opensearch.dataprepper.plugins.mongo.coordination.partition.StreamPartition;
 import org.opensearch.dataprepper.plugins.mongo.coordination.state.StreamProgressState;
@@ -60,6 +62,8 @@ import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -124,6 +128,7 @@ public class StreamWorkerTest {
     private StreamWorker streamWorker;
 
     private static final Random random = new Random();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     @BeforeEach
     public void setup() {
@@ -161,16 +166,17 @@ public class StreamWorkerTest {
         MongoCursor cursor = mock(MongoCursor.class);
         when(mongoClient.getDatabase(anyString())).thenReturn(mongoDatabase);
         when(mongoDatabase.getCollection(anyString())).thenReturn(col);
-        when(col.watch(anyList())).thenReturn(changeStreamIterable);
+        when(col.watch(anyList(), eq(RawBsonDocument.class))).thenReturn(changeStreamIterable);
         when(changeStreamIterable.batchSize(1000)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.fullDocument(FullDocument.UPDATE_LOOKUP)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.iterator()).thenReturn(cursor);
         when(cursor.hasNext()).thenReturn(true, true, false);
         ChangeStreamDocument streamDoc1 = mock(ChangeStreamDocument.class);
         ChangeStreamDocument streamDoc2 = mock(ChangeStreamDocument.class);
-        Document doc1 = mock(Document.class);
-        BsonDocument doc1Key = mock(BsonDocument.class);
-        BsonDocument doc2Key = mock(BsonDocument.class);
+        final BsonInt64 doc1Id = new BsonInt64(random.nextLong());
+        final RawBsonDocument doc1 = RawBsonDocument.parse("{\"_id\": " + doc1Id.getValue() + ", \"name\": \"" + UUID.randomUUID() + "\"}");
+        final BsonDocument doc1Key = new BsonDocument("_id", doc1Id);
+        final BsonDocument doc2Key = new BsonDocument("_id", new BsonInt32(random.nextInt()));
         BsonDocument bsonDoc1 = new BsonDocument("resumeToken1", new BsonInt32(123));
         BsonDocument bsonDoc2 = new BsonDocument("resumeToken2", new BsonInt32(234));
         when(streamDoc1.getResumeToken()).thenReturn(bsonDoc1);
@@ -180,12 +186,8 @@ public class StreamWorkerTest {
         when(cursor.next())
             .thenReturn(streamDoc1)
             .thenReturn(streamDoc2);
-        final String doc1Json1 = UUID.randomUUID().toString();
-        final String doc1Json2 = UUID.randomUUID().toString();
-        when(doc1Key.get("_id")).thenReturn(new BsonInt64(random.nextLong()));
-        when(doc1.toJson(any(JsonWriterSettings.class))).thenReturn(doc1Json1);
-        when(doc2Key.get("_id")).thenReturn(new BsonInt32(random.nextInt()));
-        when(doc2Key.toJson(any(JsonWriterSettings.class))).thenReturn(doc1Json2);
+        final long doc1Bytes = doc1.getByteBuffer().remaining();
+        final long doc2Bytes = BsonToJsonNodeDecoder.getEncodedSize(doc2Key);
         when(streamDoc1.getFullDocument()).thenReturn(doc1);
         when(streamDoc1.getDocumentKey()).thenReturn(doc1Key);
         when(streamDoc2.getDocumentKey()).thenReturn(doc2Key);
@@ -204,7 +206,7 @@ public class StreamWorkerTest {
         when(mockSourceConfig.getIdKey()).thenReturn("docdb_id");
         Event event = mock(Event.class);
         when(event.get("_id", Object.class)).thenReturn(UUID.randomUUID().toString());
-        when(mockRecordConverter.convert(anyString(), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
+        when(mockRecordConverter.convert(any(BsonDocument.class), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
         final ExecutorService executorService = Executors.newSingleThreadExecutor();
         final Future<?> future = executorService.submit(() -> {
             try (MockedStatic<MongoDBConnection> mongoDBConnectionMockedStatic = mockStatic(MongoDBConnection.class)) {
@@ -219,14 +221,14 @@ public class StreamWorkerTest {
         verify(mongoDatabase).getCollection(eq("collection"));
         verify(mockPartitionCheckpoint).getGlobalS3FolderCreationStatus(collection);
         verify(mockRecordConverter).initializePartitions(partitions);
-        verify(mockRecordConverter).convert(eq(doc1Json1), eq(timeSecond1 * 1_000L), eq(timeSecond1 * 1_000_000L), eq(OperationType.INSERT), eq(BsonType.INT64.name()));
-        verify(mockRecordConverter).convert(eq(doc1Json2), eq(timeSecond2 * 1_000L), eq(timeSecond2 * 1_000_000L), eq(OperationType.DELETE), eq(BsonType.INT32.name()));
+        verify(mockRecordConverter).convert(eq(doc1), eq(timeSecond1 * 1_000L), eq(timeSecond1 * 1_000_000L), eq(OperationType.INSERT), eq(BsonType.INT64.name()));
+        verify(mockRecordConverter).convert(eq(doc2Key), eq(timeSecond2 * 1_000L), eq(timeSecond2 * 1_000_000L), eq(OperationType.DELETE), eq(BsonType.INT32.name()));
         verify(mockRecordBufferWriter).writeToBuffer(eq(null), any());
         verify(event, times(2)).put(mockSourceConfig.getIdKey(), event.get(DOCUMENTDB_ID_FIELD_NAME, Object.class));
-        // doc1Json1 and doc2Json2 are of the same byte size
-        verify(bytesReceivedSummary, times(2)).record(doc1Json1.getBytes().length);
+        verify(bytesReceivedSummary).record(doc1Bytes);
+        verify(bytesReceivedSummary).record(doc2Bytes);
         verify(successItemsCounter).increment(2);
-        verify(bytesProcessedSummary).record(doc1Json1.getBytes().length + doc1Json2.getBytes().length);
+        verify(bytesProcessedSummary).record(doc1Bytes + doc2Bytes);
         verify(failureItemsCounter, never()).increment();
         verify(mockPartitionCheckpoint, atLeast(1)).checkpoint("{\"resumeToken2\": 234}", 2);
         verify(streamApiInvocations).increment();
@@ -267,7 +269,7 @@ public class StreamWorkerTest {
         MongoCursor cursor = mock(MongoCursor.class);
         when(mongoClient.getDatabase(anyString())).thenReturn(mongoDatabase);
         when(mongoDatabase.getCollection(anyString())).thenReturn(col);
-        when(col.watch(anyList())).thenReturn(changeStreamIterable);
+        when(col.watch(anyList(), eq(RawBsonDocument.class))).thenReturn(changeStreamIterable);
         when(changeStreamIterable.batchSize(1000)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.fullDocument(FullDocument.UPDATE_LOOKUP)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.iterator()).thenReturn(cursor);
@@ -278,9 +280,9 @@ public class StreamWorkerTest {
         ChangeStreamDocument streamDoc1 = mock(ChangeStreamDocument.class);
         ChangeStreamDocument streamDoc2 = mock(ChangeStreamDocument.class);
         ChangeStreamDocument streamDoc3 = mock(ChangeStreamDocument.class);
-        Document doc1 = mock(Document.class);
-        Document doc2 = mock(Document.class);
-        Document doc3 = mock(Document.class);
+        final RawBsonDocument doc1 = RawBsonDocument.parse("{\"_id\": \"" + UUID.randomUUID() + "\"}");
+        final RawBsonDocument doc2 = RawBsonDocument.parse("{\"_id\": \"" + UUID.randomUUID() + "\"}");
+        final RawBsonDocument doc3 = RawBsonDocument.parse("{\"_id\": \"" + UUID.randomUUID() + "\"}");
         BsonDocument bsonDoc1 = mock(BsonDocument.class);
         BsonDocument bsonDoc2 = mock(BsonDocument.class);
         BsonDocument bsonDoc3 = mock(BsonDocument.class);
@@ -289,9 +291,6 @@ public class StreamWorkerTest {
         when(streamDoc3.getResumeToken()).thenReturn(bsonDoc3);
         when(cursor.next())
             .thenReturn(streamDoc1, streamDoc2, streamDoc3);
-        when(doc1.toJson(any(JsonWriterSettings.class))).thenReturn(UUID.randomUUID().toString());
-        when(doc2.toJson(any(JsonWriterSettings.class))).thenReturn(UUID.randomUUID().toString());
-        when(doc3.toJson(any(JsonWriterSettings.class))).thenReturn(UUID.randomUUID().toString());
         when(streamDoc1.getFullDocument()).thenReturn(doc1);
         when(streamDoc1.getOperationType()).thenReturn(OperationType.INSERT);
         when(streamDoc2.getFullDocument()).thenReturn(doc2);
@@ -324,7 +323,7 @@ public class StreamWorkerTest {
         when(s3PartitionStatus.getPartitions()).thenReturn(partitions);
         when(mockPartitionCheckpoint.getGlobalS3FolderCreationStatus(collection)).thenReturn(Optional.of(s3PartitionStatus));
         Event event = mock(Event.class);
-        when(mockRecordConverter.convert(anyString(), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
+        when(mockRecordConverter.convert(any(BsonDocument.class), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
         try (MockedStatic<MongoDBConnection> mongoDBConnectionMockedStatic = mockStatic(MongoDBConnection.class)) {
 
             mongoDBConnectionMockedStatic.when(() -> MongoDBConnection.getMongoClient(any(MongoDBSourceConfig.class)))
@@ -360,7 +359,7 @@ public class StreamWorkerTest {
         MongoCursor cursor = mock(MongoCursor.class);
         when(mongoClient.getDatabase(anyString())).thenReturn(mongoDatabase);
         when(mongoDatabase.getCollection(anyString())).thenReturn(col);
-        when(col.watch(anyList())).thenReturn(changeStreamIterable);
+        when(col.watch(anyList(), eq(RawBsonDocument.class))).thenReturn(changeStreamIterable);
         when(changeStreamIterable.batchSize(1000)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.fullDocument(FullDocument.UPDATE_LOOKUP)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.iterator()).thenReturn(cursor);
@@ -401,7 +400,7 @@ public class StreamWorkerTest {
         MongoCursor cursor = mock(MongoCursor.class);
         when(mongoClient.getDatabase(anyString())).thenReturn(mongoDatabase);
         when(mongoDatabase.getCollection(anyString())).thenReturn(col);
-        when(col.watch(anyList())).thenReturn(changeStreamIterable);
+        when(col.watch(anyList(), eq(RawBsonDocument.class))).thenReturn(changeStreamIterable);
         when(changeStreamIterable.batchSize(1000)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.fullDocument(FullDocument.UPDATE_LOOKUP)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.iterator()).thenReturn(cursor);
@@ -409,8 +408,9 @@ public class StreamWorkerTest {
         ChangeStreamDocument streamDoc1 = mock(ChangeStreamDocument.class);
         ChangeStreamDocument streamDoc2 = mock(ChangeStreamDocument.class);
         ChangeStreamDocument streamDoc3 = mock(ChangeStreamDocument.class);
-        BsonDocument keyDoc1 = mock(BsonDocument.class);
-        Document doc1 = mock(Document.class);
+        final BsonBoolean doc1Id = new BsonBoolean(random.nextBoolean());
+        final BsonDocument keyDoc1 = new BsonDocument("_id", doc1Id);
+        final RawBsonDocument doc1 = RawBsonDocument.parse("{\"_id\": " + doc1Id.getValue() + "}");
         BsonDocument bsonDoc1 = new BsonDocument("resumeToken1", new BsonInt32(123));
         when(streamDoc1.getResumeToken()).thenReturn(bsonDoc1);
         when(streamDoc1.getOperationType()).thenReturn(OperationType.INSERT);
@@ -418,11 +418,8 @@ public class StreamWorkerTest {
         when(streamDoc3.getOperationType()).thenReturn(OperationType.DROP);
         when(cursor.next())
                 .thenReturn(streamDoc1, streamDoc2, streamDoc3);
-        final String doc1Json1 = UUID.randomUUID().toString();
-        when(doc1.toJson(any(JsonWriterSettings.class))).thenReturn(doc1Json1);
         when(streamDoc1.getFullDocument()).thenReturn(doc1);
         when(streamDoc1.getDocumentKey()).thenReturn(keyDoc1);
-        when(keyDoc1.get("_id")).thenReturn(new BsonBoolean(random.nextBoolean()));
         final OperationType operationType1 = OperationType.INSERT;
         when(streamDoc1.getOperationType()).thenReturn(operationType1);
         final BsonTimestamp bsonTimestamp1 = mock(BsonTimestamp.class);
@@ -434,7 +431,7 @@ public class StreamWorkerTest {
         when(s3PartitionStatus.getPartitions()).thenReturn(partitions);
         when(mockPartitionCheckpoint.getGlobalS3FolderCreationStatus(collection)).thenReturn(Optional.of(s3PartitionStatus));
         Event event = mock(Event.class);
-        when(mockRecordConverter.convert(anyString(), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
+        when(mockRecordConverter.convert(any(BsonDocument.class), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
         final ExecutorService executorService = Executors.newSingleThreadExecutor();
         executorService.submit(() -> {
             try (MockedStatic<MongoDBConnection> mongoDBConnectionMockedStatic = mockStatic(MongoDBConnection.class)) {
@@ -449,7 +446,7 @@ public class StreamWorkerTest {
         verify(mongoDatabase).getCollection(eq("collection"));
         verify(mockPartitionCheckpoint).getGlobalS3FolderCreationStatus(collection);
         verify(mockRecordConverter).initializePartitions(partitions);
-        verify(mockRecordConverter).convert(eq(doc1Json1), eq(timeSecond1 * 1_000L), eq(timeSecond1 * 1_000_000L), eq(operationType1), eq(BsonType.BOOLEAN.name()));
+        verify(mockRecordConverter).convert(eq(doc1), eq(timeSecond1 * 1_000L), eq(timeSecond1 * 1_000_000L), eq(operationType1), eq(BsonType.BOOLEAN.name()));
         verify(mockRecordBufferWriter).writeToBuffer(eq(null), any());
         verify(successItemsCounter).increment(1);
         verify(failureItemsCounter, never()).increment();
@@ -461,7 +458,7 @@ public class StreamWorkerTest {
 
     @ParameterizedTest
     @MethodSource("mongoDataTypeProvider")
-    void test_processStream_dataTypeConversionSuccess(final String actualDocument, final BsonValue bsonValue, final String expectedDocument) {
+    void test_processStream_dataTypeConversionSuccess(final String actualDocument, final BsonValue bsonValue, final String expectedDocument) throws Exception {
         final String collection = "database.collection";
         when(streamProgressState.shouldWaitForExport()).thenReturn(false);
         when(streamPartition.getProgressState()).thenReturn(Optional.of(streamProgressState));
@@ -473,14 +470,14 @@ public class StreamWorkerTest {
         MongoCursor cursor = mock(MongoCursor.class);
         when(mongoClient.getDatabase(anyString())).thenReturn(mongoDatabase);
         when(mongoDatabase.getCollection(anyString())).thenReturn(col);
-        when(col.watch(anyList())).thenReturn(changeStreamIterable);
+        when(col.watch(anyList(), eq(RawBsonDocument.class))).thenReturn(changeStreamIterable);
         when(changeStreamIterable.batchSize(1000)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.fullDocument(FullDocument.UPDATE_LOOKUP)).thenReturn(changeStreamIterable);
         when(changeStreamIterable.iterator()).thenReturn(cursor);
         when(cursor.hasNext()).thenReturn(true, false);
         ChangeStreamDocument streamDoc1 = mock(ChangeStreamDocument.class);
         BsonDocument key1 = mock(BsonDocument.class);
-        Document doc1 = Document.parse(actualDocument);
+        final RawBsonDocument doc1 = RawBsonDocument.parse(actualDocument);
         BsonDocument bsonDoc1 = new BsonDocument("resumeToken1", new BsonInt32(123));
         when(streamDoc1.getResumeToken()).thenReturn(bsonDoc1);
         when(streamDoc1.getOperationType()).thenReturn(OperationType.INSERT);
@@ -500,7 +497,7 @@ public class StreamWorkerTest {
         when(s3PartitionStatus.getPartitions()).thenReturn(partitions);
         when(mockPartitionCheckpoint.getGlobalS3FolderCreationStatus(collection)).thenReturn(Optional.of(s3PartitionStatus));
         Event event = mock(Event.class);
-        when(mockRecordConverter.convert(anyString(), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
+        when(mockRecordConverter.convert(any(BsonDocument.class), anyLong(), anyLong(), any(OperationType.class), anyString())).thenReturn(event);
         final ExecutorService executorService = Executors.newSingleThreadExecutor();
         executorService.submit(() -> {
             try (MockedStatic<MongoDBConnection> mongoDBConnectionMockedStatic = mockStatic(MongoDBConnection.class)) {
@@ -515,7 +512,8 @@ public class StreamWorkerTest {
         verify(mongoDatabase).getCollection(eq("collection"));
         verify(mockPartitionCheckpoint).getGlobalS3FolderCreationStatus(collection);
         verify(mockRecordConverter).initializePartitions(partitions);
-        verify(mockRecordConverter).convert(eq(expectedDocument), eq(timeSecond1 * 1_000L), eq(timeSecond1 * 1_000_000L), eq(operationType1), eq(bsonValue.getBsonType().name()));
+        verify(mockRecordConverter).convert(eq(doc1), eq(timeSecond1 * 1_000L), eq(timeSecond1 * 1_000_000L), eq(operationType1), eq(bsonValue.getBsonType().name()));
+        assertThat(new BsonToJsonNodeDecoder().decode(doc1), equalTo(OBJECT_MAPPER.readTree(expectedDocument)));
         verify(mockRecordBufferWriter).writeToBuffer(eq(null), any());
         verify(successItemsCounter).increment(1);
         verify(failureItemsCounter, never()).increment();
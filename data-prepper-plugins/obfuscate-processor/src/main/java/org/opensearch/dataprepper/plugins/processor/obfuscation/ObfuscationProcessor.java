@@ -22,6 +22,7 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.processor.obfuscation.action.MaskAction;
 import org.opensearch.dataprepper.plugins.processor.obfuscation.action.MaskActionConfig;
 import org.opensearch.dataprepper.plugins.processor.obfuscation.action.ObfuscationAction;
+import org.opensearch.dataprepper.plugins.regex.MultiPatternMatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +46,7 @@ public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Recor
     private final boolean singleWordOnly;
 
     private final List<Pattern> patterns;
+    private final MultiPatternMatcher patternMatcher;
     private final ObfuscationAction action;
 
 
@@ -109,7 +111,7 @@ public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Recor
                 }
             }
         }
-
+        this.patternMatcher = new MultiPatternMatcher(patterns);
     }
 
     @Override
@@ -131,7 +133,7 @@ public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Recor
                 String rawValue = recordEvent.get(source, String.class);
 
                 // Call obfuscation action
-                String newValue = this.action.obfuscate(rawValue, patterns, record);
+                String newValue = obfuscate(rawValue, record);
 
                 // No changes means it does not match any patterns
                 if (rawValue.equals(newValue)) {
@@ -151,6 +153,22 @@ public class ObfuscationProcessor extends AbstractProcessor<Record<Event>, Recor
         return records;
     }
 
+    /**
+     * Runs the action with only the patterns which can change the value. Patterns before the first candidate cannot
+     * match the raw value, so they are skipped. Patterns from the first candidate on are all kept because an earlier
+     * replacement may produce text which a later pattern matches.
+     */
+    private String obfuscate(final String rawValue, final Record<Event> record) {
+        if (patterns.isEmpty()) {
+            return action.obfuscate(rawValue, patterns, record);
+        }
+        final int[] candidates = patternMatcher.findCandidates(rawValue);
+        if (candidates.length == 0) {
+            return rawValue;
+        }
+        return action.obfuscate(rawValue, patterns.subList(candidates[0], patterns.size()), record);
+    }
+
     private ObfuscationAction createDefaultAction() {
         LOG.debug("Create a default mask action");
         final MaskActionConfig config = new MaskActionConfig();
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
@@ -29,6 +30,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -41,6 +43,8 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -159,6 +163,50 @@ class ObfuscationProcessorTest {
         assertThat(data.get("message", String.class), equalTo("abc"));
     }
 
+    @Test
+    void testProcessorDoesNotCallActionWhenNoPatternCanMatch() {
+        final PluginModel mockModel = mock(PluginModel.class);
+        final ObfuscationAction mockAction = mock(ObfuscationAction.class);
+
+        when(mockModel.getPluginName()).thenReturn("mock");
+        when(mockModel.getPluginSettings()).thenReturn(new HashMap<>());
+        when(mockConfig.getAction()).thenReturn(mockModel);
+        when(mockConfig.getPatterns()).thenReturn(List.of("secret", "password=\\w+"));
+        when(mockFactory.loadPlugin(eq(ObfuscationAction.class), any(PluginSetting.class)))
+                .thenReturn(mockAction);
+        obfuscationProcessor = new ObfuscationProcessor(pluginMetrics, mockConfig, mockFactory, expressionEvaluator);
+
+        final Record<Event> record = createRecord("Hello world");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) obfuscationProcessor.doExecute(Collections.singletonList(record));
+
+        assertThat(editedRecords.get(0).getData().get("message", String.class), equalTo("Hello world"));
+        verify(mockAction, never()).obfuscate(anyString(), anyList(), any());
+    }
+
+    @Test
+    void testProcessorSkipsPatternsBeforeTheFirstCandidate() {
+        final PluginModel mockModel = mock(PluginModel.class);
+        final ObfuscationAction mockAction = mock(ObfuscationAction.class);
+
+        when(mockModel.getPluginName()).thenReturn("mock");
+        when(mockModel.getPluginSettings()).thenReturn(new HashMap<>());
+        when(mockConfig.getAction()).thenReturn(mockModel);
+        when(mockConfig.getPatterns()).thenReturn(List.of("secret", "world", "token"));
+        when(mockAction.obfuscate(anyString(), anyList(), any())).thenReturn("Hello ***");
+        when(mockFactory.loadPlugin(eq(ObfuscationAction.class), any(PluginSetting.class)))
+                .thenReturn(mockAction);
+        obfuscationProcessor = new ObfuscationProcessor(pluginMetrics, mockConfig, mockFactory, expressionEvaluator);
+
+        final Record<Event> record = createRecord("Hello world");
+        obfuscationProcessor.doExecute(Collections.singletonList(record));
+
+        final ArgumentCaptor<List<Pattern>> patternsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(mockAction).obfuscate(eq("Hello world"), patternsCaptor.capture(), eq(record));
+        assertThat(patternsCaptor.getValue().size(), equalTo(2));
+        assertThat(patternsCaptor.getValue().get(0).pattern(), equalTo("world"));
+        assertThat(record.getData().get("message", String.class), equalTo("Hello ***"));
+    }
+
 
     @ParameterizedTest
     @ValueSource(strings = {"hello", "hello, world", "This is a message", "123", "你好"})
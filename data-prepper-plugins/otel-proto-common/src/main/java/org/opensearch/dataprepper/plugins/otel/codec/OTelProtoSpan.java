@@ -0,0 +1,694 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventType;
+import org.opensearch.dataprepper.model.trace.JacksonStandardSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCommonUtils.convertByteStringToString;
+import static org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCommonUtils.convertUnixNanosToISO8601;
+
+/**
+ * A {@link Span} backed by the OpenTelemetry protobuf span it was decoded from.
+ * <p>
+ * Ids, name, kind, timestamps and counts are read directly from the protobuf, the ids are also available as raw
+ * bytes, and {@link #toJsonString()} writes the protobuf straight to JSON. The Jackson tree of the equivalent
+ * {@link JacksonStandardSpan} is only built on the first access which needs it, such as reading a nested key,
+ * modifying the span or converting it to a map.
+ *
+ * @since 2.17
+ */
+public class OTelProtoSpan extends JacksonStandardSpan implements Span {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String SEPARATOR = "/";
+    private static final String TRACE_ID_KEY = "traceId";
+    private static final String SPAN_ID_KEY = "spanId";
+    private static final String TRACE_STATE_KEY = "traceState";
+    private static final String PARENT_SPAN_ID_KEY = "parentSpanId";
+    private static final String NAME_KEY = "name";
+    private static final String SCHEMA_URL_KEY = "schemaUrl";
+    private static final String KIND_KEY = "kind";
+    private static final String START_TIME_KEY = "startTime";
+    private static final String END_TIME_KEY = "endTime";
+    private static final String STATUS_KEY = "status";
+    private static final String STATUS_MESSAGE_KEY = "message";
+    private static final String STATUS_CODE_KEY = "code";
+    private static final String FLAGS_KEY = "flags";
+    private static final String SCOPE_KEY = "instrumentationScope";
+    private static final String RESOURCE_KEY = "resource";
+    private static final String DROPPED_ATTRIBUTES_COUNT_KEY = "droppedAttributesCount";
+    private static final String EVENTS_KEY = "events";
+    private static final String TIME_KEY = "time";
+    private static final String DROPPED_EVENTS_COUNT_KEY = "droppedEventsCount";
+    private static final String LINKS_KEY = "links";
+    private static final String DROPPED_LINKS_COUNT_KEY = "droppedLinksCount";
+    private static final String DURATION_IN_NANOS_KEY = "durationInNanos";
+
+    private final transient io.opentelemetry.proto.trace.v1.Span protoSpan;
+    private final transient Map<String, Object> scope;
+    private final transient String schemaUrl;
+    private final transient Map<String, Object> resource;
+    private final transient OTelProtoStandardCodec.OTelProtoDecoder decoder;
+    private transient String traceId;
+    private transient String spanId;
+    private transient String parentSpanId;
+    private volatile boolean materialized;
+
+    private OTelProtoSpan(final Builder builder, final JacksonStandardSpan.Builder spanBuilder) {
+        super(spanBuilder);
+        this.protoSpan = builder.protoSpan;
+        this.scope = builder.scope;
+        this.schemaUrl = builder.schemaUrl;
+        this.resource = builder.resource;
+        this.decoder = builder.decoder;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Validation of the protobuf span happens in {@link Builder#build()}, before any of the fields are assigned.
+     */
+    @Override
+    protected void validateParameters() {
+    }
+
+    /**
+     * The defaults are part of the materialized span.
+     */
+    @Override
+    protected void checkAndSetDefaultValues() {
+    }
+
+    /**
+     * Returns whether the Jackson tree of this span has been built.
+     *
+     * @return true if the span has been materialized
+     */
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+    private void materialize() {
+        if (materialized) {
+            return;
+        }
+        synchronized (this) {
+            if (!materialized) {
+                final JsonNode spanNode = decoder.createSpanBuilder(protoSpan, scope, schemaUrl, resource).build().getJsonNode();
+                ((ObjectNode) super.getJsonNode()).setAll((ObjectNode) spanNode);
+                materialized = true;
+            }
+        }
+    }
+
+    @Override
+    public String getTraceId() {
+        if (materialized) {
+            return super.getTraceId();
+        }
+        if (traceId == null) {
+            traceId = convertByteStringToString(protoSpan.getTraceId());
+        }
+        return traceId;
+    }
+
+    @Override
+    public String getSpanId() {
+        if (materialized) {
+            return super.getSpanId();
+        }
+        if (spanId == null) {
+            spanId = convertByteStringToString(protoSpan.getSpanId());
+        }
+        return spanId;
+    }
+
+    @Override
+    public String getParentSpanId() {
+        if (materialized) {
+            return super.getParentSpanId();
+        }
+        if (parentSpanId == null) {
+            parentSpanId = convertByteStringToString(protoSpan.getParentSpanId());
+        }
+        return parentSpanId;
+    }
+
+    @Override
+    public byte[] getTraceIdBytes() {
+        return materialized ? Span.super.getTraceIdBytes() : protoSpan.getTraceId().toByteArray();
+    }
+
+    @Override
+    public byte[] getSpanIdBytes() {
+        return materialized ? Span.super.getSpanIdBytes() : protoSpan.getSpanId().toByteArray();
+    }
+
+    @Override
+    public byte[] getParentSpanIdBytes() {
+        return materialized ? Span.super.getParentSpanIdBytes() : protoSpan.getParentSpanId().toByteArray();
+    }
+
+    @Override
+    public String getTraceState() {
+        return materialized ? super.getTraceState() : protoSpan.getTraceState();
+    }
+
+    @Override
+    public String getName() {
+        return materialized ? super.getName() : protoSpan.getName();
+    }
+
+    @Override
+    public String getKind() {
+        return materialized ? super.getKind() : protoSpan.getKind().name();
+    }
+
+    @Override
+    public Integer getFlags() {
+        return materialized ? super.getFlags() : protoSpan.getFlags();
+    }
+
+    @Override
+    public String getSchemaUrl() {
+        return materialized ? super.getSchemaUrl() : schemaUrl;
+    }
+
+    @Override
+    public String getStartTime() {
+        return materialized ? super.getStartTime() : convertUnixNanosToISO8601(protoSpan.getStartTimeUnixNano());
+    }
+
+    @Override
+    public String getEndTime() {
+        return materialized ? super.getEndTime() : convertUnixNanosToISO8601(protoSpan.getEndTimeUnixNano());
+    }
+
+    @Override
+    public Integer getDroppedAttributesCount() {
+        return materialized ? super.getDroppedAttributesCount() : protoSpan.getDroppedAttributesCount();
+    }
+
+    @Override
+    public Integer getDroppedEventsCount() {
+        return materialized ? super.getDroppedEventsCount() : protoSpan.getDroppedEventsCount();
+    }
+
+    @Override
+    public Integer getDroppedLinksCount() {
+        return materialized ? super.getDroppedLinksCount() : protoSpan.getDroppedLinksCount();
+    }
+
+    @Override
+    public Long getDurationInNanos() {
+        return materialized ? super.getDurationInNanos() : protoSpan.getEndTimeUnixNano() - protoSpan.getStartTimeUnixNano();
+    }
+
+    /**
+     * Returns the value of a top-level scalar field read from the protobuf, or null for any other key.
+     */
+    private Object getProtoValue(final String key) {
+        final String fieldName = key.startsWith(SEPARATOR) ? key.substring(1) : key;
+        switch (fieldName) {
+            case TRACE_ID_KEY:
+                return getTraceId();
+            case SPAN_ID_KEY:
+                return getSpanId();
+            case PARENT_SPAN_ID_KEY:
+                return getParentSpanId();
+            case TRACE_STATE_KEY:
+                return protoSpan.getTraceState();
+            case NAME_KEY:
+                return protoSpan.getName();
+            case KIND_KEY:
+                return protoSpan.getKind().name();
+            case SCHEMA_URL_KEY:
+                return schemaUrl;
+            case START_TIME_KEY:
+                return convertUnixNanosToISO8601(protoSpan.getStartTimeUnixNano());
+            case END_TIME_KEY:
+                return convertUnixNanosToISO8601(protoSpan.getEndTimeUnixNano());
+            case FLAGS_KEY:
+                return protoSpan.getFlags();
+            case DROPPED_ATTRIBUTES_COUNT_KEY:
+                return protoSpan.getDroppedAttributesCount();
+            case DROPPED_EVENTS_COUNT_KEY:
+                return protoSpan.getDroppedEventsCount();
+            case DROPPED_LINKS_COUNT_KEY:
+                return protoSpan.getDroppedLinksCount();
+            case DURATION_IN_NANOS_KEY:
+                return protoSpan.getEndTimeUnixNano() - protoSpan.getStartTimeUnixNano();
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public <T> T get(final EventKey key, final Class<T> clazz) {
+        if (!materialized) {
+            final Object value = getProtoValue(key.getKey());
+            if (clazz.isInstance(value)) {
+                return clazz.cast(value);
+            }
+            materialize();
+        }
+        return super.get(key, clazz);
+    }
+
+    @Override
+    public <T> T get(final String key, final Class<T> clazz) {
+        if (!materialized) {
+            final Object value = getProtoValue(key);
+            if (clazz.isInstance(value)) {
+                return clazz.cast(value);
+            }
+            materialize();
+        }
+        return super.get(key, clazz);
+    }
+
+    @Override
+    public boolean containsKey(final EventKey key) {
+        if (!materialized && getProtoValue(key.getKey()) != null) {
+            return true;
+        }
+        materialize();
+        return super.containsKey(key);
+    }
+
+    @Override
+    public boolean containsKey(final String key) {
+        if (!materialized && getProtoValue(key) != null) {
+            return true;
+        }
+        materialize();
+        return super.containsKey(key);
+    }
+
+    @Override
+    public <T> List<T> getList(final EventKey key, final Class<T> clazz) {
+        materialize();
+        return super.getList(key, clazz);
+    }
+
+    @Override
+    public <T> List<T> getList(final String key, final Class<T> clazz) {
+        materialize();
+        return super.getList(key, clazz);
+    }
+
+    @Override
+    public void put(final EventKey key, final Object value, final boolean replaceInvalidCharacters) {
+        materialize();
+        super.put(key, value, replaceInvalidCharacters);
+    }
+
+    @Override
+    public void put(final EventKey key, final Object value) {
+        materialize();
+        super.put(key, value);
+    }
+
+    @Override
+    public void put(final String key, final Object value, final boolean replaceInvalidCharacters) {
+        materialize();
+        super.put(key, value, replaceInvalidCharacters);
+    }
+
+    @Override
+    public void put(final String key, final Object value) {
+        materialize();
+        super.put(key, value);
+    }
+
+    @Override
+    public void delete(final EventKey key) {
+        materialize();
+        super.delete(key);
+    }
+
+    @Override
+    public void delete(final String key) {
+        materialize();
+        super.delete(key);
+    }
+
+    @Override
+    public void clear() {
+        materialize();
+        super.clear();
+    }
+
+    @Override
+    public void merge(final Event other) {
+        materialize();
+        super.merge(other);
+    }
+
+    @Override
+    public void merge(final Event other, final Collection<String> keys) {
+        materialize();
+        super.merge(other, keys);
+    }
+
+    @Override
+    public JsonNode getJsonNode() {
+        materialize();
+        return super.getJsonNode();
+    }
+
+    @Override
+    public String getAsJsonString(final EventKey key) {
+        materialize();
+        return super.getAsJsonString(key);
+    }
+
+    @Override
+    public String getAsJsonString(final String key) {
+        materialize();
+        return super.getAsJsonString(key);
+    }
+
+    @Override
+    public boolean isValueAList(final EventKey key) {
+        materialize();
+        return super.isValueAList(key);
+    }
+
+    @Override
+    public boolean isValueAList(final String key) {
+        materialize();
+        return super.isValueAList(key);
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        materialize();
+        return super.toMap();
+    }
+
+    @Override
+    public String formatString(final String format) {
+        materialize();
+        return super.formatString(format);
+    }
+
+    @Override
+    public String formatString(final String format, final ExpressionEvaluator expressionEvaluator) {
+        materialize();
+        return super.formatString(format, expressionEvaluator);
+    }
+
+    @Override
+    public String formatString(final String format, final ExpressionEvaluator expressionEvaluator, final String defaultValue) {
+        materialize();
+        return super.formatString(format, expressionEvaluator, defaultValue);
+    }
+
+    @Override
+    public String toJsonString() {
+        if (materialized) {
+            return super.toJsonString();
+        }
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(writer)) {
+            writeSpan(generator);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    private void writeSpan(final JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(TRACE_ID_KEY, getTraceId());
+        generator.writeStringField(SPAN_ID_KEY, getSpanId());
+        generator.writeStringField(TRACE_STATE_KEY, protoSpan.getTraceState());
+        generator.writeStringField(PARENT_SPAN_ID_KEY, getParentSpanId());
+        generator.writeStringField(NAME_KEY, protoSpan.getName());
+        generator.writeStringField(SCHEMA_URL_KEY, schemaUrl);
+        generator.writeStringField(KIND_KEY, protoSpan.getKind().name());
+        generator.writeStringField(START_TIME_KEY, convertUnixNanosToISO8601(protoSpan.getStartTimeUnixNano()));
+        generator.writeStringField(END_TIME_KEY, convertUnixNanosToISO8601(protoSpan.getEndTimeUnixNano()));
+        generator.writeObjectFieldStart(STATUS_KEY);
+        generator.writeStringField(STATUS_MESSAGE_KEY, protoSpan.getStatus().getMessage());
+        generator.writeNumberField(STATUS_CODE_KEY, protoSpan.getStatus().getCodeValue());
+        generator.writeEndObject();
+        generator.writeNumberField(FLAGS_KEY, protoSpan.getFlags());
+        generator.writeFieldName(SCOPE_KEY);
+        OBJECT_MAPPER.writeValue(generator, scope);
+        generator.writeFieldName(RESOURCE_KEY);
+        OBJECT_MAPPER.writeValue(generator, resource);
+        writeAttributes(generator, protoSpan.getAttributesList());
+        generator.writeNumberField(DROPPED_ATTRIBUTES_COUNT_KEY, protoSpan.getDroppedAttributesCount());
+        generator.writeArrayFieldStart(EVENTS_KEY);
+        for (final io.opentelemetry.proto.trace.v1.Span.Event event : protoSpan.getEventsList()) {
+            generator.writeStartObject();
+            generator.writeStringField(NAME_KEY, event.getName());
+            generator.writeStringField(TIME_KEY, convertUnixNanosToISO8601(event.getTimeUnixNano()));
+            writeAttributes(generator, event.getAttributesList());
+            generator.writeNumberField(DROPPED_ATTRIBUTES_COUNT_KEY, event.getDroppedAttributesCount());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeNumberField(DROPPED_EVENTS_COUNT_KEY, protoSpan.getDroppedEventsCount());
+        generator.writeArrayFieldStart(LINKS_KEY);
+        for (final io.opentelemetry.proto.trace.v1.Span.Link link : protoSpan.getLinksList()) {
+            generator.writeStartObject();
+            generator.writeStringField(TRACE_ID_KEY, convertByteStringToString(link.getTraceId()));
+            generator.writeStringField(SPAN_ID_KEY, convertByteStringToString(link.getSpanId()));
+            generator.writeStringField(TRACE_STATE_KEY, link.getTraceState());
+            writeAttributes(generator, link.getAttributesList());
+            generator.writeNumberField(DROPPED_ATTRIBUTES_COUNT_KEY, link.getDroppedAttributesCount());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeNumberField(DROPPED_LINKS_COUNT_KEY, protoSpan.getDroppedLinksCount());
+        generator.writeNumberField(DURATION_IN_NANOS_KEY, protoSpan.getEndTimeUnixNano() - protoSpan.getStartTimeUnixNano());
+        generator.writeEndObject();
+    }
+
+    private static void writeAttributes(final JsonGenerator generator, final List<KeyValue> attributes) throws IOException {
+        generator.writeObjectFieldStart(OTelProtoStandardCodec.ATTRIBUTES_KEY);
+        writeKeyValues(generator, attributes);
+        generator.writeEndObject();
+    }
+
+    private static void writeKeyValues(final JsonGenerator generator, final List<KeyValue> keyValues) throws IOException {
+        for (final KeyValue keyValue : keyValues) {
+            generator.writeFieldName(keyValue.getKey());
+            writeAnyValue(generator, keyValue.getValue());
+        }
+    }
+
+    private static void writeAnyValue(final JsonGenerator generator, final AnyValue value) throws IOException {
+        switch (value.getValueCase()) {
+            case VALUE_NOT_SET:
+            case STRING_VALUE:
+                generator.writeString(value.getStringValue());
+                break;
+            case BOOL_VALUE:
+                generator.writeBoolean(value.getBoolValue());
+                break;
+            case INT_VALUE:
+                generator.writeNumber(value.getIntValue());
+                break;
+            case DOUBLE_VALUE:
+                generator.writeNumber(value.getDoubleValue());
+                break;
+            case ARRAY_VALUE:
+                generator.writeStartArray();
+                for (final AnyValue arrayValue : value.getArrayValue().getValuesList()) {
+                    writeAnyValue(generator, arrayValue);
+                }
+                generator.writeEndArray();
+                break;
+            case KVLIST_VALUE:
+                generator.writeStartObject();
+                writeKeyValues(generator, value.getKvlistValue().getValuesList());
+                generator.writeEndObject();
+                break;
+            default:
+                throw new OTelDecodingException("Unknown case");
+        }
+    }
+
+    /**
+     * Fails on attribute values the materialized span cannot represent, so that an unsupported span is rejected
+     * while decoding rather than when it is first read.
+     */
+    private static void validateAttributes(final List<KeyValue> keyValues) {
+        for (final KeyValue keyValue : keyValues) {
+            validateAnyValue(keyValue.getValue());
+        }
+    }
+
+    private static void validateAnyValue(final AnyValue value) {
+        switch (value.getValueCase()) {
+            case VALUE_NOT_SET:
+            case STRING_VALUE:
+            case BOOL_VALUE:
+            case INT_VALUE:
+            case DOUBLE_VALUE:
+                return;
+            case ARRAY_VALUE:
+                for (final AnyValue arrayValue : value.getArrayValue().getValuesList()) {
+                    validateAnyValue(arrayValue);
+                }
+                return;
+            case KVLIST_VALUE:
+                validateAttributes(value.getKvlistValue().getValuesList());
+                return;
+            default:
+                throw new OTelDecodingException("Unknown case");
+        }
+    }
+
+    /**
+     * Serializes as the equivalent {@link JacksonStandardSpan}, since the protobuf fields are not serializable.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        final JacksonStandardSpan.Builder spanBuilder = JacksonStandardSpan.builder();
+        spanBuilder.withJsonNode(getJsonNode().deepCopy());
+        spanBuilder.withEventMetadata(getMetadata());
+        return spanBuilder.build();
+    }
+
+    /**
+     * Builder for creating {@link OTelProtoSpan}
+     *
+     * @since 2.17
+     */
+    public static class Builder {
+        private io.opentelemetry.proto.trace.v1.Span protoSpan;
+        private Map<String, Object> scope;
+        private String schemaUrl;
+        private Map<String, Object> resource;
+        private Instant timeReceived;
+        private OTelProtoStandardCodec.OTelProtoDecoder decoder;
+
+        /**
+         * Sets the protobuf span.
+         *
+         * @param protoSpan the protobuf span
+         * @return returns the builder
+         */
+        public Builder withSpan(final io.opentelemetry.proto.trace.v1.Span protoSpan) {
+            this.protoSpan = protoSpan;
+            return this;
+        }
+
+        /**
+         * Sets the instrumentation scope attributes.
+         *
+         * @param scope the instrumentation scope attributes
+         * @return returns the builder
+         */
+        public Builder withScope(final Map<String, Object> scope) {
+            this.scope = scope;
+            return this;
+        }
+
+        /**
+         * Sets the schema url of the scope spans.
+         *
+         * @param schemaUrl the schema url
+         * @return returns the builder
+         */
+        public Builder withSchemaUrl(final String schemaUrl) {
+            this.schemaUrl = schemaUrl;
+            return this;
+        }
+
+        /**
+         * Sets the resource attributes.
+         *
+         * @param resource the resource attributes
+         * @return returns the builder
+         */
+        public Builder withResource(final Map<String, Object> resource) {
+            this.resource = resource;
+            return this;
+        }
+
+        /**
+         * Sets the time received for the span.
+         *
+         * @param timeReceived the time received
+         * @return returns the builder
+         */
+        public Builder withTimeReceived(final Instant timeReceived) {
+            this.timeReceived = timeReceived;
+            return this;
+        }
+
+        /**
+         * Sets the decoder used to materialize the span.
+         *
+         * @param decoder the decoder
+         * @return returns the builder
+         */
+        public Builder withDecoder(final OTelProtoStandardCodec.OTelProtoDecoder decoder) {
+            this.decoder = decoder;
+            return this;
+        }
+
+        /**
+         * Returns a newly created {@link OTelProtoSpan}
+         *
+         * @return an OTelProtoSpan
+         */
+        public OTelProtoSpan build() {
+            Objects.requireNonNull(protoSpan, "span cannot be null");
+            Objects.requireNonNull(decoder, "decoder cannot be null");
+            if (protoSpan.getTraceId().isEmpty()) {
+                throw new IllegalArgumentException("traceId cannot be an empty string");
+            }
+            if (protoSpan.getSpanId().isEmpty()) {
+                throw new IllegalArgumentException("spanId cannot be an empty string");
+            }
+            if (protoSpan.getName().isEmpty()) {
+                throw new IllegalArgumentException("name cannot be an empty string");
+            }
+            validateAttributes(protoSpan.getAttributesList());
+            for (final io.opentelemetry.proto.trace.v1.Span.Event event : protoSpan.getEventsList()) {
+                validateAttributes(event.getAttributesList());
+            }
+            for (final io.opentelemetry.proto.trace.v1.Span.Link link : protoSpan.getLinksList()) {
+                validateAttributes(link.getAttributesList());
+            }
+
+            final JacksonStandardSpan.Builder spanBuilder = JacksonStandardSpan.builder();
+            spanBuilder.withJsonNode(JsonNodeFactory.instance.objectNode());
+            spanBuilder.withEventType(EventType.TRACE.toString());
+            spanBuilder.withTimeReceived(timeReceived);
+            return new OTelProtoSpan(this, spanBuilder);
+        }
+    }
+}
@@ -335,7 +335,36 @@ public class OTelProtoStandardCodec {
                     final String serviceName,
                     final Map<String, Object> resourceAttributes,
                      final Instant timeReceived) {
-            Span span = JacksonStandardSpan.builder()
+            Span span = OTelProtoSpan.builder()
+                    .withSpan(sp)
+                    .withScope(instrumentationScopeAttributes)
+                    .withSchemaUrl(schemaUrl)
+                    .withResource(resourceAttributes)
+                    .withTimeReceived(timeReceived)
+                    .withDecoder(this)
+                    .build();
+            EventMetadata eventMetadata = span.getMetadata();
+            eventMetadata.setAttribute(JacksonSpan.SERVICE_NAME_KEY, serviceName);
+            eventMetadata.setAttribute(JacksonSpan.TRACE_GROUP_KEY, getTraceGroup(sp));
+            eventMetadata.setAttribute(JacksonSpan.TRACE_GROUP_FIELDS_KEY, getTraceGroupFields(sp));
+            return span;
+        }
+
+        /**
+         * Populates a {@link JacksonStandardSpan} builder with all fields of the protobuf span. This is the
+         * representation an {@link OTelProtoSpan} materializes into.
+         *
+         * @param sp opentelemetry-protobuf span
+         * @param instrumentationScopeAttributes the instrumentation scope attributes
+         * @param schemaUrl the scope schema url
+         * @param resourceAttributes the resource attributes
+         * @return the populated builder
+         */
+        protected JacksonSpan.Builder createSpanBuilder(final io.opentelemetry.proto.trace.v1.Span sp,
+                    final Map<String, Object> instrumentationScopeAttributes,
+                    final String schemaUrl,
+                    final Map<String, Object> resourceAttributes) {
+            return JacksonStandardSpan.builder()
                     .withSpanId(convertByteStringToString(sp.getSpanId()))
                     .withTraceId(convertByteStringToString(sp.getTraceId()))
                     .withTraceState(sp.getTraceState())
@@ -355,14 +384,7 @@ public class OTelProtoStandardCodec {
                     .withDroppedEventsCount(sp.getDroppedEventsCount())
                     .withLinks(sp.getLinksList().stream().map(this::getLink).collect(Collectors.toList()))
                     .withDroppedLinksCount(sp.getDroppedLinksCount())
-                    .withDurationInNanos(sp.getEndTimeUnixNano() - sp.getStartTimeUnixNano())
-                    .withTimeReceived(timeReceived)
-                    .build();
-            EventMetadata eventMetadata = span.getMetadata();
-            eventMetadata.setAttribute(JacksonSpan.SERVICE_NAME_KEY, serviceName);
-            eventMetadata.setAttribute(JacksonSpan.TRACE_GROUP_KEY, getTraceGroup(sp));
-            eventMetadata.setAttribute(JacksonSpan.TRACE_GROUP_FIELDS_KEY, getTraceGroupFields(sp));
-            return span;
+                    .withDurationInNanos(sp.getEndTimeUnixNano() - sp.getStartTimeUnixNano());
         }
 
         protected Object convertAnyValue(final AnyValue value) {
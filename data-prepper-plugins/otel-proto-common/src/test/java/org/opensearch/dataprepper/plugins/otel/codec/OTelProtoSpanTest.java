@@ -0,0 +1,257 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.ArrayValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.common.v1.KeyValueList;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.trace.JacksonStandardSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OTelProtoSpanTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private OTelProtoStandardCodec.OTelProtoDecoder decoder;
+    private io.opentelemetry.proto.trace.v1.Span protoSpan;
+    private Map<String, Object> scope;
+    private Map<String, Object> resource;
+    private String schemaUrl;
+    private Instant timeReceived;
+
+    @BeforeEach
+    void setUp() {
+        final Random random = new Random();
+        final byte[] traceId = new byte[16];
+        final byte[] spanId = new byte[8];
+        final byte[] parentSpanId = new byte[8];
+        random.nextBytes(traceId);
+        random.nextBytes(spanId);
+        random.nextBytes(parentSpanId);
+        final long startTime = Instant.now().toEpochMilli() * 1_000_000L;
+
+        decoder = new OTelProtoStandardCodec.OTelProtoDecoder();
+        protoSpan = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                .setTraceId(ByteString.copyFrom(traceId))
+                .setSpanId(ByteString.copyFrom(spanId))
+                .setParentSpanId(ByteString.copyFrom(parentSpanId))
+                .setTraceState(UUID.randomUUID().toString())
+                .setName(UUID.randomUUID().toString())
+                .setKind(io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER)
+                .setFlags(1)
+                .setStartTimeUnixNano(startTime)
+                .setEndTimeUnixNano(startTime + random.nextInt(1_000_000))
+                .setStatus(Status.newBuilder().setCode(Status.StatusCode.STATUS_CODE_ERROR).setMessage(UUID.randomUUID().toString()))
+                .addAttributes(keyValue("string", AnyValue.newBuilder().setStringValue(UUID.randomUUID().toString()).build()))
+                .addAttributes(keyValue("int", AnyValue.newBuilder().setIntValue(random.nextLong()).build()))
+                .addAttributes(keyValue("double", AnyValue.newBuilder().setDoubleValue(random.nextDouble()).build()))
+                .addAttributes(keyValue("bool", AnyValue.newBuilder().setBoolValue(true).build()))
+                .addAttributes(keyValue("array", AnyValue.newBuilder().setArrayValue(ArrayValue.newBuilder()
+                        .addValues(AnyValue.newBuilder().setIntValue(1))
+                        .addValues(AnyValue.newBuilder().setStringValue(UUID.randomUUID().toString()))).build()))
+                .addAttributes(keyValue("kvlist", AnyValue.newBuilder().setKvlistValue(KeyValueList.newBuilder()
+                        .addValues(keyValue("nested", AnyValue.newBuilder().setStringValue(UUID.randomUUID().toString()).build()))).build()))
+                .setDroppedAttributesCount(random.nextInt(10))
+                .addEvents(io.opentelemetry.proto.trace.v1.Span.Event.newBuilder()
+                        .setName(UUID.randomUUID().toString())
+                        .setTimeUnixNano(startTime + 10)
+                        .addAttributes(keyValue("event", AnyValue.newBuilder().setStringValue(UUID.randomUUID().toString()).build()))
+                        .setDroppedAttributesCount(2))
+                .setDroppedEventsCount(random.nextInt(10))
+                .addLinks(io.opentelemetry.proto.trace.v1.Span.Link.newBuilder()
+                        .setTraceId(ByteString.copyFrom(traceId))
+                        .setSpanId(ByteString.copyFrom(parentSpanId))
+                        .setTraceState(UUID.randomUUID().toString())
+                        .addAttributes(keyValue("link", AnyValue.newBuilder().setBoolValue(false).build())))
+                .setDroppedLinksCount(random.nextInt(10))
+                .build();
+        scope = OTelProtoStandardCodec.getInstrumentationScopeAttributes(InstrumentationScope.newBuilder()
+                .setName(UUID.randomUUID().toString())
+                .setVersion(UUID.randomUUID().toString())
+                .build());
+        resource = decoder.getResourceAttributes(Resource.newBuilder()
+                .addAttributes(keyValue("service.name", AnyValue.newBuilder().setStringValue(UUID.randomUUID().toString()).build()))
+                .build(), UUID.randomUUID().toString());
+        schemaUrl = UUID.randomUUID().toString();
+        timeReceived = Instant.now();
+    }
+
+    private static KeyValue keyValue(final String key, final AnyValue value) {
+        return KeyValue.newBuilder().setKey(key).setValue(value).build();
+    }
+
+    private OTelProtoSpan createObjectUnderTest() {
+        return OTelProtoSpan.builder()
+                .withSpan(protoSpan)
+                .withScope(scope)
+                .withSchemaUrl(schemaUrl)
+                .withResource(resource)
+                .withTimeReceived(timeReceived)
+                .withDecoder(decoder)
+                .build();
+    }
+
+    private Span createEagerSpan() {
+        return decoder.createSpanBuilder(protoSpan, scope, schemaUrl, resource).build();
+    }
+
+    @Test
+    void scalar_getters_match_eager_span_without_materializing() {
+        final OTelProtoSpan objectUnderTest = createObjectUnderTest();
+        final Span expected = createEagerSpan();
+
+        assertThat(objectUnderTest.getTraceId(), equalTo(expected.getTraceId()));
+        assertThat(objectUnderTest.getSpanId(), equalTo(expected.getSpanId()));
+        assertThat(objectUnderTest.getParentSpanId(), equalTo(expected.getParentSpanId()));
+        assertThat(objectUnderTest.getTraceState(), equalTo(expected.getTraceState()));
+        assertThat(objectUnderTest.getName(), equalTo(expected.getName()));
+        assertThat(objectUnderTest.getKind(), equalTo(expected.getKind()));
+        assertThat(objectUnderTest.getFlags(), equalTo(expected.getFlags()));
+        assertThat(objectUnderTest.getSchemaUrl(), equalTo(expected.getSchemaUrl()));
+        assertThat(objectUnderTest.getStartTime(), equalTo(expected.getStartTime()));
+        assertThat(objectUnderTest.getEndTime(), equalTo(expected.getEndTime()));
+        assertThat(objectUnderTest.getDroppedAttributesCount(), equalTo(expected.getDroppedAttributesCount()));
+        assertThat(objectUnderTest.getDroppedEventsCount(), equalTo(expected.getDroppedEventsCount()));
+        assertThat(objectUnderTest.getDroppedLinksCount(), equalTo(expected.getDroppedLinksCount()));
+        assertThat(objectUnderTest.getDurationInNanos(), equalTo(expected.getDurationInNanos()));
+        assertThat(objectUnderTest.get("/traceId", String.class), equalTo(expected.getTraceId()));
+        assertThat(objectUnderTest.get("name", String.class), equalTo(expected.getName()));
+        assertThat(objectUnderTest.containsKey("spanId"), is(true));
+        assertThat(objectUnderTest.isMaterialized(), is(false));
+    }
+
+    @Test
+    void id_bytes_are_the_protobuf_bytes() {
+        final OTelProtoSpan objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getTraceIdBytes(), equalTo(protoSpan.getTraceId().toByteArray()));
+        assertThat(objectUnderTest.getSpanIdBytes(), equalTo(protoSpan.getSpanId().toByteArray()));
+        assertThat(objectUnderTest.getParentSpanIdBytes(), equalTo(protoSpan.getParentSpanId().toByteArray()));
+        assertThat(objectUnderTest.getTraceIdBytes(), equalTo(createEagerSpan().getTraceIdBytes()));
+        assertThat(objectUnderTest.isMaterialized(), is(false));
+    }
+
+    @Test
+    void toJsonString_writes_the_same_json_as_eager_span_without_materializing() throws Exception {
+        final OTelProtoSpan objectUnderTest = createObjectUnderTest();
+
+        assertThat(OBJECT_MAPPER.readTree(objectUnderTest.toJsonString()),
+                equalTo(OBJECT_MAPPER.readTree(createEagerSpan().toJsonString())));
+        assertThat(objectUnderTest.isMaterialized(), is(false));
+    }
+
+    @Test
+    void jsonBuilder_with_tags_does_not_materialize() throws Exception {
+        final OTelProtoSpan objectUnderTest = createObjectUnderTest();
+        final String tag = UUID.randomUUID().toString();
+        objectUnderTest.getMetadata().addTags(List.of(tag));
+
+        final String result = objectUnderTest.jsonBuilder().includeTags("tags").toJsonString();
+
+        assertThat(OBJECT_MAPPER.readTree(result).get("tags").get(0).asText(), equalTo(tag));
+        assertThat(OBJECT_MAPPER.readTree(result).get("traceId").asText(), equalTo(objectUnderTest.getTraceId()));
+        assertThat(objectUnderTest.isMaterialized(), is(false));
+    }
+
+    @Test
+    void nested_reads_materialize_the_span() {
+        final OTelProtoSpan objectUnderTest = createObjectUnderTest();
+        final Span expected = createEagerSpan();
+
+        assertThat(objectUnderTest.getAttributes(), equalTo(expected.getAttributes()));
+        assertThat(objectUnderTest.get("status/code", Integer.class), equalTo(Status.StatusCode.STATUS_CODE_ERROR.getNumber()));
+        assertThat(objectUnderTest.toMap(), equalTo(expected.toMap()));
+        assertThat(objectUnderTest.getJsonNode(), equalTo(expected.getJsonNode()));
+        assertThat(objectUnderTest.isMaterialized(), is(true));
+    }
+
+    @Test
+    void put_materializes_the_span_and_is_visible_to_getters_and_json() throws Exception {
+        final OTelProtoSpan objectUnderTest = createObjectUnderTest();
+        final String name = UUID.randomUUID().toString();
+
+        objectUnderTest.put("name", name);
+
+        assertThat(objectUnderTest.isMaterialized(), is(true));
+        assertThat(objectUnderTest.getName(), equalTo(name));
+        assertThat(objectUnderTest.getTraceId(), equalTo(createEagerSpan().getTraceId()));
+        assertThat(OBJECT_MAPPER.readTree(objectUnderTest.toJsonString()).get("name").asText(), equalTo(name));
+    }
+
+    @Test
+    void metadata_has_the_time_received_and_trace_event_type() {
+        final OTelProtoSpan objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getMetadata().getTimeReceived(), equalTo(timeReceived));
+        assertThat(objectUnderTest.getMetadata().getEventType(), equalTo("TRACE"));
+    }
+
+    @Test
+    void serializes_as_a_standard_span() throws Exception {
+        final OTelProtoSpan objectUnderTest = createObjectUnderTest();
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(objectUnderTest);
+        }
+        final Object deserialized;
+        try (final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            deserialized = objectInputStream.readObject();
+        }
+
+        assertThat(deserialized, instanceOf(JacksonStandardSpan.class));
+        assertThat(((Span) deserialized).getJsonNode(), equalTo(createEagerSpan().getJsonNode()));
+    }
+
+    @Test
+    void build_with_empty_trace_id_throws() {
+        protoSpan = protoSpan.toBuilder().setTraceId(ByteString.EMPTY).build();
+
+        assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
+    }
+
+    @Test
+    void build_with_unsupported_attribute_value_throws() {
+        protoSpan = protoSpan.toBuilder()
+                .addAttributes(keyValue("bytes", AnyValue.newBuilder().setBytesValue(ByteString.copyFromUtf8("bytes")).build()))
+                .build();
+
+        assertThrows(OTelDecodingException.class, this::createObjectUnderTest);
+    }
+
+    @Test
+    void parseSpan_creates_proto_backed_spans() {
+        final Span span = decoder.parseSpan(protoSpan, scope, schemaUrl, UUID.randomUUID().toString(), resource, timeReceived);
+
+        assertThat(span, instanceOf(OTelProtoSpan.class));
+        assertThat(span.getTraceGroup(), equalTo(null));
+        assertThat(Set.copyOf(span.toMap().keySet()), equalTo(Set.copyOf(createEagerSpan().toMap().keySet())));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.otlp.buffer;
+
+import com.linecorp.armeria.common.HttpResponse;
+import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.MediaType;
+import com.linecorp.armeria.server.Server;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceResponse;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.aws.api.AwsCredentialsOptions;
+import org.opensearch.dataprepper.aws.api.AwsCredentialsSupplier;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.plugins.sink.otlp.OtlpSignalType;
+import org.opensearch.dataprepper.plugins.sink.otlp.OtlpTraceHandler;
+import org.opensearch.dataprepper.plugins.sink.otlp.configuration.OtlpSinkConfig;
+import org.opensearch.dataprepper.plugins.sink.otlp.http.OtlpHttpSender;
+import org.opensearch.dataprepper.plugins.sink.otlp.metrics.OtlpSinkMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Sends spans through the buffer to a local stand-in OTLP/HTTP receiver, which answers each request after a fixed
+ * delay, and compares the throughput of a single sender with the throughput of a pool of senders.
+ */
+class OtlpSinkBufferIT {
+    private static final Logger LOG = LoggerFactory.getLogger(OtlpSinkBufferIT.class);
+    private static final Duration RECEIVER_LATENCY = Duration.ofMillis(20);
+    private static final int SPAN_COUNT = 2_000;
+    private static final int SERVICE_COUNT = 16;
+    private static final int MAX_EVENTS = 10;
+    private static final double MIN_THROUGHPUT_RATIO = 2.0;
+
+    private final AtomicInteger receivedSpans = new AtomicInteger();
+    private final AtomicInteger releasedHandles = new AtomicInteger();
+    private Server receiver;
+
+    @BeforeEach
+    void setUp() {
+        final byte[] responseBody = ExportTraceServiceResponse.getDefaultInstance().toByteArray();
+        receiver = Server.builder()
+                .http(0)
+                .service("/v1/traces", (ctx, req) -> HttpResponse.of(req.aggregate().thenApply(request -> {
+                    receivedSpans.addAndGet(countResourceSpans(request.content().array()));
+                    return HttpResponse.delayed(
+                            HttpResponse.of(HttpStatus.OK, MediaType.PROTOBUF, responseBody), RECEIVER_LATENCY);
+                })))
+                .build();
+        receiver.start().join();
+    }
+
+    @AfterEach
+    void tearDown() {
+        receiver.stop().join();
+    }
+
+    @Test
+    void pool_of_senders_delivers_all_spans_with_more_throughput_than_a_single_sender() {
+        final long singleSenderMillis = sendSpans(1, 1);
+        final long senderPoolMillis = sendSpans(4, 4);
+        final double throughputRatio = (double) singleSenderMillis / Math.max(senderPoolMillis, 1);
+
+        LOG.info("Sent {} spans in {} ms with one sender and {} ms with four workers of four in-flight requests, {} times the throughput",
+                SPAN_COUNT, singleSenderMillis, senderPoolMillis, throughputRatio);
+        // Sixteen requests in flight could reach sixteen times the throughput. The margin keeps slow hosts from failing the test.
+        assertThat(throughputRatio, greaterThan(MIN_THROUGHPUT_RATIO));
+    }
+
+    private long sendSpans(final int workers, final int maxInFlightRequests) {
+        receivedSpans.set(0);
+        releasedHandles.set(0);
+        final OtlpSinkConfig config = createConfig(workers, maxInFlightRequests);
+        final OtlpSinkMetrics sinkMetrics = mock(OtlpSinkMetrics.class);
+        final OtlpHttpSender sender = new OtlpHttpSender(createCredentialsSupplier(), config, sinkMetrics);
+        final OtlpSinkBuffer buffer = new OtlpSinkBuffer(config, sinkMetrics, new ServiceSpanHandler(), sender, OtlpSignalType.TRACE);
+
+        final long startTime = System.nanoTime();
+        buffer.start();
+        try {
+            for (int i = 0; i < SPAN_COUNT; i++) {
+                buffer.add(createSpanRecord("service-" + (i % SERVICE_COUNT)));
+            }
+            await().atMost(60, SECONDS).until(() -> releasedHandles.get() == SPAN_COUNT);
+        } finally {
+            buffer.stop();
+        }
+        final long elapsedMillis = Duration.ofNanos(System.nanoTime() - startTime).toMillis();
+
+        assertThat(receivedSpans.get(), equalTo(SPAN_COUNT));
+        return elapsedMillis;
+    }
+
+    private OtlpSinkConfig createConfig(final int workers, final int maxInFlightRequests) {
+        final OtlpSinkConfig config = mock(OtlpSinkConfig.class);
+        when(config.getEndpoint()).thenReturn("http://127.0.0.1:" + receiver.activeLocalPort() + "/v1/traces");
+        when(config.getAwsRegion()).thenReturn(Region.US_WEST_2);
+        when(config.getAdditionalHeaders()).thenReturn(Map.of());
+        when(config.getMaxRetries()).thenReturn(0);
+        when(config.getMaxEvents()).thenReturn(MAX_EVENTS);
+        when(config.getMaxBatchSize()).thenReturn(1_000_000L);
+        when(config.getFlushTimeoutMillis()).thenReturn(200L);
+        when(config.getWorkers()).thenReturn(workers);
+        when(config.getMaxInFlightRequests()).thenReturn(maxInFlightRequests);
+        return config;
+    }
+
+    private static AwsCredentialsSupplier createCredentialsSupplier() {
+        final AwsCredentialsSupplier awsCredentialsSupplier = mock(AwsCredentialsSupplier.class);
+        when(awsCredentialsSupplier.getProvider(any(AwsCredentialsOptions.class)))
+                .thenReturn(StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKeyId", "secretAccessKey")));
+        return awsCredentialsSupplier;
+    }
+
+    private Record<Event> createSpanRecord(final String serviceName) {
+        final Span span = mock(Span.class);
+        final EventHandle eventHandle = mock(EventHandle.class);
+        doAnswer(invocation -> releasedHandles.incrementAndGet()).when(eventHandle).release(anyBoolean());
+        when(span.getServiceName()).thenReturn(serviceName);
+        when(span.getEventHandle()).thenReturn(eventHandle);
+        return new Record<>(span);
+    }
+
+    private static int countResourceSpans(final byte[] gzipBody) {
+        try (final InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(gzipBody))) {
+            return ExportTraceServiceRequest.parseFrom(inputStream).getResourceSpansCount();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Encodes each span as a resource with only the service name of the span.
+     */
+    private static class ServiceSpanHandler extends OtlpTraceHandler {
+        ServiceSpanHandler() {
+            super(null);
+        }
+
+        @Override
+        public ResourceSpans encodeEvent(final Event event) {
+            final KeyValue serviceName = KeyValue.newBuilder()
+                    .setKey("service.name")
+                    .setValue(AnyValue.newBuilder().setStringValue(((Span) event).getServiceName()))
+                    .build();
+            return ResourceSpans.newBuilder()
+                    .setResource(Resource.newBuilder().addAttributes(serviceName))
+                    .build();
+        }
+    }
+}
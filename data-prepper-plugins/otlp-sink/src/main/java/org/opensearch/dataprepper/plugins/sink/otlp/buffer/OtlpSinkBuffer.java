@@ -14,7 +14,10 @@ import com.google.common.annotations.VisibleForTesting;
 import lombok.Getter;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.log.OpenTelemetryLog;
+import org.opensearch.dataprepper.model.metric.Metric;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.trace.Span;
 import org.opensearch.dataprepper.plugins.sink.otlp.OtlpSignalHandler;
 import org.opensearch.dataprepper.plugins.sink.otlp.OtlpSignalType;
 import org.opensearch.dataprepper.plugins.sink.otlp.configuration.OtlpSinkConfig;
@@ -31,18 +34,29 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A signal-agnostic back-pressure buffer for OTLP sink.
  * Uses a signal handler to encode and send events of a specific type.
+ * <p>
+ * Events are partitioned across a pool of workers by the service name of their resource, so that the events
+ * of a service are batched by one worker. Events without a service name are spread across the workers. Each
+ * worker owns its queue and its batch, and keeps up to {@code max_in_flight_requests} requests in flight.
+ * A worker stops taking events from its queue while it waits for a response, so memory is bounded by the
+ * queues and the in-flight batches. The batches of a service are sent in the order they are built, but with
+ * more than one request in flight they may complete, or be retried, out of that order. Only a single request
+ * in flight keeps the order of each service.
  */
 public class OtlpSinkBuffer {
     private static final Logger LOG = LoggerFactory.getLogger(OtlpSinkBuffer.class);
     private static final int SAFETY_FACTOR = 10;
     private static final int MIN_QUEUE_CAPACITY = 2000;
 
-    private final BlockingQueue<Record<Event>> queue;
+    private final List<BlockingQueue<Record<Event>>> queues;
+    private final Semaphore[] inFlightRequestPermits;
     private final OtlpSignalHandler<?> signalHandler;
     private final OtlpHttpSender sender;
     private final OtlpSinkMetrics sinkMetrics;
@@ -51,7 +65,9 @@ public class OtlpSinkBuffer {
     private final int maxEvents;
     private final long maxBatchBytes;
     private final long flushTimeoutMillis;
+    private final int workers;
 
+    private final AtomicInteger nextWorker = new AtomicInteger();
     private final ExecutorService executor;
 
     @Getter
@@ -80,20 +96,21 @@ public class OtlpSinkBuffer {
         this.maxEvents = config.getMaxEvents();
         this.maxBatchBytes = config.getMaxBatchSize();
         this.flushTimeoutMillis = config.getFlushTimeoutMillis();
+        this.workers = Math.max(1, config.getWorkers());
 
-        this.queue = new LinkedBlockingQueue<>(getQueueCapacity());
-        sinkMetrics.registerQueueGauges(queue);
+        final int maxInFlightRequests = Math.max(1, config.getMaxInFlightRequests());
+        final int workerQueueCapacity = Math.max(1, getQueueCapacity() / workers);
+        this.queues = new ArrayList<>(workers);
+        this.inFlightRequestPermits = new Semaphore[workers];
+        for (int worker = 0; worker < workers; worker++) {
+            queues.add(new LinkedBlockingQueue<>(workerQueueCapacity));
+            inFlightRequestPermits[worker] = new Semaphore(maxInFlightRequests);
+        }
+        sinkMetrics.registerQueueGauges(queues);
 
-        this.executor = Executors.newSingleThreadExecutor(r -> {
-            final Thread t = new Thread(() -> {
-                try {
-                    r.run();
-                } catch (final Throwable t1) {
-                    LOG.error("Worker thread crashed unexpectedly", t1);
-                    sinkMetrics.incrementErrorsCount();
-                    restartWorker();
-                }
-            }, "otlp-sink-buffer-thread");
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, r -> {
+            final Thread t = new Thread(r, "otlp-sink-buffer-thread-" + threadNumber.getAndIncrement());
             t.setDaemon(false);
             return t;
         });
@@ -105,7 +122,10 @@ public class OtlpSinkBuffer {
 
     public void start() {
         running = true;
-        executor.execute(this::run);
+        for (int worker = 0; worker < workers; worker++) {
+            final int workerIndex = worker;
+            executor.execute(() -> run(workerIndex));
+        }
     }
 
     public void stop() {
@@ -114,17 +134,17 @@ public class OtlpSinkBuffer {
     }
 
     @VisibleForTesting
-    void restartWorker() {
+    void restartWorker(final int worker) {
         if (running && !executor.isShutdown()) {
-            LOG.info("Restarting OTLP sink buffer worker thread");
-            executor.execute(this::run);
+            LOG.info("Restarting OTLP sink buffer worker {}", worker);
+            executor.execute(() -> run(worker));
         }
     }
 
     /**
      * Enqueues an event record for later batching and sending.
      * <p>
-     * This will block if the internal queue is full, guaranteeing
+     * This will block if the queue of its worker is full, guaranteeing
      * lossless delivery during normal operations.
      * On interruption, the event is still rejected and
      * error metrics are incremented.
@@ -133,7 +153,7 @@ public class OtlpSinkBuffer {
      */
     public void add(final Record<Event> record) {
         try {
-            queue.put(record);
+            queues.get(selectWorker(record.getData())).put(record);
         } catch (final InterruptedException e) {
             Thread.currentThread().interrupt();
             LOG.error("Interrupted while enqueuing event", e);
@@ -142,21 +162,53 @@ public class OtlpSinkBuffer {
         }
     }
 
+    private int selectWorker(final Event event) {
+        if (workers == 1) {
+            return 0;
+        }
+        final String serviceName = getServiceName(event);
+        if (serviceName == null) {
+            return Math.floorMod(nextWorker.getAndIncrement(), workers);
+        }
+        return Math.floorMod(serviceName.hashCode(), workers);
+    }
+
+    private static String getServiceName(final Event event) {
+        if (event instanceof Span) {
+            return ((Span) event).getServiceName();
+        } else if (event instanceof Metric) {
+            return ((Metric) event).getServiceName();
+        } else if (event instanceof OpenTelemetryLog) {
+            return ((OpenTelemetryLog) event).getServiceName();
+        }
+        return null;
+    }
+
     /**
-     * Worker loop that batches events by count, size, or time and then flushes them.
-     * <p>
-     * Continues running as long as {@link #running} is true or the queue is not empty.
-     * Handles encoding failures, timeout-based flush, and final flush on shutdown.
+     * Runs a worker, and restarts it if it crashes unexpectedly.
      */
-    private void run() {
-        runTyped(signalHandler);
+    private void run(final int worker) {
+        try {
+            runTyped(signalHandler, worker);
+        } catch (final Throwable t) {
+            LOG.error("Worker thread crashed unexpectedly", t);
+            sinkMetrics.incrementErrorsCount();
+            restartWorker(worker);
+        }
     }
 
     /**
+     * Worker loop that batches events by count, size, or time and then flushes them.
+     * <p>
+     * Continues running as long as {@link #running} is true or the queue of the worker is not empty.
+     * Handles encoding failures, timeout-based flush, and final flush on shutdown.
+     * <p>
      * Type-capture helper that bridges the wildcard {@code OtlpSignalHandler<?>} to a concrete
      * type parameter, enabling type-safe batch operations without unchecked casts.
      */
-    private <T> void runTyped(final OtlpSignalHandler<T> handler) {
+    private <T> void runTyped(final OtlpSignalHandler<T> handler, final int worker) {
+        final BlockingQueue<Record<Event>> queue = queues.get(worker);
+        final Semaphore permits = inFlightRequestPermits[worker];
         final List<Pair<T, EventHandle>> batch = new ArrayList<>();
         long batchSize = 0;
         long lastFlush = System.currentTimeMillis();
@@ -191,7 +243,8 @@ public class OtlpSinkBuffer {
                 final boolean flushByTime = !batch.isEmpty() && (now - lastFlush >= flushTimeoutMillis);
 
                 if (flushBySize || flushByTime) {
-                    sender.send(batch, handler, signalType);
+                    permits.acquire();
+                    send(batch, handler, permits);
                     batch.clear();
                     batchSize = 0;
                     lastFlush = now;
@@ -211,8 +264,22 @@ public class OtlpSinkBuffer {
 
         // Final flush
         if (!batch.isEmpty()) {
-            sender.send(batch, handler, signalType);
+            permits.acquireUninterruptibly();
+            send(batch, handler, permits);
             batch.clear();
         }
     }
+
+    /**
+     * Sends a batch with an in-flight request permit which has already been acquired. The permit is released
+     * once the response has been handled.
+     */
+    private <T> void send(final List<Pair<T, EventHandle>> batch, final OtlpSignalHandler<T> handler, final Semaphore permits) {
+        try {
+            sender.send(batch, handler, signalType).whenComplete((result, e) -> permits.release());
+        } catch (final RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
 }
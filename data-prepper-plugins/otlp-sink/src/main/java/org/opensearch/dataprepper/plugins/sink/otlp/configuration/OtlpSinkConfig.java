@@ -49,6 +49,23 @@ public class OtlpSinkConfig {
     @Min(value = 0)
     private int maxRetries = 5;
 
+    /**
+     * The number of workers which batch, encode and send the events of each signal type.
+     * Events are partitioned across the workers by the service of their resource.
+     */
+    @Getter
+    @JsonProperty("workers")
+    @Min(value = 1)
+    private int workers = 1;
+
+    /**
+     * The maximum number of requests each worker keeps in flight before it waits for a response.
+     */
+    @Getter
+    @JsonProperty("max_in_flight_requests")
+    @Min(value = 1)
+    private int maxInFlightRequests = 4;
+
     /**
      * The threshold configuration for sending spans to the OTLP endpoint.
      * This field is kept private and its contents should be accessed via the generated getter methods.
@@ -38,6 +38,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 /**
@@ -123,10 +124,11 @@ public class OtlpHttpSender {
      * @param batch the batch of events to send
      * @param signalHandler the signal handler for building the request and parsing the response
      * @param signalType the signal type for per-signal metrics
+     * @return a future which completes once the response has been handled and the event handles released
      */
-    public <T> void send(@Nonnull final List<Pair<T, EventHandle>> batch, @Nonnull final OtlpSignalHandler<T> signalHandler, @Nonnull final OtlpSignalType signalType) {
+    public <T> CompletableFuture<Void> send(@Nonnull final List<Pair<T, EventHandle>> batch, @Nonnull final OtlpSignalHandler<T> signalHandler, @Nonnull final OtlpSignalType signalType) {
         if (batch.isEmpty()) {
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
         // Defensive copy to avoid ConcurrentModificationException
@@ -139,13 +141,13 @@ public class OtlpHttpSender {
             sinkMetrics.incrementFailedRecordsCount(events);
             sinkMetrics.incrementFailedSignalCount(metricsLabel, events);
             releaseAllEventHandle(immutableBatch, false);
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
         final HttpRequest request = buildHttpRequest(payloadAndCompressedPayload.right());
         final long startTime = System.currentTimeMillis();
 
-        webClient.execute(request)
+        return webClient.execute(request)
                 .aggregate()
                 .thenAccept(response -> {
                     final long latency = System.currentTimeMillis() - startTime;
@@ -15,6 +15,7 @@ import org.opensearch.dataprepper.plugins.sink.otlp.OtlpSignalType;
 import javax.annotation.Nonnull;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 
@@ -84,9 +85,14 @@ public class OtlpSinkMetrics {
         httpLatency.record(Duration.ofMillis(durationMillis));
     }
 
-    public void registerQueueGauges(final BlockingQueue<?> queue) {
-        pluginMetrics.gauge("queueSize", queue, BlockingQueue::size);
-        pluginMetrics.gauge("queueCapacity", queue, q -> q.remainingCapacity() + q.size());
+    /**
+     * Registers the queue gauges over the queues of all workers of a buffer, as their total size and capacity.
+     *
+     * @param queues The worker queues
+     */
+    public void registerQueueGauges(final List<? extends BlockingQueue<?>> queues) {
+        pluginMetrics.gauge("queueSize", queues, qs -> qs.stream().mapToInt(BlockingQueue::size).sum());
+        pluginMetrics.gauge("queueCapacity", queues, qs -> qs.stream().mapToInt(q -> q.remainingCapacity() + q.size()).sum());
     }
 
     /**
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.log.Log;
+import org.opensearch.dataprepper.model.log.OpenTelemetryLog;
 import org.opensearch.dataprepper.model.metric.Metric;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
@@ -29,13 +30,19 @@ import org.opensearch.dataprepper.plugins.sink.otlp.http.OtlpHttpSender;
 import org.opensearch.dataprepper.plugins.sink.otlp.metrics.OtlpSinkMetrics;
 import software.amazon.awssdk.regions.Region;
 
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -63,6 +70,8 @@ class OtlpSinkBufferMultiSignalTest {
         metrics = mock(OtlpSinkMetrics.class);
         handler = mock(OtlpSignalHandler.class);
         sender = mock(OtlpHttpSender.class);
+        when(sender.send(any(), any(OtlpSignalHandler.class), any(OtlpSignalType.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
 
         buffer = new OtlpSinkBuffer(config, metrics, handler, sender, OtlpSignalType.TRACE);
     }
@@ -251,7 +260,7 @@ class OtlpSinkBufferMultiSignalTest {
         when(handler.getSerializedSize(any())).thenReturn(10L);
 
         buffer.start();
-        buffer.restartWorker();
+        buffer.restartWorker(0);
 
         // Should still be able to process events after restart
         buffer.add(createMockSpanRecord());
@@ -269,7 +278,7 @@ class OtlpSinkBufferMultiSignalTest {
         buffer.stop();
 
         // Should not throw or restart since running is false
-        buffer.restartWorker();
+        buffer.restartWorker(0);
 
         assertFalse(buffer.isRunning());
     }
@@ -342,6 +351,128 @@ class OtlpSinkBufferMultiSignalTest {
         buffer.stop();
     }
 
+    @Test
+    void testWorkers_partitionEventsByServiceName() throws Exception {
+        when(config.getWorkers()).thenReturn(4);
+        when(config.getMaxEvents()).thenReturn(1);
+        when(handler.encodeEvent(any(Event.class))).thenReturn(ResourceSpans.getDefaultInstance());
+        when(handler.getSerializedSize(any())).thenReturn(10L);
+        final Set<String> senderThreadNames = ConcurrentHashMap.newKeySet();
+        when(sender.send(any(), any(OtlpSignalHandler.class), any(OtlpSignalType.class))).thenAnswer(invocation -> {
+            senderThreadNames.add(Thread.currentThread().getName());
+            return CompletableFuture.completedFuture(null);
+        });
+
+        buffer = new OtlpSinkBuffer(config, metrics, handler, sender, OtlpSignalType.TRACE);
+        buffer.start();
+
+        for (int i = 0; i < 20; i++) {
+            buffer.add(createMockSpanRecord("checkout"));
+        }
+
+        await().atMost(2, SECONDS).untilAsserted(() ->
+            verify(sender, times(20)).send(any(), any(OtlpSignalHandler.class), any(OtlpSignalType.class))
+        );
+        assertEquals(1, senderThreadNames.size());
+
+        buffer.stop();
+    }
+
+    @Test
+    void testWorkers_sendEventsOfEachSignalTypeAndEventsWithoutServiceName() throws Exception {
+        when(config.getWorkers()).thenReturn(3);
+        when(config.getMaxEvents()).thenReturn(1);
+        when(handler.encodeEvent(any(Event.class))).thenReturn(ResourceSpans.getDefaultInstance());
+        when(handler.getSerializedSize(any())).thenReturn(10L);
+
+        buffer = new OtlpSinkBuffer(config, metrics, handler, sender, OtlpSignalType.TRACE);
+        buffer.start();
+
+        buffer.add(createMockSpanRecord("frontend"));
+        buffer.add(createMockSpanRecord());
+        final Metric metric = mock(Metric.class);
+        when(metric.getServiceName()).thenReturn("backend");
+        when(metric.getEventHandle()).thenReturn(mock(EventHandle.class));
+        buffer.add(new Record<>(metric));
+        final OpenTelemetryLog log = mock(OpenTelemetryLog.class);
+        when(log.getServiceName()).thenReturn("database");
+        when(log.getEventHandle()).thenReturn(mock(EventHandle.class));
+        buffer.add(new Record<>(log));
+        buffer.add(createMockLogRecord());
+
+        await().atMost(2, SECONDS).untilAsserted(() ->
+            verify(sender, times(5)).send(any(), any(OtlpSignalHandler.class), any(OtlpSignalType.class))
+        );
+
+        buffer.stop();
+    }
+
+    @Test
+    void testMaxInFlightRequests_waitsForAResponseBeforeSendingMore() throws Exception {
+        when(config.getMaxInFlightRequests()).thenReturn(1);
+        when(config.getMaxEvents()).thenReturn(1);
+        when(handler.encodeEvent(any(Event.class))).thenReturn(ResourceSpans.getDefaultInstance());
+        when(handler.getSerializedSize(any())).thenReturn(10L);
+        final CompletableFuture<Void> response = new CompletableFuture<>();
+        when(sender.send(any(), any(OtlpSignalHandler.class), any(OtlpSignalType.class))).thenReturn(response);
+
+        buffer = new OtlpSinkBuffer(config, metrics, handler, sender, OtlpSignalType.TRACE);
+        buffer.start();
+
+        buffer.add(createMockSpanRecord());
+        buffer.add(createMockSpanRecord());
+
+        await().atMost(2, SECONDS).untilAsserted(() ->
+            verify(sender, times(1)).send(any(), any(OtlpSignalHandler.class), any(OtlpSignalType.class))
+        );
+        Thread.sleep(300);
+        verify(sender, times(1)).send(any(), any(OtlpSignalHandler.class), any(OtlpSignalType.class));
+
+        response.complete(null);
+
+        await().atMost(2, SECONDS).untilAsserted(() ->
+            verify(sender, times(2)).send(any(), any(OtlpSignalHandler.class), any(OtlpSignalType.class))
+        );
+
+        buffer.stop();
+    }
+
+    @Test
+    void testSendFailure_releasesTheInFlightRequestPermit() throws Exception {
+        when(config.getMaxInFlightRequests()).thenReturn(1);
+        when(config.getMaxEvents()).thenReturn(1);
+        when(handler.encodeEvent(any(Event.class))).thenReturn(ResourceSpans.getDefaultInstance());
+        when(handler.getSerializedSize(any())).thenReturn(10L);
+        when(sender.send(any(), any(OtlpSignalHandler.class), any(OtlpSignalType.class)))
+                .thenThrow(new RuntimeException("send failed"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        buffer = new OtlpSinkBuffer(config, metrics, handler, sender, OtlpSignalType.TRACE);
+        buffer.start();
+
+        buffer.add(createMockSpanRecord());
+
+        await().atMost(2, SECONDS).untilAsserted(() ->
+            verify(metrics, atLeast(1)).incrementErrorsCount()
+        );
+
+        buffer.add(createMockSpanRecord());
+
+        await().atMost(2, SECONDS).untilAsserted(() ->
+            verify(sender, times(2)).send(any(), any(OtlpSignalHandler.class), any(OtlpSignalType.class))
+        );
+
+        buffer.stop();
+    }
+
+    private Record<Event> createMockSpanRecord(final String serviceName) {
+        final Span span = mock(Span.class);
+        final EventHandle eventHandle = mock(EventHandle.class);
+        when(span.getServiceName()).thenReturn(serviceName);
+        when(span.getEventHandle()).thenReturn(eventHandle);
+        return new Record<>(span);
+    }
+
     private Record<Event> createMockSpanRecord() {
         final Span span = mock(Span.class);
         final EventHandle eventHandle = mock(EventHandle.class);
@@ -142,6 +142,8 @@ class OtlpSinkConfigTest {
         assertEquals(DEFAULT_MAX_EVENTS, config.getMaxEvents());
         assertEquals(DEFAULT_BATCH_BYTES, config.getMaxBatchSize());
         assertEquals(DEFAULT_FLUSH_TIMEOUT, config.getFlushTimeoutMillis());
+        assertEquals(1, config.getWorkers());
+        assertEquals(4, config.getMaxInFlightRequests());
 
         assertThat(config.getStsRoleArn(), nullValue());
         assertThat(config.getStsExternalId(), nullValue());
@@ -153,6 +155,8 @@ class OtlpSinkConfigTest {
                 "endpoint:      \"" + EXPECTED_ENDPOINT + "\"",
                 "aws: {}",
                 "max_retries:   3",
+                "workers:       4",
+                "max_in_flight_requests: 8",
                 "threshold:",
                 "  max_events:     " + CUSTOM_MAX_EVENTS,
                 "  max_batch_size: \"" + CUSTOM_BATCH_SIZE + "\"",
@@ -163,6 +167,8 @@ class OtlpSinkConfigTest {
 
         assertEquals(EXPECTED_ENDPOINT, config.getEndpoint());
         assertEquals(3, config.getMaxRetries());
+        assertEquals(4, config.getWorkers());
+        assertEquals(8, config.getMaxInFlightRequests());
         assertEquals(CUSTOM_MAX_EVENTS, config.getMaxEvents());
         assertEquals(CUSTOM_BATCH_BYTES, config.getMaxBatchSize());
         assertEquals(CUSTOM_FLUSH_TIMEOUT, config.getFlushTimeoutMillis());
@@ -28,11 +28,13 @@ import java.net.URI;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -76,8 +78,9 @@ class OtlpHttpSenderTest {
 
     @Test
     void testSend_emptyBatch_doesNothing() {
-        sender.send(Collections.emptyList(), mockHandler, OtlpSignalType.TRACE);
+        final CompletableFuture<Void> result = sender.send(Collections.emptyList(), mockHandler, OtlpSignalType.TRACE);
 
+        assertTrue(result.isDone());
         verify(mockWebClient, never()).execute(any(HttpRequest.class));
     }
 
@@ -89,8 +92,9 @@ class OtlpHttpSenderTest {
         when(mockHandler.buildRequestPayload(any())).thenReturn(new byte[]{1, 2, 3});
         when(mockCompressor.apply(any())).thenReturn(new byte[0]);
 
-        sender.send(batch, mockHandler, OtlpSignalType.TRACE);
+        final CompletableFuture<Void> result = sender.send(batch, mockHandler, OtlpSignalType.TRACE);
 
+        assertTrue(result.isDone());
         verify(mockMetrics).incrementFailedRecordsCount(1);
         verify(handle).release(false);
     }
@@ -116,6 +120,22 @@ class OtlpHttpSenderTest {
         });
     }
 
+    @Test
+    void testSend_returnsFutureWhichCompletesAfterTheResponseIsHandled() throws Exception {
+        final EventHandle handle = mock(EventHandle.class);
+        final List<Pair<ResourceSpans, EventHandle>> batch = List.of(Pair.of(ResourceSpans.getDefaultInstance(), handle));
+
+        setupCompressorAndSigner(new byte[]{1, 2, 3}, new byte[]{4, 5});
+
+        when(mockWebClient.execute(any(HttpRequest.class)))
+                .thenReturn(HttpResponse.of(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        sender.send(batch, mockHandler, OtlpSignalType.TRACE).get(2, SECONDS);
+
+        verify(mockMetrics).incrementRejectedRecordsCount(1);
+        verify(handle).release(false);
+    }
+
     @Test
     void testSend_nonSuccessfulResponse_incrementsRejected() throws Exception {
         final EventHandle handle = mock(EventHandle.class);
@@ -16,8 +16,8 @@ import org.opensearch.dataprepper.model.configuration.PluginSetting;
 
 import java.lang.reflect.Field;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.function.ToDoubleFunction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -119,35 +119,25 @@ class OtlpSinkMetricsTest {
         verify(counterMock, times(3)).increment();
     }
 
-    @Test
-    void testRegisterQueueGauges() {
-        final BlockingQueue<String> queue = new ArrayBlockingQueue<>(10);
-        sinkMetrics.registerQueueGauges(queue);
-
-        // we expect two gauges registered: queueSize and queueCapacity
-        verify(pluginMetrics).gauge(eq("queueSize"), eq(queue), any());
-        verify(pluginMetrics).gauge(eq("queueCapacity"), eq(queue), any());
-    }
-
     @Test
     @SuppressWarnings("unchecked")
-    void testQueueCapacityGaugeFunction() {
-        final ArrayBlockingQueue<String> queue = new ArrayBlockingQueue<>(10);
-        // put 3 elements so size=3, remainingCapacity=7
-        queue.add("one");
-        queue.add("two");
-        queue.add("three");
-
-        // register the gauges
-        sinkMetrics.registerQueueGauges(queue);
-
-        // capture the ToDoubleFunction passed to gauge(...)
-        @SuppressWarnings("rawtypes") final ArgumentCaptor<ToDoubleFunction> captor = ArgumentCaptor.forClass(ToDoubleFunction.class);
-        verify(pluginMetrics).gauge(eq("queueCapacity"), eq(queue), captor.capture());
-
-        // apply it: remainingCapacity + size == 7 + 3 == 10
-        final ToDoubleFunction<ArrayBlockingQueue<String>> func = captor.getValue();
-        assertEquals(10.0, func.applyAsDouble(queue), 0.0);
+    void testRegisterQueueGauges_forWorkerQueues_reportsTheTotals() {
+        final ArrayBlockingQueue<String> firstQueue = new ArrayBlockingQueue<>(10);
+        final ArrayBlockingQueue<String> secondQueue = new ArrayBlockingQueue<>(5);
+        firstQueue.add("one");
+        secondQueue.add("two");
+        secondQueue.add("three");
+        final List<ArrayBlockingQueue<String>> queues = List.of(firstQueue, secondQueue);
+
+        sinkMetrics.registerQueueGauges(queues);
+
+        @SuppressWarnings("rawtypes") final ArgumentCaptor<ToDoubleFunction> sizeCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        @SuppressWarnings("rawtypes") final ArgumentCaptor<ToDoubleFunction> capacityCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(pluginMetrics).gauge(eq("queueSize"), eq(queues), sizeCaptor.capture());
+        verify(pluginMetrics).gauge(eq("queueCapacity"), eq(queues), capacityCaptor.capture());
+
+        assertEquals(3.0, sizeCaptor.getValue().applyAsDouble(queues), 0.0);
+        assertEquals(15.0, capacityCaptor.getValue().applyAsDouble(queues), 0.0);
     }
 
     @Test
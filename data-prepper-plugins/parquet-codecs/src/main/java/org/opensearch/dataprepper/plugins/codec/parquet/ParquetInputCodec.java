@@ -5,11 +5,19 @@
 
 package org.opensearch.dataprepper.plugins.codec.parquet;
 
+import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.avro.AvroSchemaConverter;
 import org.apache.parquet.conf.ParquetConfiguration;
 import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.FileMetaData;
+import org.opensearch.dataprepper.avro.AvroSchemaProjection;
+import org.opensearch.dataprepper.avro.GenericRecordConverter;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.DecompressionEngine;
@@ -28,15 +36,30 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
+import static org.apache.parquet.avro.AvroReadSupport.AVRO_READ_SCHEMA;
+import static org.apache.parquet.avro.AvroReadSupport.AVRO_REQUESTED_PROJECTION;
 import static org.apache.parquet.avro.AvroReadSupport.READ_INT96_AS_FIXED;
 
 /**
  * An implementation of {@link InputCodec} which parses parquet records into fields.
+ * <p>
+ * Only the configured columns are read, and row groups may be decoded in parallel on a pool of reader threads
+ * which all codecs share. Records are always emitted in file order.
  */
-@DataPrepperPlugin(name = "parquet", pluginType = InputCodec.class)
+@DataPrepperPlugin(name = "parquet", pluginType = InputCodec.class, pluginConfigurationType = ParquetInputCodecConfig.class)
 public class ParquetInputCodec implements InputCodec {
 
     static final String EVENT_TYPE = "event";
@@ -45,16 +68,31 @@ public class ParquetInputCodec implements InputCodec {
 
     static final String FILE_SUFFIX = ".parquet";
 
+    static final String AVRO_SCHEMA_METADATA_KEY = "parquet.avro.schema";
+
+    static final int ROW_GROUP_QUEUE_CAPACITY = 1024;
+
     private static final Logger LOG = LoggerFactory.getLogger(ParquetInputCodec.class);
 
+    private static final Record<Event> END_OF_ROW_GROUP = new Record<>(null);
+
     private final ParquetConfiguration configuration;
     private final EventFactory eventFactory;
+    private final List<String> columns;
+    private final int rowGroupParallelism;
+    private final GenericRecordConverter genericRecordConverter;
 
-    @DataPrepperPluginConstructor
     public ParquetInputCodec(final EventFactory eventFactory) {
+        this(eventFactory, new ParquetInputCodecConfig());
+    }
+
+    @DataPrepperPluginConstructor
+    public ParquetInputCodec(final EventFactory eventFactory, final ParquetInputCodecConfig parquetInputCodecConfig) {
         this.eventFactory = eventFactory;
-        configuration = new PlainParquetConfiguration();
-        configuration.setBoolean(READ_INT96_AS_FIXED, true);
+        this.columns = parquetInputCodecConfig.getColumns();
+        this.rowGroupParallelism = parquetInputCodecConfig.getRowGroupParallelism();
+        this.genericRecordConverter = new GenericRecordConverter();
+        configuration = createConfiguration();
     }
 
     @Override
@@ -81,20 +119,23 @@ public class ParquetInputCodec implements InputCodec {
     }
 
     private void parseParquetFile(final InputFile inputFile, final Consumer<Record<Event>> eventConsumer) throws IOException {
-        try (ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(inputFile, this.configuration)
-                .build()) {
-            GenericRecordJsonEncoder encoder = new GenericRecordJsonEncoder();
-            GenericRecord record = null;
-
-            while ((record = reader.read()) != null) {
-                final String json = encoder.serialize(record);
+        try {
+            if ((columns == null || columns.isEmpty()) && rowGroupParallelism == 1) {
+                readRecords(inputFile, this.configuration, eventConsumer);
+                return;
+            }
 
-                final Event event = eventFactory.eventBuilder(EventBuilder.class)
-                        .withEventType(EVENT_TYPE)
-                        .withData(json)
-                        .build();
+            final List<BlockMetaData> rowGroups;
+            final ParquetConfiguration readConfiguration;
+            try (ParquetFileReader fileReader = ParquetFileReader.open(inputFile, ParquetReadOptions.builder(this.configuration).build())) {
+                rowGroups = fileReader.getRowGroups();
+                readConfiguration = createReadConfiguration(fileReader.getFooter().getFileMetaData());
+            }
 
-                eventConsumer.accept(new Record<>(event));
+            if (rowGroupParallelism == 1 || rowGroups.size() <= 1) {
+                readRecords(inputFile, readConfiguration, eventConsumer);
+            } else {
+                readRowGroupsInParallel(inputFile, readConfiguration, rowGroups, eventConsumer);
             }
         } catch (Exception e){
             LOG.error("An exception occurred while parsing parquet InputStream ", e);
@@ -102,4 +143,144 @@ public class ParquetInputCodec implements InputCodec {
         }
     }
 
+    private void readRecords(final InputFile inputFile,
+                             final ParquetConfiguration readConfiguration,
+                             final Consumer<Record<Event>> eventConsumer) throws IOException {
+        try (ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(inputFile, readConfiguration)
+                .build()) {
+            GenericRecord record;
+            while ((record = reader.read()) != null) {
+                eventConsumer.accept(createRecord(record));
+            }
+        }
+    }
+
+    /**
+     * Decodes up to {@code row_group_parallelism} row groups at a time on the shared reader threads, each through
+     * its own reader over the byte range of the row group. Each row group hands its records to the calling thread
+     * through a bounded queue, and the calling thread emits them in file order.
+     */
+    private void readRowGroupsInParallel(final InputFile inputFile,
+                                         final ParquetConfiguration readConfiguration,
+                                         final List<BlockMetaData> rowGroups,
+                                         final Consumer<Record<Event>> eventConsumer) throws IOException {
+        final Deque<PendingRowGroup> pendingRowGroups = new ArrayDeque<>(rowGroupParallelism);
+        try {
+            int nextRowGroup = 0;
+            while (nextRowGroup < rowGroups.size() || !pendingRowGroups.isEmpty()) {
+                while (nextRowGroup < rowGroups.size() && pendingRowGroups.size() < rowGroupParallelism) {
+                    pendingRowGroups.add(new PendingRowGroup(inputFile, readConfiguration, rowGroups.get(nextRowGroup++)));
+                }
+                pendingRowGroups.peek().emitRecords(eventConsumer);
+                pendingRowGroups.poll();
+            }
+        } catch (final ExecutionException e) {
+            throw new IOException(e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            for (final PendingRowGroup pendingRowGroup : pendingRowGroups) {
+                pendingRowGroup.cancel();
+            }
+        }
+    }
+
+    private void readRowGroup(final InputFile inputFile,
+                              final ParquetConfiguration readConfiguration,
+                              final BlockMetaData rowGroup,
+                              final BlockingQueue<Record<Event>> records) throws IOException, InterruptedException {
+        try (ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(inputFile, readConfiguration)
+                .withFileRange(rowGroup.getStartingPos(), rowGroup.getStartingPos() + rowGroup.getCompressedSize())
+                .build()) {
+            GenericRecord record;
+            while ((record = reader.read()) != null) {
+                records.put(createRecord(record));
+            }
+        } catch (final Exception e) {
+            // Nothing else writes to the queue, so clearing it leaves room for the end marker without blocking.
+            records.clear();
+            records.offer(END_OF_ROW_GROUP);
+            throw e;
+        }
+        records.put(END_OF_ROW_GROUP);
+    }
+
+    private Record<Event> createRecord(final GenericRecord record) {
+        final Event event = eventFactory.eventBuilder(EventBuilder.class)
+                .withEventType(EVENT_TYPE)
+                .withData(genericRecordConverter.convert(record))
+                .build();
+        return new Record<>(event);
+    }
+
+    /**
+     * Creates the configuration for one file. When columns are configured, the Avro schema of the file is
+     * projected to those columns so that the reader skips the column chunks of every other column.
+     */
+    private ParquetConfiguration createReadConfiguration(final FileMetaData fileMetaData) {
+        final ParquetConfiguration readConfiguration = createConfiguration();
+        if (columns == null || columns.isEmpty()) {
+            return readConfiguration;
+        }
+
+        final String avroSchema = fileMetaData.getKeyValueMetaData().get(AVRO_SCHEMA_METADATA_KEY);
+        final Schema fileSchema = avroSchema != null
+                ? new Schema.Parser().parse(avroSchema)
+                : new AvroSchemaConverter(readConfiguration).convert(fileMetaData.getSchema());
+        final String projectedSchema = AvroSchemaProjection.project(fileSchema, columns).toString();
+        readConfiguration.set(AVRO_REQUESTED_PROJECTION, projectedSchema);
+        readConfiguration.set(AVRO_READ_SCHEMA, projectedSchema);
+        return readConfiguration;
+    }
+
+    /**
+     * A row group which is being read on a shared reader thread.
+     */
+    private class PendingRowGroup {
+        private final BlockingQueue<Record<Event>> records = new ArrayBlockingQueue<>(ROW_GROUP_QUEUE_CAPACITY);
+        private final Future<?> future;
+
+        private PendingRowGroup(final InputFile inputFile,
+                                final ParquetConfiguration readConfiguration,
+                                final BlockMetaData rowGroup) {
+            future = RowGroupReaders.EXECUTOR_SERVICE.submit(() -> {
+                readRowGroup(inputFile, readConfiguration, rowGroup, records);
+                return null;
+            });
+        }
+
+        private void emitRecords(final Consumer<Record<Event>> eventConsumer) throws InterruptedException, ExecutionException {
+            Record<Event> record;
+            while ((record = records.take()) != END_OF_ROW_GROUP) {
+                eventConsumer.accept(record);
+            }
+            future.get();
+        }
+
+        private void cancel() {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * The reader threads which every parquet codec shares, one per available processor. Tasks run in the order
+     * they are submitted, so the earliest pending row group of a file has always started before any later one which
+     * waits on its queue.
+     */
+    private static class RowGroupReaders {
+        private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+        private static final ExecutorService EXECUTOR_SERVICE = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(), runnable -> {
+                    final Thread thread = new Thread(runnable, "parquet-row-group-reader-" + THREAD_NUMBER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private static ParquetConfiguration createConfiguration() {
+        final ParquetConfiguration configuration = new PlainParquetConfiguration();
+        configuration.setBoolean(READ_INT96_AS_FIXED, true);
+        return configuration;
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+
+import java.util.List;
+
+/**
+ * Configuration class for {@link ParquetInputCodec}.
+ */
+public class ParquetInputCodecConfig {
+    static final int DEFAULT_ROW_GROUP_PARALLELISM = 1;
+
+    /**
+     * The top-level columns to read from each record. The column chunks of other columns are not read.
+     * By default, every column is read.
+     */
+    @JsonProperty("columns")
+    private List<String> columns;
+
+    /**
+     * The number of row groups of one file which are decoded at the same time. They are decoded on reader threads
+     * which all parquet codecs share, one per available processor. Records are still emitted in file order.
+     */
+    @JsonProperty("row_group_parallelism")
+    @Min(value = 1, message = "row_group_parallelism must be at least 1")
+    private int rowGroupParallelism = DEFAULT_ROW_GROUP_PARALLELISM;
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public int getRowGroupParallelism() {
+        return rowGroupParallelism;
+    }
+}
@@ -12,6 +12,8 @@ import org.apache.parquet.conf.PlainParquetConfiguration;
 import org.apache.parquet.example.data.Group;
 import org.apache.parquet.example.data.simple.NanoTime;
 import org.apache.parquet.example.data.simple.SimpleGroup;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.example.ExampleParquetWriter;
@@ -46,6 +48,7 @@ import java.time.OffsetDateTime;
 import java.time.temporal.JulianFields;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -57,10 +60,12 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.plugins.codec.parquet.ParquetInputCodec.EVENT_TYPE;
 import static org.opensearch.dataprepper.plugins.codec.parquet.ParquetInputCodec.FILE_PREFIX;
 import static org.opensearch.dataprepper.plugins.codec.parquet.ParquetInputCodec.FILE_SUFFIX;
@@ -98,6 +103,13 @@ public class ParquetInputCodecTest {
         return new ParquetInputCodec(testEventFactory);
     }
 
+    private static ParquetInputCodec createObjectUnderTest(final List<String> columns, final int rowGroupParallelism) {
+        final ParquetInputCodecConfig parquetInputCodecConfig = mock(ParquetInputCodecConfig.class);
+        when(parquetInputCodecConfig.getColumns()).thenReturn(columns);
+        when(parquetInputCodecConfig.getRowGroupParallelism()).thenReturn(rowGroupParallelism);
+        return new ParquetInputCodec(testEventFactory, parquetInputCodecConfig);
+    }
+
     @SuppressWarnings("unchecked")
     @BeforeEach
     public void setUp() throws IOException {
@@ -228,16 +240,137 @@ public class ParquetInputCodecTest {
         }
     }
 
+    @Test
+    public void parseInputFile_with_columns_only_reads_the_projected_columns() throws IOException {
+        parquetInputCodec = createObjectUnderTest(List.of("value", "id"), 1);
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(10)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 0; i < 10; i++) {
+            final Event event = actualRecords.get(i).getData();
+            assertThat(event.toMap(), equalTo(Map.of("id", "id" + i, "value", i)));
+            assertThat(event.getMetadata().getEventType(), equalTo(EVENT_TYPE));
+        }
+    }
+
+    @Test
+    public void parseInputFile_with_columns_projects_the_test_parquet_file() throws IOException, URISyntaxException {
+        URL resource = getClass().getClassLoader().getResource("test-parquet.parquet");
+        InputFile inputFile = new LocalInputFile(Paths.get(resource.toURI()).toFile());
+        parquetInputCodec = createObjectUnderTest(List.of("name"), 1);
+
+        parquetInputCodec.parse(inputFile, new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(100)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 1; i <= actualRecords.size(); i++) {
+            assertThat(actualRecords.get(i - 1).getData().toMap(), equalTo(Map.of("name", i + "testString")));
+        }
+    }
+
+    @Test
+    public void parseInputFile_with_row_group_parallelism_emits_records_in_file_order() throws IOException {
+        final File multipleRowGroupsFile = File.createTempFile(FILE_PREFIX + "-row-groups-", FILE_SUFFIX);
+        multipleRowGroupsFile.deleteOnExit();
+        final int numberOfRecords = 5000;
+        generateTestData(multipleRowGroupsFile, numberOfRecords, 16 * 1024);
+        try (ParquetFileReader fileReader = ParquetFileReader.open(new LocalInputFile(multipleRowGroupsFile),
+                ParquetReadOptions.builder(new PlainParquetConfiguration()).build())) {
+            assertThat(fileReader.getRowGroups().size(), greaterThan(2));
+        }
+        parquetInputCodec = createObjectUnderTest(null, 2);
+
+        parquetInputCodec.parse(new FileInputStream(multipleRowGroupsFile), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(numberOfRecords)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 0; i < numberOfRecords; i++) {
+            final Event event = actualRecords.get(i).getData();
+            assertThat(event.get("id", String.class), equalTo("id" + i));
+            assertThat(event.get("value", Integer.class), equalTo(i));
+            assertThat(event.get("lastUpdated", Long.class), equalTo(1684509331977L));
+        }
+    }
+
+    @Test
+    public void parseInputFile_with_row_group_parallelism_and_row_groups_larger_than_the_queue_emits_records_in_file_order() throws IOException {
+        final File largeRowGroupsFile = File.createTempFile(FILE_PREFIX + "-large-row-groups-", FILE_SUFFIX);
+        largeRowGroupsFile.deleteOnExit();
+        final int numberOfRecords = 20 * ParquetInputCodec.ROW_GROUP_QUEUE_CAPACITY;
+        generateTestData(largeRowGroupsFile, numberOfRecords, 128 * 1024);
+        try (ParquetFileReader fileReader = ParquetFileReader.open(new LocalInputFile(largeRowGroupsFile),
+                ParquetReadOptions.builder(new PlainParquetConfiguration()).build())) {
+            assertThat(fileReader.getRowGroups().size(), greaterThan(1));
+            assertThat(fileReader.getRowGroups().get(0).getRowCount(), greaterThan((long) ParquetInputCodec.ROW_GROUP_QUEUE_CAPACITY));
+        }
+        parquetInputCodec = createObjectUnderTest(null, 3);
+        final List<Integer> values = new ArrayList<>();
+
+        parquetInputCodec.parse(new LocalInputFile(largeRowGroupsFile), new NoneDecompressionEngine(),
+                record -> values.add(record.getData().get("value", Integer.class)));
+
+        assertThat(values.size(), equalTo(numberOfRecords));
+        for (int i = 0; i < numberOfRecords; i++) {
+            assertThat(values.get(i), equalTo(i));
+        }
+    }
+
+    @Test
+    public void parseInputFile_with_row_group_parallelism_stops_reading_when_the_consumer_throws() throws IOException {
+        final File multipleRowGroupsFile = File.createTempFile(FILE_PREFIX + "-row-groups-", FILE_SUFFIX);
+        multipleRowGroupsFile.deleteOnExit();
+        final int numberOfRecords = 20 * ParquetInputCodec.ROW_GROUP_QUEUE_CAPACITY;
+        generateTestData(multipleRowGroupsFile, numberOfRecords, 16 * 1024);
+        parquetInputCodec = createObjectUnderTest(null, 4);
+
+        for (int attempt = 0; attempt < 2 * Runtime.getRuntime().availableProcessors(); attempt++) {
+            assertThrows(IOException.class, () -> parquetInputCodec.parse(new LocalInputFile(multipleRowGroupsFile),
+                    new NoneDecompressionEngine(), record -> {
+                        throw new IllegalStateException("consumer failure");
+                    }));
+        }
+
+        final List<Record<Event>> records = new ArrayList<>();
+        parquetInputCodec.parse(new LocalInputFile(multipleRowGroupsFile), new NoneDecompressionEngine(), records::add);
+        assertThat(records.size(), equalTo(numberOfRecords));
+    }
+
+    @Test
+    public void parseInputFile_with_row_group_parallelism_and_a_single_row_group_parsesCorrectly() throws IOException {
+        parquetInputCodec = createObjectUnderTest(Collections.emptyList(), 4);
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(10)).accept(recordArgumentCaptor.capture());
+
+        assertRecordsCorrect(recordArgumentCaptor.getAllValues());
+    }
+
     private static void generateTestData(final File file) throws IOException {
+        generateTestData(file, 10, ParquetWriter.DEFAULT_BLOCK_SIZE);
+    }
+
+    private static void generateTestData(final File file, final int numberOfRecords, final int rowGroupSize) throws IOException {
         Schema schema = new Schema.Parser().parse(SCHEMA_JSON);
 
         final ParquetWriter<GenericRecord> writer = AvroParquetWriter.<GenericRecord>builder(new LocalOutputFile(file))
                 .withSchema(schema)
                 .withConf(new PlainParquetConfiguration())
                 .withEncryption(null)
+                .withRowGroupSize(rowGroupSize)
+                .withPageSize(1024)
                 .build();
 
-        for (int i = 0; i < 10; i++) {
+        for (int i = 0; i < numberOfRecords; i++) {
             GenericData.Record record = new GenericData.Record(schema);
             record.put("id", "id" + i);
             record.put("value", i);
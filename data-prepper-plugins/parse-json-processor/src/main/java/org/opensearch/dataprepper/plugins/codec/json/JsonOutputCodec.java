@@ -13,6 +13,7 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.sink.OutputCodecContext;
 
 import java.io.IOException;
@@ -57,8 +58,13 @@ public class JsonOutputCodec implements OutputCodec {
         @Override
         public void writeEvent(final Event event) throws IOException {
             Objects.requireNonNull(event);
-            final Map<String, Object> dataMap = getDataMapToSerialize(event);
-            objectMapper.writeValue(generator, dataMap);
+            if (isWholeEventWritten() && isBackedByRawJson(event)) {
+                // Events created from raw JSON write their unmodified fields from the original bytes.
+                generator.writeRawValue(event.toJsonString());
+            } else {
+                final Map<String, Object> dataMap = getDataMapToSerialize(event);
+                objectMapper.writeValue(generator, dataMap);
+            }
             generator.flush();
         }
 
@@ -71,6 +77,16 @@ public class JsonOutputCodec implements OutputCodec {
             outputStream.close();
         }
 
+        private boolean isBackedByRawJson(final Event event) {
+            return event instanceof JacksonEvent && ((JacksonEvent) event).isBackedByRawJson();
+        }
+
+        private boolean isWholeEventWritten() {
+            return codecContext.getTagsTargetKey() == null &&
+                    (codecContext.getIncludeKeys() == null || codecContext.getIncludeKeys().isEmpty()) &&
+                    (codecContext.getExcludeKeys() == null || codecContext.getExcludeKeys().isEmpty());
+        }
+
         private Map<String, Object> getDataMapToSerialize(final Event event) throws JsonProcessingException {
             final Event modifiedEvent;
             if (codecContext.getTagsTargetKey() != null) {
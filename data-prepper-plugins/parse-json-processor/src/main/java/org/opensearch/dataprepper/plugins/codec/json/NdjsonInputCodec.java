@@ -5,7 +5,10 @@
 
 package org.opensearch.dataprepper.plugins.codec.json;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -20,6 +23,7 @@ import org.opensearch.dataprepper.model.event.LogEventBuilder;
 import org.opensearch.dataprepper.model.log.Log;
 import org.opensearch.dataprepper.model.record.Record;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
@@ -33,6 +37,7 @@ import java.util.function.Consumer;
 @DataPrepperPlugin(name = "ndjson", pluginType = InputCodec.class, pluginConfigurationType = NdjsonInputConfig.class)
 public class NdjsonInputCodec implements InputCodec {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {};
+    private static final int EMPTY_OBJECT_SIZE = "{}".length();
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final NdjsonInputConfig ndjsonInputConfig;
     private final EventFactory eventFactory;
@@ -50,6 +55,12 @@ public class NdjsonInputCodec implements InputCodec {
         Objects.requireNonNull(inputStream, "Parameter inputStream must not be null.");
         Objects.requireNonNull(eventConsumer, "Parameter eventConsumer must not be null.");
 
+        if (ndjsonInputConfig.isLazyJsonParsing()) {
+            final RetainingInputStream retainingInputStream = new RetainingInputStream(inputStream);
+            parseRawJson(jsonFactory.createParser(retainingInputStream), retainingInputStream, eventConsumer);
+            return;
+        }
+
         final JsonParser parser = jsonFactory.createParser(inputStream);
 
         JsonToken token = parser.nextToken();
@@ -89,6 +100,75 @@ public class NdjsonInputCodec implements InputCodec {
         }
     }
 
+    private void parseRawJson(final JsonParser parser,
+                              final RetainingInputStream retainingInputStream,
+                              final Consumer<Record<Event>> eventConsumer) throws IOException {
+        JsonToken token = parser.nextToken();
+        while (token != null) {
+            if (token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    acceptRawJsonObject(parser, retainingInputStream, eventConsumer);
+                }
+            } else {
+                acceptRawJsonObject(parser, retainingInputStream, eventConsumer);
+            }
+            token = parser.nextToken();
+        }
+    }
+
+    /**
+     * Copies the current object out of the input by the byte offsets of its first and last tokens, so the
+     * object is tokenized once and not serialized again.
+     */
+    private void acceptRawJsonObject(final JsonParser parser,
+                                     final RetainingInputStream retainingInputStream,
+                                     final Consumer<Record<Event>> eventConsumer) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object but found " + parser.currentToken());
+        }
+        final long objectStart = parser.getTokenLocation().getByteOffset();
+        if (objectStart < 0) {
+            acceptCopiedJsonObject(parser, eventConsumer);
+            return;
+        }
+        retainingInputStream.releaseBefore(objectStart);
+
+        boolean emptyObject = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            emptyObject = false;
+            parser.nextToken();
+            parser.skipChildren();
+        }
+        if (!ndjsonInputConfig.isIncludeEmptyObjects() && emptyObject) {
+            return;
+        }
+
+        final long objectEnd = parser.getTokenLocation().getByteOffset() + 1;
+        acceptRawJson(retainingInputStream.copyRange(objectStart, objectEnd), eventConsumer);
+    }
+
+    /**
+     * Re-serializes the current object, for input in an encoding other than UTF-8 which has no byte offsets.
+     */
+    private void acceptCopiedJsonObject(final JsonParser parser, final Consumer<Record<Event>> eventConsumer) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final JsonGenerator generator = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.copyCurrentStructure(parser);
+        }
+
+        if (!ndjsonInputConfig.isIncludeEmptyObjects() && outputStream.size() == EMPTY_OBJECT_SIZE) {
+            return;
+        }
+        acceptRawJson(outputStream.toByteArray(), eventConsumer);
+    }
+
+    private void acceptRawJson(final byte[] jsonBytes, final Consumer<Record<Event>> eventConsumer) {
+        final Log event = eventFactory.eventBuilder(LogEventBuilder.class)
+                .withRawJson(jsonBytes)
+                .build();
+        eventConsumer.accept(new Record<>(event));
+    }
+
     private Record<Event> createRecord(final Map<String, Object> json) {
         final Log event = eventFactory.eventBuilder(LogEventBuilder.class)
                 .withData(json)
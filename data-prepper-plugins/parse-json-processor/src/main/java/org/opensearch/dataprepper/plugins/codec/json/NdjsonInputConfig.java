@@ -25,6 +25,13 @@ public class NdjsonInputConfig {
     @JsonProperty("extension")
     private String extension = "jsonl";
 
+    /**
+     * When enabled, events keep the bytes of each object and only parse the fields which are
+     * accessed. Unmodified fields are written to sinks from the original bytes.
+     */
+    @JsonProperty("lazy_json_parsing")
+    private boolean lazyJsonParsing = false;
+
     public boolean isIncludeEmptyObjects() {
         return includeEmptyObjects;
     }
@@ -32,4 +39,8 @@ public class NdjsonInputConfig {
     public String getExtension() {
         return extension;
     }
+
+    public boolean isLazyJsonParsing() {
+        return lazyJsonParsing;
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.json;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * An {@link InputStream} which keeps the bytes read from it since a released offset, so that a JSON object can
+ * be copied out by the byte offsets a parser reports for it, even after the parser has read ahead of the object.
+ * Offsets count from the first byte read from this stream.
+ */
+class RetainingInputStream extends FilterInputStream {
+    private static final int INITIAL_CAPACITY = 8192;
+
+    private byte[] retained = new byte[INITIAL_CAPACITY];
+    private long retainedStart;
+    private int retainedLength;
+
+    RetainingInputStream(final InputStream inputStream) {
+        super(inputStream);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int nextByte = in.read();
+        if (nextByte >= 0) {
+            ensureCapacity(1);
+            retained[retainedLength++] = (byte) nextByte;
+        }
+        return nextByte;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        final int bytesRead = in.read(bytes, offset, length);
+        if (bytesRead > 0) {
+            ensureCapacity(bytesRead);
+            System.arraycopy(bytes, offset, retained, retainedLength, bytesRead);
+            retainedLength += bytesRead;
+        }
+        return bytesRead;
+    }
+
+    @Override
+    public long skip(final long length) throws IOException {
+        final byte[] skipped = new byte[(int) Math.min(length, INITIAL_CAPACITY)];
+        final int bytesRead = read(skipped, 0, skipped.length);
+        return Math.max(bytesRead, 0);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Stops keeping the bytes before the offset.
+     */
+    void releaseBefore(final long offset) {
+        final int released = (int) Math.min(Math.max(offset - retainedStart, 0), retainedLength);
+        System.arraycopy(retained, released, retained, 0, retainedLength - released);
+        retainedLength -= released;
+        retainedStart += released;
+    }
+
+    /**
+     * @return a copy of the bytes from the start offset up to, but not including, the end offset
+     */
+    byte[] copyRange(final long start, final long end) {
+        if (start < retainedStart || end > retainedStart + retainedLength || start > end) {
+            throw new IndexOutOfBoundsException("The range " + start + " to " + end + " is not retained");
+        }
+        return Arrays.copyOfRange(retained, (int) (start - retainedStart), (int) (end - retainedStart));
+    }
+
+    private void ensureCapacity(final int additionalLength) {
+        if (retainedLength + additionalLength > retained.length) {
+            retained = Arrays.copyOf(retained, Math.max(retained.length * 2, retainedLength + additionalLength));
+        }
+    }
+}
@@ -13,11 +13,16 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.sink.OutputCodecContext;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -263,6 +268,53 @@ class JsonOutputCodecTest {
         assertThat(index, equalTo(numberOfRecords));
     }
 
+    @Test
+    void writer_writes_event_created_from_raw_json_from_the_original_bytes() throws IOException {
+        final String rawJson = "{\"name\":\"Person0\",\"price\":1.50}";
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withRawJson(rawJson.getBytes(StandardCharsets.UTF_8))
+                .build();
+        outputStream = new ByteArrayOutputStream();
+        final OutputCodec.Writer writer = createObjectUnderTest().createWriter(outputStream, null, new OutputCodecContext());
+
+        writer.writeEvent(event);
+        writer.complete();
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8), equalTo("{\"events\":[" + rawJson + "]}"));
+    }
+
+    @Test
+    void writer_writes_span_with_its_attributes_nested() throws IOException {
+        final Instant endTime = Instant.now();
+        final Event span = JacksonSpan.builder()
+                .withSpanId("span-id")
+                .withTraceId("trace-id")
+                .withTraceState("")
+                .withParentSpanId("")
+                .withName("span-name")
+                .withServiceName("service")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime(endTime.minusSeconds(1).toString())
+                .withEndTime(endTime.toString())
+                .withDurationInNanos(1_000_000_000L)
+                .withTraceGroup("span-name")
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .withAttributes(Map.of("attribute-key", "attribute-value"))
+                .build();
+        outputStream = new ByteArrayOutputStream();
+        final OutputCodec.Writer writer = createObjectUnderTest().createWriter(outputStream, null, new OutputCodecContext());
+
+        writer.writeEvent(span);
+        writer.complete();
+
+        final JsonNode actualElement = new ObjectMapper().readTree(outputStream.toByteArray())
+                .get(JsonOutputCodecConfig.DEFAULT_KEY_NAME).get(0);
+        assertThat(actualElement.get("spanId").asText(), equalTo("span-id"));
+        assertThat(actualElement.has("attribute-key"), equalTo(false));
+        assertThat(actualElement.get("attributes").get("attribute-key").asText(), equalTo("attribute-value"));
+    }
+
     @Test
     void testGetEstimatedSize() throws Exception {
         int numberOfRecords = 1;
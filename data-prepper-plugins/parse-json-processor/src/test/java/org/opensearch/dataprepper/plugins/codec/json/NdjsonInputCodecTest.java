@@ -310,6 +310,65 @@ class NdjsonInputCodecTest {
         }
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(ValidInputStreamFormatsArgumentsProvider.class)
+    void parse_with_lazy_json_parsing_includes_objects(final InputStreamFormat inputStreamFormat, final int numberOfObjects) throws IOException {
+        when(config.isLazyJsonParsing()).thenReturn(true);
+        final List<Map<String, Object>> objects = new ArrayList<>();
+        final List<Map<String, Object>> expectedObjects = new ArrayList<>();
+        for (int i = 0; i < numberOfObjects; i++) {
+            final Map<String, Object> json = generateJson();
+            objects.add(Collections.emptyMap());
+            objects.add(json);
+            expectedObjects.add(json);
+        }
+
+        final InputStream inputStream = inputStreamFormat.createInputStream(objects);
+
+        createObjectUnderTest().parse(inputStream, eventConsumer);
+
+        final ArgumentCaptor<Record<Event>> eventConsumerCaptor = ArgumentCaptor.forClass(Record.class);
+
+        verify(eventConsumer, times(numberOfObjects)).accept(eventConsumerCaptor.capture());
+
+        final List<Record<Event>> capturedRecords = eventConsumerCaptor.getAllValues();
+
+        for (int i = 0; i < numberOfObjects; i++) {
+            final Event actualEvent = capturedRecords.get(i).getData();
+            assertThat(actualEvent.toMap(), equalTo(expectedObjects.get(i)));
+            assertThat(actualEvent.toJsonString(), equalTo(OBJECT_MAPPER.writeValueAsString(expectedObjects.get(i))));
+        }
+    }
+
+    @Test
+    void parse_with_lazy_json_parsing_and_array_of_objects_includes_empty_objects_when_configured() throws IOException {
+        when(config.isLazyJsonParsing()).thenReturn(true);
+        when(config.isIncludeEmptyObjects()).thenReturn(true);
+        final NdjsonInputCodec objectUnderTest = createObjectUnderTest();
+
+        final String jsonArray = "[{\"key1\":\"value1\"}, {}]\n" +
+                "{\"key2\": {\"nested\": [1, 2]}}";
+        final InputStream inputStream = new ByteArrayInputStream(jsonArray.getBytes());
+
+        final List<Record<Event>> processedRecords = new ArrayList<>();
+        objectUnderTest.parse(inputStream, processedRecords::add);
+
+        assertEquals(3, processedRecords.size());
+        assertThat(processedRecords.get(0).getData().get("key1", String.class), equalTo("value1"));
+        assertThat(processedRecords.get(1).getData().toMap().size(), equalTo(0));
+        assertThat(processedRecords.get(2).getData().toJsonString(), equalTo("{\"key2\": {\"nested\": [1, 2]}}"));
+    }
+
+    @Test
+    void parse_with_lazy_json_parsing_and_value_which_is_not_an_object_throws() {
+        when(config.isLazyJsonParsing()).thenReturn(true);
+        final NdjsonInputCodec objectUnderTest = createObjectUnderTest();
+
+        final InputStream inputStream = new ByteArrayInputStream("{\"key1\":\"value1\"}\n5".getBytes());
+
+        assertThrows(IOException.class, () -> objectUnderTest.parse(inputStream, eventConsumer));
+    }
+
     static class ValidInputStreamFormatsArgumentsProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) throws Exception {
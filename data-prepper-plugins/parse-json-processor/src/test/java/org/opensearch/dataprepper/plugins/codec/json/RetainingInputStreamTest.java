@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RetainingInputStreamTest {
+    private static RetainingInputStream createObjectUnderTest(final String content) {
+        return new RetainingInputStream(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void copyRange_returns_bytes_already_read() throws IOException {
+        final RetainingInputStream objectUnderTest = createObjectUnderTest("{\"a\":1}{\"b\":2}");
+
+        objectUnderTest.read(new byte[14], 0, 14);
+
+        assertThat(new String(objectUnderTest.copyRange(7, 14), StandardCharsets.UTF_8), equalTo("{\"b\":2}"));
+    }
+
+    @Test
+    void copyRange_after_releaseBefore_uses_the_original_offsets() throws IOException {
+        final RetainingInputStream objectUnderTest = createObjectUnderTest("{\"a\":1}{\"b\":2}");
+        objectUnderTest.read(new byte[10], 0, 10);
+
+        objectUnderTest.releaseBefore(7);
+        objectUnderTest.read(new byte[4], 0, 4);
+
+        assertThat(new String(objectUnderTest.copyRange(7, 14), StandardCharsets.UTF_8), equalTo("{\"b\":2}"));
+        assertThrows(IndexOutOfBoundsException.class, () -> objectUnderTest.copyRange(0, 7));
+    }
+
+    @Test
+    void single_byte_reads_are_retained() throws IOException {
+        final RetainingInputStream objectUnderTest = createObjectUnderTest("{}");
+
+        objectUnderTest.read();
+        objectUnderTest.read();
+
+        assertThat(objectUnderTest.read(), equalTo(-1));
+        assertThat(new String(objectUnderTest.copyRange(0, 2), StandardCharsets.UTF_8), equalTo("{}"));
+    }
+}
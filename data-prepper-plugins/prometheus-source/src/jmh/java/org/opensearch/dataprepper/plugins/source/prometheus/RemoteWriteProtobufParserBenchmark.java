@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import com.arpnetworking.metrics.prometheus.Remote;
+import com.arpnetworking.metrics.prometheus.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.xerial.snappy.Snappy;
+
+import java.io.IOException;
+
+/**
+ * Compares decoding a Remote Write request into the generated protobuf messages with the streaming decoder used by
+ * {@link RemoteWriteProtobufParser}. The request resembles a Prometheus agent forwarding the same series on every
+ * request, so the streaming decoder's label-set cache is warm after the first iteration.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 5, time = 10)
+public class RemoteWriteProtobufParserBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"1000", "50000"})
+        private int seriesCount;
+
+        private byte[] compressed;
+        private RemoteWriteProtobufParser parser;
+
+        @Setup
+        public void setUp() throws IOException {
+            final Remote.WriteRequest.Builder requestBuilder = Remote.WriteRequest.newBuilder();
+            for (int i = 0; i < seriesCount; i++) {
+                requestBuilder.addTimeseries(Types.TimeSeries.newBuilder()
+                        .addLabels(label("__name__", i % 2 == 0 ? "container_memory_working_set_bytes" : "container_cpu_usage_seconds_total"))
+                        .addLabels(label("container", "app"))
+                        .addLabels(label("instance", "10.0.0." + (i % 250) + ":9100"))
+                        .addLabels(label("job", "kubernetes-cadvisor"))
+                        .addLabels(label("namespace", "namespace-" + (i % 50)))
+                        .addLabels(label("pod", "pod-" + i))
+                        .addSamples(Types.Sample.newBuilder().setValue(i).setTimestamp(1_700_000_000_000L + i).build())
+                        .build());
+            }
+            compressed = Snappy.compress(requestBuilder.build().toByteArray());
+            parser = new RemoteWriteProtobufParser(new PrometheusRemoteWriteSourceConfig());
+        }
+
+        private static Types.Label label(final String name, final String value) {
+            return Types.Label.newBuilder().setName(name).setValue(value).build();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public void benchmark_decode_write_request(final BenchmarkState state, final Blackhole blackhole) throws Exception {
+        blackhole.consume(Remote.WriteRequest.parseFrom(Snappy.uncompress(state.compressed)));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public void benchmark_parse_streaming(final BenchmarkState state, final Blackhole blackhole) throws Exception {
+        blackhole.consume(state.parser.parse(state.compressed));
+    }
+}
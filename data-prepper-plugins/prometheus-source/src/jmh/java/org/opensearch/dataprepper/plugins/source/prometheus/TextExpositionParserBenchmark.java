@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Compares parsing a large scrape body as a string with parsing the response bytes into a buffer accumulator.
+ * The body resembles kube-state-metrics output, with many series per metric family.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 5, time = 10)
+public class TextExpositionParserBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"1000", "100000"})
+        private int seriesCount;
+
+        private byte[] body;
+        private TextExpositionParser parser;
+        private StreamingTextExpositionParser streamingParser;
+        private Buffer<Record<Event>> buffer;
+
+        @Setup
+        public void setUp() {
+            final StringBuilder builder = new StringBuilder();
+            builder.append("# HELP kube_pod_status_phase The pods current phase.\n");
+            builder.append("# TYPE kube_pod_status_phase gauge\n");
+            for (int i = 0; i < seriesCount / 2; i++) {
+                builder.append("kube_pod_status_phase{namespace=\"namespace-").append(i % 50)
+                        .append("\",pod=\"pod-").append(i)
+                        .append("\",uid=\"1f2e3d4c-").append(i)
+                        .append("\",phase=\"Running\"} 1\n");
+            }
+            builder.append("# HELP kube_pod_container_status_restarts_total The number of container restarts.\n");
+            builder.append("# TYPE kube_pod_container_status_restarts_total counter\n");
+            for (int i = 0; i < seriesCount / 2; i++) {
+                builder.append("kube_pod_container_status_restarts_total{namespace=\"namespace-").append(i % 50)
+                        .append("\",pod=\"pod-").append(i)
+                        .append("\",container=\"app\"} ").append(i % 7)
+                        .append(' ').append(1_700_000_000_000L + i).append('\n');
+            }
+            body = builder.toString().getBytes(StandardCharsets.UTF_8);
+            parser = new TextExpositionParser(false);
+            streamingParser = new StreamingTextExpositionParser(false);
+            buffer = new DiscardingBuffer();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public void benchmark_parse_string(final BenchmarkState state, final Blackhole blackhole) throws Exception {
+        final String body = new String(state.body, StandardCharsets.UTF_8);
+        blackhole.consume(state.parser.parse(body));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public void benchmark_parse_bytes(final BenchmarkState state, final Blackhole blackhole) throws Exception {
+        final BufferAccumulator<Record<Event>> bufferAccumulator =
+                BufferAccumulator.create(state.buffer, PrometheusScrapeService.RECORDS_TO_ACCUMULATE, Duration.ofSeconds(1));
+        blackhole.consume(state.streamingParser.parse(state.body, bufferAccumulator));
+        bufferAccumulator.flush();
+    }
+
+    private static class DiscardingBuffer implements Buffer<Record<Event>> {
+        @Override
+        public void write(final Record<Event> record, final int timeoutInMillis) {
+        }
+
+        @Override
+        public void writeAll(final Collection<Record<Event>> records, final int timeoutInMillis) {
+        }
+
+        @Override
+        public Map.Entry<Collection<Record<Event>>, CheckpointState> read(final int timeoutInMillis) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void checkpoint(final CheckpointState checkpointState) {
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+    }
+}
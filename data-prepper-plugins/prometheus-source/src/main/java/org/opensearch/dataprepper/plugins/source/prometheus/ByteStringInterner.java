@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Returns the same {@link String} instance for repeated UTF-8 byte sequences without decoding them again. This is
+ * used for metric names and label keys, which repeat on almost every line of a scrape. The number of entries is
+ * bounded; when the limit is reached the interner is cleared and starts again.
+ * <p>
+ * Instances are not thread-safe.
+ */
+class ByteStringInterner {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int maxEntries;
+    private Entry[] table;
+    private int size;
+
+    ByteStringInterner(final int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be greater than zero.");
+        }
+        this.maxEntries = maxEntries;
+        this.table = new Entry[INITIAL_CAPACITY];
+    }
+
+    /**
+     * @param bytes the buffer
+     * @param start the index of the first byte
+     * @param end the index after the last byte
+     * @return the string for the bytes
+     */
+    String intern(final byte[] bytes, final int start, final int end) {
+        final int hash = hash(bytes, start, end);
+        for (Entry entry = table[hash & (table.length - 1)]; entry != null; entry = entry.next) {
+            if (entry.hash == hash && Arrays.equals(entry.bytes, 0, entry.bytes.length, bytes, start, end)) {
+                return entry.value;
+            }
+        }
+
+        final String value = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        if (size >= maxEntries) {
+            clear();
+        } else if (size >= table.length - (table.length >> 2)) {
+            resize();
+        }
+        final int index = hash & (table.length - 1);
+        table[index] = new Entry(hash, Arrays.copyOfRange(bytes, start, end), value, table[index]);
+        size++;
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(table, null);
+        size = 0;
+    }
+
+    private void resize() {
+        final Entry[] newTable = new Entry[table.length << 1];
+        for (Entry entry : table) {
+            while (entry != null) {
+                final Entry next = entry.next;
+                final int index = entry.hash & (newTable.length - 1);
+                entry.next = newTable[index];
+                newTable[index] = entry;
+                entry = next;
+            }
+        }
+        table = newTable;
+    }
+
+    private static int hash(final byte[] bytes, final int start, final int end) {
+        int hash = 1;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static class Entry {
+        private final int hash;
+        private final byte[] bytes;
+        private final String value;
+        private Entry next;
+
+        private Entry(final int hash, final byte[] bytes, final String value, final Entry next) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.value = value;
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import java.util.Arrays;
+
+/**
+ * Caches a value for each distinct set of encoded labels. The key is the encoded bytes of each label in order, so a
+ * time series which repeats across requests is found without decoding its labels again. The number of entries is
+ * bounded; when the limit is reached the cache is cleared and starts again.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @param <T> the type of the cached value
+ */
+class LabelSetCache<T> {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int maxEntries;
+    private Entry<T>[] table;
+    private int size;
+
+    LabelSetCache(final int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be greater than zero.");
+        }
+        this.maxEntries = maxEntries;
+        this.table = newTable(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Computes the hash of a label set, one label at a time.
+     *
+     * @param hash the hash of the previous labels, or 1 for the first label
+     * @param data the buffer holding the label
+     * @param start the index of the first byte of the label
+     * @param length the length of the label
+     * @return the hash including the label
+     */
+    static int hash(final int hash, final byte[] data, final int start, final int length) {
+        int labelHash = 1;
+        for (int i = start; i < start + length; i++) {
+            labelHash = 31 * labelHash + data[i];
+        }
+        return 31 * hash + labelHash;
+    }
+
+    /**
+     * @return the value for the labels, or null if the labels are not cached
+     */
+    T get(final int hash, final byte[] data, final int[] starts, final int[] lengths, final int labelCount) {
+        for (Entry<T> entry = table[hash & (table.length - 1)]; entry != null; entry = entry.next) {
+            if (entry.hash == hash && entry.matches(data, starts, lengths, labelCount)) {
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    void put(final int hash, final byte[] data, final int[] starts, final int[] lengths, final int labelCount,
+             final T value) {
+        if (size >= maxEntries) {
+            clear();
+        } else if (size >= table.length - (table.length >> 2)) {
+            resize();
+        }
+        final byte[][] labels = new byte[labelCount][];
+        for (int i = 0; i < labelCount; i++) {
+            labels[i] = Arrays.copyOfRange(data, starts[i], starts[i] + lengths[i]);
+        }
+        final int index = hash & (table.length - 1);
+        table[index] = new Entry<>(hash, labels, value, table[index]);
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(table, null);
+        size = 0;
+    }
+
+    private void resize() {
+        final Entry<T>[] newTable = newTable(table.length << 1);
+        for (Entry<T> entry : table) {
+            while (entry != null) {
+                final Entry<T> next = entry.next;
+                final int index = entry.hash & (newTable.length - 1);
+                entry.next = newTable[index];
+                newTable[index] = entry;
+                entry = next;
+            }
+        }
+        table = newTable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Entry<T>[] newTable(final int capacity) {
+        return (Entry<T>[]) new Entry[capacity];
+    }
+
+    private static class Entry<T> {
+        private final int hash;
+        private final byte[][] labels;
+        private final T value;
+        private Entry<T> next;
+
+        private Entry(final int hash, final byte[][] labels, final T value, final Entry<T> next) {
+            this.hash = hash;
+            this.labels = labels;
+            this.value = value;
+            this.next = next;
+        }
+
+        private boolean matches(final byte[] data, final int[] starts, final int[] lengths, final int labelCount) {
+            if (labels.length != labelCount) {
+                return false;
+            }
+            for (int i = 0; i < labelCount; i++) {
+                if (!Arrays.equals(labels[i], 0, labels[i].length, data, starts[i], starts[i] + lengths[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -126,19 +126,14 @@ public class PrometheusRemoteWriteService implements BaseHttpService {
             return HttpResponse.of(HttpStatus.BAD_REQUEST, MediaType.PLAIN_TEXT, "Empty request body");
         }
 
-        final byte[] decompressed;
+        final List<Record<Event>> records;
         try {
-            decompressed = SnappyDecompressor.decompress(content.array());
+            records = protobufParser.parse(content.array());
         } catch (final IOException e) {
             LOG.error("Failed to decompress Snappy payload: {}", e.getMessage());
             failedRequestsCounter.increment();
             return HttpResponse.of(HttpStatus.BAD_REQUEST, MediaType.PLAIN_TEXT,
                     "Failed to decompress payload");
-        }
-
-        final List<Record<Event>> records;
-        try {
-            records = protobufParser.parseDecompressed(decompressed);
         } catch (final PrometheusParseException e) {
             LOG.error("Failed to parse Prometheus Remote Write request: {}", e.getMessage());
             failedRequestsCounter.increment();
@@ -10,6 +10,7 @@
 
 package org.opensearch.dataprepper.plugins.source.prometheus;
 
+import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.event.Event;
@@ -19,6 +20,7 @@ import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -37,12 +39,13 @@ public class PrometheusScrapeService {
     static final String SCRAPE_FAILURE_METRIC = "scrapeFailure";
     static final String RECORDS_CREATED_METRIC = "recordsCreated";
     static final String SCRAPE_DURATION_METRIC = "scrapeDuration";
+    static final int RECORDS_TO_ACCUMULATE = 1000;
 
     private final PrometheusScrapeConfig config;
     private final Buffer<Record<Event>> buffer;
     private final int bufferWriteTimeoutMs;
     private final ScrapeTargetScraper scraper;
-    private final TextExpositionParser parser;
+    private final StreamingTextExpositionParser parser;
     private final ScheduledExecutorService executor;
     private final Counter scrapeRequestsCounter;
     private final Counter scrapeSuccessCounter;
@@ -58,7 +61,7 @@ public class PrometheusScrapeService {
         this.buffer = buffer;
         this.bufferWriteTimeoutMs = bufferWriteTimeoutMs;
         this.scraper = new ScrapeTargetScraper(config);
-        this.parser = new TextExpositionParser(config.isFlattenLabels());
+        this.parser = new StreamingTextExpositionParser(config.isFlattenLabels());
         this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
             final Thread t = new Thread(r, "prometheus-scrape");
             t.setDaemon(true);
@@ -95,10 +98,12 @@ public class PrometheusScrapeService {
         scrapeDurationTimer.record(() -> {
             scrapeRequestsCounter.increment();
             try {
-                final String body = scraper.scrape(url);
-                final List<Record<Event>> records = parser.parse(body);
-                buffer.writeAll(records, bufferWriteTimeoutMs);
-                recordsCreatedCounter.increment(records.size());
+                final byte[] body = scraper.scrapeBytes(url);
+                final BufferAccumulator<Record<Event>> bufferAccumulator =
+                        BufferAccumulator.create(buffer, RECORDS_TO_ACCUMULATE, Duration.ofMillis(bufferWriteTimeoutMs));
+                final int recordsCreated = parser.parse(body, bufferAccumulator);
+                bufferAccumulator.flush();
+                recordsCreatedCounter.increment(recordsCreated);
                 scrapeSuccessCounter.increment();
             } catch (final Exception e) {
                 scrapeFailureCounter.increment();
@@ -10,7 +10,7 @@
 
 package org.opensearch.dataprepper.plugins.source.prometheus;
 
-import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.CodedInputStream;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.metric.DefaultQuantile;
 import org.opensearch.dataprepper.model.metric.JacksonGauge;
@@ -21,12 +21,12 @@ import org.opensearch.dataprepper.model.metric.Quantile;
 import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.arpnetworking.metrics.prometheus.Remote;
-import com.arpnetworking.metrics.prometheus.Types;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,6 +35,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * Parses Prometheus Remote Write protocol data and converts it to Data Prepper Metric events.
@@ -52,16 +54,21 @@ import java.util.TreeMap;
  * per unique combination of (base name, common label set, sample timestamp). Prometheus cumulative
  * histogram buckets are converted to per-bucket counts.
  *
- * <p>The grouping strategy uses a two-pass approach:
- * <ol>
- *   <li>First pass: parse all labels (cached for reuse) and identify definitive histogram bases
- *       (from {@code _bucket+le}) and summary bases (from {@code quantile} label).</li>
- *   <li>Second pass: classify each TimeSeries using the cached labels. {@code _count} and
- *       {@code _sum} are only grouped if their base name matches a known histogram or summary;
- *       others are emitted as standalone gauges. Within each group, TimeSeries are further
- *       sub-grouped by common label set and sample timestamp to produce one event per distinct
- *       combination.</li>
- * </ol>
+ * <p>The WriteRequest is decoded with a {@link CodedInputStream} one TimeSeries at a time, without building
+ * the generated protobuf messages. Each TimeSeries is classified as soon as it is decoded:
+ * <ul>
+ *   <li>Gauges and counters are converted to events immediately.</li>
+ *   <li>Histogram buckets and summary quantiles are added to their group.</li>
+ *   <li>{@code _count} and {@code _sum} are added to a group if their base name matches a histogram or summary
+ *       seen earlier in the request. Otherwise they are held until the end of the request, when they are either
+ *       grouped or emitted as standalone gauges.</li>
+ * </ul>
+ *
+ * <p>The labels of each TimeSeries are looked up in a bounded {@link LabelSetCache} by their encoded bytes.
+ * Series which repeat across requests therefore share their decoded names, attribute maps and grouping keys
+ * instead of decoding them again. The cache, the string interner and the decompression buffer belong to a
+ * decoding state which a request borrows from a shared pool. The pool keeps at most one idle state per
+ * available processor, so the retained memory does not grow with the number of request threads.
  */
 public class RemoteWriteProtobufParser {
 
@@ -76,10 +83,38 @@ public class RemoteWriteProtobufParser {
     private static final String TOTAL_SUFFIX = "_total";
     private static final String CREATED_SUFFIX = "_created";
 
+    static final int DEFAULT_MAX_CACHED_LABEL_SETS = 10_000;
+    static final int MAX_INTERNED_STRINGS = 65_536;
+    static final int DEFAULT_MAX_IDLE_DECODE_STATES = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Protobuf tags, {@code (field_number << 3) | wire_type}, of the fields which are decoded.
+     */
+    private static final int WRITE_REQUEST_TIMESERIES_TAG = (1 << 3) | 2;
+    private static final int TIMESERIES_LABEL_TAG = (1 << 3) | 2;
+    private static final int TIMESERIES_SAMPLE_TAG = (2 << 3) | 2;
+    private static final int LABEL_NAME_TAG = (1 << 3) | 2;
+    private static final int LABEL_VALUE_TAG = (2 << 3) | 2;
+    private static final int SAMPLE_VALUE_TAG = (1 << 3) | 1;
+    private static final int SAMPLE_TIMESTAMP_TAG = (2 << 3);
+
     private final PrometheusRemoteWriteSourceConfig config;
+    private final int maxCachedLabelSets;
+    private final BlockingQueue<DecodeState> idleDecodeStates;
 
     public RemoteWriteProtobufParser(final PrometheusRemoteWriteSourceConfig config) {
+        this(config, DEFAULT_MAX_CACHED_LABEL_SETS);
+    }
+
+    RemoteWriteProtobufParser(final PrometheusRemoteWriteSourceConfig config, final int maxCachedLabelSets) {
+        this(config, maxCachedLabelSets, DEFAULT_MAX_IDLE_DECODE_STATES);
+    }
+
+    RemoteWriteProtobufParser(final PrometheusRemoteWriteSourceConfig config, final int maxCachedLabelSets,
+                              final int maxIdleDecodeStates) {
         this.config = config;
+        this.maxCachedLabelSets = maxCachedLabelSets;
+        this.idleDecodeStates = new ArrayBlockingQueue<>(Math.max(1, maxIdleDecodeStates));
     }
 
     /**
@@ -91,8 +126,14 @@ public class RemoteWriteProtobufParser {
      * @throws PrometheusParseException if protobuf parsing fails
      */
     public List<Record<Event>> parse(final byte[] body) throws IOException, PrometheusParseException {
-        final byte[] decompressed = SnappyDecompressor.decompress(body);
-        return parseDecompressed(decompressed);
+        final DecodeState state = borrowDecodeState();
+        try {
+            final SnappyDecompressionBuffer decompressionBuffer = state.decompressionBuffer;
+            decompressionBuffer.decompress(body);
+            return parseDecompressed(decompressionBuffer.array(), 0, decompressionBuffer.length(), state);
+        } finally {
+            returnDecodeState(state);
+        }
     }
 
     /**
@@ -103,133 +144,155 @@ public class RemoteWriteProtobufParser {
      * @throws PrometheusParseException if protobuf parsing fails
      */
     public List<Record<Event>> parseDecompressed(final byte[] decompressed) throws PrometheusParseException {
-        final Remote.WriteRequest writeRequest = parseProtobuf(decompressed);
-        return convertToRecords(writeRequest);
+        return parseDecompressed(decompressed, 0, decompressed.length);
     }
 
-    private static Remote.WriteRequest parseProtobuf(final byte[] data) throws PrometheusParseException {
+    /**
+     * Parses already-decompressed protobuf data held in part of a buffer and converts to Data Prepper records.
+     *
+     * @param data the buffer holding the decompressed protobuf data
+     * @param offset the index of the first byte of the protobuf data
+     * @param length the length of the protobuf data
+     * @return list of records containing converted metric events
+     * @throws PrometheusParseException if protobuf parsing fails
+     */
+    public List<Record<Event>> parseDecompressed(final byte[] data, final int offset, final int length)
+            throws PrometheusParseException {
+        final DecodeState state = borrowDecodeState();
         try {
-            return Remote.WriteRequest.parseFrom(data);
-        } catch (final InvalidProtocolBufferException e) {
-            LOG.error("Failed to parse protobuf WriteRequest: {}", e.getMessage());
-            throw new PrometheusParseException("Failed to parse Prometheus Remote Write protobuf", e);
+            return parseDecompressed(data, offset, length, state);
+        } finally {
+            returnDecodeState(state);
         }
     }
 
-    /**
-     * Converts a WriteRequest to records using a two-pass grouping strategy.
-     */
-    private List<Record<Event>> convertToRecords(final Remote.WriteRequest writeRequest) {
-        final List<Record<Event>> records = new ArrayList<>();
-        final List<Types.TimeSeries> timeSeriesList = writeRequest.getTimeseriesList();
+    int getIdleDecodeStates() {
+        return idleDecodeStates.size();
+    }
 
-        final List<ParsedLabels> allParsedLabels = new ArrayList<>(timeSeriesList.size());
-        for (final Types.TimeSeries timeSeries : timeSeriesList) {
-            allParsedLabels.add(parseLabels(timeSeries));
-        }
+    private DecodeState borrowDecodeState() {
+        final DecodeState state = idleDecodeStates.poll();
+        return state != null ? state : new DecodeState(maxCachedLabelSets);
+    }
 
-        final Set<String> histogramBaseNames = new HashSet<>();
-        final Set<String> summaryBaseNames = new HashSet<>();
+    /**
+     * Returns a decoding state to the pool. When the pool already holds its maximum number of idle states, the
+     * state is dropped along with its caches and buffer.
+     */
+    private void returnDecodeState(final DecodeState state) {
+        idleDecodeStates.offer(state);
+    }
 
-        for (final ParsedLabels labels : allParsedLabels) {
-            if (labels.metricName.endsWith(BUCKET_SUFFIX) && labels.hasLe) {
-                histogramBaseNames.add(
-                        labels.metricName.substring(0, labels.metricName.length() - BUCKET_SUFFIX.length()));
-            } else if (labels.hasQuantile) {
-                summaryBaseNames.add(labels.metricName);
+    private List<Record<Event>> parseDecompressed(final byte[] data, final int offset, final int length,
+                                                  final DecodeState state) throws PrometheusParseException {
+        final Conversion conversion = new Conversion();
+        int timeSeriesCount = 0;
+        try {
+            final CodedInputStream input = CodedInputStream.newInstance(data, offset, length);
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                if (tag == WRITE_REQUEST_TIMESERIES_TAG) {
+                    final int limit = input.pushLimit(input.readRawVarint32());
+                    decodeTimeSeries(input, data, offset, state);
+                    input.popLimit(limit);
+                    convertTimeSeries(resolveLabels(data, state), state, conversion);
+                    timeSeriesCount++;
+                } else {
+                    input.skipField(tag);
+                }
             }
+        } catch (final IOException e) {
+            LOG.error("Failed to parse protobuf WriteRequest: {}", e.getMessage());
+            throw new PrometheusParseException("Failed to parse Prometheus Remote Write protobuf", e);
         }
 
-        final Map<String, HistogramGroup> histogramGroups = new LinkedHashMap<>();
-        final Map<String, SummaryGroup> summaryGroups = new LinkedHashMap<>();
-        final List<StandaloneTimeSeries> standaloneList = new ArrayList<>();
-
-        for (int i = 0; i < timeSeriesList.size(); i++) {
-            final Types.TimeSeries timeSeries = timeSeriesList.get(i);
-            final ParsedLabels labels = allParsedLabels.get(i);
-            final String name = labels.metricName;
-
-            if (name.endsWith(BUCKET_SUFFIX) && labels.hasLe) {
-                final String base = name.substring(0, name.length() - BUCKET_SUFFIX.length());
-                final String groupKey = base + "|" + labels.commonLabelKey;
-                histogramGroups.computeIfAbsent(groupKey, k -> new HistogramGroup(base))
-                        .addBucket(timeSeries, labels);
-
-            } else if (labels.hasQuantile) {
-                final String groupKey = name + "|" + labels.commonLabelKey;
-                summaryGroups.computeIfAbsent(groupKey, k -> new SummaryGroup(name))
-                        .addQuantile(timeSeries, labels);
-
-            } else if (name.endsWith(COUNT_SUFFIX)) {
-                final String base = name.substring(0, name.length() - COUNT_SUFFIX.length());
-                if (histogramBaseNames.contains(base)) {
-                    final String groupKey = base + "|" + labels.commonLabelKey;
-                    histogramGroups.computeIfAbsent(groupKey, k -> new HistogramGroup(base))
-                            .setCount(timeSeries);
-                } else if (summaryBaseNames.contains(base)) {
-                    final String groupKey = base + "|" + labels.commonLabelKey;
-                    summaryGroups.computeIfAbsent(groupKey, k -> new SummaryGroup(base))
-                            .setCount(timeSeries);
-                } else {
-                    standaloneList.add(new StandaloneTimeSeries(timeSeries, labels, false));
-                }
+        final List<Record<Event>> records = conversion.finish();
+        LOG.debug("Converted {} time series to {} records", timeSeriesCount, records.size());
+        return records;
+    }
 
-            } else if (name.endsWith(SUM_SUFFIX)) {
-                final String base = name.substring(0, name.length() - SUM_SUFFIX.length());
-                if (histogramBaseNames.contains(base)) {
-                    final String groupKey = base + "|" + labels.commonLabelKey;
-                    histogramGroups.computeIfAbsent(groupKey, k -> new HistogramGroup(base))
-                            .setSum(timeSeries);
-                } else if (summaryBaseNames.contains(base)) {
-                    final String groupKey = base + "|" + labels.commonLabelKey;
-                    summaryGroups.computeIfAbsent(groupKey, k -> new SummaryGroup(base))
-                            .setSum(timeSeries);
-                } else {
-                    standaloneList.add(new StandaloneTimeSeries(timeSeries, labels, false));
+    /**
+     * Decodes a TimeSeries into the state. Labels are recorded as ranges of the buffer; samples are copied
+     * into the state's sample arrays.
+     */
+    private static void decodeTimeSeries(final CodedInputStream input, final byte[] data, final int offset,
+                                         final DecodeState state) throws IOException {
+        state.reset();
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            if (tag == TIMESERIES_LABEL_TAG) {
+                final int labelLength = input.readRawVarint32();
+                final int labelStart = offset + input.getTotalBytesRead();
+                input.skipRawBytes(labelLength);
+                state.addLabel(data, labelStart, labelLength);
+            } else if (tag == TIMESERIES_SAMPLE_TAG) {
+                final int limit = input.pushLimit(input.readRawVarint32());
+                double value = 0.0;
+                long timestamp = 0;
+                for (int sampleTag = input.readTag(); sampleTag != 0; sampleTag = input.readTag()) {
+                    if (sampleTag == SAMPLE_VALUE_TAG) {
+                        value = input.readDouble();
+                    } else if (sampleTag == SAMPLE_TIMESTAMP_TAG) {
+                        timestamp = input.readInt64();
+                    } else {
+                        input.skipField(sampleTag);
+                    }
                 }
-
-            } else if (isCounter(name)) {
-                standaloneList.add(new StandaloneTimeSeries(timeSeries, labels, true));
-
+                input.popLimit(limit);
+                state.addSample(timestamp, value);
             } else {
-                standaloneList.add(new StandaloneTimeSeries(timeSeries, labels, false));
+                input.skipField(tag);
             }
         }
+    }
 
-        for (final HistogramGroup group : histogramGroups.values()) {
-            records.addAll(convertHistogramGroup(group));
-        }
-
-        for (final SummaryGroup group : summaryGroups.values()) {
-            records.addAll(convertSummaryGroup(group));
-        }
-
-        for (final StandaloneTimeSeries standalone : standaloneList) {
-            records.addAll(convertStandalone(standalone));
+    private static ParsedLabels resolveLabels(final byte[] data, final DecodeState state) throws IOException {
+        ParsedLabels labels = state.labelSetCache.get(
+                state.labelHash, data, state.labelStarts, state.labelLengths, state.labelCount);
+        if (labels == null) {
+            labels = parseLabels(data, state);
+            state.labelSetCache.put(
+                    state.labelHash, data, state.labelStarts, state.labelLengths, state.labelCount, labels);
         }
-
-        LOG.debug("Converted {} time series to {} records", writeRequest.getTimeseriesCount(), records.size());
-        return records;
+        return labels;
     }
 
     /**
-     * Parses labels from a TimeSeries, extracting the metric name, detecting special labels,
+     * Parses the labels of the current TimeSeries, extracting the metric name, detecting special labels,
      * and computing a common label key for label-set grouping.
      */
-    private static ParsedLabels parseLabels(final Types.TimeSeries timeSeries) {
+    private static ParsedLabels parseLabels(final byte[] data, final DecodeState state) throws IOException {
         String metricName = DEFAULT_METRIC_NAME;
         final Map<String, Object> attributes = new HashMap<>();
         boolean hasLe = false;
         boolean hasQuantile = false;
 
-        for (final Types.Label label : timeSeries.getLabelsList()) {
-            if (METRIC_NAME_LABEL.equals(label.getName())) {
-                metricName = label.getValue();
+        for (int i = 0; i < state.labelCount; i++) {
+            final int labelStart = state.labelStarts[i];
+            final CodedInputStream input = CodedInputStream.newInstance(data, labelStart, state.labelLengths[i]);
+            String name = "";
+            int valueStart = 0;
+            int valueLength = 0;
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                if (tag == LABEL_NAME_TAG) {
+                    final int nameLength = input.readRawVarint32();
+                    final int nameStart = labelStart + input.getTotalBytesRead();
+                    input.skipRawBytes(nameLength);
+                    name = state.interner.intern(data, nameStart, nameStart + nameLength);
+                } else if (tag == LABEL_VALUE_TAG) {
+                    valueLength = input.readRawVarint32();
+                    valueStart = labelStart + input.getTotalBytesRead();
+                    input.skipRawBytes(valueLength);
+                } else {
+                    input.skipField(tag);
+                }
+            }
+
+            if (METRIC_NAME_LABEL.equals(name)) {
+                metricName = state.interner.intern(data, valueStart, valueStart + valueLength);
             } else {
-                attributes.put(label.getName(), label.getValue());
-                if (LE_LABEL.equals(label.getName())) {
+                attributes.put(name, new String(data, valueStart, valueLength, StandardCharsets.UTF_8));
+                if (LE_LABEL.equals(name)) {
                     hasLe = true;
-                } else if (QUANTILE_LABEL.equals(label.getName())) {
+                } else if (QUANTILE_LABEL.equals(name)) {
                     hasQuantile = true;
                 }
             }
@@ -240,8 +303,8 @@ public class RemoteWriteProtobufParser {
         commonLabels.remove(QUANTILE_LABEL);
         final String commonLabelKey = buildSortedLabelKey(commonLabels);
 
-        return new ParsedLabels(metricName, attributes, Collections.unmodifiableMap(commonLabels),
-                commonLabelKey, hasLe, hasQuantile);
+        return new ParsedLabels(metricName, Collections.unmodifiableMap(attributes),
+                Collections.unmodifiableMap(commonLabels), commonLabelKey, hasLe, hasQuantile);
     }
 
     /**
@@ -263,15 +326,48 @@ public class RemoteWriteProtobufParser {
         return sb.toString();
     }
 
+    /**
+     * Classifies a decoded TimeSeries and either converts it immediately or adds it to a group.
+     */
+    private void convertTimeSeries(final ParsedLabels labels, final DecodeState state, final Conversion conversion) {
+        switch (labels.seriesType) {
+            case HISTOGRAM_BUCKET:
+                conversion.histogramBaseNames.add(labels.baseName);
+                conversion.histogramGroups.computeIfAbsent(labels.groupKey, k -> new HistogramGroup(labels.baseName))
+                        .addBucket(state.toDecodedTimeSeries(labels));
+                break;
+            case SUMMARY_QUANTILE:
+                conversion.summaryBaseNames.add(labels.baseName);
+                conversion.summaryGroups.computeIfAbsent(labels.groupKey, k -> new SummaryGroup(labels.baseName))
+                        .addQuantile(state.toDecodedTimeSeries(labels));
+                break;
+            case COUNT:
+            case SUM:
+                final DecodedTimeSeries timeSeries = state.toDecodedTimeSeries(labels);
+                if (!conversion.addToGroup(timeSeries, false)) {
+                    conversion.deferred.add(new DeferredTimeSeries(timeSeries, conversion.standaloneRecords.size()));
+                }
+                break;
+            case COUNTER:
+                convertStandalone(labels, state.timestamps, state.values, state.sampleCount, true,
+                        conversion.standaloneRecords);
+                break;
+            default:
+                convertStandalone(labels, state.timestamps, state.values, state.sampleCount, false,
+                        conversion.standaloneRecords);
+                break;
+        }
+    }
+
     /**
      * Converts a histogram group to one or more events, one per distinct sample timestamp
      * across all bucket TimeSeries
      */
     private List<Record<Event>> convertHistogramGroup(final HistogramGroup group) {
         final Map<Long, Boolean> timestampOrder = new LinkedHashMap<>();
-        for (final BucketEntry bucket : group.buckets) {
-            for (final Types.Sample sample : bucket.timeSeries.getSamplesList()) {
-                timestampOrder.put(sample.getTimestamp(), Boolean.TRUE);
+        for (final DecodedTimeSeries bucket : group.buckets) {
+            for (final long timestamp : bucket.timestamps) {
+                timestampOrder.put(timestamp, Boolean.TRUE);
             }
         }
 
@@ -280,22 +376,20 @@ public class RemoteWriteProtobufParser {
         }
 
         final List<Record<Event>> records = new ArrayList<>();
-        final Map<String, Object> commonAttributes = new HashMap<>(group.buckets.get(0).labels.commonLabels);
+        final Map<String, Object> commonAttributes = group.buckets.get(0).labels.commonLabels;
         final String serviceName = PrometheusMetricUtils.extractServiceName(commonAttributes);
         final Instant timeReceived = Instant.now();
 
         for (final long ts : timestampOrder.keySet()) {
             final TreeMap<Double, Long> cumulativeBuckets = new TreeMap<>();
-            for (final BucketEntry bucket : group.buckets) {
-                final Double leBound = PrometheusMetricUtils.parseLeValue((String) bucket.labels.attributes.get(LE_LABEL));
+            for (final DecodedTimeSeries bucket : group.buckets) {
+                final Double leBound = bucket.labels.leBound;
                 if (leBound == null) {
                     continue;
                 }
-                for (final Types.Sample sample : bucket.timeSeries.getSamplesList()) {
-                    if (sample.getTimestamp() == ts) {
-                        cumulativeBuckets.put(leBound, (long) sample.getValue());
-                        break;
-                    }
+                final int sampleIndex = bucket.indexOf(ts);
+                if (sampleIndex >= 0) {
+                    cumulativeBuckets.put(leBound, (long) bucket.values[sampleIndex]);
                 }
             }
 
@@ -323,10 +417,10 @@ public class RemoteWriteProtobufParser {
             double sumValue = 0.0;
             long countValue = 0;
             if (group.countTimeSeries != null) {
-                countValue = getSampleValueAtTimestamp(group.countTimeSeries, ts);
+                countValue = (long) group.countTimeSeries.valueAt(ts);
             }
             if (group.sumTimeSeries != null) {
-                sumValue = getSampleDoubleAtTimestamp(group.sumTimeSeries, ts);
+                sumValue = group.sumTimeSeries.valueAt(ts);
             }
 
             final String timestamp = resolveTimestamp(ts);
@@ -341,7 +435,7 @@ public class RemoteWriteProtobufParser {
                     .withBucketCount(perBucketCounts.size())
                     .withExplicitBoundsCount(explicitBounds.size())
                     .withAggregationTemporality(PrometheusMetricUtils.AGGREGATION_TEMPORALITY_CUMULATIVE)
-                    .withAttributes(new HashMap<>(commonAttributes))
+                    .withAttributes(commonAttributes)
                     .withServiceName(serviceName)
                     .withTimeReceived(timeReceived)
                     .build(config.isFlattenLabels());
@@ -358,9 +452,9 @@ public class RemoteWriteProtobufParser {
      */
     private List<Record<Event>> convertSummaryGroup(final SummaryGroup group) {
         final Map<Long, Boolean> timestampOrder = new LinkedHashMap<>();
-        for (final QuantileEntry qe : group.quantiles) {
-            for (final Types.Sample sample : qe.timeSeries.getSamplesList()) {
-                timestampOrder.put(sample.getTimestamp(), Boolean.TRUE);
+        for (final DecodedTimeSeries quantileTimeSeries : group.quantiles) {
+            for (final long timestamp : quantileTimeSeries.timestamps) {
+                timestampOrder.put(timestamp, Boolean.TRUE);
             }
         }
 
@@ -369,24 +463,21 @@ public class RemoteWriteProtobufParser {
         }
 
         final List<Record<Event>> records = new ArrayList<>();
-        final Map<String, Object> commonAttributes = new HashMap<>(group.quantiles.get(0).labels.commonLabels);
+        final Map<String, Object> commonAttributes = group.quantiles.get(0).labels.commonLabels;
         final String serviceName = PrometheusMetricUtils.extractServiceName(commonAttributes);
         final Instant timeReceived = Instant.now();
 
         for (final long ts : timestampOrder.keySet()) {
             final List<Quantile> quantiles = new ArrayList<>();
 
-            for (final QuantileEntry qe : group.quantiles) {
-                final Double quantileValue = PrometheusMetricUtils.parseQuantileValue(
-                        (String) qe.labels.attributes.get(QUANTILE_LABEL));
+            for (final DecodedTimeSeries quantileTimeSeries : group.quantiles) {
+                final Double quantileValue = quantileTimeSeries.labels.quantileValue;
                 if (quantileValue == null) {
                     continue;
                 }
-                for (final Types.Sample sample : qe.timeSeries.getSamplesList()) {
-                    if (sample.getTimestamp() == ts) {
-                        quantiles.add(new DefaultQuantile(quantileValue, sample.getValue()));
-                        break;
-                    }
+                final int sampleIndex = quantileTimeSeries.indexOf(ts);
+                if (sampleIndex >= 0) {
+                    quantiles.add(new DefaultQuantile(quantileValue, quantileTimeSeries.values[sampleIndex]));
                 }
             }
 
@@ -397,10 +488,10 @@ public class RemoteWriteProtobufParser {
             double sumValue = 0.0;
             long countValue = 0;
             if (group.countTimeSeries != null) {
-                countValue = getSampleValueAtTimestamp(group.countTimeSeries, ts);
+                countValue = (long) group.countTimeSeries.valueAt(ts);
             }
             if (group.sumTimeSeries != null) {
-                sumValue = getSampleDoubleAtTimestamp(group.sumTimeSeries, ts);
+                sumValue = group.sumTimeSeries.valueAt(ts);
             }
 
             final String timestamp = resolveTimestamp(ts);
@@ -412,7 +503,7 @@ public class RemoteWriteProtobufParser {
                     .withCount(countValue)
                     .withQuantiles(quantiles)
                     .withQuantilesValueCount(quantiles.size())
-                    .withAttributes(new HashMap<>(commonAttributes))
+                    .withAttributes(commonAttributes)
                     .withServiceName(serviceName)
                     .withTimeReceived(timeReceived)
                     .build(config.isFlattenLabels());
@@ -423,39 +514,36 @@ public class RemoteWriteProtobufParser {
         return records;
     }
 
-    private List<Record<Event>> convertStandalone(final StandaloneTimeSeries standalone) {
-        final List<Record<Event>> records = new ArrayList<>();
-        final String serviceName = PrometheusMetricUtils.extractServiceName(standalone.labels.attributes);
+    private void convertStandalone(final ParsedLabels labels, final long[] timestamps, final double[] values,
+                                   final int sampleCount, final boolean isCounter,
+                                   final List<Record<Event>> records) {
         final Instant timeReceived = Instant.now();
 
-        for (final Types.Sample sample : standalone.timeSeries.getSamplesList()) {
-            final String timestamp = resolveTimestamp(sample.getTimestamp());
+        for (int i = 0; i < sampleCount; i++) {
+            final String timestamp = resolveTimestamp(timestamps[i]);
 
-            if (standalone.isCounter) {
-                final String counterName = PrometheusMetricUtils.stripCounterSuffix(standalone.labels.metricName);
+            if (isCounter) {
                 records.add(new Record<>(JacksonSum.builder()
-                        .withName(counterName)
+                        .withName(labels.counterName)
                         .withTime(timestamp)
-                        .withValue(sample.getValue())
-                        .withAttributes(new HashMap<>(standalone.labels.attributes))
+                        .withValue(values[i])
+                        .withAttributes(labels.attributes)
                         .withIsMonotonic(true)
                         .withAggregationTemporality(PrometheusMetricUtils.AGGREGATION_TEMPORALITY_CUMULATIVE)
-                        .withServiceName(serviceName)
+                        .withServiceName(labels.serviceName)
                         .withTimeReceived(timeReceived)
                         .build(config.isFlattenLabels())));
             } else {
                 records.add(new Record<>(JacksonGauge.builder()
-                        .withName(standalone.labels.metricName)
+                        .withName(labels.metricName)
                         .withTime(timestamp)
-                        .withValue(sample.getValue())
-                        .withAttributes(new HashMap<>(standalone.labels.attributes))
-                        .withServiceName(serviceName)
+                        .withValue(values[i])
+                        .withAttributes(labels.attributes)
+                        .withServiceName(labels.serviceName)
                         .withTimeReceived(timeReceived)
                         .build(config.isFlattenLabels())));
             }
         }
-
-        return records;
     }
 
 
@@ -470,39 +558,30 @@ public class RemoteWriteProtobufParser {
         return Instant.ofEpochMilli(timestampMs).toString();
     }
 
-    /**
-     * Gets the sample value as long at a given timestamp from a TimeSeries.
-     * Returns 0 if no sample exists at the requested timestamp.
-     */
-    private static long getSampleValueAtTimestamp(final Types.TimeSeries ts, final long timestamp) {
-        for (final Types.Sample sample : ts.getSamplesList()) {
-            if (sample.getTimestamp() == timestamp) {
-                return (long) sample.getValue();
-            }
-        }
-        return 0;
+    private enum SeriesType {
+        HISTOGRAM_BUCKET,
+        SUMMARY_QUANTILE,
+        COUNT,
+        SUM,
+        COUNTER,
+        GAUGE
     }
 
     /**
-     * Gets the sample value as double at a given timestamp from a TimeSeries.
-     * Returns 0.0 if no sample exists at the requested timestamp.
+     * The decoded labels of a TimeSeries, with everything derived from them that is needed for conversion.
+     * Instances are cached and shared between requests, so they must not be modified.
      */
-    private static double getSampleDoubleAtTimestamp(final Types.TimeSeries ts, final long timestamp) {
-        for (final Types.Sample sample : ts.getSamplesList()) {
-            if (sample.getTimestamp() == timestamp) {
-                return sample.getValue();
-            }
-        }
-        return 0.0;
-    }
-
     private static class ParsedLabels {
         final String metricName;
         final Map<String, Object> attributes;
         final Map<String, Object> commonLabels;
-        final String commonLabelKey;
-        final boolean hasLe;
-        final boolean hasQuantile;
+        final String serviceName;
+        final SeriesType seriesType;
+        final String baseName;
+        final String groupKey;
+        final String counterName;
+        final Double leBound;
+        final Double quantileValue;
 
         ParsedLabels(final String metricName, final Map<String, Object> attributes,
                      final Map<String, Object> commonLabels, final String commonLabelKey,
@@ -510,88 +589,241 @@ public class RemoteWriteProtobufParser {
             this.metricName = metricName;
             this.attributes = attributes;
             this.commonLabels = commonLabels;
-            this.commonLabelKey = commonLabelKey;
-            this.hasLe = hasLe;
-            this.hasQuantile = hasQuantile;
+            this.serviceName = PrometheusMetricUtils.extractServiceName(attributes);
+
+            if (metricName.endsWith(BUCKET_SUFFIX) && hasLe) {
+                seriesType = SeriesType.HISTOGRAM_BUCKET;
+                baseName = metricName.substring(0, metricName.length() - BUCKET_SUFFIX.length());
+            } else if (hasQuantile) {
+                seriesType = SeriesType.SUMMARY_QUANTILE;
+                baseName = metricName;
+            } else if (metricName.endsWith(COUNT_SUFFIX)) {
+                seriesType = SeriesType.COUNT;
+                baseName = metricName.substring(0, metricName.length() - COUNT_SUFFIX.length());
+            } else if (metricName.endsWith(SUM_SUFFIX)) {
+                seriesType = SeriesType.SUM;
+                baseName = metricName.substring(0, metricName.length() - SUM_SUFFIX.length());
+            } else if (isCounter(metricName)) {
+                seriesType = SeriesType.COUNTER;
+                baseName = metricName;
+            } else {
+                seriesType = SeriesType.GAUGE;
+                baseName = metricName;
+            }
+            this.groupKey = baseName + "|" + commonLabelKey;
+            this.leBound = seriesType == SeriesType.HISTOGRAM_BUCKET
+                    ? PrometheusMetricUtils.parseLeValue((String) attributes.get(LE_LABEL)) : null;
+            this.quantileValue = seriesType == SeriesType.SUMMARY_QUANTILE
+                    ? PrometheusMetricUtils.parseQuantileValue((String) attributes.get(QUANTILE_LABEL)) : null;
+            this.counterName = seriesType == SeriesType.COUNTER
+                    ? PrometheusMetricUtils.stripCounterSuffix(metricName) : metricName;
         }
     }
 
-    private static class BucketEntry {
-        final Types.TimeSeries timeSeries;
+    /**
+     * A TimeSeries whose samples are kept until the end of the request.
+     */
+    private static class DecodedTimeSeries {
         final ParsedLabels labels;
+        final long[] timestamps;
+        final double[] values;
 
-        BucketEntry(final Types.TimeSeries timeSeries, final ParsedLabels labels) {
-            this.timeSeries = timeSeries;
+        DecodedTimeSeries(final ParsedLabels labels, final long[] timestamps, final double[] values) {
             this.labels = labels;
+            this.timestamps = timestamps;
+            this.values = values;
+        }
+
+        int indexOf(final long timestamp) {
+            for (int i = 0; i < timestamps.length; i++) {
+                if (timestamps[i] == timestamp) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns 0.0 if no sample exists at the requested timestamp.
+         */
+        double valueAt(final long timestamp) {
+            final int index = indexOf(timestamp);
+            return index < 0 ? 0.0 : values[index];
         }
     }
 
-    private static class QuantileEntry {
-        final Types.TimeSeries timeSeries;
-        final ParsedLabels labels;
+    /**
+     * A {@code _count} or {@code _sum} TimeSeries seen before any histogram or summary with the same base name.
+     */
+    private static class DeferredTimeSeries {
+        final DecodedTimeSeries timeSeries;
+        final int standalonePosition;
+        boolean grouped;
 
-        QuantileEntry(final Types.TimeSeries timeSeries, final ParsedLabels labels) {
+        DeferredTimeSeries(final DecodedTimeSeries timeSeries, final int standalonePosition) {
             this.timeSeries = timeSeries;
-            this.labels = labels;
+            this.standalonePosition = standalonePosition;
         }
     }
 
     private static class HistogramGroup {
         final String baseName;
-        final List<BucketEntry> buckets = new ArrayList<>();
-        Types.TimeSeries countTimeSeries;
-        Types.TimeSeries sumTimeSeries;
+        final List<DecodedTimeSeries> buckets = new ArrayList<>();
+        DecodedTimeSeries countTimeSeries;
+        DecodedTimeSeries sumTimeSeries;
 
         HistogramGroup(final String baseName) {
             this.baseName = baseName;
         }
 
-        void addBucket(final Types.TimeSeries ts, final ParsedLabels labels) {
-            buckets.add(new BucketEntry(ts, labels));
-        }
-
-        void setCount(final Types.TimeSeries ts) {
-            countTimeSeries = ts;
-        }
-
-        void setSum(final Types.TimeSeries ts) {
-            sumTimeSeries = ts;
+        void addBucket(final DecodedTimeSeries ts) {
+            buckets.add(ts);
         }
     }
 
     private static class SummaryGroup {
         final String baseName;
-        final List<QuantileEntry> quantiles = new ArrayList<>();
-        Types.TimeSeries countTimeSeries;
-        Types.TimeSeries sumTimeSeries;
+        final List<DecodedTimeSeries> quantiles = new ArrayList<>();
+        DecodedTimeSeries countTimeSeries;
+        DecodedTimeSeries sumTimeSeries;
 
         SummaryGroup(final String baseName) {
             this.baseName = baseName;
         }
 
-        void addQuantile(final Types.TimeSeries ts, final ParsedLabels labels) {
-            quantiles.add(new QuantileEntry(ts, labels));
+        void addQuantile(final DecodedTimeSeries ts) {
+            quantiles.add(ts);
         }
+    }
 
-        void setCount(final Types.TimeSeries ts) {
-            countTimeSeries = ts;
-        }
+    /**
+     * The state of converting a single request.
+     */
+    private class Conversion {
+        final Set<String> histogramBaseNames = new HashSet<>();
+        final Set<String> summaryBaseNames = new HashSet<>();
+        final Map<String, HistogramGroup> histogramGroups = new LinkedHashMap<>();
+        final Map<String, SummaryGroup> summaryGroups = new LinkedHashMap<>();
+        final List<Record<Event>> standaloneRecords = new ArrayList<>();
+        final List<DeferredTimeSeries> deferred = new ArrayList<>();
+
+        /**
+         * Adds a {@code _count} or {@code _sum} TimeSeries to the histogram or summary group with the same base
+         * name and labels.
+         *
+         * @param onlyIfAbsent true to keep a TimeSeries already added to the group
+         * @return false if there is no histogram or summary with the base name
+         */
+        boolean addToGroup(final DecodedTimeSeries timeSeries, final boolean onlyIfAbsent) {
+            final ParsedLabels labels = timeSeries.labels;
+            final boolean isCount = labels.seriesType == SeriesType.COUNT;
+            if (histogramBaseNames.contains(labels.baseName)) {
+                final HistogramGroup group = histogramGroups.computeIfAbsent(labels.groupKey,
+                        k -> new HistogramGroup(labels.baseName));
+                if (isCount && (!onlyIfAbsent || group.countTimeSeries == null)) {
+                    group.countTimeSeries = timeSeries;
+                } else if (!isCount && (!onlyIfAbsent || group.sumTimeSeries == null)) {
+                    group.sumTimeSeries = timeSeries;
+                }
+                return true;
+            } else if (summaryBaseNames.contains(labels.baseName)) {
+                final SummaryGroup group = summaryGroups.computeIfAbsent(labels.groupKey,
+                        k -> new SummaryGroup(labels.baseName));
+                if (isCount && (!onlyIfAbsent || group.countTimeSeries == null)) {
+                    group.countTimeSeries = timeSeries;
+                } else if (!isCount && (!onlyIfAbsent || group.sumTimeSeries == null)) {
+                    group.sumTimeSeries = timeSeries;
+                }
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Groups or converts the deferred TimeSeries and returns all records for the request: histograms, then
+         * summaries, then standalone metrics in request order.
+         */
+        List<Record<Event>> finish() {
+            // The latest TimeSeries for a group wins, so deferred TimeSeries do not replace ones added later.
+            for (int i = deferred.size() - 1; i >= 0; i--) {
+                final DeferredTimeSeries deferredTimeSeries = deferred.get(i);
+                deferredTimeSeries.grouped = addToGroup(deferredTimeSeries.timeSeries, true);
+            }
+
+            final List<Record<Event>> records = new ArrayList<>();
+            for (final HistogramGroup group : histogramGroups.values()) {
+                records.addAll(convertHistogramGroup(group));
+            }
 
-        void setSum(final Types.TimeSeries ts) {
-            sumTimeSeries = ts;
+            for (final SummaryGroup group : summaryGroups.values()) {
+                records.addAll(convertSummaryGroup(group));
+            }
+
+            int nextStandalone = 0;
+            for (final DeferredTimeSeries deferredTimeSeries : deferred) {
+                if (deferredTimeSeries.grouped) {
+                    continue;
+                }
+                records.addAll(standaloneRecords.subList(nextStandalone, deferredTimeSeries.standalonePosition));
+                nextStandalone = deferredTimeSeries.standalonePosition;
+                final DecodedTimeSeries timeSeries = deferredTimeSeries.timeSeries;
+                convertStandalone(timeSeries.labels, timeSeries.timestamps, timeSeries.values,
+                        timeSeries.timestamps.length, false, records);
+            }
+            records.addAll(standaloneRecords.subList(nextStandalone, standaloneRecords.size()));
+            return records;
         }
     }
 
-    private static class StandaloneTimeSeries {
-        final Types.TimeSeries timeSeries;
-        final ParsedLabels labels;
-        final boolean isCounter;
+    /**
+     * Decoding state which is borrowed by one request at a time and reused between requests.
+     */
+    private static class DecodeState {
+        final SnappyDecompressionBuffer decompressionBuffer = new SnappyDecompressionBuffer();
+        final LabelSetCache<ParsedLabels> labelSetCache;
+        final ByteStringInterner interner = new ByteStringInterner(MAX_INTERNED_STRINGS);
+        int[] labelStarts = new int[16];
+        int[] labelLengths = new int[16];
+        int labelCount;
+        int labelHash;
+        long[] timestamps = new long[4];
+        double[] values = new double[4];
+        int sampleCount;
+
+        DecodeState(final int maxCachedLabelSets) {
+            this.labelSetCache = new LabelSetCache<>(maxCachedLabelSets);
+        }
+
+        void reset() {
+            labelCount = 0;
+            labelHash = 1;
+            sampleCount = 0;
+        }
+
+        void addLabel(final byte[] data, final int start, final int length) {
+            if (labelCount == labelStarts.length) {
+                labelStarts = Arrays.copyOf(labelStarts, labelCount * 2);
+                labelLengths = Arrays.copyOf(labelLengths, labelCount * 2);
+            }
+            labelStarts[labelCount] = start;
+            labelLengths[labelCount] = length;
+            labelCount++;
+            labelHash = LabelSetCache.hash(labelHash, data, start, length);
+        }
 
-        StandaloneTimeSeries(final Types.TimeSeries timeSeries, final ParsedLabels labels,
-                             final boolean isCounter) {
-            this.timeSeries = timeSeries;
-            this.labels = labels;
-            this.isCounter = isCounter;
+        void addSample(final long timestamp, final double value) {
+            if (sampleCount == timestamps.length) {
+                timestamps = Arrays.copyOf(timestamps, sampleCount * 2);
+                values = Arrays.copyOf(values, sampleCount * 2);
+            }
+            timestamps[sampleCount] = timestamp;
+            values[sampleCount] = value;
+            sampleCount++;
+        }
+
+        DecodedTimeSeries toDecodedTimeSeries(final ParsedLabels labels) {
+            return new DecodedTimeSeries(labels,
+                    Arrays.copyOf(timestamps, sampleCount), Arrays.copyOf(values, sampleCount));
         }
     }
 }
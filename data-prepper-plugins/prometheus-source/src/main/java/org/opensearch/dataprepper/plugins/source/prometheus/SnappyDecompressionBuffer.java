@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import org.xerial.snappy.Snappy;
+
+import java.io.IOException;
+
+/**
+ * A reusable buffer for decompressing Snappy payloads. The buffer grows to fit the largest payload up to
+ * {@code maxRetainedBytes}. Larger payloads are decompressed into a buffer which is not kept.
+ * <p>
+ * The decompressed data is only valid until the next call to {@link #decompress(byte[])}.
+ * Instances are not thread-safe.
+ */
+class SnappyDecompressionBuffer {
+    static final int DEFAULT_MAX_RETAINED_BYTES = 1024 * 1024;
+
+    private final int maxRetainedBytes;
+    private byte[] retainedBuffer = new byte[0];
+    private byte[] array = retainedBuffer;
+    private int length;
+
+    SnappyDecompressionBuffer() {
+        this(DEFAULT_MAX_RETAINED_BYTES);
+    }
+
+    SnappyDecompressionBuffer(final int maxRetainedBytes) {
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    /**
+     * Decompresses a Snappy-compressed byte array into this buffer.
+     *
+     * @param compressed the Snappy-compressed data
+     * @throws IOException if decompression fails
+     */
+    void decompress(final byte[] compressed) throws IOException {
+        length = 0;
+        try {
+            final int uncompressedLength = Snappy.uncompressedLength(compressed);
+            if (uncompressedLength < 0) {
+                throw new IOException("Invalid uncompressed length " + uncompressedLength);
+            }
+            byte[] target = retainedBuffer;
+            if (uncompressedLength > retainedBuffer.length) {
+                target = new byte[uncompressedLength];
+                if (uncompressedLength <= maxRetainedBytes) {
+                    retainedBuffer = target;
+                }
+            }
+            length = Snappy.uncompress(compressed, 0, compressed.length, target, 0);
+            array = target;
+        } catch (final IOException e) {
+            throw new IOException("Failed to decompress Snappy payload", e);
+        }
+    }
+
+    /**
+     * @return the array holding the decompressed data, starting at index 0
+     */
+    byte[] array() {
+        return array;
+    }
+
+    /**
+     * @return the length of the decompressed data
+     */
+    int length() {
+        return length;
+    }
+}
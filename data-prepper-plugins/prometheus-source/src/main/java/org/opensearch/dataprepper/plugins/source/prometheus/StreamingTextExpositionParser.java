@@ -0,0 +1,457 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parses the Prometheus text exposition format directly from the response bytes and writes the metrics into a
+ * {@link BufferAccumulator} as they are parsed.
+ * <p>
+ * Unlike {@link TextExpositionParser#parse(String)}, the body is never decoded into a single string or split into
+ * lines. Metric names and label keys are interned across scrapes, and values and timestamps are parsed without
+ * creating intermediate strings. Counters and gauges are written as soon as their line is parsed. Histograms and
+ * summaries are written when the next {@code # TYPE} line starts a new metric family, or at the end of the body.
+ * A {@code # TYPE} line only applies to the samples which follow it, as required by the exposition format.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public class StreamingTextExpositionParser {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamingTextExpositionParser.class);
+
+    static final int DEFAULT_MAX_INTERNED_STRINGS = 65_536;
+
+    private static final byte[] TYPE_PREFIX = "# TYPE ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NAN = "NaN".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] POSITIVE_INFINITY = "+Inf".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NEGATIVE_INFINITY = "-Inf".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Values with at most this many significant digits fit exactly in the 53-bit mantissa of a double.
+     */
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final TextExpositionParser recordConverter;
+    private final ByteStringInterner interner;
+    private byte[] unescapeBuffer = new byte[256];
+
+    public StreamingTextExpositionParser(final boolean flattenLabels) {
+        this(new TextExpositionParser(flattenLabels), new ByteStringInterner(DEFAULT_MAX_INTERNED_STRINGS));
+    }
+
+    StreamingTextExpositionParser(final TextExpositionParser recordConverter, final ByteStringInterner interner) {
+        this.recordConverter = recordConverter;
+        this.interner = interner;
+    }
+
+    /**
+     * Parses the body and adds the metrics to the accumulator. The accumulator is not flushed.
+     *
+     * @param body the response body
+     * @param bufferAccumulator the accumulator to add the metrics to
+     * @return the number of records added to the accumulator
+     * @throws Exception if the accumulator fails to write to the buffer
+     */
+    public int parse(final byte[] body, final BufferAccumulator<Record<Event>> bufferAccumulator) throws Exception {
+        if (body == null) {
+            return 0;
+        }
+        return parse(body, 0, body.length, bufferAccumulator);
+    }
+
+    /**
+     * Parses part of a buffer and adds the metrics to the accumulator. The accumulator is not flushed.
+     *
+     * @param body the buffer holding the response body
+     * @param offset the index of the first byte of the body
+     * @param length the length of the body
+     * @param bufferAccumulator the accumulator to add the metrics to
+     * @return the number of records added to the accumulator
+     * @throws Exception if the accumulator fails to write to the buffer
+     */
+    public int parse(final byte[] body, final int offset, final int length,
+                     final BufferAccumulator<Record<Event>> bufferAccumulator) throws Exception {
+        final Instant timeReceived = Instant.now();
+        final Map<String, String> declaredTypes = new HashMap<>();
+        final Map<String, String> resolvedTypes = new HashMap<>();
+        final Map<String, TextExpositionParser.HistogramAccumulator> histogramAccumulators = new LinkedHashMap<>();
+        final Map<String, TextExpositionParser.SummaryAccumulator> summaryAccumulators = new LinkedHashMap<>();
+
+        int recordsAdded = 0;
+        final int end = offset + length;
+        int lineStart = offset;
+        while (lineStart < end) {
+            int lineEnd = lineStart;
+            while (lineEnd < end && body[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            final int nextLineStart = lineEnd + 1;
+
+            final int start = skipWhitespace(body, lineStart, lineEnd);
+            while (lineEnd > start && isWhitespace(body[lineEnd - 1])) {
+                lineEnd--;
+            }
+
+            if (start == lineEnd) {
+                lineStart = nextLineStart;
+                continue;
+            }
+
+            if (body[start] == '#') {
+                if (startsWith(body, start, lineEnd, TYPE_PREFIX)) {
+                    recordsAdded += addAll(recordConverter.buildAccumulatedRecords(
+                            histogramAccumulators, summaryAccumulators, timeReceived), bufferAccumulator);
+                    parseTypeLine(body, start + TYPE_PREFIX.length, lineEnd, declaredTypes);
+                    resolvedTypes.clear();
+                }
+            } else {
+                final TextExpositionParser.ParsedSample sample = parseSampleLine(body, start, lineEnd);
+                if (sample != null) {
+                    String resolvedType = resolvedTypes.get(sample.name);
+                    if (resolvedType == null) {
+                        resolvedType = recordConverter.resolveType(sample.name, declaredTypes);
+                        resolvedTypes.put(sample.name, resolvedType);
+                    }
+                    final Record<Event> record = recordConverter.convertSample(sample, resolvedType,
+                            histogramAccumulators, summaryAccumulators, timeReceived);
+                    if (record != null) {
+                        bufferAccumulator.add(record);
+                        recordsAdded++;
+                    }
+                }
+            }
+            lineStart = nextLineStart;
+        }
+
+        recordsAdded += addAll(recordConverter.buildAccumulatedRecords(
+                histogramAccumulators, summaryAccumulators, timeReceived), bufferAccumulator);
+        return recordsAdded;
+    }
+
+    private static int addAll(final Iterable<Record<Event>> records,
+                              final BufferAccumulator<Record<Event>> bufferAccumulator) throws Exception {
+        int count = 0;
+        for (final Record<Event> record : records) {
+            bufferAccumulator.add(record);
+            count++;
+        }
+        return count;
+    }
+
+    void parseTypeLine(final byte[] line, final int start, final int end, final Map<String, String> declaredTypes) {
+        final int nameStart = skipWhitespace(line, start, end);
+        int nameEnd = nameStart;
+        while (nameEnd < end && line[nameEnd] != ' ') {
+            nameEnd++;
+        }
+        if (nameEnd == end) {
+            return;
+        }
+        final int typeStart = skipWhitespace(line, nameEnd + 1, end);
+        final String metricName = interner.intern(line, nameStart, nameEnd);
+        final String typeName = interner.intern(line, typeStart, end).toLowerCase();
+        declaredTypes.put(metricName, typeName);
+    }
+
+    TextExpositionParser.ParsedSample parseSampleLine(final byte[] line, final int start, final int end) {
+        try {
+            int idx = start;
+            while (idx < end && line[idx] != '{' && !isWhitespace(line[idx])) {
+                idx++;
+            }
+            if (idx == start) {
+                return null;
+            }
+            final String name = interner.intern(line, start, idx);
+
+            final Map<String, String> labels = new LinkedHashMap<>();
+            if (idx < end && line[idx] == '{') {
+                idx = parseLabels(line, idx, end, labels);
+            }
+
+            idx = skipWhitespace(line, idx, end);
+            final int valueStart = idx;
+            while (idx < end && !isWhitespace(line[idx])) {
+                idx++;
+            }
+            if (valueStart == idx) {
+                return null;
+            }
+            final double value = parseDouble(line, valueStart, idx);
+
+            idx = skipWhitespace(line, idx, end);
+            Long timestampMs = null;
+            if (idx < end) {
+                try {
+                    timestampMs = parseTimestamp(line, idx, end);
+                } catch (final NumberFormatException e) {
+                    LOG.warn("Unparseable timestamp '{}' in line: {}",
+                            asString(line, idx, end), asString(line, start, end));
+                }
+            }
+
+            return new TextExpositionParser.ParsedSample(name, labels, value, timestampMs);
+        } catch (final Exception e) {
+            LOG.warn("Failed to parse exposition line: '{}': {}", asString(line, start, end), e.getMessage());
+            return null;
+        }
+    }
+
+    int parseLabels(final byte[] line, final int startIdx, final int end, final Map<String, String> labels) {
+        int idx = startIdx + 1;
+
+        while (idx < end) {
+            idx = skipWhitespace(line, idx, end);
+            if (idx < end && line[idx] == '}') {
+                return idx + 1;
+            }
+            if (idx < end && line[idx] == ',') {
+                idx++;
+                continue;
+            }
+
+            final int keyStart = idx;
+            while (idx < end && line[idx] != '=' && line[idx] != '}') {
+                idx++;
+            }
+            if (idx >= end || line[idx] != '=') {
+                break;
+            }
+            int keyEnd = idx;
+            while (keyEnd > keyStart && isWhitespace(line[keyEnd - 1])) {
+                keyEnd--;
+            }
+            final String key = interner.intern(line, keyStart, keyEnd);
+            idx++;
+
+            if (idx >= end || line[idx] != '"') {
+                break;
+            }
+            idx++;
+
+            final int valueStart = idx;
+            boolean escaped = false;
+            while (idx < end && line[idx] != '"') {
+                if (line[idx] == '\\' && idx + 1 < end) {
+                    escaped = true;
+                    idx++;
+                }
+                idx++;
+            }
+            final String value = escaped
+                    ? unescape(line, valueStart, idx)
+                    : new String(line, valueStart, idx - valueStart, StandardCharsets.UTF_8);
+            if (idx < end) {
+                idx++;
+            }
+
+            labels.put(key, value);
+        }
+
+        return idx;
+    }
+
+    private String unescape(final byte[] line, final int start, final int end) {
+        if (unescapeBuffer.length < end - start) {
+            unescapeBuffer = new byte[end - start];
+        }
+        int length = 0;
+        int idx = start;
+        while (idx < end) {
+            final byte b = line[idx];
+            if (b == '\\' && idx + 1 < end) {
+                final byte next = line[idx + 1];
+                if (next == '"' || next == '\\') {
+                    unescapeBuffer[length++] = next;
+                    idx += 2;
+                    continue;
+                } else if (next == 'n') {
+                    unescapeBuffer[length++] = '\n';
+                    idx += 2;
+                    continue;
+                }
+            }
+            unescapeBuffer[length++] = b;
+            idx++;
+        }
+        return new String(unescapeBuffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parses a sample value. Decimal values with up to 15 significant digits and a small exponent are converted
+     * exactly from the bytes. Other values fall back to {@link TextExpositionParser#parseValue(String)}.
+     */
+    static double parseDouble(final byte[] bytes, final int start, final int end) {
+        if (equalsIgnoreCase(bytes, start, end, NAN)) {
+            return Double.NaN;
+        }
+        if (startsWith(bytes, start, end, POSITIVE_INFINITY) && end - start == POSITIVE_INFINITY.length) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (startsWith(bytes, start, end, NEGATIVE_INFINITY) && end - start == NEGATIVE_INFINITY.length) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        int idx = start;
+        boolean negative = false;
+        if (idx < end && (bytes[idx] == '-' || bytes[idx] == '+')) {
+            negative = bytes[idx] == '-';
+            idx++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean sawDigit = false;
+        while (idx < end && isDigit(bytes[idx])) {
+            mantissa = mantissa * 10 + (bytes[idx] - '0');
+            significantDigits += mantissa == 0 ? 0 : 1;
+            sawDigit = true;
+            idx++;
+            if (significantDigits > MAX_EXACT_DIGITS) {
+                return fallbackParseDouble(bytes, start, end);
+            }
+        }
+        if (idx < end && bytes[idx] == '.') {
+            idx++;
+            while (idx < end && isDigit(bytes[idx])) {
+                mantissa = mantissa * 10 + (bytes[idx] - '0');
+                significantDigits += mantissa == 0 ? 0 : 1;
+                exponent--;
+                sawDigit = true;
+                idx++;
+                if (significantDigits > MAX_EXACT_DIGITS) {
+                    return fallbackParseDouble(bytes, start, end);
+                }
+            }
+        }
+        if (sawDigit && idx < end && (bytes[idx] == 'e' || bytes[idx] == 'E')) {
+            idx++;
+            boolean negativeExponent = false;
+            if (idx < end && (bytes[idx] == '-' || bytes[idx] == '+')) {
+                negativeExponent = bytes[idx] == '-';
+                idx++;
+            }
+            final int exponentStart = idx;
+            int explicitExponent = 0;
+            while (idx < end && isDigit(bytes[idx]) && idx - exponentStart < 4) {
+                explicitExponent = explicitExponent * 10 + (bytes[idx] - '0');
+                idx++;
+            }
+            if (idx == exponentStart) {
+                return fallbackParseDouble(bytes, start, end);
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (!sawDigit || idx != end || exponent < -22 || exponent > 22) {
+            return fallbackParseDouble(bytes, start, end);
+        }
+
+        final double value = exponent < 0
+                ? mantissa / EXACT_POWERS_OF_TEN[-exponent]
+                : mantissa * EXACT_POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a timestamp in milliseconds. Timestamps with a fractional part are treated as seconds, as in
+     * {@link TextExpositionParser}.
+     */
+    static long parseTimestamp(final byte[] bytes, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (bytes[i] == '.') {
+                return (long) (parseDouble(bytes, start, end) * 1000);
+            }
+        }
+
+        int idx = start;
+        final boolean negative = bytes[idx] == '-';
+        if (negative || bytes[idx] == '+') {
+            idx++;
+        }
+        if (idx == end || end - idx > MAX_LONG_DIGITS) {
+            return Long.parseLong(asString(bytes, start, end));
+        }
+        long value = 0;
+        while (idx < end) {
+            if (!isDigit(bytes[idx])) {
+                throw new NumberFormatException("Invalid timestamp: " + asString(bytes, start, end));
+            }
+            value = value * 10 + (bytes[idx] - '0');
+            idx++;
+        }
+        return negative ? -value : value;
+    }
+
+    private static double fallbackParseDouble(final byte[] bytes, final int start, final int end) {
+        return TextExpositionParser.parseValue(asString(bytes, start, end));
+    }
+
+    private static String asString(final byte[] bytes, final int start, final int end) {
+        return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private static boolean startsWith(final byte[] bytes, final int start, final int end, final byte[] prefix) {
+        if (end - start < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[start + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalsIgnoreCase(final byte[] bytes, final int start, final int end, final byte[] expected) {
+        if (end - start != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (Character.toLowerCase(bytes[start + i]) != Character.toLowerCase(expected[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipWhitespace(final byte[] bytes, final int start, final int end) {
+        int idx = start;
+        while (idx < end && isWhitespace(bytes[idx])) {
+            idx++;
+        }
+        return idx;
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n' || b == '\f' || b == 0x0B;
+    }
+
+    private static boolean isDigit(final byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
@@ -227,30 +227,54 @@ public class TextExpositionParser {
         final Map<String, SummaryAccumulator> summaryAccumulators = new LinkedHashMap<>();
 
         for (final ParsedSample sample : samples) {
-            final String resolvedType = resolveType(sample.name, declaredTypes);
-
-            switch (resolvedType) {
-                case TYPE_COUNTER:
-                    if (sample.name.endsWith(CREATED_SUFFIX)) {
-                        break;
-                    }
-                    records.add(buildSumRecord(sample, timeReceived));
-                    break;
-                case TYPE_GAUGE:
-                    records.add(buildGaugeRecord(sample, timeReceived));
-                    break;
-                case TYPE_HISTOGRAM:
-                    accumulateHistogram(sample, histogramAccumulators);
-                    break;
-                case TYPE_SUMMARY:
-                    accumulateSummary(sample, summaryAccumulators);
-                    break;
-                default:
-                    records.add(buildGaugeRecord(sample, timeReceived));
-                    break;
+            final Record<Event> record = convertSample(sample, resolveType(sample.name, declaredTypes),
+                    histogramAccumulators, summaryAccumulators, timeReceived);
+            if (record != null) {
+                records.add(record);
             }
         }
 
+        records.addAll(buildAccumulatedRecords(histogramAccumulators, summaryAccumulators, timeReceived));
+        return records;
+    }
+
+    /**
+     * Converts a single sample. Counter and gauge samples are converted immediately. Histogram and summary samples
+     * are added to the accumulators and are converted by {@link #buildAccumulatedRecords(Map, Map, Instant)}.
+     *
+     * @return the record for the sample, or null if the sample was accumulated or skipped
+     */
+    Record<Event> convertSample(final ParsedSample sample,
+                                final String resolvedType,
+                                final Map<String, HistogramAccumulator> histogramAccumulators,
+                                final Map<String, SummaryAccumulator> summaryAccumulators,
+                                final Instant timeReceived) {
+        switch (resolvedType) {
+            case TYPE_COUNTER:
+                if (sample.name.endsWith(CREATED_SUFFIX)) {
+                    return null;
+                }
+                return buildSumRecord(sample, timeReceived);
+            case TYPE_GAUGE:
+                return buildGaugeRecord(sample, timeReceived);
+            case TYPE_HISTOGRAM:
+                accumulateHistogram(sample, histogramAccumulators);
+                return null;
+            case TYPE_SUMMARY:
+                accumulateSummary(sample, summaryAccumulators);
+                return null;
+            default:
+                return buildGaugeRecord(sample, timeReceived);
+        }
+    }
+
+    /**
+     * Builds the records for the accumulated histograms and summaries and clears the accumulators.
+     */
+    List<Record<Event>> buildAccumulatedRecords(final Map<String, HistogramAccumulator> histogramAccumulators,
+                                                final Map<String, SummaryAccumulator> summaryAccumulators,
+                                                final Instant timeReceived) {
+        final List<Record<Event>> records = new ArrayList<>();
         for (final HistogramAccumulator acc : histogramAccumulators.values()) {
             final Record<Event> record = buildHistogramRecord(acc, timeReceived);
             if (record != null) {
@@ -265,6 +289,8 @@ public class TextExpositionParser {
             }
         }
 
+        histogramAccumulators.clear();
+        summaryAccumulators.clear();
         return records;
     }
 
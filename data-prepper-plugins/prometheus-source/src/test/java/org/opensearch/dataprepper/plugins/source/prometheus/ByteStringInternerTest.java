@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ByteStringInternerTest {
+
+    private static String intern(final ByteStringInterner objectUnderTest, final String value) {
+        final byte[] bytes = ("[" + value + "]").getBytes(StandardCharsets.UTF_8);
+        return objectUnderTest.intern(bytes, 1, bytes.length - 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_for_invalid_maxEntries(final int maxEntries) {
+        assertThrows(IllegalArgumentException.class, () -> new ByteStringInterner(maxEntries));
+    }
+
+    @Test
+    void intern_returns_the_same_instance_for_the_same_bytes() {
+        final ByteStringInterner objectUnderTest = new ByteStringInterner(10);
+
+        final String first = intern(objectUnderTest, "http_requests_total");
+        final String second = intern(objectUnderTest, "http_requests_total");
+
+        assertThat(first, equalTo("http_requests_total"));
+        assertThat(second, sameInstance(first));
+        assertThat(objectUnderTest.size(), equalTo(1));
+    }
+
+    @Test
+    void intern_decodes_utf8_and_distinguishes_different_bytes() {
+        final ByteStringInterner objectUnderTest = new ByteStringInterner(10);
+
+        assertThat(intern(objectUnderTest, "Zürich"), equalTo("Zürich"));
+        assertThat(intern(objectUnderTest, "Zurich"), equalTo("Zurich"));
+        assertThat(intern(objectUnderTest, ""), equalTo(""));
+        assertThat(objectUnderTest.size(), equalTo(3));
+    }
+
+    @Test
+    void intern_keeps_all_entries_when_the_table_grows() {
+        final ByteStringInterner objectUnderTest = new ByteStringInterner(10_000);
+        final String[] interned = new String[1_000];
+        for (int i = 0; i < interned.length; i++) {
+            interned[i] = intern(objectUnderTest, "label_" + i);
+        }
+
+        for (int i = 0; i < interned.length; i++) {
+            assertThat(intern(objectUnderTest, "label_" + i), sameInstance(interned[i]));
+        }
+        assertThat(objectUnderTest.size(), equalTo(interned.length));
+    }
+
+    @Test
+    void intern_clears_entries_when_maxEntries_is_reached() {
+        final ByteStringInterner objectUnderTest = new ByteStringInterner(2);
+        final String first = intern(objectUnderTest, "a");
+        intern(objectUnderTest, "b");
+
+        intern(objectUnderTest, "c");
+
+        assertThat(objectUnderTest.size(), equalTo(1));
+        assertThat(intern(objectUnderTest, "a"), not(sameInstance(first)));
+    }
+}
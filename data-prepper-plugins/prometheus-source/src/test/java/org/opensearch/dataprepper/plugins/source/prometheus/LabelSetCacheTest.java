@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LabelSetCacheTest {
+
+    /**
+     * Holds a label set encoded in a single buffer, surrounded by a byte which is not part of any label.
+     */
+    private static class EncodedLabels {
+        final byte[] data;
+        final int[] starts;
+        final int[] lengths;
+        final int hash;
+
+        EncodedLabels(final String... labels) {
+            final StringBuilder builder = new StringBuilder("#");
+            starts = new int[labels.length];
+            lengths = new int[labels.length];
+            int hash = 1;
+            for (int i = 0; i < labels.length; i++) {
+                starts[i] = builder.length();
+                lengths[i] = labels[i].length();
+                builder.append(labels[i]);
+            }
+            data = builder.append('#').toString().getBytes(StandardCharsets.US_ASCII);
+            for (int i = 0; i < labels.length; i++) {
+                hash = LabelSetCache.hash(hash, data, starts[i], lengths[i]);
+            }
+            this.hash = hash;
+        }
+
+        String get(final LabelSetCache<String> cache) {
+            return cache.get(hash, data, starts, lengths, starts.length);
+        }
+
+        void put(final LabelSetCache<String> cache, final String value) {
+            cache.put(hash, data, starts, lengths, starts.length, value);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_for_invalid_maxEntries(final int maxEntries) {
+        assertThrows(IllegalArgumentException.class, () -> new LabelSetCache<String>(maxEntries));
+    }
+
+    @Test
+    void hash_depends_on_label_boundaries() {
+        assertThat(new EncodedLabels("ab", "c").hash == new EncodedLabels("a", "bc").hash, equalTo(false));
+        assertThat(new EncodedLabels("ab", "c").hash, equalTo(new EncodedLabels("ab", "c").hash));
+    }
+
+    @Test
+    void get_returns_value_put_for_the_same_labels() {
+        final LabelSetCache<String> objectUnderTest = new LabelSetCache<>(10);
+        new EncodedLabels("name", "job").put(objectUnderTest, "value");
+
+        assertThat(new EncodedLabels("name", "job").get(objectUnderTest), equalTo("value"));
+        assertThat(objectUnderTest.size(), equalTo(1));
+    }
+
+    @Test
+    void get_returns_null_for_different_labels() {
+        final LabelSetCache<String> objectUnderTest = new LabelSetCache<>(10);
+        new EncodedLabels("name", "job").put(objectUnderTest, "value");
+
+        assertThat(new EncodedLabels("name", "jab").get(objectUnderTest), nullValue());
+        assertThat(new EncodedLabels("name").get(objectUnderTest), nullValue());
+        assertThat(new EncodedLabels("name", "job", "env").get(objectUnderTest), nullValue());
+    }
+
+    @Test
+    void get_compares_labels_when_hashes_collide() {
+        final LabelSetCache<String> objectUnderTest = new LabelSetCache<>(10);
+        final EncodedLabels first = new EncodedLabels("a");
+        final EncodedLabels second = new EncodedLabels("b");
+        objectUnderTest.put(7, first.data, first.starts, first.lengths, 1, "first");
+        objectUnderTest.put(7, second.data, second.starts, second.lengths, 1, "second");
+
+        assertThat(objectUnderTest.get(7, first.data, first.starts, first.lengths, 1), equalTo("first"));
+        assertThat(objectUnderTest.get(7, second.data, second.starts, second.lengths, 1), equalTo("second"));
+    }
+
+    @Test
+    void put_keeps_all_entries_when_the_table_grows() {
+        final LabelSetCache<String> objectUnderTest = new LabelSetCache<>(10_000);
+        for (int i = 0; i < 1_000; i++) {
+            new EncodedLabels("series", "id" + i).put(objectUnderTest, "value" + i);
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(new EncodedLabels("series", "id" + i).get(objectUnderTest), equalTo("value" + i));
+        }
+        assertThat(objectUnderTest.size(), equalTo(1_000));
+    }
+
+    @Test
+    void put_clears_entries_when_maxEntries_is_reached() {
+        final LabelSetCache<String> objectUnderTest = new LabelSetCache<>(2);
+        new EncodedLabels("a").put(objectUnderTest, "a");
+        new EncodedLabels("b").put(objectUnderTest, "b");
+
+        new EncodedLabels("c").put(objectUnderTest, "c");
+
+        assertThat(objectUnderTest.size(), equalTo(1));
+        assertThat(new EncodedLabels("a").get(objectUnderTest), nullValue());
+        assertThat(new EncodedLabels("c").get(objectUnderTest), equalTo("c"));
+    }
+
+    @Test
+    void put_copies_the_label_bytes() {
+        final LabelSetCache<String> objectUnderTest = new LabelSetCache<>(10);
+        final EncodedLabels labels = new EncodedLabels("abc");
+        labels.put(objectUnderTest, "value");
+
+        labels.data[1] = 'x';
+
+        assertThat(new EncodedLabels("abc").get(objectUnderTest), equalTo("value"));
+    }
+
+    @Test
+    void clear_removes_all_entries() {
+        final LabelSetCache<String> objectUnderTest = new LabelSetCache<>(10);
+        new EncodedLabels("a").put(objectUnderTest, "a");
+
+        objectUnderTest.clear();
+
+        assertThat(objectUnderTest.size(), equalTo(0));
+        assertThat(new EncodedLabels("a").get(objectUnderTest), nullValue());
+    }
+}
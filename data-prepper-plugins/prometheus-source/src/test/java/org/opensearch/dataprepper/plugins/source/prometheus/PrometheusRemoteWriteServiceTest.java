@@ -445,7 +445,7 @@ class PrometheusRemoteWriteServiceTest {
 
     @Test
     void testDoPostWithPrometheusParseException() throws Exception {
-        when(protobufParser.parseDecompressed(any())).thenThrow(new PrometheusParseException("Invalid protobuf"));
+        when(protobufParser.parse(any())).thenThrow(new PrometheusParseException("Invalid protobuf"));
         final PrometheusRemoteWriteService serviceWithMockParser =
                 new PrometheusRemoteWriteService(5000, buffer, pluginMetrics, protobufParser);
 
@@ -466,7 +466,7 @@ class PrometheusRemoteWriteServiceTest {
 
     @Test
     void testDoPostWithUnexpectedExceptionDuringParsing() throws Exception {
-        when(protobufParser.parseDecompressed(any())).thenThrow(new RuntimeException("Unexpected error"));
+        when(protobufParser.parse(any())).thenThrow(new RuntimeException("Unexpected error"));
         final PrometheusRemoteWriteService serviceWithMockParser =
                 new PrometheusRemoteWriteService(5000, buffer, pluginMetrics, protobufParser);
 
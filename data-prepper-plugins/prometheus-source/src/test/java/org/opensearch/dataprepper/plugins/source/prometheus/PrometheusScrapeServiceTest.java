@@ -25,6 +25,7 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
@@ -126,7 +127,7 @@ class PrometheusScrapeServiceTest {
         when(config.getTargets()).thenReturn(Arrays.asList(target1, target2));
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenReturn("test_gauge 1.0\n");
+        when(mockScraper.scrapeBytes(anyString())).thenReturn("test_gauge 1.0\n".getBytes(StandardCharsets.UTF_8));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -137,8 +138,8 @@ class PrometheusScrapeServiceTest {
         service.scrapeAll();
 
         verify(scrapeRequestsCounter, times(2)).increment();
-        verify(mockScraper).scrape("http://host1:9090/metrics");
-        verify(mockScraper).scrape("http://host2:9090/metrics");
+        verify(mockScraper).scrapeBytes("http://host1:9090/metrics");
+        verify(mockScraper).scrapeBytes("http://host2:9090/metrics");
     }
 
     @Test
@@ -152,10 +153,10 @@ class PrometheusScrapeServiceTest {
         when(config.getTargets()).thenReturn(Arrays.asList(target1, target2));
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape("http://failing-host:9090/metrics"))
+        when(mockScraper.scrapeBytes("http://failing-host:9090/metrics"))
                 .thenThrow(new RuntimeException("Connection refused"));
-        when(mockScraper.scrape("http://working-host:9090/metrics"))
-                .thenReturn("test_gauge 42.0\n");
+        when(mockScraper.scrapeBytes("http://working-host:9090/metrics"))
+                .thenReturn("test_gauge 42.0\n".getBytes(StandardCharsets.UTF_8));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -165,8 +166,8 @@ class PrometheusScrapeServiceTest {
 
         service.scrapeAll();
 
-        verify(mockScraper).scrape("http://failing-host:9090/metrics");
-        verify(mockScraper).scrape("http://working-host:9090/metrics");
+        verify(mockScraper).scrapeBytes("http://failing-host:9090/metrics");
+        verify(mockScraper).scrapeBytes("http://working-host:9090/metrics");
         verify(scrapeRequestsCounter, times(2)).increment();
     }
 
@@ -175,7 +176,7 @@ class PrometheusScrapeServiceTest {
         final PrometheusScrapeService service = createService();
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenReturn("test_gauge 1.0\n");
+        when(mockScraper.scrapeBytes(anyString())).thenReturn("test_gauge 1.0\n".getBytes(StandardCharsets.UTF_8));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -195,7 +196,7 @@ class PrometheusScrapeServiceTest {
         final PrometheusScrapeService service = createService();
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenThrow(new RuntimeException("HTTP 500"));
+        when(mockScraper.scrapeBytes(anyString())).thenThrow(new RuntimeException("HTTP 500"));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -215,7 +216,7 @@ class PrometheusScrapeServiceTest {
         final PrometheusScrapeService service = createService();
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenReturn("# TYPE test_gauge gauge\ntest_gauge 5.0\n");
+        when(mockScraper.scrapeBytes(anyString())).thenReturn("# TYPE test_gauge gauge\ntest_gauge 5.0\n".getBytes(StandardCharsets.UTF_8));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -233,7 +234,7 @@ class PrometheusScrapeServiceTest {
         final PrometheusScrapeService service = createService();
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenReturn("# TYPE test_gauge gauge\ntest_gauge 5.0\n");
+        when(mockScraper.scrapeBytes(anyString())).thenReturn("# TYPE test_gauge gauge\ntest_gauge 5.0\n".getBytes(StandardCharsets.UTF_8));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -251,7 +252,7 @@ class PrometheusScrapeServiceTest {
         final PrometheusScrapeService service = createService();
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenReturn("# TYPE test_gauge gauge\ntest_gauge 5.0\n");
+        when(mockScraper.scrapeBytes(anyString())).thenReturn("# TYPE test_gauge gauge\ntest_gauge 5.0\n".getBytes(StandardCharsets.UTF_8));
         setField(service, "scraper", mockScraper);
 
         doThrow(new RuntimeException("Buffer full")).when(buffer).writeAll(any(), eq(BUFFER_WRITE_TIMEOUT_MS));
@@ -337,7 +338,7 @@ class PrometheusScrapeServiceTest {
         final PrometheusScrapeService service = createService();
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenReturn("");
+        when(mockScraper.scrapeBytes(anyString())).thenReturn("".getBytes(StandardCharsets.UTF_8));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -27,12 +27,21 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.xerial.snappy.Snappy;
 import com.arpnetworking.metrics.prometheus.Remote;
 import com.arpnetworking.metrics.prometheus.Types;
+import com.google.protobuf.CodedOutputStream;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -44,6 +53,7 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.lenient;
@@ -1160,4 +1170,283 @@ class RemoteWriteProtobufParserTest {
 
         assertThat(records, hasSize(2));
     }
-}
\ No newline at end of file
+
+    private static Types.TimeSeries timeSeries(final String name, final double value, final String... labels) {
+        final Types.TimeSeries.Builder builder = Types.TimeSeries.newBuilder()
+                .addLabels(Types.Label.newBuilder().setName("__name__").setValue(name).build());
+        for (int i = 0; i < labels.length; i += 2) {
+            builder.addLabels(Types.Label.newBuilder().setName(labels[i]).setValue(labels[i + 1]).build());
+        }
+        return builder
+                .addSamples(Types.Sample.newBuilder().setValue(value).setTimestamp(1706869800000L).build())
+                .build();
+    }
+
+    private static List<String> namesOf(final List<Record<Event>> records) {
+        final List<String> names = new ArrayList<>();
+        for (final Record<Event> record : records) {
+            names.add(record.getData().get("name", String.class));
+        }
+        return names;
+    }
+
+    @Test
+    void testParseDecompressedWithOffsetAndLength() throws Exception {
+        final byte[] request = Remote.WriteRequest.newBuilder()
+                .addTimeseries(timeSeries("cpu_temperature", 72.5, "host", "server-01"))
+                .build().toByteArray();
+        final byte[] data = new byte[request.length + 20];
+        Arrays.fill(data, (byte) 0xFF);
+        System.arraycopy(request, 0, data, 10, request.length);
+
+        final List<Record<Event>> records = parser.parseDecompressed(data, 10, request.length);
+
+        assertThat(records, hasSize(1));
+        final Event event = records.get(0).getData();
+        assertThat(event.get("name", String.class), equalTo("cpu_temperature"));
+        assertThat(event.get("value", Double.class), equalTo(72.5));
+        final Map<String, Object> attributes = event.get("attributes", Map.class);
+        assertThat(attributes, hasEntry("host", "server-01"));
+    }
+
+    @Test
+    void testParseDecompressedWithTruncatedProtobuf() {
+        final byte[] request = Remote.WriteRequest.newBuilder()
+                .addTimeseries(timeSeries("cpu_temperature", 72.5, "host", "server-01"))
+                .build().toByteArray();
+
+        assertThrows(PrometheusParseException.class,
+                () -> parser.parseDecompressed(Arrays.copyOf(request, request.length - 3)));
+    }
+
+    @Test
+    void testParseSkipsUnknownFields() throws Exception {
+        final ByteArrayOutputStream label = new ByteArrayOutputStream();
+        final CodedOutputStream labelOutput = CodedOutputStream.newInstance(label);
+        labelOutput.writeString(1, "__name__");
+        labelOutput.writeInt32(3, 42);
+        labelOutput.writeString(2, "cpu_temperature");
+        labelOutput.flush();
+
+        final ByteArrayOutputStream sample = new ByteArrayOutputStream();
+        final CodedOutputStream sampleOutput = CodedOutputStream.newInstance(sample);
+        sampleOutput.writeDouble(1, 72.5);
+        sampleOutput.writeString(3, "unknown");
+        sampleOutput.writeInt64(2, 1706869800000L);
+        sampleOutput.flush();
+
+        final ByteArrayOutputStream series = new ByteArrayOutputStream();
+        final CodedOutputStream seriesOutput = CodedOutputStream.newInstance(series);
+        seriesOutput.writeByteArray(1, label.toByteArray());
+        seriesOutput.writeByteArray(3, new byte[]{1, 2, 3});
+        seriesOutput.writeByteArray(2, sample.toByteArray());
+        seriesOutput.flush();
+
+        final ByteArrayOutputStream request = new ByteArrayOutputStream();
+        final CodedOutputStream requestOutput = CodedOutputStream.newInstance(request);
+        requestOutput.writeByteArray(3, new byte[]{4, 5, 6});
+        requestOutput.writeByteArray(1, series.toByteArray());
+        requestOutput.flush();
+
+        final List<Record<Event>> records = parser.parseDecompressed(request.toByteArray());
+
+        assertThat(records, hasSize(1));
+        final Event event = records.get(0).getData();
+        assertThat(event.get("name", String.class), equalTo("cpu_temperature"));
+        assertThat(event.get("value", Double.class), equalTo(72.5));
+        assertThat(event.get("time", String.class), equalTo("2024-02-02T10:30:00Z"));
+    }
+
+    @Test
+    void testParseManyLabelsAndSamples() throws Exception {
+        final Types.TimeSeries.Builder builder = Types.TimeSeries.newBuilder()
+                .addLabels(Types.Label.newBuilder().setName("__name__").setValue("wide_gauge").build());
+        for (int i = 0; i < 40; i++) {
+            builder.addLabels(Types.Label.newBuilder().setName("label_" + i).setValue("value_" + i).build());
+        }
+        for (int i = 0; i < 10; i++) {
+            builder.addSamples(Types.Sample.newBuilder().setValue(i).setTimestamp(1706869800000L + i).build());
+        }
+
+        final List<Record<Event>> records = parser.parse(Snappy.compress(
+                Remote.WriteRequest.newBuilder().addTimeseries(builder.build()).build().toByteArray()));
+
+        assertThat(records, hasSize(10));
+        for (int i = 0; i < 10; i++) {
+            assertThat(records.get(i).getData().get("value", Double.class), equalTo((double) i));
+        }
+        final Map<String, Object> attributes = records.get(0).getData().get("attributes", Map.class);
+        assertThat(attributes.size(), equalTo(40));
+        assertThat(attributes, hasEntry("label_39", "value_39"));
+    }
+
+    @Test
+    void testParseRepeatedRequestsProduceTheSameEvents() throws Exception {
+        final byte[] compressed = Snappy.compress(Remote.WriteRequest.newBuilder()
+                .addTimeseries(timeSeries("http_requests_total", 100.0, "method", "GET"))
+                .addTimeseries(timeSeries("latency_bucket", 5.0, "le", "1.0", "method", "GET"))
+                .addTimeseries(timeSeries("latency_bucket", 10.0, "le", "+Inf", "method", "GET"))
+                .addTimeseries(timeSeries("cpu_temperature", 72.5, "host", "server-01"))
+                .build().toByteArray());
+
+        final List<Record<Event>> first = parser.parse(compressed);
+        final List<Record<Event>> second = parser.parse(compressed);
+
+        assertThat(second, hasSize(first.size()));
+        for (int i = 0; i < first.size(); i++) {
+            final Event expected = first.get(i).getData();
+            final Event actual = second.get(i).getData();
+            assertThat(actual.get("name", String.class), equalTo(expected.get("name", String.class)));
+            assertThat(actual.get("kind", String.class), equalTo(expected.get("kind", String.class)));
+            assertThat(actual.get("attributes", Map.class), equalTo(expected.get("attributes", Map.class)));
+        }
+    }
+
+    @Test
+    void testParseWithLabelSetCacheSmallerThanRequest() throws Exception {
+        final RemoteWriteProtobufParser objectUnderTest = new RemoteWriteProtobufParser(config, 1);
+        final byte[] compressed = Snappy.compress(Remote.WriteRequest.newBuilder()
+                .addTimeseries(timeSeries("first_gauge", 1.0, "host", "a"))
+                .addTimeseries(timeSeries("second_gauge", 2.0, "host", "b"))
+                .addTimeseries(timeSeries("first_gauge", 3.0, "host", "a"))
+                .build().toByteArray());
+
+        objectUnderTest.parse(compressed);
+        final List<Record<Event>> records = objectUnderTest.parse(compressed);
+
+        assertThat(namesOf(records), equalTo(List.of("first_gauge", "second_gauge", "first_gauge")));
+        final Map<String, Object> attributes = records.get(1).getData().get("attributes", Map.class);
+        assertThat(attributes, hasEntry("host", "b"));
+    }
+
+    @Test
+    void testParseReusesOneIdleDecodeStateForSequentialRequests() throws Exception {
+        final RemoteWriteProtobufParser objectUnderTest = new RemoteWriteProtobufParser(config, 10, 4);
+        final byte[] compressed = Snappy.compress(Remote.WriteRequest.newBuilder()
+                .addTimeseries(timeSeries("test_gauge", 1.0, "host", "a"))
+                .build().toByteArray());
+
+        objectUnderTest.parse(compressed);
+        objectUnderTest.parse(compressed);
+
+        assertThat(objectUnderTest.getIdleDecodeStates(), equalTo(1));
+    }
+
+    @Test
+    void testParseFromManyThreadsKeepsAtMostMaxIdleDecodeStates() throws Exception {
+        final RemoteWriteProtobufParser objectUnderTest = new RemoteWriteProtobufParser(config, 10, 2);
+        final byte[] compressed = Snappy.compress(Remote.WriteRequest.newBuilder()
+                .addTimeseries(timeSeries("test_gauge", 1.0, "host", "a"))
+                .addTimeseries(timeSeries("other_gauge", 2.0, "host", "b"))
+                .build().toByteArray());
+        final int threadCount = 8;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            final List<Future<List<Record<Event>>>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    List<Record<Event>> records = null;
+                    for (int j = 0; j < 50; j++) {
+                        records = objectUnderTest.parse(compressed);
+                    }
+                    return records;
+                }));
+            }
+            startLatch.countDown();
+
+            for (final Future<List<Record<Event>>> future : futures) {
+                assertThat(namesOf(future.get(30, TimeUnit.SECONDS)), equalTo(List.of("test_gauge", "other_gauge")));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(objectUnderTest.getIdleDecodeStates(), lessThanOrEqualTo(2));
+    }
+
+    @Test
+    void testParseHistogramCountAndSumBeforeBucketsAreGrouped() throws Exception {
+        final byte[] compressed = Snappy.compress(Remote.WriteRequest.newBuilder()
+                .addTimeseries(timeSeries("before_gauge", 1.0))
+                .addTimeseries(timeSeries("early_count", 10.0, "env", "prod"))
+                .addTimeseries(timeSeries("early_sum", 50.0, "env", "prod"))
+                .addTimeseries(timeSeries("after_gauge", 2.0))
+                .addTimeseries(timeSeries("early_bucket", 5.0, "le", "1.0", "env", "prod"))
+                .addTimeseries(timeSeries("early_bucket", 10.0, "le", "+Inf", "env", "prod"))
+                .build().toByteArray());
+
+        final List<Record<Event>> records = parser.parse(compressed);
+
+        assertThat(namesOf(records), equalTo(List.of("early", "before_gauge", "after_gauge")));
+        final Event histogram = records.get(0).getData();
+        assertThat(histogram, instanceOf(Histogram.class));
+        assertThat(histogram.get("count", Long.class), equalTo(10L));
+        assertThat(histogram.get("sum", Double.class), closeTo(50.0, 0.001));
+    }
+
+    @Test
+    void testParseUngroupedCountAndSumKeepRequestOrder() throws Exception {
+        final byte[] compressed = Snappy.compress(Remote.WriteRequest.newBuilder()
+                .addTimeseries(timeSeries("first_gauge", 1.0))
+                .addTimeseries(timeSeries("orphan_count", 10.0))
+                .addTimeseries(timeSeries("second_gauge", 2.0))
+                .addTimeseries(timeSeries("orphan_sum", 50.0))
+                .addTimeseries(timeSeries("known_bucket", 5.0, "le", "+Inf"))
+                .addTimeseries(timeSeries("third_gauge", 3.0))
+                .build().toByteArray());
+
+        final List<Record<Event>> records = parser.parse(compressed);
+
+        assertThat(namesOf(records), equalTo(List.of(
+                "known", "first_gauge", "orphan_count", "second_gauge", "orphan_sum", "third_gauge")));
+        assertThat(records.get(2).getData(), instanceOf(Gauge.class));
+        assertThat(records.get(4).getData(), instanceOf(Gauge.class));
+    }
+
+    @Test
+    void testParseLatestCountAndSumWinWhenRepeatedAroundGroup() throws Exception {
+        final byte[] compressed = Snappy.compress(Remote.WriteRequest.newBuilder()
+                .addTimeseries(timeSeries("repeat_hist_count", 1.0))
+                .addTimeseries(timeSeries("repeat_hist_sum", 2.0))
+                .addTimeseries(timeSeries("repeat_summary_count", 3.0))
+                .addTimeseries(timeSeries("repeat_summary_sum", 4.0))
+                .addTimeseries(timeSeries("repeat_hist_bucket", 10.0, "le", "+Inf"))
+                .addTimeseries(timeSeries("repeat_summary", 0.5, "quantile", "0.5"))
+                .addTimeseries(timeSeries("repeat_hist_count", 10.0))
+                .addTimeseries(timeSeries("repeat_hist_sum", 20.0))
+                .addTimeseries(timeSeries("repeat_summary_count", 30.0))
+                .addTimeseries(timeSeries("repeat_summary_sum", 40.0))
+                .build().toByteArray());
+
+        final List<Record<Event>> records = parser.parse(compressed);
+
+        assertThat(namesOf(records), equalTo(List.of("repeat_hist", "repeat_summary")));
+        final Event histogram = records.get(0).getData();
+        assertThat(histogram.get("count", Long.class), equalTo(10L));
+        assertThat(histogram.get("sum", Double.class), closeTo(20.0, 0.001));
+        final Event summary = records.get(1).getData();
+        assertThat(summary, instanceOf(Summary.class));
+        assertThat(summary.get("count", Long.class), equalTo(30L));
+        assertThat(summary.get("sum", Double.class), closeTo(40.0, 0.001));
+    }
+
+    @Test
+    void testParseEarliestCountAndSumUsedWhenOnlyBeforeGroup() throws Exception {
+        final byte[] compressed = Snappy.compress(Remote.WriteRequest.newBuilder()
+                .addTimeseries(timeSeries("twice_count", 1.0))
+                .addTimeseries(timeSeries("twice_count", 2.0))
+                .addTimeseries(timeSeries("twice_sum", 3.0))
+                .addTimeseries(timeSeries("twice_sum", 4.0))
+                .addTimeseries(timeSeries("twice", 0.5, "quantile", "0.5"))
+                .build().toByteArray());
+
+        final List<Record<Event>> records = parser.parse(compressed);
+
+        assertThat(records, hasSize(1));
+        final Event summary = records.get(0).getData();
+        assertThat(summary.get("count", Long.class), equalTo(2L));
+        assertThat(summary.get("sum", Double.class), closeTo(4.0, 0.001));
+    }
+}
@@ -176,6 +176,22 @@ class ScrapeTargetScraperTest {
         assertThat(result, equalTo(METRICS_BODY));
     }
 
+    @Test
+    void scrapeBytes_returns_response_body_from_successful_endpoint() {
+        server = startServer("/metrics", HttpStatus.OK, METRICS_BODY);
+        final int port = server.activeLocalPort();
+
+        when(config.getAuthentication()).thenReturn(null);
+        when(config.getScrapeTimeout()).thenReturn(Duration.ofSeconds(10));
+        when(config.isInsecure()).thenReturn(false);
+        when(config.getSslCertificateFile()).thenReturn(null);
+
+        final ScrapeTargetScraper scraper = new ScrapeTargetScraper(config);
+        final byte[] result = scraper.scrapeBytes("http://127.0.0.1:" + port + "/metrics");
+
+        assertThat(result, equalTo(METRICS_BODY.getBytes(StandardCharsets.UTF_8)));
+    }
+
     @Test
     void scrape_uses_correct_path_from_url() {
         server = startServer("/custom/path", HttpStatus.OK, METRICS_BODY);
@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import org.junit.jupiter.api.Test;
+import org.xerial.snappy.Snappy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnappyDecompressionBufferTest {
+
+    private static byte[] decompressed(final SnappyDecompressionBuffer objectUnderTest) {
+        return Arrays.copyOf(objectUnderTest.array(), objectUnderTest.length());
+    }
+
+    @Test
+    void decompress_writes_the_uncompressed_data() throws IOException {
+        final byte[] data = "prometheus remote write".getBytes(StandardCharsets.UTF_8);
+        final SnappyDecompressionBuffer objectUnderTest = new SnappyDecompressionBuffer();
+
+        objectUnderTest.decompress(Snappy.compress(data));
+
+        assertThat(decompressed(objectUnderTest), equalTo(data));
+    }
+
+    @Test
+    void decompress_reuses_the_buffer_for_smaller_payloads() throws IOException {
+        final byte[] large = new byte[1024];
+        Arrays.fill(large, (byte) 'a');
+        final byte[] small = "small".getBytes(StandardCharsets.UTF_8);
+        final SnappyDecompressionBuffer objectUnderTest = new SnappyDecompressionBuffer();
+
+        objectUnderTest.decompress(Snappy.compress(large));
+        final byte[] array = objectUnderTest.array();
+        objectUnderTest.decompress(Snappy.compress(small));
+
+        assertThat(objectUnderTest.array(), sameInstance(array));
+        assertThat(decompressed(objectUnderTest), equalTo(small));
+    }
+
+    @Test
+    void decompress_does_not_retain_buffers_larger_than_maxRetainedBytes() throws IOException {
+        final byte[] large = new byte[1024];
+        Arrays.fill(large, (byte) 'a');
+        final SnappyDecompressionBuffer objectUnderTest = new SnappyDecompressionBuffer(100);
+
+        objectUnderTest.decompress(Snappy.compress(large));
+        final byte[] array = objectUnderTest.array();
+        objectUnderTest.decompress(Snappy.compress(large));
+
+        assertThat(objectUnderTest.array(), not(sameInstance(array)));
+        assertThat(decompressed(objectUnderTest), equalTo(large));
+    }
+
+    @Test
+    void decompress_throws_for_invalid_data() {
+        final SnappyDecompressionBuffer objectUnderTest = new SnappyDecompressionBuffer();
+
+        assertThrows(IOException.class, () -> objectUnderTest.decompress(new byte[]{0x05, 0x01, 0x02}));
+        assertThat(objectUnderTest.length(), equalTo(0));
+    }
+
+    @Test
+    void decompress_throws_for_empty_data() {
+        final SnappyDecompressionBuffer objectUnderTest = new SnappyDecompressionBuffer();
+
+        assertThrows(IOException.class, () -> objectUnderTest.decompress(new byte[0]));
+    }
+
+    @Test
+    void decompress_throws_for_negative_uncompressed_length() {
+        final SnappyDecompressionBuffer objectUnderTest = new SnappyDecompressionBuffer();
+
+        assertThrows(IOException.class, () -> objectUnderTest.decompress(
+                new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F}));
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.metric.Gauge;
+import org.opensearch.dataprepper.model.metric.Histogram;
+import org.opensearch.dataprepper.model.metric.Sum;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class StreamingTextExpositionParserTest {
+
+    private static final String MIXED_BODY =
+            "# HELP temp The temperature\n" +
+            "# TYPE temp gauge\n" +
+            "temp{loc=\"a\"} 22.5 1395066363000\n" +
+            "\n" +
+            "   \t\n" +
+            "# TYPE reqs counter\n" +
+            "reqs_total{path=\"/\",method=\"GET\"} 500 1395066363000\r\n" +
+            "reqs_created{path=\"/\",method=\"GET\"} 1395066000 1395066363000\n" +
+            "# TYPE latency histogram\n" +
+            "latency_bucket{le=\"0.5\"} 20 1395066363000\n" +
+            "latency_bucket{le=\"+Inf\"} 50 1395066363000\n" +
+            "latency_sum 15.0 1395066363000\n" +
+            "latency_count 50 1395066363000\n" +
+            "# TYPE rpc summary\n" +
+            "rpc{service=\"api\",quantile=\"0.5\"} 0.2 1395066363000\n" +
+            "rpc{service=\"api\",quantile=\"0.99\"} 1.5e-1 1395066363000\n" +
+            "rpc_sum{service=\"api\"} 300.5 1395066363000\n" +
+            "rpc_count{service=\"api\"} 1000 1395066363000\n" +
+            "untyped_metric{msg=\"say \\\"hi\\\"\\n\\\\ \\x\"} -Inf 1395066363.5\n" +
+            "last_line NaN 1395066363000";
+
+    private StreamingTextExpositionParser objectUnderTest;
+    private List<Record<Event>> addedRecords;
+    private BufferAccumulator<Record<Event>> bufferAccumulator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        objectUnderTest = new StreamingTextExpositionParser(false);
+        addedRecords = new ArrayList<>();
+        bufferAccumulator = mock(BufferAccumulator.class);
+        doAnswer(invocation -> addedRecords.add(invocation.getArgument(0))).when(bufferAccumulator).add(any());
+    }
+
+    private List<Record<Event>> parse(final String body) throws Exception {
+        final int recordsAdded = objectUnderTest.parse(body.getBytes(StandardCharsets.UTF_8), bufferAccumulator);
+        assertThat(recordsAdded, equalTo(addedRecords.size()));
+        return addedRecords;
+    }
+
+    @Test
+    void parse_with_null_body_adds_no_records() throws Exception {
+        assertThat(objectUnderTest.parse(null, bufferAccumulator), equalTo(0));
+        assertThat(addedRecords, hasSize(0));
+    }
+
+    @Test
+    void parse_with_empty_body_adds_no_records() throws Exception {
+        assertThat(parse(""), hasSize(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void parse_creates_the_same_records_as_TextExpositionParser(final boolean flattenLabels) throws Exception {
+        objectUnderTest = new StreamingTextExpositionParser(flattenLabels);
+
+        final List<Record<Event>> expectedRecords = new TextExpositionParser(flattenLabels).parse(MIXED_BODY);
+        final List<Record<Event>> actualRecords = parse(MIXED_BODY);
+
+        assertThat(actualRecords, hasSize(expectedRecords.size()));
+        final List<Map<String, Object>> expected = new ArrayList<>();
+        final List<Map<String, Object>> actual = new ArrayList<>();
+        for (int i = 0; i < expectedRecords.size(); i++) {
+            expected.add(expectedRecords.get(i).getData().toMap());
+            actual.add(actualRecords.get(i).getData().toMap());
+        }
+        assertThat(actual, containsInAnyOrder(expected.toArray()));
+    }
+
+    @Test
+    void parse_adds_histogram_before_the_next_metric_family() throws Exception {
+        final String body = "# TYPE latency histogram\n" +
+                "latency_bucket{le=\"+Inf\"} 5\n" +
+                "latency_count 5\n" +
+                "# TYPE temp gauge\n" +
+                "temp 1\n";
+
+        final List<Record<Event>> records = parse(body);
+
+        assertThat(records, hasSize(2));
+        assertThat(records.get(0).getData(), instanceOf(Histogram.class));
+        assertThat(records.get(1).getData(), instanceOf(Gauge.class));
+    }
+
+    @Test
+    void parse_applies_type_only_to_the_following_samples() throws Exception {
+        final String body = "reqs_total 1\n" +
+                "# TYPE reqs counter\n" +
+                "reqs_total 2\n";
+
+        final List<Record<Event>> records = parse(body);
+
+        assertThat(records, hasSize(2));
+        assertThat(records.get(0).getData(), instanceOf(Gauge.class));
+        assertThat(records.get(1).getData(), instanceOf(Sum.class));
+    }
+
+    @Test
+    void parse_with_offset_and_length_only_parses_the_range() throws Exception {
+        final byte[] line = "ignored 1\nmetric_a{k=\"v\"} 3\nignored 2\n".getBytes(StandardCharsets.UTF_8);
+        final int offset = "ignored 1\n".length();
+        final int length = "metric_a{k=\"v\"} 3\n".length();
+
+        final int recordsAdded = objectUnderTest.parse(line, offset, length, bufferAccumulator);
+
+        assertThat(recordsAdded, equalTo(1));
+        final Gauge gauge = (Gauge) addedRecords.get(0).getData();
+        assertThat(gauge.getName(), equalTo("metric_a"));
+        assertThat(gauge.getValue(), equalTo(3.0));
+        assertThat(gauge.getAttributes(), hasEntry("k", "v"));
+    }
+
+    @Test
+    void parse_throws_when_the_accumulator_throws() throws Exception {
+        doThrow(new RuntimeException("Buffer full")).when(bufferAccumulator).add(any());
+
+        assertThrows(RuntimeException.class, () -> parse("metric 1\n"));
+    }
+
+    @Test
+    void parseTypeLine_adds_lower_case_type() {
+        final Map<String, String> declaredTypes = new HashMap<>();
+        final byte[] line = "  my_metric  Counter".getBytes(StandardCharsets.UTF_8);
+
+        objectUnderTest.parseTypeLine(line, 0, line.length, declaredTypes);
+
+        assertThat(declaredTypes, equalTo(Map.of("my_metric", "counter")));
+    }
+
+    @Test
+    void parseTypeLine_without_type_is_ignored() {
+        final Map<String, String> declaredTypes = new HashMap<>();
+        final byte[] line = "my_metric".getBytes(StandardCharsets.UTF_8);
+
+        objectUnderTest.parseTypeLine(line, 0, line.length, declaredTypes);
+
+        assertThat(declaredTypes.isEmpty(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{label=\"a\"} 1", "metric", "metric{label=\"a\"}", "metric not_a_number"})
+    void parseSampleLine_returns_null_for_invalid_lines(final String line) {
+        assertThat(parseSampleLine(line), nullValue());
+    }
+
+    @Test
+    void parseSampleLine_with_fractional_timestamp_uses_seconds() {
+        final TextExpositionParser.ParsedSample sample = parseSampleLine("metric 1 1395066363.25");
+
+        assertThat(sample.timestampMs, equalTo(1395066363250L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "+", "12a4", "99999999999999999999"})
+    void parseSampleLine_with_invalid_timestamp_has_no_timestamp(final String timestamp) {
+        final TextExpositionParser.ParsedSample sample = parseSampleLine("metric 1 " + timestamp);
+
+        assertThat(sample, notNullValue());
+        assertThat(sample.value, equalTo(1.0));
+        assertThat(sample.timestampMs, nullValue());
+    }
+
+    @Test
+    void parseSampleLine_parses_signed_timestamps() {
+        assertThat(parseSampleLine("metric 1 -1000").timestampMs, equalTo(-1000L));
+        assertThat(parseSampleLine("metric 1 +1000").timestampMs, equalTo(1000L));
+        assertThat(parseSampleLine("metric 1 1234567890123456789").timestampMs, equalTo(1234567890123456789L));
+    }
+
+    @Test
+    void parseLabels_handles_whitespace_commas_and_escapes() {
+        final Map<String, String> labels = parseLabels("{ a =\"1\" , , b=\"q\\\"\\\\\\n\\t\" ,}");
+
+        assertThat(labels, equalTo(Map.of("a", "1", "b", "q\"\\\n\\t")));
+    }
+
+    @Test
+    void parseLabels_decodes_utf8_values() {
+        final Map<String, String> labels = parseLabels("{city=\"Zürich\",escaped=\"Zürich \\\"x\\\"\"}");
+
+        assertThat(labels, equalTo(Map.of("city", "Zürich", "escaped", "Zürich \"x\"")));
+    }
+
+    @Test
+    void parseLabels_with_long_escaped_value_grows_the_buffer() {
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            value.append("ab\\\\");
+        }
+
+        final Map<String, String> labels = parseLabels("{key=\"" + value + "\"}");
+
+        assertThat(labels.get("key"), equalTo(value.toString().replace("\\\\", "\\")));
+    }
+
+    @Test
+    void parseLabels_keeps_trailing_backslash_of_unterminated_value() {
+        final Map<String, String> labels = parseLabels("{key=\"abc\\");
+
+        assertThat(labels, equalTo(Map.of("key", "abc\\")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{key}", "{key", "{key=value}", "{key="})
+    void parseLabels_stops_on_malformed_labels(final String input) {
+        assertThat(parseLabels(input).isEmpty(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "+1.5", "1e3", "1E-3", "1.5e+2", "-.5e-2", ".5", "5.", "42", "72.5",
+            "123456789012345678", "0.1234567890123456789", "1234567.1234567891", "1e400", "1e30", "1e-30",
+            "0.000000000000000000000001", "Infinity", "-Infinity", "0x1p3", "1.7976931348623157e308"})
+    void parseDouble_returns_the_same_value_as_Double_parseDouble(final String value) {
+        assertThat(parseDouble(value), equalTo(Double.parseDouble(value)));
+    }
+
+    @Test
+    void parseDouble_parses_special_values() {
+        assertThat(parseDouble("NaN"), equalTo(Double.NaN));
+        assertThat(parseDouble("nan"), equalTo(Double.NaN));
+        assertThat(parseDouble("+Inf"), equalTo(Double.POSITIVE_INFINITY));
+        assertThat(parseDouble("-Inf"), equalTo(Double.NEGATIVE_INFINITY));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "+", "1e", "1e+", "+Info", "-Info", "Inf", "1.2.3", ""})
+    void parseDouble_throws_for_invalid_values(final String value) {
+        assertThrows(NumberFormatException.class, () -> parseDouble(value));
+    }
+
+    private TextExpositionParser.ParsedSample parseSampleLine(final String line) {
+        final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        return objectUnderTest.parseSampleLine(bytes, 0, bytes.length);
+    }
+
+    private Map<String, String> parseLabels(final String input) {
+        final byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        final Map<String, String> labels = new LinkedHashMap<>();
+        objectUnderTest.parseLabels(bytes, 0, bytes.length, labels);
+        return labels;
+    }
+
+    private static double parseDouble(final String value) {
+        final byte[] bytes = ("x" + value + "x").getBytes(StandardCharsets.UTF_8);
+        return StreamingTextExpositionParser.parseDouble(bytes, 1, bytes.length - 1);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.processor.ratelimiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded table of token buckets keyed by a 64-bit key hash.
+ * <p>
+ * The table is set-associative: a key maps to one set of {@link #WAYS} slots. When a set is full, the least recently
+ * used bucket in that set is replaced, so memory stays bounded no matter how many distinct keys are seen. Slots are
+ * updated with compare-and-set and each bucket keeps its state in a single {@link AtomicLong}, so no locks are taken.
+ * <p>
+ * Each bucket uses the generic cell rate algorithm, which is equivalent to a token bucket refilled at
+ * {@code eventsPerSecond} with a capacity of {@code eventsPerSecond} tokens.
+ */
+class KeyedTokenBuckets {
+    static final int WAYS = 8;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final AtomicReferenceArray<TokenBucket> slots;
+    private final int setMask;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicInteger occupiedSlots = new AtomicInteger();
+    private final AtomicLong evictions = new AtomicLong();
+
+    KeyedTokenBuckets(final int eventsPerSecond, final int maximumKeys) {
+        if (eventsPerSecond <= 0) {
+            throw new IllegalArgumentException("eventsPerSecond must be greater than 0.");
+        }
+        if (maximumKeys <= 0) {
+            throw new IllegalArgumentException("maximumKeys must be greater than 0.");
+        }
+        final int sets = nextPowerOfTwo((maximumKeys + WAYS - 1) / WAYS);
+        this.slots = new AtomicReferenceArray<>(sets * WAYS);
+        this.setMask = sets - 1;
+        this.emissionIntervalNanos = Math.max(1L, NANOS_PER_SECOND / eventsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (eventsPerSecond - 1);
+    }
+
+    /**
+     * Takes a token from the bucket for the key.
+     *
+     * @param key the key hash
+     * @param nowNanos the current time from {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise the nanoseconds until a token is available
+     */
+    long tryAcquire(final long key, final long nowNanos) {
+        return getOrCreate(key, nowNanos).tryAcquire(nowNanos);
+    }
+
+    /**
+     * Gets the bucket for the key, adding it to the table if it is not present.
+     *
+     * @param key the key hash
+     * @param nowNanos the current time from {@link System#nanoTime()}
+     * @return the bucket for the key
+     */
+    TokenBucket getOrCreate(final long key, final long nowNanos) {
+        final int base = (int) (mix(key) & setMask) * WAYS;
+        while (true) {
+            int emptyWay = -1;
+            int leastRecentlyUsedWay = -1;
+            long leastRecentAccess = 0;
+            TokenBucket leastRecentlyUsed = null;
+
+            for (int way = 0; way < WAYS; way++) {
+                final TokenBucket bucket = slots.get(base + way);
+                if (bucket == null) {
+                    if (emptyWay < 0) {
+                        emptyWay = way;
+                    }
+                } else if (bucket.key == key) {
+                    bucket.lastAccessNanos = nowNanos;
+                    return bucket;
+                } else if (leastRecentlyUsed == null || bucket.lastAccessNanos - leastRecentAccess < 0) {
+                    leastRecentlyUsedWay = way;
+                    leastRecentAccess = bucket.lastAccessNanos;
+                    leastRecentlyUsed = bucket;
+                }
+            }
+
+            final TokenBucket created = new TokenBucket(key, nowNanos);
+            if (emptyWay >= 0) {
+                if (slots.compareAndSet(base + emptyWay, null, created)) {
+                    occupiedSlots.incrementAndGet();
+                    return created;
+                }
+            } else if (slots.compareAndSet(base + leastRecentlyUsedWay, leastRecentlyUsed, created)) {
+                evictions.incrementAndGet();
+                return created;
+            }
+            // Another thread changed the set. Look again since it may have added this key.
+        }
+    }
+
+    int size() {
+        return occupiedSlots.get();
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Spreads the key bits so that keys which only differ in their high bits map to different sets.
+     */
+    private static long mix(final long key) {
+        long mixed = key;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xff51afd7ed558ccdL;
+        mixed ^= mixed >>> 33;
+        return mixed;
+    }
+
+    private static int nextPowerOfTwo(final int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    class TokenBucket {
+        private final long key;
+        private final AtomicLong theoreticalArrivalNanos;
+        private volatile long lastAccessNanos;
+
+        private TokenBucket(final long key, final long nowNanos) {
+            this.key = key;
+            this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+            this.lastAccessNanos = nowNanos;
+        }
+
+        /**
+         * @return 0 if a token was taken, otherwise the nanoseconds until a token is available
+         */
+        long tryAcquire(final long nowNanos) {
+            while (true) {
+                final long theoreticalArrival = theoreticalArrivalNanos.get();
+                final long start = theoreticalArrival - nowNanos > 0 ? theoreticalArrival : nowNanos;
+                final long waitNanos = start - nowNanos - burstToleranceNanos;
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+                if (theoreticalArrivalNanos.compareAndSet(theoreticalArrival, start + emissionIntervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+
+        long getKey() {
+            return key;
+        }
+    }
+}
@@ -10,6 +10,8 @@
 
 package org.opensearch.dataprepper.plugins.processor.ratelimiter;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
@@ -22,17 +24,34 @@ import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @DataPrepperPlugin(name = "rate_limiter", pluginType = Processor.class, pluginConfigurationType = RateLimiterProcessorConfig.class)
 public class RateLimiterProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+    static final String EVENTS_DROPPED = "eventsDropped";
+    static final String EVENTS_DROPPED_PER_KEY = "eventsDroppedPerKey";
+    static final String TRACKED_KEYS = "trackedKeys";
+    static final String TRACKED_KEYS_CAPACITY = "trackedKeysCapacity";
+    static final String KEYS_EVICTED = "keysEvicted";
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long NULL_VALUE_MARKER = 0x9e3779b97f4a7c15L;
+
     private final int eventsPerSecond;
     private final long counterRetentionSeconds;
     private final RateLimiterMode whenExceeds;
     private final String limitWhen;
     private final ExpressionEvaluator expressionEvaluator;
     private final ConcurrentHashMap<Long, AtomicInteger> emittedPerSecond = new ConcurrentHashMap<>();
+    private final List<String> identificationKeys;
+    private final KeyedTokenBuckets keyedTokenBuckets;
+    private final Counter eventsDroppedCounter;
+    private final DistributionSummary eventsDroppedPerKeySummary;
 
     @DataPrepperPluginConstructor
     public RateLimiterProcessor(final PluginMetrics pluginMetrics,
@@ -44,6 +63,18 @@ public class RateLimiterProcessor extends AbstractProcessor<Record<Event>, Recor
         this.whenExceeds = config.getWhenExceeds();
         this.limitWhen = config.getLimitWhen();
         this.expressionEvaluator = expressionEvaluator;
+        this.identificationKeys = config.getIdentificationKeys();
+        this.eventsDroppedCounter = pluginMetrics.counter(EVENTS_DROPPED);
+        this.eventsDroppedPerKeySummary = pluginMetrics.summary(EVENTS_DROPPED_PER_KEY);
+
+        if (identificationKeys != null && !identificationKeys.isEmpty()) {
+            keyedTokenBuckets = new KeyedTokenBuckets(eventsPerSecond, config.getMaxKeys());
+            pluginMetrics.gauge(TRACKED_KEYS, keyedTokenBuckets, KeyedTokenBuckets::size);
+            pluginMetrics.gauge(TRACKED_KEYS_CAPACITY, keyedTokenBuckets, KeyedTokenBuckets::capacity);
+            pluginMetrics.functionCounter(KEYS_EVICTED, keyedTokenBuckets, KeyedTokenBuckets::getEvictions);
+        } else {
+            keyedTokenBuckets = null;
+        }
 
         if (limitWhen != null && !expressionEvaluator.isValidExpressionStatement(limitWhen)) {
             throw new InvalidPluginConfigurationException(
@@ -53,6 +84,10 @@ public class RateLimiterProcessor extends AbstractProcessor<Record<Event>, Recor
 
     @Override
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
+        if (keyedTokenBuckets != null) {
+            return doExecuteByKey(records);
+        }
+
         final Collection<Record<Event>> output = new ArrayList<>();
 
         for (final Record<Event> record : records) {
@@ -66,6 +101,8 @@ public class RateLimiterProcessor extends AbstractProcessor<Record<Event>, Recor
                 final AtomicInteger count = emittedPerSecond.computeIfAbsent(now, k -> new AtomicInteger(0));
                 if (count.incrementAndGet() <= eventsPerSecond) {
                     output.add(record);
+                } else {
+                    eventsDroppedCounter.increment();
                 }
             } else {
                 waitForCapacity();
@@ -77,6 +114,77 @@ public class RateLimiterProcessor extends AbstractProcessor<Record<Event>, Recor
         return output;
     }
 
+    private Collection<Record<Event>> doExecuteByKey(final Collection<Record<Event>> records) {
+        final Collection<Record<Event>> output = new ArrayList<>(records.size());
+        Map<KeyedTokenBuckets.TokenBucket, int[]> droppedPerKey = null;
+
+        for (final Record<Event> record : records) {
+            if (limitWhen != null && !expressionEvaluator.evaluateConditional(limitWhen, record.getData())) {
+                output.add(record);
+                continue;
+            }
+
+            final KeyedTokenBuckets.TokenBucket tokenBucket =
+                    keyedTokenBuckets.getOrCreate(hashIdentificationKeys(record.getData()), System.nanoTime());
+
+            if (whenExceeds == RateLimiterMode.DROP) {
+                if (tokenBucket.tryAcquire(System.nanoTime()) == 0) {
+                    output.add(record);
+                } else {
+                    eventsDroppedCounter.increment();
+                    if (droppedPerKey == null) {
+                        droppedPerKey = new IdentityHashMap<>();
+                    }
+                    droppedPerKey.computeIfAbsent(tokenBucket, k -> new int[1])[0]++;
+                }
+            } else {
+                waitForCapacity(tokenBucket);
+                output.add(record);
+            }
+        }
+
+        if (droppedPerKey != null) {
+            for (final int[] dropped : droppedPerKey.values()) {
+                eventsDroppedPerKeySummary.record(dropped[0]);
+            }
+        }
+        return output;
+    }
+
+    private void waitForCapacity(final KeyedTokenBuckets.TokenBucket tokenBucket) {
+        long waitNanos;
+        while ((waitNanos = tokenBucket.tryAcquire(System.nanoTime())) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Hashes the values of the identification keys into a 64-bit FNV-1a hash. Keys are only compared by this hash,
+     * so no key objects are retained per tracked value.
+     */
+    long hashIdentificationKeys(final Event event) {
+        long hash = FNV_OFFSET_BASIS;
+        for (final String identificationKey : identificationKeys) {
+            final Object value = event.get(identificationKey, Object.class);
+            if (value == null) {
+                hash = (hash ^ NULL_VALUE_MARKER) * FNV_PRIME;
+            } else {
+                final String stringValue = value.toString();
+                for (int i = 0; i < stringValue.length(); i++) {
+                    hash = (hash ^ stringValue.charAt(i)) * FNV_PRIME;
+                }
+            }
+            // Separates the values so that ("ab", "c") and ("a", "bc") hash differently.
+            hash = (hash ^ 0xffff) * FNV_PRIME;
+        }
+        return hash;
+    }
+
     private void waitForCapacity() {
         while (true) {
             final long now = System.currentTimeMillis() / 1000;
@@ -14,9 +14,11 @@ import com.fasterxml.jackson.annotation.JsonClassDescription;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 import java.time.Duration;
+import java.util.List;
 
 @JsonPropertyOrder
 @JsonClassDescription("The <code>rate_limiter</code> processor controls the number of events processed per second. " +
@@ -44,6 +46,19 @@ public class RateLimiterProcessorConfig {
     @JsonProperty(value = "counter_retention", defaultValue = "PT60S")
     private Duration counterRetention = Duration.ofSeconds(60);
 
+    @JsonPropertyDescription("An unordered list of keys used to group events for rate limiting. " +
+            "When specified, each distinct combination of values for these keys is limited to <code>events_per_second</code> independently, " +
+            "so one noisy tenant or source does not affect the others. " +
+            "If an event does not contain one of the keys, the value of that key is considered to be <code>null</code>.")
+    @JsonProperty("identification_keys")
+    private List<String> identificationKeys;
+
+    @JsonPropertyDescription("The maximum number of distinct <code>identification_keys</code> values to track. " +
+            "When more values are seen, the least recently used values are forgotten. Default is 10000.")
+    @JsonProperty(value = "max_keys", defaultValue = "10000")
+    @Min(1)
+    private int maxKeys = 10000;
+
     public int getEventsPerSecond() {
         return eventsPerSecond;
     }
@@ -59,4 +74,12 @@ public class RateLimiterProcessorConfig {
     public Duration getCounterRetention() {
         return counterRetention;
     }
+
+    public List<String> getIdentificationKeys() {
+        return identificationKeys;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.processor.ratelimiter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeyedTokenBucketsTest {
+    private static final long ONE_SECOND_NANOS = 1_000_000_000L;
+
+    private int eventsPerSecond;
+    private int maximumKeys;
+
+    private KeyedTokenBuckets createObjectUnderTest() {
+        return new KeyedTokenBuckets(eventsPerSecond, maximumKeys);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 400})
+    void tryAcquire_allows_a_burst_of_events_per_second_then_rejects(final int eventsPerSecond) {
+        this.eventsPerSecond = eventsPerSecond;
+        maximumKeys = 10;
+        final KeyedTokenBuckets objectUnderTest = createObjectUnderTest();
+        final long key = new Random().nextLong();
+        final long now = System.nanoTime();
+
+        for (int i = 0; i < eventsPerSecond; i++) {
+            assertThat(objectUnderTest.tryAcquire(key, now), equalTo(0L));
+        }
+
+        final long waitNanos = objectUnderTest.tryAcquire(key, now);
+        assertThat(waitNanos, greaterThan(0L));
+        assertThat(waitNanos, lessThanOrEqualTo(ONE_SECOND_NANOS / eventsPerSecond));
+        assertThat(objectUnderTest.tryAcquire(key, now + waitNanos), equalTo(0L));
+    }
+
+    @Test
+    void tryAcquire_refills_over_time() {
+        eventsPerSecond = 10;
+        maximumKeys = 10;
+        final KeyedTokenBuckets objectUnderTest = createObjectUnderTest();
+        final long now = System.nanoTime();
+
+        for (int i = 0; i < eventsPerSecond; i++) {
+            objectUnderTest.tryAcquire(1L, now);
+        }
+        assertThat(objectUnderTest.tryAcquire(1L, now), greaterThan(0L));
+
+        final long oneSecondLater = now + ONE_SECOND_NANOS;
+        for (int i = 0; i < eventsPerSecond; i++) {
+            assertThat(objectUnderTest.tryAcquire(1L, oneSecondLater), equalTo(0L));
+        }
+        assertThat(objectUnderTest.tryAcquire(1L, oneSecondLater), greaterThan(0L));
+    }
+
+    @Test
+    void tryAcquire_limits_keys_independently() {
+        eventsPerSecond = 5;
+        maximumKeys = 10;
+        final KeyedTokenBuckets objectUnderTest = createObjectUnderTest();
+        final long now = System.nanoTime();
+
+        for (int i = 0; i < eventsPerSecond * 10; i++) {
+            objectUnderTest.tryAcquire(1L, now);
+        }
+
+        for (int i = 0; i < eventsPerSecond; i++) {
+            assertThat(objectUnderTest.tryAcquire(2L, now), equalTo(0L));
+        }
+    }
+
+    @Test
+    void getOrCreate_returns_the_same_bucket_for_a_key() {
+        eventsPerSecond = 5;
+        maximumKeys = 10;
+        final KeyedTokenBuckets objectUnderTest = createObjectUnderTest();
+        final long now = System.nanoTime();
+
+        final KeyedTokenBuckets.TokenBucket bucket = objectUnderTest.getOrCreate(42L, now);
+
+        assertThat(objectUnderTest.getOrCreate(42L, now + 1), sameInstance(bucket));
+        assertThat(bucket.getKey(), equalTo(42L));
+        assertThat(objectUnderTest.size(), equalTo(1));
+    }
+
+    @Test
+    void table_is_bounded_and_evicts_least_recently_used_keys() {
+        eventsPerSecond = 5;
+        maximumKeys = KeyedTokenBuckets.WAYS;
+        final KeyedTokenBuckets objectUnderTest = createObjectUnderTest();
+        final long now = System.nanoTime();
+
+        assertThat(objectUnderTest.capacity(), equalTo(KeyedTokenBuckets.WAYS));
+
+        for (long key = 0; key < KeyedTokenBuckets.WAYS; key++) {
+            objectUnderTest.getOrCreate(key, now + key);
+        }
+        final KeyedTokenBuckets.TokenBucket recentlyUsed = objectUnderTest.getOrCreate(0L, now + 100);
+
+        objectUnderTest.getOrCreate(1000L, now + 200);
+
+        assertThat(objectUnderTest.size(), equalTo(KeyedTokenBuckets.WAYS));
+        assertThat(objectUnderTest.getEvictions(), equalTo(1L));
+        assertThat(objectUnderTest.getOrCreate(0L, now + 300), sameInstance(recentlyUsed));
+    }
+
+    @Test
+    void table_stays_bounded_for_many_keys() {
+        eventsPerSecond = 5;
+        maximumKeys = 100;
+        final KeyedTokenBuckets objectUnderTest = createObjectUnderTest();
+        final long now = System.nanoTime();
+
+        for (long key = 0; key < 10_000; key++) {
+            objectUnderTest.tryAcquire(key, now + key);
+        }
+
+        assertThat(objectUnderTest.size(), lessThanOrEqualTo(objectUnderTest.capacity()));
+        assertThat(objectUnderTest.capacity(), lessThanOrEqualTo(2 * maximumKeys));
+        assertThat(objectUnderTest.getEvictions(), greaterThan(0L));
+    }
+
+    @Test
+    void tryAcquire_from_many_threads_does_not_exceed_the_burst() throws Exception {
+        eventsPerSecond = 1000;
+        maximumKeys = 10;
+        final KeyedTokenBuckets objectUnderTest = createObjectUnderTest();
+        final long now = System.nanoTime();
+        final AtomicInteger acquired = new AtomicInteger();
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < eventsPerSecond; i++) {
+                        if (objectUnderTest.tryAcquire(7L, now) == 0) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(acquired.get(), equalTo(eventsPerSecond));
+    }
+
+    @Test
+    void constructor_throws_for_invalid_arguments() {
+        eventsPerSecond = 0;
+        maximumKeys = 10;
+        assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
+
+        eventsPerSecond = 10;
+        maximumKeys = 0;
+        assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
+    }
+}
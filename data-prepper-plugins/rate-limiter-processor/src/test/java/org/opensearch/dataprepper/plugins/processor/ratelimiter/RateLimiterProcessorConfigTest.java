@@ -26,5 +26,7 @@ class RateLimiterProcessorConfigTest {
         assertThat(config.getWhenExceeds(), equalTo(RateLimiterMode.DROP));
         assertThat(config.getLimitWhen(), nullValue());
         assertThat(config.getCounterRetention(),equalTo(Duration.ofSeconds(60)));
+        assertThat(config.getIdentificationKeys(), nullValue());
+        assertThat(config.getMaxKeys(), equalTo(10000));
     }
 }
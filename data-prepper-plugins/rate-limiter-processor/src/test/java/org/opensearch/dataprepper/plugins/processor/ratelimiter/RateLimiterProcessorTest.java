@@ -91,6 +91,39 @@ class RateLimiterProcessorTest extends BaseDataPrepperPluginStandardTestSuite {
         assertThat(result.size(), equalTo(3));
     }
 
+    @Test
+    void test_identification_keys_limit_each_key_independently(
+            @PluginConfigurationFile("rate_limiter_identification_keys.yaml") final Processor<Record<Event>, Record<Event>> processor,
+            final EventFactory eventFactory) {
+        final List<Record<Event>> records = new ArrayList<>();
+        records.addAll(createEvents(eventFactory, 20, Map.of("message", "test", "tenant", "noisy")));
+        records.addAll(createEvents(eventFactory, 3, Map.of("message", "test", "tenant", "quiet")));
+
+        final Collection<Record<Event>> result = processor.execute(records);
+
+        assertThat(result, notNullValue());
+        assertThat(result.stream().filter(record -> "noisy".equals(record.getData().get("tenant", String.class))).count(),
+                lessThanOrEqualTo(6L));
+        assertThat(result.stream().filter(record -> "quiet".equals(record.getData().get("tenant", String.class))).count(),
+                equalTo(3L));
+    }
+
+    @Test
+    void test_identification_keys_groups_events_missing_the_key(
+            @PluginConfigurationFile("rate_limiter_identification_keys.yaml") final Processor<Record<Event>, Record<Event>> processor,
+            final EventFactory eventFactory) {
+        final List<Record<Event>> records = new ArrayList<>();
+        records.addAll(createEvents(eventFactory, 20));
+        records.addAll(createEvents(eventFactory, 2, Map.of("message", "test", "tenant", "other")));
+
+        final Collection<Record<Event>> result = processor.execute(records);
+
+        assertThat(result, notNullValue());
+        assertThat(result.size(), lessThanOrEqualTo(8));
+        assertThat(result.stream().filter(record -> "other".equals(record.getData().get("tenant", String.class))).count(),
+                equalTo(2L));
+    }
+
     private List<Record<Event>> createEvents(final EventFactory eventFactory, final int count) {
         return createEvents(eventFactory, count, Map.of("message", "test"));
     }
@@ -0,0 +1,185 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.s3.common.source;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * An {@link InputStream} over a byte range which fetches fixed size parts concurrently and returns them in order.
+ * Part buffers are reused once they have been read, so the stream holds at most {@code parallelism + 1} of them.
+ * Instances are not thread-safe.
+ */
+class ParallelRangeInputStream extends InputStream {
+
+    /**
+     * Reads one part of the object.
+     */
+    @FunctionalInterface
+    interface RangeReader {
+        /**
+         * Reads the bytes from {@code start} to {@code endInclusive} into the beginning of {@code buffer}.
+         *
+         * @return the number of bytes read
+         * @throws IOException if the range could not be read
+         */
+        int read(long start, long endInclusive, byte[] buffer) throws IOException;
+    }
+
+    private static final class Part {
+        private final byte[] buffer;
+        private final int length;
+
+        private Part(final byte[] buffer, final int length) {
+            this.buffer = buffer;
+            this.length = length;
+        }
+    }
+
+    private final RangeReader rangeReader;
+    private final long end;
+    private final int parallelism;
+    private final int partSize;
+    private final ExecutorService executorService;
+    private final Deque<Future<Part>> pendingParts = new ArrayDeque<>();
+    private final Deque<byte[]> freeBuffers = new ArrayDeque<>();
+
+    private long nextPartStart;
+    private Part currentPart;
+    private int currentOffset;
+    private boolean closed;
+
+    /**
+     * @param rangeReader reads each part
+     * @param start the first byte to read
+     * @param end the end of the range, exclusive
+     * @param readAheadOptions the parallelism, part size and executor to use
+     */
+    ParallelRangeInputStream(final RangeReader rangeReader, final long start, final long end, final S3ReadAheadOptions readAheadOptions) {
+        this.rangeReader = rangeReader;
+        this.end = end;
+        this.parallelism = readAheadOptions.getParallelism();
+        this.partSize = (int) Math.min(readAheadOptions.getPartSize(), Math.max(end - start, 1));
+        this.executorService = readAheadOptions.getExecutorService();
+        this.nextPartStart = start;
+        requestParts();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensurePart()) {
+            return -1;
+        }
+        return currentPart.buffer[currentOffset++] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensurePart()) {
+            return -1;
+        }
+        final int bytesToCopy = Math.min(len, currentPart.length - currentOffset);
+        System.arraycopy(currentPart.buffer, currentOffset, b, off, bytesToCopy);
+        currentOffset += bytesToCopy;
+        return bytesToCopy;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && ensurePart()) {
+            final int bytesToSkip = (int) Math.min(n - skipped, currentPart.length - currentOffset);
+            currentOffset += bytesToSkip;
+            skipped += bytesToSkip;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return currentPart == null ? 0 : currentPart.length - currentOffset;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (final Future<Part> pendingPart : pendingParts) {
+            pendingPart.cancel(true);
+        }
+        pendingParts.clear();
+        freeBuffers.clear();
+        currentPart = null;
+    }
+
+    /**
+     * @return true if the current part has bytes left to read, waiting for the next part if needed
+     */
+    private boolean ensurePart() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        if (currentPart != null && currentOffset < currentPart.length) {
+            return true;
+        }
+        if (currentPart != null) {
+            freeBuffers.push(currentPart.buffer);
+            currentPart = null;
+        }
+
+        final Future<Part> nextPart = pendingParts.poll();
+        if (nextPart == null) {
+            return false;
+        }
+        currentPart = awaitPart(nextPart);
+        currentOffset = 0;
+        requestParts();
+        return currentPart.length > 0;
+    }
+
+    private void requestParts() {
+        while (pendingParts.size() < parallelism && nextPartStart < end) {
+            final long partStart = nextPartStart;
+            final long partEnd = Math.min(partStart + partSize, end) - 1;
+            final byte[] buffer = freeBuffers.isEmpty() ? new byte[partSize] : freeBuffers.pop();
+            pendingParts.add(executorService.submit(() -> new Part(buffer, rangeReader.read(partStart, partEnd, buffer))));
+            nextPartStart = partEnd + 1;
+        }
+    }
+
+    private Part awaitPart(final Future<Part> part) throws IOException {
+        try {
+            return part.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a part of the S3 object");
+        } catch (final ExecutionException e) {
+            close();
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
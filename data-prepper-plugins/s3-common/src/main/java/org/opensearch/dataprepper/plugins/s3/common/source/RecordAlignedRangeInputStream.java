@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.s3.common.source;
+
+import org.apache.parquet.io.DelegatingSeekableInputStream;
+import org.apache.parquet.io.SeekableInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * Reads the newline-delimited records of an object which start within the byte range {@code [start, end)}.
+ * <p>
+ * A record belongs to the range which contains its first byte. So the stream skips the partial record at the
+ * start of the range, unless the range starts at the beginning of the object or right after a newline, and reads
+ * past the end of the range until the record which started before the end is complete. Adjacent ranges therefore
+ * return every record of the object exactly once.
+ */
+class RecordAlignedRangeInputStream extends DelegatingSeekableInputStream {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final RecordAlignedStream recordAlignedStream;
+
+    /**
+     * @param source a stream over the whole object. It is positioned by this class.
+     * @param start the first byte of the range, inclusive
+     * @param end the end of the range, exclusive
+     */
+    RecordAlignedRangeInputStream(final SeekableInputStream source, final long start, final long end) {
+        this(new RecordAlignedStream(source, start, end));
+    }
+
+    private RecordAlignedRangeInputStream(final RecordAlignedStream recordAlignedStream) {
+        super(recordAlignedStream);
+        this.recordAlignedStream = recordAlignedStream;
+    }
+
+    /**
+     * @return the position in the object of the next byte to read
+     */
+    @Override
+    public long getPos() {
+        return recordAlignedStream.position;
+    }
+
+    @Override
+    public void seek(final long newPos) {
+        throw new UnsupportedOperationException("Seeking is not supported within a byte range of an S3 object");
+    }
+
+    private static class RecordAlignedStream extends InputStream {
+        private final SeekableInputStream source;
+        private final InputStream bufferedSource;
+        private final long start;
+        private final long end;
+        private long position;
+        private boolean aligned;
+        private boolean finished;
+
+        private RecordAlignedStream(final SeekableInputStream source, final long start, final long end) {
+            this.source = source;
+            this.bufferedSource = new BufferedInputStream(source, BUFFER_SIZE);
+            this.start = start;
+            this.end = end;
+            this.position = start;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] singleByte = new byte[1];
+            final int bytesRead = read(singleByte, 0, 1);
+            return bytesRead < 0 ? -1 : singleByte[0] & 0xff;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (!aligned) {
+                alignToFirstRecord();
+            }
+            if (finished) {
+                return -1;
+            }
+            if (len == 0) {
+                return 0;
+            }
+
+            int bytesRead = bufferedSource.read(b, off, len);
+            if (bytesRead < 0) {
+                finished = true;
+                return -1;
+            }
+
+            // Only a newline at or after end - 1 can terminate the last record of this range
+            final long lastByteOfRange = end - 1;
+            final int scanFrom = (int) Math.max(0, Math.min(bytesRead, lastByteOfRange - position));
+            for (int i = scanFrom; i < bytesRead; i++) {
+                if (b[off + i] == '\n') {
+                    bytesRead = i + 1;
+                    finished = true;
+                    break;
+                }
+            }
+            position += bytesRead;
+            return bytesRead;
+        }
+
+        @Override
+        public void close() throws IOException {
+            source.close();
+        }
+
+        private void alignToFirstRecord() throws IOException {
+            aligned = true;
+            if (start == 0) {
+                return;
+            }
+
+            // Start one byte early so that a record starting exactly at start is kept
+            source.seek(start - 1);
+            position = start - 1;
+            int nextByte;
+            do {
+                nextByte = bufferedSource.read();
+                if (nextByte < 0) {
+                    finished = true;
+                    return;
+                }
+                position++;
+            } while (nextByte != '\n');
+
+            if (position >= end) {
+                finished = true;
+            }
+        }
+    }
+}
@@ -33,6 +33,8 @@ public class S3InputFile implements InputFile {
     private final BucketOwnerProvider bucketOwnerProvider;
     private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
 
+    private final S3ReadAheadOptions readAheadOptions;
+
     private HeadObjectResponse metadata;
 
     public S3InputFile(
@@ -40,11 +42,26 @@ public class S3InputFile implements InputFile {
             final S3ObjectReference s3ObjectReference,
             final BucketOwnerProvider bucketOwnerProvider,
             final S3ObjectPluginMetrics s3ObjectPluginMetrics
+    ) {
+        this(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics, null);
+    }
+
+    /**
+     * @param readAheadOptions if not null, streams read the object with concurrent ranged GET requests
+     * @since 2.17
+     */
+    public S3InputFile(
+            final S3Client s3Client,
+            final S3ObjectReference s3ObjectReference,
+            final BucketOwnerProvider bucketOwnerProvider,
+            final S3ObjectPluginMetrics s3ObjectPluginMetrics,
+            final S3ReadAheadOptions readAheadOptions
     ) {
         this.s3Client = s3Client;
         this.s3ObjectReference = s3ObjectReference;
         this.bucketOwnerProvider = bucketOwnerProvider;
         this.s3ObjectPluginMetrics = s3ObjectPluginMetrics;
+        this.readAheadOptions = readAheadOptions;
     }
 
     public S3ObjectReference getObjectReference() {
@@ -71,13 +88,19 @@ public class S3InputFile implements InputFile {
     }
 
     /**
-     * Create an input stream from the input file
+     * Create an input stream from the input file. If the object reference has a byte range, the stream
+     * returns only the newline-delimited records which start within that range.
      * @return an implementation of a SeekableInputStream into the S3 object.
      */
     @Override
     public SeekableInputStream newStream() {
-        return new S3InputStream(
-            s3Client, s3ObjectReference, bucketOwnerProvider, getMetadata(), s3ObjectPluginMetrics, DEFAULT_RETRY_DELAY, DEFAULT_RETRIES);
+        final S3InputStream inputStream = new S3InputStream(
+            s3Client, s3ObjectReference, bucketOwnerProvider, getMetadata(), s3ObjectPluginMetrics, DEFAULT_RETRY_DELAY, DEFAULT_RETRIES,
+            readAheadOptions);
+        if (!s3ObjectReference.hasByteRange()) {
+            return inputStream;
+        }
+        return new RecordAlignedRangeInputStream(inputStream, s3ObjectReference.getRangeStart(), s3ObjectReference.getRangeEnd());
     }
 
     /**
@@ -91,6 +114,7 @@ public class S3InputFile implements InputFile {
                     .key(s3ObjectReference.getKey());
             bucketOwnerProvider.getBucketOwner(s3ObjectReference.getBucketName())
                     .ifPresent(headRequestBuilder::expectedBucketOwner);
+            s3ObjectReference.getETag().ifPresent(headRequestBuilder::ifMatch);
             final HeadObjectRequest request = headRequestBuilder
                     .build();
             metadata = s3Client.headObject(request);
@@ -66,6 +66,8 @@ class S3InputStream extends SeekableInputStream {
 
     private final GetObjectRequest.Builder getObjectRequestBuilder;
 
+    private final S3ReadAheadOptions readAheadOptions;
+
     private InputStream stream;
 
     private final byte[] temp = new byte[COPY_BUFFER_SIZE];
@@ -91,8 +93,25 @@ class S3InputStream extends SeekableInputStream {
             final S3ObjectPluginMetrics s3ObjectPluginMetrics,
             final Duration retryDelay,
             final int retries
+    ) {
+        this(s3Client, s3ObjectReference, bucketOwnerProvider, metadata, s3ObjectPluginMetrics, retryDelay, retries, null);
+    }
+
+    /**
+     * @param readAheadOptions if not null, the object is read with concurrent ranged GET requests
+     */
+    public S3InputStream(
+            final S3Client s3Client,
+            final S3ObjectReference s3ObjectReference,
+            final BucketOwnerProvider bucketOwnerProvider,
+            final HeadObjectResponse metadata,
+            final S3ObjectPluginMetrics s3ObjectPluginMetrics,
+            final Duration retryDelay,
+            final int retries,
+            final S3ReadAheadOptions readAheadOptions
     ) {
         this.s3Client = s3Client;
+        this.readAheadOptions = readAheadOptions;
         this.s3ObjectReference = s3ObjectReference;
         this.metadata = metadata;
         this.s3ObjectPluginMetrics = s3ObjectPluginMetrics;
@@ -104,6 +123,7 @@ class S3InputStream extends SeekableInputStream {
 
         bucketOwnerProvider.getBucketOwner(this.s3ObjectReference.getBucketName())
                 .ifPresent(getObjectRequestBuilder::expectedBucketOwner);
+        this.s3ObjectReference.getETag().ifPresent(getObjectRequestBuilder::ifMatch);
 
         this.retryPolicyReturningByteArray = RetryPolicy.<byte[]>builder()
             .handle(RETRYABLE_EXCEPTIONS)
@@ -500,6 +520,13 @@ class S3InputStream extends SeekableInputStream {
             return;
         }
 
+        if (readAheadOptions != null) {
+            final GetObjectRequest baseRequest = this.getObjectRequestBuilder.build();
+            stream = new ParallelRangeInputStream((start, endInclusive, buffer) -> readRange(baseRequest, start, endInclusive, buffer),
+                    pos, metadata.contentLength(), readAheadOptions);
+            return;
+        }
+
         final GetObjectRequest request = this.getObjectRequestBuilder
                 .range(String.format("bytes=%s-", pos))
                 .build();
@@ -516,6 +543,35 @@ class S3InputStream extends SeekableInputStream {
         }
     }
 
+    /**
+     * Reads one part of the object for {@link ParallelRangeInputStream}. This runs on the read-ahead executor and
+     * retries the whole part on socket errors.
+     */
+    private int readRange(final GetObjectRequest baseRequest, final long start, final long endInclusive, final byte[] buffer) throws IOException {
+        final GetObjectRequest request = baseRequest.toBuilder()
+                .range(String.format("bytes=%s-%s", start, endInclusive))
+                .build();
+        final int length = (int) (endInclusive - start + 1);
+
+        try {
+            return Failsafe.with(retryPolicyReturningInteger).get(() -> {
+                try (final InputStream rangeStream = s3Client.getObject(request, ResponseTransformer.toInputStream())) {
+                    return readFully(rangeStream, buffer, 0, length);
+                }
+            });
+        } catch (final FailsafeException e) {
+            LOG.error("Failed to read range {}-{} of S3 object: s3ObjectReference={}", start, endInclusive, s3ObjectReference);
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (final S3Exception e) {
+            LOG.error("Error reading range {}-{} of S3 object: s3ObjectReference={}", start, endInclusive, s3ObjectReference);
+            recordS3Exception(e);
+            throw new IOException(e.getMessage());
+        }
+    }
+
     /**
      * Close the input stream from the S3 object
      * @throws IOException if the stream cannot be closed.
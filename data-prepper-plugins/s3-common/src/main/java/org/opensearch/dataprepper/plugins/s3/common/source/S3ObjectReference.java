@@ -24,11 +24,18 @@ public class S3ObjectReference {
     @Getter
     private final String key;
     private final String owner;
+    private final Long rangeStart;
+    private final Long rangeEnd;
+    private final String eTag;
 
-    private S3ObjectReference(final String bucketName, final String key, final String owner) {
+    private S3ObjectReference(final String bucketName, final String key, final String owner, final Long rangeStart, final Long rangeEnd,
+                              final String eTag) {
         this.bucketName = bucketName;
         this.key = key;
         this.owner = owner;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.eTag = eTag;
     }
 
     public static Builder bucketAndKey(final String bucketName, final String key) {
@@ -41,8 +48,43 @@ public class S3ObjectReference {
         return Optional.ofNullable(owner);
     }
 
+    /**
+     * @return true if this reference covers only the records starting within a byte range of the object
+     * @since 2.17
+     */
+    public boolean hasByteRange() {
+        return rangeStart != null;
+    }
+
+    /**
+     * @return the first byte of the range, inclusive. Only valid if {@link #hasByteRange()}.
+     * @since 2.17
+     */
+    public long getRangeStart() {
+        return rangeStart;
+    }
+
+    /**
+     * @return the end of the range, exclusive. Only valid if {@link #hasByteRange()}.
+     * @since 2.17
+     */
+    public long getRangeEnd() {
+        return rangeEnd;
+    }
+
+    /**
+     * @return the entity tag which the object must still have when it is read, if the reference is pinned to one
+     * @since 2.17
+     */
+    public Optional<String> getETag() {
+        return Optional.ofNullable(eTag);
+    }
+
     @Override
     public String toString() {
+        if (hasByteRange()) {
+            return "[bucketName=" + bucketName + ", key=" + key + ", range=" + rangeStart + "-" + rangeEnd + "]";
+        }
         return "[bucketName=" + bucketName + ", key=" + key + "]";
     }
 
@@ -54,6 +96,9 @@ public class S3ObjectReference {
         private final String bucketName;
         private final String key;
         private String owner;
+        private Long rangeStart;
+        private Long rangeEnd;
+        private String eTag;
 
         private Builder(final String bucketName, final String key) {
             this.bucketName = bucketName;
@@ -65,8 +110,37 @@ public class S3ObjectReference {
             return this;
         }
 
+        /**
+         * Limits the reference to the newline-delimited records which start within the given byte range.
+         *
+         * @param rangeStart the first byte of the range, inclusive
+         * @param rangeEnd the end of the range, exclusive
+         * @return this builder
+         * @since 2.17
+         */
+        public Builder byteRange(final long rangeStart, final long rangeEnd) {
+            if (rangeStart < 0 || rangeEnd <= rangeStart) {
+                throw new IllegalArgumentException("Invalid byte range " + rangeStart + "-" + rangeEnd);
+            }
+            this.rangeStart = rangeStart;
+            this.rangeEnd = rangeEnd;
+            return this;
+        }
+
+        /**
+         * Pins the reference to a version of the object, so that reading it fails once the object is replaced.
+         *
+         * @param eTag the entity tag of the object
+         * @return this builder
+         * @since 2.17
+         */
+        public Builder eTag(final String eTag) {
+            this.eTag = eTag;
+            return this;
+        }
+
         public S3ObjectReference build() {
-            return new S3ObjectReference(bucketName, key, owner);
+            return new S3ObjectReference(bucketName, key, owner, rangeStart, rangeEnd, eTag);
         }
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.s3.common.source;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Options for reading an S3 object with several concurrent ranged GET requests. Each stream keeps up to
+ * {@code parallelism} parts of {@code partSize} bytes in flight, so a stream buffers at most
+ * {@code (parallelism + 1) * partSize} bytes.
+ *
+ * @since 2.17
+ */
+public class S3ReadAheadOptions {
+    private final int parallelism;
+    private final int partSize;
+    private final ExecutorService executorService;
+
+    /**
+     * @param parallelism the number of parts to request concurrently
+     * @param partSize the size of each ranged GET request in bytes
+     * @param executorService runs the ranged GET requests. It may be shared by many streams.
+     */
+    public S3ReadAheadOptions(final int parallelism, final int partSize, final ExecutorService executorService) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        if (partSize < 1) {
+            throw new IllegalArgumentException("partSize must be at least 1");
+        }
+        this.parallelism = parallelism;
+        this.partSize = partSize;
+        this.executorService = Objects.requireNonNull(executorService, "executorService must be non null");
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getPartSize() {
+        return partSize;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+}
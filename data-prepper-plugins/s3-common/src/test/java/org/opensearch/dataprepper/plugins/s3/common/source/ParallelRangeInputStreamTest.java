@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.s3.common.source;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.net.SocketException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelRangeInputStreamTest {
+
+    private ExecutorService executorService;
+    private byte[] objectBytes;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(4);
+        objectBytes = new byte[10_000];
+        new Random().nextBytes(objectBytes);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private ParallelRangeInputStream createObjectUnderTest(final ParallelRangeInputStream.RangeReader rangeReader,
+                                                           final long start,
+                                                           final int parallelism,
+                                                           final int partSize) {
+        return new ParallelRangeInputStream(rangeReader, start, objectBytes.length,
+                new S3ReadAheadOptions(parallelism, partSize, executorService));
+    }
+
+    private int readFromObject(final long start, final long endInclusive, final byte[] buffer) {
+        final int length = (int) (endInclusive - start + 1);
+        System.arraycopy(objectBytes, (int) start, buffer, 0, length);
+        return length;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 1, 1000", "0, 4, 999", "1234, 3, 512", "9999, 2, 100", "0, 8, 20000"})
+    void read_returns_the_bytes_of_the_range_in_order(final long start, final int parallelism, final int partSize) throws IOException {
+        try (final ParallelRangeInputStream objectUnderTest = createObjectUnderTest(this::readFromObject, start, parallelism, partSize)) {
+            final byte[] actualBytes = objectUnderTest.readAllBytes();
+
+            assertArrayEquals(Arrays.copyOfRange(objectBytes, (int) start, objectBytes.length), actualBytes);
+            assertThat(objectUnderTest.read(), equalTo(-1));
+        }
+    }
+
+    @Test
+    void read_single_bytes_returns_the_bytes_of_the_range() throws IOException {
+        try (final ParallelRangeInputStream objectUnderTest = createObjectUnderTest(this::readFromObject, 0, 3, 7)) {
+            for (final byte expectedByte : objectBytes) {
+                assertThat(objectUnderTest.read(), equalTo(expectedByte & 0xff));
+            }
+            assertThat(objectUnderTest.read(), equalTo(-1));
+        }
+    }
+
+    @Test
+    void read_requests_non_overlapping_parts_and_keeps_at_most_parallelism_in_flight() throws IOException {
+        final List<Long> requestedStarts = new CopyOnWriteArrayList<>();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final ParallelRangeInputStream.RangeReader rangeReader = (start, endInclusive, buffer) -> {
+            requestedStarts.add(start);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(2);
+                return readFromObject(start, endInclusive, buffer);
+            } catch (final InterruptedException e) {
+                throw new IOException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+
+        try (final ParallelRangeInputStream objectUnderTest = createObjectUnderTest(rangeReader, 0, 3, 1000)) {
+            objectUnderTest.readAllBytes();
+        }
+
+        Collections.sort(requestedStarts);
+        assertThat(requestedStarts.size(), equalTo(10));
+        for (int i = 0; i < requestedStarts.size(); i++) {
+            assertThat(requestedStarts.get(i), equalTo(i * 1000L));
+        }
+        assertThat(maxInFlight.get(), lessThanOrEqualTo(3));
+    }
+
+    @Test
+    void skip_moves_forward_across_parts() throws IOException {
+        try (final ParallelRangeInputStream objectUnderTest = createObjectUnderTest(this::readFromObject, 0, 2, 100)) {
+            assertThat(objectUnderTest.skip(250), equalTo(250L));
+            assertThat(objectUnderTest.read(), equalTo(objectBytes[250] & 0xff));
+            assertThat(objectUnderTest.available(), equalTo(49));
+            assertThat(objectUnderTest.skip(20_000), equalTo((long) objectBytes.length - 251));
+        }
+    }
+
+    @Test
+    void read_throws_the_exception_of_a_failed_part() {
+        final ParallelRangeInputStream.RangeReader rangeReader = (start, endInclusive, buffer) -> {
+            if (start >= 2000) {
+                throw new SocketException("connection reset");
+            }
+            return readFromObject(start, endInclusive, buffer);
+        };
+
+        final ParallelRangeInputStream objectUnderTest = createObjectUnderTest(rangeReader, 0, 2, 1000);
+
+        assertThrows(SocketException.class, objectUnderTest::readAllBytes);
+        assertThrows(IOException.class, objectUnderTest::read);
+    }
+
+    @Test
+    void read_after_close_throws() {
+        final ParallelRangeInputStream objectUnderTest = createObjectUnderTest(this::readFromObject, 0, 2, 1000);
+        objectUnderTest.close();
+
+        assertThrows(IOException.class, objectUnderTest::read);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.s3.common.source;
+
+import org.apache.parquet.io.DelegatingSeekableInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RecordAlignedRangeInputStreamTest {
+
+    private static final String CONTENT = "first line\nsecond\n\nfourth line is longer than the others\n5\nlast line without newline";
+
+    private static String readRange(final String content, final long start, final long end) throws IOException {
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        try (final RecordAlignedRangeInputStream objectUnderTest =
+                     new RecordAlignedRangeInputStream(new ByteArraySeekableInputStream(bytes), start, end)) {
+            return new String(objectUnderTest.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 11, 19, 64, 1000})
+    void adjacent_ranges_return_every_record_exactly_once(final int rangeSize) throws IOException {
+        final int contentLength = CONTENT.getBytes(StandardCharsets.UTF_8).length;
+        final StringBuilder combined = new StringBuilder();
+        for (long start = 0; start < contentLength; start += rangeSize) {
+            combined.append(readRange(CONTENT, start, Math.min(start + rangeSize, contentLength)));
+        }
+
+        assertThat(combined.toString(), equalTo(CONTENT));
+    }
+
+    @Test
+    void range_starting_right_after_a_newline_keeps_that_record() throws IOException {
+        assertThat(readRange(CONTENT, 11, 12), equalTo("second\n"));
+    }
+
+    @Test
+    void range_starting_inside_a_record_skips_it() throws IOException {
+        assertThat(readRange(CONTENT, 12, 19), equalTo("\n"));
+    }
+
+    @Test
+    void range_inside_a_single_record_returns_nothing() throws IOException {
+        assertThat(readRange(CONTENT, 25, 40), equalTo(""));
+    }
+
+    @Test
+    void range_reads_past_its_end_to_complete_the_last_record() throws IOException {
+        assertThat(readRange(CONTENT, 0, 1), equalTo("first line\n"));
+    }
+
+    @Test
+    void getPos_returns_position_in_the_object() throws IOException {
+        final byte[] bytes = CONTENT.getBytes(StandardCharsets.UTF_8);
+        try (final RecordAlignedRangeInputStream objectUnderTest =
+                     new RecordAlignedRangeInputStream(new ByteArraySeekableInputStream(bytes), 5, 15)) {
+            objectUnderTest.readAllBytes();
+            assertThat(objectUnderTest.getPos(), equalTo(18L));
+        }
+    }
+
+    @Test
+    void seek_is_not_supported() throws IOException {
+        final byte[] bytes = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+        try (final RecordAlignedRangeInputStream objectUnderTest =
+                     new RecordAlignedRangeInputStream(new ByteArraySeekableInputStream(bytes), 0, 5)) {
+            assertThrows(UnsupportedOperationException.class, () -> objectUnderTest.seek(0));
+        }
+    }
+
+    @Test
+    void read_single_bytes_returns_the_records_of_the_range() throws IOException {
+        final byte[] bytes = CONTENT.getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final RecordAlignedRangeInputStream objectUnderTest =
+                     new RecordAlignedRangeInputStream(new ByteArraySeekableInputStream(bytes), 11, 18)) {
+            int nextByte;
+            while ((nextByte = objectUnderTest.read()) != -1) {
+                outputStream.write(nextByte);
+            }
+        }
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8), equalTo("second\n"));
+    }
+
+    private static class ByteArraySeekableInputStream extends DelegatingSeekableInputStream {
+        private final ByteArrayInputStream byteArrayInputStream;
+        private final int length;
+
+        private ByteArraySeekableInputStream(final byte[] bytes) {
+            this(new ByteArrayInputStream(bytes), bytes.length);
+        }
+
+        private ByteArraySeekableInputStream(final ByteArrayInputStream byteArrayInputStream, final int length) {
+            super(byteArrayInputStream);
+            this.byteArrayInputStream = byteArrayInputStream;
+            this.length = length;
+        }
+
+        @Override
+        public long getPos() {
+            return length - byteArrayInputStream.available();
+        }
+
+        @Override
+        public void seek(final long newPos) {
+            byteArrayInputStream.reset();
+            byteArrayInputStream.skip(newPos);
+        }
+    }
+}
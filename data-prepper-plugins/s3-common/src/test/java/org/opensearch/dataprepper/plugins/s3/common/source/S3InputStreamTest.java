@@ -31,10 +31,18 @@ import software.amazon.awssdk.services.s3.model.S3Exception;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.SocketException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -97,6 +105,25 @@ class S3InputStreamTest {
                 s3Client, s3ObjectReference, bucketOwnerProvider, metadata, s3ObjectPluginMetrics, RETRY_DELAY, RETRIES);
     }
 
+    private S3InputStream createObjectUnderTest(final S3ReadAheadOptions readAheadOptions) {
+        return new S3InputStream(
+                s3Client, s3ObjectReference, bucketOwnerProvider, metadata, s3ObjectPluginMetrics, RETRY_DELAY, RETRIES, readAheadOptions);
+    }
+
+    /**
+     * Serves ranged GET requests from the given bytes, the way S3 does.
+     */
+    private void stubRangedGetObject(final byte[] objectBytes, final Set<String> requestedRanges) {
+        when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class))).thenAnswer(invocation -> {
+            final String range = invocation.getArgument(0, GetObjectRequest.class).range();
+            requestedRanges.add(range);
+            final String[] bounds = range.substring("bytes=".length()).split("-");
+            final int start = Integer.parseInt(bounds[0]);
+            final int end = bounds.length > 1 ? Integer.parseInt(bounds[1]) + 1 : objectBytes.length;
+            return new ByteArrayInputStream(Arrays.copyOfRange(objectBytes, start, Math.min(end, objectBytes.length)));
+        });
+    }
+
     @Test
     void testAvailable() throws IOException {
         InputStream inputStream = new ByteArrayInputStream("Test data".getBytes());
@@ -583,6 +610,80 @@ class S3InputStreamTest {
         verify(s3ObjectsThrottledCounter).increment();
     }
 
+    @Test
+    void readAllBytes_with_read_ahead_reads_the_object_with_ranged_requests() throws IOException {
+        final byte[] objectBytes = new byte[1000];
+        new Random().nextBytes(objectBytes);
+        final Set<String> requestedRanges = ConcurrentHashMap.newKeySet();
+        stubRangedGetObject(objectBytes, requestedRanges);
+        final ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+        try {
+            final S3InputStream s3InputStream = createObjectUnderTest(new S3ReadAheadOptions(3, 128, executorService));
+            s3InputStream.seek(100);
+
+            assertArrayEquals(Arrays.copyOfRange(objectBytes, 100, 1000), s3InputStream.readAllBytes());
+            s3InputStream.close();
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(requestedRanges.size(), equalTo(8));
+        assertThat(requestedRanges.contains("bytes=100-227"), equalTo(true));
+        assertThat(requestedRanges.contains("bytes=996-999"), equalTo(true));
+        verify(s3ObjectSizeProcessedSummary).record(900.0);
+    }
+
+    @Test
+    void read_with_read_ahead_retries_a_part_after_socket_exception() throws IOException {
+        final byte[] objectBytes = new byte[1000];
+        new Random().nextBytes(objectBytes);
+        final AtomicInteger failuresRemaining = new AtomicInteger(1);
+        when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class))).thenAnswer(invocation -> {
+            final String[] bounds = invocation.getArgument(0, GetObjectRequest.class).range().substring("bytes=".length()).split("-");
+            final int start = Integer.parseInt(bounds[0]);
+            if (start == 500 && failuresRemaining.getAndDecrement() > 0) {
+                return new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new SocketException("connection reset");
+                    }
+                };
+            }
+            return new ByteArrayInputStream(Arrays.copyOfRange(objectBytes, start, Integer.parseInt(bounds[1]) + 1));
+        });
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        try {
+            final S3InputStream s3InputStream = createObjectUnderTest(new S3ReadAheadOptions(2, 250, executorService));
+
+            assertArrayEquals(objectBytes, s3InputStream.readAllBytes());
+            s3InputStream.close();
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(failuresRemaining.get(), equalTo(-1));
+    }
+
+    @Test
+    void read_with_read_ahead_records_S3_exceptions() {
+        when(s3Client.getObject(any(GetObjectRequest.class), any(ResponseTransformer.class))).thenThrow(
+                S3Exception.builder()
+                        .statusCode(HttpStatusCode.NOT_FOUND)
+                        .build());
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            final S3InputStream s3InputStream = createObjectUnderTest(new S3ReadAheadOptions(1, 250, executorService));
+            assertThrows(IOException.class, () -> s3InputStream.read());
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        verify(s3ObjectsFailedNotFoundCounter).increment();
+    }
+
     private static Stream<Class<? extends Throwable>> retryableExceptions() {
         return S3InputStream.RETRYABLE_EXCEPTIONS.stream();
     }
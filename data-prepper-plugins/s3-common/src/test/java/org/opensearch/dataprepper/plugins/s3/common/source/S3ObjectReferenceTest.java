@@ -13,6 +13,7 @@ package org.opensearch.dataprepper.plugins.s3.common.source;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.containsString;
@@ -74,4 +75,44 @@ class S3ObjectReferenceTest {
         assertThat(objectUnderTest.toString(), containsString(bucketName));
         assertThat(objectUnderTest.toString(), containsString(key));
     }
+
+    @Test
+    void build_without_byteRange_has_no_byte_range() {
+        final S3ObjectReference objectUnderTest = S3ObjectReference.bucketAndKey(bucketName, key).build();
+
+        assertThat(objectUnderTest.hasByteRange(), equalTo(false));
+        assertThat(objectUnderTest.getETag(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void build_creates_object_with_eTag() {
+        final S3ObjectReference objectUnderTest = S3ObjectReference
+                .bucketAndKey(bucketName, key)
+                .byteRange(100L, 200L)
+                .eTag("\"abc\"")
+                .build();
+
+        assertThat(objectUnderTest.getETag(), equalTo(Optional.of("\"abc\"")));
+    }
+
+    @Test
+    void build_creates_object_with_byte_range() {
+        final S3ObjectReference objectUnderTest = S3ObjectReference
+                .bucketAndKey(bucketName, key)
+                .byteRange(100L, 200L)
+                .build();
+
+        assertThat(objectUnderTest.hasByteRange(), equalTo(true));
+        assertThat(objectUnderTest.getRangeStart(), equalTo(100L));
+        assertThat(objectUnderTest.getRangeEnd(), equalTo(200L));
+        assertThat(objectUnderTest.toString(), containsString("100-200"));
+    }
+
+    @Test
+    void byteRange_throws_with_invalid_range() {
+        final S3ObjectReference.Builder builder = S3ObjectReference.bucketAndKey(bucketName, key);
+
+        assertThrows(IllegalArgumentException.class, () -> builder.byteRange(-1L, 10L));
+        assertThrows(IllegalArgumentException.class, () -> builder.byteRange(10L, 10L));
+    }
 }
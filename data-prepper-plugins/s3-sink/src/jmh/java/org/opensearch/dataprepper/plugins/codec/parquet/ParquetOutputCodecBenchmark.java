@@ -0,0 +1,143 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.PositionOutputStream;
+import org.opensearch.dataprepper.avro.SchemaDefinedAvroEventConverter;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.sink.OutputCodecContext;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.sink.s3.S3OutputCodecContext;
+import org.opensearch.dataprepper.plugins.sink.s3.compression.CompressionOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing events through the {@link ParquetOutputCodec}, which walks the event node tree into the column
+ * writers, against the Avro Parquet writer which the codec used before. Run with the gc profiler to compare the
+ * allocation per Parquet object.
+ */
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParquetOutputCodecBenchmark {
+    private static final int EVENTS_PER_OBJECT = 10_000;
+
+    private static final Schema SCHEMA = SchemaBuilder.record("Event").fields()
+            .name("time").type().nullable().stringType().noDefault()
+            .name("client_ip").type().nullable().stringType().noDefault()
+            .name("status").type().nullable().intType().noDefault()
+            .name("received_bytes").type().nullable().longType().noDefault()
+            .name("latency").type().nullable().doubleType().noDefault()
+            .name("tags").type().nullable().array().items().stringType().noDefault()
+            .name("request").type().nullable().record("Request").fields()
+                .name("method").type().nullable().stringType().noDefault()
+                .name("url").type().nullable().stringType().noDefault()
+                .endRecord().noDefault()
+            .endRecord();
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"event_node_tree", "avro_generic_record"})
+        String writer;
+
+        @Param({"16mb", "128mb"})
+        String rowGroupSize;
+
+        private final List<Event> events = new ArrayList<>(EVENTS_PER_OBJECT);
+        private final S3OutputCodecContext codecContext =
+                new S3OutputCodecContext(new OutputCodecContext(), CompressionOption.SNAPPY);
+
+        @Setup
+        public void setUp() {
+            for (int i = 0; i < EVENTS_PER_OBJECT; i++) {
+                final Map<String, Object> request = new LinkedHashMap<>();
+                request.put("method", "GET");
+                request.put("url", "https://example.com/items/" + i);
+                final Map<String, Object> eventData = new LinkedHashMap<>();
+                eventData.put("time", "2024-01-15T12:00:00." + i + "Z");
+                eventData.put("client_ip", "192.168.0." + (i % 256));
+                eventData.put("status", 200);
+                eventData.put("received_bytes", i * 13L);
+                eventData.put("latency", i / 7.0);
+                eventData.put("tags", List.of("tag-" + (i % 10), "archive"));
+                eventData.put("request", request);
+                events.add(JacksonLog.builder().withData(eventData).build());
+            }
+        }
+    }
+
+    @Benchmark
+    public long writeParquetObject(final BenchmarkState state) throws IOException {
+        final CountingPositionOutputStream outputStream = new CountingPositionOutputStream();
+        if ("event_node_tree".equals(state.writer)) {
+            final ParquetOutputCodecConfig config = new ParquetOutputCodecConfig();
+            config.setSchema(SCHEMA.toString());
+            config.setRowGroupSize(ByteCount.parse(state.rowGroupSize));
+            final ParquetOutputCodec codec = new ParquetOutputCodec(config);
+            codec.start(outputStream, null, state.codecContext);
+            for (final Event event : state.events) {
+                codec.writeEvent(event, outputStream);
+            }
+            codec.complete(outputStream);
+        } else {
+            final SchemaDefinedAvroEventConverter avroEventConverter = new SchemaDefinedAvroEventConverter();
+            try (ParquetWriter<GenericRecord> writer = AvroParquetWriter.<GenericRecord>builder(new S3OutputFile(outputStream))
+                    .withSchema(SCHEMA)
+                    .withCompressionCodec(CompressionCodecName.SNAPPY)
+                    .withRowGroupSize(ByteCount.parse(state.rowGroupSize).getBytes())
+                    .build()) {
+                for (final Event event : state.events) {
+                    writer.write(avroEventConverter.convertEventDataToAvro(SCHEMA, event.toMap(), state.codecContext));
+                }
+            }
+        }
+        return outputStream.getPos();
+    }
+
+    private static class CountingPositionOutputStream extends PositionOutputStream {
+        private long position;
+
+        @Override
+        public long getPos() {
+            return position;
+        }
+
+        @Override
+        public void write(final int b) {
+            position++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            position += len;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.conf.ParquetConfiguration;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.io.OutputFile;
+
+/**
+ * Builds a {@link ParquetWriter} which writes events through an {@link EventWriteSupport}.
+ */
+class EventParquetWriterBuilder extends ParquetWriter.Builder<JsonNode, EventParquetWriterBuilder> {
+    private final EventWriteSupport writeSupport;
+
+    EventParquetWriterBuilder(final OutputFile outputFile, final EventWriteSupport writeSupport) {
+        super(outputFile);
+        this.writeSupport = writeSupport;
+    }
+
+    @Override
+    protected EventParquetWriterBuilder self() {
+        return this;
+    }
+
+    @Override
+    protected WriteSupport<JsonNode> getWriteSupport(final Configuration configuration) {
+        return writeSupport;
+    }
+
+    @Override
+    protected WriteSupport<JsonNode> getWriteSupport(final ParquetConfiguration configuration) {
+        return writeSupport;
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.avro.Schema;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.conf.ParquetConfiguration;
+import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+import org.opensearch.dataprepper.model.sink.OutputCodecContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link WriteSupport} which writes the JSON node tree of an event straight into the Parquet column writers.
+ * <p>
+ * The Avro schema only defines the Parquet schema, which is the same as the one the Avro Parquet writer creates.
+ * The file also carries the Avro schema so that Avro readers read it back with the same types.
+ */
+class EventWriteSupport extends WriteSupport<JsonNode> {
+    static final String AVRO_SCHEMA_METADATA_KEY = "parquet.avro.schema";
+    static final String WRITER_MODEL_METADATA_KEY = "writer.model.name";
+    private static final String AVRO_WRITER_MODEL = "avro";
+
+    private final Schema avroSchema;
+    private final MessageType messageType;
+    private final boolean rejectUnknownKeys;
+    private final OutputCodecContext codecContext;
+    private RecordConsumer recordConsumer;
+
+    /**
+     * @param avroSchema The Avro schema of the records
+     * @param rejectUnknownKeys True to fail on event keys which are not in the schema, as when the schema is generated
+     *                          from the events. False to ignore them, as when the schema is defined by the user.
+     * @param codecContext The codec context, which excludes keys at the root of the event
+     */
+    EventWriteSupport(final Schema avroSchema, final boolean rejectUnknownKeys, final OutputCodecContext codecContext) {
+        validateSchema(avroSchema, new HashSet<>());
+        this.avroSchema = avroSchema;
+        this.messageType = new AvroSchemaConverter(new PlainParquetConfiguration()).convert(avroSchema);
+        this.rejectUnknownKeys = rejectUnknownKeys;
+        this.codecContext = codecContext;
+    }
+
+    MessageType getMessageType() {
+        return messageType;
+    }
+
+    @Override
+    public String getName() {
+        return AVRO_WRITER_MODEL;
+    }
+
+    @Override
+    public WriteContext init(final Configuration configuration) {
+        return createWriteContext();
+    }
+
+    @Override
+    public WriteContext init(final ParquetConfiguration configuration) {
+        return createWriteContext();
+    }
+
+    private WriteContext createWriteContext() {
+        final Map<String, String> extraMetadata = new HashMap<>();
+        extraMetadata.put(AVRO_SCHEMA_METADATA_KEY, avroSchema.toString());
+        extraMetadata.put(WRITER_MODEL_METADATA_KEY, AVRO_WRITER_MODEL);
+        return new WriteContext(messageType, extraMetadata);
+    }
+
+    @Override
+    public void prepareForWrite(final RecordConsumer recordConsumer) {
+        this.recordConsumer = recordConsumer;
+    }
+
+    @Override
+    public void write(final JsonNode eventNode) {
+        recordConsumer.startMessage();
+        writeFields(messageType, eventNode, true);
+        recordConsumer.endMessage();
+    }
+
+    private void writeFields(final GroupType groupType, final JsonNode objectNode, final boolean rootOfData) {
+        if (rejectUnknownKeys) {
+            final Iterator<String> keys = objectNode.fieldNames();
+            while (keys.hasNext()) {
+                final String key = keys.next();
+                if (rootOfData && codecContext != null && codecContext.shouldNotIncludeKey(key)) {
+                    continue;
+                }
+                if (!groupType.containsField(key)) {
+                    throw new RuntimeException("The event has a key ('" + key + "') which is not included in the schema.");
+                }
+            }
+        }
+
+        for (int index = 0; index < groupType.getFieldCount(); index++) {
+            final Type fieldType = groupType.getType(index);
+            final String fieldName = fieldType.getName();
+            final JsonNode value = objectNode.get(fieldName);
+            if (value == null || value.isNull()) {
+                if (fieldType.isRepetition(Type.Repetition.REQUIRED)) {
+                    throw new RuntimeException("Null-value for required field: " + fieldName);
+                }
+                continue;
+            }
+            recordConsumer.startField(fieldName, index);
+            writeValue(fieldType, value);
+            recordConsumer.endField(fieldName, index);
+        }
+    }
+
+    private void writeValue(final Type type, final JsonNode value) {
+        if (type.isPrimitive()) {
+            writePrimitive(type.asPrimitiveType(), value);
+            return;
+        }
+
+        final GroupType groupType = type.asGroupType();
+        final LogicalTypeAnnotation logicalType = groupType.getLogicalTypeAnnotation();
+        if (logicalType instanceof LogicalTypeAnnotation.ListLogicalTypeAnnotation) {
+            writeList(groupType, requireType(value.isArray(), groupType, value));
+        } else if (logicalType instanceof LogicalTypeAnnotation.MapLogicalTypeAnnotation) {
+            writeMap(groupType, requireType(value.isObject(), groupType, value));
+        } else {
+            recordConsumer.startGroup();
+            writeFields(groupType, requireType(value.isObject(), groupType, value), false);
+            recordConsumer.endGroup();
+        }
+    }
+
+    /**
+     * Writes the two-level list structure which the Avro schema converter creates by default.
+     */
+    private void writeList(final GroupType listType, final JsonNode arrayNode) {
+        recordConsumer.startGroup();
+        if (arrayNode.size() > 0) {
+            final Type elementType = listType.getType(0);
+            recordConsumer.startField(elementType.getName(), 0);
+            for (final JsonNode element : arrayNode) {
+                if (element.isNull()) {
+                    throw new RuntimeException("Array contains a null element at field: " + listType.getName());
+                }
+                writeValue(elementType, element);
+            }
+            recordConsumer.endField(elementType.getName(), 0);
+        }
+        recordConsumer.endGroup();
+    }
+
+    private void writeMap(final GroupType mapType, final JsonNode objectNode) {
+        recordConsumer.startGroup();
+        if (objectNode.size() > 0) {
+            final GroupType keyValueType = mapType.getType(0).asGroupType();
+            final Type valueType = keyValueType.getType(1);
+            recordConsumer.startField(keyValueType.getName(), 0);
+            final Iterator<Map.Entry<String, JsonNode>> entries = objectNode.fields();
+            while (entries.hasNext()) {
+                final Map.Entry<String, JsonNode> entry = entries.next();
+                recordConsumer.startGroup();
+                recordConsumer.startField(keyValueType.getType(0).getName(), 0);
+                recordConsumer.addBinary(Binary.fromString(entry.getKey()));
+                recordConsumer.endField(keyValueType.getType(0).getName(), 0);
+                if (entry.getValue() != null && !entry.getValue().isNull()) {
+                    recordConsumer.startField(valueType.getName(), 1);
+                    writeValue(valueType, entry.getValue());
+                    recordConsumer.endField(valueType.getName(), 1);
+                } else if (valueType.isRepetition(Type.Repetition.REQUIRED)) {
+                    throw new RuntimeException("Null-value for required map value: " + mapType.getName());
+                }
+                recordConsumer.endGroup();
+            }
+            recordConsumer.endField(keyValueType.getName(), 0);
+        }
+        recordConsumer.endGroup();
+    }
+
+    private void writePrimitive(final PrimitiveType primitiveType, final JsonNode value) {
+        switch (primitiveType.getPrimitiveTypeName()) {
+            case BOOLEAN:
+                recordConsumer.addBoolean(requireType(value.isBoolean(), primitiveType, value).booleanValue());
+                break;
+            case INT32:
+                recordConsumer.addInteger(requireType(value.isNumber(), primitiveType, value).intValue());
+                break;
+            case INT64:
+                recordConsumer.addLong(requireType(value.isNumber(), primitiveType, value).longValue());
+                break;
+            case FLOAT:
+                recordConsumer.addFloat(requireType(value.isNumber(), primitiveType, value).floatValue());
+                break;
+            case DOUBLE:
+                recordConsumer.addDouble(requireType(value.isNumber(), primitiveType, value).doubleValue());
+                break;
+            case BINARY:
+                if (isStringType(primitiveType.getLogicalTypeAnnotation())) {
+                    recordConsumer.addBinary(Binary.fromString(value.isContainerNode() ? value.toString() : value.asText()));
+                } else {
+                    recordConsumer.addBinary(Binary.fromConstantByteArray(bytesValue(primitiveType, value)));
+                }
+                break;
+            case FIXED_LEN_BYTE_ARRAY:
+                recordConsumer.addBinary(Binary.fromConstantByteArray(bytesValue(primitiveType, value)));
+                break;
+            default:
+                throw new RuntimeException("The Parquet type " + primitiveType + " is not supported.");
+        }
+    }
+
+    private static boolean isStringType(final LogicalTypeAnnotation logicalType) {
+        return logicalType instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation
+                || logicalType instanceof LogicalTypeAnnotation.EnumLogicalTypeAnnotation
+                || logicalType instanceof LogicalTypeAnnotation.JsonLogicalTypeAnnotation;
+    }
+
+    /**
+     * Decimals are written from numbers as their unscaled value. Other bytes are written from binary nodes, or from
+     * base64 text.
+     */
+    private static byte[] bytesValue(final PrimitiveType primitiveType, final JsonNode value) {
+        final LogicalTypeAnnotation logicalType = primitiveType.getLogicalTypeAnnotation();
+        if (logicalType instanceof LogicalTypeAnnotation.DecimalLogicalTypeAnnotation && value.isNumber()) {
+            final int scale = ((LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) logicalType).getScale();
+            final byte[] unscaledBytes = value.decimalValue().setScale(scale, RoundingMode.HALF_UP).unscaledValue().toByteArray();
+            if (primitiveType.getPrimitiveTypeName() != PrimitiveType.PrimitiveTypeName.FIXED_LEN_BYTE_ARRAY
+                    || unscaledBytes.length == primitiveType.getTypeLength()) {
+                return unscaledBytes;
+            }
+            final byte[] fixedBytes = new byte[primitiveType.getTypeLength()];
+            Arrays.fill(fixedBytes, 0, fixedBytes.length - unscaledBytes.length, unscaledBytes[0] < 0 ? (byte) -1 : 0);
+            System.arraycopy(unscaledBytes, 0, fixedBytes, fixedBytes.length - unscaledBytes.length, unscaledBytes.length);
+            return fixedBytes;
+        }
+        return binaryValue(value);
+    }
+
+    private static byte[] binaryValue(final JsonNode value) {
+        try {
+            return value.binaryValue();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonNode requireType(final boolean matches, final Type type, final JsonNode value) {
+        if (!matches) {
+            throw new RuntimeException("The value for field '" + type.getName() + "' is a " + value.getNodeType() +
+                    ", which cannot be written as " + type);
+        }
+        return value;
+    }
+
+    /**
+     * The Avro schema converter writes unions of more than one non-null type as groups of members, which events
+     * cannot be written into without Avro.
+     */
+    private static void validateSchema(final Schema schema, final Set<String> visitedRecords) {
+        switch (schema.getType()) {
+            case RECORD:
+                if (visitedRecords.add(schema.getFullName())) {
+                    for (final Schema.Field field : schema.getFields()) {
+                        validateSchema(field.schema(), visitedRecords);
+                    }
+                }
+                break;
+            case ARRAY:
+                validateSchema(schema.getElementType(), visitedRecords);
+                break;
+            case MAP:
+                validateSchema(schema.getValueType(), visitedRecords);
+                break;
+            case UNION:
+                int nonNullTypes = 0;
+                for (final Schema unionSchema : schema.getTypes()) {
+                    if (unionSchema.getType() != Schema.Type.NULL) {
+                        nonNullTypes++;
+                        validateSchema(unionSchema, visitedRecords);
+                    }
+                }
+                if (nonNullTypes > 1) {
+                    throw new RuntimeException("The Parquet codec does not support unions of more than one non-null type: " + schema);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+}
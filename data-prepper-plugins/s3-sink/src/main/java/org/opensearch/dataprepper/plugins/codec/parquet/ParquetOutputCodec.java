@@ -4,17 +4,13 @@
  */
 package org.opensearch.dataprepper.plugins.codec.parquet;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.avro.Schema;
-import org.apache.avro.generic.GenericRecord;
-import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.io.OutputFile;
 import org.apache.parquet.io.PositionOutputStream;
 import org.opensearch.dataprepper.avro.AvroAutoSchemaGenerator;
-import org.opensearch.dataprepper.avro.AvroEventConverter;
-import org.opensearch.dataprepper.avro.EventDefinedAvroEventConverter;
-import org.opensearch.dataprepper.avro.SchemaDefinedAvroEventConverter;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
@@ -30,14 +26,26 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+/**
+ * An implementation of {@link OutputCodec} which writes events into Parquet files.
+ * <p>
+ * Events are written from their JSON node tree straight into the Parquet column writers, without building
+ * Avro records. The Avro schema, defined by the user or generated from the first event, defines the
+ * Parquet schema.
+ */
 @DataPrepperPlugin(name = "parquet", pluginType = OutputCodec.class, pluginConfigurationType = ParquetOutputCodecConfig.class)
 public class ParquetOutputCodec implements OutputCodec, BufferedCodec {
     private static final String PARQUET = "parquet";
+    /**
+     * The most records written between two checks of the buffered row group size. Parquet otherwise waits up to
+     * 10,000 records, which can take a row group well past its size.
+     */
+    static final int MAXIMUM_RECORDS_BETWEEN_SIZE_CHECKS = 1000;
     private final ParquetOutputCodecConfig config;
     private static Schema schema;
-    private final AvroEventConverter avroEventConverter;
+    private final boolean isSchemaDefinedByUser;
     private final AvroAutoSchemaGenerator avroAutoSchemaGenerator;
-    private ParquetWriter<GenericRecord> writer;
+    private ParquetWriter<JsonNode> writer;
     private OutputCodecContext codecContext;
     private boolean isClosed = false;
 
@@ -51,9 +59,9 @@ public class ParquetOutputCodec implements OutputCodec, BufferedCodec {
 
         if (config.getSchema() != null) {
             schema = parseSchema(config.getSchema());
-            avroEventConverter = new SchemaDefinedAvroEventConverter();
+            isSchemaDefinedByUser = true;
         } else {
-            avroEventConverter = new EventDefinedAvroEventConverter();
+            isSchemaDefinedByUser = false;
         }
     }
 
@@ -94,9 +102,11 @@ public class ParquetOutputCodec implements OutputCodec, BufferedCodec {
     }
 
     private void buildWriter(OutputFile outputFile, CompressionCodecName compressionCodecName) throws IOException {
-        writer = AvroParquetWriter.<GenericRecord>builder(outputFile)
-                .withSchema(schema)
+        final EventWriteSupport writeSupport = new EventWriteSupport(schema, !isSchemaDefinedByUser, codecContext);
+        writer = new EventParquetWriterBuilder(outputFile, writeSupport)
                 .withCompressionCodec(compressionCodecName)
+                .withRowGroupSize(config.getRowGroupSize().getBytes())
+                .withMaxRowCountForPageSizeCheck(MAXIMUM_RECORDS_BETWEEN_SIZE_CHECKS)
                 .build();
         isClosed = false;
     }
@@ -109,8 +119,7 @@ public class ParquetOutputCodec implements OutputCodec, BufferedCodec {
         } else {
             modifiedEvent = event;
         }
-        GenericRecord parquetRecord = avroEventConverter.convertEventDataToAvro(schema, modifiedEvent.toMap(), codecContext);
-        writer.write(parquetRecord);
+        writer.write(modifiedEvent.getJsonNode());
     }
 
     @Override
@@ -6,14 +6,24 @@ package org.opensearch.dataprepper.plugins.codec.parquet;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.AssertTrue;
+import org.opensearch.dataprepper.model.types.ByteCount;
 
 public class ParquetOutputCodecConfig {
+    static final String DEFAULT_ROW_GROUP_SIZE = "128mb";
+
     @JsonProperty("schema")
     private String schema;
 
     @JsonProperty("auto_schema")
     private boolean autoSchema;
 
+    /**
+     * The most memory which a row group may buffer before it is written out. This bounds the heap each
+     * open Parquet object uses.
+     */
+    @JsonProperty("row_group_size")
+    private ByteCount rowGroupSize = ByteCount.parse(DEFAULT_ROW_GROUP_SIZE);
+
     @AssertTrue(message = "The Parquet codec requires either defining a schema or setting auto_schema to true to automatically generate a schema.")
     boolean isSchemaOrAutoSchemaDefined() {
         return schema != null ^ autoSchema;
@@ -34,5 +44,13 @@ public class ParquetOutputCodecConfig {
     void setAutoSchema(final boolean autoSchema) {
         this.autoSchema = autoSchema;
     }
+
+    public ByteCount getRowGroupSize() {
+        return rowGroupSize;
+    }
+
+    void setRowGroupSize(final ByteCount rowGroupSize) {
+        this.rowGroupSize = rowGroupSize;
+    }
 }
 
@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.sink.OutputCodecContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventWriteSupportTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Schema SCHEMA = SchemaBuilder.record("Event").fields()
+            .name("name").type().stringType().noDefault()
+            .name("count").type().nullable().intType().noDefault()
+            .name("tags").type().array().items().stringType().noDefault()
+            .name("nested").type().record("Nested").fields()
+                .name("flag").type().booleanType().noDefault()
+                .endRecord().noDefault()
+            .endRecord();
+
+    @Mock
+    private RecordConsumer recordConsumer;
+
+    @Mock
+    private OutputCodecContext codecContext;
+
+    private EventWriteSupport createObjectUnderTest(final boolean rejectUnknownKeys) {
+        final EventWriteSupport objectUnderTest = new EventWriteSupport(SCHEMA, rejectUnknownKeys, codecContext);
+        objectUnderTest.prepareForWrite(recordConsumer);
+        return objectUnderTest;
+    }
+
+    @Test
+    void init_returns_the_parquet_schema_of_the_avro_parquet_writer_and_the_avro_schema() {
+        final WriteSupport.WriteContext writeContext = createObjectUnderTest(false).init(new PlainParquetConfiguration());
+
+        assertThat(writeContext.getSchema(), equalTo(new AvroSchemaConverter(new PlainParquetConfiguration()).convert(SCHEMA)));
+        assertThat(writeContext.getExtraMetaData(), equalTo(Map.of(
+                EventWriteSupport.AVRO_SCHEMA_METADATA_KEY, SCHEMA.toString(),
+                EventWriteSupport.WRITER_MODEL_METADATA_KEY, "avro")));
+    }
+
+    @Test
+    void write_writes_the_event_fields_in_schema_order() {
+        final EventWriteSupport objectUnderTest = createObjectUnderTest(false);
+
+        objectUnderTest.write(OBJECT_MAPPER.valueToTree(Map.of(
+                "nested", Map.of("flag", true),
+                "tags", List.of("a", "b"),
+                "name", "my-name",
+                "unknown", "ignored")));
+
+        final InOrder inOrder = inOrder(recordConsumer);
+        inOrder.verify(recordConsumer).startMessage();
+        inOrder.verify(recordConsumer).startField("name", 0);
+        inOrder.verify(recordConsumer).addBinary(Binary.fromString("my-name"));
+        inOrder.verify(recordConsumer).endField("name", 0);
+        inOrder.verify(recordConsumer).startField("tags", 2);
+        inOrder.verify(recordConsumer).startGroup();
+        inOrder.verify(recordConsumer).startField("array", 0);
+        inOrder.verify(recordConsumer).addBinary(Binary.fromString("a"));
+        inOrder.verify(recordConsumer).addBinary(Binary.fromString("b"));
+        inOrder.verify(recordConsumer).endField("array", 0);
+        inOrder.verify(recordConsumer).endGroup();
+        inOrder.verify(recordConsumer).endField("tags", 2);
+        inOrder.verify(recordConsumer).startField("nested", 3);
+        inOrder.verify(recordConsumer).startGroup();
+        inOrder.verify(recordConsumer).startField("flag", 0);
+        inOrder.verify(recordConsumer).addBoolean(true);
+        inOrder.verify(recordConsumer).endField("flag", 0);
+        inOrder.verify(recordConsumer).endGroup();
+        inOrder.verify(recordConsumer).endField("nested", 3);
+        inOrder.verify(recordConsumer).endMessage();
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void write_throws_when_a_required_field_is_missing() {
+        final EventWriteSupport objectUnderTest = createObjectUnderTest(false);
+
+        final RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> objectUnderTest.write(OBJECT_MAPPER.valueToTree(Map.of("name", "my-name"))));
+
+        assertThat(exception.getMessage(), containsString("tags"));
+    }
+
+    @Test
+    void write_throws_when_a_value_has_the_wrong_type() {
+        final EventWriteSupport objectUnderTest = createObjectUnderTest(false);
+
+        final RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> objectUnderTest.write(OBJECT_MAPPER.valueToTree(Map.of("name", "my-name", "count", "not-a-number"))));
+
+        assertThat(exception.getMessage(), containsString("count"));
+    }
+
+    @Test
+    void write_throws_for_unknown_keys_when_rejecting_unknown_keys() {
+        final EventWriteSupport objectUnderTest = createObjectUnderTest(true);
+
+        final RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> objectUnderTest.write(OBJECT_MAPPER.valueToTree(Map.of("unknown", "value"))));
+
+        assertThat(exception.getMessage(), containsString("unknown"));
+    }
+
+    @Test
+    void write_skips_excluded_keys_when_rejecting_unknown_keys() {
+        when(codecContext.shouldNotIncludeKey(anyString())).thenAnswer(invocation -> "excluded".equals(invocation.getArgument(0)));
+        final EventWriteSupport objectUnderTest = createObjectUnderTest(true);
+
+        objectUnderTest.write(OBJECT_MAPPER.valueToTree(Map.of(
+                "name", "my-name",
+                "tags", List.of(),
+                "nested", Map.of("flag", false),
+                "excluded", "value")));
+
+        final InOrder inOrder = inOrder(recordConsumer);
+        inOrder.verify(recordConsumer).startMessage();
+        inOrder.verify(recordConsumer).endMessage();
+    }
+
+    @Test
+    void constructor_throws_for_unions_of_more_than_one_type() {
+        final Schema schema = SchemaBuilder.record("Event").fields()
+                .name("value").type().unionOf().stringType().and().intType().endUnion().noDefault()
+                .endRecord();
+
+        assertThrows(RuntimeException.class, () -> new EventWriteSupport(schema, false, codecContext));
+    }
+}
@@ -1,6 +1,7 @@
 package org.opensearch.dataprepper.plugins.codec.parquet;
 
 import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.types.ByteCount;
 
 import java.util.UUID;
 
@@ -13,6 +14,11 @@ class ParquetOutputCodecConfigTest {
         return new ParquetOutputCodecConfig();
     }
 
+    @Test
+    void getRowGroupSize_returns_default_row_group_size() {
+        assertThat(createObjectUnderTest().getRowGroupSize(), equalTo(ByteCount.parse(ParquetOutputCodecConfig.DEFAULT_ROW_GROUP_SIZE)));
+    }
+
     @Test
     void isSchemaOrAutoSchemaDefined_returns_true_if_schema_defined() {
         ParquetOutputCodecConfig objectUnderTest = createObjectUnderTest();
@@ -4,11 +4,16 @@
  */
 package org.opensearch.dataprepper.plugins.codec.parquet;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
 import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.example.data.Group;
 import org.apache.parquet.schema.GroupType;
@@ -36,7 +41,9 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.sink.OutputCodecContext;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.fs.LocalFilePositionOutputStream;
+import org.opensearch.dataprepper.plugins.fs.LocalInputFile;
 import org.opensearch.dataprepper.plugins.sink.s3.S3OutputCodecContext;
 import org.opensearch.dataprepper.plugins.sink.s3.compression.CompressionOption;
 import org.slf4j.Logger;
@@ -63,7 +70,9 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -75,6 +84,7 @@ import static org.mockito.Mockito.withSettings;
 public class ParquetOutputCodecTest {
     private static final Logger LOG = LoggerFactory.getLogger(ParquetOutputCodecTest.class);
     private static final String FILE_NAME = "parquet-data.parquet";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private ParquetOutputCodecConfig config;
     @Mock
     private S3OutputCodecContext codecContext;
@@ -204,7 +214,7 @@ public class ParquetOutputCodecTest {
                 .stream()
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
         mapWithInvalid.put(invalidFieldName, UUID.randomUUID().toString());
-        when(eventWithInvalidField.toMap()).thenReturn(mapWithInvalid);
+        when(eventWithInvalidField.getJsonNode()).thenReturn(OBJECT_MAPPER.valueToTree(mapWithInvalid));
         final ParquetOutputCodec objectUnderTest = createObjectUnderTest();
 
         final File tempFile = new File(tempDirectory, FILE_NAME);
@@ -230,7 +240,7 @@ public class ParquetOutputCodecTest {
         when(codecContext.getCompressionOption()).thenReturn(CompressionOption.NONE);
         final Event eventWithInvalidField = mock(Event.class);
         final String invalidFieldName = UUID.randomUUID().toString();
-        when(eventWithInvalidField.toMap()).thenReturn(Collections.singletonMap(invalidFieldName, UUID.randomUUID().toString()));
+        when(eventWithInvalidField.getJsonNode()).thenReturn(OBJECT_MAPPER.valueToTree(Collections.singletonMap(invalidFieldName, UUID.randomUUID().toString())));
         final ParquetOutputCodec objectUnderTest = createObjectUnderTest();
 
         final File tempFile = new File(tempDirectory, FILE_NAME);
@@ -243,6 +253,63 @@ public class ParquetOutputCodecTest {
         assertThat(actualException.getMessage(), containsString(invalidFieldName));
     }
 
+    @Test
+    void writeEvent_writes_a_file_which_avro_readers_read_with_the_schema() throws IOException {
+        final Schema schema = SchemaBuilder.record("Event").fields()
+                .name("name").type().stringType().noDefault()
+                .name("optional").type().nullable().longType().noDefault()
+                .name("labels").type().map().values().stringType().noDefault()
+                .name("values").type().array().items().doubleType().noDefault()
+                .endRecord();
+        config.setSchema(schema.toString());
+        when(codecContext.getCompressionOption()).thenReturn(CompressionOption.SNAPPY);
+        final ParquetOutputCodec objectUnderTest = createObjectUnderTest();
+        final File tempFile = new File(tempDirectory, FILE_NAME);
+        final LocalFilePositionOutputStream outputStream = LocalFilePositionOutputStream.create(tempFile);
+        objectUnderTest.start(outputStream, null, codecContext);
+
+        final Map<String, Object> eventData = new HashMap<>();
+        eventData.put("name", "a name");
+        eventData.put("labels", Map.of("key", "value"));
+        eventData.put("values", List.of(1.5, 2.5));
+        objectUnderTest.writeEvent(createEventRecord(eventData), outputStream);
+        objectUnderTest.complete(outputStream);
+
+        try (ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(new LocalInputFile(tempFile), new PlainParquetConfiguration()).build()) {
+            final GenericRecord record = reader.read();
+            assertThat(record.getSchema(), equalTo(schema));
+            assertThat(record.get("name").toString(), equalTo("a name"));
+            assertThat(record.get("optional"), nullValue());
+            assertThat(((Map<?, ?>) record.get("labels")).size(), equalTo(1));
+            assertThat(record.get("values"), equalTo(List.of(1.5, 2.5)));
+            assertThat(reader.read(), nullValue());
+        }
+    }
+
+    @Test
+    void writeEvent_flushes_row_groups_at_the_row_group_size() throws Exception {
+        config.setSchema(createStandardSchema().toString());
+        config.setRowGroupSize(ByteCount.parse("16kb"));
+        when(codecContext.getCompressionOption()).thenReturn(CompressionOption.NONE);
+        final ParquetOutputCodec objectUnderTest = createObjectUnderTest();
+        final File tempFile = new File(tempDirectory, FILE_NAME);
+        final LocalFilePositionOutputStream outputStream = LocalFilePositionOutputStream.create(tempFile);
+        objectUnderTest.start(outputStream, null, codecContext);
+
+        final List<Map<String, Object>> inputMaps = generateRecords(5000);
+        for (final Map<String, Object> inputMap : inputMaps) {
+            objectUnderTest.writeEvent(createEventRecord(inputMap), outputStream);
+        }
+        objectUnderTest.complete(outputStream);
+
+        try (ParquetFileReader parquetFileReader = new ParquetFileReader(HadoopInputFile.fromPath(new Path(tempFile.toURI()), new Configuration()), ParquetReadOptions.builder().build())) {
+            assertThat(parquetFileReader.getRowGroups().size(), greaterThan(1));
+            assertThat(parquetFileReader.getRecordCount(), equalTo(5000L));
+        }
+        final List<Map<String, Object>> actualRecords = createParquetRecordsList(new FileInputStream(tempFile));
+        assertThat(actualRecords, equalTo(inputMaps));
+    }
+
     @Test
     void exception_in_start_should_not_cause_null_pointer_exception_when_complete() throws IOException {
         final ParquetOutputCodec objectUnderTest = createObjectUnderTest();
@@ -12,6 +12,7 @@ import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 import org.opensearch.dataprepper.plugins.s3.common.ownership.BucketOwnerProvider;
 import org.opensearch.dataprepper.plugins.s3.common.source.S3ObjectPluginMetrics;
 import org.opensearch.dataprepper.plugins.s3.common.source.S3ObjectReference;
+import org.opensearch.dataprepper.plugins.s3.common.source.S3ReadAheadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectCSVOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectJsonOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectSerializationFormatOption;
@@ -40,7 +41,7 @@ public class S3ObjectRequest {
     private final S3SelectCSVOption s3SelectCSVOption;
     private final S3SelectJsonOption s3SelectJsonOption;
     private final String expressionType;
-
+    private final S3ReadAheadOptions readAheadOptions;
 
     private S3ObjectRequest(Builder builder) {
         this.buffer = builder.buffer;
@@ -61,6 +62,7 @@ public class S3ObjectRequest {
         this.s3SelectCSVOption = builder.s3SelectCSVOption;
         this.s3SelectJsonOption = builder.s3SelectJsonOption;
         this.expressionType = builder.expressionType;
+        this.readAheadOptions = builder.readAheadOptions;
     }
 
     public Buffer<Record<Event>> getBuffer() {
@@ -131,6 +133,10 @@ public class S3ObjectRequest {
         return expressionType;
     }
 
+    public S3ReadAheadOptions getReadAheadOptions() {
+        return readAheadOptions;
+    }
+
     public static class Builder {
         private final Buffer<Record<Event>> buffer;
         private final int numberOfRecordsToAccumulate;
@@ -149,6 +155,7 @@ public class S3ObjectRequest {
         private S3SelectCSVOption s3SelectCSVOption;
         private S3SelectJsonOption s3SelectJsonOption;
         private String expressionType;
+        private S3ReadAheadOptions readAheadOptions;
 
         public Builder(final Buffer<Record<Event>> buffer,
                        final int numberOfRecordsToAccumulate,
@@ -228,5 +235,10 @@ public class S3ObjectRequest {
             return this;
         }
 
+        public Builder readAheadOptions(S3ReadAheadOptions readAheadOptions) {
+            this.readAheadOptions = readAheadOptions;
+            return this;
+        }
+
     }
 }
\ No newline at end of file
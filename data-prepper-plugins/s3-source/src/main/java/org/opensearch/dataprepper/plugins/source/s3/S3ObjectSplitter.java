@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.opensearch.dataprepper.model.configuration.PluginModel;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+import org.opensearch.dataprepper.plugins.s3.common.source.S3ObjectReference;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits large newline-delimited S3 objects into byte range partitions for the S3 scan, so that several workers
+ * can read one object. Partition keys for a byte range have the form {@code bucket|key|start-end|eTag}, and every
+ * range is read from the version of the object with that entity tag.
+ * <p>
+ * Objects are only split when every record is a single line that can be read without the rest of the object:
+ * uncompressed objects read by the newline codec without a header, or by the ndjson codec.
+ */
+class S3ObjectSplitter {
+    private static final String PARTITION_KEY_DELIMITER = "|";
+    private static final String RANGE_DELIMITER = "-";
+    private static final Pattern RANGE_PATTERN = Pattern.compile("(\\d+)-(\\d+)");
+    private static final Set<String> SPLITTABLE_CODECS = Set.of("newline", "ndjson");
+    private static final String NEWLINE_HEADER_DESTINATION = "header_destination";
+
+    private final Long splitSizeBytes;
+    private final CompressionOption compressionOption;
+
+    S3ObjectSplitter(final Long splitSizeBytes, final CompressionOption compressionOption) {
+        this.splitSizeBytes = splitSizeBytes;
+        this.compressionOption = compressionOption;
+    }
+
+    static S3ObjectSplitter create(final S3SourceConfig s3SourceConfig) {
+        final Long splitSizeBytes = s3SourceConfig.getS3ScanScanOptions().getObjectSplitSizeBytes();
+        if (splitSizeBytes == null || splitSizeBytes <= 0 ||
+                s3SourceConfig.isDeleteS3ObjectsOnRead() ||
+                s3SourceConfig.getS3ScanScanOptions().getPartitioningOptions() != null ||
+                s3SourceConfig.getS3SelectOptions() != null ||
+                !isSplittableCodec(s3SourceConfig.getCodec())) {
+            return new S3ObjectSplitter(null, s3SourceConfig.getCompression());
+        }
+        return new S3ObjectSplitter(splitSizeBytes, s3SourceConfig.getCompression());
+    }
+
+    /**
+     * @return the partition keys for the object, which is a single key unless the object is split
+     */
+    List<String> createPartitionKeys(final String bucket, final S3Object s3Object) {
+        final String objectPartitionKey = bucket + PARTITION_KEY_DELIMITER + s3Object.key();
+        if (splitSizeBytes == null || !isUncompressed(s3Object.key())) {
+            return Collections.singletonList(objectPartitionKey);
+        }
+
+        final Long objectSize = s3Object.size();
+        if (objectSize == null || objectSize <= splitSizeBytes) {
+            return Collections.singletonList(objectPartitionKey);
+        }
+
+        final List<String> partitionKeys = new ArrayList<>();
+        for (long start = 0; start < objectSize; start += splitSizeBytes) {
+            final long end = Math.min(start + splitSizeBytes, objectSize);
+            final String rangePartitionKey = objectPartitionKey + PARTITION_KEY_DELIMITER + start + RANGE_DELIMITER + end;
+            partitionKeys.add(s3Object.eTag() == null ? rangePartitionKey : rangePartitionKey + PARTITION_KEY_DELIMITER + s3Object.eTag());
+        }
+        return partitionKeys;
+    }
+
+    /**
+     * Creates the object reference for a partition key of the form {@code bucket|key}, {@code bucket|key|start-end}
+     * or {@code bucket|key|start-end|eTag}. The range and entity tag are taken from the end of the partition key,
+     * since object keys may contain the delimiter. Entity tags are quoted, which sets them apart from ranges.
+     */
+    static S3ObjectReference toObjectReference(final String partitionKey) {
+        final int bucketEnd = partitionKey.indexOf(PARTITION_KEY_DELIMITER);
+        final String bucket = partitionKey.substring(0, bucketEnd);
+        String key = partitionKey.substring(bucketEnd + 1);
+        String eTag = null;
+        Matcher rangeMatcher = null;
+
+        final int lastDelimiter = key.lastIndexOf(PARTITION_KEY_DELIMITER);
+        if (lastDelimiter >= 0) {
+            final Matcher lastPartMatcher = RANGE_PATTERN.matcher(key.substring(lastDelimiter + 1));
+            final int secondToLastDelimiter = key.lastIndexOf(PARTITION_KEY_DELIMITER, lastDelimiter - 1);
+            if (lastPartMatcher.matches()) {
+                rangeMatcher = lastPartMatcher;
+                key = key.substring(0, lastDelimiter);
+            } else if (secondToLastDelimiter >= 0 && isQuoted(key.substring(lastDelimiter + 1))) {
+                final Matcher secondToLastPartMatcher = RANGE_PATTERN.matcher(key.substring(secondToLastDelimiter + 1, lastDelimiter));
+                if (secondToLastPartMatcher.matches()) {
+                    rangeMatcher = secondToLastPartMatcher;
+                    eTag = key.substring(lastDelimiter + 1);
+                    key = key.substring(0, secondToLastDelimiter);
+                }
+            }
+        }
+
+        final S3ObjectReference.Builder builder = S3ObjectReference.bucketAndKey(bucket, key);
+        if (rangeMatcher != null) {
+            builder.byteRange(Long.parseLong(rangeMatcher.group(1)), Long.parseLong(rangeMatcher.group(2)))
+                    .eTag(eTag);
+        }
+        return builder.build();
+    }
+
+    private static boolean isQuoted(final String value) {
+        return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"");
+    }
+
+    private boolean isUncompressed(final String objectKey) {
+        if (compressionOption == CompressionOption.AUTOMATIC) {
+            return CompressionOption.fromFileName(objectKey) == CompressionOption.NONE;
+        }
+        return compressionOption == CompressionOption.NONE;
+    }
+
+    private static boolean isSplittableCodec(final PluginModel codec) {
+        if (codec == null || !SPLITTABLE_CODECS.contains(codec.getPluginName())) {
+            return false;
+        }
+        return codec.getPluginSettings() == null || codec.getPluginSettings().get(NEWLINE_HEADER_DESTINATION) == null;
+    }
+}
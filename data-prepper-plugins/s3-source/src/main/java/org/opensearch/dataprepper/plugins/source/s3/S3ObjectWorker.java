@@ -19,6 +19,7 @@ import org.opensearch.dataprepper.plugins.s3.common.ownership.BucketOwnerProvide
 import org.opensearch.dataprepper.plugins.s3.common.source.S3InputFile;
 import org.opensearch.dataprepper.plugins.s3.common.source.S3ObjectPluginMetrics;
 import org.opensearch.dataprepper.plugins.s3.common.source.S3ObjectReference;
+import org.opensearch.dataprepper.plugins.s3.common.source.S3ReadAheadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3DataSelection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,6 +62,7 @@ class S3ObjectWorker implements S3ObjectHandler {
     private final int numberOfRecordsToAccumulate;
     private final BiConsumer<Event, S3ObjectReference> eventConsumer;
     private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    private final S3ReadAheadOptions readAheadOptions;
     private Instant lastModified;
 
     public S3ObjectWorker(final S3ObjectRequest s3ObjectRequest) {
@@ -74,6 +76,7 @@ class S3ObjectWorker implements S3ObjectHandler {
         this.s3Client = s3ObjectRequest.getS3Client();
         this.lastModified = Instant.now();
         this.s3ObjectPluginMetrics = s3ObjectRequest.getS3ObjectPluginMetrics();
+        this.readAheadOptions = s3ObjectRequest.getReadAheadOptions();
     }
 
     public void processS3Object(final S3ObjectReference s3ObjectReference,
@@ -143,6 +146,10 @@ class S3ObjectWorker implements S3ObjectHandler {
     public long consumeS3Object(final S3InputFile inputFile, final S3DataSelection dataSelection, final BiConsumer<Record<Event>, S3DataSelection> consumer) throws Exception {
         final S3ObjectReference s3ObjectReference = inputFile.getObjectReference();
         if (dataSelection == S3DataSelection.METADATA_ONLY) {
+            // Only the first byte range of a split object reports its metadata
+            if (s3ObjectReference.hasByteRange() && s3ObjectReference.getRangeStart() > 0) {
+                return 0;
+            }
             Map<String, Object> data = new HashMap<>();
             data.put(BUCKET_KEY, s3ObjectReference.getBucketName());
             data.put(KEY_KEY, s3ObjectReference.getKey());
@@ -162,6 +169,9 @@ class S3ObjectWorker implements S3ObjectHandler {
                 codec.parse(inputFile, fileCompressionOption.getDecompressionEngine(), record -> {
                     consumer.accept(record, dataSelection);
                 });
+                if (s3ObjectReference.hasByteRange()) {
+                    return Math.min(s3ObjectReference.getRangeEnd(), inputFile.getLength()) - s3ObjectReference.getRangeStart();
+                }
                 return inputFile.getLength();
             } catch (final Exception e) {
                 s3ObjectPluginMetrics.getS3ObjectReadFailedCounter().increment();
@@ -182,7 +192,7 @@ class S3ObjectWorker implements S3ObjectHandler {
         LOG.info("Read S3 object: {}", s3ObjectReference);
         AtomicLong lastCheckpointTime = new AtomicLong(System.currentTimeMillis());
 
-        final S3InputFile inputFile = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics);
+        final S3InputFile inputFile = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics, readAheadOptions);
 
         final AtomicInteger saveStateCounter = new AtomicInteger();
         try {
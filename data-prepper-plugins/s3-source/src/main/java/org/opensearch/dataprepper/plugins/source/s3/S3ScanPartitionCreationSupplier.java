@@ -40,7 +40,6 @@ public class S3ScanPartitionCreationSupplier implements Function<Map<String, Obj
 
     private static final Logger LOG = LoggerFactory.getLogger(S3ScanPartitionCreationSupplier.class);
 
-    private static final String BUCKET_OBJECT_PARTITION_KEY_FORMAT = "%s|%s";
     static final String SCAN_COUNT = "SCAN_COUNT";
     static final String LAST_SCAN_TIME = "LAST_SCAN_TIME";
     static final String SINGLE_SCAN_COMPLETE = "SINGLE_SCAN_COMPLETE";
@@ -58,6 +57,8 @@ public class S3ScanPartitionCreationSupplier implements Function<Map<String, Obj
 
     private final S3ObjectKeyFilter objectFilteringHelper;
 
+    private final S3ObjectSplitter objectSplitter;
+
     public S3ScanPartitionCreationSupplier(final S3Client s3Client,
                                            final BucketOwnerProvider bucketOwnerProvider,
                                            final List<ScanOptions> scanOptionsList,
@@ -65,7 +66,8 @@ public class S3ScanPartitionCreationSupplier implements Function<Map<String, Obj
                                            final FolderPartitioningOptions folderPartitioningOptions,
                                            final boolean deleteS3ObjectsOnRead,
                                            final SourceCoordinator<S3SourceProgressState> sourceCoordinator,
-                                           final S3ObjectKeyFilter objectFilteringHelper) {
+                                           final S3ObjectKeyFilter objectFilteringHelper,
+                                           final S3ObjectSplitter objectSplitter) {
 
         this.s3Client = s3Client;
         this.bucketOwnerProvider = bucketOwnerProvider;
@@ -75,6 +77,7 @@ public class S3ScanPartitionCreationSupplier implements Function<Map<String, Obj
         this.deleteS3ObjectsOnRead = deleteS3ObjectsOnRead;
         this.sourceCoordinator = sourceCoordinator;
         this.objectFilteringHelper = objectFilteringHelper;
+        this.objectSplitter = objectSplitter;
     }
 
     @Override
@@ -145,14 +148,15 @@ public class S3ScanPartitionCreationSupplier implements Function<Map<String, Obj
             listObjectsV2Response = s3Client.listObjectsV2(listObjectsV2Request.fetchOwner(true).continuationToken(Objects.nonNull(listObjectsV2Response) ? listObjectsV2Response.nextContinuationToken() : null).build());
             final List<PartitionIdentifier> partitionsForPage = listObjectsV2Response.contents().stream()
                     .filter(s3Object -> deleteS3ObjectsOnRead || isLastModifiedTimeAfterMostRecentScanForBucket(previousScanTime, s3Object))
-                    .map(s3Object -> Pair.of(s3Object.key(), instantToLocalDateTime(s3Object.lastModified())))
-                    .filter(keyTimestampPair -> !keyTimestampPair.left().endsWith("/"))
-                    .filter(keyTimestampPair -> excludeKeyPaths.stream()
-                            .noneMatch(excludeItem -> keyTimestampPair.left().endsWith(excludeItem)))
-                    .filter(keyTimestampPair -> objectFilteringHelper.isKeyMatchingFilters(bucket, keyTimestampPair.left()))
-                    .filter(keyTimestampPair -> isKeyMatchedBetweenTimeRange(keyTimestampPair.right(), startDateTime, endDateTime, isFirstScan))
+                    .map(s3Object -> Pair.of(s3Object, instantToLocalDateTime(s3Object.lastModified())))
+                    .filter(objectTimestampPair -> !objectTimestampPair.left().key().endsWith("/"))
+                    .filter(objectTimestampPair -> excludeKeyPaths.stream()
+                            .noneMatch(excludeItem -> objectTimestampPair.left().key().endsWith(excludeItem)))
+                    .filter(objectTimestampPair -> objectFilteringHelper.isKeyMatchingFilters(bucket, objectTimestampPair.left().key()))
+                    .filter(objectTimestampPair -> isKeyMatchedBetweenTimeRange(objectTimestampPair.right(), startDateTime, endDateTime, isFirstScan))
                     .map(Pair::left)
-                    .map(objectKey -> PartitionIdentifier.builder().withPartitionKey(String.format(BUCKET_OBJECT_PARTITION_KEY_FORMAT, bucket, objectKey)).build())
+                    .flatMap(s3Object -> objectSplitter.createPartitionKeys(bucket, s3Object).stream())
+                    .map(partitionKey -> PartitionIdentifier.builder().withPartitionKey(partitionKey).build())
                     .collect(Collectors.toList());
             LOG.info("Found page of {} objects from bucket {}", listObjectsV2Response.keyCount(), bucket);
 
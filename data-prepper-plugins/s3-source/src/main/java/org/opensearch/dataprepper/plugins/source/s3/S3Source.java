@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.source.s3;
 
 import org.opensearch.dataprepper.aws.api.AwsCredentialsSupplier;
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
@@ -23,6 +24,8 @@ import org.opensearch.dataprepper.model.source.coordinator.SourceCoordinator;
 import org.opensearch.dataprepper.model.source.coordinator.UsesSourceCoordination;
 import org.opensearch.dataprepper.plugins.s3.common.source.S3ObjectPluginMetrics;
 import org.opensearch.dataprepper.plugins.s3.common.source.S3ObjectReference;
+import org.opensearch.dataprepper.plugins.s3.common.source.S3ReadAheadOptions;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.ReadAheadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanScanOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectCSVOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectJsonOption;
@@ -34,6 +37,8 @@ import software.amazon.awssdk.services.s3.model.CompressionType;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiConsumer;
 
 @DataPrepperPlugin(name = "s3", pluginType = Source.class, pluginConfigurationType = S3SourceConfig.class)
@@ -50,6 +55,7 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
     private final boolean acknowledgementsEnabled;
     private final ExpressionEvaluator expressionEvaluator;
     private SourceCoordinator<S3SourceProgressState> sourceCoordinator;
+    private ExecutorService readAheadExecutorService;
 
 
     @DataPrepperPluginConstructor
@@ -121,6 +127,7 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
                     .eventConsumer(eventMetadataModifier)
                     .s3Client(s3ClientBuilderFactory.getS3Client())
                     .compressionOption(s3SourceConfig.getCompression())
+                    .readAheadOptions(createReadAheadOptions())
                     .build();
             s3Handler = new S3ObjectWorker(s3ObjectRequest);
         }
@@ -145,6 +152,21 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
         if (Objects.nonNull(s3ScanService) && Objects.nonNull(sourceCoordinator)) {
             s3ScanService.stop();
         }
+
+        if (Objects.nonNull(readAheadExecutorService)) {
+            readAheadExecutorService.shutdownNow();
+        }
+    }
+
+    private S3ReadAheadOptions createReadAheadOptions() {
+        final ReadAheadOptions readAheadOptions = s3SourceConfig.getReadAheadOptions();
+        if (readAheadOptions == null) {
+            return null;
+        }
+        // Every worker may have a full set of parts in flight
+        readAheadExecutorService = Executors.newFixedThreadPool(s3SourceConfig.getNumWorkers() * readAheadOptions.getParallelism(),
+                BackgroundThreadFactory.defaultExecutorThreadFactory("s3-source-read-ahead"));
+        return new S3ReadAheadOptions(readAheadOptions.getParallelism(), readAheadOptions.getPartSizeBytes(), readAheadExecutorService);
     }
 
     @Override
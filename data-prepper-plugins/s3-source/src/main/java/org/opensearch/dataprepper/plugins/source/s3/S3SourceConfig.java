@@ -18,6 +18,7 @@ import org.opensearch.dataprepper.plugins.s3.common.config.AwsAuthenticationOpti
 import org.opensearch.dataprepper.plugins.source.s3.configuration.NotificationSourceOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.NotificationTypeOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.OnErrorOption;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.ReadAheadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanScanOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.SqsOptions;
@@ -110,6 +111,10 @@ public class S3SourceConfig {
     @Valid
     private Map<String, S3ScanKeyPathOption> filters;
 
+    @JsonProperty("read_ahead")
+    @Valid
+    private ReadAheadOptions readAheadOptions;
+
     @AssertTrue(message = "A codec is required for reading objects.")
     boolean isCodecProvidedWhenNeeded() {
         if(s3SelectOptions == null)
@@ -145,6 +150,11 @@ public class S3SourceConfig {
         return true;
     }
 
+    @AssertTrue(message = "read_ahead is not supported with s3_select")
+    boolean isS3SelectNotUsingReadAhead() {
+        return s3SelectOptions == null || readAheadOptions == null;
+    }
+
     @AssertTrue(message = "Top-level filters cannot be used together with scan bucket-level filter. Use one or the other.")
     boolean isFiltersNotUsedWithScanBucketFilter() {
         if (filters == null || filters.isEmpty()) {
@@ -245,4 +255,8 @@ public class S3SourceConfig {
     public Map<String, S3ScanKeyPathOption> getFilters() {
         return filters != null ? filters : Collections.emptyMap();
     }
+
+    public ReadAheadOptions getReadAheadOptions() {
+        return readAheadOptions;
+    }
 }
@@ -25,11 +25,13 @@ import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanKeyPathO
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanProcessingCondition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.http.HttpStatusCode;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.IOException;
 import java.time.Duration;
@@ -168,7 +170,7 @@ public class ScanObjectWorker implements Runnable {
         this.folderPartitioningOptions = s3SourceConfig.getS3ScanScanOptions().getPartitioningOptions();
         this.acknowledgmentSetTimeout = s3SourceConfig.getS3ScanScanOptions().getAcknowledgmentTimeout();
 
-        this.partitionCreationSupplier = new S3ScanPartitionCreationSupplier(s3Client, bucketOwnerProvider, scanOptionsBuilderList, s3ScanSchedulingOptions, s3SourceConfig.getS3ScanScanOptions().getPartitioningOptions(), s3SourceConfig.isDeleteS3ObjectsOnRead(), sourceCoordinator, new S3ObjectKeyFilter(s3SourceConfig.getFilters()));
+        this.partitionCreationSupplier = new S3ScanPartitionCreationSupplier(s3Client, bucketOwnerProvider, scanOptionsBuilderList, s3ScanSchedulingOptions, s3SourceConfig.getS3ScanScanOptions().getPartitioningOptions(), s3SourceConfig.isDeleteS3ObjectsOnRead(), sourceCoordinator, new S3ObjectKeyFilter(s3SourceConfig.getFilters()), S3ObjectSplitter.create(s3SourceConfig));
         this.acknowledgmentsRemainingForPartitions = new ConcurrentHashMap<>();
         this.objectsToDeleteForAcknowledgmentSets = new ConcurrentHashMap<>();
     }
@@ -233,8 +235,9 @@ public class ScanObjectWorker implements Runnable {
             return;
         }
 
-        final String bucket = objectToProcess.get().getPartitionKey().split("\\|")[0];
-        final String objectKey = objectToProcess.get().getPartitionKey().split("\\|")[1];
+        final S3ObjectReference s3ObjectReference = S3ObjectSplitter.toObjectReference(objectToProcess.get().getPartitionKey());
+        final String bucket = s3ObjectReference.getBucketName();
+        final String objectKey = s3ObjectReference.getKey();
 
         final List<S3ScanProcessingCondition> conditions = bucketProcessingConditionsMap.get(bucket);
         final Optional<S3ScanProcessingCondition> unmetCondition = processingConditionEvaluator.firstUnmetCondition(bucket, objectKey, conditions);
@@ -277,7 +280,7 @@ public class ScanObjectWorker implements Runnable {
             }
 
 
-            final Optional<DeleteObjectRequest> deleteObjectRequest = processS3Object(S3ObjectReference.bucketAndKey(bucket, objectKey).build(),
+            final Optional<DeleteObjectRequest> deleteObjectRequest = processS3Object(s3ObjectReference,
                     acknowledgementSet, sourceCoordinator, objectToProcess.get());
 
             if (endToEndAcknowledgementsEnabled) {
@@ -298,6 +301,13 @@ public class ScanObjectWorker implements Runnable {
         } catch (final NoSuchKeyException e) {
             LOG.warn("Object {} from bucket {} could not be found, marking this object as complete and continuing processing", objectKey, bucket);
             sourceCoordinator.completePartition(objectToProcess.get().getPartitionKey(), false);
+        } catch (final S3Exception e) {
+            if (e.statusCode() != HttpStatusCode.PRECONDITION_FAILED || !s3ObjectReference.getETag().isPresent()) {
+                throw e;
+            }
+            LOG.warn("Object {} from bucket {} was replaced after it was split, marking partition {} as complete. The new object is split again.",
+                    objectKey, bucket, objectToProcess.get().getPartitionKey());
+            sourceCoordinator.completePartition(objectToProcess.get().getPartitionKey(), false);
         } catch (final PartitionNotOwnedException | PartitionNotFoundException | PartitionUpdateException e) {
             LOG.warn("S3 scan object worker received an exception from the source coordinator. There is a potential for duplicate data from {}, giving up partition and getting next partition: {}", objectKey, e.getMessage());
             sourceCoordinator.giveUpPartition(objectToProcess.get().getPartitionKey());
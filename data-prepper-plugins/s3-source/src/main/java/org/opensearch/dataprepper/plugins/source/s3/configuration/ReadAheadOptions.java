@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.dataprepper.plugins.source.s3.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.opensearch.dataprepper.model.constraints.ByteCountMax;
+import org.opensearch.dataprepper.model.constraints.ByteCountMin;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+/**
+ * Configures reading each S3 object with several concurrent ranged GET requests.
+ */
+public class ReadAheadOptions {
+    static final int DEFAULT_PARALLELISM = 4;
+    static final ByteCount DEFAULT_PART_SIZE = ByteCount.parse("8mb");
+
+    @JsonProperty("parallelism")
+    @Min(1)
+    @Max(64)
+    private int parallelism = DEFAULT_PARALLELISM;
+
+    @JsonProperty("part_size")
+    @ByteCountMin("64kb")
+    @ByteCountMax("256mb")
+    private ByteCount partSize = DEFAULT_PART_SIZE;
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getPartSizeBytes() {
+        return (int) partSize.getBytes();
+    }
+}
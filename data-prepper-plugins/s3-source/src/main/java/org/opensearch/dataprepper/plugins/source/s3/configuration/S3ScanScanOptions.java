@@ -10,6 +10,8 @@ import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertFalse;
 import jakarta.validation.constraints.AssertTrue;
+import org.opensearch.dataprepper.model.constraints.ByteCountMin;
+import org.opensearch.dataprepper.model.types.ByteCount;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -48,6 +50,10 @@ public class S3ScanScanOptions {
     @Valid
     private S3ScanSchedulingOptions schedulingOptions;
 
+    @JsonProperty("object_split_size")
+    @ByteCountMin("1mb")
+    private ByteCount objectSplitSize;
+
     @AssertTrue(message = "At most two options from start_time, end_time and range can be specified at the same time")
     public boolean hasValidTimeOptions() {
         return Stream.of(startTime, endTime, range).filter(Objects::nonNull).count() < 3;
@@ -90,4 +96,11 @@ public class S3ScanScanOptions {
 
     public Duration getAcknowledgmentTimeout() { return acknowledgmentTimeout; }
 
+    /**
+     * @return the size of the byte ranges that large newline-delimited objects are split into, or null to not split objects
+     */
+    public Long getObjectSplitSizeBytes() {
+        return objectSplitSize == null ? null : objectSplitSize.getBytes();
+    }
+
 }
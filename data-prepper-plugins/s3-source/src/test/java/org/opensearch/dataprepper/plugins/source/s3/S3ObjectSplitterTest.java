@@ -0,0 +1,191 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.configuration.PluginModel;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+import org.opensearch.dataprepper.plugins.s3.common.source.S3ObjectReference;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.FolderPartitioningOptions;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanScanOptions;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3ObjectSplitterTest {
+
+    @Mock
+    private S3SourceConfig s3SourceConfig;
+
+    @Mock
+    private S3ScanScanOptions s3ScanScanOptions;
+
+    private String bucket;
+
+    @BeforeEach
+    void setUp() {
+        bucket = UUID.randomUUID().toString();
+    }
+
+    private static S3Object s3Object(final String key, final long size) {
+        return S3Object.builder().key(key).size(size).build();
+    }
+
+    @Test
+    void createPartitionKeys_splits_objects_larger_than_the_split_size() {
+        final S3ObjectSplitter objectUnderTest = new S3ObjectSplitter(100L, CompressionOption.NONE);
+
+        assertThat(objectUnderTest.createPartitionKeys(bucket, s3Object("logs/a.log", 301L)),
+                contains(bucket + "|logs/a.log|0-100", bucket + "|logs/a.log|100-200",
+                        bucket + "|logs/a.log|200-300", bucket + "|logs/a.log|300-301"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 100L})
+    void createPartitionKeys_does_not_split_objects_up_to_the_split_size(final long size) {
+        final S3ObjectSplitter objectUnderTest = new S3ObjectSplitter(100L, CompressionOption.NONE);
+
+        assertThat(objectUnderTest.createPartitionKeys(bucket, s3Object("a.log", size)), contains(bucket + "|a.log"));
+    }
+
+    @Test
+    void createPartitionKeys_does_not_split_when_disabled() {
+        final S3ObjectSplitter objectUnderTest = new S3ObjectSplitter(null, CompressionOption.NONE);
+
+        assertThat(objectUnderTest.createPartitionKeys(bucket, s3Object("a.log", 1_000L)), contains(bucket + "|a.log"));
+    }
+
+    @Test
+    void createPartitionKeys_with_automatic_compression_splits_only_uncompressed_keys() {
+        final S3ObjectSplitter objectUnderTest = new S3ObjectSplitter(600L, CompressionOption.AUTOMATIC);
+
+        assertThat(objectUnderTest.createPartitionKeys(bucket, s3Object("a.log.gz", 1_000L)), contains(bucket + "|a.log.gz"));
+        assertThat(objectUnderTest.createPartitionKeys(bucket, s3Object("a.log", 1_000L)),
+                contains(bucket + "|a.log|0-600", bucket + "|a.log|600-1000"));
+    }
+
+    @Test
+    void createPartitionKeys_with_gzip_compression_does_not_split() {
+        final S3ObjectSplitter objectUnderTest = new S3ObjectSplitter(100L, CompressionOption.GZIP);
+
+        assertThat(objectUnderTest.createPartitionKeys(bucket, s3Object("a.log", 1_000L)), contains(bucket + "|a.log"));
+    }
+
+    @Test
+    void toObjectReference_without_range() {
+        final S3ObjectReference s3ObjectReference = S3ObjectSplitter.toObjectReference(bucket + "|logs/a.log");
+
+        assertThat(s3ObjectReference.getBucketName(), equalTo(bucket));
+        assertThat(s3ObjectReference.getKey(), equalTo("logs/a.log"));
+        assertThat(s3ObjectReference.hasByteRange(), equalTo(false));
+    }
+
+    @Test
+    void toObjectReference_with_range() {
+        final S3ObjectReference s3ObjectReference = S3ObjectSplitter.toObjectReference(bucket + "|logs/a-b.log|100-200");
+
+        assertThat(s3ObjectReference.getBucketName(), equalTo(bucket));
+        assertThat(s3ObjectReference.getKey(), equalTo("logs/a-b.log"));
+        assertThat(s3ObjectReference.hasByteRange(), equalTo(true));
+        assertThat(s3ObjectReference.getRangeStart(), equalTo(100L));
+        assertThat(s3ObjectReference.getRangeEnd(), equalTo(200L));
+    }
+
+    @Test
+    void toObjectReference_with_range_and_eTag() {
+        final S3ObjectReference s3ObjectReference = S3ObjectSplitter.toObjectReference(bucket + "|logs/a.log|100-200|\"abc\"");
+
+        assertThat(s3ObjectReference.getKey(), equalTo("logs/a.log"));
+        assertThat(s3ObjectReference.getRangeStart(), equalTo(100L));
+        assertThat(s3ObjectReference.getRangeEnd(), equalTo(200L));
+        assertThat(s3ObjectReference.getETag(), equalTo(Optional.of("\"abc\"")));
+    }
+
+    @Test
+    void toObjectReference_with_delimiters_in_the_key() {
+        final S3ObjectReference s3ObjectReference = S3ObjectSplitter.toObjectReference(bucket + "|logs|a|1-2.log|100-200|\"abc\"");
+
+        assertThat(s3ObjectReference.getBucketName(), equalTo(bucket));
+        assertThat(s3ObjectReference.getKey(), equalTo("logs|a|1-2.log"));
+        assertThat(s3ObjectReference.getRangeStart(), equalTo(100L));
+        assertThat(s3ObjectReference.getRangeEnd(), equalTo(200L));
+        assertThat(s3ObjectReference.getETag(), equalTo(Optional.of("\"abc\"")));
+    }
+
+    @Test
+    void toObjectReference_with_delimiters_in_the_key_without_range() {
+        final S3ObjectReference s3ObjectReference = S3ObjectSplitter.toObjectReference(bucket + "|logs|a|b.log");
+
+        assertThat(s3ObjectReference.getKey(), equalTo("logs|a|b.log"));
+        assertThat(s3ObjectReference.hasByteRange(), equalTo(false));
+        assertThat(s3ObjectReference.getETag(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void create_enables_splitting_for_ndjson_codec() {
+        when(s3SourceConfig.getS3ScanScanOptions()).thenReturn(s3ScanScanOptions);
+        when(s3ScanScanOptions.getObjectSplitSizeBytes()).thenReturn(100L);
+        when(s3SourceConfig.getCodec()).thenReturn(new PluginModel("ndjson", Collections.emptyMap()));
+        when(s3SourceConfig.getCompression()).thenReturn(CompressionOption.NONE);
+
+        final List<String> partitionKeys = S3ObjectSplitter.create(s3SourceConfig).createPartitionKeys(bucket, s3Object("a", 200L));
+
+        assertThat(partitionKeys, contains(bucket + "|a|0-100", bucket + "|a|100-200"));
+    }
+
+    @Test
+    void create_disables_splitting_for_newline_codec_with_header() {
+        when(s3SourceConfig.getS3ScanScanOptions()).thenReturn(s3ScanScanOptions);
+        when(s3ScanScanOptions.getObjectSplitSizeBytes()).thenReturn(100L);
+        when(s3SourceConfig.getCodec()).thenReturn(new PluginModel("newline", Map.of("header_destination", "header")));
+        when(s3SourceConfig.getCompression()).thenReturn(CompressionOption.NONE);
+
+        final List<String> partitionKeys = S3ObjectSplitter.create(s3SourceConfig).createPartitionKeys(bucket, s3Object("a", 200L));
+
+        assertThat(partitionKeys, contains(bucket + "|a"));
+    }
+
+    @Test
+    void create_disables_splitting_for_other_codecs() {
+        when(s3SourceConfig.getS3ScanScanOptions()).thenReturn(s3ScanScanOptions);
+        when(s3ScanScanOptions.getObjectSplitSizeBytes()).thenReturn(100L);
+        when(s3SourceConfig.getCodec()).thenReturn(new PluginModel("json", Collections.emptyMap()));
+        when(s3SourceConfig.getCompression()).thenReturn(CompressionOption.NONE);
+
+        final List<String> partitionKeys = S3ObjectSplitter.create(s3SourceConfig).createPartitionKeys(bucket, s3Object("a", 200L));
+
+        assertThat(partitionKeys, contains(bucket + "|a"));
+    }
+
+    @Test
+    void create_disables_splitting_with_folder_partitions() {
+        when(s3SourceConfig.getS3ScanScanOptions()).thenReturn(s3ScanScanOptions);
+        when(s3ScanScanOptions.getObjectSplitSizeBytes()).thenReturn(100L);
+        when(s3ScanScanOptions.getPartitioningOptions()).thenReturn(mock(FolderPartitioningOptions.class));
+        when(s3SourceConfig.getCompression()).thenReturn(CompressionOption.NONE);
+
+        final List<String> partitionKeys = S3ObjectSplitter.create(s3SourceConfig).createPartitionKeys(bucket, s3Object("a", 200L));
+
+        assertThat(partitionKeys, contains(bucket + "|a"));
+    }
+}
@@ -39,6 +39,7 @@ import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 import java.io.IOException;
@@ -517,6 +518,24 @@ class S3ScanObjectWorkerTest {
         verifyNoMoreInteractions(sourceCoordinator);
     }
 
+    @Test
+    void partitionIsCompleted_when_a_split_object_was_replaced() throws IOException {
+        final String objectKey = UUID.randomUUID().toString();
+        final String partitionKey = bucket + "|" + objectKey + "|0-100|\"" + UUID.randomUUID() + "\"";
+
+        final SourcePartition<S3SourceProgressState> partitionToProcess = SourcePartition.builder(S3SourceProgressState.class).withPartitionKey(partitionKey).build();
+
+        given(sourceCoordinator.getNextPartition(any(Function.class), eq(false))).willReturn(Optional.of(partitionToProcess));
+
+        final S3Exception preconditionFailed = (S3Exception) S3Exception.builder().statusCode(412).build();
+        doThrow(preconditionFailed).when(s3ObjectHandler).processS3Object(any(S3ObjectReference.class), eq(S3DataSelection.DATA_AND_METADATA), eq(null), eq(sourceCoordinator), eq(partitionKey));
+        doNothing().when(sourceCoordinator).completePartition(partitionKey, false);
+
+        createObjectUnderTest().runWithoutInfiniteLoop();
+
+        verify(sourceCoordinator).completePartition(partitionKey, false);
+    }
+
     @Test
     void processing_with_folder_partitions_with_no_objects_gives_up_that_partition() {
 
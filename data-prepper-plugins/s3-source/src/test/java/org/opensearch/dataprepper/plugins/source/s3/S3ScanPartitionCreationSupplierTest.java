@@ -14,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.model.source.coordinator.PartitionIdentifier;
 import org.opensearch.dataprepper.model.source.coordinator.SourceCoordinator;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 import org.opensearch.dataprepper.plugins.s3.common.ownership.BucketOwnerProvider;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.FolderPartitioningOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanBucketOption;
@@ -77,16 +78,19 @@ public class S3ScanPartitionCreationSupplierTest {
 
     private boolean isDeleteS3ObjectsOnRead;
 
+    private S3ObjectSplitter objectSplitter;
+
     @BeforeEach
     void setup() {
         scanOptionsList = new ArrayList<>();
         folderPartitioningOptions = null;
         isDeleteS3ObjectsOnRead = false;
+        objectSplitter = new S3ObjectSplitter(null, CompressionOption.NONE);
     }
 
 
     private Function<Map<String, Object>, List<PartitionIdentifier>> createObjectUnderTest() {
-        return new S3ScanPartitionCreationSupplier(s3Client, bucketOwnerProvider, scanOptionsList, schedulingOptions, folderPartitioningOptions, isDeleteS3ObjectsOnRead, sourceCoordinator, new S3ObjectKeyFilter(Collections.emptyMap()));
+        return new S3ScanPartitionCreationSupplier(s3Client, bucketOwnerProvider, scanOptionsList, schedulingOptions, folderPartitioningOptions, isDeleteS3ObjectsOnRead, sourceCoordinator, new S3ObjectKeyFilter(Collections.emptyMap()), objectSplitter);
     }
 
     @Test
@@ -675,4 +679,32 @@ public class S3ScanPartitionCreationSupplierTest {
 
         verify(listObjectsResponse, times(4)).contents();
     }
+
+    @Test
+    void getNextPartition_supplier_with_object_splitter_creates_byte_range_partitions_for_large_objects() {
+        objectSplitter = new S3ObjectSplitter(100L, CompressionOption.NONE);
+        final String bucket = UUID.randomUUID().toString();
+
+        final ScanOptions scanOptions = mock(ScanOptions.class);
+        final S3ScanBucketOption scanBucketOption = mock(S3ScanBucketOption.class);
+        given(scanOptions.getBucketOption()).willReturn(scanBucketOption);
+        given(scanBucketOption.getName()).willReturn(bucket);
+        scanOptionsList.add(scanOptions);
+
+        final S3Object smallObject = S3Object.builder().key("small").size(100L).lastModified(Instant.now()).build();
+        final S3Object largeObject = S3Object.builder().key("large").size(250L).lastModified(Instant.now()).build();
+        final ListObjectsV2Response listObjectsResponse = ListObjectsV2Response.builder()
+                .contents(smallObject, largeObject)
+                .isTruncated(false)
+                .build();
+        given(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).willReturn(listObjectsResponse);
+
+        final ArgumentCaptor<List<PartitionIdentifier>> createPartitionsArgumentCaptor = ArgumentCaptor.forClass(List.class);
+        doNothing().when(sourceCoordinator).createPartitions(createPartitionsArgumentCaptor.capture());
+
+        createObjectUnderTest().apply(new HashMap<>());
+
+        assertThat(createPartitionsArgumentCaptor.getValue().stream().map(PartitionIdentifier::getPartitionKey).collect(Collectors.toList()),
+                containsInAnyOrder(bucket + "|small", bucket + "|large|0-100", bucket + "|large|100-200", bucket + "|large|200-250"));
+    }
 }
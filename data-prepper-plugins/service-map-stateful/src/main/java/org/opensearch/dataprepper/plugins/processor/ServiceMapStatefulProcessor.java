@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.plugins.processor;
 
-import org.apache.commons.codec.DecoderException;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
@@ -21,7 +20,6 @@ import org.opensearch.dataprepper.model.trace.Span;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Sets;
 import com.google.common.primitives.SignedBytes;
-import org.apache.commons.codec.binary.Hex;
 import org.opensearch.dataprepper.plugins.processor.state.MapDbProcessorState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -161,31 +159,33 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     private void processSpan(final Span span, final Map<byte[], ServiceMapStateData> batchStateData) {
         if (span.getServiceName() != null) {
             final String serviceName = span.getServiceName();
-            final String spanId = span.getSpanId();
-            final String parentSpanId = span.getParentSpanId();
             final String spanKind = span.getKind();
             final byte[] traceId;
+            final byte[] spanId;
+            final byte[] parentSpanId;
 
             try {
-                traceId = Hex.decodeHex(span.getTraceId());
-            } catch (DecoderException e) {
-                LOG.error("Caught DecoderException when decoding the traceId.", e);
+                traceId = span.getTraceIdBytes();
+                spanId = span.getSpanIdBytes();
+                parentSpanId = span.getParentSpanIdBytes();
+            } catch (IllegalArgumentException e) {
+                LOG.error("Caught IllegalArgumentException when decoding the span ids.", e);
                 return;
             }
             currentIsolatedServiceNodes.add(new ServiceNodeData(traceId, serviceName));
             try {
                 batchStateData.put(
-                        Hex.decodeHex(spanId),
+                        spanId,
                         new ServiceMapStateData(
                                 serviceName,
-                                parentSpanId.isEmpty()? null : Hex.decodeHex(parentSpanId),
+                                parentSpanId.length == 0 ? null : parentSpanId,
                                 traceId,
                                 spanKind,
                                 span.getName()));
             } catch (Exception e) {
                 LOG.error("Caught exception trying to put service map state data into batch", e);
             }
-            if (parentSpanId.isEmpty()) {
+            if (parentSpanId.length == 0) {
                 try {
                     currentTraceGroupWindow.put(traceId, span.getName());
                 } catch (Exception e) {
@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.dataprepper.plugins.regex.MultiPatternMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/**
+ * Compares running each regex mapping in turn against using a {@link MultiPatternMatcher} to select the
+ * candidate mappings, for a large number of regex mappings.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 5, time = 10)
+public class RegexMappingsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"10", "100", "500"})
+        private int patternCount;
+
+        private List<Pattern> patterns;
+        private MultiPatternMatcher patternMatcher;
+        private String[] inputs;
+
+        @Setup
+        public void setUp() {
+            patterns = new ArrayList<>();
+            for (int i = 0; i < patternCount; i++) {
+                if (i % 10 == 0) {
+                    patterns.add(Pattern.compile("^[a-z]+-" + i + "-\\d+$"));
+                } else {
+                    patterns.add(Pattern.compile("service-" + i + "\\.(error|warn)\\s+code=\\d+"));
+                }
+            }
+            patternMatcher = new MultiPatternMatcher(patterns);
+
+            final Random random = new Random(42);
+            inputs = new String[100];
+            for (int i = 0; i < inputs.length; i++) {
+                if (i % 4 == 0) {
+                    inputs[i] = "2024-05-01 host service-" + random.nextInt(patternCount) + ".error code=" + random.nextInt(600);
+                } else {
+                    inputs[i] = "2024-05-01 host request completed in " + random.nextInt(1000) + "ms for user " + random.nextInt();
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void benchmark_sequential_patterns(final BenchmarkState state, final Blackhole blackhole) {
+        for (final String input : state.inputs) {
+            for (final Pattern pattern : state.patterns) {
+                if (pattern.matcher(input).find()) {
+                    blackhole.consume(pattern);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void benchmark_multi_pattern_matcher(final BenchmarkState state, final Blackhole blackhole) {
+        for (final String input : state.inputs) {
+            for (final int index : state.patternMatcher.findCandidates(input)) {
+                final Pattern pattern = state.patternMatcher.getPattern(index);
+                if (pattern.matcher(input).find()) {
+                    blackhole.consume(pattern);
+                    break;
+                }
+            }
+        }
+    }
+}
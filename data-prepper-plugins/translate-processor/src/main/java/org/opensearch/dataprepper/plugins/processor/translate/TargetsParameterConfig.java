@@ -8,9 +8,11 @@ import jakarta.validation.constraints.NotNull;
 import org.apache.commons.lang3.Range;
 import org.opensearch.dataprepper.model.annotations.AlsoRequired;
 import org.opensearch.dataprepper.plugins.processor.mutateevent.TargetType;
+import org.opensearch.dataprepper.plugins.regex.MultiPatternMatcher;
 import org.opensearch.dataprepper.typeconverter.TypeConverter;
 import com.google.common.annotations.VisibleForTesting;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -24,7 +26,8 @@ public class TargetsParameterConfig {
     static final String REGEX_KEY = "regex";
     private final LinkedHashMap<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
     private final Map<String, Object> individualMappings = new HashMap<>();
-    private final Map<Pattern, Object> compiledPatterns = new HashMap<>();
+    private final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+    private MultiPatternMatcher patternMatcher = new MultiPatternMatcher(new ArrayList<>());
     @JsonProperty("target")
     @JsonPropertyDescription("The key that specifies the field in the output in which the translated value will be placed.")
     @NotNull
@@ -108,6 +111,13 @@ public class TargetsParameterConfig {
         return compiledPatterns;
     }
 
+    /**
+     * @return a matcher over the keys of {@link #fetchCompiledPatterns()}, in the order they were configured
+     */
+    public MultiPatternMatcher fetchPatternMatcher() {
+        return patternMatcher;
+    }
+
     @AssertTrue(message = "pattern option is mandatory while configuring regex option")
     public boolean isPatternPresent() {
         return regexParameterConfig == null || regexParameterConfig.getPatterns() != null;
@@ -153,6 +163,7 @@ public class TargetsParameterConfig {
         individualMappings.putAll(parser.fetchIndividualMappings());
         rangeMappings.putAll(parser.fetchRangeMappings());
         compiledPatterns.putAll(parser.fetchCompiledPatterns());
+        patternMatcher = new MultiPatternMatcher(new ArrayList<>(compiledPatterns.keySet()));
     }
 
 }
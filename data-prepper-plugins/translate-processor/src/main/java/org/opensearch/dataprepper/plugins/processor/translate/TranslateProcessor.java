@@ -19,6 +19,7 @@ import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationExcepti
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.regex.MultiPatternMatcher;
 import org.opensearch.dataprepper.typeconverter.TypeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -227,7 +228,9 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
             return Optional.empty();
         }
         final boolean exact = targetConfig.getRegexParameterConfiguration().getExact();
-        for (Pattern pattern : compiledPatterns.keySet()) {
+        final MultiPatternMatcher patternMatcher = targetConfig.fetchPatternMatcher();
+        for (final int patternIndex : patternMatcher.findCandidates(sourceValue)) {
+            final Pattern pattern = patternMatcher.getPattern(patternIndex);
             Matcher matcher = pattern.matcher(sourceValue);
             if (matcher.matches()) {
                 return Optional.of(compiledPatterns.get(pattern));
@@ -13,6 +13,7 @@ import org.opensearch.dataprepper.event.TestEventKeyFactory;
 import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.processor.mutateevent.TargetType;
+import org.opensearch.dataprepper.plugins.regex.MultiPatternMatcher;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -220,6 +221,7 @@ class TranslateProcessorEnhancedTest {
         Map<Pattern, Object> patterns = new HashMap<>();
         patterns.put(Pattern.compile("valid.*"), "result");
         lenient().when(targetsParameterConfig.fetchCompiledPatterns()).thenReturn(patterns);
+        lenient().when(targetsParameterConfig.fetchPatternMatcher()).thenReturn(new MultiPatternMatcher(new ArrayList<>(patterns.keySet())));
         lenient().when(targetsParameterConfig.getRegexParameterConfiguration()).thenReturn(mockRegexConfig);
         lenient().when(mockRegexConfig.getExact()).thenReturn(true);
 
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugin;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.processor.Processor;
+import org.opensearch.dataprepper.model.sink.Sink;
+import org.opensearch.dataprepper.model.source.Source;
+import org.reflections.Reflections;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time Data Prepper spends at startup to find the plugins on the classpath of all the plugin modules.
+ * Each invocation creates a new {@link ClasspathPluginProvider} and finds all sources, processors and sinks, which is
+ * the discovery work done once when a pipeline is created.
+ */
+@Fork(2)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PluginDiscoveryStartupBenchmark {
+    private static final String[] PLUGIN_PACKAGES = {"org.opensearch.dataprepper.plugins", "com.amazon.dataprepper.plugins"};
+
+    @Benchmark
+    public int find_plugins_with_plugin_index() {
+        return findPlugins(new ClasspathPluginProvider(PluginIndex.load(PLUGIN_PACKAGES)));
+    }
+
+    @Benchmark
+    public int find_plugins_with_classpath_scanning() {
+        return findPlugins(new ClasspathPluginProvider(new Reflections(new ConfigurationBuilder()
+                .forPackages(PLUGIN_PACKAGES))));
+    }
+
+    private static int findPlugins(final PluginProvider pluginProvider) {
+        return pluginProvider.findPluginClasses(Source.class).size()
+                + pluginProvider.findPluginClasses(Processor.class).size()
+                + pluginProvider.findPluginClasses(Sink.class).size();
+    }
+}